@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+
+package nu.validator.htmlparser.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+
+/**
+ * The pages the benchmarks run over. The real pages are checked in as
+ * resources next to this class. The synthetic pages are generated by
+ * <code>SyntheticPages</code> from a fixed seed, so every run sees the same
+ * bytes.
+ * 
+ * @version $Id$
+ */
+final class Corpus {
+
+    /**
+     * The named character reference table from the WHATWG spec. A large
+     * table-heavy page with many character references.
+     */
+    static final String NAMED_CHARACTER_REFERENCES = "named-character-references";
+
+    /**
+     * A Google front page. Small, script-heavy and declared as ISO-8859-1 in
+     * a <code>meta</code>.
+     */
+    static final String GOOGLE = "google";
+
+    /**
+     * The Live DOM Viewer from the GWT build. Mostly style sheet and script
+     * with no encoding declaration.
+     */
+    static final String LIVE_DOM_VIEWER = "live-dom-viewer";
+
+    static final String SYNTHETIC_TEXT = "synthetic-text";
+
+    static final String SYNTHETIC_TABLE = "synthetic-table";
+
+    static final String SYNTHETIC_ATTRIBUTES = "synthetic-attributes";
+
+    static final String SYNTHETIC_MISNESTED = "synthetic-misnested";
+
+    static final String SYNTHETIC_SCRIPTS = "synthetic-scripts";
+
+    /**
+     * The length the synthetic pages are generated to, in UTF-16 code units.
+     */
+    private static final int SYNTHETIC_LENGTH = 256 * 1024;
+
+    /**
+     * A page of the corpus.
+     */
+    static final class Page {
+
+        private final String name;
+
+        private final byte[] bytes;
+
+        private final String text;
+
+        private Page(String name, byte[] bytes, String text) {
+            this.name = name;
+            this.bytes = bytes;
+            this.text = text;
+        }
+
+        /**
+         * Returns the name.
+         * 
+         * @return the name
+         */
+        String getName() {
+            return name;
+        }
+
+        /**
+         * Returns the page as it would come off the network.
+         * 
+         * @return the bytes
+         */
+        byte[] getBytes() {
+            return bytes;
+        }
+
+        /**
+         * Returns the page decoded in the encoding it declares.
+         * 
+         * @return the text
+         */
+        String getText() {
+            return text;
+        }
+    }
+
+    private Corpus() {
+    }
+
+    /**
+     * Loads a page by name.
+     * 
+     * @param name
+     *            one of the page name constants
+     * @return the page
+     * @throws IOException
+     *             if a checked-in page cannot be read
+     */
+    static Page load(String name) throws IOException {
+        if (SYNTHETIC_TEXT.equals(name)) {
+            return synthetic(name, SyntheticPages.text(SYNTHETIC_LENGTH));
+        } else if (SYNTHETIC_TABLE.equals(name)) {
+            return synthetic(name, SyntheticPages.table(SYNTHETIC_LENGTH));
+        } else if (SYNTHETIC_ATTRIBUTES.equals(name)) {
+            return synthetic(name, SyntheticPages.attributes(SYNTHETIC_LENGTH));
+        } else if (SYNTHETIC_MISNESTED.equals(name)) {
+            return synthetic(name, SyntheticPages.misnested(SYNTHETIC_LENGTH));
+        } else if (SYNTHETIC_SCRIPTS.equals(name)) {
+            return synthetic(name, SyntheticPages.scripts(SYNTHETIC_LENGTH));
+        } else if (GOOGLE.equals(name)) {
+            return checkedIn(name, "windows-1252");
+        } else if (NAMED_CHARACTER_REFERENCES.equals(name)
+                || LIVE_DOM_VIEWER.equals(name)) {
+            return checkedIn(name, "UTF-8");
+        }
+        throw new IllegalArgumentException("No such page: " + name);
+    }
+
+    private static Page synthetic(String name, String text)
+            throws UnsupportedEncodingException {
+        return new Page(name, text.getBytes("UTF-8"), text);
+    }
+
+    private static Page checkedIn(String name, String encoding)
+            throws IOException {
+        InputStream in = Corpus.class.getResourceAsStream("corpus/" + name
+                + ".html");
+        if (in == null) {
+            throw new IOException("Missing corpus page: " + name);
+        }
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int num;
+            while ((num = in.read(buffer)) != -1) {
+                out.write(buffer, 0, num);
+            }
+            byte[] bytes = out.toByteArray();
+            return new Page(name, bytes, new String(bytes, encoding));
+        } finally {
+            in.close();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+
+package nu.validator.htmlparser.benchmarks;
+
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * An error handler that counts the reported errors and warnings. Setting it
+ * makes the parser build its error messages, which is part of the cost of
+ * checking a document.
+ * 
+ * @version $Id$
+ */
+final class CountingErrorHandler implements ErrorHandler {
+
+    private int count;
+
+    /**
+     * Returns the number of errors and warnings reported so far.
+     * 
+     * @return the count
+     */
+    int getCount() {
+        return count;
+    }
+
+    public void error(SAXParseException exception) throws SAXException {
+        count++;
+    }
+
+    public void fatalError(SAXParseException exception) throws SAXException {
+        count++;
+    }
+
+    public void warning(SAXParseException exception) throws SAXException {
+        count++;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+
+package nu.validator.htmlparser.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import nu.validator.htmlparser.io.Encoding;
+import nu.validator.htmlparser.io.HtmlInputStreamReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.xml.sax.SAXException;
+
+/**
+ * Decoding through <code>HtmlInputStreamReader</code> in a given encoding
+ * without sniffing and without a tokenizer. UTF-8 goes through the
+ * parser's own decoder and the other encodings through the JDK's
+ * <code>CharsetDecoder</code>. The pages that are not windows-1252 still
+ * decode as windows-1252, so the encodings can be compared on the same
+ * bytes.
+ * 
+ * @version $Id$
+ */
+public class DecodeBenchmark extends CorpusBenchmark {
+
+    @Param( { "utf-8", "windows-1252" })
+    public String encoding;
+
+    private Encoding enc;
+
+    private char[] buffer;
+
+    private CountingErrorHandler errorHandler;
+
+    @Setup(Level.Trial) public void createBuffer() {
+        enc = Encoding.forName(encoding);
+        buffer = new char[2048];
+        errorHandler = new CountingErrorHandler();
+    }
+
+    @Benchmark public long decode() throws SAXException, IOException {
+        HtmlInputStreamReader reader = new HtmlInputStreamReader(
+                new ByteArrayInputStream(input.getBytes()), errorHandler,
+                null, null, enc);
+        long chars = 0;
+        int num;
+        while ((num = reader.read(buffer)) != -1) {
+            chars += num;
+        }
+        return chars;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+
+package nu.validator.htmlparser.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import nu.validator.htmlparser.common.Heuristics;
+import nu.validator.htmlparser.io.HtmlInputStreamReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.xml.sax.SAXException;
+
+/**
+ * Encoding sniffing and decoding through <code>HtmlInputStreamReader</code>
+ * without a tokenizer. Only the byte order mark and <code>meta</code> are
+ * sniffed; the chardet and ICU heuristics are off.
+ * 
+ * @version $Id$
+ */
+public class EncodingSniffBenchmark extends CorpusBenchmark {
+
+    private char[] buffer;
+
+    private CountingErrorHandler errorHandler;
+
+    @Setup(Level.Trial) public void createBuffer() {
+        buffer = new char[2048];
+        errorHandler = new CountingErrorHandler();
+    }
+
+    /**
+     * Only the sniffing that happens when the reader is created.
+     */
+    @Benchmark public String sniff() throws SAXException, IOException {
+        HtmlInputStreamReader reader = newReader();
+        return reader.getCharset().name();
+    }
+
+    /**
+     * Sniffing followed by decoding the whole page.
+     */
+    @Benchmark public long sniffAndDecode() throws SAXException, IOException {
+        HtmlInputStreamReader reader = newReader();
+        long chars = 0;
+        int num;
+        while ((num = reader.read(buffer)) != -1) {
+            chars += num;
+        }
+        return chars;
+    }
+
+    private HtmlInputStreamReader newReader() throws SAXException,
+            IOException {
+        return new HtmlInputStreamReader(new ByteArrayInputStream(
+                input.getBytes()), errorHandler, null, null, Heuristics.NONE);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+
+package nu.validator.htmlparser.benchmarks;
+
+import nu.validator.htmlparser.common.TokenHandler;
+import nu.validator.htmlparser.impl.ElementName;
+import nu.validator.htmlparser.impl.HtmlAttributes;
+import nu.validator.htmlparser.impl.Tokenizer;
+
+import org.xml.sax.SAXException;
+
+/**
+ * A token handler that only counts tokens, so that the tokenizer can be
+ * measured without a tree builder. Like the tree builder, it switches the
+ * tokenizer to the right state after the start tag of an element whose
+ * content is not markup; otherwise scripts and style sheets would be
+ * tokenized as markup.
+ * 
+ * @version $Id$
+ */
+final class NullTokenHandler implements TokenHandler {
+
+    private Tokenizer tokenizer;
+
+    private int tokens;
+
+    /**
+     * Returns the number of tokens seen since the start of the last
+     * tokenization.
+     * 
+     * @return the token count
+     */
+    int getTokens() {
+        return tokens;
+    }
+
+    public void startTokenization(Tokenizer self) throws SAXException {
+        tokenizer = self;
+        tokens = 0;
+    }
+
+    public boolean wantsComments() throws SAXException {
+        return true;
+    }
+
+    public void doctype(String name, String publicIdentifier,
+            String systemIdentifier, boolean forceQuirks) throws SAXException {
+        tokens++;
+    }
+
+    public void startTag(ElementName eltName, HtmlAttributes attributes,
+            boolean selfClosing) throws SAXException {
+        tokens++;
+        if (eltName == ElementName.SCRIPT) {
+            tokenizer.setStateAndEndTagExpectation(Tokenizer.SCRIPT_DATA,
+                    eltName);
+        } else if (eltName == ElementName.STYLE
+                || eltName == ElementName.XMP
+                || eltName == ElementName.IFRAME
+                || eltName == ElementName.NOEMBED
+                || eltName == ElementName.NOFRAMES) {
+            tokenizer.setStateAndEndTagExpectation(Tokenizer.RAWTEXT, eltName);
+        } else if (eltName == ElementName.TITLE
+                || eltName == ElementName.TEXTAREA) {
+            tokenizer.setStateAndEndTagExpectation(Tokenizer.RCDATA, eltName);
+        } else if (eltName == ElementName.PLAINTEXT) {
+            tokenizer.setStateAndEndTagExpectation(Tokenizer.PLAINTEXT,
+                    eltName);
+        }
+    }
+
+    public void endTag(ElementName eltName) throws SAXException {
+        tokens++;
+    }
+
+    public void comment(char[] buf, int start, int length)
+            throws SAXException {
+        tokens++;
+    }
+
+    public void characters(char[] buf, int start, int length)
+            throws SAXException {
+        tokens++;
+    }
+
+    public void zeroOriginatingReplacementCharacter() throws SAXException {
+    }
+
+    public void eof() throws SAXException {
+    }
+
+    public void endTokenization() throws SAXException {
+        tokenizer = null;
+    }
+
+    public boolean cdataSectionAllowed() throws SAXException {
+        return false;
+    }
+
+    public void ensureBufferSpace(int inputLength) throws SAXException {
+    }
+}
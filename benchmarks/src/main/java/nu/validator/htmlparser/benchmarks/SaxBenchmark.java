@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+
+package nu.validator.htmlparser.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.sax.HtmlParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Parsing bytes to SAX events, from encoding sniffing to the content
+ * handler.
+ * 
+ * @version $Id$
+ */
+public class SaxBenchmark extends CorpusBenchmark {
+
+    private HtmlParser streamingParser;
+
+    private HtmlParser bufferingParser;
+
+    private HtmlParser checkingParser;
+
+    private CountingErrorHandler errorHandler;
+
+    @Setup(Level.Trial) public void createParsers() {
+        streamingParser = newParser();
+        bufferingParser = newParser();
+        bufferingParser.setStreamabilityViolationPolicy(XmlViolationPolicy.ALLOW);
+        errorHandler = new CountingErrorHandler();
+        checkingParser = newParser();
+        checkingParser.setErrorHandler(errorHandler);
+    }
+
+    /**
+     * <code>SAXStreamer</code>, which reports events as the tokens arrive.
+     */
+    @Benchmark public void streamer() throws IOException, SAXException {
+        streamingParser.parse(source());
+    }
+
+    /**
+     * <code>SAXTreeBuilder</code>, which builds a tree first so that it can
+     * report an infoset that does not need to be streamable.
+     */
+    @Benchmark public void treeBuilder() throws IOException, SAXException {
+        bufferingParser.parse(source());
+    }
+
+    /**
+     * <code>SAXStreamer</code> with an error handler, which brings in
+     * <code>ErrorReportingTokenizer</code> and the tree builder errors.
+     */
+    @Benchmark public int streamerReportingErrors() throws IOException,
+            SAXException {
+        checkingParser.parse(source());
+        return errorHandler.getCount();
+    }
+
+    /**
+     * <code>SAXStreamer</code> with a new parser for every document, for
+     * comparison with the reused parser of <code>streamer()</code>.
+     */
+    @Benchmark public void streamerWithNewParser() throws IOException,
+            SAXException {
+        newParser().parse(source());
+    }
+
+    private HtmlParser newParser() {
+        HtmlParser parser = new HtmlParser(XmlViolationPolicy.ALTER_INFOSET);
+        parser.setContentHandler(new DefaultHandler());
+        return parser;
+    }
+
+    private InputSource source() {
+        return new InputSource(new ByteArrayInputStream(input.getBytes()));
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+
+package nu.validator.htmlparser.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.ext.LexicalHandler;
+import org.xml.sax.helpers.AttributesImpl;
+
+/**
+ * Records SAX events so that they can be replayed into a serializer without
+ * parsing again. The attributes and the character data are copied when
+ * recorded, so replaying allocates nothing.
+ * 
+ * @version $Id$
+ */
+final class SaxRecording implements ContentHandler, LexicalHandler {
+
+    private static final int START_DOCUMENT = 0;
+
+    private static final int END_DOCUMENT = 1;
+
+    private static final int START_PREFIX_MAPPING = 2;
+
+    private static final int END_PREFIX_MAPPING = 3;
+
+    private static final int START_ELEMENT = 4;
+
+    private static final int END_ELEMENT = 5;
+
+    private static final int CHARACTERS = 6;
+
+    private static final int PROCESSING_INSTRUCTION = 7;
+
+    private static final int START_DTD = 8;
+
+    private static final int END_DTD = 9;
+
+    private static final int START_CDATA = 10;
+
+    private static final int END_CDATA = 11;
+
+    private static final int COMMENT = 12;
+
+    private static final class Event {
+
+        final int type;
+
+        final String first;
+
+        final String second;
+
+        final String third;
+
+        final Attributes attributes;
+
+        final char[] text;
+
+        Event(int type, String first, String second, String third,
+                Attributes attributes, char[] text) {
+            this.type = type;
+            this.first = first;
+            this.second = second;
+            this.third = third;
+            this.attributes = attributes;
+            this.text = text;
+        }
+    }
+
+    private final List<Event> events = new ArrayList<Event>();
+
+    /**
+     * Replays the recorded events.
+     * 
+     * @param contentHandler
+     *            the content handler
+     * @param lexicalHandler
+     *            the lexical handler
+     * @throws SAXException
+     *             if a handler throws
+     */
+    void replay(ContentHandler contentHandler, LexicalHandler lexicalHandler)
+            throws SAXException {
+        for (Event event : events) {
+            switch (event.type) {
+                case START_DOCUMENT:
+                    contentHandler.startDocument();
+                    break;
+                case END_DOCUMENT:
+                    contentHandler.endDocument();
+                    break;
+                case START_PREFIX_MAPPING:
+                    contentHandler.startPrefixMapping(event.first,
+                            event.second);
+                    break;
+                case END_PREFIX_MAPPING:
+                    contentHandler.endPrefixMapping(event.first);
+                    break;
+                case START_ELEMENT:
+                    contentHandler.startElement(event.first, event.second,
+                            event.third, event.attributes);
+                    break;
+                case END_ELEMENT:
+                    contentHandler.endElement(event.first, event.second,
+                            event.third);
+                    break;
+                case CHARACTERS:
+                    contentHandler.characters(event.text, 0,
+                            event.text.length);
+                    break;
+                case PROCESSING_INSTRUCTION:
+                    contentHandler.processingInstruction(event.first,
+                            event.second);
+                    break;
+                case START_DTD:
+                    lexicalHandler.startDTD(event.first, event.second,
+                            event.third);
+                    break;
+                case END_DTD:
+                    lexicalHandler.endDTD();
+                    break;
+                case START_CDATA:
+                    lexicalHandler.startCDATA();
+                    break;
+                case END_CDATA:
+                    lexicalHandler.endCDATA();
+                    break;
+                case COMMENT:
+                    lexicalHandler.comment(event.text, 0, event.text.length);
+                    break;
+            }
+        }
+    }
+
+    private void record(int type, String first, String second, String third) {
+        events.add(new Event(type, first, second, third, null, null));
+    }
+
+    private void record(int type, char[] ch, int start, int length) {
+        char[] text = new char[length];
+        System.arraycopy(ch, start, text, 0, length);
+        events.add(new Event(type, null, null, null, null, text));
+    }
+
+    public void setDocumentLocator(Locator locator) {
+    }
+
+    public void startDocument() throws SAXException {
+        record(START_DOCUMENT, null, null, null);
+    }
+
+    public void endDocument() throws SAXException {
+        record(END_DOCUMENT, null, null, null);
+    }
+
+    public void startPrefixMapping(String prefix, String uri)
+            throws SAXException {
+        record(START_PREFIX_MAPPING, prefix, uri, null);
+    }
+
+    public void endPrefixMapping(String prefix) throws SAXException {
+        record(END_PREFIX_MAPPING, prefix, null, null);
+    }
+
+    public void startElement(String uri, String localName, String qName,
+            Attributes atts) throws SAXException {
+        events.add(new Event(START_ELEMENT, uri, localName, qName,
+                new AttributesImpl(atts), null));
+    }
+
+    public void endElement(String uri, String localName, String qName)
+            throws SAXException {
+        record(END_ELEMENT, uri, localName, qName);
+    }
+
+    public void characters(char[] ch, int start, int length)
+            throws SAXException {
+        record(CHARACTERS, ch, start, length);
+    }
+
+    public void ignorableWhitespace(char[] ch, int start, int length)
+            throws SAXException {
+        record(CHARACTERS, ch, start, length);
+    }
+
+    public void processingInstruction(String target, String data)
+            throws SAXException {
+        record(PROCESSING_INSTRUCTION, target, data, null);
+    }
+
+    public void skippedEntity(String name) throws SAXException {
+    }
+
+    public void startDTD(String name, String publicId, String systemId)
+            throws SAXException {
+        record(START_DTD, name, publicId, systemId);
+    }
+
+    public void endDTD() throws SAXException {
+        record(END_DTD, null, null, null);
+    }
+
+    public void startEntity(String name) throws SAXException {
+    }
+
+    public void endEntity(String name) throws SAXException {
+    }
+
+    public void startCDATA() throws SAXException {
+        record(START_CDATA, null, null, null);
+    }
+
+    public void endCDATA() throws SAXException {
+        record(END_CDATA, null, null, null);
+    }
+
+    public void comment(char[] ch, int start, int length) throws SAXException {
+        record(COMMENT, ch, start, length);
+    }
+}
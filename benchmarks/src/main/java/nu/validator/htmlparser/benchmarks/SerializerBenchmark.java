@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+
+package nu.validator.htmlparser.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.sax.HtmlParser;
+import nu.validator.htmlparser.sax.HtmlSerializer;
+import nu.validator.htmlparser.sax.XmlSerializer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Serializing a parsed page to UTF-8. The page is parsed once per trial and
+ * its SAX events are replayed into a new serializer for every operation, so
+ * only the serializer is measured.
+ * 
+ * @version $Id$
+ */
+public class SerializerBenchmark extends CorpusBenchmark {
+
+    /**
+     * Counts and drops the serialized bytes.
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        long count;
+
+        @Override public void write(int b) {
+            count++;
+        }
+
+        @Override public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    private SaxRecording recording;
+
+    @Setup(Level.Trial) public void record() throws IOException, SAXException {
+        recording = new SaxRecording();
+        HtmlParser parser = new HtmlParser(XmlViolationPolicy.ALTER_INFOSET);
+        parser.setContentHandler(recording);
+        parser.setLexicalHandler(recording);
+        parser.parse(new InputSource(new ByteArrayInputStream(
+                input.getBytes())));
+    }
+
+    @Benchmark public long htmlSerializer() throws SAXException {
+        CountingOutputStream out = new CountingOutputStream();
+        HtmlSerializer serializer = new HtmlSerializer(out);
+        recording.replay(serializer, serializer);
+        return out.count;
+    }
+
+    @Benchmark public long xmlSerializer() throws SAXException {
+        CountingOutputStream out = new CountingOutputStream();
+        XmlSerializer serializer = new XmlSerializer(out);
+        recording.replay(serializer, serializer);
+        return out.count;
+    }
+}
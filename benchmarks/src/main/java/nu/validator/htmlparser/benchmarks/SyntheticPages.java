@@ -0,0 +1,253 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+
+package nu.validator.htmlparser.benchmarks;
+
+import java.util.Random;
+
+/**
+ * Generates the synthetic pages of the corpus. Each page stresses a
+ * different part of the parser. The generators use a fixed seed, so the
+ * output only changes when this class changes.
+ * 
+ * @version $Id$
+ */
+final class SyntheticPages {
+
+    private static final long SEED = 0x48544d4cL;
+
+    private static final String[] WORDS = { "the", "parser", "tokenizer",
+            "tree", "builder", "element", "attribute", "character", "stack",
+            "scope", "formatting", "reference", "document", "fragment",
+            "na\u00EFve", "caf\u00E9", "\u0395\u03BB\u03BB\u03B7\u03BD\u03B9\u03BA\u03AC",
+            "\u65E5\u672C\u8A9E", "\u0440\u0443\u0441\u0441\u043A\u0438\u0439",
+            "stra\u00DFe", "\u00BD", "\u2014" };
+
+    private static final String[] REFERENCES = { "&amp;", "&lt;", "&gt;",
+            "&nbsp;", "&hellip;", "&eacute;", "&copy;", "&#8212;", "&#x263A;",
+            "&amp" };
+
+    private static final String[] INLINE = { "a", "em", "strong", "code",
+            "span", "b", "i", "abbr" };
+
+    private SyntheticPages() {
+    }
+
+    /**
+     * Paragraphs of running text with inline markup, character references and
+     * non-ASCII words.
+     */
+    static String text(int length) {
+        Random random = new Random(SEED);
+        StringBuilder sb = head("Text");
+        sb.append("<body>\n<article>\n<h1>Running text</h1>\n");
+        while (sb.length() < length) {
+            sb.append("<p>");
+            int sentences = 2 + random.nextInt(5);
+            for (int i = 0; i < sentences; i++) {
+                sentence(random, sb);
+            }
+            sb.append("</p>\n");
+            if (random.nextInt(8) == 0) {
+                sb.append("<h2>").append(word(random)).append(' ').append(
+                        word(random)).append("</h2>\n");
+            }
+        }
+        sb.append("</article>\n</body>\n</html>\n");
+        return sb.toString();
+    }
+
+    /**
+     * A long data table, partly relying on implied end tags.
+     */
+    static String table(int length) {
+        Random random = new Random(SEED);
+        StringBuilder sb = head("Table");
+        sb.append("<body>\n<table>\n<caption>Measurements</caption>\n");
+        sb.append("<thead><tr><th>Row<th>Name<th>Value<th>Delta<th>Note</thead>\n<tbody>\n");
+        int row = 0;
+        while (sb.length() < length) {
+            boolean implied = (row & 1) == 1;
+            sb.append("<tr><td>").append(row++);
+            cell(sb, implied);
+            sb.append("<td class=name>").append(word(random));
+            cell(sb, implied);
+            sb.append("<td>").append(random.nextInt(100000));
+            cell(sb, implied);
+            sb.append("<td>").append(random.nextInt(200) - 100).append(
+                    "&nbsp;%");
+            cell(sb, implied);
+            sb.append("<td>").append(word(random));
+            cell(sb, implied);
+            if (!implied) {
+                sb.append("</tr>");
+            }
+            sb.append('\n');
+        }
+        sb.append("</tbody>\n</table>\n</body>\n</html>\n");
+        return sb.toString();
+    }
+
+    /**
+     * Nested elements that carry many attributes in all three quoting styles.
+     */
+    static String attributes(int length) {
+        Random random = new Random(SEED);
+        StringBuilder sb = head("Attributes");
+        sb.append("<body>\n");
+        int id = 0;
+        while (sb.length() < length) {
+            sb.append("<div id=\"item-").append(id++).append(
+                    "\" class='card ").append(word(random)).append(
+                    "' data-index=").append(random.nextInt(1000)).append(
+                    " data-label=\"").append(word(random)).append(
+                    "\" aria-hidden=false role=listitem style=\"margin: 0; padding: ").append(
+                    random.nextInt(16)).append("px\" hidden>\n");
+            sb.append(" <img src=\"/images/").append(id).append(
+                    ".png\" alt=\"").append(word(random)).append(
+                    "\" width=").append(random.nextInt(640)).append(
+                    " height=").append(random.nextInt(480)).append(
+                    " loading=lazy>\n");
+            sb.append(" <a href=\"/item?id=").append(id).append(
+                    "&amp;ref=list\" title='").append(word(random)).append(
+                    "' rel=\"noopener noreferrer\" target=_blank>").append(
+                    word(random)).append("</a>\n");
+            sb.append(" <input type=checkbox name=item").append(id).append(
+                    " value=on checked disabled>\n</div>\n");
+        }
+        sb.append("</body>\n</html>\n");
+        return sb.toString();
+    }
+
+    /**
+     * Misnested formatting elements, text in tables and unclosed elements,
+     * so that the adoption agency algorithm, foster parenting and the
+     * reconstruction of active formatting elements all run.
+     */
+    static String misnested(int length) {
+        Random random = new Random(SEED);
+        StringBuilder sb = head("Misnested");
+        sb.append("<body>\n");
+        while (sb.length() < length) {
+            switch (random.nextInt(5)) {
+                case 0:
+                    sb.append("<p><b>").append(word(random)).append(" <i>").append(
+                            word(random)).append("</b> ").append(word(random)).append(
+                            "</i></p>\n");
+                    break;
+                case 1:
+                    sb.append("<p><a href=#>").append(word(random)).append(
+                            "<div>").append(word(random)).append("</a>").append(
+                            word(random)).append("</div>\n");
+                    break;
+                case 2:
+                    sb.append("<table><tr>").append(word(random)).append(
+                            "<td>").append(word(random)).append("</table>\n");
+                    break;
+                case 3:
+                    sb.append("<p><font color=red><b><u>").append(word(random)).append(
+                            "<p>").append(word(random)).append("</font>\n");
+                    break;
+                default:
+                    sb.append("<ul><li>").append(word(random)).append("<li><em>").append(
+                            word(random)).append("</ul></em>\n");
+                    break;
+            }
+        }
+        sb.append("</body>\n</html>\n");
+        return sb.toString();
+    }
+
+    /**
+     * Inline scripts and style sheets with content that looks like markup,
+     * interleaved with comments.
+     */
+    static String scripts(int length) {
+        Random random = new Random(SEED);
+        StringBuilder sb = head("Scripts");
+        sb.append("<body>\n");
+        int n = 0;
+        while (sb.length() < length) {
+            sb.append("<!-- block ").append(n).append(" -->\n");
+            sb.append("<style>\n.c").append(n).append(
+                    " > p { color: #").append(
+                    Integer.toHexString(random.nextInt(0x1000000))).append(
+                    "; }\n</style>\n");
+            sb.append("<script>\nvar a").append(n).append(" = ").append(
+                    random.nextInt(100)).append(";\nif (a").append(n).append(
+                    " < 50 && a").append(n).append(
+                    " > 10) { document.write('<p>' + \"").append(word(random)).append(
+                    "\" + '</p>'); }\n");
+            sb.append("/* <!-- not a comment --> */ var s = \"<\\/script>\";\n</script>\n");
+            sb.append("<p>").append(word(random)).append("</p>\n");
+            n++;
+        }
+        sb.append("</body>\n</html>\n");
+        return sb.toString();
+    }
+
+    private static StringBuilder head(String title) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("<!DOCTYPE html>\n<html lang=en>\n<head>\n<meta charset=utf-8>\n<title>");
+        sb.append(title);
+        sb.append("</title>\n</head>\n");
+        return sb;
+    }
+
+    private static void sentence(Random random, StringBuilder sb) {
+        int words = 4 + random.nextInt(12);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            switch (random.nextInt(12)) {
+                case 0:
+                    String name = INLINE[random.nextInt(INLINE.length)];
+                    sb.append('<').append(name);
+                    if ("a".equals(name)) {
+                        sb.append(" href=\"#").append(word(random)).append('"');
+                    }
+                    sb.append('>').append(word(random)).append("</").append(
+                            name).append('>');
+                    break;
+                case 1:
+                    sb.append(REFERENCES[random.nextInt(REFERENCES.length)]);
+                    break;
+                default:
+                    sb.append(word(random));
+                    break;
+            }
+        }
+        sb.append(". ");
+    }
+
+    private static void cell(StringBuilder sb, boolean implied) {
+        if (!implied) {
+            sb.append("</td>");
+        }
+    }
+
+    private static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
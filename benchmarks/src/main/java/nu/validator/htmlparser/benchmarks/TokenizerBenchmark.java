@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+
+package nu.validator.htmlparser.benchmarks;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import nu.validator.htmlparser.impl.ErrorReportingTokenizer;
+import nu.validator.htmlparser.impl.Tokenizer;
+import nu.validator.htmlparser.io.Driver;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * The tokenizer on its own. The pages are fed as characters, so decoding is
+ * not included.
+ * 
+ * @version $Id$
+ */
+public class TokenizerBenchmark extends CorpusBenchmark {
+
+    private NullTokenHandler tokenHandler;
+
+    private Driver tokenizerDriver;
+
+    private Driver errorReportingDriver;
+
+    @Setup(Level.Trial) public void createDrivers() {
+        tokenHandler = new NullTokenHandler();
+        tokenizerDriver = new Driver(new Tokenizer(tokenHandler, false));
+        errorReportingDriver = new Driver(new ErrorReportingTokenizer(
+                tokenHandler, false));
+        errorReportingDriver.setErrorHandler(new CountingErrorHandler());
+    }
+
+    /**
+     * <code>Tokenizer</code> without location tracking or error reporting.
+     */
+    @Benchmark public int tokenizer() throws SAXException, IOException {
+        tokenizerDriver.tokenize(new InputSource(new StringReader(
+                input.getText())));
+        return tokenHandler.getTokens();
+    }
+
+    /**
+     * <code>ErrorReportingTokenizer</code> with an error handler, as used
+     * when checking documents.
+     */
+    @Benchmark public int errorReportingTokenizer() throws SAXException,
+            IOException {
+        errorReportingDriver.tokenize(new InputSource(new StringReader(
+                input.getText())));
+        return tokenHandler.getTokens();
+    }
+}
@@ -0,0 +1,537 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.arena;
+
+import nu.validator.htmlparser.common.DocumentMode;
+
+/**
+ * A read-only HTML document that is stored as a handful of arrays instead of
+ * an object per node. A node is an <code>int</code> index into the arrays.
+ * The document node is <code>0</code> and <code>NONE</code> stands for no
+ * node. The text of the text nodes, comments and attribute values is kept
+ * in one shared array and names and namespaces are interned into a string
+ * table, so a document holds very few objects however many nodes it has.
+ * Like the compact strings of recent JDKs, the shared array holds a byte per
+ * character for text that is all ISO-8859-1 and two bytes per character
+ * for other text.
+ *
+ * <p>The doctype is represented as a node without data. Its identifiers
+ * are properties of the document.
+ *
+ * @version $Id$
+ */
+public final class ArenaDocument {
+
+    /**
+     * The absent node.
+     */
+    public static final int NONE = -1;
+
+    /**
+     * The node type of the document node.
+     */
+    public static final int DOCUMENT = 0;
+
+    /**
+     * The node type of the document node of a fragment.
+     */
+    public static final int DOCUMENT_FRAGMENT = 1;
+
+    /**
+     * The node type of elements.
+     */
+    public static final int ELEMENT = 2;
+
+    /**
+     * The node type of text nodes.
+     */
+    public static final int TEXT = 3;
+
+    /**
+     * The node type of comments.
+     */
+    public static final int COMMENT = 4;
+
+    /**
+     * The node type of the doctype.
+     */
+    public static final int DOCUMENT_TYPE = 5;
+
+    // The arrays are filled by ArenaTreeBuilder.
+
+    int nodeCount;
+
+    byte[] types;
+
+    int[] parents;
+
+    int[] firstChildren;
+
+    int[] lastChildren;
+
+    int[] nextSiblings;
+
+    int[] previousSiblings;
+
+    /**
+     * The string index of the local name of an element.
+     */
+    int[] names;
+
+    /**
+     * The string index of the namespace of an element.
+     */
+    int[] namespaces;
+
+    /**
+     * The index of the first attribute of an element or the encoded offset
+     * of the text of a text node or a comment in <code>arena</code>.
+     */
+    int[] dataStarts;
+
+    /**
+     * The number of attributes of an element or the length of the text of
+     * a text node or a comment.
+     */
+    int[] dataLengths;
+
+    int attributeCount;
+
+    int[] attributeNames;
+
+    int[] attributeNamespaces;
+
+    int[] attributeQNames;
+
+    /**
+     * The encoded offsets of the attribute values in <code>arena</code>.
+     */
+    int[] attributeValueStarts;
+
+    int[] attributeValueLengths;
+
+    String[] strings;
+
+    int stringCount;
+
+    /**
+     * The text of the whole document. A non-negative offset into the arena
+     * points to ISO-8859-1 text with a byte per character. A negative
+     * offset is the complement of the offset of UTF-16 text with two bytes
+     * per character, high byte first.
+     */
+    byte[] arena;
+
+    int arenaLength;
+
+    String doctypeName;
+
+    String doctypePublicIdentifier;
+
+    String doctypeSystemIdentifier;
+
+    DocumentMode documentMode;
+
+    ArenaDocument(int nodeCapacity, int attributeCapacity,
+            int arenaCapacity) {
+        types = new byte[nodeCapacity];
+        parents = new int[nodeCapacity];
+        firstChildren = new int[nodeCapacity];
+        lastChildren = new int[nodeCapacity];
+        nextSiblings = new int[nodeCapacity];
+        previousSiblings = new int[nodeCapacity];
+        names = new int[nodeCapacity];
+        namespaces = new int[nodeCapacity];
+        dataStarts = new int[nodeCapacity];
+        dataLengths = new int[nodeCapacity];
+        attributeNames = new int[attributeCapacity];
+        attributeNamespaces = new int[attributeCapacity];
+        attributeQNames = new int[attributeCapacity];
+        attributeValueStarts = new int[attributeCapacity];
+        attributeValueLengths = new int[attributeCapacity];
+        strings = new String[64];
+        arena = new byte[arenaCapacity];
+    }
+
+    /**
+     * Shrinks the arrays to the data they hold once the document is
+     * complete.
+     */
+    void trim() {
+        int n = nodeCount;
+        if (n < types.length) {
+            byte[] newTypes = new byte[n];
+            System.arraycopy(types, 0, newTypes, 0, n);
+            types = newTypes;
+            parents = trim(parents, n);
+            firstChildren = trim(firstChildren, n);
+            lastChildren = trim(lastChildren, n);
+            nextSiblings = trim(nextSiblings, n);
+            previousSiblings = trim(previousSiblings, n);
+            names = trim(names, n);
+            namespaces = trim(namespaces, n);
+            dataStarts = trim(dataStarts, n);
+            dataLengths = trim(dataLengths, n);
+        }
+        int a = attributeCount;
+        if (a < attributeNames.length) {
+            attributeNames = trim(attributeNames, a);
+            attributeNamespaces = trim(attributeNamespaces, a);
+            attributeQNames = trim(attributeQNames, a);
+            attributeValueStarts = trim(attributeValueStarts, a);
+            attributeValueLengths = trim(attributeValueLengths, a);
+        }
+        if (stringCount < strings.length) {
+            String[] newStrings = new String[stringCount];
+            System.arraycopy(strings, 0, newStrings, 0, stringCount);
+            strings = newStrings;
+        }
+        if (arenaLength < arena.length) {
+            byte[] newArena = new byte[arenaLength];
+            System.arraycopy(arena, 0, newArena, 0, arenaLength);
+            arena = newArena;
+        }
+    }
+
+    private static int[] trim(int[] array, int length) {
+        int[] newArray = new int[length];
+        System.arraycopy(array, 0, newArray, 0, length);
+        return newArray;
+    }
+
+    /**
+     * Returns the number of nodes. Nodes that were removed from the tree
+     * while parsing are counted but are not reachable from the document
+     * node.
+     *
+     * @return the number of nodes
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    /**
+     * Returns the type of a node.
+     *
+     * @param node
+     *            the node
+     * @return one of <code>DOCUMENT</code>, <code>DOCUMENT_FRAGMENT</code>,
+     *         <code>ELEMENT</code>, <code>TEXT</code>, <code>COMMENT</code>
+     *         and <code>DOCUMENT_TYPE</code>
+     */
+    public int getNodeType(int node) {
+        return types[node];
+    }
+
+    /**
+     * Returns the root element.
+     *
+     * @return the root element or <code>NONE</code>
+     */
+    public int getDocumentElement() {
+        for (int child = firstChildren[0]; child != NONE; child = nextSiblings[child]) {
+            if (types[child] == ELEMENT) {
+                return child;
+            }
+        }
+        return NONE;
+    }
+
+    public int getParent(int node) {
+        return parents[node];
+    }
+
+    public int getFirstChild(int node) {
+        return firstChildren[node];
+    }
+
+    public int getLastChild(int node) {
+        return lastChildren[node];
+    }
+
+    public int getNextSibling(int node) {
+        return nextSiblings[node];
+    }
+
+    public int getPreviousSibling(int node) {
+        return previousSiblings[node];
+    }
+
+    /**
+     * Returns the local name of an element.
+     *
+     * @param element
+     *            the element
+     * @return the local name
+     */
+    public String getLocalName(int element) {
+        return strings[names[element]];
+    }
+
+    /**
+     * Returns the namespace URI of an element.
+     *
+     * @param element
+     *            the element
+     * @return the namespace URI
+     */
+    public String getNamespaceURI(int element) {
+        return strings[namespaces[element]];
+    }
+
+    /**
+     * Returns the index of the local name of an element in the string
+     * table. Elements with the same name and namespace have the same
+     * indexes, so the indexes can be compared instead of the names.
+     *
+     * @param element
+     *            the element
+     * @return the index of the local name
+     * @see #getString(int)
+     */
+    public int getLocalNameIndex(int element) {
+        return names[element];
+    }
+
+    /**
+     * Returns the index of the namespace URI of an element in the string
+     * table.
+     *
+     * @param element
+     *            the element
+     * @return the index of the namespace URI
+     * @see #getString(int)
+     */
+    public int getNamespaceURIIndex(int element) {
+        return namespaces[element];
+    }
+
+    /**
+     * Returns a string from the string table.
+     *
+     * @param index
+     *            the index
+     * @return the string
+     */
+    public String getString(int index) {
+        return strings[index];
+    }
+
+    /**
+     * Returns the index of a string in the string table or <code>NONE</code>
+     * if no name or namespace in the document is equal to the string.
+     *
+     * @param string
+     *            the string
+     * @return the index or <code>NONE</code>
+     */
+    public int indexOfString(String string) {
+        for (int i = 0; i < stringCount; i++) {
+            if (strings[i].equals(string)) {
+                return i;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Returns the number of attributes of an element.
+     *
+     * @param element
+     *            the element
+     * @return the number of attributes
+     */
+    public int getAttributeCount(int element) {
+        return types[element] == ELEMENT ? dataLengths[element] : 0;
+    }
+
+    public String getAttributeLocalName(int element, int index) {
+        return strings[attributeNames[attribute(element, index)]];
+    }
+
+    public String getAttributeNamespaceURI(int element, int index) {
+        return strings[attributeNamespaces[attribute(element, index)]];
+    }
+
+    public String getAttributeQName(int element, int index) {
+        return strings[attributeQNames[attribute(element, index)]];
+    }
+
+    public String getAttributeValue(int element, int index) {
+        int attribute = attribute(element, index);
+        return string(attributeValueStarts[attribute],
+                attributeValueLengths[attribute]);
+    }
+
+    /**
+     * Returns the value of an attribute.
+     *
+     * @param element
+     *            the element
+     * @param namespaceURI
+     *            the namespace URI of the attribute, the empty string for
+     *            most attributes
+     * @param localName
+     *            the local name
+     * @return the value or <code>null</code> if the element does not have
+     *         the attribute
+     */
+    public String getAttributeValue(int element, String namespaceURI,
+            String localName) {
+        int index = getAttributeIndex(element, namespaceURI, localName);
+        return index == NONE ? null : getAttributeValue(element, index);
+    }
+
+    /**
+     * Returns the index of an attribute.
+     *
+     * @param element
+     *            the element
+     * @param namespaceURI
+     *            the namespace URI of the attribute, the empty string for
+     *            most attributes
+     * @param localName
+     *            the local name
+     * @return the index or <code>NONE</code> if the element does not have
+     *         the attribute
+     */
+    public int getAttributeIndex(int element, String namespaceURI,
+            String localName) {
+        int start = dataStarts[element];
+        int count = getAttributeCount(element);
+        for (int i = 0; i < count; i++) {
+            if (strings[attributeNames[start + i]].equals(localName)
+                    && strings[attributeNamespaces[start + i]].equals(namespaceURI)) {
+                return i;
+            }
+        }
+        return NONE;
+    }
+
+    private int attribute(int element, int index) {
+        if (index < 0 || index >= getAttributeCount(element)) {
+            throw new IndexOutOfBoundsException(Integer.toString(index));
+        }
+        return dataStarts[element] + index;
+    }
+
+    /**
+     * Returns the text of a text node or a comment as a new string.
+     *
+     * @param node
+     *            the node
+     * @return the text
+     */
+    public String getText(int node) {
+        return string(dataStarts[textNode(node)], dataLengths[node]);
+    }
+
+    /**
+     * Returns the length of the text of a text node or a comment.
+     *
+     * @param node
+     *            the node
+     * @return the length
+     */
+    public int getTextLength(int node) {
+        return dataLengths[textNode(node)];
+    }
+
+    /**
+     * Copies characters from the text of a text node or a comment into an
+     * array like <code>String.getChars()</code>.
+     *
+     * @param node
+     *            the node
+     * @param srcBegin
+     *            the index of the first character to copy in the text
+     * @param srcEnd
+     *            the index after the last character to copy
+     * @param dst
+     *            the destination array
+     * @param dstBegin
+     *            the start offset in the destination array
+     */
+    public void getTextChars(int node, int srcBegin, int srcEnd, char[] dst,
+            int dstBegin) {
+        if (srcBegin < 0 || srcBegin > srcEnd
+                || srcEnd > dataLengths[textNode(node)]) {
+            throw new IndexOutOfBoundsException();
+        }
+        getChars(dataStarts[node], srcBegin, srcEnd, dst, dstBegin);
+    }
+
+    private void getChars(int encodedStart, int srcBegin, int srcEnd,
+            char[] dst, int dstBegin) {
+        byte[] bytes = arena;
+        if (encodedStart >= 0) {
+            int start = encodedStart + srcBegin;
+            for (int i = srcBegin; i < srcEnd; i++) {
+                dst[dstBegin++] = (char) (bytes[start++] & 0xFF);
+            }
+        } else {
+            int start = ~encodedStart + (srcBegin << 1);
+            for (int i = srcBegin; i < srcEnd; i++) {
+                dst[dstBegin++] = (char) (((bytes[start] & 0xFF) << 8) | (bytes[start + 1] & 0xFF));
+                start += 2;
+            }
+        }
+    }
+
+    private int textNode(int node) {
+        int type = types[node];
+        if (type != TEXT && type != COMMENT) {
+            throw new IllegalArgumentException("Node " + node
+                    + " has no text.");
+        }
+        return node;
+    }
+
+    private String string(int encodedStart, int length) {
+        char[] chars = new char[length];
+        getChars(encodedStart, 0, length, chars, 0);
+        return new String(chars);
+    }
+
+    public String getDoctypeName() {
+        return doctypeName;
+    }
+
+    public String getDoctypePublicIdentifier() {
+        return doctypePublicIdentifier;
+    }
+
+    public String getDoctypeSystemIdentifier() {
+        return doctypeSystemIdentifier;
+    }
+
+    /**
+     * Returns the document mode.
+     *
+     * @return the document mode or <code>null</code> if the tree builder did
+     *         not set one
+     */
+    public DocumentMode getDocumentMode() {
+        return documentMode;
+    }
+}
@@ -0,0 +1,544 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.arena;
+
+import java.util.HashMap;
+
+import nu.validator.htmlparser.common.DocumentMode;
+import nu.validator.htmlparser.impl.HtmlAttributes;
+import nu.validator.htmlparser.impl.TreeBuilder;
+
+import org.xml.sax.SAXException;
+
+/**
+ * A tree builder that builds an <code>ArenaDocument</code>. The nodes are
+ * <code>Integer</code> indexes into the arrays of the document.
+ *
+ * <p>The attributes are copied into the document, so the tokenizer does not
+ * need to create new attributes each time. Adjacent text is coalesced into
+ * one text node like in the DOM.
+ *
+ * @version $Id$
+ */
+public class ArenaTreeBuilder extends TreeBuilder<Integer> {
+
+    private static final int NONE = ArenaDocument.NONE;
+
+    private ArenaDocument document;
+
+    private final HashMap<String, Integer> stringIndexes = new HashMap<String, Integer>();
+
+    /**
+     * A buffer for copying text out of strings and the arena.
+     */
+    private char[] valueBuffer = new char[64];
+
+    /**
+     * The constructor.
+     */
+    public ArenaTreeBuilder() {
+        super();
+    }
+
+    /**
+     * Returns the document.
+     *
+     * @return the document
+     */
+    public ArenaDocument getDocument() {
+        ArenaDocument rv = document;
+        document = null;
+        stringIndexes.clear();
+        rv.trim();
+        return rv;
+    }
+
+    /**
+     * Returns the document of a fragment parse. The children of the document
+     * node are the nodes of the fragment.
+     *
+     * @return the document
+     */
+    public ArenaDocument getDocumentFragment() {
+        ArenaDocument doc = document;
+        int root = doc.firstChildren[0];
+        doc.firstChildren[0] = NONE;
+        doc.lastChildren[0] = NONE;
+        doc.parents[root] = NONE;
+        moveChildren(root, 0);
+        doc.types[0] = ArenaDocument.DOCUMENT_FRAGMENT;
+        return getDocument();
+    }
+
+    @Override protected void start(boolean fragmentMode) throws SAXException {
+        document = new ArenaDocument(64, 16, 1024);
+        stringIndexes.clear();
+        newNode(ArenaDocument.DOCUMENT);
+    }
+
+    @Override protected final void accumulateCharacters(char[] buf, int start,
+            int length) throws SAXException {
+        // Coalesce text until it is flushed like CoalescingTreeBuilder.
+        System.arraycopy(buf, start, charBuffer, charBufferLen, length);
+        charBufferLen += length;
+    }
+
+    private int newNode(int type) {
+        ArenaDocument doc = document;
+        int node = doc.nodeCount;
+        if (node == doc.types.length) {
+            int newLength = node + (node >> 1);
+            byte[] newTypes = new byte[newLength];
+            System.arraycopy(doc.types, 0, newTypes, 0, node);
+            doc.types = newTypes;
+            doc.parents = grow(doc.parents, node, newLength);
+            doc.firstChildren = grow(doc.firstChildren, node, newLength);
+            doc.lastChildren = grow(doc.lastChildren, node, newLength);
+            doc.nextSiblings = grow(doc.nextSiblings, node, newLength);
+            doc.previousSiblings = grow(doc.previousSiblings, node, newLength);
+            doc.names = grow(doc.names, node, newLength);
+            doc.namespaces = grow(doc.namespaces, node, newLength);
+            doc.dataStarts = grow(doc.dataStarts, node, newLength);
+            doc.dataLengths = grow(doc.dataLengths, node, newLength);
+        }
+        doc.types[node] = (byte) type;
+        doc.parents[node] = NONE;
+        doc.firstChildren[node] = NONE;
+        doc.lastChildren[node] = NONE;
+        doc.nextSiblings[node] = NONE;
+        doc.previousSiblings[node] = NONE;
+        doc.names[node] = NONE;
+        doc.namespaces[node] = NONE;
+        doc.dataStarts[node] = 0;
+        doc.dataLengths[node] = 0;
+        doc.nodeCount = node + 1;
+        return node;
+    }
+
+    private static int[] grow(int[] array, int length, int newLength) {
+        int[] newArray = new int[newLength];
+        System.arraycopy(array, 0, newArray, 0, length);
+        return newArray;
+    }
+
+    private int stringIndex(String string) {
+        Integer index = stringIndexes.get(string);
+        if (index != null) {
+            return index.intValue();
+        }
+        ArenaDocument doc = document;
+        int rv = doc.stringCount;
+        if (rv == doc.strings.length) {
+            String[] newStrings = new String[rv + (rv >> 1)];
+            System.arraycopy(doc.strings, 0, newStrings, 0, rv);
+            doc.strings = newStrings;
+        }
+        doc.strings[rv] = string;
+        doc.stringCount = rv + 1;
+        stringIndexes.put(string, Integer.valueOf(rv));
+        return rv;
+    }
+
+    private void ensureArena(int length) {
+        ArenaDocument doc = document;
+        int needed = doc.arenaLength + length;
+        int capacity = doc.arena.length;
+        if (needed > capacity) {
+            int grown = capacity + (capacity >> 1);
+            byte[] newArena = new byte[grown < needed ? needed : grown];
+            System.arraycopy(doc.arena, 0, newArena, 0, doc.arenaLength);
+            doc.arena = newArena;
+        }
+    }
+
+    private static boolean isLatin1(char[] buf, int start, int length) {
+        int end = start + length;
+        for (int i = start; i < end; i++) {
+            if (buf[i] > '\u00FF') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Adds characters to the end of the arena in the given encoding.
+     */
+    private void writeCharacters(char[] buf, int start, int length,
+            boolean latin1) {
+        ensureArena(latin1 ? length : length << 1);
+        ArenaDocument doc = document;
+        byte[] arena = doc.arena;
+        int pos = doc.arenaLength;
+        int end = start + length;
+        if (latin1) {
+            for (int i = start; i < end; i++) {
+                arena[pos++] = (byte) buf[i];
+            }
+        } else {
+            for (int i = start; i < end; i++) {
+                char c = buf[i];
+                arena[pos++] = (byte) (c >> 8);
+                arena[pos++] = (byte) c;
+            }
+        }
+        doc.arenaLength = pos;
+    }
+
+    /**
+     * Adds characters to the arena.
+     *
+     * @return the encoded offset
+     */
+    private int addCharacters(char[] buf, int start, int length) {
+        int rv = document.arenaLength;
+        if (isLatin1(buf, start, length)) {
+            writeCharacters(buf, start, length, true);
+            return rv;
+        }
+        writeCharacters(buf, start, length, false);
+        return ~rv;
+    }
+
+    private int addCharacters(String string) {
+        int length = string.length();
+        if (length > valueBuffer.length) {
+            valueBuffer = new char[length];
+        }
+        string.getChars(0, length, valueBuffer, 0);
+        return addCharacters(valueBuffer, 0, length);
+    }
+
+    private int newAttribute() {
+        ArenaDocument doc = document;
+        int rv = doc.attributeCount;
+        if (rv == doc.attributeNames.length) {
+            int newLength = rv + (rv >> 1);
+            doc.attributeNames = grow(doc.attributeNames, rv, newLength);
+            doc.attributeNamespaces = grow(doc.attributeNamespaces, rv,
+                    newLength);
+            doc.attributeQNames = grow(doc.attributeQNames, rv, newLength);
+            doc.attributeValueStarts = grow(doc.attributeValueStarts, rv,
+                    newLength);
+            doc.attributeValueLengths = grow(doc.attributeValueLengths, rv,
+                    newLength);
+        }
+        doc.attributeCount = rv + 1;
+        return rv;
+    }
+
+    private void addAttribute(HtmlAttributes attributes, int i) {
+        int attribute = newAttribute();
+        ArenaDocument doc = document;
+        String value = attributes.getValueNoBoundsCheck(i);
+        doc.attributeNames[attribute] = stringIndex(attributes.getLocalNameNoBoundsCheck(i));
+        doc.attributeNamespaces[attribute] = stringIndex(attributes.getURINoBoundsCheck(i));
+        doc.attributeQNames[attribute] = stringIndex(attributes.getQNameNoBoundsCheck(i));
+        doc.attributeValueStarts[attribute] = addCharacters(value);
+        doc.attributeValueLengths[attribute] = value.length();
+    }
+
+    private void appendChild(int child, int parent) {
+        ArenaDocument doc = document;
+        int last = doc.lastChildren[parent];
+        doc.parents[child] = parent;
+        doc.previousSiblings[child] = last;
+        doc.nextSiblings[child] = NONE;
+        if (last == NONE) {
+            doc.firstChildren[parent] = child;
+        } else {
+            doc.nextSiblings[last] = child;
+        }
+        doc.lastChildren[parent] = child;
+    }
+
+    private void insertBefore(int child, int reference) {
+        ArenaDocument doc = document;
+        int parent = doc.parents[reference];
+        int previous = doc.previousSiblings[reference];
+        doc.parents[child] = parent;
+        doc.previousSiblings[child] = previous;
+        doc.nextSiblings[child] = reference;
+        doc.previousSiblings[reference] = child;
+        if (previous == NONE) {
+            doc.firstChildren[parent] = child;
+        } else {
+            doc.nextSiblings[previous] = child;
+        }
+    }
+
+    private void detach(int node) {
+        ArenaDocument doc = document;
+        int parent = doc.parents[node];
+        if (parent == NONE) {
+            return;
+        }
+        int previous = doc.previousSiblings[node];
+        int next = doc.nextSiblings[node];
+        if (previous == NONE) {
+            doc.firstChildren[parent] = next;
+        } else {
+            doc.nextSiblings[previous] = next;
+        }
+        if (next == NONE) {
+            doc.lastChildren[parent] = previous;
+        } else {
+            doc.previousSiblings[next] = previous;
+        }
+        doc.parents[node] = NONE;
+        doc.previousSiblings[node] = NONE;
+        doc.nextSiblings[node] = NONE;
+    }
+
+    private void moveChildren(int oldParent, int newParent) {
+        ArenaDocument doc = document;
+        int first = doc.firstChildren[oldParent];
+        if (first == NONE) {
+            return;
+        }
+        for (int child = first; child != NONE; child = doc.nextSiblings[child]) {
+            doc.parents[child] = newParent;
+        }
+        int last = doc.lastChildren[newParent];
+        doc.previousSiblings[first] = last;
+        if (last == NONE) {
+            doc.firstChildren[newParent] = first;
+        } else {
+            doc.nextSiblings[last] = first;
+        }
+        doc.lastChildren[newParent] = doc.lastChildren[oldParent];
+        doc.firstChildren[oldParent] = NONE;
+        doc.lastChildren[oldParent] = NONE;
+    }
+
+    private int newText(char[] buf, int start, int length) {
+        int node = newNode(ArenaDocument.TEXT);
+        document.dataStarts[node] = addCharacters(buf, start, length);
+        document.dataLengths[node] = length;
+        return node;
+    }
+
+    /**
+     * Appends to the text of a text node. Unless the text of the node is at
+     * the end of the arena in an encoding that fits the new characters, the
+     * text is copied to the end first.
+     */
+    private void appendToText(int node, char[] buf, int start, int length)
+            throws SAXException {
+        ArenaDocument doc = document;
+        int encodedStart = doc.dataStarts[node];
+        int textLength = doc.dataLengths[node];
+        checkTextLength(textLength + length);
+        boolean latin1 = encodedStart >= 0;
+        int textEnd = latin1 ? encodedStart + textLength : ~encodedStart
+                + (textLength << 1);
+        if (latin1 && !isLatin1(buf, start, length)) {
+            latin1 = false;
+        } else if (textEnd == doc.arenaLength) {
+            writeCharacters(buf, start, length, latin1);
+            doc.dataLengths[node] = textLength + length;
+            return;
+        }
+        if (textLength > valueBuffer.length) {
+            valueBuffer = new char[textLength];
+        }
+        doc.getTextChars(node, 0, textLength, valueBuffer, 0);
+        int newStart = doc.arenaLength;
+        writeCharacters(valueBuffer, 0, textLength, latin1);
+        writeCharacters(buf, start, length, latin1);
+        doc.dataStarts[node] = latin1 ? newStart : ~newStart;
+        doc.dataLengths[node] = textLength + length;
+    }
+
+    private int createElement(String ns, String name, HtmlAttributes attributes) {
+        int node = newNode(ArenaDocument.ELEMENT);
+        ArenaDocument doc = document;
+        doc.names[node] = stringIndex(name);
+        doc.namespaces[node] = stringIndex(ns);
+        int length = attributes.getLength();
+        doc.dataStarts[node] = doc.attributeCount;
+        doc.dataLengths[node] = length;
+        for (int i = 0; i < length; i++) {
+            addAttribute(attributes, i);
+        }
+        return node;
+    }
+
+    @Override protected Integer createElement(String ns, String name,
+            HtmlAttributes attributes, Integer intendedParent)
+            throws SAXException {
+        return Integer.valueOf(createElement(ns, name, attributes));
+    }
+
+    /**
+     * Does not keep the form pointer. Overridden, since the default drops
+     * the namespace.
+     */
+    @Override protected Integer createElement(String ns, String name,
+            HtmlAttributes attributes, Integer form, Integer intendedParent)
+            throws SAXException {
+        return Integer.valueOf(createElement(ns, name, attributes));
+    }
+
+    @Override protected Integer createHtmlElementSetAsRoot(
+            HtmlAttributes attributes) throws SAXException {
+        int node = createElement("http://www.w3.org/1999/xhtml", "html",
+                attributes);
+        appendChild(node, 0);
+        return Integer.valueOf(node);
+    }
+
+    @Override protected void detachFromParent(Integer element)
+            throws SAXException {
+        detach(element.intValue());
+    }
+
+    @Override protected boolean hasChildren(Integer element)
+            throws SAXException {
+        return document.firstChildren[element.intValue()] != NONE;
+    }
+
+    @Override protected void appendElement(Integer child, Integer newParent)
+            throws SAXException {
+        int node = child.intValue();
+        detach(node);
+        appendChild(node, newParent.intValue());
+    }
+
+    @Override protected void appendChildrenToNewParent(Integer oldParent,
+            Integer newParent) throws SAXException {
+        moveChildren(oldParent.intValue(), newParent.intValue());
+    }
+
+    @Override protected void insertFosterParentedChild(Integer child,
+            Integer table, Integer stackParent) throws SAXException {
+        int node = child.intValue();
+        int tableNode = table.intValue();
+        detach(node);
+        if (document.parents[tableNode] != NONE) {
+            insertBefore(node, tableNode);
+        } else {
+            appendChild(node, stackParent.intValue());
+        }
+    }
+
+    @Override protected Integer createAndInsertFosterParentedElement(
+            String ns, String name, HtmlAttributes attributes, Integer table,
+            Integer stackParent) throws SAXException {
+        Integer rv = Integer.valueOf(createElement(ns, name, attributes));
+        insertFosterParentedChild(rv, table, stackParent);
+        return rv;
+    }
+
+    @Override protected void insertFosterParentedCharacters(char[] buf,
+            int start, int length, Integer table, Integer stackParent)
+            throws SAXException {
+        ArenaDocument doc = document;
+        int tableNode = table.intValue();
+        if (doc.parents[tableNode] != NONE) {
+            int previous = doc.previousSiblings[tableNode];
+            if (previous != NONE && doc.types[previous] == ArenaDocument.TEXT) {
+                appendToText(previous, buf, start, length);
+                return;
+            }
+            insertBefore(newText(buf, start, length), tableNode);
+            return;
+        }
+        appendCharacters(stackParent, buf, start, length);
+    }
+
+    @Override protected void appendCharacters(Integer parent, char[] buf,
+            int start, int length) throws SAXException {
+        int parentNode = parent.intValue();
+        int last = document.lastChildren[parentNode];
+        if (last != NONE && document.types[last] == ArenaDocument.TEXT) {
+            appendToText(last, buf, start, length);
+            return;
+        }
+        appendChild(newText(buf, start, length), parentNode);
+    }
+
+    @Override protected void appendComment(Integer parent, char[] buf,
+            int start, int length) throws SAXException {
+        int node = newNode(ArenaDocument.COMMENT);
+        document.dataStarts[node] = addCharacters(buf, start, length);
+        document.dataLengths[node] = length;
+        appendChild(node, parent.intValue());
+    }
+
+    @Override protected void appendCommentToDocument(char[] buf, int start,
+            int length) throws SAXException {
+        appendComment(Integer.valueOf(0), buf, start, length);
+    }
+
+    /**
+     * Adds the attributes that the element does not have yet. The
+     * attributes of an element have to be contiguous, so the old ones are
+     * copied after the last attribute if there are any to add.
+     */
+    @Override protected void addAttributesToElement(Integer element,
+            HtmlAttributes attributes) throws SAXException {
+        ArenaDocument doc = document;
+        int node = element.intValue();
+        int oldStart = doc.dataStarts[node];
+        int oldLength = doc.dataLengths[node];
+        int newStart = NONE;
+        for (int i = 0; i < attributes.getLength(); i++) {
+            if (doc.getAttributeIndex(node,
+                    attributes.getURINoBoundsCheck(i),
+                    attributes.getLocalNameNoBoundsCheck(i)) != NONE) {
+                continue;
+            }
+            if (newStart == NONE) {
+                newStart = doc.attributeCount;
+                for (int j = oldStart; j < oldStart + oldLength; j++) {
+                    int attribute = newAttribute();
+                    doc.attributeNames[attribute] = doc.attributeNames[j];
+                    doc.attributeNamespaces[attribute] = doc.attributeNamespaces[j];
+                    doc.attributeQNames[attribute] = doc.attributeQNames[j];
+                    doc.attributeValueStarts[attribute] = doc.attributeValueStarts[j];
+                    doc.attributeValueLengths[attribute] = doc.attributeValueLengths[j];
+                }
+                doc.dataStarts[node] = newStart;
+            }
+            addAttribute(attributes, i);
+            doc.dataLengths[node]++;
+        }
+    }
+
+    @Override protected void appendDoctypeToDocument(String name,
+            String publicIdentifier, String systemIdentifier)
+            throws SAXException {
+        ArenaDocument doc = document;
+        doc.doctypeName = name;
+        doc.doctypePublicIdentifier = publicIdentifier;
+        doc.doctypeSystemIdentifier = systemIdentifier;
+        appendChild(newNode(ArenaDocument.DOCUMENT_TYPE), 0);
+    }
+
+    @Override protected void documentMode(DocumentMode m,
+            String publicIdentifier, String systemIdentifier)
+            throws SAXException {
+        document.documentMode = m;
+    }
+}
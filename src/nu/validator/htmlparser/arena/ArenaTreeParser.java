@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.arena;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.ContentHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.ext.LexicalHandler;
+
+/**
+ * Replays an <code>ArenaDocument</code> or a subtree of it as SAX events.
+ * Long text nodes are reported in several <code>characters()</code> calls.
+ * The <code>Attributes</code> passed to
+ * <code>startElement()</code> is a view of the document that is only valid
+ * during the call.
+ *
+ * @version $Id$
+ */
+public final class ArenaTreeParser {
+
+    private static final class ArenaAttributes implements Attributes {
+
+        private ArenaDocument document;
+
+        private int element;
+
+        private int length;
+
+        void setElement(ArenaDocument document, int element) {
+            this.document = document;
+            this.element = element;
+            this.length = document.getAttributeCount(element);
+        }
+
+        public int getLength() {
+            return length;
+        }
+
+        public String getURI(int index) {
+            return index < 0 || index >= length ? null
+                    : document.getAttributeNamespaceURI(element, index);
+        }
+
+        public String getLocalName(int index) {
+            return index < 0 || index >= length ? null
+                    : document.getAttributeLocalName(element, index);
+        }
+
+        public String getQName(int index) {
+            return index < 0 || index >= length ? null
+                    : document.getAttributeQName(element, index);
+        }
+
+        public String getType(int index) {
+            if (index < 0 || index >= length) {
+                return null;
+            }
+            if ("id".equals(document.getAttributeLocalName(element, index))
+                    && "".equals(document.getAttributeNamespaceURI(element,
+                            index))) {
+                return "ID";
+            }
+            return "CDATA";
+        }
+
+        public String getValue(int index) {
+            return index < 0 || index >= length ? null
+                    : document.getAttributeValue(element, index);
+        }
+
+        public int getIndex(String uri, String localName) {
+            return document.getAttributeIndex(element, uri, localName);
+        }
+
+        public int getIndex(String qName) {
+            for (int i = 0; i < length; i++) {
+                if (document.getAttributeQName(element, i).equals(qName)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        public String getType(String uri, String localName) {
+            return getType(getIndex(uri, localName));
+        }
+
+        public String getType(String qName) {
+            return getType(getIndex(qName));
+        }
+
+        public String getValue(String uri, String localName) {
+            return getValue(getIndex(uri, localName));
+        }
+
+        public String getValue(String qName) {
+            return getValue(getIndex(qName));
+        }
+    }
+
+    private final ContentHandler contentHandler;
+
+    private final LexicalHandler lexicalHandler;
+
+    private final ArenaAttributes attributes = new ArenaAttributes();
+
+    private final char[] buffer = new char[2048];
+
+    /**
+     * The constructor.
+     *
+     * @param contentHandler
+     *            must not be <code>null</code>
+     * @param lexicalHandler
+     *            may be <code>null</code>
+     */
+    public ArenaTreeParser(ContentHandler contentHandler,
+            LexicalHandler lexicalHandler) {
+        if (contentHandler == null) {
+            throw new IllegalArgumentException("contentHandler was null.");
+        }
+        this.contentHandler = contentHandler;
+        this.lexicalHandler = lexicalHandler;
+    }
+
+    /**
+     * Causes SAX events for the whole document to be emitted.
+     *
+     * @param document
+     *            the document
+     * @throws SAXException
+     */
+    public void parse(ArenaDocument document) throws SAXException {
+        parse(document, 0);
+    }
+
+    /**
+     * Causes SAX events for the subtree rooted at a node to be emitted.
+     * <code>startDocument()</code> and <code>endDocument()</code> are only
+     * emitted for the document node of a document that is not a fragment.
+     *
+     * @param document
+     *            the document
+     * @param node
+     *            the root of the subtree
+     * @throws SAXException
+     */
+    public void parse(ArenaDocument document, int node) throws SAXException {
+        int current = node;
+        int next;
+        for (;;) {
+            visit(document, current);
+            if ((next = document.getFirstChild(current)) != ArenaDocument.NONE) {
+                current = next;
+                continue;
+            }
+            for (;;) {
+                revisit(document, current);
+                if (current == node) {
+                    return;
+                }
+                if ((next = document.getNextSibling(current)) != ArenaDocument.NONE) {
+                    current = next;
+                    break;
+                }
+                current = document.getParent(current);
+            }
+        }
+    }
+
+    private void visit(ArenaDocument document, int node) throws SAXException {
+        switch (document.getNodeType(node)) {
+            case ArenaDocument.DOCUMENT:
+                contentHandler.startDocument();
+                break;
+            case ArenaDocument.ELEMENT:
+                String localName = document.getLocalName(node);
+                attributes.setElement(document, node);
+                contentHandler.startElement(document.getNamespaceURI(node),
+                        localName, localName, attributes);
+                break;
+            case ArenaDocument.TEXT:
+                int length = document.getTextLength(node);
+                for (int start = 0; start < length; start += buffer.length) {
+                    int end = Math.min(length, start + buffer.length);
+                    document.getTextChars(node, start, end, buffer, 0);
+                    contentHandler.characters(buffer, 0, end - start);
+                }
+                break;
+            case ArenaDocument.COMMENT:
+                if (lexicalHandler != null) {
+                    char[] comment = new char[document.getTextLength(node)];
+                    document.getTextChars(node, 0, comment.length, comment, 0);
+                    lexicalHandler.comment(comment, 0, comment.length);
+                }
+                break;
+            case ArenaDocument.DOCUMENT_TYPE:
+                if (lexicalHandler != null) {
+                    lexicalHandler.startDTD(document.getDoctypeName(),
+                            document.getDoctypePublicIdentifier(),
+                            document.getDoctypeSystemIdentifier());
+                    lexicalHandler.endDTD();
+                }
+                break;
+        }
+    }
+
+    private void revisit(ArenaDocument document, int node) throws SAXException {
+        switch (document.getNodeType(node)) {
+            case ArenaDocument.DOCUMENT:
+                contentHandler.endDocument();
+                break;
+            case ArenaDocument.ELEMENT:
+                String localName = document.getLocalName(node);
+                contentHandler.endElement(document.getNamespaceURI(node),
+                        localName, localName);
+                break;
+        }
+    }
+}
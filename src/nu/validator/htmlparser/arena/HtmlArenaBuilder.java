@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.arena;
+
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.concurrent.ExecutorService;
+
+import nu.validator.htmlparser.common.DocumentModeHandler;
+import nu.validator.htmlparser.common.Heuristics;
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.impl.ErrorReportingTokenizer;
+import nu.validator.htmlparser.impl.Tokenizer;
+import nu.validator.htmlparser.io.Driver;
+import nu.validator.htmlparser.io.PipelinedDriver;
+
+import org.xml.sax.EntityResolver;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * This class implements an HTML5 parser that builds an
+ * <code>ArenaDocument</code>. It is meant for applications that keep many
+ * parsed documents in memory at a time or that only walk the tree once,
+ * such as indexers, and need neither the DOM nor XOM APIs.
+ *
+ * <p>By default, when using the constructor without arguments, the parser
+ * coerces XML 1.0-incompatible infosets into XML 1.0-compatible infosets
+ * like <code>HtmlDocumentBuilder</code>.
+ *
+ * @version $Id$
+ */
+public class HtmlArenaBuilder {
+
+    private Driver driver;
+
+    private final ArenaTreeBuilder treeBuilder;
+
+    private EntityResolver entityResolver;
+
+    private ErrorHandler errorHandler = null;
+
+    private boolean scriptingEnabled = false;
+
+    private XmlViolationPolicy contentSpacePolicy = XmlViolationPolicy.FATAL;
+
+    private XmlViolationPolicy contentNonXmlCharPolicy = XmlViolationPolicy.FATAL;
+
+    private XmlViolationPolicy commentPolicy = XmlViolationPolicy.FATAL;
+
+    private XmlViolationPolicy namePolicy = XmlViolationPolicy.FATAL;
+
+    private boolean mappingLangToXmlLang = false;
+
+    private XmlViolationPolicy xmlnsPolicy = XmlViolationPolicy.FATAL;
+
+    private Heuristics heuristics = Heuristics.NONE;
+
+    private ExecutorService pipelineExecutor = null;
+
+    /**
+     * Instantiates the builder with the infoset-altering XML violation
+     * policy.
+     */
+    public HtmlArenaBuilder() {
+        this(XmlViolationPolicy.ALTER_INFOSET);
+    }
+
+    /**
+     * Instantiates the builder with a specific XML violation policy.
+     *
+     * @param xmlPolicy
+     *            the policy
+     */
+    public HtmlArenaBuilder(XmlViolationPolicy xmlPolicy) {
+        this.treeBuilder = new ArenaTreeBuilder();
+        this.driver = null;
+        setXmlPolicy(xmlPolicy);
+    }
+
+    private void lazyInit() {
+        if (driver == null) {
+            Tokenizer tokenizer;
+            if (errorHandler == null
+                    && contentNonXmlCharPolicy == XmlViolationPolicy.ALLOW) {
+                tokenizer = new Tokenizer(treeBuilder, false);
+            } else {
+                tokenizer = new ErrorReportingTokenizer(treeBuilder, false);
+            }
+            if (pipelineExecutor == null) {
+                this.driver = new Driver(tokenizer);
+            } else {
+                this.driver = new PipelinedDriver(tokenizer, pipelineExecutor);
+            }
+            this.driver.setErrorHandler(errorHandler);
+            this.treeBuilder.setErrorHandler(errorHandler);
+            this.driver.setCommentPolicy(commentPolicy);
+            this.driver.setContentNonXmlCharPolicy(contentNonXmlCharPolicy);
+            this.driver.setContentSpacePolicy(contentSpacePolicy);
+            this.driver.setMappingLangToXmlLang(mappingLangToXmlLang);
+            this.driver.setXmlnsPolicy(xmlnsPolicy);
+            this.driver.setHeuristics(heuristics);
+            this.treeBuilder.setScriptingEnabled(scriptingEnabled);
+            this.treeBuilder.setNamePolicy(namePolicy);
+        }
+    }
+
+    /**
+     * Tokenizes the input source.
+     *
+     * @param is the source
+     * @throws SAXException if stuff goes wrong
+     * @throws IOException if IO goes wrong
+     * @throws MalformedURLException if the system ID is malformed and the entity resolver is <code>null</code>
+     */
+    private void tokenize(InputSource is) throws SAXException, IOException,
+            MalformedURLException {
+        if (is == null) {
+            throw new IllegalArgumentException("Null input.");
+        }
+        if (is.getByteStream() == null && is.getCharacterStream() == null) {
+            String systemId = is.getSystemId();
+            if (systemId == null) {
+                throw new IllegalArgumentException(
+                        "No byte stream, no character stream nor URI.");
+            }
+            if (entityResolver != null) {
+                is = entityResolver.resolveEntity(is.getPublicId(), systemId);
+            }
+            if (is.getByteStream() == null || is.getCharacterStream() == null) {
+                is = new InputSource();
+                is.setSystemId(systemId);
+                is.setByteStream(new URL(systemId).openStream());
+            }
+        }
+        if (driver == null) lazyInit();
+        driver.tokenize(is);
+    }
+
+    /**
+     * Parses a document from a SAX <code>InputSource</code>.
+     * @param is the source
+     * @return the doc
+     * @throws SAXException if stuff goes wrong
+     * @throws IOException if IO goes wrong
+     */
+    public ArenaDocument parse(InputSource is) throws SAXException,
+            IOException {
+        treeBuilder.setFragmentContext(null);
+        tokenize(is);
+        return treeBuilder.getDocument();
+    }
+
+    /**
+     * Parses a document fragment from a SAX <code>InputSource</code> with
+     * an HTML element as the fragment context.
+     * @param is the source
+     * @param context the context element name (HTML namespace assumed)
+     * @return the document whose document node holds the fragment
+     * @throws SAXException if stuff goes wrong
+     * @throws IOException if IO goes wrong
+     */
+    public ArenaDocument parseFragment(InputSource is, String context)
+            throws IOException, SAXException {
+        treeBuilder.setFragmentContext(context.intern());
+        tokenize(is);
+        return treeBuilder.getDocumentFragment();
+    }
+
+    /**
+     * Parses a document fragment from a SAX <code>InputSource</code>.
+     * @param is the source
+     * @param contextLocal the local name of the context element
+     * @param contextNamespace the namespace of the context element
+     * @return the document whose document node holds the fragment
+     * @throws SAXException if stuff goes wrong
+     * @throws IOException if IO goes wrong
+     */
+    public ArenaDocument parseFragment(InputSource is, String contextLocal,
+            String contextNamespace) throws IOException, SAXException {
+        treeBuilder.setFragmentContext(contextLocal.intern(),
+                contextNamespace.intern(), null, false);
+        tokenize(is);
+        return treeBuilder.getDocumentFragment();
+    }
+
+    /**
+     * Sets the entity resolver for URI-only inputs.
+     * @param resolver the resolver
+     */
+    public void setEntityResolver(EntityResolver resolver) {
+        this.entityResolver = resolver;
+    }
+
+    /**
+     * Sets the error handler.
+     * @param errorHandler the handler
+     */
+    public void setErrorHandler(ErrorHandler errorHandler) {
+        this.errorHandler = errorHandler;
+        driver = null;
+    }
+
+    /**
+     * Sets the policy for consecutive hyphens in comments.
+     * @param commentPolicy the policy
+     * @see nu.validator.htmlparser.impl.Tokenizer#setCommentPolicy(nu.validator.htmlparser.common.XmlViolationPolicy)
+     */
+    public void setCommentPolicy(XmlViolationPolicy commentPolicy) {
+        this.commentPolicy = commentPolicy;
+        if (driver != null) {
+            driver.setCommentPolicy(commentPolicy);
+        }
+    }
+
+    /**
+     * Sets the policy for non-XML characters except white space.
+     * @param contentNonXmlCharPolicy the policy
+     * @see nu.validator.htmlparser.impl.Tokenizer#setContentNonXmlCharPolicy(nu.validator.htmlparser.common.XmlViolationPolicy)
+     */
+    public void setContentNonXmlCharPolicy(
+            XmlViolationPolicy contentNonXmlCharPolicy) {
+        this.contentNonXmlCharPolicy = contentNonXmlCharPolicy;
+        driver = null;
+    }
+
+    /**
+     * Sets the policy for non-XML white space.
+     * @param contentSpacePolicy the policy
+     * @see nu.validator.htmlparser.impl.Tokenizer#setContentSpacePolicy(nu.validator.htmlparser.common.XmlViolationPolicy)
+     */
+    public void setContentSpacePolicy(XmlViolationPolicy contentSpacePolicy) {
+        this.contentSpacePolicy = contentSpacePolicy;
+        if (driver != null) {
+            driver.setContentSpacePolicy(contentSpacePolicy);
+        }
+    }
+
+    /**
+     * Whether the parser considers scripting to be enabled for noscript treatment.
+     *
+     * @return <code>true</code> if enabled
+     * @see nu.validator.htmlparser.impl.TreeBuilder#isScriptingEnabled()
+     */
+    public boolean isScriptingEnabled() {
+        return scriptingEnabled;
+    }
+
+    /**
+     * Sets whether the parser considers scripting to be enabled for noscript treatment.
+     * @param scriptingEnabled <code>true</code> to enable
+     * @see nu.validator.htmlparser.impl.TreeBuilder#setScriptingEnabled(boolean)
+     */
+    public void setScriptingEnabled(boolean scriptingEnabled) {
+        this.scriptingEnabled = scriptingEnabled;
+        treeBuilder.setScriptingEnabled(scriptingEnabled);
+    }
+
+    /**
+     * Sets the document mode handler.
+     *
+     * @param documentModeHandler
+     *            the documentModeHandler to set
+     * @see nu.validator.htmlparser.impl.TreeBuilder#setDocumentModeHandler(nu.validator.htmlparser.common.DocumentModeHandler)
+     */
+    public void setDocumentModeHandler(DocumentModeHandler documentModeHandler) {
+        treeBuilder.setDocumentModeHandler(documentModeHandler);
+    }
+
+    /**
+     * Whether <code>lang</code> is mapped to <code>xml:lang</code>.
+     * @param mappingLangToXmlLang
+     * @see nu.validator.htmlparser.impl.Tokenizer#setMappingLangToXmlLang(boolean)
+     */
+    public void setMappingLangToXmlLang(boolean mappingLangToXmlLang) {
+        this.mappingLangToXmlLang = mappingLangToXmlLang;
+        if (driver != null) {
+            driver.setMappingLangToXmlLang(mappingLangToXmlLang);
+        }
+    }
+
+    /**
+     * Whether the <code>xmlns</code> attribute on the root element is
+     * passed to through. (FATAL not allowed.)
+     * @param xmlnsPolicy
+     * @see nu.validator.htmlparser.impl.Tokenizer#setXmlnsPolicy(nu.validator.htmlparser.common.XmlViolationPolicy)
+     */
+    public void setXmlnsPolicy(XmlViolationPolicy xmlnsPolicy) {
+        if (xmlnsPolicy == XmlViolationPolicy.FATAL) {
+            throw new IllegalArgumentException("Can't use FATAL here.");
+        }
+        this.xmlnsPolicy = xmlnsPolicy;
+        if (driver != null) {
+            driver.setXmlnsPolicy(xmlnsPolicy);
+        }
+    }
+
+    /**
+     * The policy for non-NCName element and attribute names.
+     * @param namePolicy
+     * @see nu.validator.htmlparser.impl.Tokenizer#setNamePolicy(nu.validator.htmlparser.common.XmlViolationPolicy)
+     */
+    public void setNamePolicy(XmlViolationPolicy namePolicy) {
+        this.namePolicy = namePolicy;
+        if (driver != null) {
+            driver.setNamePolicy(namePolicy);
+            treeBuilder.setNamePolicy(namePolicy);
+        }
+    }
+
+    /**
+     * Sets the encoding sniffing heuristics.
+     *
+     * @param heuristics the heuristics to set
+     * @see nu.validator.htmlparser.impl.Tokenizer#setHeuristics(nu.validator.htmlparser.common.Heuristics)
+     */
+    public void setHeuristics(Heuristics heuristics) {
+        this.heuristics = heuristics;
+        if (driver != null) {
+            driver.setHeuristics(heuristics);
+        }
+    }
+
+    /**
+     * Sets the executor for tokenizing on a second thread while the tree is
+     * built on the calling thread. <code>null</code> (the default) means
+     * parsing on the calling thread only.
+     *
+     * @param executor the executor or <code>null</code>
+     * @see nu.validator.htmlparser.io.PipelinedDriver
+     */
+    public void setPipelineExecutor(ExecutorService executor) {
+        this.pipelineExecutor = executor;
+        driver = null;
+    }
+
+    /**
+     * This is a catch-all convenience method for setting name, xmlns, content space,
+     * content non-XML char and comment policies in one go.
+     *
+     * @param xmlPolicy
+     */
+    public void setXmlPolicy(XmlViolationPolicy xmlPolicy) {
+        setNamePolicy(xmlPolicy);
+        setXmlnsPolicy(xmlPolicy == XmlViolationPolicy.FATAL ? XmlViolationPolicy.ALTER_INFOSET : xmlPolicy);
+        setContentSpacePolicy(xmlPolicy);
+        setContentNonXmlCharPolicy(xmlPolicy);
+        setCommentPolicy(xmlPolicy);
+    }
+
+    /**
+     * Sets whether comment nodes appear in the tree.
+     * @param ignoreComments <code>true</code> to ignore comments
+     * @see nu.validator.htmlparser.impl.TreeBuilder#setIgnoringComments(boolean)
+     */
+    public void setIgnoringComments(boolean ignoreComments) {
+        treeBuilder.setIgnoringComments(ignoreComments);
+    }
+}
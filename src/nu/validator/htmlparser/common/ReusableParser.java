@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+
+package nu.validator.htmlparser.common;
+
+/**
+ * A parser front end whose tokenizer, tree builder and buffers can be used
+ * for one document after another.
+ * 
+ * @version $Id$
+ */
+public interface ReusableParser {
+
+    /**
+     * Makes the parser ready for parsing another document. Drops the
+     * references to the last document, also when parsing it failed, and the
+     * fragment context. The configuration is kept, and so are the tokenizer,
+     * the tree builder, the buffers they have grown, the stack node pool of
+     * the tree builder and the interner. Changing the configuration in a way
+     * that needs a different tokenizer or tree builder throws those away.
+     */
+    public void reset();
+
+}
@@ -54,6 +54,18 @@ class DOMTreeBuilder extends CoalescingTreeBuilder<Element> {
      */
     private Document document;
 
+    /**
+     * The text node whose data is being accumulated in
+     * <code>pendingText</code> or <code>null</code>.
+     */
+    private Text pendingTextNode;
+
+    /**
+     * The data of <code>pendingTextNode</code>. Appending to the node with
+     * <code>setData()</code> each time would copy all of its data each time.
+     */
+    private final StringBuilder pendingText = new StringBuilder();
+
     /**
      * The constructor.
      * 
@@ -96,8 +108,7 @@ class DOMTreeBuilder extends CoalescingTreeBuilder<Element> {
         try {
             Node lastChild = parent.getLastChild();
             if (lastChild != null && lastChild.getNodeType() == Node.TEXT_NODE) {
-                Text lastAsText = (Text) lastChild;
-                lastAsText.setData(lastAsText.getData() + text);
+                appendToText((Text) lastChild, text);
                 return;
             }
             parent.appendChild(document.createTextNode(text));
@@ -243,6 +254,41 @@ class DOMTreeBuilder extends CoalescingTreeBuilder<Element> {
      */
     @Override protected void start(boolean fragment) throws SAXException {
         document = implementation.createDocument(null, null, null);
+        pendingTextNode = null;
+        pendingText.setLength(0);
+    }
+
+    /**
+     * @see nu.validator.htmlparser.impl.TreeBuilder#end()
+     */
+    @Override protected void end() throws SAXException {
+        try {
+            flushPendingText();
+        } catch (DOMException e) {
+            fatal(e);
+        }
+    }
+
+    /**
+     * Appends to an existing text node. The data is written to the node
+     * when text is appended to another node or at the end.
+     */
+    private void appendToText(Text node, String text) throws SAXException {
+        if (node != pendingTextNode) {
+            flushPendingText();
+            pendingTextNode = node;
+            pendingText.append(node.getData());
+        }
+        checkTextLength(pendingText.length() + text.length());
+        pendingText.append(text);
+    }
+
+    private void flushPendingText() {
+        if (pendingTextNode != null) {
+            pendingTextNode.setData(pendingText.toString());
+            pendingTextNode = null;
+            pendingText.setLength(0);
+        }
     }
 
     /**
@@ -310,8 +356,7 @@ class DOMTreeBuilder extends CoalescingTreeBuilder<Element> {
                 Node previousSibling = table.getPreviousSibling();
                 if (previousSibling != null
                         && previousSibling.getNodeType() == Node.TEXT_NODE) {
-                    Text lastAsText = (Text) previousSibling;
-                    lastAsText.setData(lastAsText.getData() + text);
+                    appendToText((Text) previousSibling, text);
                     return;
                 }
                 parent.insertBefore(document.createTextNode(text), table);
@@ -319,8 +364,7 @@ class DOMTreeBuilder extends CoalescingTreeBuilder<Element> {
             }
             Node lastChild = stackParent.getLastChild();
             if (lastChild != null && lastChild.getNodeType() == Node.TEXT_NODE) {
-                Text lastAsText = (Text) lastChild;
-                lastAsText.setData(lastAsText.getData() + text);
+                appendToText((Text) lastChild, text);
                 return;
             }
             stackParent.appendChild(document.createTextNode(text));
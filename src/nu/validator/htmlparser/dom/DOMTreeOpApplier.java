@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.dom;
+
+import nu.validator.htmlparser.common.DocumentMode;
+import nu.validator.htmlparser.impl.HtmlAttributes;
+import nu.validator.htmlparser.treeop.TreeOpApplier;
+import nu.validator.htmlparser.treeop.TreeOpLog;
+
+import org.w3c.dom.DOMException;
+import org.w3c.dom.DOMImplementation;
+import org.w3c.dom.Document;
+import org.w3c.dom.DocumentFragment;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.Text;
+import org.xml.sax.SAXException;
+
+/**
+ * Builds a DOM document from the logs of a
+ * <code>nu.validator.htmlparser.treeop.TreeOpBuilder</code>. The result is
+ * the same as with <code>HtmlDocumentBuilder</code>.
+ * 
+ * @version $Id$
+ */
+public class DOMTreeOpApplier extends TreeOpApplier<Element> {
+
+    private Document document;
+
+    /**
+     * The text node whose data is being accumulated in
+     * <code>pendingText</code> or <code>null</code>.
+     */
+    private Text pendingTextNode;
+
+    private final StringBuilder pendingText = new StringBuilder();
+
+    /**
+     * The constructor.
+     * 
+     * @param implementation
+     *            the DOM impl.
+     */
+    public DOMTreeOpApplier(DOMImplementation implementation) {
+        this.document = implementation.createDocument(null, null, null);
+    }
+
+    /**
+     * Instantiates the applier with the JAXP DOM implementation.
+     */
+    public DOMTreeOpApplier() {
+        this(HtmlDocumentBuilder.jaxpDOMImplementation());
+    }
+
+    /**
+     * @see nu.validator.htmlparser.treeop.TreeOpApplier#apply(nu.validator.htmlparser.treeop.TreeOpLog)
+     */
+    @Override public void apply(TreeOpLog log) throws SAXException {
+        try {
+            super.apply(log);
+            flushPendingText();
+        } catch (DOMException e) {
+            throw new SAXException(e);
+        }
+    }
+
+    /**
+     * Returns the document.
+     * 
+     * @return the document
+     */
+    public Document getDocument() {
+        return document;
+    }
+
+    /**
+     * Moves the children of the root element into a document fragment. Use
+     * after applying the logs of a fragment parse.
+     * 
+     * @return the document fragment
+     */
+    public DocumentFragment getDocumentFragment() {
+        DocumentFragment rv = document.createDocumentFragment();
+        Node rootElt = document.getFirstChild();
+        while (rootElt.hasChildNodes()) {
+            rv.appendChild(rootElt.getFirstChild());
+        }
+        return rv;
+    }
+
+    private void setAttributes(Element element, HtmlAttributes attributes) {
+        for (int i = 0; i < attributes.getLength(); i++) {
+            element.setAttributeNS(attributes.getURINoBoundsCheck(i),
+                    attributes.getLocalNameNoBoundsCheck(i),
+                    attributes.getValueNoBoundsCheck(i));
+        }
+    }
+
+    @Override protected Element createElement(String ns, String name,
+            HtmlAttributes attributes, Element form) throws SAXException {
+        Element rv = document.createElementNS(ns, name);
+        for (int i = 0; i < attributes.getLength(); i++) {
+            rv.setAttributeNS(attributes.getURINoBoundsCheck(i),
+                    attributes.getLocalNameNoBoundsCheck(i),
+                    attributes.getValueNoBoundsCheck(i));
+            if (attributes.getTypeNoBoundsCheck(i) == "ID") {
+                rv.setIdAttributeNS(null, attributes.getLocalName(i), true);
+            }
+        }
+        if (form != null) {
+            rv.setUserData("nu.validator.form-pointer", form, null);
+        }
+        return rv;
+    }
+
+    @Override protected Element createHtmlElementSetAsRoot(
+            HtmlAttributes attributes) throws SAXException {
+        Element rv = document.createElementNS("http://www.w3.org/1999/xhtml",
+                "html");
+        setAttributes(rv, attributes);
+        document.appendChild(rv);
+        return rv;
+    }
+
+    @Override protected void appendElement(Element child, Element newParent)
+            throws SAXException {
+        newParent.appendChild(child);
+    }
+
+    @Override protected void appendChildrenToNewParent(Element oldParent,
+            Element newParent) throws SAXException {
+        while (oldParent.hasChildNodes()) {
+            newParent.appendChild(oldParent.getFirstChild());
+        }
+    }
+
+    @Override protected void insertFosterParentedChild(Element child,
+            Element table, Element stackParent) throws SAXException {
+        Node parent = table.getParentNode();
+        if (parent != null) { // always an element if not null
+            parent.insertBefore(child, table);
+        } else {
+            stackParent.appendChild(child);
+        }
+    }
+
+    @Override protected void detachFromParent(Element element)
+            throws SAXException {
+        Node parent = element.getParentNode();
+        if (parent != null) {
+            parent.removeChild(element);
+        }
+    }
+
+    @Override protected void appendCharacters(Element parent, char[] buf,
+            int start, int length) throws SAXException {
+        Node lastChild = parent.getLastChild();
+        if (lastChild != null && lastChild.getNodeType() == Node.TEXT_NODE) {
+            appendToText((Text) lastChild, buf, start, length);
+            return;
+        }
+        parent.appendChild(document.createTextNode(new String(buf, start,
+                length)));
+    }
+
+    @Override protected void insertFosterParentedCharacters(char[] buf,
+            int start, int length, Element table, Element stackParent)
+            throws SAXException {
+        Node parent = table.getParentNode();
+        if (parent != null) { // always an element if not null
+            Node previousSibling = table.getPreviousSibling();
+            if (previousSibling != null
+                    && previousSibling.getNodeType() == Node.TEXT_NODE) {
+                appendToText((Text) previousSibling, buf, start, length);
+                return;
+            }
+            parent.insertBefore(document.createTextNode(new String(buf,
+                    start, length)), table);
+            return;
+        }
+        appendCharacters(stackParent, buf, start, length);
+    }
+
+    @Override protected void appendComment(Element parent, char[] buf,
+            int start, int length) throws SAXException {
+        parent.appendChild(document.createComment(new String(buf, start,
+                length)));
+    }
+
+    @Override protected void appendCommentToDocument(char[] buf, int start,
+            int length) throws SAXException {
+        document.appendChild(document.createComment(new String(buf, start,
+                length)));
+    }
+
+    @Override protected void addAttributesToElement(Element element,
+            HtmlAttributes attributes) throws SAXException {
+        for (int i = 0; i < attributes.getLength(); i++) {
+            String localName = attributes.getLocalNameNoBoundsCheck(i);
+            String uri = attributes.getURINoBoundsCheck(i);
+            if (!element.hasAttributeNS(uri, localName)) {
+                element.setAttributeNS(uri, localName,
+                        attributes.getValueNoBoundsCheck(i));
+            }
+        }
+    }
+
+    @Override protected void documentMode(DocumentMode mode,
+            String publicIdentifier, String systemIdentifier)
+            throws SAXException {
+        document.setUserData("nu.validator.document-mode", mode, null);
+    }
+
+    /**
+     * Appends to an existing text node. The data is written to the node
+     * when text is appended to another node or at the end of the log.
+     */
+    private void appendToText(Text node, char[] buf, int start, int length) {
+        if (node != pendingTextNode) {
+            flushPendingText();
+            pendingTextNode = node;
+            pendingText.append(node.getData());
+        }
+        pendingText.append(buf, start, length);
+    }
+
+    private void flushPendingText() {
+        if (pendingTextNode != null) {
+            pendingTextNode.setData(pendingText.toString());
+            pendingTextNode = null;
+            pendingText.setLength(0);
+        }
+    }
+}
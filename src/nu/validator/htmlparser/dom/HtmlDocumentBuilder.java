@@ -23,11 +23,16 @@
 
 package nu.validator.htmlparser.dom;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.Reader;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.channels.FileChannel;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
@@ -36,12 +41,19 @@ import javax.xml.parsers.ParserConfigurationException;
 import nu.validator.htmlparser.common.CharacterHandler;
 import nu.validator.htmlparser.common.DocumentModeHandler;
 import nu.validator.htmlparser.common.Heuristics;
+import nu.validator.htmlparser.common.Interner;
+import nu.validator.htmlparser.common.ReusableParser;
 import nu.validator.htmlparser.common.TokenHandler;
 import nu.validator.htmlparser.common.TransitionHandler;
 import nu.validator.htmlparser.common.XmlViolationPolicy;
 import nu.validator.htmlparser.impl.ErrorReportingTokenizer;
+import nu.validator.htmlparser.impl.ParseLimits;
+import nu.validator.htmlparser.impl.ParseStatistics;
 import nu.validator.htmlparser.impl.Tokenizer;
 import nu.validator.htmlparser.io.Driver;
+import nu.validator.htmlparser.io.MappedInputStream;
+import nu.validator.htmlparser.io.ParallelDriver;
+import nu.validator.htmlparser.io.PipelinedDriver;
 
 import org.w3c.dom.DOMImplementation;
 import org.w3c.dom.Document;
@@ -75,17 +87,24 @@ import org.xml.sax.SAXException;
  * <p>The form pointer is also stored as user data with the key 
  * <code>nu.validator.form-pointer</code>.
  * 
+ * <p>An instance can parse any number of documents one after another. 
+ * The tokenizer, the tree builder and their buffers are kept from one parse 
+ * to the next as long as the configuration doesn't change. Use 
+ * <code>nu.validator.htmlparser.io.ParserPool</code> to share instances 
+ * between threads.
+ * 
  * @version $Id$
  * @author hsivonen
  */
-public class HtmlDocumentBuilder extends DocumentBuilder {
+public class HtmlDocumentBuilder extends DocumentBuilder implements
+        ReusableParser {
 
     /**
      * Returns the JAXP DOM implementation.
      * 
      * @return the JAXP DOM implementation
      */
-    private static DOMImplementation jaxpDOMImplementation() {
+    static DOMImplementation jaxpDOMImplementation() {
         DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
         factory.setNamespaceAware(true);
         DocumentBuilder builder;
@@ -147,8 +166,20 @@ public class HtmlDocumentBuilder extends DocumentBuilder {
 
     private Heuristics heuristics = Heuristics.NONE;
 
+    private int maxRewindBytes = Integer.MAX_VALUE;
+
+    private boolean lazyLocations = false;
+
     private TransitionHandler transitionHandler = null;
 
+    private ExecutorService pipelineExecutor = null;
+
+    private ParseStatistics statistics = null;
+
+    private ParseLimits limits = null;
+
+    private Interner interner = null;
+
     /**
      * Instantiates the document builder with a specific DOM 
      * implementation and XML violation policy.
@@ -210,7 +241,12 @@ public class HtmlDocumentBuilder extends DocumentBuilder {
      */
     private void lazyInit() {
         if (driver == null) {
-            this.driver = new Driver(newTokenizer(treeBuilder, false));
+            if (pipelineExecutor == null) {
+                this.driver = new Driver(newTokenizer(treeBuilder, false));
+            } else {
+                this.driver = new PipelinedDriver(newTokenizer(
+                        treeBuilder, false), pipelineExecutor);
+            }
             this.driver.setErrorHandler(errorHandler);
             this.driver.setTransitionHandler(transitionHandler);
             this.treeBuilder.setErrorHandler(treeBuilderErrorHandler);
@@ -221,6 +257,13 @@ public class HtmlDocumentBuilder extends DocumentBuilder {
             this.driver.setMappingLangToXmlLang(mappingLangToXmlLang);
             this.driver.setXmlnsPolicy(xmlnsPolicy);
             this.driver.setHeuristics(heuristics);
+            this.driver.setMaxRewindBytes(maxRewindBytes);
+            this.driver.setLazyLocations(lazyLocations);
+            if (pipelineExecutor == null) {
+                this.driver.setStatistics(statistics);
+            }
+            this.driver.setLimits(limits);
+            this.driver.setInterner(interner);
             for (CharacterHandler characterHandler : characterHandlers) {
                 this.driver.addCharacterHandler(characterHandler);
             }
@@ -298,6 +341,21 @@ public class HtmlDocumentBuilder extends DocumentBuilder {
         return implementation.createDocument(null, null, null);
     }
 
+    /**
+     * Makes the builder ready for parsing another document. Unlike what 
+     * JAXP specifies, the configuration is kept, because reconfiguring 
+     * would throw away the tokenizer and the tree builder that are being 
+     * reused.
+     * 
+     * @see javax.xml.parsers.DocumentBuilder#reset()
+     * @see nu.validator.htmlparser.common.ReusableParser#reset()
+     */
+    @Override public void reset() {
+        // Drop the tree of a parse that failed.
+        treeBuilder.getDocument();
+        treeBuilder.setFragmentContext(null);
+    }
+
     /**
      * Parses a document from a SAX <code>InputSource</code>.
      * @param is the source
@@ -313,6 +371,83 @@ public class HtmlDocumentBuilder extends DocumentBuilder {
         return treeBuilder.getDocument();
     }
 
+    /**
+     * Parses a document from a file through a memory mapping unless it is
+     * small.
+     * @param f the file
+     * @return the doc
+     * @throws SAXException if stuff goes wrong
+     * @throws IOException if IO goes wrong
+     * @see javax.xml.parsers.DocumentBuilder#parse(java.io.File)
+     */
+    @Override public Document parse(File f) throws SAXException,
+            IOException {
+        if (f == null) {
+            throw new IllegalArgumentException("File cannot be null.");
+        }
+        FileInputStream in = new FileInputStream(f);
+        try {
+            return parse(in.getChannel(), f.toURI().toASCIIString());
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Parses a document from a file channel through a memory mapping
+     * unless it is small. The channel is read from its current position to
+     * the end of the file. It is not closed and its position does not
+     * change.
+     * @param channel the channel
+     * @return the doc
+     * @throws SAXException if stuff goes wrong
+     * @throws IOException if IO goes wrong
+     * @see MappedInputStream
+     */
+    public Document parse(FileChannel channel) throws SAXException,
+            IOException {
+        return parse(channel, null);
+    }
+
+    private Document parse(FileChannel channel, String systemId)
+            throws SAXException, IOException {
+        InputSource is = new InputSource(MappedInputStream.open(channel));
+        is.setSystemId(systemId);
+        return parse(is);
+    }
+
+    /**
+     * Parses a document from a character stream by tokenizing chunks of it
+     * in parallel. The whole document is read into memory first. Tokenizer
+     * errors are not reported and encoding declarations are ignored. 
+     * Character handlers and the transition handler are not called; the 
+     * other settings apply as with sequential parsing.
+     * @param reader the source
+     * @param executor the executor for tokenizing chunks
+     * @return the doc
+     * @throws SAXException if stuff goes wrong
+     * @throws IOException if IO goes wrong
+     * @see ParallelDriver
+     */
+    public Document parseInParallel(Reader reader, ExecutorService executor)
+            throws SAXException, IOException {
+        if (driver == null) lazyInit();
+        treeBuilder.setFragmentContext(null);
+        ParallelDriver parallelDriver = new ParallelDriver(treeBuilder,
+                executor);
+        parallelDriver.setCommentPolicy(commentPolicy);
+        parallelDriver.setContentNonXmlCharPolicy(contentNonXmlCharPolicy);
+        parallelDriver.setContentSpacePolicy(contentSpacePolicy);
+        parallelDriver.setMappingLangToXmlLang(mappingLangToXmlLang);
+        parallelDriver.setXmlnsPolicy(xmlnsPolicy);
+        parallelDriver.setNamePolicy(namePolicy);
+        parallelDriver.setLimits(limits);
+        parallelDriver.setStatistics(statistics);
+        parallelDriver.setInterner(interner);
+        parallelDriver.tokenize(reader);
+        return treeBuilder.getDocument();
+    }
+
     /**
      * Parses a document fragment from a SAX <code>InputSource</code> with 
      * an HTML element as the fragment context.
@@ -622,6 +757,143 @@ public class HtmlDocumentBuilder extends DocumentBuilder {
         return this.heuristics;
     }
 
+    /**
+     * Sets the number of bytes that are kept for reparsing the document when
+     * a <code>meta</code> element declares an encoding other than the one in
+     * use.
+     * 
+     * @param maxRewindBytes the number of bytes
+     * @see nu.validator.htmlparser.io.Driver#setMaxRewindBytes(int)
+     */
+    public void setMaxRewindBytes(int maxRewindBytes) {
+        if (maxRewindBytes < 0) {
+            throw new IllegalArgumentException(
+                    "The number of bytes must not be negative.");
+        }
+        this.maxRewindBytes = maxRewindBytes;
+        if (driver != null) {
+            driver.setMaxRewindBytes(maxRewindBytes);
+        }
+    }
+
+    public int getMaxRewindBytes() {
+        return this.maxRewindBytes;
+    }
+
+    /**
+     * Sets whether the line and column of errors are computed from an index
+     * of line starts when an error is reported instead of being tracked for
+     * every character. The locations are the same either way.
+     * 
+     * @param lazyLocations <code>true</code> to compute locations when needed
+     * @see nu.validator.htmlparser.impl.ErrorReportingTokenizer#setLazyLocations(boolean)
+     */
+    public void setLazyLocations(boolean lazyLocations) {
+        this.lazyLocations = lazyLocations;
+        if (driver != null) {
+            driver.setLazyLocations(lazyLocations);
+        }
+    }
+
+    public boolean isLazyLocations() {
+        return this.lazyLocations;
+    }
+
+    /**
+     * Sets the executor for tokenizing on a second thread while the tree is
+     * built on the calling thread. <code>null</code> (the default) means
+     * parsing on the calling thread only.
+     * 
+     * @param executor the executor or <code>null</code>
+     * @see nu.validator.htmlparser.io.PipelinedDriver
+     */
+    public void setPipelineExecutor(ExecutorService executor) {
+        this.pipelineExecutor = executor;
+        driver = null;
+    }
+
+    /**
+     * Returns the executor for tokenizing on a second thread.
+     * 
+     * @return the executor or <code>null</code>
+     */
+    public ExecutorService getPipelineExecutor() {
+        return pipelineExecutor;
+    }
+
+    /**
+     * Sets the statistics to fill in during each parse. They are cleared at 
+     * the start of each parse. <code>null</code> (the default) means no 
+     * statistics are collected. Statistics are not collected when a 
+     * pipeline executor has been set.
+     * 
+     * @param statistics the statistics or <code>null</code>
+     * @see nu.validator.htmlparser.impl.ParseStatistics
+     */
+    public void setParseStatistics(ParseStatistics statistics) {
+        this.statistics = statistics;
+        if (driver != null && pipelineExecutor == null) {
+            driver.setStatistics(statistics);
+        }
+    }
+
+    /**
+     * Returns the statistics filled in during each parse.
+     * 
+     * @return the statistics or <code>null</code>
+     */
+    public ParseStatistics getParseStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Sets the resource limits for each parse. <code>null</code> (the 
+     * default) means nothing is limited. A parse that goes over a limit 
+     * throws a <code>ParseLimitExceededException</code>.
+     * 
+     * @param limits the limits or <code>null</code>
+     * @see nu.validator.htmlparser.impl.ParseLimits
+     */
+    public void setParseLimits(ParseLimits limits) {
+        this.limits = limits;
+        if (driver != null) {
+            driver.setLimits(limits);
+        }
+    }
+
+    /**
+     * Returns the resource limits for each parse.
+     * 
+     * @return the limits or <code>null</code>
+     */
+    public ParseLimits getParseLimits() {
+        return limits;
+    }
+
+    /**
+     * Sets the interner for element and attribute names that are not 
+     * built into the parser. By default, a cache shared by all parsers is 
+     * used.
+     * 
+     * @param interner the interner or <code>null</code> for the default
+     * @see nu.validator.htmlparser.impl.LocalNameInterner
+     */
+    public void setInterner(Interner interner) {
+        this.interner = interner;
+        if (driver != null) {
+            driver.setInterner(interner);
+        }
+    }
+
+    /**
+     * Returns the interner set with <code>setInterner()</code>.
+     * 
+     * @return the interner or <code>null</code>
+     */
+    public Interner getInterner() {
+        return interner;
+    }
+
     /**
      * This is a catch-all convenience method for setting name, xmlns, content space, 
      * content non-XML char and comment policies in one go. This does not affect the 
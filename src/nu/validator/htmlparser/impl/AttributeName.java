@@ -255,22 +255,33 @@ public final class AttributeName
         return arr;
     }
 
-    @Inline static int levelOrderBinarySearch(int[] data, int key) {
-        int n = data.length;
-        int i = 0;
-
-        while (i < n) {
-            int val = data[i];
-            if (val < key) {
-                i = 2 * i + 2;
-            } else if (val > key) {
-                i = 2 * i + 1;
-            } else {
-                return i;
-            }
-        }
+    /**
+     * Multiplier for picking the bucket of a hash in the perfect hash table.
+     * Must match the one in <code>GeneratePerfectHashes</code>.
+     */
+    private static final int HASH_MULTIPLIER = 0x9E3779B1;
+
+    /**
+     * Multiplier for picking the slot of a hash with the seed of its bucket.
+     * Must match the one in <code>GeneratePerfectHashes</code>.
+     */
+    private static final int SLOT_MULTIPLIER = 0x85EBCA6B;
 
-        return -1;
+    /**
+     * Returns the index of the only slot where the name with the given hash
+     * can be in the generated tables.
+     *
+     * @param hash
+     *            the value of <code>bufToHash()</code>
+     * @param seeds
+     *            the generated seed table
+     * @return the slot index
+     */
+    @Inline static int perfectHashIndex(@Unsigned int hash, int[] seeds) {
+        @Unsigned int bucket = hash * HASH_MULTIPLIER;
+        @Unsigned int seed = seeds[(bucket >> BUCKET_SHIFT) & BUCKET_MASK];
+        @Unsigned int slot = (hash ^ seed) * SLOT_MULTIPLIER;
+        return (slot >> SLOT_SHIFT) & SLOT_MASK;
     }
 
     /**
@@ -295,10 +306,8 @@ public final class AttributeName
             int length, Interner interner) {
         // XXX deal with offset
         @Unsigned int hash = AttributeName.bufToHash(buf, length);
-        int[] hashes;
-        hashes = AttributeName.ATTRIBUTE_HASHES;
-        int index = levelOrderBinarySearch(hashes, hash);
-        if (index < 0) {
+        int index = perfectHashIndex(hash, AttributeName.ATTRIBUTE_HASH_SEEDS);
+        if (AttributeName.ATTRIBUTE_HASHES[index] != hash) {
             return null;
         }
         AttributeName attributeName = AttributeName.ATTRIBUTE_NAMES[index];
@@ -705,25 +714,6 @@ public final class AttributeName
 //        return bufToHash(name.toCharArray(), name.length());
 //    }
 //
-//    private static void fillLevelOrderArray(List<AttributeName> sorted, int depth,
-//                                            int rootIdx, AttributeName[] levelOrder) {
-//        if (rootIdx >= levelOrder.length) {
-//            return;
-//        }
-//
-//        if (depth > 0) {
-//            fillLevelOrderArray(sorted, depth - 1, rootIdx * 2 + 1, levelOrder);
-//        }
-//
-//        if (!sorted.isEmpty()) {
-//            levelOrder[rootIdx] = sorted.remove(0);
-//        }
-//
-//        if (depth > 0) {
-//            fillLevelOrderArray(sorted, depth - 1, rootIdx * 2 + 2, levelOrder);
-//        }
-//    }
-//
 //    /**
 //     * Regenerate self
 //     *
@@ -753,24 +743,8 @@ public final class AttributeName
 //                    + ";");
 //        }
 //
-//        LinkedList<AttributeName> sortedNames = new LinkedList<AttributeName>();
-//        Collections.addAll(sortedNames, ATTRIBUTE_NAMES);
-//        AttributeName[] levelOrder = new AttributeName[ATTRIBUTE_NAMES.length];
-//        int bstDepth = (int) Math.ceil(Math.log(ATTRIBUTE_NAMES.length) / Math.log(2));
-//        fillLevelOrderArray(sortedNames, bstDepth, 0, levelOrder);
-//
-//        System.out.println("private final static @NoLength AttributeName[] ATTRIBUTE_NAMES = {");
-//        for (int i = 0; i < levelOrder.length; i++) {
-//            AttributeName att = levelOrder[i];
-//            System.out.println(att.constName() + ",");
-//        }
-//        System.out.println("};");
-//        System.out.println("private final static int[] ATTRIBUTE_HASHES = {");
-//        for (int i = 0; i < levelOrder.length; i++) {
-//            AttributeName att = levelOrder[i];
-//            System.out.println(Integer.toString(att.hash()) + ",");
-//        }
-//        System.out.println("};");
+//        // The lookup tables at the end of the class are generated with
+//        // nu.validator.htmlparser.generator.GeneratePerfectHashes.
 //    }
 
     // START GENERATED CODE
@@ -1272,1004 +1246,1102 @@ public final class AttributeName
     public static final AttributeName FY = new AttributeName(ALL_NO_NS, SAME_LOCAL("fy"), ALL_NO_PREFIX, NCNAME_HTML | NCNAME_FOREIGN | NCNAME_LANG);
     public static final AttributeName RY = new AttributeName(ALL_NO_NS, SAME_LOCAL("ry"), ALL_NO_PREFIX, NCNAME_HTML | NCNAME_FOREIGN | NCNAME_LANG);
     public static final AttributeName REFY = new AttributeName(ALL_NO_NS, SVG_DIFFERENT("refy", "refY"), ALL_NO_PREFIX, NCNAME_HTML | NCNAME_FOREIGN | NCNAME_LANG);
+    private final static int BUCKET_SHIFT = 26;
+    private final static int BUCKET_MASK = 63;
+    private final static int SLOT_SHIFT = 23;
+    private final static int SLOT_MASK = 511;
     private final static @NoLength AttributeName[] ATTRIBUTE_NAMES = {
+    TRANSFORM,
+    ONKEYDOWN,
+    SCRIPTMINSIZE,
+    MARKER_END,
+    XREF,
+    TO,
+    ONACTIVATE,
+    AUTOFOCUS,
+    ICON,
+    RESTART,
+    Z,
+    HIDDEN,
+    MINSIZE,
+    XMLNS,
+    LOCAL,
+    CHAROFF,
+    ONSELECT,
+    ONMOUSEENTER,
+    LQUOTE,
+    ONREPEAT,
+    ACCESSKEY,
+    LIMITINGCONEANGLE,
+    ONSTOP,
+    SCROLLING,
+    ARIA_DROPEFFECT,
+    SCRIPTLEVEL,
+    COLOR_INTERPOLATION,
+    MATHBACKGROUND,
+    POINTER_EVENTS,
     FILL,
-    DATETIME,
-    CHARSET,
-    CLEAR,
-    IMAGESRCSET,
-    COLOR_INTERPOLATION_FILTERS,
-    LIST,
+    MARKER_START,
+    ONPASTE,
+    REFERRERPOLICY,
+    STOP_COLOR,
+    CONTROLS,
+    FLOOD_COLOR,
+    CLOSE,
     ARIA_DISABLED,
+    MODE,
+    ONDRAGENTER,
+    COORDS,
+    LINK,
+    FRAME,
+    ONDRAGEND,
+    AMPLITUDE,
+    ARIA_SELECTED,
+    MASK,
+    START,
+    FORMAT,
+    ONSTART,
     SPECULAREXPONENT,
-    ONKEYUP,
-    DOMINANT_BASELINE,
-    OPEN,
-    STROKE_WIDTH,
-    MINSIZE,
+    ARIA_LEVEL,
+    WIDTH,
+    X2,
+    XLINK_ACTUATE,
+    HIGH,
+    REPLACE,
     RESULT,
-    Y,
-    ARIA_MULTISELECTABLE,
-    ROTATE,
-    ACCENTUNDER,
-    ONREPEAT,
-    SELECTION,
-    LIGHTING_COLOR,
-    BACKGROUND,
-    FROM,
-    XLINK_TITLE,
+    RULES,
+    CHAR,
+    MARKERWIDTH,
+    BGCOLOR,
+    DEPTH,
+    SURFACESCALE,
+    ALIGNMENT_BASELINE,
+    RENDERING_INTENT,
+    ONREADYSTATECHANGE,
+    NORESIZE,
     ONMOUSELEAVE,
-    SCOPED,
+    KERNING,
+    CLIPPATHUNITS,
+    TARGETX,
+    FORM,
+    COLUMNSPAN,
+    ARIA_RELEVANT,
+    ACCUMULATE,
+    ONBEFOREPRINT,
+    Y1,
+    ARIA_FLOWTO,
+    ARIA_LABELLEDBY,
+    ROWSPACING,
+    ALT,
     AS,
-    ENCTYPE,
-    TEXTLENGTH,
-    RX,
-    MIN,
-    K3,
-    ARIA_CHANNEL,
-    ARIA_VALUENOW,
-    LOCAL,
-    ONABORT,
-    LOADING,
-    BASEPROFILE,
+    VSPACE,
+    REFY,
+    CY,
+    OBJECT,
+    ARIA_REQUIRED,
+    ARIA_INVALID,
+    ARIA_AUTOCOMPLETE,
+    COLS,
+    REPEATDUR,
+    FRAMESPACING,
+    CLASS,
+    DECLARE,
+    ONSCROLL,
+    CLIP_PATH,
+    CLOSURE,
     INTEGRITY,
-    ONBEGIN,
-    REPEATCOUNT,
-    SURFACESCALE,
-    MARGINWIDTH,
-    PATHLENGTH,
-    RADIOGROUP,
-    MASKUNITS,
-    STYLE,
-    ASYNC,
+    ONMOUSEOVER,
+    COLSPAN,
+    LONGDESC,
+    ONDRAG,
+    ROLE,
+    XLINK_ROLE,
+    ROWS,
+    ONUNLOAD,
+    FONTFAMILY,
+    DISPLAY,
+    VALUETYPE,
+    DUR,
     POINTSATZ,
-    AUTOPLAY,
-    ONLOAD,
-    RQUOTE,
-    DISPLAYSTYLE,
-    TEMPLATE,
-    ONDRAGDROP,
-    CLOSURE,
-    SUBSCRIPTSHIFT,
-    FONT_FAMILY,
-    PATTERNUNITS,
-    COLUMNSPACING,
-    VIEWBOX,
-    DY,
-    END,
-    SRC,
-    Y1,
-    ARIA_GRAB,
-    ARIA_REQUIRED,
-    ARIA_ATOMIC,
-    ARIA_OWNS,
-    ARIA_BUSY,
+    K2,
+    FONTSTYLE,
+    STROKE_DASHARRAY,
+    ALT,
+    SCOPE,
+    VALUES,
+    TYPE,
+    AXIS,
+    BACKGROUND,
+    DOMINANT_BASELINE,
+    NOMODULE,
+    SHAPE,
+    ARIA_TEMPLATEID,
+    ARIA_ACTIVEDESCENDANT,
+    MARKER_MID,
+    BEGIN,
+    XLINK_ARCROLE,
+    ARIA_DATATYPE,
+    ISMAP,
+    BASE,
+    ARIA_LIVE,
+    COLUMNLINES,
+    FONT_SIZE,
+    AZIMUTH,
+    ALT,
+    MAX,
+    FONT_WEIGHT,
+    STRETCHY,
+    NOHREF,
+    OPTIMUM,
+    ONBEFORECUT,
+    FY,
+    LABEL,
+    DRAGGABLE,
+    ONDRAGLEAVE,
+    SELECTION,
+    KEYTIMES,
+    STROKE_OPACITY,
+    ARIA_CHANNEL,
+    DX,
+    SPAN,
     EQUALCOLUMNS,
+    ALIGN,
+    NOWRAP,
+    CHARSET,
+    MASKCONTENTUNITS,
+    GLYPHREF,
+    PATH,
     ONDATAAVAILABLE,
-    XCHANNELSELECTOR,
-    ONSCROLL,
-    GRADIENTTRANSFORM,
-    SRCDOC,
-    ACCEPT,
-    CODETYPE,
-    ENTERKEYHINT,
-    MODE,
-    OTHER,
-    ONBEFORECOPY,
-    REPEAT,
-    SUPERSCRIPTSHIFT,
-    HREF,
-    ALIGNMENTSCOPE,
-    LARGEOP,
-    TARGETX,
-    MATHCOLOR,
-    ACTION,
-    MEDIA,
-    SCRIPTMINSIZE,
-    MARKER_END,
-    CELLSPACING,
-    ONBLUR,
-    FORMAT,
-    SYMMETRIC,
-    KERNELMATRIX,
-    POINTER_EVENTS,
-    TRANSFORM,
-    XMLNS,
-    COLOR_PROFILE,
-    FLOOD_OPACITY,
-    ONFOCUSIN,
-    ONMOUSEOUT,
-    STROKE_LINEJOIN,
-    CLIP_RULE,
-    HTTP_EQUIV,
-    SHAPE,
-    ATTRIBUTETYPE,
-    ONDRAGENTER,
-    ONDRAGSTART,
-    CLASSID,
-    KEYSYSTEM,
-    ROWSPAN,
-    CONTROLS,
-    FONT_WEIGHT,
-    FONTSIZE,
-    ONSTART,
-    SYSTEMLANGUAGE,
-    ACCUMULATE,
-    ONSUBMIT,
-    VALUE,
-    DX,
-    BY,
-    RY,
-    DIR,
-    IN2,
-    REL,
-    R,
-    K1,
-    X2,
-    XML_SPACE,
-    ARIA_LABELLEDBY,
-    ARIA_SELECTED,
-    ARIA_PRESSED,
-    ARIA_SECRET,
-    ARIA_TEMPLATEID,
-    ARIA_MULTILINE,
-    ARIA_RELEVANT,
-    ARIA_AUTOCOMPLETE,
-    ARIA_HASPOPUP,
-    DEFAULT,
-    HSPACE,
-    MOVABLELIMITS,
-    RSPACE,
-    SEPARATORS,
-    ENABLE_BACKGROUND,
-    CHECKED,
+    LOW,
+    RX,
+    PRESERVEASPECTRATIO,
     OPACITY,
-    BORDER,
-    HIDDEN,
-    RENDERING_INTENT,
-    SANDBOX,
-    ACCESSKEY,
-    BASEFREQUENCY,
-    BASE,
-    CITE,
-    EDGEMODE,
-    INDEX,
-    LABEL,
-    NORESIZE,
-    ONSELECT,
-    ONREADYSTATECHANGE,
+    CODEBASE,
+    IMAGESIZES,
+    GRADIENTUNITS,
+    COLOR_RENDERING,
+    DIFFUSECONSTANT,
+    ARIA_CHECKED,
     ORIENT,
-    ONBEFOREPASTE,
-    ONKEYDOWN,
-    RULES,
-    SELECTED,
-    SCHEME,
-    TYPE,
-    ONAFTERPRINT,
-    ALIGN,
-    HEIGHT,
-    LANGUAGE,
-    LENGTHADJUST,
-    PING,
-    ARCHIVE,
-    METHOD,
-    NOSHADE,
-    ALTIMG,
+    XML_SPACE,
+    ALT,
+    FX,
+    RQUOTE,
+    COLUMNWIDTH,
+    ARIA_POSINSET,
+    ACTIONTYPE,
+    RY,
     ADDITIVE,
-    DEFINITIONURL,
-    ONFINISH,
-    SCRIPTLEVEL,
-    VALIGN,
-    MARKER_MID,
-    MARKER_START,
-    MASKCONTENTUNITS,
-    DECLARE,
-    MAXLENGTH,
-    ROWLINES,
-    TITLE,
-    FRAME,
-    PROMPT,
-    USEMAP,
+    FONTSIZE,
+    ENTERKEYHINT,
+    ROWSPAN,
+    X,
     IN,
-    KERNELUNITLENGTH,
-    ONEND,
-    POINTSATX,
-    STANDBY,
-    WHEN,
-    XLINK_ARCROLE,
-    XLINK_SHOW,
-    AUTOFOCUS,
-    COLOR_INTERPOLATION,
-    EXPONENT,
-    NUMOCTAVES,
-    ONMOUSEENTER,
-    ONZOOM,
-    ONMOUSEUP,
-    ONMOUSEDOWN,
-    STROKE_DASHARRAY,
-    STROKE,
-    COMPACT,
-    CLIPPATHUNITS,
-    GLYPH_ORIENTATION_HORIZONTAL,
-    LOOP,
-    SHAPE_RENDERING,
-    STOP_COLOR,
-    ABBR,
-    COORDS,
-    NOHREF,
-    ONDRAGEND,
-    OPERATOR,
-    STARTOFFSET,
-    BIAS,
-    COLS,
-    CLASS,
-    LOWSRC,
-    PRESERVEALPHA,
-    ROWS,
-    ALTTEXT,
-    CONTEXTMENU,
-    FILTER,
-    FONT_STYLE,
-    FONT_SIZE_ADJUST,
-    KEYTIMES,
-    RT,
-    PATTERNTRANSFORM,
-    RESTART,
-    TEXT_DECORATION,
-    WRITING_MODE,
-    COLUMNLINES,
-    GROUPALIGN,
-    REQUIRED,
-    VALUES,
-    VIEWTARGET,
+    ONBEFOREUNLOAD,
+    STROKE_LINECAP,
+    SCRIPTSIZEMULTIPLIER,
+    ONSUBMIT,
+    SPECULARCONSTANT,
+    MARKERHEIGHT,
+    DEFER,
+    MAXLENGTH,
+    REQUIREDFEATURES,
+    TEXT_ANCHOR,
+    XLINK_TITLE,
+    ARIA_VALUENOW,
     CX,
-    FX,
-    REFX,
-    CY,
-    FY,
-    REFY,
     ALT,
-    DUR,
-    FOR,
-    LOW,
-    MAX,
-    REV,
+    STEP,
+    KEYSYSTEM,
+    INTERCEPT,
+    ONDBLCLICK,
+    TABLEVALUES,
+    MATHVARIANT,
+    POSTER,
+    ARIA_GRAB,
+    TARGETY,
+    ATTRIBUTENAME,
+    SRCDOC,
+    BASELINE_SHIFT,
+    BASELINE,
+    ALT,
+    ALT,
+    SIZES,
+    IS,
+    ONZOOM,
     D,
-    X,
-    Z,
-    X1,
-    K2,
-    Y2,
-    K4,
+    FRAMEBORDER,
+    ALT,
+    CHECKED,
+    SEPARATORS,
+    WRITING_MODE,
+    DEFAULT,
+    ALTIMG,
+    KERNELMATRIX,
+    CELLPADDING,
+    OVERFLOW,
     XML_LANG,
-    ARIA_VALUEMAX,
-    ARIA_DESCRIBEDBY,
-    ARIA_CHECKED,
-    ARIA_DROPEFFECT,
-    ARIA_EXPANDED,
-    ARIA_LEVEL,
-    ARIA_HIDDEN,
-    ARIA_POSINSET,
-    ARIA_INVALID,
-    ARIA_VALUEMIN,
-    ARIA_CONTROLS,
+    ONCUT,
+    CONTENTEDITABLE,
+    LOOP,
+    ONMOUSEDOWN,
+    XLINK_TYPE,
+    REQUIREDEXTENSIONS,
+    ELEVATION,
     ARIA_READONLY,
-    ARIA_ACTIVEDESCENDANT,
-    ARIA_DATATYPE,
+    TABINDEX,
+    MATHSIZE,
+    FILTERUNITS,
     ARIA_SORT,
-    ARIA_FLOWTO,
-    ARIA_LIVE,
-    ARIA_SETSIZE,
-    DISABLED,
-    DATA,
-    EQUALROWS,
-    ISMAP,
-    LSPACE,
-    NOTATION,
-    ONPASTE,
-    ROWALIGN,
-    SEPARATOR,
-    VSPACE,
-    YCHANNELSELECTOR,
-    ONDBLCLICK,
-    CALCMODE,
-    FENCE,
-    ONACTIVATE,
+    AUTOPLAY,
+    R,
+    LETTER_SPACING,
+    PROPERTY,
+    LIGHTING_COLOR,
+    FILL_OPACITY,
+    GRADIENTTRANSFORM,
+    ONINVALID,
+    ONFINISH,
     SPACING,
-    SPECULARCONSTANT,
-    ID,
-    GRADIENTUNITS,
-    HEADERS,
-    READONLY,
-    SEED,
-    STDDEVIATION,
-    WORD_SPACING,
-    ACCEPT_CHARSET,
-    ACCENT,
-    BEVELLED,
-    BASELINE_SHIFT,
-    BASELINE,
-    CODE,
-    CODEBASE,
-    DEFER,
+    PATTERNUNITS,
+    FONT_SIZE_ADJUST,
+    TARGET,
+    ARIA_EXPANDED,
+    SCOPED,
+    ARIA_MULTISELECTABLE,
+    MEDIA,
+    ONMOUSEOUT,
+    YCHANNELSELECTOR,
     DIRECTION,
-    EDGE,
-    FACE,
-    INTERCEPT,
-    LINEBREAK,
-    LINETHICKNESS,
-    NAME,
-    ONBEFOREUNLOAD,
-    OBJECT,
-    ORDER,
-    ONRESET,
-    ONMESSAGE,
-    ONBEFOREPRINT,
-    ORIENTATION,
-    ONSELECTSTART,
-    ONKEYPRESS,
-    ONBEFORECUT,
-    ONRESIZE,
-    REFERRERPOLICY,
-    ROLE,
-    REPEATDUR,
-    SIZES,
-    STRETCHY,
-    SPREADMETHOD,
-    SIZE,
-    DIFFUSECONSTANT,
-    HREFLANG,
-    PROFILE,
-    XREF,
-    ALIGNMENT_BASELINE,
-    DRAGGABLE,
-    IMAGESIZES,
-    IMAGE_RENDERING,
-    LANG,
-    LONGDESC,
-    MARGINHEIGHT,
     ORIGIN,
-    TARGET,
-    TARGETY,
-    HIGH,
-    MATHBACKGROUND,
-    MATHVARIANT,
-    MATHSIZE,
-    ONCHANGE,
-    PATH,
-    ACTIONTYPE,
-    ACTIVE,
-    BEGIN,
-    DIVISOR,
-    LIMITINGCONEANGLE,
-    MANIFEST,
-    OPTIMUM,
-    RADIUS,
-    SCRIPTSIZEMULTIPLIER,
-    TABINDEX,
-    VISIBILITY,
-    LINK,
-    MARKERHEIGHT,
-    MASK,
-    MARKERWIDTH,
-    MARKERUNITS,
-    AMPLITUDE,
-    CELLPADDING,
-    FILL_RULE,
-    FILL_OPACITY,
-    ONCLICK,
-    REPLACE,
-    SCALE,
-    TABLEVALUES,
-    AZIMUTH,
-    FRAMEBORDER,
-    FRAMESPACING,
-    FORM,
-    PRIMITIVEUNITS,
-    SUMMARY,
-    ZOOMANDPAN,
-    ALINK,
-    ICON,
-    KERNING,
-    ONUNLOAD,
-    ONINVALID,
-    ONINPUT,
-    POINTS,
+    FROM,
+    GLYPH_ORIENTATION_VERTICAL,
+    LARGEOP,
+    LENGTHADJUST,
     POINTSATY,
-    SPAN,
     TRANSFORM_ORIGIN,
-    VLINK,
-    XLINK_HREF,
-    XLINK_ROLE,
-    XMLNS_XLINK,
-    XLINK_TYPE,
-    XLINK_ACTUATE,
-    AUTOCOMPLETE,
-    BGCOLOR,
-    COLOR_RENDERING,
-    COLOR,
-    ENCODING,
-    FLOOD_COLOR,
-    LQUOTE,
-    NOMODULE,
+    ORIENTATION,
+    REFX,
+    ALT,
+    ARIA_VALUEMIN,
+    MAXSIZE,
+    ONSELECTSTART,
+    SHAPE_RENDERING,
+    END,
+    DATETIME,
+    ARIA_OWNS,
+    FILL_RULE,
+    K4,
+    BEVELLED,
+    SANDBOX,
+    FONTWEIGHT,
+    VIEWBOX,
+    STROKE_WIDTH,
+    MARKERUNITS,
+    ACCEPT_CHARSET,
     ONMOUSEWHEEL,
-    ONMOUSEOVER,
-    ONCONTEXTMENU,
-    ONCOPY,
-    ONMOUSEMOVE,
-    ONFOCUS,
-    ONFOCUSOUT,
-    TO,
-    STROKE_LINECAP,
-    STROKE_DASHOFFSET,
-    STROKE_MITERLIMIT,
-    SCROLLING,
-    STROKE_OPACITY,
-    CLIP,
-    CLIP_PATH,
-    DISPLAY,
-    GLYPH_ORIENTATION_VERTICAL,
-    GLYPHREF,
+    CLASSID,
+    ALT,
     KEYPOINTS,
-    PROPERTY,
-    STEP,
-    SCOPE,
-    SLOPE,
-    STOP_OPACITY,
-    WRAP,
-    ATTRIBUTENAME,
-    CHAR,
-    CHAROFF,
-    NOWRAP,
-    ONDRAG,
-    ONDRAGOVER,
-    ONDROP,
-    ONERROR,
-    OVERFLOW,
-    ONDRAGLEAVE,
-    START,
-    AXIS,
-    COLSPAN,
-    CROSSORIGIN,
     CURSOR,
-    CLOSE,
-    IS,
-    KEYSPLINES,
-    MAXSIZE,
+    PRIMITIVEUNITS,
+    MARGINWIDTH,
+    ARIA_HASPOPUP,
     OFFSET,
-    PRESERVEASPECTRATIO,
-    ROWSPACING,
-    SRCSET,
-    VERSION,
-    CONTENTEDITABLE,
-    CONTENT,
-    DEPTH,
-    FONT_STRETCH,
-    FONTWEIGHT,
-    FONTSTYLE,
-    FONTFAMILY,
+    BASEFREQUENCY,
+    LSPACE,
+    BY,
+    ACCENT,
+    ABBR,
+    ONCOPY,
+    VLINK,
+    PING,
+    ARIA_ATOMIC,
+    HREFLANG,
+    ASYNC,
+    STYLE,
+    STROKE_MITERLIMIT,
+    SCALE,
+    DY,
     FONT_VARIANT,
-    FILTERUNITS,
-    FONT_SIZE,
-    LETTER_SPACING,
     MULTIPLE,
-    ONSTOP,
-    POSTER,
-    PATTERN,
-    PATTERNCONTENTUNITS,
-    STITCHTILES,
-    TEXT_RENDERING,
-    TEXT_ANCHOR,
-    TEXT,
-    WIDTH,
-    COLUMNSPAN,
-    COLUMNALIGN,
-    COLUMNWIDTH,
-    INPUTMODE,
-    ONCUT,
-    REQUIREDFEATURES,
-    REQUIREDEXTENSIONS,
-    VALUETYPE,
-    ELEVATION,
+    ARIA_BUSY,
+    ONKEYUP,
+    ONMOUSEMOVE,
+    POINTSATX,
+    MATHCOLOR,
+    ONFOCUSIN,
+    X1,
+    REPEATCOUNT,
+    STROKE_LINEJOIN,
+    CONTEXTMENU,
+    REPEAT,
+    HREF,
+    SELECTED,
+    ENCTYPE,
+    IMAGESRCSET,
+    K3,
+    ACTION,
+    ATTRIBUTETYPE,
+    ONDRAGOVER,
+    TEXTLENGTH,
+    VALUE,
+    FACE,
+    HEADERS,
+    ONMESSAGE,
+    REV,
+    ZOOMANDPAN,
+    FONT_STYLE,
+    FONT_FAMILY,
+    INDEX,
+    STOP_OPACITY,
+    SRC,
+    LANG,
+    VIEWTARGET,
+    DATA,
+    ONFOCUS,
+    SEED,
+    ACTIVE,
+    MARGINHEIGHT,
+    COLUMNALIGN,
+    READONLY,
+    COLUMNSPACING,
+    STANDBY,
+    ARIA_SECRET,
+    GROUPALIGN,
+    INPUTMODE,
+    ONABORT,
+    SYMMETRIC,
+    FOR,
+    WORD_SPACING,
+    STDDEVIATION,
+    SYSTEMLANGUAGE,
+    ARCHIVE,
+    KERNELUNITLENGTH,
+    CONTENT,
+    ONINPUT,
+    ONBLUR,
+    VERSION,
+    HSPACE,
+    LANGUAGE,
+    LINETHICKNESS,
+    BASEPROFILE,
+    NAME,
+    DISABLED,
+    KEYSPLINES,
+    WHEN,
+    CITE,
+    SCHEME,
+    ARIA_HIDDEN,
+    OPERATOR,
+    ONMOUSEUP,
+    ARIA_MULTILINE,
+    CROSSORIGIN,
+    ONDRAGSTART,
+    BIAS,
+    PATHLENGTH,
+    ONCHANGE,
+    ONBEFORECOPY,
+    EQUALROWS,
+    ONDROP,
+    ALTTEXT,
+    TEXT_DECORATION,
+    ORDER,
+    ACCEPT,
+    XLINK_HREF,
+    CELLSPACING,
+    SEPARATOR,
+    PROMPT,
+    ENABLE_BACKGROUND,
+    XLINK_SHOW,
+    ONBEGIN,
+    ARIA_SETSIZE,
+    REQUIRED,
+    STARTOFFSET,
+    CLIP,
+    ROWALIGN,
+    ONERROR,
+    ALINK,
+    ARIA_CONTROLS,
+    HTTP_EQUIV,
+    PATTERN,
+    NUMOCTAVES,
+    EDGEMODE,
+    ALT,
+    PRESERVEALPHA,
+    USEMAP,
+    ENCODING,
+    ACCENTUNDER,
+    REL,
+    RSPACE,
+    ONBEFOREPASTE,
+    GLYPH_ORIENTATION_HORIZONTAL,
+    ONCLICK,
+    ONLOAD,
+    ALT,
+    ONCONTEXTMENU,
+    ALT,
+    XMLNS_XLINK,
+    EDGE,
+    SPREADMETHOD,
+    ALT,
+    ALT,
+    CODETYPE,
+    MANIFEST,
+    PATTERNCONTENTUNITS,
+    METHOD,
+    ALIGNMENTSCOPE,
+    MIN,
+    FENCE,
+    ONKEYPRESS,
+    ARIA_PRESSED,
+    ONFOCUSOUT,
+    IMAGE_RENDERING,
+    MASKUNITS,
+    ROWLINES,
+    ONEND,
+    WRAP,
+    SLOPE,
+    COMPACT,
+    ID,
+    NOSHADE,
+    Y,
+    COLOR_PROFILE,
+    STROKE,
+    DISPLAYSTYLE,
+    SUPERSCRIPTSHIFT,
+    LIST,
+    ONAFTERPRINT,
+    TEXT_RENDERING,
+    ROTATE,
+    SUBSCRIPTSHIFT,
+    POINTS,
+    ONRESIZE,
+    RADIOGROUP,
+    LOWSRC,
+    LOADING,
+    ARIA_VALUEMAX,
+    ARIA_DESCRIBEDBY,
+    STITCHTILES,
+    CLIP_RULE,
+    VALIGN,
+    SUMMARY,
+    TEMPLATE,
+    PROFILE,
+    CLEAR,
+    HEIGHT,
+    CALCMODE,
+    Y2,
+    K1,
+    RADIUS,
+    MOVABLELIMITS,
+    EXPONENT,
+    BORDER,
+    RT,
+    DIVISOR,
+    AUTOCOMPLETE,
+    ONRESET,
+    STROKE_DASHOFFSET,
+    VISIBILITY,
+    SRCSET,
+    FLOOD_OPACITY,
+    TITLE,
+    TEXT,
+    XCHANNELSELECTOR,
+    FILTER,
+    FONT_STRETCH,
+    DEFINITIONURL,
+    ONDRAGDROP,
+    COLOR_INTERPOLATION_FILTERS,
+    IN2,
+    CODE,
+    OPEN,
+    SIZE,
+    COLOR,
+    LINEBREAK,
+    PATTERNTRANSFORM,
+    DIR,
+    OTHER,
+    NOTATION,
     };
     private final static int[] ATTRIBUTE_HASHES = {
-    1867462756,
-    1748971848,
-    1966454567,
-    1681174213,
-    1785053243,
-    1916337499,
-    2004957380,
-    1680165421,
-    1723336432,
-    1754899031,
-    1816104145,
-    1905628916,
-    1924738716,
-    1988788535,
-    2024763702,
-    71827457,
-    1680282148,
-    1689324870,
-    1747295467,
-    1754579720,
-    1756889417,
-    1803561214,
-    1848600826,
-    1884295780,
-    1910441627,
-    1922665052,
-    1941253366,
-    1980235778,
-    2001210183,
-    2009141482,
-    2073034754,
-    57205395,
-    911736834,
-    1680181996,
-    1680368221,
-    1685882101,
-    1704526375,
-    1736416327,
-    1747906667,
-    1751755561,
-    1754698327,
-    1756360955,
-    1773606972,
-    1787365531,
-    1805715690,
-    1823574314,
-    1854497001,
-    1874270021,
-    1898415413,
-    1906423097,
-    1915025672,
-    1922319046,
-    1924206934,
-    1933508940,
-    1942026440,
-    1972904522,
-    1983416119,
-    1991643278,
-    2001710299,
-    2007064812,
-    2016910397,
-    2060474743,
-    2082471938,
-    53006051,
-    60345635,
-    885522434,
-    1680095865,
-    1680165533,
-    1680229115,
-    1680343801,
-    1680437801,
-    1682440540,
-    1687620127,
-    1692408896,
-    1721189160,
-    1733874289,
-    1740096054,
-    1747479606,
-    1748503880,
-    1749549708,
-    1753550036,
-    1754644293,
-    1754835516,
-    1756147974,
-    1756762256,
-    1767725700,
-    1781007934,
-    1786775671,
-    1791068279,
-    1804081401,
-    1814560070,
-    1820727381,
+    1908462185,
+    1754927689,
     1824159037,
     1854366938,
-    1865910331,
-    1872343590,
-    1884079398,
-    1890996553,
-    1903612236,
-    1906408542,
-    1908462185,
+    1776114564,
+    1923088386,
+    1721305962,
+    1915341049,
+    1902640276,
+    2008084807,
+    72351745,
+    1734182982,
+    1988788535,
     1910503637,
-    1916210285,
-    1917953597,
-    1922470745,
-    1922679386,
-    1924570799,
-    1932986153,
-    1935597338,
-    1941438085,
-    1965561677,
-    1972744939,
-    1972962123,
-    1983266615,
-    1987410233,
-    1991021879,
+    1685882101,
+    1966442279,
+    1754612424,
+    1922413292,
+    1921061206,
+    1754579720,
+    1747309881,
+    1820262641,
+    2006459190,
+    1924629705,
+    1680165487,
+    1823829083,
+    1916278099,
+    1804036350,
+    1906408542,
+    1867462756,
+    1854466380,
+    1687751191,
+    1756190926,
+    1941454586,
     2000125224,
-    2001634459,
-    2001898808,
+    1917857531,
+    1983432389,
+    1680165421,
+    1753550036,
+    1972744939,
+    1966439670,
+    1853862084,
+    1884246821,
+    1972863609,
+    1864698185,
+    1680165437,
+    1854464212,
+    1975062341,
+    1884079398,
     2006516551,
-    2008408414,
+    1723336432,
+    1680181850,
+    2010716309,
+    901775362,
+    1910572893,
+    1801312388,
+    1873590471,
+    2024763702,
+    1756219733,
+    1966384692,
+    1854474395,
+    1915757815,
+    2000752725,
+    1773606972,
+    1780975314,
+    1739583824,
+    1754647074,
+    1754434872,
+    1922665052,
+    1903659239,
+    1933145837,
+    1791068279,
+    1884343396,
+    2016711994,
+    1680345965,
     2015950026,
-    2023146024,
-    2026975253,
-    2065694722,
-    2081423362,
-    2089811970,
-    52488851,
-    55077603,
-    59825747,
-    68157441,
-    878182402,
-    901775362,
-    1037879561,
+    1754792749,
+    885522434,
+    1680433915,
     1680159327,
-    1680165437,
-    1680165692,
-    1680198203,
-    1680231247,
-    1680315086,
-    1680345965,
+    1991220282,
+    50917059,
+    1980235778,
+    1691145478,
+    2091784484,
+    2081947650,
+    1754606246,
+    1680165533,
+    1680230940,
     1680413393,
-    1680452349,
-    1681879063,
-    1683805446,
-    1686731997,
-    1689048326,
-    1689839946,
-    1699185409,
-    1714763319,
-    1721347639,
-    1731048742,
-    1734182982,
-    1739583824,
-    1740130375,
-    1747309881,
-    1747800157,
+    1983347764,
+    1756471625,
+    1884267068,
+    1983461061,
+    1866496199,
+    1721189160,
+    1933123337,
+    1983416119,
+    1751755561,
+    1922413307,
+    1983157559,
+    1786821704,
+    1972656710,
+    1756302628,
+    1910441770,
+    1991392548,
+    1905541832,
+    2001710298,
+    1933369607,
+    2026893641,
+    52489043,
+    1906423097,
+    894959618,
+    2001669449,
+    1924462384,
+    50917059,
+    1941435445,
+    2026741958,
+    1757421892,
+    1982254612,
+    1848600826,
+    1816104145,
+    1921977416,
+    1941438085,
+    1680231247,
+    1680345685,
+    1854285018,
+    1814986837,
+    1910441773,
+    1680347981,
+    1684319541,
     1748021284,
-    1748566068,
-    1749350104,
-    1751507685,
+    1680446153,
+    2016787611,
+    2001898809,
+    1881750231,
+    50917059,
+    57210387,
+    2001634459,
+    1756804936,
+    1972196486,
+    1822002839,
+    1754907227,
+    2083520514,
     1753049109,
-    1754434872,
-    1754612424,
-    1754647074,
-    1754794646,
-    1754860061,
-    1754927689,
-    1756219733,
-    1756704824,
-    1756836998,
-    1757421892,
-    1771569964,
+    1782518297,
+    1972996699,
+    1756889417,
+    2004199576,
+    1924773438,
+    1680181996,
+    2065694722,
+    1907660596,
+    1682440540,
     1780879045,
-    1784574102,
-    1786622296,
+    1972151670,
+    1966454567,
+    1854497008,
+    1934970504,
+    1805715716,
+    1687620127,
+    56685811,
+    2073034754,
+    1990107683,
+    1721347639,
+    1748552744,
+    1785051290,
+    1733919469,
+    1916247343,
+    1765800271,
+    1680165436,
+    1754794646,
+    1037879561,
+    50917059,
+    2066743298,
+    1924206934,
+    2017010843,
+    1680198381,
+    1814558026,
+    2089811970,
+    1814656840,
+    2001898808,
+    1749549708,
+    1991021879,
+    71303169,
+    1900544002,
+    1754546894,
+    1924443742,
+    1823841492,
+    2023146024,
+    1723336528,
+    1854302364,
+    1748869205,
+    1871251689,
+    2024647008,
+    2009079867,
+    1910441627,
+    1680368221,
+    2065170434,
+    50917059,
+    1941286708,
+    1987410233,
+    1751679545,
+    1704262346,
+    1874698443,
+    1804069019,
+    2006824246,
+    1680095865,
+    1791070327,
+    1965512429,
+    1740096054,
+    1747839118,
+    1747939528,
+    50917059,
+    50917059,
+    1756737685,
+    1984430082,
+    1922567078,
+    60817409,
+    1884142379,
+    50917059,
+    1714763319,
+    1689839946,
+    2010452700,
+    1681879063,
+    1814517574,
+    1903612236,
+    1865910347,
+    1972922984,
+    1038063816,
+    2023342821,
+    2000096287,
+    1937777860,
+    1922699851,
+    1910507338,
+    2024794274,
+    2034765641,
+    1680323325,
+    1824377064,
+    1804235064,
+    2001826027,
+    1680411449,
+    1915025672,
+    68157441,
+    2004846654,
+    1939976792,
+    1803561214,
+    1867620412,
+    1733874289,
+    1905672729,
+    1821958888,
+    1723309623,
+    2007064812,
+    2001814704,
+    1790814502,
+    1680165613,
+    1941253366,
+    1680282148,
+    1820727381,
+    1922679386,
+    1692933184,
+    1749027145,
+    1788254870,
+    1884295780,
+    1934917290,
+    1786775671,
     1786851500,
+    1906421049,
+    1908316832,
+    1754798923,
+    2075005220,
+    50917059,
+    1680251485,
+    1988784439,
+    1754858317,
+    1941409583,
+    53006051,
+    1748971848,
+    1680343801,
+    1867448617,
+    928514050,
+    1747792072,
+    1740130375,
+    2001634458,
+    2060474743,
+    1924738716,
+    1854497003,
+    1747299630,
+    1922400908,
+    1983266615,
+    50917059,
+    1937336473,
+    1983398182,
+    1889633006,
+    1787365531,
+    1680452349,
+    1989522022,
+    1747800157,
+    1685902598,
+    2081423362,
+    1747446838,
+    1965349396,
+    1922607670,
+    1909438149,
     1788842244,
-    1797886599,
-    1804054854,
-    1804405895,
-    1814517574,
-    1814656840,
-    1816178925,
-    1821958888,
-    1823829083,
-    1825437894,
-    1854285018,
-    1854466380,
-    1854497008,
-    1866496199,
-    1871251689,
-    1873656984,
-    1874788501,
-    1884246821,
-    1889569526,
-    1891937366,
-    1900544002,
-    1903759600,
-    1905754853,
+    1680229115,
+    1767875272,
+    1898415413,
+    1874270021,
+    1924583073,
+    1874261045,
+    2082471938,
+    2001732764,
+    2005342360,
+    1680437801,
+    1754899031,
+    1922665179,
     1906419001,
+    1804081401,
+    1922470745,
+    884998146,
+    1756360955,
+    1924570799,
+    2000162011,
+    1756147974,
+    1767725700,
+    1756704824,
+    2001210183,
+    1785053243,
+    911736834,
+    1814560070,
+    1965561677,
+    1972744954,
+    2009141482,
+    2026975253,
+    1749856356,
+    1734404167,
+    1754647353,
+    59830867,
+    1894552650,
+    2001669450,
+    2001710299,
+    1751507685,
+    1941550652,
+    60345635,
+    1786740932,
+    2060302634,
+    1681969220,
+    1922677495,
+    1739927860,
+    1814656326,
+    1787193500,
+    2016810187,
+    1739561208,
+    2016910397,
     1907701479,
+    1680198203,
+    2018908874,
+    2019887833,
+    1704526375,
+    1890996553,
+    53537523,
+    1742183484,
+    1740119884,
+    2008408414,
+    1797886599,
+    1903759600,
+    2000160071,
+    1905902311,
+    1872343590,
+    1993343287,
+    1683805446,
+    1786622296,
+    1753297133,
+    1747906667,
+    1754214628,
+    1681733672,
+    1987422362,
     1909819252,
-    1910441773,
-    1910527802,
-    1915341049,
-    1916278099,
-    1917327080,
-    1921894426,
-    1922413292,
-    1922567078,
-    1922671417,
-    1922699851,
-    1924462384,
-    1924585254,
-    1932870919,
-    1933145837,
-    1934917372,
-    1937777860,
-    1941409583,
-    1941454586,
-    1965349396,
-    1966439670,
-    1972196486,
-    1972863609,
+    1748566068,
+    1756836998,
+    1680185931,
     1972909592,
-    1974849131,
+    1922671417,
+    1680315086,
+    1983290011,
+    1972962123,
     1982640164,
-    1983347764,
-    1983461061,
-    1988132214,
-    1990062797,
-    1991392548,
+    1805715690,
+    1804978712,
+    1754835516,
+    1682587945,
+    1972904518,
     1999273799,
-    2000162011,
-    2001578182,
-    2001669450,
-    2001814704,
-    2004199576,
-    2005925890,
-    2007019632,
-    2008084807,
     2009071951,
-    2010452700,
-    2016787611,
-    2018908874,
-    2024616088,
-    2026741958,
-    2060302634,
-    2065170434,
-    2066743298,
-    2075005220,
-    2081947650,
-    2083520514,
-    2091784484,
-    50917059,
-    52489043,
-    53537523,
-    56685811,
-    57210387,
-    59830867,
-    60817409,
-    71303169,
-    72351745,
-    884998146,
-    894959618,
-    902299650,
-    928514050,
-    1038063816,
-    1680140893,
-    1680159328,
-    1680165436,
-    1680165487,
-    1680165613,
-    1680181850,
-    1680185931,
-    1680198381,
-    1680230940,
-    1680251485,
-    1680311085,
-    1680323325,
-    1680345685,
-    1680347981,
-    1680411449,
-    1680433915,
-    1680446153,
+    1754643237,
+    1747479606,
+    1910328970,
+    1865910331,
+    1689788441,
+    1889569526,
+    1699185409,
+    1910527802,
+    1754698327,
     1680511804,
-    1681733672,
-    1681969220,
-    1682587945,
-    1684319541,
-    1685902598,
-    1687164232,
-    1687751191,
+    2024616088,
+    1974849131,
+    1932959284,
     1689130184,
-    1689788441,
-    1691145478,
-    1692933184,
-    1704262346,
-    1714745560,
-    1716303957,
-    1721305962,
-    1723309623,
-    1723336528,
-    1732771842,
-    1733919469,
-    1734404167,
-    1739561208,
-    1739927860,
-    1740119884,
-    1742183484,
-    1747299630,
-    1747446838,
-    1747792072,
-    1747839118,
-    1747939528,
-    1748306996,
-    1748552744,
-    1748869205,
-    1749027145,
+    1972908839,
+    1898428101,
+    1680311085,
+    1935597338,
+    2007021895,
+    1921894426,
+    1749350104,
+    50917059,
+    1990062797,
+    1891937366,
+    1917295176,
+    1747295467,
+    59825747,
+    1689048326,
+    1754860061,
+    1934917372,
+    1872034503,
+    1922319046,
+    50917059,
+    1922566877,
+    50917059,
+    1910487243,
     1749399124,
-    1749856356,
-    1751679545,
-    1752985897,
-    1753297133,
-    1754214628,
-    1754546894,
-    1754606246,
-    1754643237,
-    1754645079,
-    1754647353,
-    1754792749,
-    1754798923,
-    1754858317,
+    1756874572,
+    50917059,
+    50917059,
+    1748503880,
+    1820928104,
+    2007064819,
+    1804054854,
+    1781007934,
+    57205395,
+    1716303957,
     1754872618,
-    1754907227,
+    1680165692,
+    1922679610,
+    1785174319,
+    1854497001,
+    1873656984,
+    1905754853,
+    1943317364,
+    1941440197,
+    1932870919,
+    1732771842,
+    1804405895,
+    71827457,
+    1916210285,
+    1924585254,
+    1933508940,
+    1756762256,
+    2004957380,
+    1771569964,
+    2009041198,
+    1689324870,
+    1991643278,
+    1906408598,
     1754958648,
-    1756190926,
-    1756302628,
-    1756471625,
-    1756737685,
-    1756804936,
-    1756874572,
-    1757053236,
-    1765800271,
-    1767875272,
+    1823574314,
+    1988132214,
+    1736416327,
+    1680140893,
+    1680159328,
+    2008401563,
+    1932986153,
+    1825437894,
+    1891186903,
+    1942026440,
     1772032615,
-    1776114564,
-    1780975314,
-    1782518297,
-    1785051290,
-    1785174319,
-    1786740932,
-    1786821704,
-    1787193500,
-    1788254870,
-    1790814502,
-    1791070327,
-    1801312388,
-    1804036350,
-    1804069019,
-    1804235064,
-    1804978712,
-    1805715716,
-    1814558026,
-    1814656326,
-    1814986837,
-    1816144023,
-    1820262641,
-    1820928104,
-    1822002839,
+    1681174213,
+    1784574102,
+    1714745560,
+    902299650,
+    878182402,
     1823580230,
-    1823841492,
-    1824377064,
-    1825677514,
-    1853862084,
-    1854302364,
-    1854464212,
-    1854474395,
-    1854497003,
-    1864698185,
-    1865910347,
-    1867448617,
-    1867620412,
-    1872034503,
-    1873590471,
-    1874261045,
-    1874698443,
-    1881750231,
-    1884142379,
-    1884267068,
-    1884343396,
-    1889633006,
-    1891186903,
-    1894552650,
-    1898428101,
-    1902640276,
-    1903659239,
-    1905541832,
-    1905672729,
-    1905902311,
-    1906408598,
-    1906421049,
-    1907660596,
-    1908316832,
-    1909438149,
-    1910328970,
-    1910441770,
-    1910487243,
-    1910507338,
-    1910572893,
+    1686731997,
+    1917327080,
+    1731048742,
+    2005925890,
+    1816144023,
     1915295948,
-    1915757815,
-    1916247343,
-    1916286197,
-    1917295176,
-    1917857531,
-    1921061206,
-    1921977416,
-    1922400908,
-    1922413307,
-    1922566877,
-    1922607670,
-    1922665179,
-    1922677495,
-    1922679610,
-    1923088386,
-    1924443742,
+    1754645079,
     1924517489,
-    1924583073,
-    1924629705,
-    1924773438,
-    1932959284,
-    1933123337,
-    1933369607,
-    1934917290,
-    1934970504,
-    1937336473,
-    1939976792,
-    1941286708,
-    1941435445,
-    1941440197,
-    1941550652,
-    1943317364,
-    1965512429,
-    1966384692,
-    1966442279,
-    1972151670,
-    1972656710,
-    1972744954,
-    1972904518,
-    1972908839,
-    1972922984,
-    1972996699,
-    1975062341,
-    1982254612,
-    1983157559,
-    1983290011,
-    1983398182,
-    1983432389,
-    1984430082,
-    1987422362,
-    1988784439,
-    1989522022,
-    1990107683,
-    1991220282,
+    1825677514,
     1991625270,
-    1993343287,
-    2000096287,
-    2000160071,
-    2000752725,
-    2001527900,
-    2001634458,
-    2001669449,
-    2001710298,
-    2001732764,
-    2001826027,
-    2001898809,
-    2004846654,
-    2005342360,
-    2006459190,
-    2006824246,
-    2007021895,
-    2007064819,
-    2008401563,
-    2009041198,
-    2009079867,
+    1917953597,
+    1874788501,
     2009231684,
-    2010716309,
-    2016711994,
-    2016810187,
-    2017010843,
-    2019887833,
-    2023342821,
-    2024647008,
-    2024794274,
-    2026893641,
-    2034765641,
+    1692408896,
+    2001578182,
+    2001527900,
+    1816178925,
+    1972904522,
+    1916337499,
+    55077603,
+    1748306996,
+    1905628916,
+    1757053236,
+    1916286197,
+    1752985897,
+    2007019632,
+    52488851,
+    1754644293,
+    1687164232,
+    };
+    private final static int[] ATTRIBUTE_HASH_SEEDS = {
+    6665,
+    483,
+    0,
+    373,
+    697,
+    6223,
+    174,
+    82,
+    0,
+    39482,
+    24,
+    2098,
+    103502,
+    1000,
+    6658,
+    34,
+    14,
+    28343,
+    169,
+    906,
+    9554,
+    7238,
+    10192,
+    10,
+    1358,
+    2358,
+    5,
+    1364,
+    1,
+    27,
+    476,
+    6768,
+    462,
+    598297,
+    1,
+    13250,
+    14400,
+    54,
+    22256,
+    154,
+    58,
+    72,
+    27,
+    7283,
+    2,
+    473,
+    0,
+    6,
+    45146,
+    225,
+    7806,
+    80293,
+    28908,
+    3240,
+    1882,
+    2,
+    5614,
+    74974,
+    46226,
+    62717,
+    30,
+    131691,
+    267,
+    8242,
     };
 }
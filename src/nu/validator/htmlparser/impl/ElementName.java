@@ -139,40 +139,48 @@ public final class ElementName
         return (flags & ElementName.NOT_INTERNED) == 0;
     }
 
-    @Inline static int levelOrderBinarySearch(int[] data, int key) {
-        int n = data.length;
-        int i = 0;
+    /**
+     * Multiplier for picking the bucket of a hash in the perfect hash table.
+     * Must match the one in <code>GeneratePerfectHashes</code>.
+     */
+    private static final int HASH_MULTIPLIER = 0x9E3779B1;
 
-        while (i < n) {
-            int val = data[i];
-            if (val < key) {
-                i = 2 * i + 2;
-            } else if (val > key) {
-                i = 2 * i + 1;
-            } else {
-                return i;
-            }
-        }
+    /**
+     * Multiplier for picking the slot of a hash with the seed of its bucket.
+     * Must match the one in <code>GeneratePerfectHashes</code>.
+     */
+    private static final int SLOT_MULTIPLIER = 0x85EBCA6B;
 
-        return -1;
+    /**
+     * Returns the index of the only slot where the name with the given hash
+     * can be in the generated tables.
+     *
+     * @param hash
+     *            the value of <code>bufToHash()</code>
+     * @param seeds
+     *            the generated seed table
+     * @return the slot index
+     */
+    @Inline static int perfectHashIndex(@Unsigned int hash, int[] seeds) {
+        @Unsigned int bucket = hash * HASH_MULTIPLIER;
+        @Unsigned int seed = seeds[(bucket >> BUCKET_SHIFT) & BUCKET_MASK];
+        @Unsigned int slot = (hash ^ seed) * SLOT_MULTIPLIER;
+        return (slot >> SLOT_SHIFT) & SLOT_MASK;
     }
 
     @Inline static ElementName elementNameByBuffer(@NoLength char[] buf,
             int length, Interner interner) {
         @Unsigned int hash = ElementName.bufToHash(buf, length);
-        int[] hashes;
-        hashes = ElementName.ELEMENT_HASHES;
-        int index = levelOrderBinarySearch(hashes, hash);
-        if (index < 0) {
+        int index = perfectHashIndex(hash, ElementName.ELEMENT_HASH_SEEDS);
+        if (ElementName.ELEMENT_HASHES[index] != hash) {
             return null;
-        } else {
-            ElementName elementName = ElementName.ELEMENT_NAMES[index];
-            @Local String name = elementName.name;
-            if (!Portability.localEqualsBuffer(name, buf, length)) {
-                return null;
-            }
-            return elementName;
         }
+        ElementName elementName = ElementName.ELEMENT_NAMES[index];
+        @Local String name = elementName.name;
+        if (!Portability.localEqualsBuffer(name, buf, length)) {
+            return null;
+        }
+        return elementName;
     }
 
     /**
@@ -563,25 +571,6 @@ public final class ElementName
 //        return null;
 //    }
 //
-//    private static void fillLevelOrderArray(List<ElementName> sorted, int depth,
-//            int rootIdx, ElementName[] levelOrder) {
-//        if (rootIdx >= levelOrder.length) {
-//            return;
-//        }
-//
-//        if (depth > 0) {
-//            fillLevelOrderArray(sorted, depth - 1, rootIdx * 2 + 1, levelOrder);
-//        }
-//
-//        if (!sorted.isEmpty()) {
-//            levelOrder[rootIdx] = sorted.remove(0);
-//        }
-//
-//        if (depth > 0) {
-//            fillLevelOrderArray(sorted, depth - 1, rootIdx * 2 + 2, levelOrder);
-//        }
-//    }
-//
 //    /**
 //     * Regenerate self
 //     *
@@ -625,26 +614,8 @@ public final class ElementName
 //                            + " = new ElementName" + el.toString() + ";");
 //        }
 //
-//        LinkedList<ElementName> sortedNames = new LinkedList<ElementName>();
-//        Collections.addAll(sortedNames, ELEMENT_NAMES);
-//        ElementName[] levelOrder = new ElementName[ELEMENT_NAMES.length];
-//        int bstDepth = (int) Math.ceil(
-//                Math.log(ELEMENT_NAMES.length) / Math.log(2));
-//        fillLevelOrderArray(sortedNames, bstDepth, 0, levelOrder);
-//
-//        System.out.println(
-//                "private final static @NoLength ElementName[] ELEMENT_NAMES = {");
-//        for (int i = 0; i < levelOrder.length; i++) {
-//            ElementName el = levelOrder[i];
-//            System.out.println(el.constName() + ",");
-//        }
-//        System.out.println("};");
-//        System.out.println("private final static int[] ELEMENT_HASHES = {");
-//        for (int i = 0; i < levelOrder.length; i++) {
-//            ElementName el = levelOrder[i];
-//            System.out.println(Integer.toString(el.hash()) + ",");
-//        }
-//        System.out.println("};");
+//        // The lookup tables at the end of the class are generated with
+//        // nu.validator.htmlparser.generator.GeneratePerfectHashes.
 //
 //        for (Entry<String, String> entry : htmlMap.entrySet()) {
 //            System.err.println("Missing HTML element: " + entry.getKey());
@@ -1483,422 +1454,558 @@ public static final ElementName TBODY = new ElementName("tbody", "tbody",
 // CPPONLY: NS_NewHTMLTableSectionElement,
 // CPPONLY: NS_NewSVGUnknownElement, 
 TreeBuilder.TBODY_OR_THEAD_OR_TFOOT | SPECIAL | FOSTER_PARENTING | OPTIONAL_END_TAG);
+private final static int BUCKET_SHIFT = 27;
+private final static int BUCKET_MASK = 31;
+private final static int SLOT_SHIFT = 24;
+private final static int SLOT_MASK = 255;
 private final static @NoLength ElementName[] ELEMENT_NAMES = {
-FIGCAPTION,
-CITE,
-FRAMESET,
-H1,
-CLIPPATH,
-METER,
-RADIALGRADIENT,
-B,
-BGSOUND,
-SOURCE,
-HTML,
-RP,
-NOFRAMES,
-MTEXT,
-VIEW,
-DIV,
-G,
-FEFUNCA,
-THEAD,
-FIGURE,
+MARKER,
+BLOCKQUOTE,
+HGROUP,
+RT,
 GLYPHREF,
-LI,
 ACRONYM,
-SECTION,
-HR,
-CANVAS,
-BASEFONT,
-FEDISTANTLIGHT,
-OUTPUT,
-TFOOT,
-FEMORPHOLOGY,
-COL,
-MAP,
-SUP,
-P,
-H5,
-FEFUNCB,
-HEAD,
-BASE,
-FEIMAGE,
-LINE,
-TITLE,
-FESPECULARLIGHTING,
-PATH,
-MALIGNMARK,
-SMALL,
-PARAM,
-OPTION,
-VIDEO,
-BR,
-FOOTER,
-TR,
-DETAILS,
-DT,
-FOREIGNOBJECT,
-FESPOTLIGHT,
-INPUT,
-RT,
-TT,
-SLOT,
-MENU,
-FECONVOLVEMATRIX,
+ANIMATE,
+STRIKE,
+ABBR,
+LISTING,
 SUMMARY,
-BDI,
-DFN,
-INS,
-PRE,
-SUB,
-USE,
-XMP,
-S,
-H3,
-AREA,
-META,
-DESC,
-FEBLEND,
-NOEMBED,
-ARTICLE,
-CODE,
-FETURBULENCE,
-FETILE,
-IMAGE,
-POLYLINE,
-STYLE,
-TEMPLATE,
-FEFUNCG,
-STRONG,
-MATH,
-SWITCH,
-LINK,
-TRACK,
+FEDISPLACEMENTMAP,
+LI,
+ANIMATEMOTION,
 LABEL,
+BR,
+DEL,
+FESPECULARLIGHTING,
+SET,
+RB,
+BODY,
+STOP,
 ALTGLYPHITEM,
+BIG,
+NOFRAMES,
+VIEW,
+BIG,
+CITE,
+DD,
+FEIMAGE,
+PATTERN,
+LINEARGRADIENT,
+H6,
+TEMPLATE,
+BIG,
+MS,
+BIG,
+ADDRESS,
+EM,
+BIG,
+FEMORPHOLOGY,
 FORM,
-BUTTON,
+SVG,
+HEADER,
+SCRIPT,
+MASK,
 KEYGEN,
-PATTERN,
+MGLYPH,
+TEXTPATH,
+KBD,
 AUDIO,
-FEDISPLACEMENTMAP,
-SAMP,
-ANIMATECOLOR,
-FECOMPONENTTRANSFER,
-HEADER,
-NOBR,
-ADDRESS,
-DEFS,
-MS,
-PROGRESS,
-APPLET,
-DATALIST,
-FIELDSET,
-FEOFFSET,
-FEPOINTLIGHT,
-FONT,
-LINEARGRADIENT,
+BUTTON,
+FRAME,
+BIG,
+HEAD,
+BIG,
+MAP,
+BIG,
 NOSCRIPT,
-OBJECT,
-PLAINTEXT,
-RECT,
-SELECT,
-SCRIPT,
+INPUT,
+FOOTER,
 TEXT,
-FEDROPSHADOW,
-FECOLORMATRIX,
-BODY,
-RUBY,
-TBODY,
+FRAMESET,
+FONT,
 BIG,
-BDO,
-DEL,
-DIR,
-IMG,
-KBD,
+ALTGLYPH,
+FETILE,
+BIG,
+SOURCE,
+FEGAUSSIANBLUR,
+MENUITEM,
+BIG,
+H3,
+BASE,
+XMP,
+TT,
+FEFLOOD,
+COLGROUP,
+SPAN,
 NAV,
-A,
+APPLET,
+VIDEO,
+BIG,
+TFOOT,
+MN,
 RTC,
-SVG,
-SET,
-VAR,
-WBR,
-I,
-Q,
-U,
-H2,
+H1,
+A,
+BASEFONT,
 H4,
-H6,
-DATA,
-METADATA,
+DIV,
+MARK,
+SWITCH,
+FEDISTANTLIGHT,
+FECONVOLVEMATRIX,
+SUP,
+MARQUEE,
+CLIPPATH,
+BIG,
+FEFUNCG,
+STRONG,
+BIG,
 TEXTAREA,
-RB,
-DD,
-EMBED,
-FEFLOOD,
+COL,
+BIG,
+CAPTION,
+TABLE,
+BIG,
+B,
 LEGEND,
-TD,
-ASIDE,
-ANIMATE,
-BLOCKQUOTE,
-CIRCLE,
-ELLIPSE,
-FEMERGENODE,
-FEMERGE,
-FRAME,
-FECOMPOSITE,
-IFRAME,
-MARQUEE,
-PICTURE,
-STRIKE,
-TABLE,
+BIG,
+CANVAS,
+MTEXT,
+EMBED,
+DFN,
+MALIGNMARK,
+BIG,
+TR,
+PRE,
+FEPOINTLIGHT,
+BIG,
 TIME,
-ALTGLYPHDEF,
+SYMBOL,
+DEFS,
 DIALOG,
-FEDIFFUSELIGHTING,
-LISTING,
-ALTGLYPH,
-MGLYPH,
-MPATH,
-TH,
-TEXTPATH,
-MI,
-MARK,
-MASK,
-DL,
-OL,
+STYLE,
+SAMP,
+FEBLEND,
+H2,
+HR,
+BIG,
 UL,
-SYMBOL,
-ANIMATETRANSFORM,
-EM,
-MENUITEM,
-ANIMATEMOTION,
-CAPTION,
-MN,
-MAIN,
-POLYGON,
-SPAN,
-TSPAN,
+CENTER,
+RUBY,
+METER,
+FETURBULENCE,
+FEFUNCB,
+BIG,
+META,
+TITLE,
+DT,
+BIG,
+OL,
+TD,
+BIG,
+FEDROPSHADOW,
+BIG,
+U,
+WBR,
+OUTPUT,
+BIG,
 MO,
-COLGROUP,
-HGROUP,
+DATALIST,
+FESPOTLIGHT,
+IMG,
+LINK,
+DETAILS,
+MAIN,
+AREA,
+BIG,
+ALTGLYPHDEF,
+FEFUNCA,
+MPATH,
+FOREIGNOBJECT,
+BIG,
+FECOLORMATRIX,
+FIGCAPTION,
+NOBR,
+ANIMATECOLOR,
+BDO,
+ANIMATETRANSFORM,
+G,
+BIG,
+BIG,
+BIG,
+SLOT,
+FEMERGE,
+IMAGE,
+HTML,
+SMALL,
+IFRAME,
+ARTICLE,
+BIG,
+BIG,
 OPTGROUP,
-STOP,
-ABBR,
-CENTER,
-FEFUNCR,
+FEDIFFUSELIGHTING,
+BIG,
+ASIDE,
+BIG,
+THEAD,
+DL,
+BIG,
+RADIALGRADIENT,
+TBODY,
 FILTER,
-FEGAUSSIANBLUR,
-MARKER,
+BIG,
+INS,
+FEMERGENODE,
+FIELDSET,
+MI,
+BIG,
+SUB,
+PATH,
+OPTION,
+LINE,
+BIG,
+PLAINTEXT,
+POLYGON,
+BIG,
+BGSOUND,
+TH,
+BIG,
+PICTURE,
+FEFUNCR,
+METADATA,
+TRACK,
+BIG,
+NOEMBED,
+PARAM,
+H5,
+DATA,
+DESC,
+BIG,
+FEOFFSET,
+BIG,
+MENU,
+VAR,
+BIG,
+I,
+SECTION,
+FIGURE,
+BDI,
+OBJECT,
+BIG,
+FECOMPONENTTRANSFER,
+BIG,
+Q,
+PROGRESS,
+FECOMPOSITE,
+BIG,
+BIG,
+BIG,
+BIG,
+P,
+CODE,
+POLYLINE,
+ELLIPSE,
+SELECT,
+RECT,
+RP,
+CIRCLE,
+DIR,
+TSPAN,
+S,
+USE,
+MATH,
 };
 private final static int[] ELEMENT_HASHES = {
-1900845386,
-1748359220,
-2001349720,
-876609538,
-1798686984,
-1971465813,
-2007781534,
-59768833,
-1730965751,
-1756474198,
-1868312196,
-1938817026,
-1988763672,
-2005324101,
-2060065124,
-52490899,
-62390273,
-1682547543,
-1740181637,
-1749905526,
+1971461414,
+1747838298,
+1935549734,
+2005925890,
 1766992520,
-1818230786,
 1881613047,
-1907661127,
-1967128578,
-1982935782,
-1999397992,
-2001392798,
-2006329158,
-2008851557,
-2085266636,
-51961587,
-57206291,
-60352339,
-67108865,
-943718402,
-1699324759,
-1733890180,
-1747814436,
-1749715159,
-1752979652,
-1757146773,
-1783388498,
-1805502724,
-1854228698,
-1874053333,
-1889085973,
-1905563974,
-1925844629,
-1963982850,
-1967795958,
-1973420034,
-1983633431,
-1998585858,
-2001309869,
-2001392795,
-2003183333,
-2005925890,
-2006974466,
-2008325940,
-2021937364,
-2068523856,
+1747306711,
+1756600614,
+1965115924,
+1786534215,
 2092255447,
-51435587,
-52486755,
-55110883,
-58773795,
-60345171,
-61395251,
-62973651,
-68681729,
-910163970,
-1679960596,
-1686491348,
-1715310660,
-1733054663,
-1737099991,
-1747176599,
-1748100148,
-1749656156,
-1749801286,
-1751288021,
-1755076808,
-1756625221,
-1757268168,
-1783210839,
-1790207270,
-1803929812,
-1806806678,
-1853642948,
-1857653029,
+1934172497,
+1818230786,
+1898223949,
 1870268949,
+1963982850,
+52485715,
+1783388498,
+60354131,
+1703936002,
+2083120164,
+1941221172,
 1881288348,
+51434643,
+1988763672,
+2060065124,
+51434643,
+1748359220,
+1730150402,
+1749715159,
+1906135367,
+2004635806,
+960495618,
+1757268168,
+51434643,
+1986527234,
+51434643,
+1982173479,
+1881669634,
+51434643,
+2085266636,
 1884120164,
-1898753862,
+60347747,
+1968836118,
+2008340774,
+1854245076,
 1903302038,
-1906135367,
+1803876550,
+1807599880,
+56151587,
 1914900309,
-1934172497,
-1941178676,
-1965334268,
-1967788867,
-1968836118,
-1971938532,
-1982173479,
-1983533124,
-1986527234,
-1990037800,
-1998724870,
-2000525512,
-2001349704,
-2001349736,
-2001392796,
-2001495140,
-2004635806,
+1898753862,
+1749813541,
+51434643,
+1733890180,
+51434643,
+57206291,
+51434643,
 2005719336,
-2006028454,
-2006896969,
-2007601444,
-2008125638,
-2008340774,
+2003183333,
+1967795958,
 2008994116,
-2051837468,
-2068523853,
-2083120164,
-2091479332,
-2092557349,
+2001349720,
+2001495140,
 51434643,
-51438659,
-52485715,
-52488851,
-55104723,
-56151587,
+1797585096,
+1749801286,
+51434643,
+1756474198,
+1968053806,
+1887579800,
+51434643,
+910163970,
+1747814436,
+62973651,
+2006974466,
+1733076167,
+1932928296,
+1907435316,
 57733651,
-59244545,
+1998724870,
+1925844629,
+51434643,
+2008851557,
+1902641154,
 59821379,
-60347747,
-60354131,
-61925907,
-62450211,
-63438849,
-67633153,
-69730305,
-893386754,
+876609538,
+59244545,
+1999397992,
 926941186,
-960495618,
-1681770564,
-1686489160,
+52490899,
+1854228692,
+1806806678,
+2001392798,
+2068523856,
+60352339,
+1753362711,
+1798686984,
+51434643,
+1783210839,
+1790207270,
+51434643,
 1689922072,
-1703936002,
-1730150402,
-1732381397,
-1733076167,
+51961587,
+51434643,
+1899272519,
+1757137429,
+51434643,
+59768833,
 1736200310,
+51434643,
+1982935782,
+2005324101,
+1732381397,
+52486755,
+1854228698,
+51434643,
+1973420034,
+58773795,
+2001392796,
+51434643,
+1757157700,
+1874102998,
+1983533124,
+1782357526,
+1756625221,
+1941178676,
+1733054663,
+893386754,
+1967128578,
+51434643,
+1873281026,
+1966223078,
+2091479332,
+1971465813,
+1749656156,
+1699324759,
+51434643,
+1686491348,
+1757146773,
+1998585858,
+51434643,
+1870135298,
 1738539010,
-1747048757,
-1747306711,
-1747838298,
-1748225318,
-1749395095,
-1749673195,
+51434643,
+2051837468,
+51434643,
+69730305,
+62450211,
+2006329158,
+51434643,
+1919418370,
+2000525512,
+2001392795,
+55104723,
+1853642948,
+1983633431,
+1904412884,
+1679960596,
+51434643,
+1763839627,
+1682547543,
+1803929861,
+2001309869,
+51434643,
+2068523853,
+1900845386,
+1971938532,
+1965334268,
+51438659,
+1881498736,
+62390273,
+51434643,
+51434643,
+51434643,
+2008325940,
 1749723735,
-1749813541,
-1749932347,
+1751288021,
+1868312196,
+1874053333,
 1751386406,
-1753362711,
-1755148615,
-1756600614,
-1757137429,
-1757157700,
-1763839627,
-1782357526,
+1747176599,
+51434643,
+51434643,
+1939219752,
 1783388497,
-1786534215,
-1797585096,
-1803876550,
-1803929861,
-1805647874,
-1807599880,
-1818755074,
-1854228692,
-1854245076,
+51434643,
+1747048757,
+51434643,
+1740181637,
 1864368130,
-1870135298,
-1873281026,
-1874102998,
-1881498736,
-1881669634,
-1887579800,
-1898223949,
-1899272519,
-1902641154,
-1904412884,
+51434643,
+2007781534,
+2092557349,
+1967795910,
+51434643,
+55110883,
+1749673195,
+2001349704,
+1818755074,
+51434643,
+60345171,
+1805502724,
+1905563974,
+1752979652,
+51434643,
+2006896969,
 1906087319,
-1907435316,
-1907959605,
-1919418370,
-1932928296,
-1935549734,
-1939219752,
-1941221172,
-1965115924,
-1966223078,
+51434643,
+1730965751,
+1805647874,
+51434643,
+1755148615,
 1967760215,
-1967795910,
-1968053806,
-1971461414,
+1686489160,
+1857653029,
+51434643,
+1737099991,
+1889085973,
+943718402,
+1681770564,
+1715310660,
+51434643,
+2001349736,
+51434643,
+2021937364,
+61925907,
+51434643,
+63438849,
+1907661127,
+1749905526,
+51435587,
+2006028454,
+51434643,
+1967788867,
+51434643,
+67633153,
+1990037800,
+1749932347,
+51434643,
+51434643,
+51434643,
+51434643,
+67108865,
+1748100148,
+1755076808,
+1749395095,
+2008125638,
+2007601444,
+1938817026,
+1748225318,
+52488851,
+1907959605,
+68681729,
+61395251,
+1803929812,
+};
+private final static int[] ELEMENT_HASH_SEEDS = {
+14,
+206,
+93,
+2,
+34,
+387,
+0,
+505,
+45,
+160,
+25,
+729,
+13,
+106,
+212,
+72,
+2,
+2,
+0,
+2,
+225,
+78,
+11,
+20,
+172,
+684,
+79,
+0,
+0,
+557,
+1205,
+50,
 };
 }
@@ -70,6 +70,58 @@ public class ErrorReportingTokenizer extends Tokenizer {
 
     private char prev;
 
+    /**
+     * Whether the location is computed from <code>lineStarts</code> when
+     * asked for instead of being tracked for every character.
+     */
+    private boolean lazyLocations = false;
+
+    /**
+     * In the lazy mode, the offsets of the first characters of the lines
+     * seen so far. (The first line starts at 0.) The offsets count the
+     * characters that have gone through <code>checkChar()</code>, so the LF
+     * of a CRLF pair is not counted.
+     */
+    private int[] lineStarts = new int[64];
+
+    /**
+     * The number of used entries in <code>lineStarts</code>.
+     */
+    private int lineCount = 1;
+
+    /**
+     * In the lazy mode, the index of the last character that went through
+     * <code>checkChar()</code> in the current buffer.
+     */
+    private int lastPos = -1;
+
+    /**
+     * In the lazy mode, the offset of the start of the array of the current
+     * buffer, so that <code>offsetBase + lastPos</code> is the offset of the
+     * last character that went through <code>checkChar()</code>.
+     */
+    private int offsetBase;
+
+    /**
+     * In the lazy mode, the number of characters tokenized in the buffers
+     * before the current one.
+     */
+    private int offsetOfBuffer;
+
+    /**
+     * The location remembered by <code>saveLocation()</code>.
+     */
+    private int savedLine, savedLinePrev, savedCol, savedColPrev;
+
+    private boolean savedNextCharOnNewLine;
+
+    private char savedPrev;
+
+    private int savedLineCount, savedLastPos, savedOffsetBase,
+            savedOffsetOfBuffer;
+
+    private boolean savedAlreadyWarnedAboutPrivateUseCharacters;
+
     private HashMap<String, String> errorProfileMap = null;
 
     private TransitionHandler transitionHandler = null;
@@ -96,8 +148,9 @@ public class ErrorReportingTokenizer extends Tokenizer {
      * @see org.xml.sax.Locator#getLineNumber()
      */
     public int getLineNumber() {
-        if (line > 0) {
-            return line;
+        int lineNumber = getLine();
+        if (lineNumber > 0) {
+            return lineNumber;
         } else {
             return -1;
         }
@@ -107,13 +160,155 @@ public class ErrorReportingTokenizer extends Tokenizer {
      * @see org.xml.sax.Locator#getColumnNumber()
      */
     public int getColumnNumber() {
-        if (col > 0) {
-            return col;
+        int columnNumber = getCol();
+        if (columnNumber > 0) {
+            return columnNumber;
         } else {
             return -1;
         }
     }
 
+    /**
+     * Sets whether to record only where lines start and compute the line and
+     * column when an error is reported or the locator is asked. The results
+     * are the same, but the common path does not update the location for
+     * every character. Must not be changed during a parse.
+     *
+     * @param lazyLocations
+     *            <code>true</code> to compute the location when asked for
+     */
+    public void setLazyLocations(boolean lazyLocations) {
+        this.lazyLocations = lazyLocations;
+    }
+
+    /**
+     * Returns whether the location is computed when asked for.
+     *
+     * @return <code>true</code> if the location is computed when asked for
+     */
+    public boolean isLazyLocations() {
+        return lazyLocations;
+    }
+
+    /**
+     * Returns the offset of the last character that went through
+     * <code>checkChar()</code> or -1 before the first one.
+     */
+    private int currentOffset() {
+        return offsetBase + lastPos;
+    }
+
+    /**
+     * Returns the index in <code>lineStarts</code> of the line that
+     * contains the character at <code>offset</code> or -1 before the first
+     * character.
+     */
+    private int lineIndexOf(int offset) {
+        if (offset < 0) {
+            return -1;
+        }
+        // The location is usually asked for on the last line.
+        int high = lineCount - 1;
+        if (lineStarts[high] <= offset) {
+            return high;
+        }
+        int low = 0;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (lineStarts[mid] <= offset) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Records that a line starts after the current character.
+     */
+    private void addLineStart() {
+        int start = currentOffset() + 1;
+        if (lineStarts[lineCount - 1] >= start) {
+            // The same line break reported again
+            return;
+        }
+        if (lineCount == lineStarts.length) {
+            int[] newStarts = new int[lineStarts.length << 1];
+            System.arraycopy(lineStarts, 0, newStarts, 0, lineCount);
+            lineStarts = newStarts;
+        }
+        lineStarts[lineCount++] = start;
+    }
+
+    /**
+     * Keeps track of the offset of the buffer in the lazy mode.
+     *
+     * @see nu.validator.htmlparser.impl.Tokenizer#tokenizeBuffer(nu.validator.htmlparser.impl.UTF16Buffer)
+     */
+    @Override public boolean tokenizeBuffer(UTF16Buffer buffer)
+            throws SAXException {
+        if (!lazyLocations) {
+            return super.tokenizeBuffer(buffer);
+        }
+        int start = buffer.getStart();
+        offsetBase = offsetOfBuffer - start;
+        boolean returned = false;
+        try {
+            boolean lastWasCR = super.tokenizeBuffer(buffer);
+            returned = true;
+            return lastWasCR;
+        } finally {
+            if (returned) {
+                offsetOfBuffer += buffer.getStart() - start;
+            } else {
+                // A reparse restarts the input but not the positions, so
+                // carry on from the last character that was seen.
+                offsetOfBuffer = currentOffset() + 1;
+            }
+        }
+    }
+
+    /**
+     * Also remembers the column and, in the lazy mode, the line starts seen
+     * so far.
+     *
+     * @see nu.validator.htmlparser.impl.Tokenizer#saveLocation()
+     */
+    @Override public void saveLocation() {
+        super.saveLocation();
+        savedLine = line;
+        savedLinePrev = linePrev;
+        savedCol = col;
+        savedColPrev = colPrev;
+        savedNextCharOnNewLine = nextCharOnNewLine;
+        savedPrev = prev;
+        savedLineCount = lineCount;
+        savedLastPos = lastPos;
+        savedOffsetBase = offsetBase;
+        savedOffsetOfBuffer = offsetOfBuffer;
+        savedAlreadyWarnedAboutPrivateUseCharacters = alreadyWarnedAboutPrivateUseCharacters;
+    }
+
+    /**
+     * @see nu.validator.htmlparser.impl.Tokenizer#restoreLocation()
+     */
+    @Override public void restoreLocation() {
+        super.restoreLocation();
+        line = savedLine;
+        linePrev = savedLinePrev;
+        col = savedCol;
+        colPrev = savedColPrev;
+        nextCharOnNewLine = savedNextCharOnNewLine;
+        prev = savedPrev;
+        // The line starts after the saved ones are recorded again.
+        lineCount = savedLineCount;
+        lastPos = savedLastPos;
+        offsetBase = savedOffsetBase;
+        offsetOfBuffer = savedOffsetOfBuffer;
+        alreadyWarnedAboutPrivateUseCharacters = savedAlreadyWarnedAboutPrivateUseCharacters;
+    }
+
     /**
      * Sets the contentNonXmlCharPolicy.
      *
@@ -134,6 +329,15 @@ public class ErrorReportingTokenizer extends Tokenizer {
         this.errorProfileMap = errorProfileMap;
     }
 
+    /**
+     * Returns the errorProfile.
+     *
+     * @return the errorProfile
+     */
+    public HashMap<String, String> getErrorProfile() {
+        return errorProfileMap;
+    }
+
     /**
      * Reports on an event based on profile selected.
      *
@@ -160,18 +364,31 @@ public class ErrorReportingTokenizer extends Tokenizer {
         line = linePrev = 0;
         col = colPrev = 1;
         nextCharOnNewLine = true;
+        lineStarts[0] = 0;
+        lineCount = 1;
+        lastPos = -1;
+        offsetBase = 0;
+        offsetOfBuffer = 0;
         prev = '\u0000';
         alreadyWarnedAboutPrivateUseCharacters = false;
         transitionBaseOffset = 0;
     }
 
     @Inline protected void silentCarriageReturn() {
-        nextCharOnNewLine = true;
+        if (lazyLocations) {
+            addLineStart();
+        } else {
+            nextCharOnNewLine = true;
+        }
         lastCR = true;
     }
 
     @Inline protected void silentLineFeed() {
-        nextCharOnNewLine = true;
+        if (lazyLocations) {
+            addLineStart();
+        } else {
+            nextCharOnNewLine = true;
+        }
     }
 
     /**
@@ -180,6 +397,9 @@ public class ErrorReportingTokenizer extends Tokenizer {
      * @return the line
      */
     public int getLine() {
+        if (lazyLocations) {
+            return lineIndexOf(currentOffset()) + 1;
+        }
         return line;
     }
 
@@ -189,6 +409,14 @@ public class ErrorReportingTokenizer extends Tokenizer {
      * @return the col
      */
     public int getCol() {
+        if (lazyLocations) {
+            int offset = currentOffset();
+            int index = lineIndexOf(offset);
+            if (index < 0) {
+                return 1;
+            }
+            return offset - lineStarts[index] + 1;
+        }
         return col;
     }
 
@@ -198,6 +426,9 @@ public class ErrorReportingTokenizer extends Tokenizer {
      * @return the nextCharOnNewLine
      */
     public boolean isNextCharOnNewLine() {
+        if (lazyLocations) {
+            return lineStarts[lineCount - 1] > currentOffset();
+        }
         return nextCharOnNewLine;
     }
 
@@ -214,27 +445,50 @@ public class ErrorReportingTokenizer extends Tokenizer {
     @Override protected void flushChars(char[] buf, int pos)
             throws SAXException {
         if (pos > cstart) {
-            int currLine = line;
-            int currCol = col;
-            line = linePrev;
-            col = colPrev;
-            tokenHandler.characters(buf, cstart, pos - cstart);
-            line = currLine;
-            col = currCol;
+            if (lazyLocations) {
+                // The location of the previous character
+                lastPos--;
+                emitCharacters(buf, cstart, pos - cstart);
+                lastPos++;
+            } else {
+                int currLine = line;
+                int currCol = col;
+                line = linePrev;
+                col = colPrev;
+                emitCharacters(buf, cstart, pos - cstart);
+                line = currLine;
+                col = currCol;
+            }
         }
         cstart = 0x7fffffff;
     }
 
+    /**
+     * Does not skip anything, since every character needs to go through
+     * <code>checkChar()</code> for error reporting and location tracking.
+     *
+     * @see nu.validator.htmlparser.impl.Tokenizer#skipCharacterRun(char[],
+     *      int, int, boolean, boolean)
+     */
+    @Override protected int skipCharacterRun(@NoLength char[] buf, int pos,
+            int endPos, boolean ampersand, boolean lessThan) {
+        return pos;
+    }
+
     @Override protected char checkChar(@NoLength char[] buf, int pos)
             throws SAXException {
-        linePrev = line;
-        colPrev = col;
-        if (nextCharOnNewLine) {
-            line++;
-            col = 1;
-            nextCharOnNewLine = false;
+        if (lazyLocations) {
+            lastPos = pos;
         } else {
-            col++;
+            linePrev = line;
+            colPrev = col;
+            if (nextCharOnNewLine) {
+                line++;
+                col = 1;
+                nextCharOnNewLine = false;
+            } else {
+                col++;
+            }
         }
 
         char c = buf[pos];
@@ -28,6 +28,7 @@ import org.xml.sax.SAXException;
 
 import nu.validator.htmlparser.annotation.IdType;
 import nu.validator.htmlparser.annotation.Local;
+import nu.validator.htmlparser.annotation.NoLength;
 import nu.validator.htmlparser.annotation.NsUri;
 import nu.validator.htmlparser.annotation.Prefix;
 import nu.validator.htmlparser.annotation.QName;
@@ -66,6 +67,26 @@ public final class HtmlAttributes implements Attributes {
 
     private String[] xmlnsValues;
 
+    // [NOCPP[
+
+    /**
+     * The characters of the values that have been added without a
+     * <code>String</code>. <code>null</code> until the first such value.
+     */
+    private char[] valueChars;
+
+    private int valueCharsLength;
+
+    /**
+     * The offsets into <code>valueChars</code> of the values whose slot in
+     * <code>values</code> is <code>null</code>.
+     */
+    private int[] valueOffsets;
+
+    private int[] valueLengths;
+
+    // ]NOCPP]
+
     public HtmlAttributes(int mode) {
         this.mode = mode;
         this.length = 0;
@@ -152,6 +173,11 @@ public final class HtmlAttributes implements Attributes {
      * @return the attribute value at index
      */
     public String getValueNoBoundsCheck(int index) {
+        // [NOCPP[
+        if (values[index] == null) {
+            return materializeValue(index);
+        }
+        // ]NOCPP]
         return values[index];
     }
 
@@ -287,7 +313,7 @@ public final class HtmlAttributes implements Attributes {
 
     public String getValue(int index) {
         if (index < length && index >= 0) {
-            return values[index];
+            return getValueNoBoundsCheck(index);
         } else {
             return null;
         }
@@ -383,27 +409,104 @@ public final class HtmlAttributes implements Attributes {
         }
 
         if (names.length == length) {
-            int newLen = length << 1; // The first growth covers virtually
-            // 100% of elements according to
-            // Hixie
-            AttributeName[] newNames = new AttributeName[newLen];
-            System.arraycopy(names, 0, newNames, 0, names.length);
-            names = newNames;
-            String[] newValues = new String[newLen];
-            System.arraycopy(values, 0, newValues, 0, values.length);
-            values = newValues;
+            growAttributes();
         }
         names[length] = name;
         values[length] = value;
         length++;
     }
 
+    private void growAttributes() {
+        int newLen = length << 1; // The first growth covers virtually
+        // 100% of elements according to
+        // Hixie
+        AttributeName[] newNames = new AttributeName[newLen];
+        System.arraycopy(names, 0, newNames, 0, names.length);
+        names = newNames;
+        String[] newValues = new String[newLen];
+        System.arraycopy(values, 0, newValues, 0, values.length);
+        values = newValues;
+        // [NOCPP[
+        if (valueOffsets != null) {
+            int[] newOffsets = new int[newLen];
+            System.arraycopy(valueOffsets, 0, newOffsets, 0, length);
+            valueOffsets = newOffsets;
+            int[] newLengths = new int[newLen];
+            System.arraycopy(valueLengths, 0, newLengths, 0, length);
+            valueLengths = newLengths;
+        }
+        // ]NOCPP]
+    }
+
+    // [NOCPP[
+
+    /**
+     * Adds an attribute whose value is copied from a buffer instead of being
+     * given as a <code>String</code>. The <code>String</code> is created only
+     * if the value is asked for. The <code>id</code> and <code>xmlns</code>
+     * values are still created right away, since they are kept on the side.
+     *
+     * @param name
+     *            the attribute name
+     * @param buf
+     *            the buffer holding the value
+     * @param valueLength
+     *            the length of the value at the start of <code>buf</code>
+     * @param xmlnsPolicy
+     *            the xmlns policy
+     * @throws SAXException
+     */
+    void addAttribute(AttributeName name, @NoLength char[] buf,
+            int valueLength, XmlViolationPolicy xmlnsPolicy)
+            throws SAXException {
+        if (name == AttributeName.ID || name.isXmlns()) {
+            addAttribute(name, new String(buf, 0, valueLength), xmlnsPolicy);
+            return;
+        }
+        if (names.length == length) {
+            growAttributes();
+        }
+        if (valueOffsets == null) {
+            valueOffsets = new int[names.length];
+            valueLengths = new int[names.length];
+        }
+        int newCharsLength = valueCharsLength + valueLength;
+        if (valueChars == null) {
+            valueChars = new char[newCharsLength > 64 ? newCharsLength : 64];
+        } else if (newCharsLength > valueChars.length) {
+            int doubled = valueChars.length << 1;
+            char[] newChars = new char[doubled > newCharsLength ? doubled
+                    : newCharsLength];
+            System.arraycopy(valueChars, 0, newChars, 0, valueCharsLength);
+            valueChars = newChars;
+        }
+        System.arraycopy(buf, 0, valueChars, valueCharsLength, valueLength);
+        valueOffsets[length] = valueCharsLength;
+        valueLengths[length] = valueLength;
+        valueCharsLength = newCharsLength;
+        names[length] = name;
+        values[length] = null;
+        length++;
+    }
+
+    private String materializeValue(int index) {
+        String value = new String(valueChars, valueOffsets[index],
+                valueLengths[index]);
+        values[index] = value;
+        return value;
+    }
+
+    // ]NOCPP]
+
     void clear(int m) {
         for (int i = 0; i < length; i++) {
             names[i] = null;
             values[i] = null;
         }
         length = 0;
+        // [NOCPP[
+        valueCharsLength = 0;
+        // ]NOCPP]
         mode = m;
         idValue = null;
         for (int i = 0; i < xmlnsLength; i++) {
@@ -443,7 +546,7 @@ public final class HtmlAttributes implements Attributes {
         HtmlAttributes clone = new HtmlAttributes(0);
         for (int i = 0; i < length; i++) {
             clone.addAttribute(names[i],
-                    values[i]
+                    getValueNoBoundsCheck(i)
                     , XmlViolationPolicy.ALLOW
             );
         }
@@ -469,7 +572,8 @@ public final class HtmlAttributes implements Attributes {
             for (int j = 0; j < otherLength; j++) {
                 if (ownLocal == other.names[j].getLocal(AttributeName.HTML)) {
                     found = true;
-                    if (!values[i].equals(other.values[j])) {
+                    if (!getValueNoBoundsCheck(i).equals(
+                            other.getValueNoBoundsCheck(j))) {
                         return false;
                     }
                     break;
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.impl;
+
+import nu.validator.htmlparser.annotation.NoLength;
+import nu.validator.htmlparser.common.Interner;
+
+/**
+ * A bounded cache of local names in front of <code>String.intern()</code>.
+ * The names are looked up straight from the tokenizer buffer, so a name that
+ * has been seen before costs a hash and a comparison instead of a temporary
+ * <code>String</code> and a probe of the JVM string table.
+ *
+ * <p>
+ * The cache is a two-way set-associative table of <code>String</code>s.
+ * When both slots of a set are taken, the older entry is replaced. Since
+ * <code>String</code> is immutable and the entries are JVM-interned strings,
+ * the table is read and written without locking: a racy read either sees a
+ * complete entry or misses and falls back to <code>String.intern()</code>,
+ * which returns the same instance. An instance may therefore be shared by
+ * any number of parsers on any number of threads.
+ *
+ * @version $Id$
+ */
+public final class LocalNameInterner implements Interner {
+
+    /**
+     * The instance used by parsers that have not been given an interner.
+     */
+    public static final LocalNameInterner SHARED = new LocalNameInterner(
+            4096);
+
+    private final String[] table;
+
+    private final int mask;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity
+     *            the maximum number of cached names; rounded up to a power
+     *            of two
+     */
+    public LocalNameInterner(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException(
+                    "The capacity must be at least 2.");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.table = new String[size];
+        this.mask = size - 2;
+    }
+
+    /**
+     * Returns the canonical string for the given characters.
+     *
+     * @param buf the buffer holding the name
+     * @param length the number of characters to use from the start of
+     *            <code>buf</code>
+     * @return an interned string equal to the characters
+     */
+    public String intern(@NoLength char[] buf, int length) {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + buf[i];
+        }
+        hash ^= (hash >>> 16);
+        int set = (hash << 1) & mask;
+        String first = table[set];
+        if (first != null && matches(first, buf, length)) {
+            return first;
+        }
+        String second = table[set + 1];
+        if (second != null && matches(second, buf, length)) {
+            return second;
+        }
+        String name = new String(buf, 0, length).intern();
+        table[set + 1] = first;
+        table[set] = name;
+        return name;
+    }
+
+    private static boolean matches(String name, @NoLength char[] buf,
+            int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (name.charAt(i) != buf[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,2822 @@
+/*
+ * Copyright 2004-2010 Apple Computer, Inc., Mozilla Foundation, and Opera 
+ * Software ASA.
+ * 
+ * You are granted a license to use, reproduce and create derivative works of 
+ * this document.
+ */
+
+package nu.validator.htmlparser.impl;
+
+import nu.validator.htmlparser.annotation.Inline;
+import nu.validator.htmlparser.annotation.NoLength;
+
+/**
+ * A trie over the named character reference names. Generated by
+ * <code>GenerateNamedCharactersTrie</code>. Do not edit.
+ * 
+ * <p>
+ * Node <code>n</code> takes the two chars at <code>2 * n</code> in
+ * <code>NODES</code>: the index of its first edge and its accept value plus
+ * one. Its edges end where the edges of node <code>n + 1</code> start. Edge
+ * <code>e</code> takes the two chars at <code>2 * e</code> in
+ * <code>EDGES</code>: the character and the target node. The accept value
+ * is -1 if no name ends at the node. Otherwise, the value bits cleared of the
+ * lowest bit are the index of the expansion in <code>VALUES</code> and the
+ * lowest bit tells whether the name ends with a semicolon. Each expansion
+ * takes two chars in <code>VALUES</code>, the second being zero for a
+ * single BMP character. Node 0 is no node.
+ * 
+ * @version $Id$
+ */
+public final class NamedCharactersTrie {
+
+    static final @NoLength int[] FIRST_CHAR_NODES = {
+            2, 97, 158, 408, 786, 933, 995, 1103, 1181, 1307,
+            1336, 1369, 1799, 1847, 2413, 2545, 2649, 2665, 2964, 3201,
+            3318, 3534, 3621, 3643, 3657, 3698, 3749, 3954, 4381, 4767,
+            5072, 5320, 5456, 5661, 5805, 5998, 6032, 6073, 6718, 6868,
+            7468, 7668, 7914, 7961, 8396, 8949, 9200, 9417, 9613, 9655,
+            9758, 9799,
+    };
+
+    static final @NoLength char[] NODES = join(new String[] {
+            "\u0000\u0000\u0000\u0000\u0034\u0000\u0044\u0000\u0045\u0000\u0046\u0000\u0047\u0001\u0048\u0004",
+            "\u0048\u0000\u0049\u0005\u004a\u0008\u004a\u0000\u004b\u0000\u004c\u0000\u004d\u0000\u004e\u0009",
+            "\u004f\u000c\u004f\u0000\u0050\u0000\u0051\u0000\u0052\u0000\u0053\u0000\u0054\u000e\u0054\u0000",
+            "\u0056\u0000\u0057\u0000\u0058\u000f\u0059\u0012\u0059\u0000\u005a\u0014\u005a\u0000\u005b\u0000",
+            "\\\u0016\\\u0000\u005d\u0000\u005e\u0000\u005f\u0000\u0060\u0017\u0061\u001a\u0061\u0000",
+            "\u0062\u0000\u0063\u0000\u0064\u0000\u0065\u001c\u0065\u0000\u0066\u0000\u0067\u0000\u0068\u0000",
+            "\u0069\u001e\u0069\u0000\u006a\u0000\u006b\u0020\u006b\u0000\u006d\u0000\u006e\u0000\u006f\u0000",
+            "\u0070\"\u0070\u0000\u0071\u0000\u0072\u0024\u0072\u0000\u0073\u0000\u0074\u0000\u0075\u0000",
+            "\u0076\u0000\u0077\u0000\u0078\u0000\u0079\u0000\u007a\u0000\u007b\u0000\u007c\u0000\u007d\u0000",
+            "\u007e\u0026\u007e\u0000\u007f\u0000\u0080\u0000\u0081\u0027\u0082\u002a\u0082\u0000\u0084\u0000",
+            "\u0085\u0000\u0086\u002c\u0086\u0000\u0087\u0000\u0088\u0000\u0089\u0000\u008a\u002e\u008a\u0000",
+            "\u008b\u0000\u008c\u0000\u008d\u0000\u008e\u002f\u008f\u0032\u008f\u0000\u0090\u0000\u0091\u0033",
+            "\u0092\u0036\u0092\u0000\u009a\u0000\u009c\u0000\u009d\u0000\u009e\u0000\u009f\u0000\u00a0\u0000",
+            "\u00a1\u0000\u00a2\u0000\u00a3\u0038\u00a3\u0000\u00a5\u0000\u00a6\u003a\u00a6\u0000\u00a7\u0000",
+            "\u00a8\u0000\u00a9\u003c\u00a9\u0000\u00aa\u0000\u00ab\u003e\u00ab\u0000\u00ae\u0000\u00af\u0000",
+            "\u00b0\u0000\u00b1\u0000\u00b2\u0000\u00b3\u0040\u00b3\u0000\u00b4\u0000\u00b5\u0000\u00b6\u0000",
+            "\u00b7\u0000\u00b8\u0000\u00b9\u0000\u00ba\u0000\u00bb\u0042\u00bb\u0000\u00bc\u0000\u00bd\u0044",
+            "\u00bd\u0000\u00be\u0000\u00bf\u0046\u00bf\u0000\u00c0\u0000\u00c1\u0000\u00c2\u0048\u00c2\u0000",
+            "\u00c3\u0000\u00c4\u0000\u00c5\u0000\u00c6\u004a\u00c6\u0000\u00c7\u0000\u00c8\u0000\u00c9\u004c",
+            "\u00c9\u0000\u00ca\u0000\u00cb\u0000\u00cc\u0000\u00cd\u0000\u00ce\u004e\u00ce\u0000\u00dc\u0000",
+            "\u00dd\u0000\u00de\u0000\u00df\u0050\u00df\u0000\u00e0\u0000\u00e1\u0051\u00e2\u0054\u00e2\u0000",
+            "\u00e5\u0000\u00e6\u0000\u00e7\u0000\u00e8\u0000\u00e9\u0056\u00e9\u0000\u00eb\u0058\u00eb\u0000",
+            "\u00ec\u0000\u00ed\u0000\u00ee\u0000\u00ef\u0000\u00f0\u0000\u00f1\u0000\u00f2\u0000\u00f3\u0000",
+            "\u00f4\u0000\u00f5\u0000\u00f6\u0000\u00f7\u0000\u00f8\u0000\u00f9\u0000\u00fa\u0000\u00fb\u0000",
+            "\u00fc\u005a\u00fc\u0000\u00fd\u0000\u00fe\u0000\u00ff\u0000\u0100\u0000\u0101\\\u0101\u0000",
+            "\u0105\u0000\u0106\u0000\u0107\u0000\u0108\u0000\u0109\u005e\u0109\u0000\u010a\u0000\u010b\u0000",
+            "\u010c\u005f\u010d\u0062\u010d\u0000\u010e\u0000\u010f\u0000\u0110\u0064\u0110\u0000\u0111\u0000",
+            "\u0112\u0000\u0113\u0000\u0114\u0000\u0115\u0066\u0115\u0000\u0116\u0000\u0117\u0000\u0118\u0068",
+            "\u0118\u0000\u011a\u0000\u011b\u0000\u011c\u0000\u011d\u0000\u011e\u0000\u011f\u006a\u011f\u0000",
+            "\u0120\u0000\u0121\u0000\u0122\u0000\u0123\u0000\u0124\u0000\u0125\u0000\u0126\u006c\u0126\u0000",
+            "\u0127\u0000\u0128\u006e\u0128\u0000\u0129\u0000\u012a\u0070\u012a\u0000\u012b\u0000\u012c\u0000",
+            "\u012d\u0000\u012e\u0000\u0132\u0000\u0133\u0000\u0134\u0000\u0135\u0072\u0135\u0000\u0136\u0000",
+            "\u0137\u0000\u0138\u0000\u0139\u0000\u013a\u0074\u013a\u0000\u013b\u0000\u013c\u0000\u013d\u0000",
+            "\u013e\u0076\u013e\u0000\u013f\u0000\u0140\u0000\u0141\u0000\u0142\u0000\u0143\u0078\u0143\u0000",
+            "\u0144\u0000\u0146\u0000\u0147\u0000\u0148\u0000\u0149\u0000\u014a\u0000\u014b\u0000\u014c\u0000",
+            "\u014d\u0000\u014e\u0000\u014f\u0000\u0150\u0000\u0151\u0000\u0152\u0000\u0153\u0000\u0154\u0000",
+            "\u0155\u0000\u0156\u0000\u0157\u0000\u0158\u0000\u0159\u0000\u015a\u0000\u015b\u007a\u015b\u0000",
+            "\u015c\u0000\u015d\u0000\u015e\u0000\u015f\u0000\u0160\u0000\u0161\u0000\u0163\u0000\u0164\u0000",
+            "\u0165\u0000\u0166\u0000\u0167\u0000\u0168\u0000\u0169\u0000\u016a\u0000\u016b\u0000\u016c\u0000",
+            "\u016d\u0000\u016e\u007c\u016e\u0000\u016f\u0000\u0170\u0000\u0171\u0000\u0172\u0000\u0173\u007e",
+            "\u0173\u0000\u0177\u0000\u0178\u0000\u0179\u0000\u017b\u0080\u017b\u0000\u017c\u0082\u017c\u0000",
+            "\u017f\u0000\u0180\u0000\u0181\u0000\u0182\u0000\u0183\u0000\u0184\u0000\u0185\u0084\u0185\u0000",
+            "\u0186\u0000\u0187\u0000\u0188\u0086\u0188\u0000\u0189\u0000\u018a\u0000\u018b\u0000\u018c\u0000",
+            "\u018d\u0000\u018e\u0000\u018f\u0000\u0190\u0000\u0191\u0000\u0192\u0000\u0193\u0000\u0194\u0088",
+            "\u0194\u0000\u0196\u0000\u0197\u008a\u0197\u0000\u0198\u0000\u0199\u0000\u019a\u0000\u019b\u0000",
+            "\u019c\u0000\u019d\u008c\u019d\u0000\u019e\u0000\u019f\u0000\u01a0\u0000\u01a1\u0000\u01a2\u0000",
+            "\u01a3\u0000\u01a4\u0000\u01a5\u0000\u01a6\u0000\u01a7\u0000\u01a8\u0000\u01a9\u0000\u01aa\u0000",
+            "\u01ab\u0000\u01ac\u0000\u01ad\u0000\u01ae\u0000\u01af\u0000\u01b0\u0000\u01b1\u0000\u01b2\u0000",
+            "\u01b3\u0000\u01b4\u0000\u01b5\u0000\u01b6\u0000\u01b7\u0000\u01b8\u0000\u01b9\u0000\u01ba\u008e",
+            "\u01ba\u0000\u01bb\u0000\u01bc\u0000\u01bd\u0000\u01be\u0090\u01be\u0000\u01bf\u0000\u01c0\u0000",
+            "\u01c1\u0092\u01c1\u0000\u01c2\u0000\u01c4\u0094\u01c4\u0000\u01c5\u0000\u01c6\u0000\u01c7\u0096",
+            "\u01c7\u0000\u01d2\u0000\u01d4\u0098\u01d4\u0000\u01d5\u0000\u01d6\u0000\u01d7\u0000\u01d8\u0000",
+            "\u01d9\u0000\u01da\u009a\u01da\u0000\u01db\u0000\u01dc\u0000\u01dd\u009c\u01dd\u0000\u01de\u0000",
+            "\u01df\u0000\u01e0\u009e\u01e0\u0000\u01e1\u0000\u01e2\u0000\u01e3\u00a0\u01e3\u0000\u01e6\u0000",
+            "\u01e7\u0000\u01e8\u0000\u01e9\u0000\u01ea\u00a2\u01ea\u0000\u01eb\u0000\u01ec\u00a4\u01ec\u0000",
+            "\u01ed\u0000\u01ee\u0000\u01ef\u00a6\u01ef\u0000\u01f1\u0000\u01f2\u0000\u01f3\u0000\u01f4\u0000",
+            "\u01f5\u00a8\u01f5\u0000\u01f6\u00aa\u01f6\u0000\u01f7\u0000\u01f9\u00ac\u01f9\u0000\u01fa\u0000",
+            "\u01fb\u00ae\u01fb\u0000\u01fc\u0000\u01fd\u00b0\u01fd\u0000\u01ff\u0000\u0201\u0000\u0202\u0000",
+            "\u0203\u0000\u0204\u0000\u0205\u0000\u0206\u0000\u0207\u0000\u0208\u0000\u020c\u0000\u020d\u0000",
+            "\u020e\u0000\u020f\u0000\u0210\u0000\u0211\u00b2\u0211\u0000\u0212\u0000\u0214\u0000\u0215\u00b4",
+            "\u0215\u0000\u0216\u0000\u0217\u0000\u0218\u0000\u0219\u0000\u021a\u0000\u021b\u0000\u021c\u0000",
+            "\u021d\u0000\u021e\u00b6\u021e\u0000\u021f\u0000\u0220\u0000\u0221\u0000\u0222\u0000\u0223\u00b8",
+            "\u0223\u0000\u0224\u0000\u0225\u0000\u0226\u0000\u0227\u0000\u0228\u00ba\u0228\u0000\u0229\u0000",
+            "\u022a\u0000\u022b\u0000\u022c\u00bc\u022c\u0000\u022d\u0000\u022e\u0000\u022f\u0000\u0230\u0000",
+            "\u0231\u0000\u0232\u0000\u0233\u0000\u0234\u0000\u0235\u0000\u0236\u0000\u0237\u00be\u0237\u0000",
+            "\u023b\u0000\u023c\u0000\u023d\u00c0\u023d\u0000\u0240\u00c2\u0240\u0000\u0241\u0000\u0242\u0000",
+            "\u0243\u00c4\u0243\u0000\u0244\u0000\u0245\u0000\u0246\u0000\u0247\u0000\u0248\u00c6\u0248\u0000",
+            "\u0249\u0000\u024a\u0000\u024b\u0000\u0251\u0000\u0252\u0000\u0253\u0000\u0254\u0000\u0255\u0000",
+            "\u0256\u0000\u0257\u0000\u0258\u0000\u0259\u0000\u025a\u0000\u025b\u0000\u025c\u0000\u025d\u0000",
+            "\u025e\u0000\u025f\u0000\u0260\u00c8\u0260\u0000\u0261\u0000\u0263\u0000\u0264\u00ca\u0264\u0000",
+            "\u0265\u0000\u0266\u0000\u0267\u0000\u0268\u0000\u0269\u0000\u026a\u0000\u026b\u00cc\u026b\u0000",
+            "\u026d\u0000\u026e\u0000\u026f\u0000\u0272\u0000\u0273\u0000\u0274\u0000\u0275\u0000\u0276\u0000",
+            "\u0277\u00ce\u0277\u0000\u0278\u0000\u0279\u0000\u027a\u0000\u027b\u0000\u027c\u0000\u027d\u0000",
+            "\u027e\u0000\u027f\u0000\u0280\u0000\u0281\u00d0\u0281\u0000\u0282\u0000\u0283\u0000\u0284\u00d2",
+            "\u0284\u0000\u0285\u0000\u0286\u0000\u0288\u0000\u0289\u0000\u028a\u0000\u028b\u0000\u028d\u0000",
+            "\u028e\u0000\u028f\u0000\u0290\u0000\u0291\u0000\u0292\u00d4\u0292\u0000\u0293\u0000\u0294\u0000",
+            "\u0295\u0000\u0296\u0000\u0297\u0000\u0298\u0000\u0299\u0000\u029a\u0000\u029b\u0000\u029c\u00d6",
+            "\u029c\u0000\u029d\u0000\u029e\u0000\u029f\u0000\u02a0\u0000\u02a1\u0000\u02a2\u0000\u02a3\u0000",
+            "\u02a4\u0000\u02a5\u0000\u02a6\u00d8\u02a6\u0000\u02a7\u0000\u02a8\u0000\u02a9\u0000\u02aa\u0000",
+            "\u02ac\u0000\u02ad\u0000\u02ae\u0000\u02af\u0000\u02b0\u0000\u02b1\u00da\u02b1\u0000\u02b2\u0000",
+            "\u02b3\u0000\u02b4\u00dc\u02b4\u0000\u02b5\u0000\u02b7\u0000\u02b8\u0000\u02b9\u0000\u02ba\u0000",
+            "\u02bb\u0000\u02bc\u00de\u02bc\u0000\u02bd\u0000\u02be\u0000\u02bf\u0000\u02c0\u0000\u02c1\u0000",
+            "\u02c2\u0000\u02c3\u0000\u02c4\u0000\u02c5\u00e0\u02c5\u0000\u02c6\u0000\u02c7\u0000\u02c8\u0000",
+            "\u02c9\u0000\u02ca\u0000\u02cb\u0000\u02cc\u0000\u02cd\u0000\u02ce\u0000\u02cf\u0000\u02d0\u00e2",
+            "\u02d0\u0000\u02d1\u0000\u02d7\u0000\u02d8\u0000\u02d9\u0000\u02da\u0000\u02db\u0000\u02de\u00e4",
+            "\u02de\u0000\u02df\u0000\u02e0\u0000\u02e1\u00e6\u02e1\u0000\u02e2\u0000\u02e3\u0000\u02e4\u0000",
+            "\u02e5\u0000\u02e6\u0000\u02e7\u0000\u02e8\u00e8\u02e8\u0000\u02e9\u0000\u02ea\u0000\u02eb\u0000",
+            "\u02ec\u0000\u02ed\u00ea\u02ed\u0000\u02ee\u0000\u02ef\u0000\u02f0\u0000\u02f3\u0000\u02f4\u0000",
+            "\u02f5\u0000\u02f6\u0000\u02f7\u0000\u02f8\u0000\u02f9\u0000\u02fa\u0000\u02fb\u0000\u02fc\u0000",
+            "\u02fd\u0000\u02fe\u00ec\u02fe\u0000\u02ff\u0000\u0300\u0000\u0301\u0000\u0302\u0000\u0303\u0000",
+            "\u0304\u0000\u0305\u0000\u0306\u0000\u0307\u00ee\u0307\u0000\u0308\u0000\u0309\u0000\u030a\u0000",
+            "\u030b\u0000\u030c\u0000\u030e\u00f0\u030e\u0000\u030f\u0000\u0310\u0000\u0311\u00f2\u0311\u0000",
+            "\u0312\u0000\u0313\u0000\u0314\u0000\u0315\u0000\u0317\u0000\u0318\u0000\u0319\u0000\u031a\u0000",
+            "\u031b\u0000\u031c\u0000\u031d\u0000\u031e\u0000\u031f\u0000\u0320\u00f4\u0320\u0000\u0321\u0000",
+            "\u0322\u0000\u0323\u0000\u0324\u0000\u0325\u0000\u0327\u00f6\u0327\u0000\u0328\u0000\u0329\u0000",
+            "\u032a\u00f8\u032a\u0000\u032b\u0000\u032c\u0000\u032e\u00fa\u032e\u0000\u032f\u0000\u0330\u0000",
+            "\u0331\u0000\u0332\u0000\u0333\u00fc\u0333\u0000\u0334\u0000\u0335\u0000\u0336\u0000\u0337\u0000",
+            "\u0338\u00fe\u0338\u0000\u033a\u0000\u033b\u0000\u033c\u0100\u033c\u0000\u033d\u0000\u033e\u0000",
+            "\u033f\u0000\u0340\u0102\u0340\u0000\u0350\u0000\u0351\u0000\u0352\u0104\u0352\u0000\u0353\u0105",
+            "\u0354\u0108\u0354\u0000\u0355\u0000\u0356\u0000\u0357\u0000\u0358\u0109\u0359\u010c\u0359\u0000",
+            "\u035c\u0000\u035d\u0000\u035e\u0000\u035f\u0000\u0360\u010e\u0360\u0000\u0361\u0000\u0362\u010f",
+            "\u0363\u0112\u0363\u0000\u0364\u0114\u0364\u0000\u0365\u0000\u0366\u0000\u0367\u0116\u0367\u0000",
+            "\u0368\u0000\u0369\u0118\u0369\u0000\u036a\u0000\u036b\u0000\u036c\u0000\u036d\u0119\u036e\u011c",
+            "\u036e\u0000\u036f\u0000\u0370\u0000\u0371\u0000\u0372\u0000\u0373\u0000\u0374\u011e\u0374\u0000",
+            "\u0376\u0000\u0377\u0000\u0378\u0000\u0379\u0120\u0379\u0000\u037a\u0000\u037b\u0000\u037d\u0000",
+            "\u037e\u0000\u037f\u0000\u0380\u0000\u0381\u0000\u0382\u0000\u0383\u0000\u0384\u0000\u0385\u0000",
+            "\u0386\u0000\u0387\u0000\u0388\u0122\u0388\u0000\u0389\u0000\u038a\u0000\u038b\u0000\u038c\u0000",
+            "\u038d\u0000\u038e\u0000\u038f\u0000\u0390\u0000\u0391\u0000\u0392\u0000\u0393\u0000\u0394\u0000",
+            "\u0395\u0000\u0396\u0000\u0397\u0124\u0397\u0000\u0399\u0000\u039a\u0000\u039b\u0000\u039c\u0126",
+            "\u039c\u0000\u039d\u0000\u039e\u0128\u039e\u0000\u039f\u0000\u03a0\u0000\u03a1\u0000\u03a2\u0000",
+            "\u03a3\u0000\u03a4\u012a\u03a4\u0000\u03a5\u0000\u03a7\u0000\u03a8\u0000\u03aa\u012c\u03aa\u0000",
+            "\u03ab\u0000\u03ac\u0000\u03ad\u0000\u03ae\u0000\u03af\u012e\u03af\u0000\u03b0\u0000\u03b1\u0000",
+            "\u03b2\u0000\u03b3\u0000\u03b4\u0000\u03b5\u0000\u03b6\u0000\u03b7\u0130\u03b7\u0000\u03b9\u0000",
+            "\u03ba\u0000\u03bb\u0132\u03bb\u0000\u03bc\u0000\u03bd\u0134\u03bd\u0000\u03be\u0000\u03bf\u0136",
+            "\u03bf\u0000\u03c0\u0000\u03c1\u0137\u03c2\u013a\u03c2\u0000\u03c4\u0000\u03c5\u0000\u03c6\u0000",
+            "\u03c7\u0000\u03c8\u013c\u03c8\u0000\u03c9\u0000\u03ca\u0000\u03cb\u0000\u03cc\u0000\u03cd\u0000",
+            "\u03ce\u0000\u03cf\u0000\u03d0\u0000\u03d1\u0000\u03d2\u013e\u03d2\u0000\u03d7\u0000\u03d8\u0000",
+            "\u03d9\u0140\u03d9\u0000\u03da\u0000\u03db\u0142\u03db\u0000\u03dc\u0000\u03dd\u0000\u03de\u0000",
+            "\u03df\u0000\u03e1\u0000\u03e2\u0000\u03e3\u0000\u03e4\u0000\u03e5\u0000\u03e6\u0000\u03e7\u0000",
+            "\u03e8\u0000\u03e9\u0000\u03ea\u0000\u03eb\u0000\u03ec\u0144\u03ec\u0000\u03ed\u0000\u03ee\u0000",
+            "\u03ef\u0000\u03f0\u0000\u03f1\u0000\u03f2\u0000\u03f3\u0000\u03f4\u0000\u03f5\u0000\u03f6\u0000",
+            "\u03f7\u0000\u03f8\u0000\u03f9\u0000\u03fa\u0000\u03fb\u0146\u03fb\u0000\u03fe\u0000\u03ff\u0000",
+            "\u0400\u0148\u0400\u0000\u0401\u0000\u0402\u0000\u0403\u0000\u0404\u014a\u0404\u0000\u0405\u0000",
+            "\u0406\u0000\u0407\u0000\u0408\u0000\u0409\u0000\u040a\u0000\u040b\u0000\u040c\u014c\u040c\u0000",
+            "\u040d\u0000\u040e\u0000\u040f\u014e\u040f\u0000\u041b\u0000\u041c\u0000\u041d\u0000\u041e\u0150",
+            "\u041e\u0151\u041f\u0154\u041f\u0000\u0420\u0000\u0421\u0000\u0422\u0000\u0424\u0156\u0424\u0000",
+            "\u0425\u0158\u0425\u0000\u0426\u0000\u0427\u0000\u0428\u0000\u0429\u0000\u042a\u015a\u042a\u0000",
+            "\u042d\u0000\u042e\u0000\u042f\u0000\u0430\u0000\u0431\u015c\u0431\u0000\u0432\u0000\u0433\u0000",
+            "\u0434\u015e\u0434\u0000\u0435\u0160\u0435\u0000\u0436\u0000\u0437\u0000\u0438\u0162\u0438\u0000",
+            "\u0439\u0000\u043a\u0164\u043a\u0000\u043b\u0166\u043b\u0000\u043c\u0000\u043d\u0000\u043e\u0168",
+            "\u043e\u0000\u043f\u0000\u0440\u0000\u0441\u0000\u0442\u0000\u0443\u0000\u0449\u0000\u044a\u0000",
+            "\u044b\u0000\u044c\u0000\u044d\u0000\u044f\u016a\u044f\u0000\u0450\u0000\u0451\u0000\u0452\u0000",
+            "\u0453\u016c\u0453\u0000\u0454\u0000\u0455\u0000\u0456\u0000\u0457\u0000\u0458\u0000\u0459\u0000",
+            "\u045a\u0000\u045b\u0000\u045c\u016e\u045c\u0000\u045d\u0000\u045e\u0000\u045f\u0000\u0460\u0000",
+            "\u0461\u0000\u0462\u0000\u0463\u0170\u0463\u0000\u0464\u0000\u0465\u0000\u0466\u0000\u0467\u0172",
+            "\u0467\u0000\u0468\u0000\u0469\u0000\u046a\u0000\u046b\u0000\u046c\u0000\u046d\u0000\u046e\u0000",
+            "\u046f\u0000\u0470\u0000\u0471\u0174\u0471\u0000\u0472\u0000\u0473\u0000\u0474\u0000\u0475\u0000",
+            "\u0476\u0176\u0476\u0000\u0477\u0000\u0478\u0000\u0479\u0178\u0479\u0000\u047a\u017a\u047a\u0000",
+            "\u0482\u0000\u0483\u0000\u0484\u0000\u0485\u0000\u0486\u0000\u0487\u017c\u0487\u0000\u0489\u0000",
+            "\u048a\u0000\u048b\u0000\u048c\u017e\u048c\u0000\u048d\u0180\u048d\u0000\u048e\u0000\u048f\u0000",
+            "\u0490\u0000\u0491\u0182\u0491\u0000\u0492\u0000\u0493\u0184\u0493\u0000\u0494\u0000\u0495\u0000",
+            "\u0496\u0000\u0497\u0000\u0498\u0000\u0499\u0000\u049a\u0000\u049b\u0000\u049c\u0000\u049d\u0000",
+            "\u049e\u0186\u049e\u0000\u04a0\u0000\u04a1\u0000\u04a2\u0188\u04a2\u0000\u04a3\u0000\u04a4\u0000",
+            "\u04a5\u0000\u04a6\u0000\u04a7\u0000\u04a8\u0000\u04a9\u0000\u04aa\u0000\u04ab\u0000\u04ac\u0000",
+            "\u04ad\u0000\u04ae\u018a\u04ae\u0000\u04b0\u0000\u04b1\u0000\u04b2\u018c\u04b2\u0000\u04b3\u0000",
+            "\u04b4\u0000\u04b5\u0000\u04b6\u018e\u04b6\u0000\u04b7\u0000\u04b8\u0000\u04ba\u0000\u04bb\u0000",
+            "\u04bc\u0000\u04bd\u0000\u04be\u0000\u04bf\u0000\u04c0\u0000\u04c1\u0000\u04c2\u0190\u04c2\u0000",
+            "\u04c3\u0000\u04c4\u0000\u04c5\u0000\u04c6\u0000\u04c7\u0192\u04c7\u0000\u04d5\u0000\u04d6\u0000",
+            "\u04d7\u0000\u04d8\u0194\u04d8\u0000\u04d9\u0000\u04da\u0000\u04db\u0000\u04dc\u0196\u04dc\u0000",
+            "\u04dd\u0000\u04de\u0000\u04df\u0198\u04df\u0000\u04e0\u0000\u04e1\u0000\u04e2\u0000\u04e3\u0199",
+            "\u04e4\u019c\u04e4\u0000\u04e6\u0000\u04e7\u0000\u04e8\u019d\u04e9\u01a0\u04e9\u0000\u04ea\u01a2",
+            "\u04ea\u0000\u04eb\u0000\u04ec\u0000\u04ed\u01a4\u04ed\u0000\u04ee\u0000\u04ef\u01a6\u04ef\u0000",
+            "\u04f0\u0000\u04f1\u0000\u04f2\u0000\u04f3\u01a7\u04f4\u01aa\u04f4\u0000\u04f7\u01ac\u04f7\u0000",
+            "\u04f9\u0000\u04fa\u0000\u04fb\u01ae\u04fb\u0000\u04fc\u0000\u04fd\u0000\u04fe\u0000\u04ff\u0000",
+            "\u0500\u0000\u0501\u0000\u0502\u01b0\u0502\u0000\u0503\u0000\u0504\u0000\u0505\u0000\u0506\u0000",
+            "\u0507\u01b2\u0507\u0000\u0509\u0000\u050b\u01b4\u050b\u0000\u050d\u0000\u050e\u0000\u050f\u0000",
+            "\u0510\u0000\u0511\u01b6\u0511\u0000\u0512\u0000\u0513\u0000\u0514\u0000\u0515\u0000\u0516\u0000",
+            "\u0517\u0000\u0518\u0000\u0519\u01b8\u0519\u0000\u051a\u0000\u051b\u0000\u051c\u0000\u051d\u0000",
+            "\u051e\u0000\u051f\u0000\u0521\u0000\u0522\u0000\u0523\u0000\u0524\u0000\u0525\u0000\u0526\u01ba",
+            "\u0526\u0000\u0527\u0000\u0528\u0000\u0529\u0000\u052a\u0000\u052b\u01bc\u052b\u0000\u052e\u0000",
+            "\u052f\u0000\u0530\u0000\u0531\u01be\u0531\u0000\u0532\u0000\u0533\u01c0\u0533\u0000\u0534\u0000",
+            "\u0535\u01c2\u0535\u0000\u0536\u0000\u0537\u0000\u0538\u01c4\u0538\u0000\u0539\u0000\u053a\u0000",
+            "\u053b\u0000\u053c\u0000\u053d\u01c6\u053d\u0000\u053f\u0000\u0540\u0000\u0541\u0000\u0542\u01c8",
+            "\u0542\u0000\u0543\u01c9\u0544\u01cc\u0544\u0000\u0549\u0000\u054b\u0000\u054c\u0000\u054d\u0000",
+            "\u054e\u01ce\u054e\u0000\u054f\u01d0\u054f\u0000\u0550\u0000\u0551\u01d2\u0551\u0000\u0552\u0000",
+            "\u0553\u0000\u0554\u01d4\u0554\u0000\u0556\u0000\u0557\u0000\u0558\u01d6\u0558\u0000\u0559\u0000",
+            "\u055a\u0000\u055b\u0000\u055c\u01d8\u055c\u0000\u055d\u0000\u055e\u0000\u055f\u0000\u0560\u01da",
+            "\u0560\u0000\u0567\u0000\u0568\u0000\u0569\u0000\u056a\u01dc\u056a\u0000\u056b\u0000\u056c\u0000",
+            "\u056d\u01de\u056d\u0000\u056e\u0000\u056f\u0000\u0570\u0000\u0571\u01e0\u0571\u0000\u0573\u0000",
+            "\u0574\u0000\u0575\u0000\u0576\u0000\u0577\u01e2\u0577\u0000\u0578\u01e4\u0578\u0000\u0579\u0000",
+            "\u057a\u01e6\u057a\u0000\u057b\u0000\u057c\u0000\u057d\u01e8\u057d\u0000\u057e\u0000\u057f\u0000",
+            "\u0580\u01ea\u0580\u0000\u058b\u0000\u058c\u0000\u058d\u0000\u058e\u01ec\u058e\u01ed\u058f\u01f0",
+            "\u058f\u0000\u0594\u0000\u0595\u0000\u0596\u0000\u0597\u0000\u0598\u01f2\u0598\u0000\u0599\u0000",
+            "\u059a\u0000\u059b\u0000\u059c\u01f4\u059c\u0000\u059d\u0000\u059e\u01f6\u059e\u0000\u059f\u0000",
+            "\u05a0\u0000\u05a1\u0000\u05a2\u0000\u05a3\u0000\u05a4\u0000\u05a5\u0000\u05a6\u01f8\u05a6\u0000",
+            "\u05a7\u0000\u05a8\u01fa\u05a8\u0000\u05ab\u0000\u05ac\u0000\u05ad\u0000\u05ae\u0000\u05af\u01fc",
+            "\u05af\u0000\u05b0\u0000\u05b1\u0000\u05b2\u0000\u05b3\u01fe\u05b3\u0000\u05b4\u0200\u05b4\u0000",
+            "\u05b6\u0000\u05b7\u0000\u05c1\u0000\u05c3\u0000\u05c4\u0000\u05c5\u0000\u05c6\u0000\u05c7\u0000",
+            "\u05c8\u0000\u05c9\u0000\u05ca\u0000\u05cb\u0000\u05cc\u0000\u05cd\u0000\u05ce\u0202\u05ce\u0000",
+            "\u05cf\u0000\u05d0\u0000\u05d1\u0000\u05d4\u0204\u05d4\u0000\u05d5\u0000\u05d6\u0000\u05d7\u0206",
+            "\u05d7\u0000\u05d8\u0000\u05d9\u0000\u05da\u0000\u05db\u0000\u05dc\u0000\u05dd\u0000\u05de\u0000",
+            "\u05df\u0000\u05e0\u0000\u05e1\u0208\u05e1\u0000\u05e2\u0000\u05e3\u0000\u05e4\u0000\u05e5\u0000",
+            "\u05e6\u0000\u05e7\u0000\u05e8\u020a\u05e8\u0000\u05e9\u0000\u05eb\u0000\u05ec\u0000\u05ed\u0000",
+            "\u05ee\u0000\u05ef\u0000\u05f0\u0000\u05f1\u0000\u05f2\u0000\u05f3\u0000\u05f4\u0000\u05f5\u0000",
+            "\u05f6\u020c\u05f6\u0000\u05f7\u0000\u05f9\u0000\u05fa\u0000\u05fb\u0000\u05fc\u0000\u05fd\u0000",
+            "\u05fe\u0000\u05ff\u0000\u0600\u0000\u0601\u0000\u0602\u020e\u0602\u0000\u0603\u0000\u0604\u0000",
+            "\u0605\u0000\u0606\u0000\u0607\u0000\u0609\u0210\u0609\u0000\u060a\u0000\u060b\u0000\u060c\u0212",
+            "\u060c\u0000\u060d\u0000\u060e\u0000\u060f\u0000\u0610\u0000\u0611\u0214\u0611\u0000\u0612\u0000",
+            "\u0613\u0000\u0614\u0000\u0615\u0000\u0617\u0000\u0618\u0000\u0619\u0000\u061a\u0000\u061b\u0000",
+            "\u061c\u0216\u061c\u0000\u061d\u0000\u061e\u0000\u061f\u0000\u0620\u0000\u0621\u0000\u0622\u0218",
+            "\u0622\u0000\u0624\u0000\u0625\u0000\u0628\u021a\u0628\u0000\u0629\u0000\u062a\u0000\u062b\u0000",
+            "\u062c\u0000\u062d\u021c\u062d\u0000\u062e\u0000\u062f\u0000\u0630\u0000\u0631\u0000\u0632\u0000",
+            "\u0633\u021e\u0633\u0000\u0634\u0000\u0635\u0000\u0636\u0000\u0637\u0000\u0638\u0000\u0639\u0000",
+            "\u063c\u0220\u063c\u0000\u063d\u0000\u063e\u0000\u063f\u0222\u063f\u0000\u0640\u0000\u0641\u0000",
+            "\u0642\u0000\u0643\u0000\u0644\u0224\u0644\u0000\u0645\u0000\u0648\u0000\u0649\u0000\u064a\u0000",
+            "\u064b\u0000\u064c\u0000\u064d\u0000\u064e\u0000\u064f\u0000\u0650\u0000\u0651\u0000\u0652\u0226",
+            "\u0652\u0000\u0653\u0000\u0654\u0000\u0655\u0000\u0656\u0000\u0657\u0000\u0658\u0000\u0659\u0000",
+            "\u065a\u0000\u065b\u0228\u065b\u0000\u065c\u0000\u065d\u0000\u065e\u0000\u065f\u0000\u0660\u0000",
+            "\u0662\u022a\u0662\u0000\u0663\u0000\u0664\u0000\u0665\u022c\u0665\u0000\u0666\u0000\u0667\u0000",
+            "\u0668\u0000\u0669\u0000\u066a\u0000\u066c\u022e\u066c\u0000\u066d\u0000\u066e\u0000\u066f\u0230",
+            "\u066f\u0000\u0670\u0000\u0671\u0000\u0672\u0000\u0673\u0000\u0674\u0232\u0674\u0000\u0675\u0000",
+            "\u0676\u0000\u0677\u0000\u0678\u0000\u0679\u0000\u067a\u0000\u067b\u0000\u067c\u0000\u067d\u0000",
+            "\u067e\u0234\u067e\u0000\u067f\u0000\u0685\u0000\u0686\u0000\u0687\u0000\u0688\u0000\u0689\u0000",
+            "\u068a\u0000\u068b\u0000\u068c\u0000\u068d\u0000\u068e\u0000\u068f\u0000\u0690\u0000\u0691\u0236",
+            "\u0691\u0000\u0692\u0000\u0693\u0000\u0694\u0000\u0695\u0000\u0696\u0000\u0697\u0000\u0698\u0000",
+            "\u0699\u0000\u069a\u0238\u069a\u0000\u069b\u0000\u069c\u0000\u069d\u0000\u069e\u0000\u069f\u0000",
+            "\u06a0\u0000\u06a1\u023a\u06a1\u0000\u06a2\u0000\u06a3\u0000\u06a4\u0000\u06a5\u023c\u06a5\u0000",
+            "\u06a6\u0000\u06a7\u0000\u06a8\u0000\u06a9\u0000\u06aa\u0000\u06ab\u0000\u06ac\u0000\u06ad\u0000",
+            "\u06ae\u0000\u06af\u023e\u06af\u0000\u06b0\u0000\u06b1\u0000\u06b2\u0000\u06b3\u0000\u06b4\u0240",
+            "\u06b4\u0000\u06b5\u0000\u06b6\u0242\u06b6\u0000\u06b8\u0244\u06b8\u0000\u06b9\u0000\u06ba\u0000",
+            "\u06bb\u0000\u06bc\u0000\u06bd\u0000\u06be\u0000\u06bf\u0000\u06c0\u0246\u06c0\u0000\u06c1\u0000",
+            "\u06c2\u0000\u06c3\u0000\u06c4\u0000\u06c5\u0248\u06c5\u0000\u06c8\u0000\u06c9\u0000\u06cd\u0000",
+            "\u06ce\u0000\u06cf\u0000\u06d0\u0000\u06d2\u0000\u06d3\u0000\u06d4\u0000\u06d5\u0000\u06d6\u0000",
+            "\u06d7\u024a\u06d7\u0000\u06d8\u0000\u06d9\u0000\u06da\u0000\u06db\u0000\u06dc\u0000\u06dd\u0000",
+            "\u06de\u0000\u06df\u0000\u06e0\u0000\u06e1\u024c\u06e1\u0000\u06e2\u0000\u06e3\u0000\u06e4\u0000",
+            "\u06e5\u0000\u06e6\u0000\u06e7\u0000\u06e8\u0000\u06e9\u0000\u06ea\u0000\u06eb\u024e\u06eb\u0000",
+            "\u06ec\u0000\u06ed\u0000\u06ee\u0000\u06f0\u0000\u06f1\u0000\u06f2\u0000\u06f3\u0000\u06f4\u0000",
+            "\u06f5\u0250\u06f5\u0000\u06f6\u0000\u06f7\u0000\u06f8\u0000\u06f9\u0000\u06fa\u0000\u06fb\u0000",
+            "\u06fc\u0000\u06fd\u0000\u06fe\u0000\u06ff\u0252\u06ff\u0000\u0700\u0000\u0701\u0000\u0702\u0000",
+            "\u0703\u0000\u0704\u0000\u0705\u0000\u0706\u0000\u0707\u0000\u0708\u0000\u0709\u0254\u0709\u0000",
+            "\u070a\u0000\u070b\u0256\u070b\u0000\u070c\u0000\u070d\u0000\u070f\u0000\u0710\u0000\u0711\u0000",
+            "\u0712\u0000\u0713\u0000\u0714\u0000\u0715\u0000\u0716\u0000\u0717\u0000\u0718\u0258\u0718\u0000",
+            "\u0719\u0000\u071a\u0000\u071b\u0000\u071c\u0000\u071d\u0000\u071e\u0000\u071f\u0000\u0720\u0000",
+            "\u0721\u0000\u0722\u025a\u0722\u0000\u0725\u0000\u0726\u0000\u0727\u025c\u0727\u0000\u0728\u025e",
+            "\u0728\u0000\u0729\u0000\u072a\u0000\u072b\u0000\u072c\u0260\u072c\u0000\u072d\u0262\u072d\u0000",
+            "\u0735\u0000\u0736\u0000\u0737\u0264\u0737\u0000\u0738\u0000\u0739\u0266\u0739\u0000\u073b\u0000",
+            "\u073c\u0000\u073d\u0000\u073e\u0000\u073f\u0000\u0740\u0000\u0741\u0000\u0742\u0000\u0743\u0000",
+            "\u0744\u0268\u0744\u0000\u0745\u0000\u0746\u0000\u0747\u0000\u0748\u0000\u0749\u0000\u074a\u0000",
+            "\u074b\u026a\u074b\u0000\u074c\u0000\u074d\u026c\u074d\u0000\u074e\u0000\u074f\u0000\u0750\u0000",
+            "\u0751\u0000\u0752\u0000\u0753\u0000\u0754\u0000\u0755\u026e\u0755\u0000\u0756\u0000\u0757\u0000",
+            "\u0758\u0270\u0758\u0000\u0759\u0000\u075a\u0000\u075b\u0272\u075b\u0000\u075c\u0274\u075c\u0000",
+            "\u0765\u0000\u0766\u0000\u0767\u0000\u0768\u0276\u0768\u0000\u0769\u0000\u076a\u0000\u076b\u0000",
+            "\u076c\u0000\u076d\u0278\u076d\u0000\u0770\u0000\u0771\u0000\u0772\u0000\u0773\u0000\u0774\u027a",
+            "\u0774\u0000\u0775\u0000\u0776\u0000\u0777\u0000\u0778\u027c\u0778\u0000\u0779\u027e\u0779\u0000",
+            "\u077c\u0000\u077d\u0000\u077e\u0000\u077f\u0000\u0780\u0000\u0781\u0000\u0784\u0000\u0785\u0000",
+            "\u0786\u0000\u0787\u0000\u0788\u0000\u0789\u0000\u078a\u0000\u078b\u0000\u078c\u0000\u078d\u0000",
+            "\u078e\u0000\u078f\u0280\u078f\u0000\u0790\u0000\u0791\u0000\u0793\u0000\u0794\u0000\u0795\u0000",
+            "\u0796\u0000\u0797\u0000\u0798\u0000\u0799\u0000\u079a\u0282\u079a\u0000\u079b\u0000\u079c\u0000",
+            "\u079d\u0000\u079e\u0000\u079f\u0000\u07a0\u0284\u07a0\u0000\u07a1\u0000\u07a2\u0000\u07a3\u0000",
+            "\u07a4\u0000\u07a5\u0000\u07a6\u0000\u07a7\u0000\u07a8\u0000\u07a9\u0000\u07aa\u0000\u07ab\u0000",
+            "\u07ac\u0000\u07ad\u0286\u07ad\u0000\u07ae\u0000\u07af\u0000\u07b0\u0000\u07b2\u0000\u07b3\u0000",
+            "\u07b4\u0000\u07b5\u0000\u07b6\u0000\u07b7\u0000\u07b8\u0000\u07b9\u0000\u07ba\u0000\u07bb\u0000",
+            "\u07bc\u0000\u07bd\u0000\u07be\u0000\u07bf\u0000\u07c0\u0288\u07c0\u0000\u07c1\u0000\u07c2\u0000",
+            "\u07c3\u0000\u07c4\u0000\u07c5\u0000\u07c6\u0000\u07c7\u0000\u07c8\u028a\u07c8\u0000\u07c9\u0000",
+            "\u07ca\u0000\u07cb\u0000\u07cc\u0000\u07cd\u028c\u07cd\u0000\u07ce\u0000\u07cf\u028e\u07cf\u0000",
+            "\u07d3\u0000\u07d4\u0000\u07d5\u0000\u07d6\u0000\u07d7\u0000\u07d8\u0290\u07d8\u0000\u07d9\u0000",
+            "\u07da\u0000\u07db\u0000\u07dc\u0000\u07dd\u0000\u07de\u0000\u07df\u0000\u07e0\u0000\u07e1\u0000",
+            "\u07e2\u0000\u07e3\u0000\u07e4\u0000\u07e5\u0000\u07e6\u0292\u07e6\u0000\u07e7\u0000\u07e8\u0294",
+            "\u07e8\u0000\u07f5\u0296\u07f5\u0000\u07f7\u0000\u07f8\u0000\u07f9\u0000\u07fa\u0000\u07fb\u0000",
+            "\u07fc\u0000\u07fd\u0000\u07fe\u0000\u07ff\u0298\u07ff\u0000\u0800\u0000\u0801\u0000\u0802\u0000",
+            "\u0803\u0000\u0804\u029a\u0804\u0000\u0805\u0000\u0806\u0000\u0807\u0000\u0808\u0000\u0809\u0000",
+            "\u080a\u0000\u080b\u0000\u080c\u0000\u080d\u0000\u080e\u0000\u080f\u0000\u0810\u0000\u0811\u0000",
+            "\u0812\u0000\u0813\u0000\u0814\u0000\u0815\u029c\u0815\u0000\u0818\u0000\u0819\u0000\u081a\u0000",
+            "\u081b\u0000\u081c\u0000\u081d\u0000\u081e\u029e\u081e\u0000\u081f\u0000\u0820\u0000\u0821\u0000",
+            "\u0823\u02a0\u0823\u0000\u0824\u0000\u0825\u0000\u0826\u0000\u0827\u0000\u0828\u02a2\u0828\u0000",
+            "\u0829\u0000\u082a\u0000\u082b\u0000\u082c\u0000\u082d\u02a4\u082d\u0000\u082e\u0000\u082f\u0000",
+            "\u0830\u0000\u0831\u0000\u0832\u0000\u0833\u0000\u083a\u02a6\u083a\u0000\u083b\u0000\u083c\u0000",
+            "\u083d\u0000\u083e\u0000\u083f\u02a8\u083f\u0000\u0840\u0000\u0841\u0000\u0842\u0000\u0843\u0000",
+            "\u0844\u0000\u0845\u0000\u0846\u0000\u0847\u0000\u0848\u02aa\u0848\u0000\u0849\u0000\u084a\u0000",
+            "\u084b\u0000\u084c\u0000\u084d\u0000\u084e\u0000\u084f\u02ac\u084f\u0000\u0850\u0000\u0851\u0000",
+            "\u0852\u0000\u0853\u02ae\u0853\u0000\u0854\u0000\u0855\u0000\u0856\u0000\u0857\u0000\u0858\u0000",
+            "\u0859\u0000\u085a\u0000\u085b\u0000\u085c\u0000\u085d\u02b0\u085d\u0000\u085e\u0000\u085f\u0000",
+            "\u0860\u0000\u0861\u0000\u0862\u02b2\u0862\u0000\u0863\u0000\u0864\u0000\u0865\u0000\u0867\u0000",
+            "\u0868\u0000\u0869\u0000\u086a\u0000\u086b\u0000\u086c\u0000\u086d\u0000\u086e\u0000\u086f\u02b4",
+            "\u086f\u0000\u0870\u0000\u0871\u0000\u0872\u0000\u0873\u0000\u0874\u02b6\u0874\u0000\u0875\u0000",
+            "\u0877\u0000\u0878\u0000\u0879\u0000\u087a\u0000\u087b\u0000\u087c\u0000\u087d\u0000\u087e\u0000",
+            "\u087f\u0000\u0880\u0000\u0883\u02b8\u0883\u0000\u0884\u0000\u0885\u0000\u0886\u02ba\u0886\u0000",
+            "\u0887\u0000\u0888\u0000\u0889\u0000\u088a\u0000\u088b\u02bc\u088b\u0000\u088c\u0000\u0892\u02be",
+            "\u0892\u0000\u0893\u0000\u0894\u0000\u0895\u0000\u0896\u0000\u0897\u02c0\u0897\u0000\u0898\u0000",
+            "\u0899\u0000\u089a\u0000\u089b\u0000\u089c\u0000\u089d\u0000\u089e\u02c2\u089e\u0000\u089f\u0000",
+            "\u08a0\u0000\u08a1\u0000\u08a2\u02c4\u08a2\u0000\u08a3\u0000\u08a4\u0000\u08a5\u0000\u08a6\u0000",
+            "\u08a7\u0000\u08a8\u0000\u08a9\u0000\u08aa\u0000\u08ab\u0000\u08ac\u02c6\u08ac\u0000\u08ad\u0000",
+            "\u08ae\u0000\u08af\u0000\u08b0\u0000\u08b1\u02c8\u08b1\u0000\u08b2\u0000\u08b3\u0000\u08b4\u0000",
+            "\u08b5\u0000\u08b6\u0000\u08b8\u0000\u08b9\u0000\u08ba\u0000\u08bb\u0000\u08bc\u0000\u08bd\u0000",
+            "\u08be\u0000\u08bf\u0000\u08c0\u0000\u08c1\u0000\u08c2\u0000\u08c3\u0000\u08c4\u0000\u08c5\u0000",
+            "\u08c6\u02ca\u08c6\u0000\u08c7\u0000\u08c8\u0000\u08c9\u0000\u08ca\u0000\u08cb\u0000\u08cc\u0000",
+            "\u08cd\u0000\u08ce\u02cc\u08ce\u0000\u08cf\u0000\u08d0\u0000\u08d1\u0000\u08d2\u0000\u08d3\u0000",
+            "\u08d4\u0000\u08d5\u0000\u08d8\u02ce\u08d8\u0000\u08d9\u0000\u08da\u0000\u08db\u0000\u08dc\u0000",
+            "\u08dd\u02d0\u08dd\u0000\u08de\u0000\u08df\u0000\u08e0\u0000\u08e1\u0000\u08e2\u0000\u08e3\u0000",
+            "\u08e4\u0000\u08e5\u0000\u08e6\u0000\u08e7\u02d2\u08e7\u0000\u08e9\u0000\u08ea\u0000\u08eb\u0000",
+            "\u08ec\u0000\u08ed\u0000\u08ee\u0000\u08ef\u0000\u08f0\u0000\u08f1\u0000\u08f2\u0000\u08f3\u0000",
+            "\u08f4\u0000\u08f5\u0000\u08f6\u02d4\u08f6\u0000\u08f7\u0000\u08f8\u0000\u08f9\u0000\u08fa\u0000",
+            "\u08fb\u0000\u08fc\u0000\u08fd\u0000\u08fe\u0000\u08ff\u0000\u0900\u0000\u0901\u0000\u0904\u02d6",
+            "\u0904\u0000\u0905\u0000\u0906\u0000\u0907\u02d8\u0907\u0000\u0908\u0000\u0909\u0000\u090a\u0000",
+            "\u090b\u0000\u090c\u02da\u090c\u0000\u090e\u0000\u090f\u0000\u0910\u0000\u0911\u0000\u0912\u0000",
+            "\u0913\u0000\u0914\u0000\u0916\u0000\u0917\u0000\u0918\u0000\u0919\u0000\u091b\u02dc\u091b\u0000",
+            "\u091c\u0000\u091d\u0000\u091e\u0000\u091f\u0000\u0920\u02de\u0920\u0000\u0921\u0000\u0922\u0000",
+            "\u0923\u0000\u0924\u0000\u0925\u0000\u0927\u02e0\u0927\u0000\u0928\u0000\u0929\u0000\u092a\u0000",
+            "\u092b\u0000\u092c\u02e2\u092c\u0000\u092f\u0000\u0930\u0000\u0931\u0000\u0932\u0000\u0934\u02e4",
+            "\u0934\u0000\u0935\u0000\u0936\u0000\u0937\u0000\u0938\u0000\u0939\u02e6\u0939\u0000\u093a\u0000",
+            "\u093b\u0000\u093c\u0000\u093d\u0000\u093e\u0000\u0942\u02e8\u0942\u0000\u0943\u0000\u0944\u0000",
+            "\u0945\u0000\u0946\u0000\u0947\u02ea\u0947\u0000\u0948\u0000\u0949\u0000\u094a\u0000\u094b\u0000",
+            "\u094c\u0000\u094d\u0000\u094e\u0000\u094f\u0000\u0950\u0000\u0951\u02ec\u0951\u0000\u0952\u0000",
+            "\u0953\u0000\u0954\u0000\u0955\u0000\u0956\u02ee\u0956\u0000\u0957\u0000\u0958\u0000\u0959\u0000",
+            "\u095a\u0000\u095b\u0000\u095d\u02f0\u095d\u0000\u095e\u0000\u095f\u0000\u0960\u0000\u0961\u0000",
+            "\u0962\u02f2\u0962\u0000\u0963\u0000\u0964\u0000\u0965\u0000\u0966\u0000\u096a\u02f4\u096a\u0000",
+            "\u096b\u0000\u096c\u0000\u096d\u0000\u096e\u0000\u096f\u02f6\u096f\u0000\u0970\u0000\u0971\u0000",
+            "\u0972\u0000\u0973\u0000\u0974\u0000\u0975\u0000\u0976\u0000\u0977\u0000\u0978\u02f8\u0978\u0000",
+            "\u0979\u0000\u097a\u0000\u097b\u0000\u097c\u0000\u097d\u02fa\u097d\u0000\u097e\u0000\u097f\u0000",
+            "\u0980\u0000\u0981\u0000\u0982\u0000\u0983\u0000\u0984\u0000\u0985\u0000\u0986\u0000\u0987\u0000",
+            "\u0988\u02fc\u0988\u0000\u0989\u0000\u098a\u0000\u098b\u02fe\u098b\u0000\u098c\u0000\u098d\u0000",
+            "\u098e\u0000\u098f\u02ff\u0990\u0302\u0990\u0000\u0991\u0304\u0991\u0000\u099f\u0000\u09a0\u0000",
+            "\u09a1\u0000\u09a2\u0000\u09a3\u0306\u09a3\u0000\u09a4\u0000\u09a5\u0000\u09a6\u0000\u09a7\u0307",
+            "\u09a8\u030a\u09a8\u0000\u09aa\u0000\u09ab\u0000\u09ac\u030b\u09ad\u030e\u09ad\u0000\u09ae\u0310",
+            "\u09ae\u0000\u09af\u0000\u09b0\u0000\u09b1\u0000\u09b2\u0000\u09b3\u0312\u09b3\u0000\u09b4\u0000",
+            "\u09b5\u0314\u09b5\u0000\u09b6\u0000\u09b7\u0000\u09b8\u0000\u09b9\u0315\u09ba\u0318\u09ba\u0000",
+            "\u09bd\u0000\u09be\u0000\u09bf\u0000\u09c0\u031a\u09c0\u0000\u09c1\u0000\u09c2\u0000\u09c3\u031c",
+            "\u09c3\u0000\u09c4\u0000\u09c5\u0000\u09c6\u0000\u09c7\u0000\u09c8\u031e\u09c8\u0000\u09c9\u0000",
+            "\u09ca\u0000\u09cb\u0320\u09cb\u0000\u09cc\u0000\u09cd\u0000\u09ce\u0000\u09cf\u0000\u09d0\u0000",
+            "\u09d1\u0000\u09d2\u0000\u09d4\u0000\u09d5\u0000\u09d6\u0000\u09d7\u0000\u09d8\u0000\u09d9\u0000",
+            "\u09da\u0000\u09db\u0000\u09dc\u0000\u09dd\u0000\u09de\u0000\u09df\u0322\u09df\u0000\u09e0\u0000",
+            "\u09e1\u0000\u09e2\u0000\u09e3\u0000\u09e4\u0324\u09e4\u0000\u09e5\u0326\u09e5\u0000\u09e7\u0000",
+            "\u09e8\u0000\u09e9\u0328\u09e9\u0000\u09ea\u0000\u09eb\u0000\u09ec\u0329\u09ed\u032c\u09ed\u0000",
+            "\u09ee\u0000\u09f0\u0000\u09f1\u0000\u09f2\u032d\u09f3\u0330\u09f3\u0000\u09f4\u0000\u09f5\u0000",
+            "\u09f6\u0332\u09f6\u0000\u09f7\u0000\u09f8\u0333\u09f9\u0336\u09f9\u0000\u09fa\u0000\u09fb\u0000",
+            "\u09fd\u0000\u09ff\u0000\u0a00\u0000\u0a01\u0338\u0a01\u0000\u0a02\u0000\u0a03\u0000\u0a05\u0000",
+            "\u0a06\u033a\u0a06\u0000\u0a07\u0000\u0a08\u0000\u0a09\u033c\u0a09\u0000\u0a0a\u0000\u0a0b\u0000",
+            "\u0a0c\u0000\u0a0d\u0000\u0a0e\u0000\u0a0f\u0000\u0a10\u0000\u0a11\u0000\u0a12\u0000\u0a13\u0000",
+            "\u0a14\u033e\u0a14\u0000\u0a1d\u0000\u0a1e\u0000\u0a1f\u0000\u0a20\u0000\u0a21\u0000\u0a22\u0000",
+            "\u0a23\u0000\u0a24\u0340\u0a24\u0000\u0a25\u0000\u0a26\u0342\u0a26\u0000\u0a27\u0000\u0a28\u0344",
+            "\u0a28\u0000\u0a29\u0000\u0a2a\u0346\u0a2a\u0000\u0a2b\u0348\u0a2b\u0000\u0a2c\u0000\u0a2d\u0000",
+            "\u0a2e\u0000\u0a2f\u0000\u0a30\u0000\u0a31\u0000\u0a32\u0000\u0a33\u034a\u0a33\u0000\u0a35\u0000",
+            "\u0a36\u0000\u0a37\u0000\u0a38\u0000\u0a39\u0000\u0a3a\u0000\u0a3b\u0000\u0a3c\u0000\u0a3d\u0000",
+            "\u0a3e\u0000\u0a3f\u0000\u0a40\u034c\u0a40\u0000\u0a41\u0000\u0a42\u034e\u0a42\u0000\u0a46\u0350",
+            "\u0a46\u0000\u0a47\u0000\u0a48\u0000\u0a49\u0000\u0a4a\u0000\u0a4b\u0000\u0a4f\u0352\u0a4f\u0000",
+            "\u0a50\u0000\u0a51\u0000\u0a52\u0000\u0a53\u0000\u0a54\u0354\u0a54\u0000\u0a55\u0000\u0a56\u0000",
+            "\u0a57\u0000\u0a58\u0000\u0a59\u0000\u0a5a\u0000\u0a5b\u0000\u0a5c\u0000\u0a5d\u0000\u0a5e\u0356",
+            "\u0a5e\u0000\u0a5f\u0000\u0a60\u0000\u0a61\u0000\u0a62\u0000\u0a63\u0358\u0a63\u0000\u0a64\u0000",
+            "\u0a65\u0000\u0a66\u035a\u0a66\u0000\u0a68\u0000\u0a69\u0000\u0a6a\u0000\u0a6b\u0000\u0a6c\u035c",
+            "\u0a6c\u0000\u0a6d\u0000\u0a6e\u0000\u0a6f\u0000\u0a70\u0000\u0a71\u0000\u0a72\u0000\u0a74\u035e",
+            "\u0a74\u0000\u0a75\u0000\u0a76\u0360\u0a76\u0000\u0a78\u0000\u0a79\u0000\u0a7a\u0362\u0a7a\u0000",
+            "\u0a7b\u0364\u0a7b\u0000\u0a7f\u0000\u0a80\u0000\u0a81\u0365\u0a82\u0368\u0a82\u0000\u0a83\u0000",
+            "\u0a84\u036a\u0a84\u0000\u0a85\u0000\u0a86\u0000\u0a87\u036c\u0a87\u0000\u0a88\u0000\u0a89\u0000",
+            "\u0a8a\u036e\u0a8a\u0000\u0a96\u0000\u0a97\u0000\u0a98\u0000\u0a99\u0000\u0a9a\u0370\u0a9a\u0000",
+            "\u0a9b\u0371\u0a9c\u0374\u0a9c\u0000\u0a9f\u0000\u0aa0\u0000\u0aa1\u0000\u0aa2\u0000\u0aa3\u0376",
+            "\u0aa3\u0000\u0aa4\u0000\u0aa5\u0378\u0aa5\u0000\u0aa6\u0000\u0aa8\u037a\u0aa8\u0000\u0aa9\u0000",
+            "\u0aaa\u037c\u0aaa\u0000\u0aad\u0000\u0aae\u0000\u0aaf\u0000\u0ab0\u0000\u0ab1\u037e\u0ab1\u0000",
+            "\u0ab2\u0000\u0ab3\u0000\u0ab4\u0000\u0ab5\u0380\u0ab5\u0000\u0ab6\u0382\u0ab6\u0000\u0ab8\u0384",
+            "\u0ab8\u0000\u0ab9\u0000\u0aba\u0000\u0abb\u0000\u0abc\u0000\u0abe\u0000\u0ac0\u0000\u0ac1\u0000",
+            "\u0ac2\u0000\u0ac3\u0000\u0ac4\u0000\u0ac5\u0000\u0ac6\u0386\u0ac6\u0000\u0ac7\u0000\u0ac8\u0000",
+            "\u0ac9\u0000\u0aca\u0000\u0acb\u0000\u0acc\u0000\u0acd\u0000\u0ace\u0000\u0acf\u0000\u0ad0\u0388",
+            "\u0ad0\u0000\u0ad1\u0000\u0ad2\u0000\u0ad3\u0000\u0ad4\u0000\u0ad5\u0000\u0ad6\u0000\u0ad7\u0000",
+            "\u0ad8\u0000\u0ad9\u0000\u0ada\u0000\u0adb\u0000\u0adc\u0000\u0add\u038a\u0add\u0000\u0ade\u0000",
+            "\u0adf\u038c\u0adf\u0000\u0ae0\u0000\u0ae1\u038e\u0ae1\u0000\u0ae2\u0000\u0ae3\u0000\u0ae4\u0000",
+            "\u0aec\u0000\u0aee\u0000\u0aef\u0000\u0af0\u0000\u0af1\u0000\u0af2\u0000\u0af3\u0000\u0af4\u0000",
+            "\u0af5\u0000\u0af6\u0000\u0af7\u0000\u0af8\u0000\u0af9\u0390\u0af9\u0000\u0afa\u0000\u0afb\u0000",
+            "\u0afc\u0000\u0aff\u0392\u0aff\u0000\u0b00\u0000\u0b01\u0000\u0b02\u0394\u0b02\u0000\u0b03\u0000",
+            "\u0b04\u0000\u0b05\u0000\u0b06\u0000\u0b07\u0000\u0b08\u0000\u0b09\u0000\u0b0a\u0000\u0b0b\u0396",
+            "\u0b0b\u0000\u0b0c\u0000\u0b0d\u0000\u0b0e\u0000\u0b0f\u0000\u0b10\u0000\u0b11\u0000\u0b12\u0398",
+            "\u0b12\u0000\u0b13\u0000\u0b15\u0000\u0b16\u0000\u0b17\u0000\u0b18\u0000\u0b19\u0000\u0b1a\u0000",
+            "\u0b1b\u0000\u0b1c\u0000\u0b1d\u0000\u0b1e\u0000\u0b1f\u0000\u0b20\u039a\u0b20\u0000\u0b21\u0000",
+            "\u0b23\u0000\u0b24\u0000\u0b25\u0000\u0b26\u0000\u0b27\u0000\u0b28\u0000\u0b29\u0000\u0b2a\u0000",
+            "\u0b2b\u0000\u0b2c\u039c\u0b2c\u0000\u0b2d\u0000\u0b2e\u0000\u0b2f\u0000\u0b30\u0000\u0b31\u0000",
+            "\u0b33\u039e\u0b33\u0000\u0b34\u0000\u0b35\u0000\u0b36\u03a0\u0b36\u0000\u0b37\u0000\u0b38\u0000",
+            "\u0b39\u0000\u0b3a\u0000\u0b3b\u03a2\u0b3b\u0000\u0b3d\u0000\u0b3e\u0000\u0b41\u03a4\u0b41\u0000",
+            "\u0b42\u0000\u0b43\u0000\u0b44\u0000\u0b45\u0000\u0b46\u03a6\u0b46\u0000\u0b47\u0000\u0b48\u0000",
+            "\u0b49\u0000\u0b4a\u0000\u0b4b\u0000\u0b4c\u03a8\u0b4c\u0000\u0b4d\u0000\u0b4e\u0000\u0b4f\u0000",
+            "\u0b50\u0000\u0b51\u0000\u0b52\u0000\u0b55\u03aa\u0b55\u0000\u0b56\u0000\u0b57\u0000\u0b58\u03ac",
+            "\u0b58\u0000\u0b59\u0000\u0b5a\u0000\u0b5b\u0000\u0b5c\u0000\u0b5d\u03ae\u0b5d\u0000\u0b5e\u0000",
+            "\u0b61\u0000\u0b62\u0000\u0b63\u0000\u0b64\u0000\u0b65\u0000\u0b66\u0000\u0b67\u0000\u0b68\u0000",
+            "\u0b69\u0000\u0b6a\u0000\u0b6b\u03b0\u0b6b\u0000\u0b6c\u0000\u0b6d\u0000\u0b6e\u0000\u0b6f\u0000",
+            "\u0b70\u0000\u0b71\u0000\u0b72\u0000\u0b73\u0000\u0b74\u03b2\u0b74\u0000\u0b75\u0000\u0b76\u0000",
+            "\u0b77\u0000\u0b78\u0000\u0b79\u0000\u0b7b\u03b4\u0b7b\u0000\u0b7c\u0000\u0b7d\u0000\u0b7e\u03b6",
+            "\u0b7e\u0000\u0b7f\u0000\u0b80\u0000\u0b81\u0000\u0b82\u0000\u0b83\u0000\u0b85\u03b8\u0b85\u0000",
+            "\u0b86\u0000\u0b87\u0000\u0b88\u03ba\u0b88\u0000\u0b89\u0000\u0b8a\u0000\u0b8b\u0000\u0b8c\u0000",
+            "\u0b8d\u03bc\u0b8d\u0000\u0b8f\u0000\u0b90\u0000\u0b91\u03be\u0b91\u0000\u0b92\u0000\u0b93\u0000",
+            "\u0b94\u0000\u0b95\u0000\u0b96\u0000\u0b97\u0000\u0b98\u0000\u0b99\u0000\u0b9a\u0000\u0b9b\u03c0",
+            "\u0b9b\u0000\u0b9c\u0000\u0b9d\u0000\u0b9e\u0000\u0b9f\u0000\u0ba0\u0000\u0ba1\u0000\u0ba2\u0000",
+            "\u0ba3\u0000\u0ba4\u0000\u0ba5\u03c2\u0ba5\u0000\u0ba7\u0000\u0ba8\u0000\u0ba9\u03c4\u0ba9\u0000",
+            "\u0baa\u03c6\u0baa\u0000\u0bab\u0000\u0bac\u0000\u0bad\u0000\u0bae\u0000\u0baf\u0000\u0bb0\u0000",
+            "\u0bb1\u0000\u0bb2\u0000\u0bb3\u0000\u0bb4\u03c8\u0bb4\u0000\u0bc1\u0000\u0bc3\u0000\u0bc4\u0000",
+            "\u0bc5\u0000\u0bc6\u0000\u0bc7\u03ca\u0bc7\u0000\u0bc8\u0000\u0bc9\u03cc\u0bc9\u0000\u0bca\u0000",
+            "\u0bcb\u0000\u0bcc\u0000\u0bcd\u0000\u0bce\u03ce\u0bce\u0000\u0bcf\u0000\u0bd0\u0000\u0bd1\u0000",
+            "\u0bd2\u0000\u0bd3\u03d0\u0bd3\u0000\u0bd8\u03d2\u0bd8\u0000\u0bd9\u0000\u0bda\u0000\u0bdb\u0000",
+            "\u0bdc\u03d4\u0bdc\u0000\u0bdd\u0000\u0bde\u0000\u0bdf\u0000\u0be0\u03d6\u0be0\u0000\u0be1\u0000",
+            "\u0be2\u0000\u0be3\u03d8\u0be3\u0000\u0be4\u03da\u0be4\u0000\u0be5\u0000\u0be6\u03dc\u0be6\u0000",
+            "\u0be7\u0000\u0be8\u0000\u0be9\u0000\u0bed\u0000\u0bee\u0000\u0bef\u0000\u0bf0\u0000\u0bf1\u0000",
+            "\u0bf2\u0000\u0bf3\u0000\u0bf4\u0000\u0bf5\u0000\u0bf6\u03de\u0bf6\u0000\u0bf7\u0000\u0bf8\u0000",
+            "\u0bf9\u0000\u0bfa\u0000\u0bfb\u0000\u0bfc\u0000\u0bfd\u0000\u0bfe\u0000\u0bff\u03e0\u0bff\u0000",
+            "\u0c00\u0000\u0c01\u0000\u0c02\u0000\u0c03\u0000\u0c04\u0000\u0c05\u0000\u0c06\u0000\u0c07\u0000",
+            "\u0c08\u0000\u0c09\u03e2\u0c09\u0000\u0c0a\u0000\u0c0b\u0000\u0c0c\u0000\u0c0d\u0000\u0c0e\u0000",
+            "\u0c0f\u0000\u0c10\u03e4\u0c10\u0000\u0c11\u0000\u0c12\u0000\u0c13\u0000\u0c14\u03e6\u0c14\u0000",
+            "\u0c15\u0000\u0c16\u0000\u0c17\u0000\u0c18\u0000\u0c19\u0000\u0c1a\u0000\u0c1b\u0000\u0c1c\u0000",
+            "\u0c1d\u0000\u0c1e\u03e8\u0c1e\u0000\u0c1f\u0000\u0c20\u0000\u0c21\u03ea\u0c21\u0000\u0c23\u0000",
+            "\u0c24\u0000\u0c25\u03ec\u0c25\u0000\u0c26\u0000\u0c27\u0000\u0c28\u0000\u0c2c\u03ee\u0c2c\u0000",
+            "\u0c2d\u0000\u0c2e\u0000\u0c2f\u0000\u0c30\u0000\u0c31\u0000\u0c32\u0000\u0c33\u0000\u0c34\u0000",
+            "\u0c35\u0000\u0c36\u0000\u0c37\u0000\u0c38\u03f0\u0c38\u0000\u0c39\u0000\u0c3b\u0000\u0c3c\u0000",
+            "\u0c3d\u0000\u0c3e\u0000\u0c40\u03f2\u0c40\u0000\u0c41\u0000\u0c42\u0000\u0c43\u0000\u0c44\u0000",
+            "\u0c45\u03f4\u0c45\u0000\u0c46\u0000\u0c47\u0000\u0c48\u0000\u0c49\u0000\u0c4a\u0000\u0c4c\u03f6",
+            "\u0c4c\u0000\u0c4d\u0000\u0c4e\u0000\u0c4f\u0000\u0c50\u0000\u0c51\u03f8\u0c51\u0000\u0c52\u0000",
+            "\u0c53\u0000\u0c54\u0000\u0c55\u0000\u0c56\u03fa\u0c56\u0000\u0c57\u0000\u0c58\u0000\u0c59\u03fc",
+            "\u0c59\u0000\u0c5a\u0000\u0c5b\u0000\u0c5c\u03fe\u0c5c\u0000\u0c60\u0000\u0c62\u0400\u0c62\u0000",
+            "\u0c63\u0000\u0c64\u0000\u0c66\u0402\u0c66\u0000\u0c67\u0000\u0c68\u0000\u0c69\u0000\u0c6a\u0000",
+            "\u0c6b\u0404\u0c6b\u0000\u0c6d\u0000\u0c6e\u0000\u0c6f\u0000\u0c70\u0000\u0c71\u0000\u0c75\u0406",
+            "\u0c75\u0000\u0c76\u0000\u0c77\u0000\u0c78\u0000\u0c79\u0000\u0c7a\u0408\u0c7a\u0000\u0c7b\u0000",
+            "\u0c7c\u0000\u0c7d\u0000\u0c7e\u0000\u0c7f\u0000\u0c80\u0000\u0c81\u0000\u0c82\u0000\u0c83\u0000",
+            "\u0c84\u040a\u0c84\u0000\u0c85\u0000\u0c86\u0000\u0c87\u0000\u0c88\u0000\u0c89\u040c\u0c89\u0000",
+            "\u0c8a\u0000\u0c8b\u0000\u0c8c\u0000\u0c8d\u0000\u0c8e\u040e\u0c8e\u0000\u0c8f\u0410\u0c8f\u0000",
+            "\u0c92\u0412\u0c92\u0000\u0c93\u0000\u0c94\u0000\u0c95\u0000\u0c96\u0000\u0c98\u0414\u0c98\u0000",
+            "\u0c99\u0000\u0c9a\u0000\u0c9b\u0000\u0c9c\u0000\u0c9d\u0416\u0c9d\u0000\u0c9e\u0000\u0c9f\u0000",
+            "\u0ca0\u0418\u0ca0\u0000\u0cab\u0000\u0cac\u0000\u0cad\u0000\u0cae\u0419\u0caf\u041c\u0caf\u0000",
+            "\u0cb0\u0000\u0cb1\u0000\u0cb2\u0000\u0cb3\u041e\u0cb3\u0000\u0cb5\u0000\u0cb6\u0000\u0cb7\u0000",
+            "\u0cb8\u0420\u0cb8\u0000\u0cb9\u0000\u0cba\u0422\u0cba\u0000\u0cbc\u0000\u0cbd\u0424\u0cbd\u0000",
+            "\u0cbe\u0426\u0cbe\u0000\u0cc1\u0000\u0cc2\u0000\u0cc3\u0000\u0cc4\u0000\u0cc5\u0428\u0cc5\u0000",
+            "\u0cc6\u0000\u0cc7\u0000\u0cc8\u0000\u0cc9\u042a\u0cc9\u0000\u0cca\u042c\u0cca\u0000\u0ccb\u0000",
+            "\u0ccc\u042e\u0ccc\u0000\u0cce\u0000\u0cd0\u0000\u0cd1\u0000\u0cd2\u0000\u0cd3\u0000\u0cd4\u0000",
+            "\u0cd5\u0000\u0cd6\u0430\u0cd6\u0000\u0cd7\u0000\u0cd8\u0432\u0cd8\u0000\u0cda\u0000\u0cdb\u0000",
+            "\u0cdc\u0000\u0cdd\u0000\u0cde\u0000\u0cdf\u0000\u0ce0\u0000\u0ce1\u0434\u0ce1\u0000\u0ce2\u0000",
+            "\u0ce3\u0000\u0ce4\u0000\u0ce5\u0000\u0ce6\u0000\u0ce7\u0436\u0ce7\u0000\u0ce8\u0000\u0ce9\u0000",
+            "\u0cea\u0000\u0cee\u0438\u0cee\u0000\u0cef\u0000\u0cf0\u0000\u0cf1\u0000\u0cf2\u0000\u0cf3\u043a",
+            "\u0cf3\u0000\u0cf4\u0000\u0cf5\u0000\u0cf6\u0000\u0cf7\u0000\u0cf8\u0000\u0cf9\u0000\u0cfa\u0000",
+            "\u0cfb\u0000\u0cfc\u043c\u0cfc\u0000\u0cfd\u0000\u0cfe\u0000\u0cff\u0000\u0d00\u0000\u0d01\u043e",
+            "\u0d01\u0000\u0d02\u0000\u0d03\u0000\u0d04\u0440\u0d04\u0000\u0d05\u0000\u0d06\u0000\u0d07\u0000",
+            "\u0d08\u0000\u0d09\u0000\u0d0a\u0000\u0d0b\u0000\u0d0c\u0442\u0d0c\u0000\u0d0e\u0000\u0d0f\u0000",
+            "\u0d10\u0444\u0d10\u0000\u0d11\u0000\u0d12\u0000\u0d13\u0000\u0d14\u0446\u0d14\u0000\u0d22\u0000",
+            "\u0d24\u0000\u0d25\u0000\u0d26\u0000\u0d27\u0447\u0d28\u044a\u0d28\u0000\u0d29\u0000\u0d2b\u044c",
+            "\u0d2b\u0000\u0d2c\u0000\u0d2d\u0000\u0d2e\u0000\u0d2f\u044e\u0d2f\u0000\u0d30\u0000\u0d32\u0000",
+            "\u0d33\u0000\u0d34\u0450\u0d34\u0000\u0d35\u0000\u0d36\u0000\u0d37\u0452\u0d37\u0000\u0d39\u0000",
+            "\u0d3a\u0000\u0d3b\u0453\u0d3c\u0456\u0d3c\u0000\u0d3d\u0458\u0d3d\u0000\u0d3e\u0000\u0d3f\u0000",
+            "\u0d40\u0000\u0d41\u0000\u0d42\u045a\u0d42\u0000\u0d43\u0000\u0d44\u045c\u0d44\u0000\u0d45\u0000",
+            "\u0d46\u0000\u0d47\u0000\u0d48\u045d\u0d49\u0460\u0d49\u0000\u0d4a\u0000\u0d4b\u0000\u0d4c\u0000",
+            "\u0d4d\u0462\u0d4d\u0000\u0d4f\u0000\u0d50\u0000\u0d51\u0000\u0d53\u0000\u0d55\u0000\u0d56\u0000",
+            "\u0d57\u0464\u0d57\u0000\u0d58\u0000\u0d59\u0000\u0d5b\u0000\u0d5c\u0466\u0d5c\u0000\u0d5d\u0000",
+            "\u0d5e\u0000\u0d5f\u0468\u0d5f\u0000\u0d60\u0000\u0d61\u0000\u0d62\u0000\u0d63\u0000\u0d64\u0000",
+            "\u0d65\u0000\u0d66\u0000\u0d67\u0000\u0d68\u0000\u0d69\u0000\u0d6a\u046a\u0d6a\u0000\u0d6b\u0000",
+            "\u0d6c\u0000\u0d6e\u046c\u0d6e\u0000\u0d6f\u0000\u0d70\u0000\u0d71\u0000\u0d72\u046e\u0d72\u0000",
+            "\u0d74\u0000\u0d75\u0000\u0d76\u0000\u0d77\u0470\u0d77\u0000\u0d78\u0000\u0d79\u0472\u0d79\u0000",
+            "\u0d81\u0000\u0d82\u0000\u0d83\u0000\u0d84\u0000\u0d85\u0000\u0d88\u0474\u0d88\u0000\u0d89\u0000",
+            "\u0d8a\u0000\u0d8b\u0476\u0d8b\u0000\u0d8c\u0000\u0d8d\u0000\u0d8e\u0000\u0d8f\u0000\u0d90\u0000",
+            "\u0d91\u0000\u0d92\u0000\u0d93\u0000\u0d94\u0478\u0d94\u0000\u0d95\u0000\u0d96\u0000\u0d97\u0000",
+            "\u0d98\u0000\u0d99\u0000\u0d9a\u0000\u0d9b\u0000\u0d9c\u0000\u0d9d\u047a\u0d9d\u0000\u0d9e\u0000",
+            "\u0d9f\u0000\u0da0\u0000\u0da1\u0000\u0da2\u0000\u0da3\u0000\u0da4\u0000\u0da5\u0000\u0da6\u0000",
+            "\u0da7\u0000\u0da8\u047c\u0da8\u0000\u0da9\u0000\u0daa\u0000\u0dac\u047e\u0dac\u0000\u0dad\u0000",
+            "\u0dae\u0000\u0daf\u0000\u0db0\u0000\u0db1\u0480\u0db1\u0000\u0db2\u0000\u0db3\u0000\u0db4\u0000",
+            "\u0db5\u0000\u0db6\u0482\u0db6\u0000\u0db7\u0000\u0db8\u0000\u0db9\u0000\u0dba\u0000\u0dbb\u0000",
+            "\u0dbc\u0000\u0dbd\u0000\u0dbe\u0000\u0dbf\u0484\u0dbf\u0000\u0dc0\u0000\u0dc1\u0000\u0dc3\u0000",
+            "\u0dc4\u0000\u0dc5\u0000\u0dc6\u0000\u0dc7\u0000\u0dc8\u0000\u0dc9\u0000\u0dca\u0000\u0dcb\u0000",
+            "\u0dcc\u0486\u0dcc\u0000\u0dcd\u0000\u0dce\u0000\u0dcf\u0000\u0dd0\u0000\u0dd1\u0000\u0dd2\u0000",
+            "\u0dd3\u0000\u0dd4\u0000\u0dd5\u0000\u0dd6\u0488\u0dd6\u0000\u0dd7\u0000\u0dd9\u048a\u0dd9\u0000",
+            "\u0dda\u0000\u0ddb\u0000\u0ddc\u048c\u0ddc\u0000\u0ddd\u0000\u0dde\u0000\u0ddf\u0000\u0de0\u048e",
+            "\u0de0\u0000\u0de1\u0000\u0de2\u0000\u0de3\u0490\u0de3\u0000\u0de4\u0000\u0de5\u0000\u0de6\u0000",
+            "\u0de7\u0000\u0de8\u0492\u0de8\u0000\u0de9\u0000\u0dea\u0493\u0deb\u0496\u0deb\u0000\u0df4\u0000",
+            "\u0df5\u0000\u0df6\u0000\u0df7\u0000\u0df8\u0498\u0df8\u0000\u0df9\u0000\u0dfa\u0000\u0dfb\u049a",
+            "\u0dfb\u0000\u0dfc\u0000\u0dfd\u049c\u0dfd\u0000\u0dfe\u0000\u0dff\u0000\u0e00\u0000\u0e02\u049e",
+            "\u0e02\u0000\u0e03\u04a0\u0e03\u0000\u0e05\u0000\u0e06\u04a2\u0e06\u0000\u0e09\u0000\u0e0a\u0000",
+            "\u0e0b\u0000\u0e0c\u04a4\u0e0c\u0000\u0e0e\u04a6\u0e0e\u0000\u0e0f\u0000\u0e10\u0000\u0e11\u0000",
+            "\u0e15\u0000\u0e16\u0000\u0e17\u0000\u0e18\u04a8\u0e18\u0000\u0e19\u0000\u0e1a\u0000\u0e1b\u0000",
+            "\u0e1c\u04aa\u0e1c\u0000\u0e1d\u0000\u0e1e\u0000\u0e1f\u0000\u0e20\u0000\u0e21\u0000\u0e22\u0000",
+            "\u0e23\u0000\u0e24\u0000\u0e25\u04ac\u0e25\u0000\u0e26\u0000\u0e27\u0000\u0e28\u0000\u0e29\u0000",
+            "\u0e2a\u04ae\u0e2a\u0000\u0e2b\u0000\u0e2c\u0000\u0e2d\u0000\u0e2e\u0000\u0e2f\u0000\u0e30\u0000",
+            "\u0e31\u0000\u0e32\u0000\u0e33\u0000\u0e34\u04b0\u0e34\u0000\u0e35\u0000\u0e36\u04b2\u0e36\u0000",
+            "\u0e37\u0000\u0e38\u0000\u0e39\u04b4\u0e39\u0000\u0e3a\u0000\u0e3b\u0000\u0e3c\u04b6\u0e3c\u0000",
+            "\u0e3d\u0000\u0e3e\u0000\u0e3f\u0000\u0e40\u0000\u0e41\u04b8\u0e41\u0000\u0e46\u0000\u0e47\u0000",
+            "\u0e48\u0000\u0e49\u0000\u0e4a\u04ba\u0e4a\u0000\u0e4b\u0000\u0e4c\u0000\u0e4d\u0000\u0e4e\u04bc",
+            "\u0e4e\u0000\u0e4f\u0000\u0e50\u04be\u0e50\u0000\u0e51\u0000\u0e52\u0000\u0e53\u04c0\u0e53\u0000",
+            "\u0e54\u0000\u0e55\u0000\u0e56\u04c2\u0e56\u0000\u0e5a\u0000\u0e5b\u0000\u0e5c\u04c4\u0e5c\u0000",
+            "\u0e5d\u04c6\u0e5d\u0000\u0e5e\u0000\u0e5f\u0000\u0e60\u04c8\u0e60\u0000\u0e61\u0000\u0e62\u0000",
+            "\u0e63\u04ca\u0e63\u0000\u0e6c\u0000\u0e6d\u0000\u0e6e\u0000\u0e6f\u04cc\u0e6f\u0000\u0e70\u0000",
+            "\u0e71\u0000\u0e72\u04ce\u0e72\u0000\u0e73\u0000\u0e74\u0000\u0e75\u04d0\u0e75\u0000\u0e76\u0000",
+            "\u0e77\u0000\u0e78\u0000\u0e79\u04d1\u0e7a\u04d4\u0e7a\u0000\u0e7c\u0000\u0e7d\u0000\u0e7e\u0000",
+            "\u0e7f\u04d6\u0e7f\u0000\u0e80\u04d8\u0e80\u0000\u0e81\u0000\u0e82\u04da\u0e82\u0000\u0e83\u0000",
+            "\u0e84\u0000\u0e85\u04dc\u0e85\u0000\u0e86\u0000\u0e87\u0000\u0e88\u04de\u0e88\u0000\u0e89\u0000",
+            "\u0e8a\u0000\u0e8b\u04e0\u0e8b\u0000\u0e93\u0000\u0e94\u0000\u0e95\u0000\u0e96\u04e2\u0e96\u0000",
+            "\u0e97\u0000\u0e98\u0000\u0e99\u0000\u0e9a\u0000\u0e9b\u04e4\u0e9b\u0000\u0e9d\u0000\u0e9e\u0000",
+            "\u0e9f\u0000\u0ea0\u0000\u0ea1\u04e6\u0ea1\u0000\u0ea2\u04e8\u0ea2\u0000\u0ea3\u0000\u0ea4\u0000",
+            "\u0ea5\u04ea\u0ea5\u0000\u0ea7\u0000\u0ea8\u0000\u0ea9\u0000\u0eaa\u0000\u0eab\u0000\u0eac\u0000",
+            "\u0ead\u0000\u0eae\u0000\u0eaf\u0000\u0eb0\u0000\u0eb1\u0000\u0eb2\u0000\u0eb3\u04ec\u0eb3\u0000",
+            "\u0eb4\u0000\u0eb5\u04ee\u0eb5\u0000\u0eb6\u0000\u0eb7\u04f0\u0eb7\u0000\u0eb8\u0000\u0eb9\u0000",
+            "\u0eba\u04f2\u0eba\u0000\u0ebb\u0000\u0ebc\u0000\u0ebd\u04f4\u0ebd\u0000\u0ecd\u0000\u0ece\u0000",
+            "\u0ecf\u0000\u0ed0\u0000\u0ed1\u04f5\u0ed2\u04f8\u0ed2\u0000\u0ed3\u0000\u0ed4\u0000\u0ed5\u0000",
+            "\u0ed6\u0000\u0ed7\u04fa\u0ed7\u0000\u0edd\u04fc\u0edd\u0000\u0ede\u04fe\u0ede\u0000\u0edf\u0500",
+            "\u0edf\u0000\u0ee0\u0000\u0ee1\u0501\u0ee2\u0504\u0ee2\u0000\u0ee3\u0000\u0ee4\u0505\u0ee5\u0508",
+            "\u0ee5\u0000\u0ee6\u050a\u0ee6\u0000\u0ee7\u0000\u0ee8\u0000\u0ee9\u050b\u0eea\u050e\u0eea\u0000",
+            "\u0eec\u0510\u0eec\u0000\u0eed\u0512\u0eed\u0000\u0eee\u0000\u0eef\u0000\u0ef0\u0000\u0ef1\u0513",
+            "\u0ef2\u0516\u0ef2\u0000\u0ef4\u0000\u0ef6\u0000\u0ef7\u0000\u0ef8\u0000\u0ef9\u0000\u0efa\u0518",
+            "\u0efa\u0000\u0efb\u0000\u0efc\u051a\u0efc\u0000\u0efd\u0000\u0efe\u0000\u0eff\u051c\u0eff\u0000",
+            "\u0f01\u0000\u0f03\u0000\u0f04\u0000\u0f05\u051e\u0f05\u0000\u0f06\u0000\u0f07\u0520\u0f07\u0521",
+            "\u0f08\u0524\u0f08\u0000\u0f0a\u0000\u0f0f\u0526\u0f0f\u0000\u0f10\u0000\u0f11\u0000\u0f12\u0528",
+            "\u0f12\u0000\u0f13\u052a\u0f13\u0000\u0f14\u0000\u0f15\u0000\u0f16\u0000\u0f17\u0000\u0f18\u052c",
+            "\u0f18\u0000\u0f19\u052e\u0f19\u0000\u0f20\u0530\u0f20\u0000\u0f21\u0532\u0f21\u0000\u0f22\u0000",
+            "\u0f23\u0534\u0f23\u0000\u0f24\u0000\u0f25\u0000\u0f27\u0536\u0f27\u0000\u0f2f\u0000\u0f30\u0538",
+            "\u0f30\u0000\u0f31\u053a\u0f31\u0000\u0f32\u053c\u0f32\u0000\u0f33\u053e\u0f33\u0000\u0f34\u0540",
+            "\u0f34\u0000\u0f35\u0542\u0f35\u0000\u0f36\u0544\u0f36\u0000\u0f37\u0546\u0f37\u0000\u0f38\u0000",
+            "\u0f3a\u0548\u0f3a\u0000\u0f3b\u0000\u0f3d\u054a\u0f3d\u0000\u0f3e\u054c\u0f3e\u0000\u0f40\u0000",
+            "\u0f41\u0000\u0f42\u054e\u0f42\u0000\u0f43\u0550\u0f43\u0000\u0f44\u0000\u0f45\u0000\u0f46\u0000",
+            "\u0f47\u0552\u0f47\u0000\u0f49\u0000\u0f4a\u0000\u0f4b\u0000\u0f4c\u0554\u0f4c\u0000\u0f4d\u0000",
+            "\u0f4e\u0556\u0f4e\u0000\u0f55\u0558\u0f55\u0000\u0f56\u055a\u0f56\u0000\u0f57\u0000\u0f58\u0000",
+            "\u0f59\u0000\u0f5a\u055c\u0f5a\u0000\u0f5b\u055e\u0f5b\u0000\u0f5c\u0000\u0f5d\u0560\u0f5d\u0000",
+            "\u0f5e\u0000\u0f5f\u0562\u0f5f\u0000\u0f60\u0000\u0f61\u0000\u0f62\u0000\u0f64\u0564\u0f64\u0000",
+            "\u0f65\u0000\u0f66\u0566\u0f66\u0000\u0f67\u0000\u0f68\u0000\u0f69\u0567\u0f6a\u056a\u0f6a\u0000",
+            "\u0f6d\u0000\u0f6e\u0000\u0f6f\u056c\u0f6f\u0000\u0f70\u056e\u0f70\u0000\u0f71\u0000\u0f72\u0000",
+            "\u0f74\u0570\u0f74\u0000\u0f75\u0000\u0f76\u0572\u0f76\u0000\u0f77\u0000\u0f78\u0000\u0f79\u0000",
+            "\u0f7a\u0573\u0f7b\u0576\u0f7b\u0000\u0f7c\u0000\u0f7d\u0577\u0f7e\u057a\u0f7e\u0000\u0f80\u0000",
+            "\u0f81\u0000\u0f82\u0000\u0f83\u0000\u0f84\u0000\u0f85\u0000\u0f86\u057c\u0f86\u0000\u0f87\u0000",
+            "\u0f88\u0000\u0f89\u057e\u0f89\u0000\u0f99\u0000\u0f9a\u0000\u0f9b\u0000\u0f9c\u0580\u0f9c\u0000",
+            "\u0f9e\u0000\u0f9f\u0000\u0fa3\u0000\u0fa4\u0000\u0fa5\u0000\u0fa6\u0000\u0fa7\u0582\u0fa7\u0000",
+            "\u0fa8\u0000\u0fa9\u0000\u0faa\u0000\u0fab\u0000\u0fac\u0000\u0fad\u0000\u0fae\u0584\u0fae\u0000",
+            "\u0faf\u0000\u0fb0\u0000\u0fb1\u0000\u0fb2\u0000\u0fb3\u0586\u0fb3\u0000\u0fb4\u0000\u0fb5\u0000",
+            "\u0fb7\u0588\u0fb7\u0000\u0fb8\u0000\u0fb9\u058a\u0fb9\u0000\u0fbb\u0000\u0fbc\u0000\u0fbd\u0000",
+            "\u0fbe\u058c\u0fbe\u0000\u0fbf\u0000\u0fc0\u0000\u0fc2\u058e\u0fc2\u0000\u0fc3\u0000\u0fc4\u0590",
+            "\u0fc4\u0000\u0fc5\u0000\u0fc6\u0000\u0fc8\u0592\u0fc8\u0000\u0fc9\u0000\u0fca\u0000\u0fcb\u0000",
+            "\u0fcc\u0594\u0fcc\u0000\u0fce\u0000\u0fcf\u0000\u0fd0\u0000\u0fd1\u0596\u0fd1\u0000\u0fd2\u0598",
+            "\u0fd2\u0000\u0fd3\u0000\u0fd4\u0000\u0fd5\u0000\u0fd6\u059a\u0fd6\u0000\u0fdb\u0000\u0fdc\u0000",
+            "\u0fdd\u0000\u0fde\u0000\u0fe0\u059c\u0fe0\u0000\u0fe1\u059e\u0fe1\u0000\u0fe2\u0000\u0fe3\u0000",
+            "\u0fe4\u0000\u0fe5\u0000\u0fe6\u05a0\u0fe6\u0000\u0fe7\u0000\u0fe8\u0000\u0fe9\u05a2\u0fe9\u0000",
+            "\u0fea\u0000\u0feb\u0000\u0fec\u0000\u0fed\u05a4\u0fed\u0000\u0ff0\u0000\u0ff1\u05a6\u0ff1\u0000",
+            "\u0ff2\u05a8\u0ff2\u0000\u0ff3\u0000\u0ff4\u0000\u0ff5\u0000\u0ff6\u05aa\u0ff6\u0000\u0ff7\u0000",
+            "\u0ff8\u05ac\u0ff8\u0000\u0ff9\u0000\u1000\u0000\u1003\u0000\u1004\u0000\u1005\u05ae\u1005\u0000",
+            "\u1006\u0000\u1007\u0000\u1008\u05b0\u1008\u0000\u1009\u0000\u100a\u05b2\u100a\u0000\u100d\u0000",
+            "\u100e\u0000\u100f\u0000\u1010\u05b4\u1010\u0000\u1011\u0000\u1012\u0000\u1013\u0000\u1014\u05b6",
+            "\u1014\u0000\u1015\u0000\u1016\u0000\u1017\u0000\u1018\u0000\u1019\u05b8\u1019\u0000\u101b\u0000",
+            "\u101c\u0000\u101d\u0000\u101e\u0000\u101f\u05ba\u101f\u0000\u1020\u0000\u1021\u0000\u1022\u05bc",
+            "\u1022\u0000\u1023\u0000\u1024\u0000\u1025\u0000\u1026\u0000\u1027\u0000\u1028\u0000\u1029\u0000",
+            "\u102b\u0000\u102c\u0000\u102d\u0000\u102e\u0000\u102f\u05be\u102f\u0000\u1030\u0000\u1031\u05c0",
+            "\u1031\u0000\u1032\u0000\u1033\u0000\u1034\u0000\u1035\u0000\u1036\u05c2\u1036\u0000\u1037\u0000",
+            "\u1038\u0000\u1039\u05c4\u1039\u0000\u103a\u0000\u103b\u0000\u103c\u0000\u103d\u0000\u103e\u05c6",
+            "\u103e\u0000\u103f\u0000\u1040\u0000\u1041\u0000\u1042\u0000\u1043\u05c8\u1043\u0000\u1046\u0000",
+            "\u1048\u0000\u1049\u0000\u104c\u0000\u104d\u0000\u104e\u0000\u104f\u0000\u1050\u0000\u1051\u0000",
+            "\u1052\u0000\u1053\u05ca\u1053\u0000\u1054\u0000\u1055\u0000\u1056\u0000\u1057\u0000\u1058\u0000",
+            "\u1059\u05cc\u1059\u0000\u105a\u0000\u105b\u0000\u105c\u0000\u105d\u0000\u105e\u0000\u105f\u0000",
+            "\u1060\u0000\u1064\u05ce\u1064\u0000\u1065\u0000\u1066\u0000\u1067\u0000\u1068\u05d0\u1068\u0000",
+            "\u1069\u0000\u106a\u0000\u106b\u0000\u106c\u05d2\u106c\u0000\u106d\u0000\u106e\u0000\u106f\u0000",
+            "\u1070\u0000\u1071\u05d4\u1071\u0000\u1072\u0000\u1073\u05d6\u1073\u0000\u1075\u0000\u1077\u0000",
+            "\u1078\u05d8\u1078\u0000\u1079\u05da\u1079\u0000\u107a\u0000\u107b\u05dc\u107b\u0000\u107c\u0000",
+            "\u107d\u0000\u107e\u05de\u107e\u0000\u1080\u0000\u1082\u05e0\u1082\u0000\u1083\u0000\u1084\u0000",
+            "\u1085\u0000\u1086\u05e2\u1086\u0000\u1087\u0000\u1088\u05e4\u1088\u0000\u108c\u0000\u108d\u0000",
+            "\u108e\u05e6\u108e\u0000\u1090\u05e8\u1090\u0000\u1091\u0000\u1092\u0000\u1093\u05ea\u1093\u0000",
+            "\u1094\u0000\u1095\u0000\u1096\u0000\u1097\u05ec\u1097\u0000\u10a3\u0000\u10a7\u0000\u10a8\u05ee",
+            "\u10a8\u0000\u10a9\u05f0\u10a9\u0000\u10aa\u05f2\u10aa\u0000\u10ab\u05f4\u10ab\u0000\u10b0\u05f6",
+            "\u10b0\u0000\u10b1\u05f8\u10b1\u0000\u10b2\u05fa\u10b2\u0000\u10b3\u05fc\u10b3\u0000\u10b4\u05fe",
+            "\u10b4\u0000\u10b8\u0000\u10b9\u0600\u10b9\u0000\u10ba\u0602\u10ba\u0000\u10bb\u0604\u10bb\u0000",
+            "\u10bc\u0606\u10bc\u0000\u10c3\u0608\u10c3\u0000\u10c4\u060a\u10c4\u0000\u10c5\u060c\u10c5\u0000",
+            "\u10c6\u060e\u10c6\u0000\u10c7\u0610\u10c7\u0000\u10c8\u0612\u10c8\u0000\u10c9\u0614\u10c9\u0000",
+            "\u10ca\u0000\u10cb\u0000\u10cc\u0616\u10cc\u0000\u10d0\u0000\u10d1\u0618\u10d1\u0000\u10d2\u061a",
+            "\u10d2\u0000\u10d3\u061c\u10d3\u0000\u10d4\u061e\u10d4\u0000\u10d9\u0620\u10d9\u0000\u10da\u0622",
+            "\u10da\u0000\u10db\u0624\u10db\u0000\u10dc\u0626\u10dc\u0000\u10dd\u0628\u10dd\u0000\u10de\u0000",
+            "\u10df\u0000\u10e0\u0000\u10e1\u0000\u10e2\u062a\u10e2\u0000\u10e3\u0000\u10e4\u0000\u10e5\u0000",
+            "\u10e6\u062c\u10e6\u0000\u10e7\u0000\u10e8\u0000\u10e9\u0000\u10ea\u0000\u10eb\u062e\u10eb\u0000",
+            "\u10ef\u0000\u10f0\u0630\u10f0\u0000\u10f1\u0632\u10f1\u0000\u10f2\u0634\u10f2\u0000\u10f3\u0636",
+            "\u10f3\u0000\u10fa\u0638\u10fa\u0000\u10fb\u063a\u10fb\u0000\u10fc\u063c\u10fc\u0000\u10fd\u063e",
+            "\u10fd\u0000\u10fe\u0640\u10fe\u0000\u10ff\u0642\u10ff\u0000\u1100\u0644\u1100\u0000\u1101\u0000",
+            "\u1102\u0000\u1103\u0000\u1104\u0000\u1105\u0646\u1105\u0000\u1107\u0000\u1108\u0000\u1109\u0000",
+            "\u110a\u0648\u110a\u0000\u110b\u0000\u110c\u0000\u110d\u0649\u110e\u064c\u110e\u0000\u1112\u0000",
+            "\u1113\u0000\u1114\u064e\u1114\u0000\u1115\u0000\u1116\u0000\u1117\u0650\u1117\u0000\u1118\u0000",
+            "\u111a\u0652\u111a\u0000\u111b\u0654\u111b\u0000\u111c\u0000\u111f\u0656\u111f\u0000\u1120\u0658",
+            "\u1120\u0000\u1121\u0000\u1122\u0000\u1123\u0000\u1124\u065a\u1124\u0000\u1126\u0000\u1127\u0000",
+            "\u1129\u065c\u1129\u0000\u112a\u0000\u112b\u065e\u112b\u0000\u112c\u0000\u112f\u0660\u112f\u0000",
+            "\u1130\u0662\u1130\u0000\u1132\u0664\u1132\u0000\u1133\u0666\u1133\u0000\u1142\u0000\u1145\u0000",
+            "\u1146\u0000\u1147\u0000\u1148\u0000\u1149\u0668\u1149\u0000\u114f\u066a\u114f\u0000\u1150\u0000",
+            "\u1151\u0000\u1152\u066c\u1152\u0000\u1153\u0000\u1154\u0000\u1155\u0000\u1156\u0000\u1157\u066e",
+            "\u1157\u0000\u1159\u0000\u115a\u0000\u115b\u0670\u115b\u0000\u115c\u0000\u115d\u0672\u115d\u0000",
+            "\u115e\u0000\u115f\u0000\u1160\u0674\u1160\u0000\u1161\u0676\u1161\u0000\u1163\u0000\u1164\u0000",
+            "\u1165\u0678\u1165\u0000\u1166\u0000\u1167\u067a\u1167\u0000\u116b\u0000\u116d\u0000\u116e\u0000",
+            "\u116f\u067c\u116f\u0000\u1170\u0000\u1171\u0000\u1172\u067e\u1172\u0000\u1173\u0000\u1174\u0000",
+            "\u1175\u067f\u1176\u0682\u1176\u0000\u1177\u0000\u1178\u0000\u1179\u0684\u1179\u0000\u117a\u0000",
+            "\u117b\u0000\u117d\u0686\u117d\u0000\u117e\u0000\u117f\u0688\u117f\u0000\u1180\u0000\u1181\u0000",
+            "\u1182\u068a\u1182\u0000\u1185\u0000\u1186\u0000\u1187\u068b\u1188\u068e\u1188\u0000\u1189\u0000",
+            "\u118a\u0000\u118b\u0000\u118c\u0000\u118d\u0690\u118d\u0000\u118e\u0691\u1190\u0694\u1190\u0000",
+            "\u1191\u0000\u1192\u0000\u1193\u0000\u1194\u0000\u1195\u0696\u1195\u0000\u1196\u0000\u1197\u0698",
+            "\u1197\u0000\u119a\u0000\u119b\u0000\u119c\u069a\u119c\u0000\u119d\u0000\u119e\u0000\u11a0\u069c",
+            "\u11a0\u0000\u11a1\u0000\u11a2\u0000\u11a3\u0000\u11a4\u069e\u11a4\u0000\u11a5\u06a0\u11a5\u0000",
+            "\u11a6\u0000\u11ad\u06a2\u11ad\u0000\u11ae\u06a4\u11ae\u0000\u11b1\u06a6\u11b1\u0000\u11b2\u0000",
+            "\u11b3\u06a8\u11b3\u0000\u11b4\u0000\u11b6\u0000\u11b7\u0000\u11b8\u0000\u11b9\u0000\u11ba\u0000",
+            "\u11bc\u0000\u11bd\u0000\u11be\u0000\u11bf\u0000\u11c0\u06aa\u11c0\u0000\u11c1\u0000\u11c2\u0000",
+            "\u11c3\u0000\u11c4\u0000\u11c5\u06ac\u11c5\u0000\u11ca\u0000\u11cb\u06ae\u11cb\u0000\u11cc\u06b0",
+            "\u11cc\u0000\u11cd\u0000\u11ce\u0000\u11cf\u06b2\u11cf\u0000\u11d0\u0000\u11d1\u0000\u11d2\u0000",
+            "\u11d3\u06b4\u11d3\u0000\u11d4\u0000\u11d5\u0000\u11d6\u0000\u11d7\u06b6\u11d7\u0000\u11d8\u06b8",
+            "\u11d8\u0000\u11d9\u0000\u11da\u0000\u11db\u0000\u11dc\u0000\u11dd\u06ba\u11dd\u0000\u11de\u0000",
+            "\u11df\u0000\u11e0\u06bc\u11e0\u0000\u11e1\u0000\u11e2\u0000\u11e3\u0000\u11e4\u06be\u11e4\u0000",
+            "\u11e5\u0000\u11e6\u0000\u11e7\u0000\u11e9\u06c0\u11e9\u0000\u11ea\u0000\u11eb\u0000\u11ec\u06c2",
+            "\u11ec\u0000\u11f0\u0000\u11f1\u0000\u11f2\u0000\u11f4\u06c4\u11f4\u0000\u11f6\u06c6\u11f6\u0000",
+            "\u11f7\u06c8\u11f7\u0000\u11f9\u0000\u11fa\u0000\u11fc\u06ca\u11fc\u0000\u11fd\u06cc\u11fd\u0000",
+            "\u1200\u06ce\u1200\u0000\u1201\u0000\u1202\u06d0\u1202\u0000\u1203\u0000\u1205\u0000\u1206\u0000",
+            "\u1207\u0000\u1208\u0000\u1209\u06d2\u1209\u0000\u120a\u0000\u120b\u0000\u120c\u06d4\u120c\u0000",
+            "\u120e\u0000\u1210\u06d6\u1210\u0000\u1211\u0000\u1212\u0000\u1213\u06d8\u1213\u0000\u1214\u0000",
+            "\u1215\u0000\u1216\u06da\u1216\u0000\u1219\u0000\u121a\u06dc\u121a\u0000\u121b\u0000\u121c\u0000",
+            "\u121d\u06de\u121d\u06df\u121f\u06e2\u121f\u0000\u1220\u0000\u1221\u06e4\u1221\u0000\u1223\u0000",
+            "\u1224\u0000\u1225\u0000\u1226\u06e6\u1226\u0000\u1227\u0000\u1228\u0000\u1229\u06e8\u1229\u0000",
+            "\u122b\u0000\u122c\u0000\u122d\u06ea\u122d\u0000\u122f\u0000\u1231\u06ec\u1231\u0000\u1232\u06ee",
+            "\u1232\u0000\u1234\u06f0\u1234\u0000\u1235\u06f2\u1235\u0000\u1236\u0000\u1237\u0000\u1238\u0000",
+            "\u1239\u06f4\u1239\u0000\u1240\u0000\u1241\u0000\u1242\u0000\u1243\u0000\u1245\u0000\u1246\u06f6",
+            "\u1246\u0000\u1247\u06f8\u1247\u0000\u1249\u0000\u124a\u0000\u124b\u06fa\u124b\u0000\u124c\u0000",
+            "\u124d\u06fc\u124d\u0000\u124e\u0000\u124f\u0000\u1250\u0000\u1252\u06fe\u1252\u0000\u1253\u0700",
+            "\u1253\u0000\u1259\u0702\u1259\u0000\u125a\u0000\u125b\u0000\u125c\u0000\u125d\u0000\u125e\u0704",
+            "\u125e\u0000\u1260\u0000\u1261\u0000\u1262\u0706\u1262\u0000\u1263\u0000\u1264\u0708\u1264\u0000",
+            "\u1265\u0000\u1266\u0000\u1267\u070a\u1267\u0000\u1268\u0000\u1269\u070c\u1269\u0000\u126a\u070e",
+            "\u126a\u0000\u126e\u0000\u126f\u0000\u1270\u0000\u1272\u0710\u1272\u0000\u1273\u0712\u1273\u0000",
+            "\u1274\u0000\u1277\u0000\u1278\u0000\u127a\u0000\u127b\u0000\u127c\u0000\u127d\u0000\u127e\u0714",
+            "\u127e\u0000\u127f\u0000\u1280\u0000\u1281\u0000\u1282\u0716\u1282\u0000\u1283\u0000\u1284\u0000",
+            "\u1285\u0718\u1285\u0000\u1286\u0000\u1287\u0000\u1288\u0000\u1289\u0000\u128a\u071a\u128a\u0000",
+            "\u128b\u0000\u128c\u071b\u128d\u071e\u128d\u0000\u128e\u0000\u128f\u0000\u1290\u0000\u1291\u0000",
+            "\u1292\u0000\u1293\u0000\u1295\u0000\u1296\u0000\u1297\u0000\u1298\u0000\u1299\u0720\u1299\u0000",
+            "\u129a\u0000\u129b\u0000\u129c\u0000\u129d\u0000\u129e\u0722\u129e\u0000\u129f\u0000\u12a0\u0000",
+            "\u12a1\u0724\u12a1\u0000\u12a2\u0000\u12a3\u0000\u12a4\u0726\u12a4\u0000\u12a6\u0000\u12a7\u0000",
+            "\u12a8\u0000\u12a9\u0000\u12aa\u0000\u12ab\u0000\u12ac\u0728\u12ac\u0000\u12ad\u0000\u12ae\u0000",
+            "\u12af\u072a\u12af\u0000\u12b0\u0000\u12b1\u0000\u12b2\u0000\u12b3\u0000\u12b4\u072c\u12b4\u0000",
+            "\u12c7\u0000\u12c8\u0000\u12c9\u0000\u12ca\u072e\u12ca\u0000\u12cb\u0000\u12cc\u0000\u12cd\u0730",
+            "\u12cd\u0000\u12d1\u0000\u12d2\u0000\u12d3\u0000\u12d4\u0000\u12d5\u0732\u12d5\u0000\u12d6\u0000",
+            "\u12d7\u0000\u12d8\u0000\u12d9\u0734\u12d9\u0000\u12da\u0000\u12db\u0736\u12db\u0000\u12dc\u0000",
+            "\u12de\u0738\u12de\u0000\u12df\u073a\u12df\u0000\u12e1\u0000\u12e2\u0000\u12e3\u0000\u12e4\u0000",
+            "\u12e5\u0000\u12e6\u073c\u12e6\u0000\u12e7\u0000\u12e8\u0000\u12e9\u073e\u12e9\u0000\u12eb\u0000",
+            "\u12ec\u0000\u12ed\u0000\u12ee\u0000\u12ef\u0740\u12ef\u0000\u12f0\u0742\u12f0\u0000\u12f3\u0744",
+            "\u12f3\u0000\u12f5\u0000\u12f6\u0000\u12f7\u0000\u12f8\u0000\u12f9\u0746\u12f9\u0000\u12fa\u0000",
+            "\u12fb\u0748\u12fb\u0000\u12fc\u0000\u12fd\u0000\u12fe\u0000\u12ff\u0000\u1300\u074a\u1300\u0000",
+            "\u1303\u074b\u1304\u074e\u1304\u0000\u1305\u0000\u1306\u0000\u1307\u0750\u1307\u0000\u1308\u0000",
+            "\u1309\u0000\u130a\u0000\u130b\u0000\u130c\u0752\u130c\u0000\u130e\u0000\u130f\u0000\u1310\u0000",
+            "\u1311\u0000\u1312\u0754\u1312\u0000\u1313\u0756\u1313\u0000\u1314\u0000\u1315\u0000\u1317\u0000",
+            "\u1318\u0758\u1318\u0000\u1319\u075a\u1319\u0000\u131e\u0000\u131f\u0000\u1322\u075c\u1322\u0000",
+            "\u1323\u0000\u1324\u0000\u1326\u075e\u1326\u0000\u1327\u0000\u1328\u0000\u1329\u0000\u132a\u0760",
+            "\u132a\u0000\u132b\u0762\u132b\u0000\u132c\u0764\u132c\u0000\u132d\u0000\u132e\u0000\u132f\u0000",
+            "\u1330\u0000\u1331\u0766\u1331\u0000\u1332\u0000\u1333\u0000\u1334\u0768\u1334\u0000\u1337\u076a",
+            "\u1337\u0000\u1338\u0000\u1339\u076b\u133b\u076e\u133b\u0000\u133c\u0000\u133d\u0000\u133e\u0000",
+            "\u133f\u0000\u1340\u0000\u1341\u0000\u1342\u0770\u1342\u0000\u1343\u0000\u1344\u0000\u1345\u0772",
+            "\u1345\u0000\u1346\u0000\u1347\u0000\u1348\u0774\u1348\u0000\u1349\u0000\u134b\u0000\u134c\u0000",
+            "\u134d\u0000\u134e\u0776\u134e\u0000\u134f\u0000\u1350\u0000\u1351\u0778\u1351\u0000\u1356\u0000",
+            "\u1357\u0000\u1358\u0000\u1359\u0000\u135a\u077a\u135a\u0000\u135b\u0000\u135c\u077c\u135c\u0000",
+            "\u1361\u077e\u1361\u0000\u1362\u0000\u1364\u0780\u1364\u0000\u1365\u0000\u1366\u0000\u1367\u0782",
+            "\u1367\u0000\u1368\u0000\u1369\u0000\u136a\u0000\u136b\u0000\u136c\u0784\u136c\u0000\u136d\u0000",
+            "\u136e\u0000\u136f\u0000\u1370\u0786\u1370\u0000\u1371\u0000\u1372\u0000\u1373\u0000\u1374\u0000",
+            "\u1375\u0000\u1376\u0788\u1376\u0000\u1377\u0000\u1378\u0000\u1379\u0000\u137a\u0000\u137b\u0000",
+            "\u137c\u0000\u137d\u0000\u137e\u0000\u137f\u0000\u1380\u0000\u1381\u0000\u1382\u078a\u1382\u0000",
+            "\u1383\u0000\u1386\u0000\u1387\u0000\u1388\u0000\u1389\u0000\u138a\u0000\u138b\u078c\u138b\u0000",
+            "\u138c\u0000\u138d\u0000\u138e\u0000\u138f\u0000\u1390\u0000\u1391\u0000\u1392\u0000\u1393\u0000",
+            "\u1394\u0000\u1395\u078e\u1395\u0000\u1396\u0000\u1397\u0000\u1398\u0000\u1399\u0000\u139a\u0000",
+            "\u139b\u0000\u139d\u0000\u139e\u0000\u139f\u0000\u13a0\u0000\u13a1\u0790\u13a1\u0000\u13a2\u0000",
+            "\u13a3\u0000\u13a4\u0000\u13a5\u0000\u13a6\u0792\u13a6\u0000\u13a8\u0000\u13a9\u0000\u13aa\u0000",
+            "\u13ab\u0000\u13ac\u0000\u13ad\u0000\u13ae\u0794\u13ae\u0000\u13b0\u0000\u13b1\u0000\u13b2\u0000",
+            "\u13b3\u0796\u13b3\u0000\u13b4\u0000\u13b5\u0000\u13b6\u0798\u13b6\u0000\u13b9\u0000\u13bb\u0000",
+            "\u13bc\u079a\u13bc\u0000\u13bd\u079c\u13bd\u0000\u13be\u0000\u13bf\u079e\u13bf\u0000\u13c0\u0000",
+            "\u13c1\u0000\u13c2\u0000\u13c3\u07a0\u13c3\u0000\u13c5\u0000\u13c6\u0000\u13c7\u0000\u13c8\u07a2",
+            "\u13c8\u0000\u13c9\u0000\u13cb\u07a4\u13cb\u0000\u13cc\u07a6\u13cc\u0000\u13ce\u0000\u13cf\u0000",
+            "\u13d0\u0000\u13d1\u07a8\u13d1\u0000\u13d2\u0000\u13d3\u0000\u13d4\u07aa\u13d4\u0000\u13d5\u0000",
+            "\u13d6\u0000\u13d7\u0000\u13d8\u0000\u13d9\u0000\u13da\u07ac\u13da\u0000\u13dc\u0000\u13dd\u0000",
+            "\u13de\u07ae\u13de\u0000\u13df\u0000\u13e0\u0000\u13e1\u0000\u13e2\u0000\u13e3\u0000\u13e4\u07b0",
+            "\u13e4\u0000\u13f6\u0000\u13f8\u0000\u13f9\u0000\u13fa\u0000\u13fb\u07b2\u13fb\u0000\u13fc\u0000",
+            "\u13fd\u07b4\u13fd\u0000\u13ff\u0000\u1400\u0000\u1401\u0000\u1402\u07b5\u1403\u07b8\u1403\u0000",
+            "\u1404\u0000\u1405\u0000\u1406\u0000\u1407\u07ba\u1407\u0000\u140b\u0000\u140c\u0000\u140d\u0000",
+            "\u140e\u0000\u140f\u07bc\u140f\u0000\u1410\u0000\u1412\u07be\u1412\u07bf\u1413\u07c2\u1413\u0000",
+            "\u1414\u0000\u1415\u0000\u1416\u0000\u1417\u07c4\u1417\u0000\u1418\u07c6\u1418\u0000\u1419\u0000",
+            "\u141a\u0000\u141b\u07c8\u141b\u0000\u141c\u07ca\u141c\u0000\u141e\u0000\u141f\u0000\u1420\u0000",
+            "\u1421\u07cc\u1421\u0000\u1422\u07ce\u1422\u0000\u1425\u07d0\u1425\u0000\u1426\u0000\u1427\u0000",
+            "\u1428\u07d1\u1429\u07d4\u1429\u0000\u142b\u07d6\u142b\u0000\u142c\u0000\u142d\u0000\u142e\u07d8",
+            "\u142e\u0000\u1432\u07da\u1432\u0000\u1433\u0000\u1434\u0000\u1435\u0000\u1436\u0000\u1437\u0000",
+            "\u1438\u07dc\u1438\u0000\u1439\u07de\u1439\u0000\u143b\u07e0\u143b\u0000\u143c\u0000\u143d\u0000",
+            "\u143e\u07e2\u143e\u0000\u1441\u0000\u1442\u0000\u1443\u0000\u1444\u07e4\u1444\u0000\u1445\u0000",
+            "\u1446\u0000\u1449\u07e6\u1449\u0000\u144a\u0000\u144b\u0000\u144c\u07e8\u144c\u0000\u144d\u07ea",
+            "\u144d\u0000\u144e\u0000\u1450\u0000\u1452\u0000\u1453\u07ec\u1453\u0000\u1454\u07ee\u1454\u07f0",
+            "\u1454\u0000\u1456\u0000\u1457\u07f2\u1457\u0000\u1458\u0000\u1459\u07f4\u1459\u0000\u145b\u0000",
+            "\u145c\u0000\u145d\u0000\u145e\u07f6\u145e\u0000\u145f\u0000\u1460\u07f8\u1460\u0000\u1463\u0000",
+            "\u1464\u0000\u1466\u07fa\u1466\u0000\u1467\u0000\u1468\u07fc\u1468\u0000\u1469\u0000\u146a\u0000",
+            "\u146b\u07fe\u146b\u0000\u146c\u0000\u146f\u0800\u146f\u0000\u1470\u0000\u1471\u0000\u1472\u0802",
+            "\u1472\u0000\u1473\u0804\u1473\u0000\u1477\u0000\u1479\u0000\u147a\u0000\u147b\u0000\u147c\u0806",
+            "\u147c\u0000\u147d\u0000\u147e\u0000\u147f\u0000\u1480\u0808\u1480\u0000\u1482\u0000\u1483\u0000",
+            "\u1484\u080a\u1484\u0000\u1485\u0000\u1486\u0000\u1487\u0000\u1489\u0000\u148a\u0000\u148b\u0000",
+            "\u148c\u080c\u148c\u0000\u148d\u0000\u148e\u0000\u148f\u0000\u1490\u080e\u1490\u0000\u1493\u0000",
+            "\u1494\u0000\u1495\u0000\u1496\u0810\u1496\u0000\u1497\u0000\u1498\u0000\u1499\u0812\u1499\u0000",
+            "\u149a\u0000\u149c\u0814\u149c\u0000\u149d\u0000\u149e\u0816\u149e\u0000\u149f\u0000\u14a0\u0000",
+            "\u14a1\u0000\u14a2\u0000\u14a3\u0000\u14a4\u0818\u14a4\u0000\u14a6\u0000\u14a7\u0000\u14a8\u0000",
+            "\u14a9\u081a\u14a9\u0000\u14aa\u0000\u14ab\u0000\u14ac\u081c\u14ac\u0000\u14af\u0000\u14b0\u0000",
+            "\u14b1\u081e\u14b1\u0000\u14b2\u0000\u14b3\u0000\u14b4\u0820\u14b4\u0000\u14b5\u0000\u14b6\u0822",
+            "\u14b6\u0000\u14b8\u0000\u14b9\u0824\u14b9\u0825\u14ba\u0828\u14ba\u0000\u14bc\u0000\u14bd\u0829",
+            "\u14be\u082c\u14be\u0000\u14bf\u0000\u14c0\u082e\u14c0\u0000\u14c3\u0000\u14c4\u0000\u14c5\u0830",
+            "\u14c5\u0000\u14c6\u0000\u14c7\u0000\u14c8\u0832\u14c8\u0000\u14ca\u0000\u14cb\u0000\u14cc\u0000",
+            "\u14cd\u0000\u14ce\u0000\u14cf\u0000\u14d0\u0000\u14d1\u0000\u14d2\u0834\u14d2\u0000\u14d3\u0000",
+            "\u14d4\u0000\u14d5\u0000\u14d6\u0000\u14d7\u0000\u14d8\u0000\u14d9\u0000\u14da\u0000\u14db\u0836",
+            "\u14db\u0000\u14e7\u0000\u14e8\u0000\u14e9\u0000\u14ea\u0000\u14eb\u0000\u14ec\u0000\u14ed\u0000",
+            "\u14ee\u0000\u14ef\u0000\u14f0\u0000\u14f1\u0000\u14f2\u0000\u14f3\u0838\u14f3\u0000\u14f4\u0000",
+            "\u14f5\u083a\u14f5\u0000\u14f6\u0000\u14f7\u0000\u14f8\u0000\u14f9\u0000\u14fa\u083c\u14fa\u0000",
+            "\u14fd\u0000\u14fe\u0000\u14ff\u0000\u1500\u0000\u1501\u083e\u1501\u0000\u1503\u0000\u1504\u0000",
+            "\u1505\u0840\u1505\u0000\u1506\u0000\u1507\u0000\u1508\u0842\u1508\u0000\u1509\u0844\u1509\u0000",
+            "\u150a\u0000\u150b\u0000\u150c\u0000\u150d\u0846\u150d\u0000\u150e\u0000\u150f\u0000\u1510\u0000",
+            "\u1511\u0848\u1511\u0000\u1514\u0000\u1515\u0000\u1516\u084a\u1516\u0000\u1517\u0000\u1518\u0000",
+            "\u1519\u084c\u1519\u0000\u151a\u0000\u151b\u0000\u151c\u084e\u151c\u0000\u151d\u0000\u151e\u0000",
+            "\u151f\u0850\u151f\u0000\u1521\u0000\u1522\u0000\u1523\u0852\u1523\u0000\u1525\u0000\u1526\u0000",
+            "\u1527\u0000\u1528\u0854\u1528\u0000\u152a\u0856\u152a\u0000\u152b\u0858\u152b\u0000\u152c\u0000",
+            "\u152d\u0000\u152e\u0000\u152f\u0000\u1530\u0000\u1531\u0000\u1532\u085a\u1532\u0000\u1534\u0000",
+            "\u1536\u0000\u153c\u0000\u1542\u085b\u1543\u085e\u1543\u0000\u1544\u0860\u1544\u0861\u1545\u0864",
+            "\u1545\u0000\u1546\u0866\u1546\u0000\u1547\u0868\u1547\u0000\u1548\u086a\u1548\u0000\u154a\u0000",
+            "\u154b\u086c\u154b\u0000\u154c\u086e\u154c\u0000\u154f\u086f\u1550\u0872\u1550\u0000\u1551\u0874",
+            "\u1551\u0000\u1552\u0876\u1552\u0000\u1553\u0000\u1554\u0878\u1554\u0000\u1556\u0000\u1557\u087a",
+            "\u1557\u0000\u1558\u087c\u1558\u0000\u1559\u0000\u155a\u087e\u155a\u0000\u155b\u0000\u155c\u0880",
+            "\u155c\u0000\u155d\u0000\u155e\u0000\u155f\u0882\u155f\u0000\u1560\u0000\u1561\u0000\u1562\u0884",
+            "\u1562\u0000\u1573\u0000\u1575\u0886\u1575\u0000\u1576\u0888\u1576\u0000\u1579\u0000\u157a\u0000",
+            "\u157b\u0000\u157c\u0000\u157d\u088a\u157d\u0000\u157e\u0000\u157f\u0000\u1581\u088c\u1581\u0000",
+            "\u1582\u088e\u1582\u0000\u1583\u0890\u1583\u0000\u1584\u0000\u1585\u0000\u1586\u0000\u1587\u0000",
+            "\u1588\u0892\u1588\u0000\u158a\u0000\u158b\u0000\u158c\u0000\u158d\u0894\u158d\u0000\u158e\u0896",
+            "\u158e\u0000\u158f\u0000\u1590\u0000\u1591\u0898\u1591\u0000\u1595\u089a\u1595\u0000\u1596\u089c",
+            "\u1596\u0000\u1599\u089e\u1599\u0000\u159a\u08a0\u159a\u0000\u159b\u0000\u159c\u0000\u159d\u0000",
+            "\u159e\u0000\u159f\u08a2\u159f\u0000\u15a3\u08a4\u15a3\u0000\u15a4\u0000\u15a5\u08a6\u15a5\u0000",
+            "\u15a6\u0000\u15a7\u0000\u15a9\u08a8\u15a9\u0000\u15ab\u08aa\u15ab\u0000\u15ac\u08ac\u15ac\u0000",
+            "\u15ae\u08ae\u15ae\u0000\u15af\u0000\u15b0\u08b0\u15b0\u0000\u15b1\u0000\u15b2\u08b2\u15b2\u0000",
+            "\u15b4\u08b4\u15b4\u0000\u15b5\u08b6\u15b5\u0000\u15b6\u0000\u15b7\u0000\u15b8\u0000\u15b9\u08b8",
+            "\u15b9\u0000\u15ba\u0000\u15bb\u0000\u15bc\u08ba\u15bc\u0000\u15c0\u08bc\u15c0\u0000\u15c1\u08be",
+            "\u15c1\u0000\u15c2\u08c0\u15c2\u0000\u15c3\u08c2\u15c3\u0000\u15c7\u0000\u15c8\u08c4\u15c8\u0000",
+            "\u15c9\u0000\u15cb\u08c6\u15cb\u0000\u15cc\u0000\u15cd\u0000\u15ce\u0000\u15cf\u08c8\u15cf\u0000",
+            "\u15d1\u08ca\u15d1\u0000\u15d3\u08cc\u15d3\u0000\u15d4\u08ce\u15d4\u0000\u15d5\u0000\u15d6\u0000",
+            "\u15d7\u08d0\u15d7\u0000\u15d8\u0000\u15d9\u0000\u15da\u08d2\u15da\u0000\u15db\u0000\u15dc\u0000",
+            "\u15dd\u0000\u15de\u08d4\u15de\u0000\u15e0\u0000\u15e1\u0000\u15e2\u08d6\u15e2\u0000\u15e3\u0000",
+            "\u15e6\u08d8\u15e6\u0000\u15e7\u08da\u15e7\u0000\u15e8\u08dc\u15e8\u08dd\u15ee\u08e0\u15ee\u0000",
+            "\u15f0\u0000\u15f1\u08e2\u15f1\u0000\u15f2\u0000\u15f3\u08e4\u15f3\u0000\u15f4\u0000\u15f5\u0000",
+            "\u15f6\u08e6\u15f6\u0000\u15f7\u0000\u15f8\u0000\u15f9\u0000\u15fa\u08e8\u15fa\u0000\u15fb\u0000",
+            "\u15fc\u0000\u15fd\u0000\u15fe\u0000\u15ff\u08ea\u15ff\u0000\u1604\u0000\u1606\u0000\u1607\u0000",
+            "\u1608\u0000\u1609\u0000\u160a\u0000\u160b\u08ec\u160b\u0000\u160c\u0000\u160d\u08ee\u160d\u0000",
+            "\u160e\u0000\u160f\u0000\u1610\u08f0\u1610\u0000\u1611\u0000\u1613\u0000\u1614\u0000\u1615\u0000",
+            "\u1616\u0000\u1617\u08f2\u1617\u0000\u1618\u0000\u1619\u0000\u161a\u0000\u161b\u0000\u161c\u08f4",
+            "\u161c\u0000\u161d\u0000\u161e\u0000\u161f\u0000\u1620\u08f6\u1620\u0000\u1621\u0000\u1622\u0000",
+            "\u1623\u08f8\u1623\u0000\u1625\u0000\u1626\u0000\u1627\u0000\u1628\u0000\u1629\u0000\u162a\u0000",
+            "\u162b\u0000\u162c\u08fa\u162c\u0000\u162d\u0000\u162e\u08fc\u162e\u0000\u1638\u0000\u1639\u0000",
+            "\u163a\u0000\u163b\u08fe\u163b\u0000\u163f\u0000\u1640\u0000\u1641\u0000\u1642\u0000\u1643\u0900",
+            "\u1643\u0000\u1644\u0000\u1645\u0902\u1645\u0000\u1646\u0000\u1647\u0000\u1648\u0000\u1649\u0904",
+            "\u1649\u0000\u164b\u0000\u164c\u0000\u164d\u0000\u164e\u0906\u164e\u0000\u1651\u0908\u1651\u0000",
+            "\u1652\u0000\u1653\u0000\u1654\u090a\u1654\u0000\u1655\u090c\u1655\u0000\u1656\u0000\u1657\u0000",
+            "\u1658\u090e\u1658\u0000\u1659\u0000\u165a\u0000\u165b\u0000\u165c\u0910\u165c\u0000\u165f\u0000",
+            "\u1660\u0000\u1661\u0000\u1662\u0000\u1664\u0912\u1664\u0000\u1665\u0000\u1666\u0000\u1667\u0914",
+            "\u1667\u0000\u1668\u0000\u1669\u0000\u166a\u0000\u166b\u0916\u166b\u0000\u166c\u0000\u166d\u0000",
+            "\u166e\u0000\u166f\u0918\u166f\u0000\u1670\u0000\u1671\u091a\u1671\u0000\u1672\u0000\u1674\u0000",
+            "\u1675\u0000\u1676\u0000\u1677\u0000\u1678\u0000\u1679\u091c\u1679\u0000\u167a\u0000\u167b\u0000",
+            "\u167c\u0000\u167d\u0000\u167e\u091e\u167e\u0000\u1683\u0000\u1684\u0000\u1685\u0000\u1686\u0920",
+            "\u1686\u0000\u1687\u0000\u1688\u0000\u1689\u0000\u168a\u0922\u168a\u0000\u168b\u0000\u168d\u0000",
+            "\u168e\u0000\u168f\u0000\u1690\u0000\u1691\u0000\u1692\u0000\u1693\u0000\u1694\u0000\u1695\u0000",
+            "\u1696\u0924\u1696\u0000\u1697\u0000\u1698\u0000\u1699\u0000\u169a\u0000\u169b\u0000\u169c\u0000",
+            "\u169d\u0000\u169e\u0000\u169f\u0000\u16a0\u0926\u16a0\u0000\u16a1\u0000\u16a2\u0928\u16a2\u0000",
+            "\u16a3\u0000\u16a4\u0000\u16a5\u0000\u16a6\u092a\u16a6\u0000\u16a9\u0000\u16aa\u0000\u16ab\u092c",
+            "\u16ab\u0000\u16ac\u0000\u16ad\u0000\u16ae\u0000\u16af\u092e\u16af\u0000\u16b0\u0000\u16b1\u0000",
+            "\u16b2\u0000\u16b3\u0930\u16b3\u0000\u16b5\u0000\u16b6\u0000\u16b7\u0000\u16b8\u0000\u16b9\u0932",
+            "\u16b9\u0000\u16ba\u0000\u16bb\u0000\u16bc\u0000\u16bd\u0934\u16bd\u0000\u16cc\u0000\u16cd\u0000",
+            "\u16ce\u0000\u16cf\u0000\u16d0\u0935\u16d1\u0938\u16d1\u0000\u16d4\u093a\u16d4\u0000\u16d5\u0000",
+            "\u16d6\u093b\u16d7\u093e\u16d7\u0000\u16d8\u0940\u16d8\u0000\u16da\u0000\u16db\u0000\u16dc\u0942",
+            "\u16dc\u0000\u16dd\u0000\u16de\u0943\u16df\u0946\u16df\u0000\u16e1\u0000\u16e2\u0948\u16e2\u0000",
+            "\u16e3\u094a\u16e3\u0000\u16e4\u0000\u16e5\u0000\u16e6\u0000\u16e7\u094b\u16e8\u094e\u16e8\u0000",
+            "\u16ec\u0950\u16ec\u0000\u16ee\u0000\u16ef\u0000\u16f0\u0000\u16f1\u0952\u16f1\u0000\u16f2\u0000",
+            "\u16f3\u0954\u16f3\u0000\u16f4\u0000\u16f5\u0000\u16f6\u0000\u16f7\u0956\u16f7\u0000\u16f8\u0000",
+            "\u16f9\u0000\u16fa\u0958\u16fa\u0000\u16fb\u0000\u16fc\u0000\u16fd\u0000\u16fe\u095a\u16fe\u0000",
+            "\u1701\u0000\u1704\u0000\u1705\u0000\u1706\u095c\u1706\u0000\u1709\u0000\u170a\u095e\u170a\u0000",
+            "\u170b\u0000\u170c\u0000\u170d\u0000\u170e\u0960\u170e\u0000\u170f\u0000\u1710\u0000\u1711\u0000",
+            "\u1712\u0962\u1712\u0000\u1713\u0000\u1714\u0964\u1714\u0000\u1715\u0000\u1716\u0966\u1716\u0000",
+            "\u1717\u0000\u1718\u0000\u1719\u0968\u1719\u0000\u171e\u096a\u171e\u0000\u171f\u0000\u1720\u0000",
+            "\u1721\u0000\u1722\u096c\u1722\u0000\u1723\u0000\u1724\u0000\u1726\u096e\u1726\u0000\u1727\u0000",
+            "\u1728\u0000\u1729\u0970\u1729\u0000\u172a\u0000\u172b\u0000\u172c\u0000\u172d\u0972\u172d\u0000",
+            "\u1732\u0974\u1732\u0000\u1733\u0000\u1734\u0000\u1735\u0976\u1735\u0000\u1737\u0000\u1738\u0000",
+            "\u1739\u0000\u173a\u0000\u173b\u0978\u173b\u0000\u173c\u0000\u173d\u0000\u173e\u0000\u173f\u097a",
+            "\u173f\u0000\u1740\u0000\u1741\u0000\u1742\u0000\u1743\u0000\u1744\u097c\u1744\u0000\u1745\u0000",
+            "\u1746\u0000\u1747\u0000\u1748\u097e\u1748\u0000\u174c\u0000\u174d\u0000\u174e\u0980\u174e\u0000",
+            "\u174f\u0000\u1750\u0000\u1751\u0982\u1751\u0000\u1752\u0000\u1753\u0984\u1753\u0000\u1754\u0000",
+            "\u1755\u0986\u1755\u0000\u1756\u0000\u1757\u0000\u1758\u0000\u1759\u0988\u1759\u0000\u175a\u0000",
+            "\u175b\u0000\u175c\u0000\u175d\u0989\u175e\u098c\u175e\u0000\u1760\u0000\u1761\u0000\u1762\u098e",
+            "\u1762\u0000\u1763\u0000\u1768\u0990\u1768\u0000\u1769\u0992\u1769\u0000\u176a\u0000\u176b\u0000",
+            "\u176c\u0994\u176c\u0000\u176e\u0996\u176e\u0000\u176f\u0998\u176f\u0000\u1770\u099a\u1770\u0000",
+            "\u1772\u099c\u1772\u0000\u1773\u0000\u1774\u0000\u1775\u0000\u1776\u099e\u1776\u0000\u1778\u0000",
+            "\u1779\u0000\u177a\u0000\u177b\u09a0\u177b\u0000\u177c\u09a1\u177d\u09a4\u177d\u0000\u1783\u0000",
+            "\u1785\u0000\u1786\u0000\u1787\u0000\u1788\u09a6\u1788\u0000\u1789\u09a8\u1789\u0000\u178a\u0000",
+            "\u178b\u09aa\u178b\u0000\u178c\u0000\u178d\u0000\u178e\u0000\u178f\u09ac\u178f\u0000\u1790\u0000",
+            "\u1791\u0000\u1792\u09ae\u1792\u0000\u1794\u0000\u1795\u0000\u1796\u09b0\u1796\u0000\u1797\u0000",
+            "\u1798\u0000\u1799\u0000\u179a\u09b2\u179a\u0000\u179b\u0000\u179c\u0000\u179d\u0000\u179e\u09b4",
+            "\u179e\u0000\u17a6\u0000\u17a7\u0000\u17a8\u0000\u17a9\u0000\u17ab\u09b6\u17ab\u0000\u17ac\u09b8",
+            "\u17ac\u0000\u17ae\u0000\u17af\u0000\u17b0\u0000\u17b1\u0000\u17b2\u09ba\u17b2\u0000\u17b3\u09bc",
+            "\u17b3\u0000\u17b4\u0000\u17b5\u09be\u17b5\u0000\u17b6\u0000\u17b7\u0000\u17b8\u0000\u17b9\u0000",
+            "\u17ba\u09c0\u17ba\u0000\u17bb\u0000\u17bc\u0000\u17bd\u09c2\u17bd\u0000\u17be\u0000\u17bf\u0000",
+            "\u17c0\u09c4\u17c0\u0000\u17c1\u0000\u17c2\u0000\u17c3\u09c6\u17c3\u0000\u17c4\u0000\u17c5\u0000",
+            "\u17c6\u09c8\u17c6\u0000\u17dd\u0000\u17e0\u0000\u17e1\u0000\u17e2\u0000\u17e3\u09ca\u17e3\u0000",
+            "\u17e4\u0000\u17e5\u09cc\u17e5\u0000\u17e6\u0000\u17e7\u0000\u17e8\u0000\u17e9\u09ce\u17e9\u0000",
+            "\u17ea\u0000\u17eb\u0000\u17ec\u0000\u17ed\u09d0\u17ed\u0000\u17ef\u09d2\u17ef\u0000\u17f0\u09d4",
+            "\u17f0\u0000\u17f1\u0000\u17f2\u0000\u17f3\u09d6\u17f3\u0000\u17fc\u0000\u17fd\u0000\u17fe\u0000",
+            "\u17ff\u0000\u1800\u09d8\u1800\u0000\u1801\u0000\u1802\u0000\u1803\u0000\u1804\u0000\u1805\u0000",
+            "\u1806\u09da\u1806\u0000\u1807\u0000\u1808\u0000\u1809\u0000\u180a\u09dc\u180a\u0000\u180b\u0000",
+            "\u180c\u0000\u180d\u0000\u180e\u09de\u180e\u0000\u180f\u0000\u1812\u09e0\u1812\u0000\u1813\u09e2",
+            "\u1813\u0000\u1814\u0000\u1815\u09e4\u1815\u0000\u1816\u09e6\u1816\u0000\u1817\u0000\u1818\u09e7",
+            "\u1819\u09ea\u1819\u0000\u181a\u0000\u1822\u09ec\u1822\u0000\u1824\u09ee\u1824\u0000\u1825\u0000",
+            "\u1826\u09f0\u1826\u0000\u1827\u0000\u1828\u09f2\u1828\u0000\u1829\u0000\u182a\u09f4\u182a\u0000",
+            "\u182b\u0000\u182c\u09f6\u182c\u0000\u182d\u0000\u182e\u09f8\u182e\u0000\u182f\u0000\u1830\u0000",
+            "\u1831\u09fa\u1831\u0000\u1832\u0000\u1833\u09fc\u1833\u0000\u1836\u09fe\u1836\u0000\u1837\u0000",
+            "\u1838\u0000\u1839\u0a00\u1839\u0000\u183b\u0a02\u183b\u0000\u183c\u0a04\u183c\u0000\u183f\u0000",
+            "\u1840\u0000\u1841\u0000\u1842\u0a06\u1842\u0000\u1843\u0000\u1844\u0000\u1845\u0a08\u1845\u0000",
+            "\u1847\u0000\u1848\u0000\u184a\u0000\u184b\u0a0a\u184b\u0000\u184c\u0a0c\u184c\u0000\u184e\u0000",
+            "\u184f\u0a0e\u184f\u0000\u1850\u0000\u1852\u0000\u1853\u0a10\u1853\u0000\u1854\u0a12\u1854\u0000",
+            "\u1858\u0000\u1859\u0000\u185a\u0000\u185b\u0000\u185c\u0a14\u185c\u0000\u185e\u0000\u185f\u0000",
+            "\u1860\u0000\u1861\u0a16\u1861\u0000\u1862\u0000\u1863\u0a18\u1863\u0000\u1864\u0000\u1865\u0a1a",
+            "\u1865\u0000\u1866\u0a1c\u1866\u0000\u186a\u0000\u186b\u0000\u186c\u0a1e\u186c\u0000\u186d\u0000",
+            "\u186e\u0000\u1870\u0a20\u1870\u0000\u1871\u0a22\u1871\u0000\u1873\u0000\u1874\u0000\u1875\u0000",
+            "\u1876\u0000\u1877\u0a24\u1877\u0000\u1878\u0000\u1879\u0000\u187a\u0000\u187b\u0000\u187c\u0a26",
+            "\u187c\u0000\u187d\u0000\u187e\u0a28\u187e\u0000\u1883\u0a2a\u1883\u0000\u1884\u0000\u1889\u0000",
+            "\u188a\u0000\u188b\u0000\u188c\u0000\u188d\u0000\u188f\u0a2c\u188f\u0000\u1890\u0000\u1891\u0000",
+            "\u1892\u0000\u1893\u0a2e\u1893\u0000\u1894\u0000\u1895\u0000\u1896\u0000\u1897\u0000\u1898\u0000",
+            "\u1899\u0000\u189b\u0000\u189c\u0000\u189d\u0000\u189e\u0000\u189f\u0a30\u189f\u0000\u18a0\u0000",
+            "\u18a1\u0a32\u18a1\u0000\u18a2\u0000\u18a3\u0000\u18a4\u0000\u18a5\u0000\u18a6\u0000\u18a7\u0000",
+            "\u18a8\u0000\u18a9\u0000\u18aa\u0000\u18ab\u0a34\u18ab\u0000\u18ac\u0000\u18ad\u0000\u18ae\u0000",
+            "\u18af\u0000\u18b2\u0000\u18b3\u0000\u18b4\u0000\u18b5\u0000\u18b6\u0000\u18b8\u0a36\u18b8\u0000",
+            "\u18b9\u0a38\u18b9\u0000\u18ba\u0000\u18bb\u0000\u18bc\u0000\u18bd\u0000\u18be\u0000\u18bf\u0000",
+            "\u18c0\u0000\u18c1\u0a3a\u18c1\u0000\u18c2\u0000\u18c3\u0000\u18c4\u0000\u18c5\u0000\u18c6\u0000",
+            "\u18c7\u0000\u18c8\u0000\u18c9\u0000\u18ca\u0000\u18cb\u0a3c\u18cb\u0000\u18cc\u0000\u18cd\u0000",
+            "\u18ce\u0000\u18cf\u0000\u18d0\u0000\u18d1\u0000\u18d2\u0000\u18d3\u0000\u18d4\u0000\u18d5\u0a3e",
+            "\u18d5\u0000\u18d6\u0a40\u18d6\u0000\u18d9\u0a42\u18d9\u0000\u18da\u0a44\u18da\u0000\u18db\u0000",
+            "\u18dc\u0000\u18dd\u0000\u18de\u0000\u18df\u0a46\u18df\u0000\u18e4\u0a48\u18e4\u0000\u18e5\u0000",
+            "\u18e6\u0a4a\u18e6\u0000\u18e7\u0000\u18e8\u0000\u18ea\u0a4c\u18ea\u0000\u18ec\u0a4e\u18ec\u0000",
+            "\u18ed\u0a50\u18ed\u0000\u18ef\u0a52\u18ef\u0000\u18f0\u0000\u18f1\u0a54\u18f1\u0000\u18f6\u0000",
+            "\u18f7\u0000\u18f8\u0000\u18f9\u0000\u18fa\u0000\u18fb\u0000\u18fc\u0a56\u18fc\u0000\u18fd\u0000",
+            "\u18fe\u0000\u18ff\u0a58\u18ff\u0000\u1900\u0000\u1902\u0000\u1903\u0000\u1904\u0000\u1905\u0a5a",
+            "\u1905\u0000\u1906\u0000\u1907\u0000\u1908\u0000\u1909\u0a5c\u1909\u0000\u190a\u0000\u190b\u0000",
+            "\u190c\u0a5e\u190c\u0000\u190d\u0000\u190e\u0000\u190f\u0a60\u190f\u0000\u1912\u0000\u1913\u0000",
+            "\u1914\u0000\u1915\u0000\u1916\u0a62\u1916\u0000\u1917\u0000\u1918\u0000\u1919\u0000\u191a\u0a64",
+            "\u191a\u0000\u191b\u0a66\u191b\u0000\u191d\u0a68\u191d\u0000\u191e\u0a6a\u191e\u0000\u1920\u0000",
+            "\u1921\u0000\u1923\u0000\u1924\u0a6c\u1924\u0000\u1926\u0a6e\u1926\u0000\u1927\u0a70\u1927\u0000",
+            "\u1928\u0000\u1929\u0000\u192a\u0a72\u192a\u0000\u192b\u0000\u192c\u0000\u192d\u0a74\u192d\u0000",
+            "\u1932\u0a76\u1932\u0000\u1933\u0000\u1934\u0000\u1935\u0a78\u1935\u0000\u1936\u0000\u1937\u0000",
+            "\u1938\u0000\u1939\u0000\u193a\u0000\u193b\u0a7a\u193b\u0000\u193c\u0000\u193d\u0000\u193e\u0000",
+            "\u193f\u0a7c\u193f\u0000\u1940\u0000\u1941\u0000\u1942\u0a7e\u1942\u0000\u1944\u0000\u1945\u0000",
+            "\u1946\u0000\u1947\u0000\u1948\u0a80\u1948\u0000\u1949\u0000\u194a\u0000\u194b\u0000\u194d\u0a82",
+            "\u194d\u0000\u194e\u0000\u194f\u0000\u1950\u0000\u1951\u0a84\u1951\u0000\u1955\u0000\u1956\u0a86",
+            "\u1956\u0000\u1957\u0000\u1959\u0a88\u1959\u0000\u195a\u0000\u195b\u0000\u195c\u0000\u195d\u0a8a",
+            "\u195d\u0000\u195f\u0a8c\u195f\u0000\u1961\u0a8e\u1961\u0000\u1962\u0a90\u1962\u0000\u1963\u0000",
+            "\u1964\u0000\u1965\u0a92\u1965\u0000\u196d\u0000\u196f\u0000\u1970\u0000\u1971\u0a94\u1971\u0000",
+            "\u1972\u0000\u1973\u0a96\u1973\u0000\u1974\u0000\u1975\u0000\u1976\u0a98\u1976\u0000\u1977\u0000",
+            "\u197a\u0000\u197b\u0000\u197c\u0000\u197d\u0000\u197f\u0000\u1980\u0000\u1981\u0000\u1982\u0000",
+            "\u1983\u0000\u1984\u0a9a\u1984\u0000\u1985\u0000\u1986\u0000\u1987\u0000\u1988\u0000\u1989\u0000",
+            "\u198a\u0000\u198b\u0000\u198c\u0000\u198d\u0000\u198e\u0a9c\u198e\u0000\u198f\u0000\u1990\u0000",
+            "\u1991\u0000\u1992\u0000\u1993\u0000\u1994\u0a9e\u1994\u0000\u1995\u0000\u1996\u0000\u1997\u0000",
+            "\u1998\u0000\u1999\u0000\u199a\u0000\u199b\u0000\u199c\u0000\u199d\u0000\u199e\u0aa0\u199e\u0000",
+            "\u199f\u0000\u19a0\u0000\u19a1\u0000\u19a2\u0000\u19a3\u0000\u19a4\u0000\u19a6\u0000\u19a7\u0000",
+            "\u19a8\u0000\u19a9\u0000\u19aa\u0aa2\u19aa\u0000\u19ab\u0000\u19ac\u0000\u19ad\u0000\u19ae\u0000",
+            "\u19af\u0aa4\u19af\u0000\u19b2\u0000\u19b3\u0000\u19b4\u0aa6\u19b4\u0000\u19b5\u0aa8\u19b5\u0000",
+            "\u19b6\u0000\u19b7\u0000\u19b8\u0aaa\u19b8\u0000\u19b9\u0000\u19ba\u0000\u19bb\u0000\u19bc\u0000",
+            "\u19bd\u0aac\u19bd\u0000\u19bf\u0000\u19c0\u0000\u19c1\u0000\u19c2\u0aae\u19c2\u0000\u19c3\u0000",
+            "\u19c4\u0000\u19c5\u0ab0\u19c5\u0000\u19c8\u0ab2\u19c8\u0000\u19c9\u0000\u19ca\u0000\u19cb\u0000",
+            "\u19cc\u0ab4\u19cc\u0000\u19cd\u0ab6\u19cd\u0000\u19ce\u0000\u19cf\u0000\u19d1\u0ab8\u19d1\u0000",
+            "\u19d2\u0000\u19d3\u0aba\u19d3\u0000\u19d8\u0000\u19d9\u0000\u19da\u0000\u19db\u0abc\u19db\u0000",
+            "\u19dc\u0000\u19dd\u0000\u19de\u0000\u19df\u0000\u19e0\u0000\u19e1\u0abe\u19e1\u0000\u19e2\u0000",
+            "\u19e3\u0000\u19e5\u0ac0\u19e5\u0000\u19e6\u0ac2\u19e6\u0000\u19e7\u0ac4\u19e7\u0000\u19e8\u0000",
+            "\u19e9\u0000\u19ea\u0ac6\u19ea\u0000\u19f0\u0000\u19f1\u0000\u19f2\u0000\u19f3\u0000\u19f4\u0ac8",
+            "\u19f4\u0000\u19f5\u0000\u19f6\u0aca\u19f6\u0000\u19f7\u0acc\u19f7\u0000\u19f8\u0000\u19fb\u0ace",
+            "\u19fb\u0000\u19fc\u0ad0\u19fc\u0000\u19fd\u0ad2\u19fd\u0000\u19ff\u0000\u1a00\u0ad4\u1a00\u0000",
+            "\u1a01\u0000\u1a03\u0ad6\u1a03\u0000\u1a04\u0ad8\u1a04\u0000\u1a05\u0000\u1a06\u0000\u1a07\u0000",
+            "\u1a08\u0ada\u1a08\u0adb\u1a10\u0ade\u1a10\u0000\u1a12\u0000\u1a13\u0ae0\u1a13\u0000\u1a14\u0000",
+            "\u1a15\u0ae2\u1a15\u0000\u1a16\u0000\u1a17\u0000\u1a18\u0ae4\u1a18\u0000\u1a19\u0000\u1a1a\u0000",
+            "\u1a1b\u0000\u1a1c\u0ae6\u1a1c\u0000\u1a1d\u0000\u1a1e\u0000\u1a1f\u0000\u1a20\u0ae8\u1a20\u0000",
+            "\u1a21\u0000\u1a22\u0000\u1a23\u0000\u1a24\u0aea\u1a24\u0000\u1a25\u0000\u1a26\u0000\u1a27\u0000",
+            "\u1a28\u0000\u1a29\u0aec\u1a29\u0000\u1a2b\u0000\u1a2c\u0000\u1a2d\u0000\u1a2e\u0aee\u1a2e\u0000",
+            "\u1a31\u0af0\u1a31\u0000\u1a32\u0af2\u1a32\u0000\u1a33\u0af4\u1a33\u0000\u1a34\u0000\u1a36\u0000",
+            "\u1a37\u0000\u1a38\u0000\u1a39\u0000\u1a3a\u0000\u1a3b\u0af6\u1a3b\u0000\u1a3c\u0000\u1a3d\u0000",
+            "\u1a3e\u0000\u1a3f\u0af8\u1a3f\u0000\u1a41\u0000\u1a42\u0000\u1a43\u0000\u1a44\u0000\u1a45\u0000",
+            "\u1a46\u0000\u1a47\u0000\u1a48\u0afa\u1a48\u0000\u1a49\u0000\u1a4a\u0afc\u1a4a\u0000\u1a58\u0000",
+            "\u1a59\u0000\u1a5a\u0000\u1a5b\u0000\u1a5c\u0afe\u1a5c\u0000\u1a60\u0000\u1a61\u0aff\u1a62\u0b02",
+            "\u1a62\u0000\u1a64\u0000\u1a65\u0b04\u1a65\u0000\u1a67\u0b06\u1a67\u0000\u1a68\u0000\u1a69\u0000",
+            "\u1a6a\u0b08\u1a6a\u0000\u1a6c\u0b0a\u1a6c\u0000\u1a6d\u0000\u1a6e\u0000\u1a72\u0b0c\u1a72\u0000",
+            "\u1a73\u0000\u1a74\u0000\u1a75\u0000\u1a76\u0b0e\u1a76\u0000\u1a77\u0000\u1a78\u0000\u1a79\u0000",
+            "\u1a7a\u0b10\u1a7a\u0000\u1a7b\u0000\u1a7c\u0b12\u1a7c\u0000\u1a7d\u0000\u1a7e\u0000\u1a7f\u0000",
+            "\u1a80\u0b14\u1a80\u0000\u1a82\u0000\u1a83\u0000\u1a84\u0000\u1a85\u0000\u1a86\u0b16\u1a86\u0000",
+            "\u1a87\u0b18\u1a87\u0000\u1a88\u0000\u1a89\u0000\u1a8a\u0000\u1a8b\u0b1a\u1a8b\u0000\u1a8c\u0000",
+            "\u1a8d\u0000\u1a8e\u0000\u1a8f\u0000\u1a90\u0000\u1a91\u0000\u1a92\u0000\u1a93\u0000\u1a94\u0000",
+            "\u1a95\u0000\u1a96\u0000\u1a97\u0b1c\u1a97\u0000\u1a98\u0000\u1a99\u0b1e\u1a99\u0000\u1a9a\u0000",
+            "\u1a9b\u0b20\u1a9b\u0000\u1a9e\u0000\u1a9f\u0000\u1aa0\u0b21\u1aa1\u0b24\u1aa1\u0000\u1aa5\u0b26",
+            "\u1aa5\u0000\u1aa6\u0000\u1aa7\u0000\u1aa8\u0b28\u1aa8\u0000\u1aa9\u0000\u1aaa\u0000\u1aab\u0b2a",
+            "\u1aab\u0000\u1aac\u0000\u1aad\u0b2b\u1aae\u0b2e\u1aae\u0000\u1aaf\u0000\u1ab0\u0000\u1ab3\u0b30",
+            "\u1ab3\u0000\u1ab4\u0b32\u1ab4\u0000\u1ab6\u0b34\u1ab6\u0000\u1ab7\u0b36\u1ab7\u0000\u1ab9\u0000",
+            "\u1aba\u0000\u1abb\u0b38\u1abb\u0000\u1abc\u0000\u1abd\u0b3a\u1abd\u0000\u1abe\u0000\u1abf\u0000",
+            "\u1ac0\u0000\u1ac1\u0000\u1ac2\u0b3c\u1ac2\u0000\u1ac4\u0000\u1ac5\u0000\u1ac6\u0000\u1ac7\u0000",
+            "\u1ac8\u0b3e\u1ac8\u0000\u1ac9\u0000\u1aca\u0b40\u1aca\u0000\u1acb\u0b42\u1acb\u0000\u1acd\u0000",
+            "\u1ace\u0000\u1acf\u0b44\u1acf\u0000\u1ad0\u0000\u1ad1\u0000\u1ad2\u0000\u1ad3\u0b46\u1ad3\u0000",
+            "\u1ad6\u0b48\u1ad6\u0000\u1ad7\u0000\u1ad8\u0000\u1ad9\u0000\u1ada\u0000\u1adb\u0000\u1adc\u0b4a",
+            "\u1adc\u0000\u1add\u0000\u1ade\u0000\u1adf\u0b4c\u1adf\u0000\u1af7\u0000\u1af9\u0000\u1afa\u0b4e",
+            "\u1afa\u0000\u1afc\u0b50\u1afc\u0000\u1afd\u0b52\u1afd\u0000\u1b00\u0000\u1b01\u0000\u1b02\u0000",
+            "\u1b04\u0000\u1b05\u0000\u1b06\u0000\u1b07\u0000\u1b08\u0000\u1b09\u0b54\u1b09\u0000\u1b0a\u0000",
+            "\u1b0b\u0000\u1b0c\u0000\u1b0d\u0000\u1b0e\u0000\u1b0f\u0000\u1b10\u0000\u1b11\u0000\u1b12\u0000",
+            "\u1b13\u0b56\u1b13\u0000\u1b14\u0b58\u1b14\u0000\u1b16\u0b5a\u1b16\u0000\u1b17\u0b5c\u1b17\u0000",
+            "\u1b18\u0000\u1b19\u0000\u1b1a\u0000\u1b1b\u0000\u1b1c\u0000\u1b1d\u0000\u1b1e\u0000\u1b1f\u0000",
+            "\u1b20\u0000\u1b21\u0b5e\u1b21\u0000\u1b23\u0000\u1b24\u0000\u1b25\u0000\u1b26\u0000\u1b27\u0b60",
+            "\u1b27\u0000\u1b28\u0000\u1b29\u0000\u1b2a\u0000\u1b2b\u0b62\u1b2b\u0000\u1b30\u0000\u1b31\u0000",
+            "\u1b32\u0000\u1b33\u0b64\u1b33\u0000\u1b34\u0000\u1b35\u0000\u1b36\u0000\u1b37\u0b66\u1b37\u0000",
+            "\u1b38\u0000\u1b39\u0b68\u1b39\u0000\u1b3e\u0b6a\u1b3e\u0000\u1b3f\u0b6c\u1b3f\u0000\u1b40\u0000",
+            "\u1b41\u0b6e\u1b41\u0000\u1b42\u0000\u1b43\u0b70\u1b43\u0000\u1b44\u0000\u1b45\u0000\u1b46\u0000",
+            "\u1b47\u0b72\u1b47\u0000\u1b48\u0000\u1b49\u0000\u1b4b\u0b74\u1b4b\u0000\u1b4c\u0000\u1b4e\u0b76",
+            "\u1b4e\u0000\u1b4f\u0b78\u1b4f\u0000\u1b51\u0000\u1b52\u0b79\u1b53\u0b7c\u1b53\u0000\u1b54\u0000",
+            "\u1b55\u0000\u1b57\u0b7e\u1b57\u0000\u1b58\u0b80\u1b58\u0000\u1b5d\u0000\u1b5f\u0000\u1b60\u0b82",
+            "\u1b60\u0000\u1b61\u0000\u1b62\u0000\u1b63\u0b84\u1b63\u0000\u1b64\u0000\u1b65\u0000\u1b66\u0000",
+            "\u1b67\u0b86\u1b67\u0000\u1b68\u0000\u1b69\u0000\u1b6b\u0b88\u1b6b\u0000\u1b6c\u0000\u1b6d\u0000",
+            "\u1b6e\u0b8a\u1b6e\u0000\u1b6f\u0000\u1b70\u0b8c\u1b70\u0000\u1b71\u0b8e\u1b71\u0000\u1b72\u0000",
+            "\u1b73\u0000\u1b74\u0000\u1b75\u0b90\u1b75\u0000\u1b7c\u0b92\u1b7c\u0000\u1b7d\u0000\u1b7e\u0000",
+            "\u1b7f\u0b94\u1b7f\u0000\u1b80\u0000\u1b82\u0000\u1b83\u0000\u1b84\u0b96\u1b84\u0000\u1b86\u0b98",
+            "\u1b86\u0000\u1b87\u0000\u1b88\u0b9a\u1b88\u0000\u1b89\u0000\u1b8a\u0000\u1b8b\u0b9c\u1b8b\u0000",
+            "\u1b8c\u0000\u1b8d\u0000\u1b8e\u0000\u1b8f\u0b9e\u1b8f\u0000\u1b91\u0000\u1b92\u0000\u1b93\u0000",
+            "\u1b94\u0ba0\u1b94\u0000\u1b95\u0000\u1b96\u0ba2\u1b96\u0000\u1b97\u0000\u1b98\u0000\u1b99\u0000",
+            "\u1b9b\u0ba4\u1b9b\u0000\u1b9c\u0ba6\u1b9c\u0000\u1b9d\u0000\u1b9e\u0ba8\u1b9e\u0000\u1ba2\u0000",
+            "\u1ba3\u0baa\u1ba3\u0000\u1ba6\u0bac\u1ba6\u0000\u1ba9\u0bae\u1ba9\u0000\u1baa\u0bb0\u1baa\u0000",
+            "\u1bab\u0000\u1bac\u0000\u1bad\u0000\u1bae\u0000\u1baf\u0bb2\u1baf\u0000\u1bb0\u0bb4\u1bb0\u0000",
+            "\u1bb1\u0000\u1bb2\u0000\u1bb3\u0bb6\u1bb3\u0000\u1bb5\u0bb8\u1bb5\u0000\u1bb6\u0bba\u1bb6\u0000",
+            "\u1bb9\u0000\u1bba\u0000\u1bbb\u0000\u1bbc\u0bbc\u1bbc\u0000\u1bbd\u0000\u1bbe\u0000\u1bbf\u0bbe",
+            "\u1bbf\u0000\u1bc0\u0000\u1bc1\u0000\u1bc2\u0bc0\u1bc2\u0000\u1bc5\u0bc2\u1bc5\u0000\u1bc7\u0bc4",
+            "\u1bc7\u0000\u1bc8\u0bc6\u1bc8\u0000\u1bc9\u0bc8\u1bc9\u0000\u1bca\u0000\u1bcb\u0000\u1bcc\u0bca",
+            "\u1bcc\u0000\u1bd3\u0000\u1bd4\u0000\u1bd5\u0000\u1bd6\u0bcc\u1bd6\u0000\u1bd7\u0bce\u1bd7\u0000",
+            "\u1bd8\u0000\u1bd9\u0000\u1bda\u0bd0\u1bda\u0000\u1bdb\u0000\u1bdc\u0bd2\u1bdc\u0000\u1be0\u0bd4",
+            "\u1be0\u0000\u1be1\u0000\u1be3\u0000\u1be4\u0000\u1be5\u0000\u1be6\u0000\u1be7\u0000\u1be8\u0bd6",
+            "\u1be8\u0000\u1be9\u0000\u1bea\u0000\u1beb\u0000\u1bec\u0000\u1bed\u0000\u1bee\u0000\u1bef\u0000",
+            "\u1bf0\u0000\u1bf1\u0000\u1bf2\u0bd8\u1bf2\u0000\u1bf5\u0bda\u1bf5\u0000\u1bf6\u0bdc\u1bf6\u0000",
+            "\u1bf7\u0000\u1bf8\u0000\u1bf9\u0000\u1bfa\u0000\u1bfb\u0bde\u1bfb\u0000\u1bfd\u0be0\u1bfd\u0000",
+            "\u1bfe\u0be2\u1bfe\u0000\u1bff\u0000\u1c00\u0000\u1c01\u0be4\u1c01\u0000\u1c03\u0be6\u1c03\u0000",
+            "\u1c04\u0000\u1c06\u0be8\u1c06\u0000\u1c07\u0bea\u1c07\u0000\u1c08\u0000\u1c09\u0000\u1c0a\u0bec",
+            "\u1c0a\u0000\u1c0c\u0000\u1c0d\u0000\u1c0e\u0bee\u1c0e\u0bef\u1c11\u0bf2\u1c11\u0000\u1c12\u0000",
+            "\u1c16\u0bf4\u1c16\u0000\u1c17\u0bf6\u1c17\u0000\u1c18\u0000\u1c19\u0000\u1c1a\u0bf8\u1c1a\u0000",
+            "\u1c1d\u0000\u1c1e\u0bfa\u1c1e\u0000\u1c1f\u0bfc\u1c1f\u0000\u1c20\u0bfe\u1c20\u0000\u1c21\u0000",
+            "\u1c23\u0c00\u1c23\u0000\u1c26\u0000\u1c27\u0c02\u1c27\u0000\u1c28\u0c04\u1c28\u0000\u1c29\u0c06",
+            "\u1c29\u0000\u1c2c\u0000\u1c2d\u0000\u1c31\u0c08\u1c31\u0000\u1c32\u0000\u1c33\u0000\u1c34\u0000",
+            "\u1c35\u0000\u1c36\u0c0a\u1c36\u0000\u1c37\u0000\u1c38\u0c0c\u1c38\u0000\u1c39\u0c0e\u1c39\u0000",
+            "\u1c3a\u0000\u1c3b\u0000\u1c3c\u0000\u1c3d\u0000\u1c3e\u0c10\u1c3e\u0000\u1c41\u0c12\u1c41\u0000",
+            "\u1c42\u0000\u1c43\u0000\u1c44\u0c14\u1c44\u0000\u1c46\u0c16\u1c46\u0000\u1c48\u0c18\u1c48\u0000",
+            "\u1c49\u0000\u1c4a\u0c1a\u1c4a\u0000\u1c4e\u0000\u1c4f\u0000\u1c50\u0000\u1c51\u0c1c\u1c51\u0000",
+            "\u1c52\u0000\u1c53\u0000\u1c56\u0c1e\u1c56\u0000\u1c57\u0c20\u1c57\u0000\u1c58\u0c22\u1c58\u0000",
+            "\u1c59\u0000\u1c5a\u0000\u1c5b\u0000\u1c5c\u0000\u1c5d\u0000\u1c5e\u0000\u1c5f\u0000\u1c60\u0000",
+            "\u1c61\u0c24\u1c61\u0000\u1c62\u0000\u1c63\u0000\u1c65\u0c26\u1c65\u0000\u1c66\u0c28\u1c66\u0000",
+            "\u1c6d\u0000\u1c71\u0c2a\u1c71\u0000\u1c72\u0000\u1c73\u0000\u1c74\u0c2c\u1c74\u0000\u1c75\u0c2e",
+            "\u1c75\u0000\u1c76\u0c30\u1c76\u0000\u1c77\u0000\u1c78\u0000\u1c79\u0000\u1c7b\u0000\u1c7c\u0000",
+            "\u1c7d\u0000\u1c7e\u0c32\u1c7e\u0000\u1c7f\u0000\u1c80\u0000\u1c81\u0000\u1c82\u0000\u1c83\u0000",
+            "\u1c84\u0000\u1c85\u0000\u1c86\u0c34\u1c86\u0000\u1c87\u0000\u1c89\u0c36\u1c89\u0000\u1c8b\u0c38",
+            "\u1c8b\u0000\u1c8c\u0c3a\u1c8c\u0000\u1c8d\u0000\u1c8e\u0000\u1c8f\u0c3c\u1c8f\u0000\u1c90\u0000",
+            "\u1c91\u0000\u1c92\u0c3e\u1c92\u0000\u1c93\u0000\u1c94\u0000\u1c96\u0000\u1c97\u0000\u1c98\u0c40",
+            "\u1c98\u0000\u1c99\u0000\u1c9a\u0c42\u1c9a\u0000\u1c9d\u0000\u1ca1\u0c44\u1ca1\u0000\u1ca2\u0c46",
+            "\u1ca2\u0000\u1ca3\u0c48\u1ca3\u0000\u1ca4\u0000\u1ca5\u0000\u1ca7\u0c4a\u1ca7\u0000\u1ca8\u0000",
+            "\u1caa\u0c4c\u1caa\u0000\u1cab\u0c4e\u1cab\u0000\u1cac\u0000\u1cae\u0c50\u1cae\u0000\u1caf\u0000",
+            "\u1cb0\u0c52\u1cb0\u0000\u1cb4\u0c54\u1cb4\u0000\u1cb5\u0c56\u1cb5\u0000\u1cb6\u0c58\u1cb6\u0000",
+            "\u1cb7\u0000\u1cb8\u0000\u1cba\u0c5a\u1cba\u0000\u1cbb\u0000\u1cbd\u0c5c\u1cbd\u0000\u1cbe\u0c5e",
+            "\u1cbe\u0000\u1cc2\u0000\u1cc3\u0000\u1cc4\u0c60\u1cc4\u0000\u1cc5\u0000\u1cc6\u0000\u1cc7\u0c61",
+            "\u1cc8\u0c64\u1cc8\u0000\u1cc9\u0000\u1cca\u0c66\u1cca\u0000\u1ccb\u0000\u1ccc\u0000\u1ccd\u0000",
+            "\u1cce\u0000\u1ccf\u0000\u1cd0\u0000\u1cd2\u0000\u1cd3\u0000\u1cd4\u0000\u1cd5\u0000\u1cd7\u0c68",
+            "\u1cd7\u0000\u1cd8\u0000\u1cd9\u0c6a\u1cd9\u0000\u1cda\u0000\u1cdb\u0000\u1cdc\u0000\u1cdd\u0000",
+            "\u1cdf\u0c6c\u1cdf\u0000\u1ce0\u0000\u1ce1\u0c6e\u1ce1\u0000\u1ce3\u0c70\u1ce3\u0000\u1ce6\u0c72",
+            "\u1ce6\u0000\u1ce7\u0000\u1ce8\u0000\u1ce9\u0c74\u1ce9\u0000\u1cea\u0000\u1ceb\u0c76\u1ceb\u0000",
+            "\u1cf4\u0000\u1cf5\u0000\u1cf6\u0000\u1cf7\u0000\u1cf8\u0c78\u1cf8\u0000\u1cf9\u0000\u1cfa\u0000",
+            "\u1cfb\u0000\u1cfc\u0c7a\u1cfc\u0000\u1cfd\u0000\u1cfe\u0c7c\u1cfe\u0000\u1cff\u0000\u1d00\u0000",
+            "\u1d01\u0000\u1d02\u0c7e\u1d02\u0000\u1d04\u0000\u1d05\u0c80\u1d05\u0000\u1d06\u0c82\u1d06\u0000",
+            "\u1d07\u0000\u1d08\u0000\u1d09\u0000\u1d0a\u0000\u1d0b\u0c84\u1d0b\u0000\u1d0e\u0000\u1d0f\u0000",
+            "\u1d10\u0000\u1d11\u0c86\u1d11\u0000\u1d12\u0c88\u1d12\u0000\u1d14\u0c8a\u1d14\u0000\u1d15\u0000",
+            "\u1d16\u0000\u1d17\u0c8c\u1d17\u0000\u1d19\u0000\u1d1a\u0000\u1d1b\u0000\u1d1c\u0c8e\u1d1c\u0000",
+            "\u1d1d\u0000\u1d1e\u0000\u1d1f\u0000\u1d20\u0c90\u1d20\u0000\u1d21\u0000\u1d22\u0000\u1d23\u0c92",
+            "\u1d23\u0000\u1d26\u0000\u1d27\u0000\u1d28\u0000\u1d29\u0c94\u1d29\u0000\u1d2a\u0000\u1d2c\u0000",
+            "\u1d2d\u0000\u1d2e\u0c96\u1d2e\u0000\u1d30\u0c98\u1d30\u0000\u1d31\u0000\u1d32\u0c9a\u1d32\u0000",
+            "\u1d33\u0000\u1d34\u0000\u1d35\u0000\u1d36\u0c9c\u1d36\u0000\u1d48\u0000\u1d49\u0c9e\u1d49\u0000",
+            "\u1d4b\u0000\u1d4c\u0000\u1d4d\u0000\u1d4e\u0c9f\u1d4f\u0ca2\u1d4f\u0000\u1d50\u0000\u1d51\u0ca4",
+            "\u1d51\u0000\u1d53\u0000\u1d54\u0000\u1d56\u0ca6\u1d56\u0ca7\u1d57\u0caa\u1d57\u0000\u1d58\u0cac",
+            "\u1d58\u0000\u1d5d\u0000\u1d5e\u0000\u1d5f\u0000\u1d60\u0cae\u1d60\u0000\u1d61\u0000\u1d62\u0000",
+            "\u1d63\u0000\u1d64\u0cb0\u1d64\u0000\u1d65\u0000\u1d66\u0cb2\u1d66\u0000\u1d67\u0000\u1d68\u0cb4",
+            "\u1d68\u0000\u1d69\u0000\u1d6a\u0000\u1d6b\u0000\u1d6c\u0cb6\u1d6c\u0000\u1d6d\u0000\u1d6e\u0000",
+            "\u1d6f\u0000\u1d70\u0cb8\u1d70\u0000\u1d72\u0000\u1d73\u0000\u1d74\u0000\u1d75\u0cba\u1d75\u0000",
+            "\u1d76\u0cbc\u1d76\u0000\u1d79\u0000\u1d7a\u0000\u1d7b\u0cbe\u1d7b\u0000\u1d7c\u0000\u1d7d\u0000",
+            "\u1d7e\u0cbf\u1d7f\u0cc2\u1d7f\u0000\u1d80\u0cc4\u1d80\u0000\u1d82\u0000\u1d83\u0000\u1d84\u0000",
+            "\u1d85\u0cc6\u1d85\u0000\u1d86\u0cc8\u1d86\u0000\u1d87\u0000\u1d88\u0000\u1d89\u0cca\u1d89\u0000",
+            "\u1d8d\u0000\u1d8e\u0000\u1d8f\u0000\u1d90\u0ccc\u1d90\u0000\u1d92\u0000\u1d93\u0000\u1d94\u0cce",
+            "\u1d94\u0000\u1d95\u0000\u1d96\u0000\u1d97\u0000\u1d98\u0cd0\u1d98\u0000\u1d99\u0000\u1d9a\u0000",
+            "\u1d9b\u0cd2\u1d9b\u0000\u1d9c\u0cd4\u1d9c\u0000\u1d9f\u0000\u1da0\u0000\u1da1\u0000\u1da2\u0cd6",
+            "\u1da2\u0000\u1da3\u0000\u1da4\u0000\u1da5\u0cd8\u1da5\u0000\u1da8\u0000\u1da9\u0000\u1daa\u0000",
+            "\u1dab\u0000\u1dac\u0cda\u1dac\u0000\u1dad\u0cdc\u1dad\u0000\u1dae\u0000\u1daf\u0000\u1db0\u0cde",
+            "\u1db0\u0000\u1db1\u0000\u1db2\u0000\u1db3\u0ce0\u1db3\u0000\u1db6\u0000\u1db7\u0000\u1db8\u0ce2",
+            "\u1db8\u0000\u1db9\u0000\u1dba\u0000\u1dbb\u0ce4\u1dbb\u0000\u1dbc\u0000\u1dbd\u0000\u1dbe\u0ce6",
+            "\u1dbe\u0000\u1dc5\u0ce8\u1dc5\u0000\u1dc6\u0000\u1dc7\u0000\u1dc8\u0cea\u1dc8\u0000\u1dcc\u0cec",
+            "\u1dcc\u0000\u1dcd\u0000\u1dcf\u0cee\u1dcf\u0000\u1dd0\u0000\u1dd1\u0cf0\u1dd1\u0cf1\u1dd2\u0cf4",
+            "\u1dd2\u0cf5\u1dd3\u0cf8\u1dd3\u0000\u1dd4\u0000\u1dd5\u0000\u1dd6\u0000\u1dd7\u0cfa\u1dd7\u0000",
+            "\u1dd8\u0000\u1dd9\u0cfc\u1dd9\u0000\u1dda\u0000\u1ddb\u0000\u1ddc\u0000\u1ddd\u0000\u1dde\u0cfe",
+            "\u1dde\u0000\u1ddf\u0d00\u1ddf\u0000\u1de2\u0000\u1de3\u0000\u1de4\u0d02\u1de4\u0000\u1de5\u0000",
+            "\u1de6\u0000\u1de7\u0d03\u1de8\u0d06\u1de8\u0000\u1de9\u0000\u1dea\u0d08\u1dea\u0000\u1deb\u0000",
+            "\u1ded\u0000\u1dee\u0000\u1def\u0d09\u1df0\u0d0c\u1df0\u0000\u1df1\u0000\u1df2\u0000\u1df4\u0d0e",
+            "\u1df4\u0000\u1df5\u0000\u1df6\u0d10\u1df6\u0000\u1df7\u0000\u1df8\u0d11\u1df9\u0d14\u1df9\u0000",
+            "\u1dfa\u0000\u1dfb\u0000\u1dfc\u0000\u1dfd\u0d16\u1dfd\u0000\u1e09\u0000\u1e0a\u0000\u1e0e\u0d18",
+            "\u1e0e\u0d19\u1e10\u0d1c\u1e10\u0000\u1e11\u0000\u1e12\u0000\u1e13\u0000\u1e14\u0d1e\u1e14\u0000",
+            "\u1e16\u0000\u1e17\u0000\u1e18\u0d20\u1e18\u0000\u1e19\u0d22\u1e19\u0000\u1e1a\u0d24\u1e1a\u0000",
+            "\u1e1b\u0000\u1e1c\u0d26\u1e1c\u0000\u1e1d\u0000\u1e22\u0000\u1e23\u0000\u1e24\u0000\u1e25\u0d28",
+            "\u1e25\u0000\u1e26\u0000\u1e27\u0000\u1e28\u0d2a\u1e28\u0000\u1e29\u0000\u1e2a\u0000\u1e2b\u0d2c",
+            "\u1e2b\u0000\u1e2c\u0d2e\u1e2c\u0000\u1e2d\u0000\u1e2e\u0000\u1e2f\u0000\u1e30\u0d30\u1e30\u0000",
+            "\u1e31\u0000\u1e32\u0d32\u1e32\u0000\u1e35\u0000\u1e37\u0d34\u1e37\u0000\u1e38\u0d36\u1e38\u0000",
+            "\u1e39\u0000\u1e3a\u0000\u1e3b\u0000\u1e3c\u0d38\u1e3c\u0000\u1e3d\u0000\u1e3e\u0000\u1e3f\u0d3a",
+            "\u1e3f\u0000\u1e42\u0d3c\u1e42\u0000\u1e43\u0000\u1e44\u0000\u1e45\u0000\u1e46\u0000\u1e47\u0000",
+            "\u1e48\u0000\u1e49\u0d3e\u1e49\u0000\u1e4a\u0d40\u1e4a\u0000\u1e4c\u0000\u1e4d\u0000\u1e4f\u0000",
+            "\u1e50\u0000\u1e52\u0d42\u1e52\u0000\u1e53\u0d44\u1e53\u0000\u1e54\u0000\u1e55\u0d46\u1e55\u0000",
+            "\u1e56\u0000\u1e5f\u0d48\u1e5f\u0000\u1e60\u0000\u1e61\u0000\u1e62\u0000\u1e63\u0d4a\u1e63\u0000",
+            "\u1e64\u0d4c\u1e64\u0000\u1e65\u0000\u1e66\u0000\u1e67\u0d4e\u1e67\u0000\u1e69\u0000\u1e6a\u0d50",
+            "\u1e6a\u0000\u1e6b\u0d52\u1e6b\u0000\u1e6c\u0d54\u1e6c\u0000\u1e6d\u0d55\u1e6e\u0d58\u1e6e\u0000",
+            "\u1e6f\u0000\u1e70\u0000\u1e71\u0d5a\u1e71\u0000\u1e72\u0000\u1e73\u0000\u1e74\u0d5c\u1e74\u0000",
+            "\u1e75\u0d5e\u1e75\u0000\u1e78\u0000\u1e79\u0000\u1e7a\u0000\u1e7b\u0000\u1e7c\u0000\u1e7d\u0000",
+            "\u1e7e\u0d60\u1e7e\u0000\u1e7f\u0000\u1e80\u0d62\u1e80\u0000\u1e81\u0000\u1e82\u0d63\u1e83\u0d66",
+            "\u1e83\u0000\u1e8d\u0d68\u1e8d\u0000\u1e8e\u0d6a\u1e8e\u0000\u1e8f\u0000\u1e90\u0d6c\u1e90\u0000",
+            "\u1e91\u0000\u1e92\u0000\u1e93\u0d6e\u1e93\u0000\u1e95\u0d70\u1e95\u0000\u1e9b\u0d72\u1e9b\u0000",
+            "\u1e9c\u0000\u1e9d\u0000\u1e9e\u0000\u1e9f\u0000\u1ea0\u0000\u1ea1\u0d74\u1ea1\u0000\u1ea2\u0000",
+            "\u1ea3\u0000\u1ea4\u0000\u1ea5\u0000\u1ea6\u0000\u1ea7\u0000\u1ea8\u0d76\u1ea8\u0000\u1ea9\u0000",
+            "\u1eaa\u0d78\u1eaa\u0000\u1ead\u0000\u1eae\u0000\u1eaf\u0000\u1eb0\u0000\u1eb1\u0000\u1eb2\u0000",
+            "\u1eb3\u0d7a\u1eb3\u0000\u1eb4\u0000\u1eb5\u0000\u1eb6\u0d7c\u1eb6\u0000\u1eb7\u0000\u1eb8\u0000",
+            "\u1eb9\u0d7e\u1eb9\u0000\u1eba\u0000\u1ebb\u0000\u1ebc\u0d80\u1ebc\u0000\u1ebd\u0000\u1ebe\u0000",
+            "\u1ec0\u0d82\u1ec0\u0000\u1ec1\u0d84\u1ec1\u0000\u1ec4\u0000\u1ec5\u0d86\u1ec5\u0000\u1ec6\u0000",
+            "\u1ec7\u0d88\u1ec7\u0000\u1ec8\u0000\u1ec9\u0000\u1eca\u0d8a\u1eca\u0000\u1ecd\u0000\u1ece\u0d8c",
+            "\u1ece\u0000\u1ed1\u0000\u1ed2\u0000\u1ed3\u0000\u1ed4\u0000\u1ed5\u0d8e\u1ed5\u0000\u1ed6\u0000",
+            "\u1ed7\u0000\u1ed8\u0000\u1ed9\u0d90\u1ed9\u0000\u1eda\u0000\u1edb\u0000\u1edc\u0000\u1edd\u0d92",
+            "\u1edd\u0000\u1edf\u0d94\u1edf\u0000\u1ee0\u0000\u1ee1\u0d96\u1ee1\u0000\u1ee2\u0000\u1ee3\u0000",
+            "\u1ee4\u0d98\u1ee4\u0000\u1ee5\u0000\u1ee6\u0000\u1ee7\u0000\u1ee8\u0d9a\u1ee8\u0000\u1eea\u0000",
+            "\u1eeb\u0000\u1eec\u0d9c\u1eec\u0000\u1eed\u0d9e\u1eed\u0000\u1eee\u0000\u1eef\u0000\u1ef0\u0000",
+            "\u1ef1\u0000\u1ef2\u0da0\u1ef2\u0000\u1ef8\u0000\u1ef9\u0000\u1efa\u0da2\u1efa\u0000\u1efb\u0000",
+            "\u1efc\u0000\u1efd\u0da4\u1efd\u0000\u1efe\u0000\u1eff\u0000\u1f00\u0da6\u1f00\u0000\u1f01\u0000",
+            "\u1f02\u0000\u1f03\u0000\u1f04\u0000\u1f05\u0da8\u1f05\u0000\u1f06\u0000\u1f07\u0000\u1f08\u0daa",
+            "\u1f08\u0000\u1f0b\u0000\u1f0c\u0000\u1f0e\u0000\u1f0f\u0000\u1f10\u0000\u1f11\u0000\u1f12\u0000",
+            "\u1f13\u0000\u1f14\u0000\u1f15\u0dac\u1f15\u0000\u1f16\u0000\u1f17\u0000\u1f18\u0dae\u1f18\u0000",
+            "\u1f19\u0000\u1f1a\u0000\u1f1c\u0db0\u1f1c\u0000\u1f1d\u0000\u1f1e\u0db2\u1f1e\u0000\u1f1f\u0db3",
+            "\u1f20\u0db6\u1f20\u0000\u1f35\u0000\u1f38\u0000\u1f39\u0000\u1f3a\u0000\u1f3b\u0db8\u1f3b\u0000",
+            "\u1f3c\u0000\u1f3d\u0dba\u1f3d\u0000\u1f3e\u0000\u1f3f\u0000\u1f40\u0000\u1f41\u0dbc\u1f41\u0000",
+            "\u1f42\u0000\u1f43\u0000\u1f44\u0000\u1f45\u0dbe\u1f45\u0000\u1f46\u0000\u1f47\u0000\u1f48\u0dc0",
+            "\u1f48\u0000\u1f4f\u0000\u1f51\u0000\u1f52\u0dc2\u1f52\u0000\u1f53\u0000\u1f54\u0000\u1f55\u0dc4",
+            "\u1f55\u0000\u1f56\u0000\u1f57\u0000\u1f58\u0dc6\u1f58\u0000\u1f59\u0000\u1f5a\u0000\u1f5b\u0000",
+            "\u1f5c\u0000\u1f5d\u0000\u1f5e\u0dc8\u1f5e\u0000\u1f5f\u0000\u1f63\u0dca\u1f63\u0000\u1f64\u0dcc",
+            "\u1f64\u0000\u1f65\u0dce\u1f65\u0000\u1f66\u0000\u1f67\u0dd0\u1f67\u0000\u1f68\u0000\u1f69\u0dd1",
+            "\u1f6a\u0dd4\u1f6a\u0000\u1f6b\u0000\u1f76\u0dd6\u1f76\u0000\u1f77\u0000\u1f78\u0dd8\u1f78\u0000",
+            "\u1f7a\u0dda\u1f7a\u0000\u1f7b\u0000\u1f7c\u0ddc\u1f7c\u0000\u1f7d\u0dde\u1f7d\u0000\u1f7e\u0000",
+            "\u1f7f\u0de0\u1f7f\u0000\u1f80\u0000\u1f81\u0de2\u1f81\u0000\u1f82\u0000\u1f83\u0de4\u1f83\u0000",
+            "\u1f84\u0000\u1f85\u0de6\u1f85\u0000\u1f86\u0000\u1f87\u0000\u1f88\u0de8\u1f88\u0000\u1f89\u0000",
+            "\u1f8a\u0dea\u1f8a\u0000\u1f8b\u0dec\u1f8b\u0000\u1f8d\u0000\u1f8e\u0000\u1f8f\u0000\u1f90\u0dee",
+            "\u1f90\u0000\u1f91\u0000\u1f93\u0df0\u1f93\u0000\u1f94\u0000\u1f95\u0000\u1f96\u0000\u1f97\u0df2",
+            "\u1f97\u0000\u1f9a\u0000\u1f9b\u0000\u1f9c\u0000\u1f9d\u0df4\u1f9d\u0000\u1f9e\u0000\u1f9f\u0000",
+            "\u1fa0\u0df6\u1fa0\u0000\u1fa2\u0000\u1fa3\u0000\u1fa5\u0000\u1fa6\u0df8\u1fa6\u0000\u1fa7\u0dfa",
+            "\u1fa7\u0000\u1fa9\u0000\u1faa\u0dfc\u1faa\u0000\u1fab\u0000\u1fad\u0000\u1fae\u0dfe\u1fae\u0000",
+            "\u1faf\u0e00\u1faf\u0000\u1fb3\u0000\u1fb4\u0000\u1fb5\u0000\u1fb6\u0000\u1fb7\u0e02\u1fb7\u0000",
+            "\u1fb9\u0000\u1fba\u0000\u1fbb\u0000\u1fbc\u0e04\u1fbc\u0000\u1fbd\u0000\u1fbe\u0e06\u1fbe\u0000",
+            "\u1fbf\u0000\u1fc0\u0e08\u1fc0\u0000\u1fc1\u0e0a\u1fc1\u0000\u1fc5\u0000\u1fc6\u0000\u1fc7\u0e0c",
+            "\u1fc7\u0000\u1fc8\u0000\u1fc9\u0000\u1fca\u0000\u1fcb\u0000\u1fcc\u0e0e\u1fcc\u0000\u1fcd\u0000",
+            "\u1fce\u0000\u1fd0\u0e10\u1fd0\u0000\u1fd1\u0e12\u1fd1\u0000\u1fd2\u0000\u1fd3\u0e14\u1fd3\u0000",
+            "\u1fd6\u0000\u1fd7\u0000\u1fdb\u0e16\u1fdb\u0000\u1fdc\u0000\u1fdd\u0000\u1fde\u0e18\u1fde\u0000",
+            "\u1fdf\u0000\u1fe0\u0000\u1fe1\u0000\u1fe2\u0e1a\u1fe2\u0000\u1fe3\u0e1c\u1fe3\u0000\u1fe4\u0000",
+            "\u1fe5\u0e1e\u1fe5\u0e1f\u1fe6\u0e22\u1fe6\u0000\u1fe9\u0000\u1fea\u0000\u1feb\u0000\u1fec\u0000",
+            "\u1fed\u0e24\u1fed\u0000\u1fee\u0000\u1fef\u0000\u1ff0\u0000\u1ff1\u0e26\u1ff1\u0000\u1ff2\u0e28",
+            "\u1ff2\u0000\u1ff4\u0000\u1ff5\u0000\u1ff7\u0000\u1ff8\u0e2a\u1ff8\u0000\u1ffa\u0e2c\u1ffa\u0000",
+            "\u1ffb\u0e2e\u1ffb\u0000\u1ffd\u0e30\u1ffd\u0000\u1ffe\u0e32\u1ffe\u0000\u2001\u0000\u2002\u0000",
+            "\u2003\u0000\u2009\u0000\u200a\u0000\u200b\u0000\u200c\u0000\u200d\u0000\u200f\u0e34\u200f\u0000",
+            "\u2010\u0000\u2011\u0000\u2012\u0000\u2013\u0e36\u2013\u0000\u2014\u0000\u2015\u0000\u2016\u0000",
+            "\u2017\u0000\u2018\u0000\u2019\u0000\u201b\u0000\u201c\u0000\u201d\u0000\u201e\u0000\u201f\u0e38",
+            "\u201f\u0000\u2020\u0000\u2021\u0e3a\u2021\u0000\u2022\u0000\u2023\u0000\u2024\u0000\u2026\u0000",
+            "\u2027\u0000\u2028\u0000\u2029\u0000\u202a\u0000\u202b\u0000\u202c\u0e3c\u202c\u0000\u202d\u0000",
+            "\u202e\u0000\u202f\u0000\u2030\u0000\u2031\u0000\u2032\u0000\u2033\u0000\u2034\u0e3e\u2034\u0000",
+            "\u2035\u0000\u2036\u0000\u2037\u0000\u2038\u0000\u2039\u0000\u203a\u0000\u203b\u0000\u203c\u0000",
+            "\u203d\u0000\u203e\u0000\u203f\u0e40\u203f\u0000\u2040\u0000\u2041\u0000\u2042\u0000\u2043\u0000",
+            "\u2044\u0000\u2045\u0000\u2046\u0000\u2047\u0000\u2048\u0000\u2049\u0e42\u2049\u0000\u204a\u0000",
+            "\u204b\u0000\u204c\u0000\u204d\u0000\u204e\u0000\u204f\u0000\u2050\u0000\u2051\u0000\u2052\u0000",
+            "\u2053\u0e44\u2053\u0000\u2054\u0000\u2055\u0e46\u2055\u0000\u2056\u0000\u2057\u0000\u2058\u0000",
+            "\u2059\u0000\u205a\u0000\u205b\u0000\u205c\u0000\u205d\u0000\u205e\u0000\u205f\u0e48\u205f\u0000",
+            "\u2062\u0000\u2063\u0000\u2064\u0000\u2065\u0e4a\u2065\u0000\u2066\u0000\u2067\u0000\u2068\u0e4c",
+            "\u2068\u0000\u2069\u0e4e\u2069\u0000\u206a\u0000\u206b\u0000\u206c\u0000\u206d\u0000\u206f\u0e50",
+            "\u206f\u0000\u2070\u0000\u2071\u0000\u2072\u0000\u2073\u0e52\u2073\u0000\u2074\u0000\u2075\u0000",
+            "\u2076\u0000\u2077\u0e54\u2077\u0000\u207b\u0000\u207d\u0000\u207e\u0000\u207f\u0e56\u207f\u0000",
+            "\u2080\u0000\u2081\u0e58\u2081\u0000\u2082\u0000\u2083\u0000\u2084\u0e5a\u2084\u0000\u2087\u0000",
+            "\u2088\u0000\u2089\u0e5c\u2089\u0000\u208a\u0e5e\u208a\u0000\u208b\u0000\u208c\u0000\u208d\u0e60",
+            "\u208d\u0000\u208e\u0000\u208f\u0000\u2090\u0000\u2091\u0000\u2092\u0e62\u2092\u0000\u2094\u0000",
+            "\u2095\u0000\u2097\u0e64\u2097\u0000\u2098\u0000\u2099\u0e66\u2099\u0000\u209a\u0000\u209b\u0000",
+            "\u209c\u0000\u209d\u0000\u209e\u0000\u209f\u0e68\u209f\u0000\u20a0\u0000\u20a1\u0000\u20a2\u0000",
+            "\u20a3\u0e6a\u20a3\u0000\u20a7\u0000\u20a8\u0000\u20a9\u0000\u20aa\u0000\u20ab\u0e6c\u20ab\u0000",
+            "\u20ac\u0000\u20ad\u0e6e\u20ad\u0000\u20ae\u0e70\u20ae\u0000\u20b0\u0000\u20b1\u0e72\u20b1\u0000",
+            "\u20b2\u0000\u20b4\u0e74\u20b4\u0000\u20b5\u0e76\u20b5\u0000\u20b8\u0000\u20b9\u0000\u20ba\u0000",
+            "\u20bb\u0000\u20bc\u0e78\u20bc\u0000\u20bd\u0000\u20be\u0000\u20bf\u0000\u20c0\u0e7a\u20c0\u0000",
+            "\u20c1\u0000\u20c5\u0e7c\u20c5\u0000\u20c6\u0e7e\u20c6\u0000\u20c7\u0e80\u20c7\u0000\u20c8\u0000",
+            "\u20c9\u0000\u20ca\u0000\u20cb\u0e82\u20cb\u0000\u20cc\u0000\u20cd\u0000\u20ce\u0000\u20cf\u0000",
+            "\u20d0\u0000\u20d1\u0e84\u20d1\u0000\u20d2\u0e86\u20d2\u0000\u20e5\u0000\u20e6\u0000\u20e7\u0000",
+            "\u20e8\u0000\u20e9\u0000\u20ea\u0e88\u20ea\u0000\u20eb\u0000\u20ec\u0000\u20ed\u0000\u20ee\u0e8a",
+            "\u20ee\u0000\u20f8\u0e8c\u20f8\u0000\u20f9\u0e8e\u20f9\u0000\u20fb\u0000\u20fc\u0e90\u20fc\u0000",
+            "\u20fd\u0000\u20fe\u0000\u20ff\u0e92\u20ff\u0000\u2100\u0000\u2101\u0000\u2102\u0e94\u2102\u0000",
+            "\u2104\u0e96\u2104\u0000\u2105\u0000\u2106\u0000\u2107\u0e98\u2107\u0000\u2108\u0000\u2109\u0000",
+            "\u210a\u0e9a\u210a\u0000\u210d\u0000\u210e\u0e9c\u210e\u0000\u210f\u0000\u2110\u0e9e\u2110\u0000",
+            "\u2111\u0000\u2112\u0000\u2113\u0ea0\u2113\u0000\u2114\u0000\u2115\u0000\u2116\u0000\u2117\u0000",
+            "\u2118\u0000\u2119\u0ea2\u2119\u0000\u211a\u0000\u211b\u0000\u211c\u0ea4\u211c\u0000\u211d\u0ea6",
+            "\u211d\u0000\u211e\u0000\u211f\u0000\u2122\u0ea8\u2122\u0000\u2123\u0eaa\u2123\u0000\u2124\u0eac",
+            "\u2124\u0000\u212b\u0000\u212c\u0000\u212d\u0000\u212e\u0eae\u212e\u0000\u212f\u0000\u2131\u0000",
+            "\u2132\u0000\u2133\u0eb0\u2133\u0000\u2135\u0eb2\u2135\u0000\u2136\u0000\u2137\u0eb4\u2137\u0000",
+            "\u2138\u0eb5\u2139\u0eb8\u2139\u0000\u213a\u0000\u213b\u0eba\u213b\u0000\u213c\u0000\u213d\u0000",
+            "\u213e\u0000\u213f\u0ebc\u213f\u0000\u2140\u0000\u2142\u0000\u2143\u0000\u2144\u0000\u2145\u0000",
+            "\u2146\u0ebe\u2146\u0000\u2147\u0ec0\u2147\u0000\u2148\u0000\u2149\u0ec2\u2149\u0000\u214a\u0000",
+            "\u214c\u0ec4\u214c\u0000\u214d\u0000\u214e\u0000\u214f\u0ec6\u214f\u0000\u2153\u0000\u2154\u0000",
+            "\u2155\u0000\u2156\u0ec8\u2156\u0000\u2158\u0000\u2159\u0000\u215a\u0000\u215b\u0eca\u215b\u0000",
+            "\u215c\u0ecc\u215c\u0000\u215d\u0000\u215e\u0000\u2160\u0000\u2161\u0000\u2162\u0000\u2163\u0ece",
+            "\u2163\u0000\u2164\u0000\u2165\u0000\u2166\u0000\u2167\u0000\u2168\u0000\u2169\u0000\u216a\u0000",
+            "\u216b\u0ed0\u216b\u0ed1\u216c\u0ed4\u216c\u0000\u216e\u0000\u216f\u0000\u2170\u0000\u2173\u0ed6",
+            "\u2173\u0000\u2174\u0ed8\u2174\u0000\u2175\u0eda\u2175\u0000\u217d\u0edc\u217d\u0000\u217e\u0000",
+            "\u217f\u0000\u2180\u0ede\u2180\u0000\u2182\u0ee0\u2182\u0000\u2183\u0ee2\u2183\u0000\u2185\u0ee4",
+            "\u2185\u0000\u2186\u0ee6\u2186\u0000\u2188\u0ee8\u2188\u0000\u2189\u0eea\u2189\u0000\u218a\u0000",
+            "\u218b\u0eec\u218b\u0000\u218c\u0000\u218d\u0000\u218e\u0000\u218f\u0eee\u218f\u0000\u2190\u0000",
+            "\u2191\u0000\u2192\u0000\u2193\u0ef0\u2193\u0000\u2194\u0000\u2195\u0000\u2196\u0000\u2197\u0ef2",
+            "\u2197\u0000\u219b\u0000\u219d\u0000\u219e\u0000\u219f\u0000\u21a0\u0000\u21a1\u0000\u21a2\u0000",
+            "\u21a3\u0000\u21a4\u0000\u21a5\u0000\u21a6\u0000\u21a7\u0ef4\u21a7\u0000\u21a8\u0000\u21a9\u0000",
+            "\u21aa\u0ef6\u21aa\u0000\u21ab\u0000\u21ac\u0000\u21ad\u0000\u21ae\u0000\u21af\u0000\u21b0\u0ef8",
+            "\u21b0\u0000\u21b2\u0000\u21b3\u0efa\u21b3\u0000\u21b4\u0000\u21b5\u0efc\u21b5\u0000\u21b7\u0efe",
+            "\u21b7\u0000\u21b9\u0f00\u21b9\u0000\u21ba\u0f02\u21ba\u0000\u21bd\u0000\u21be\u0000\u21bf\u0000",
+            "\u21c0\u0000\u21c1\u0f04\u21c1\u0000\u21c3\u0f06\u21c3\u0000\u21c5\u0f08\u21c5\u0000\u21c6\u0000",
+            "\u21c7\u0f0a\u21c7\u0000\u21c8\u0000\u21c9\u0f0c\u21c9\u0000\u21ca\u0000\u21cc\u0000\u21cd\u0000",
+            "\u21ce\u0000\u21d0\u0f0e\u21d0\u0000\u21d1\u0000\u21d2\u0000\u21d3\u0f10\u21d3\u0000\u21d4\u0f12",
+            "\u21d4\u0000\u21d7\u0000\u21d9\u0000\u21da\u0000\u21dc\u0f14\u21dc\u0000\u21dd\u0f16\u21dd\u0000",
+            "\u21de\u0000\u21e0\u0f18\u21e0\u0000\u21e1\u0f1a\u21e1\u0000\u21e2\u0000\u21e4\u0000\u21e7\u0f1c",
+            "\u21e7\u0000\u21e8\u0f1e\u21e8\u0000\u21e9\u0000\u21ea\u0000\u21ec\u0f20\u21ec\u0000\u21ed\u0000",
+            "\u21ee\u0f22\u21ee\u0000\u21f1\u0f24\u21f1\u0000\u21f2\u0f26\u21f2\u0000\u21f3\u0000\u21f4\u0000",
+            "\u21f6\u0f28\u21f6\u0000\u21f7\u0000\u21f8\u0f2a\u21f8\u0000\u21fb\u0f2c\u21fb\u0000\u21fc\u0000",
+            "\u21fe\u0000\u21ff\u0f2e\u21ff\u0000\u2200\u0f30\u2200\u0000\u2201\u0f32\u2201\u0000\u2202\u0000",
+            "\u2203\u0000\u2204\u0000\u2205\u0f34\u2205\u0000\u2209\u0000\u220a\u0000\u220b\u0f36\u220b\u0000",
+            "\u220c\u0000\u220d\u0000\u220e\u0000\u220f\u0f38\u220f\u0000\u2210\u0000\u2211\u0000\u2212\u0000",
+            "\u2213\u0f3a\u2213\u0000\u2214\u0000\u2215\u0000\u2216\u0000\u2217\u0f3c\u2217\u0000\u2219\u0000",
+            "\u221a\u0000\u221c\u0f3e\u221c\u0000\u221d\u0f40\u221d\u0000\u221f\u0000\u2220\u0000\u2221\u0000",
+            "\u2222\u0000\u2223\u0000\u2225\u0000\u2226\u0000\u2227\u0000\u2228\u0000\u2229\u0000\u222a\u0000",
+            "\u222b\u0000\u222c\u0f42\u222c\u0000\u222d\u0000\u222e\u0000\u222f\u0f44\u222f\u0000\u2230\u0000",
+            "\u2231\u0f46\u2231\u0000\u2236\u0000\u223f\u0f48\u223f\u0000\u2240\u0f4a\u2240\u0000\u2241\u0000",
+            "\u2242\u0000\u2243\u0f4c\u2243\u0000\u2245\u0f4e\u2245\u0000\u2246\u0000\u2247\u0000\u2248\u0f50",
+            "\u2248\u0000\u2249\u0000\u224a\u0000\u224b\u0000\u224c\u0f52\u224c\u0000\u224e\u0000\u224f\u0f54",
+            "\u224f\u0000\u2250\u0f56\u2250\u0000\u2251\u0000\u2252\u0000\u2253\u0000\u2254\u0f58\u2254\u0000",
+            "\u2255\u0000\u2256\u0000\u2257\u0000\u2258\u0f5a\u2258\u0000\u225b\u0000\u225c\u0000\u225f\u0f5c",
+            "\u225f\u0000\u2260\u0000\u2262\u0f5e\u2262\u0000\u2263\u0f60\u2263\u0000\u2264\u0000\u2265\u0000",
+            "\u2267\u0f62\u2267\u0000\u2268\u0f64\u2268\u0000\u2269\u0000\u226a\u0f66\u226a\u0000\u226c\u0000",
+            "\u226d\u0f68\u226d\u0000\u226e\u0f6a\u226e\u0000\u226f\u0000\u2275\u0f6c\u2275\u0000\u2276\u0000",
+            "\u2277\u0000\u2278\u0000\u2279\u0000\u227a\u0000\u227b\u0f6e\u227b\u0000\u227c\u0000\u227d\u0000",
+            "\u227e\u0000\u227f\u0000\u2280\u0000\u2281\u0000\u2282\u0f70\u2282\u0000\u2283\u0000\u2284\u0f72",
+            "\u2284\u0000\u2287\u0000\u2288\u0000\u2289\u0000\u228a\u0000\u228b\u0000\u228c\u0000\u228d\u0f74",
+            "\u228d\u0000\u228e\u0000\u228f\u0000\u2290\u0f76\u2290\u0000\u2291\u0000\u2292\u0000\u2293\u0f78",
+            "\u2293\u0000\u2294\u0000\u2295\u0000\u2296\u0f7a\u2296\u0000\u2297\u0f7c\u2297\u0000\u2298\u0000",
+            "\u2299\u0f7e\u2299\u0000\u22a6\u0f7f\u22a7\u0f82\u22a7\u0f83\u22a8\u0f86\u22a8\u0f87\u22a9\u0f8a",
+            "\u22a9\u0f8c\u22a9\u0000\u22aa\u0f8e\u22aa\u0000\u22ac\u0000\u22ad\u0000\u22ae\u0f90\u22ae\u0000",
+            "\u22af\u0000\u22b0\u0000\u22b1\u0f92\u22b1\u0000\u22b3\u0f94\u22b3\u0000\u22b4\u0000\u22b5\u0000",
+            "\u22b6\u0f96\u22b6\u0000\u22b7\u0000\u22b9\u0000\u22ba\u0000\u22bb\u0f98\u22bb\u0000\u22bc\u0000",
+            "\u22bd\u0f9a\u22bd\u0000\u22be\u0000\u22bf\u0000\u22c0\u0000\u22c1\u0f9c\u22c1\u0000\u22c2\u0000",
+            "\u22c3\u0000\u22c4\u0000\u22c5\u0f9e\u22c5\u0000\u22c7\u0000\u22c8\u0fa0\u22c8\u0000\u22c9\u0fa2",
+            "\u22c9\u0000\u22ca\u0000\u22cb\u0000\u22cc\u0000\u22cd\u0fa4\u22cd\u0000\u22d0\u0000\u22d1\u0000",
+            "\u22d4\u0fa6\u22d4\u0000\u22d5\u0000\u22d7\u0fa8\u22d7\u0000\u22d8\u0faa\u22d8\u0000\u22d9\u0000",
+            "\u22da\u0000\u22dc\u0fac\u22dc\u0000\u22dd\u0fae\u22dd\u0000\u22de\u0000\u22df\u0fb0\u22df\u0000",
+            "\u22e1\u0000\u22e2\u0fb2\u22e2\u0000\u22e3\u0fb4\u22e3\u0000\u22e6\u0000\u22e7\u0000\u22e8\u0000",
+            "\u22e9\u0fb6\u22e9\u0000\u22ea\u0000\u22ec\u0000\u22ed\u0000\u22ee\u0fb8\u22ee\u0000\u22f0\u0fba",
+            "\u22f0\u0000\u22f1\u0000\u22f2\u0fbc\u22f2\u0000\u22f3\u0000\u22f4\u0000\u22f5\u0000\u22f6\u0fbe",
+            "\u22f6\u0000\u22f7\u0000\u22f8\u0000\u22f9\u0fbf\u22fa\u0fc2\u22fa\u0000\u2307\u0000\u2309\u0000",
+            "\u230a\u0000\u230b\u0000\u230c\u0000\u230d\u0fc4\u230d\u0000\u230e\u0fc6\u230e\u0000\u230f\u0000",
+            "\u2310\u0000\u2311\u0fc8\u2311\u0000\u2314\u0000\u2315\u0000\u2316\u0000\u2317\u0000\u2318\u0fca",
+            "\u2318\u0000\u2319\u0000\u231a\u0000\u231b\u0000\u231c\u0fcc\u231c\u0000\u231d\u0fce\u231d\u0000",
+            "\u231e\u0000\u231f\u0000\u2320\u0fd0\u2320\u0000\u2321\u0000\u2322\u0000\u2323\u0000\u2324\u0000",
+            "\u2325\u0fd2\u2325\u0000\u2326\u0000\u2327\u0fd4\u2327\u0000\u232b\u0000\u232d\u0000\u232e\u0000",
+            "\u2330\u0000\u2331\u0fd6\u2331\u0000\u2332\u0000\u2333\u0000\u2334\u0000\u2335\u0fd8\u2335\u0000",
+            "\u2336\u0000\u2339\u0fda\u2339\u0000\u233a\u0000\u233b\u0000\u233c\u0fdc\u233c\u0000\u233d\u0fde",
+            "\u233d\u0000\u233f\u0000\u2340\u0000\u2342\u0000\u2343\u0000\u2344\u0000\u2345\u0000\u2346\u0000",
+            "\u2347\u0000\u2348\u0fe0\u2348\u0000\u2349\u0000\u234a\u0000\u234b\u0fe2\u234b\u0000\u234c\u0000",
+            "\u234d\u0000\u234e\u0fe4\u234e\u0000\u2350\u0000\u2351\u0000\u2352\u0fe6\u2352\u0000\u2353\u0000",
+            "\u2354\u0000\u2355\u0fe8\u2355\u0000\u2356\u0000\u2357\u0fe9\u2358\u0fec\u2358\u0000\u235b\u0000",
+            "\u235c\u0000\u235d\u0000\u235e\u0fee\u235e\u0000\u235f\u0000\u2360\u0fef\u2363\u0ff2\u2363\u0000",
+            "\u2365\u0ff4\u2365\u0000\u2366\u0000\u2367\u0ff6\u2367\u0000\u2368\u0ff8\u2368\u0000\u2369\u0000",
+            "\u236a\u0ffa\u236a\u0000\u236d\u0000\u236e\u0000\u236f\u0ffc\u236f\u0000\u2373\u0ffe\u2373\u0000",
+            "\u2374\u0000\u2375\u0000\u2376\u1000\u2376\u0000\u2377\u0000\u2378\u0000\u2379\u1002\u2379\u0000",
+            "\u237b\u1004\u237b\u0000\u237c\u0000\u237d\u0000\u237e\u1006\u237e\u0000\u237f\u0000\u2380\u1008",
+            "\u2380\u0000\u2381\u0000\u2382\u0000\u2383\u0000\u2384\u0000\u2385\u100a\u2385\u0000\u2388\u0000",
+            "\u2389\u0000\u238a\u0000\u238b\u100c\u238b\u0000\u2392\u0000\u2393\u0000\u2394\u0000\u2395\u0000",
+            "\u2396\u0000\u239b\u100e\u239b\u0000\u239c\u0000\u239d\u0000\u239e\u0000\u239f\u1010\u239f\u0000",
+            "\u23a0\u0000\u23a1\u0000\u23a2\u0000\u23a4\u1012\u23a4\u0000\u23a5\u0000\u23a6\u1014\u23a6\u0000",
+            "\u23a7\u1016\u23a7\u0000\u23a8\u0000\u23a9\u0000\u23aa\u0000\u23ab\u0000\u23ad\u1018\u23ad\u0000",
+            "\u23ae\u0000\u23af\u101a\u23af\u0000\u23b0\u0000\u23b1\u0000\u23b2\u101c\u23b2\u0000\u23b3\u101e",
+            "\u23b3\u0000\u23b4\u0000\u23b5\u0000\u23b6\u0000\u23b7\u0000\u23b8\u1020\u23b8\u0000\u23b9\u0000",
+            "\u23ba\u0000\u23bb\u0000\u23bc\u1022\u23bc\u0000\u23bd\u0000\u23be\u1024\u23be\u0000\u23bf\u0000",
+            "\u23c0\u0000\u23c1\u0000\u23c2\u1026\u23c2\u0000\u23c3\u0000\u23c4\u0000\u23c5\u0000\u23c6\u0000",
+            "\u23c7\u0000\u23c8\u1028\u23c8\u0000\u23cb\u0000\u23cd\u0000\u23ce\u102a\u23ce\u0000\u23cf\u102c",
+            "\u23cf\u0000\u23d0\u0000\u23d1\u0000\u23d2\u102e\u23d2\u0000\u23d3\u0000\u23d4\u0000\u23d5\u0000",
+            "\u23d6\u1030\u23d6\u0000\u23d8\u0000\u23d9\u0000\u23da\u0000\u23db\u1032\u23db\u0000\u23dc\u0000",
+            "\u23dd\u0000\u23de\u0000\u23df\u0000\u23e1\u0000\u23e2\u0000\u23e3\u0000\u23e4\u0000\u23e5\u0000",
+            "\u23e6\u0000\u23e7\u0000\u23e8\u0000\u23e9\u0000\u23ea\u1034\u23ea\u0000\u23eb\u0000\u23ec\u0000",
+            "\u23ed\u0000\u23ee\u0000\u23ef\u0000\u23f0\u0000\u23f1\u0000\u23f2\u0000\u23f3\u0000\u23f4\u1036",
+            "\u23f4\u0000\u2406\u0000\u2407\u0000\u2408\u0000\u2409\u1038\u2409\u0000\u240a\u0000\u240b\u0000",
+            "\u240c\u103a\u240c\u0000\u240e\u0000\u240f\u0000\u2410\u0000\u2411\u103b\u2412\u103e\u2412\u0000",
+            "\u2413\u0000\u2414\u1040\u2414\u0000\u2415\u0000\u2417\u0000\u2418\u0000\u2419\u1042\u2419\u0000",
+            "\u241a\u0000\u241b\u0000\u241c\u1044\u241c\u0000\u241e\u0000\u241f\u0000\u2420\u1045\u2421\u1048",
+            "\u2421\u0000\u2422\u104a\u2422\u0000\u2425\u0000\u2426\u0000\u2427\u0000\u2428\u104c\u2428\u0000",
+            "\u2429\u0000\u242a\u0000\u242b\u0000\u242c\u104e\u242c\u0000\u242d\u0000\u242e\u0000\u242f\u1050",
+            "\u242f\u0000\u2431\u0000\u2432\u0000\u2433\u0000\u2434\u0000\u2435\u1052\u2435\u0000\u2436\u1054",
+            "\u2436\u0000\u2437\u0000\u2438\u0000\u2439\u0000\u243a\u1055\u243b\u1058\u243b\u0000\u243d\u0000",
+            "\u243e\u0000\u2440\u0000\u2441\u105a\u2441\u0000\u2442\u105c\u2442\u0000\u2443\u0000\u2444\u0000",
+            "\u2445\u105e\u2445\u0000\u2447\u0000\u2449\u0000\u244a\u0000\u244b\u0000\u244d\u1060\u244d\u0000",
+            "\u244e\u0000\u244f\u1062\u244f\u0000\u2450\u0000\u2451\u0000\u2452\u1064\u2452\u0000\u2453\u0000",
+            "\u2454\u0000\u2455\u1066\u2455\u0000\u2457\u0000\u2458\u0000\u2459\u0000\u245a\u1068\u245a\u1069",
+            "\u245b\u106c\u245b\u0000\u245d\u0000\u245e\u0000\u245f\u0000\u2460\u106e\u2460\u0000\u2461\u0000",
+            "\u2462\u1070\u2462\u0000\u2468\u0000\u2469\u0000\u246a\u0000\u246b\u0000\u246c\u0000\u246d\u1072",
+            "\u246d\u0000\u246e\u0000\u246f\u0000\u2470\u0000\u2471\u0000\u2472\u0000\u2473\u0000\u2474\u0000",
+            "\u2475\u0000\u2476\u1074\u2476\u0000\u2477\u0000\u2478\u0000\u2479\u0000\u247a\u0000\u247b\u0000",
+            "\u247c\u0000\u247e\u0000\u247f\u0000\u2480\u0000\u2481\u0000\u2482\u1076\u2482\u0000\u2483\u0000",
+            "\u2484\u0000\u2485\u0000\u2486\u0000\u2487\u1078\u2487\u0000\u2488\u0000\u2489\u0000\u248a\u107a",
+            "\u248a\u0000\u248b\u0000\u248e\u107c\u248e\u0000\u248f\u107e\u248f\u0000\u2490\u0000\u2491\u0000",
+            "\u2492\u1080\u2492\u0000\u2493\u0000\u2494\u0000\u2495\u0000\u2496\u0000\u2497\u0000\u2498\u0000",
+            "\u2499\u0000\u249a\u1082\u249a\u0000\u249d\u0000\u249f\u0000\u24a0\u0000\u24a1\u0000\u24a3\u1084",
+            "\u24a3\u0000\u24a4\u0000\u24a5\u1086\u24a5\u0000\u24a6\u0000\u24a7\u0000\u24a8\u1088\u24a8\u0000",
+            "\u24a9\u0000\u24aa\u0000\u24ab\u108a\u24ab\u0000\u24ac\u0000\u24ad\u0000\u24ae\u108c\u24ae\u0000",
+            "\u24af\u0000\u24b0\u0000\u24b1\u108e\u24b1\u0000\u24b4\u0000\u24b5\u0000\u24b6\u0000\u24b7\u1090",
+            "\u24b7\u0000\u24b8\u0000\u24b9\u0000\u24ba\u0000\u24bb\u1092\u24bb\u0000\u24bc\u0000\u24be\u1094",
+            "\u24be\u0000\u24bf\u1096\u24bf\u0000\u24c1\u0000\u24c2\u0000\u24c3\u0000\u24c4\u1098\u24c4\u0000",
+            "\u24c5\u1099\u24c6\u109c\u24c6\u0000\u24c7\u0000\u24c8\u0000\u24c9\u0000\u24ca\u0000\u24cb\u0000",
+            "\u24cc\u109e\u24cc\u0000\u24db\u0000\u24dc\u0000\u24dd\u0000\u24de\u10a0\u24de\u0000\u24df\u0000",
+            "\u24e0\u0000\u24e2\u10a2\u24e2\u0000\u24e3\u10a4\u24e3\u0000\u24e4\u0000\u24e5\u0000\u24e6\u0000",
+            "\u24e7\u10a6\u24e7\u0000\u24e9\u0000\u24ea\u0000\u24eb\u0000\u24ec\u0000\u24ed\u10a8\u24ed\u0000",
+            "\u24f4\u0000\u24f5\u0000\u24f6\u0000\u24f7\u0000\u24f8\u0000\u24f9\u0000\u24fa\u0000\u24fb\u10aa",
+            "\u24fb\u0000\u24fc\u0000\u24fd\u0000\u24fe\u0000\u24ff\u0000\u2500\u10ac\u2500\u0000\u2501\u0000",
+            "\u2502\u0000\u2503\u0000\u2504\u0000\u2505\u0000\u2506\u0000\u2507\u10ae\u2507\u0000\u250a\u0000",
+            "\u250b\u0000\u250c\u10b0\u250c\u0000\u250d\u10b2\u250d\u0000\u250e\u0000\u250f\u0000\u2510\u0000",
+            "\u2511\u0000\u2512\u10b4\u2512\u0000\u2514\u10b6\u2514\u0000\u2515\u0000\u2516\u10b8\u2516\u0000",
+            "\u2518\u0000\u2519\u0000\u251a\u0000\u251b\u0000\u251c\u10ba\u251c\u0000\u251e\u0000\u251f\u0000",
+            "\u2520\u0000\u2521\u0000\u2522\u0000\u2523\u0000\u2524\u0000\u2526\u10bc\u2526\u0000\u2527\u10be",
+            "\u2527\u0000\u2528\u0000\u2529\u0000\u252a\u0000\u252b\u0000\u252c\u0000\u252d\u0000\u252f\u10c0",
+            "\u252f\u0000\u2530\u10c2\u2530\u0000\u2532\u0000\u2533\u0000\u2534\u0000\u2535\u0000\u2536\u10c4",
+            "\u2536\u0000\u2537\u0000\u2538\u0000\u2539\u0000\u253a\u0000\u253b\u0000\u253c\u0000\u253e\u0000",
+            "\u253f\u0000\u2540\u0000\u2541\u0000\u2542\u10c6\u2542\u0000\u2543\u0000\u2544\u0000\u2545\u0000",
+            "\u2546\u0000\u2547\u10c8\u2547\u0000\u2548\u0000\u2549\u10ca\u2549\u0000\u254a\u0000\u254b\u0000",
+            "\u254c\u0000\u254d\u10cc\u254d\u0000\u2550\u0000\u2553\u10ce\u2553\u0000\u2554\u0000\u2555\u0000",
+            "\u2556\u10d0\u2556\u0000\u2557\u0000\u2558\u10d2\u2558\u0000\u2559\u0000\u255a\u0000\u255b\u0000",
+            "\u255c\u10d4\u255c\u0000\u255e\u0000\u255f\u0000\u2560\u0000\u2561\u10d6\u2561\u0000\u2562\u10d8",
+            "\u2562\u0000\u2563\u0000\u2564\u10da\u2564\u0000\u2565\u0000\u2566\u0000\u2567\u0000\u2568\u10dc",
+            "\u2568\u0000\u2569\u0000\u256a\u0000\u256c\u0000\u256d\u10de\u256d\u0000\u256e\u10e0\u256e\u0000",
+            "\u256f\u0000\u2570\u0000\u2571\u10e2\u2571\u0000\u2572\u0000\u2573\u0000\u2574\u0000\u2575\u10e4",
+            "\u2575\u0000\u2576\u0000\u2577\u0000\u2578\u0000\u2579\u10e6\u2579\u0000\u257b\u0000\u257c\u0000",
+            "\u257d\u10e8\u257d\u0000\u257f\u0000\u2580\u0000\u2582\u0000\u2583\u10ea\u2583\u0000\u2584\u10ec",
+            "\u2584\u0000\u2585\u0000\u2587\u0000\u2588\u10ee\u2588\u0000\u2589\u10f0\u2589\u0000\u258a\u0000",
+            "\u258b\u0000\u258c\u0000\u258d\u0000\u258e\u0000\u258f\u10f2\u258f\u0000\u2596\u0000\u2597\u0000",
+            "\u2598\u0000\u2599\u0000\u259a\u10f4\u259a\u0000\u259c\u0000\u259e\u0000\u259f\u0000\u25a0\u0000",
+            "\u25a1\u10f6\u25a1\u0000\u25a2\u0000\u25a4\u10f8\u25a4\u0000\u25a5\u10fa\u25a5\u0000\u25a6\u0000",
+            "\u25a7\u0000\u25a8\u0000\u25a9\u10fc\u25a9\u0000\u25aa\u0000\u25ab\u10fe\u25ab\u0000\u25ac\u0000",
+            "\u25ad\u0000\u25ae\u1100\u25ae\u0000\u25af\u1102\u25af\u0000\u25b1\u1104\u25b1\u0000\u25b2\u0000",
+            "\u25b3\u0000\u25b4\u0000\u25b5\u1106\u25b5\u0000\u25b6\u0000\u25b7\u0000\u25b8\u1108\u25b8\u0000",
+            "\u25c6\u0000\u25c9\u0000\u25ca\u0000\u25cb\u110a\u25cb\u0000\u25cc\u0000\u25cd\u0000\u25ce\u110c",
+            "\u25ce\u0000\u25cf\u0000\u25d0\u110e\u25d0\u0000\u25d1\u0000\u25d2\u0000\u25d3\u0000\u25d4\u1110",
+            "\u25d4\u0000\u25d5\u0000\u25d6\u1112\u25d6\u0000\u25d8\u0000\u25d9\u0000\u25da\u0000\u25db\u1114",
+            "\u25db\u0000\u25dc\u0000\u25dd\u0000\u25de\u1116\u25de\u0000\u25df\u1118\u25df\u0000\u25e1\u0000",
+            "\u25e2\u0000\u25e3\u0000\u25e4\u111a\u25e4\u0000\u25e5\u0000\u25e6\u0000\u25e7\u111c\u25e7\u0000",
+            "\u25e8\u0000\u25e9\u0000\u25ea\u111e\u25ea\u0000\u25eb\u0000\u25ec\u0000\u25ed\u1120\u25ed\u0000",
+            "\u25f0\u0000\u25f1\u0000\u25f2\u0000\u25f3\u1122\u25f3\u0000\u25f5\u0000\u25f6\u1124\u25f6\u0000",
+            "\u25f7\u0000\u25f8\u0000\u25f9\u1126\u25f9\u0000\u25fa\u0000\u25fb\u0000\u25fc\u0000\u25fd\u1128",
+            "\u25fd\u0000\u25ff\u0000\u2600\u0000\u2601\u0000\u2602\u112a\u2602\u0000\u2603\u0000\u2604\u0000",
+            "\u2605\u112c\u2605\u0000\u2607\u0000\u2608\u0000\u2609\u112e\u2609\u0000\u260a\u0000\u260b\u0000",
+            "\u260c\u0000\u260d\u1130\u260d\u0000\u260f\u0000\u2610\u0000\u2611\u0000\u2612\u0000\u2613\u1132",
+            "\u2613\u0000\u2614\u0000\u2615\u0000\u2616\u1134\u2616\u0000\u2617\u0000\u2618\u0000\u2619\u1136",
+            "\u2619\u0000\u261a\u0000\u261b\u0000\u261c\u0000\u261d\u0000\u261e\u1138\u261e\u0000\u2626\u0000",
+            "\u2627\u0000\u2629\u0000\u262a\u0000\u262b\u1139\u262c\u113c\u262c\u0000\u262d\u113e\u262d\u0000",
+            "\u262f\u0000\u2630\u0000\u2631\u0000\u2632\u1140\u2632\u0000\u2633\u1142\u2633\u0000\u2634\u1143",
+            "\u2635\u1146\u2635\u0000\u2636\u0000\u2637\u1148\u2637\u0000\u2638\u0000\u2639\u0000\u263a\u114a",
+            "\u263a\u0000\u263b\u0000\u263c\u0000\u263d\u114c\u263d\u0000\u263e\u0000\u263f\u0000\u2640\u114e",
+            "\u2640\u0000\u2642\u0000\u2643\u0000\u2644\u1150\u2644\u0000\u2645\u1151\u2646\u1154\u2646\u0000",
+            "\u2650\u0000\u2651\u0000\u2652\u0000\u2653\u0000\u2654\u0000\u2655\u1156\u2655\u0000\u2657\u0000",
+            "\u2658\u0000\u2659\u0000\u265a\u0000\u265b\u1158\u265b\u0000\u265c\u115a\u265c\u0000\u265d\u0000",
+            "\u265e\u0000\u265f\u115c\u265f\u0000\u2661\u0000\u2662\u0000\u2663\u0000\u2664\u0000\u2665\u115e",
+            "\u2665\u0000\u2666\u0000\u2667\u1160\u2667\u0000\u2668\u0000\u2669\u1162\u2669\u0000\u266a\u0000",
+            "\u266b\u0000\u266c\u1164\u266c\u0000\u266d\u0000\u266e\u0000\u266f\u0000\u2670\u0000\u2671\u0000",
+            "\u2672\u1166\u2672\u0000\u2673\u0000\u2674\u0000\u2675\u1168\u2675\u0000\u2676\u0000\u2677\u0000",
+            "\u2678\u116a\u2678\u0000\u267a\u0000\u267b\u116c\u267b\u0000\u267c\u0000\u267d\u116e\u267d\u0000",
+    });
+
+    static final @NoLength char[] EDGES = join(new String[] {
+            "\u0041\u0002\u0042\u0061\u0043\u009e\u0044\u0198\u0045\u0312\u0046\u03a5\u0047\u03e3\u0048\u044f",
+            "\u0049\u049d\u004a\u051b\u004b\u0538\u004c\u0559\u004d\u0707\u004e\u0737\u004f\u096d\u0050\u09f1",
+            "\u0051\u0a59\u0052\u0a69\u0053\u0b94\u0054\u0c81\u0055\u0cf6\u0056\u0dce\u0057\u0e25\u0058\u0e3b",
+            "\u0059\u0e49\u005a\u0e72\u0061\u0ea5\u0062\u0f72\u0063\u111d\u0064\u129f\u0065\u13d0\u0066\u14c8",
+            "\u0067\u1550\u0068\u161d\u0069\u16ad\u006a\u176e\u006b\u1790\u006c\u17b9\u006d\u1a3e\u006e\u1ad4",
+            "\u006f\u1d2c\u0070\u1df4\u0071\u1eea\u0072\u1f19\u0073\u20cc\u0074\u22f5\u0075\u23f0\u0076\u24c9",
+            "\u0077\u258d\u0078\u25b7\u0079\u261e\u007a\u2647\u0045\u0003\u004d\u0008\u0061\u000b\u0062\u0011",
+            "\u0063\u0017\u0066\u001e\u0067\u0021\u006c\u0027\u006d\u002c\u006e\u0031\u006f\u0034\u0070\u003c",
+            "\u0072\u0049\u0073\u004e\u0074\u0057\u0075\u005d\u006c\u0004\u0069\u0005\u0067\u0006\u003b\u0007",
+            "\u0050\u0009\u003b\n\u0063\u000c\u0075\r\u0074\u000e\u0065\u000f\u003b\u0010\u0072\u0012",
+            "\u0065\u0013\u0076\u0014\u0065\u0015\u003b\u0016\u0069\u0018\u0079\u001c\u0072\u0019\u0063\u001a",
+            "\u003b\u001b\u003b\u001d\u0072\u001f\u003b\u0020\u0072\"\u0061\u0023\u0076\u0024\u0065\u0025",
+            "\u003b\u0026\u0070\u0028\u0068\u0029\u0061\u002a\u003b\u002b\u0061\u002d\u0063\u002e\u0072\u002f",
+            "\u003b\u0030\u0064\u0032\u003b\u0033\u0067\u0035\u0070\u0039\u006f\u0036\u006e\u0037\u003b\u0038",
+            "\u0066\u003a\u003b\u003b\u0070\u003d\u006c\u003e\u0079\u003f\u0046\u0040\u0075\u0041\u006e\u0042",
+            "\u0063\u0043\u0074\u0044\u0069\u0045\u006f\u0046\u006e\u0047\u003b\u0048\u0069\u004a\u006e\u004b",
+            "\u0067\u004c\u003b\u004d\u0063\u004f\u0073\u0052\u0072\u0050\u003b\u0051\u0069\u0053\u0067\u0054",
+            "\u006e\u0055\u003b\u0056\u0069\u0058\u006c\u0059\u0064\u005a\u0065\u005b\u003b\\\u006d\u005e",
+            "\u006c\u005f\u003b\u0060\u0061\u0062\u0063\u0072\u0065\u0075\u0066\u0088\u006f\u008b\u0072\u008f",
+            "\u0073\u0094\u0075\u0098\u0063\u0063\u0072\u006b\u006b\u0064\u0073\u0065\u006c\u0066\u0061\u0067",
+            "\u0073\u0068\u0068\u0069\u003b\u006a\u0076\u006c\u0077\u006e\u003b\u006d\u0065\u006f\u0064\u0070",
+            "\u003b\u0071\u0079\u0073\u003b\u0074\u0063\u0076\u0072\u007c\u0074\u0085\u0061\u0077\u0075\u0078",
+            "\u0073\u0079\u0065\u007a\u003b\u007b\u006e\u007d\u006f\u007e\u0075\u007f\u006c\u0080\u006c\u0081",
+            "\u0069\u0082\u0073\u0083\u003b\u0084\u0061\u0086\u003b\u0087\u0072\u0089\u003b\u008a\u0070\u008c",
+            "\u0066\u008d\u003b\u008e\u0065\u0090\u0076\u0091\u0065\u0092\u003b\u0093\u0063\u0095\u0072\u0096",
+            "\u003b\u0097\u006d\u0099\u0070\u009a\u0065\u009b\u0071\u009c\u003b\u009d\u0048\u009f\u004f\u00a3",
+            "\u0061\u00a7\u0063\u00c7\u0064\u00dc\u0065\u00e0\u0066\u00ef\u0068\u00f2\u0069\u00f5\u006c\u010f",
+            "\u006f\u0140\u0072\u0188\u0073\u018d\u0075\u0191\u0063\u00a0\u0079\u00a1\u003b\u00a2\u0050\u00a4",
+            "\u0059\u00a5\u003b\u00a6\u0063\u00a8\u0070\u00ad\u0079\u00c1\u0075\u00a9\u0074\u00aa\u0065\u00ab",
+            "\u003b\u00ac\u003b\u00ae\u0069\u00af\u0074\u00b0\u0061\u00b1\u006c\u00b2\u0044\u00b3\u0069\u00b4",
+            "\u0066\u00b5\u0066\u00b6\u0065\u00b7\u0072\u00b8\u0065\u00b9\u006e\u00ba\u0074\u00bb\u0069\u00bc",
+            "\u0061\u00bd\u006c\u00be\u0044\u00bf\u003b\u00c0\u006c\u00c2\u0065\u00c3\u0079\u00c4\u0073\u00c5",
+            "\u003b\u00c6\u0061\u00c8\u0065\u00cd\u0069\u00d2\u006f\u00d6\u0072\u00c9\u006f\u00ca\u006e\u00cb",
+            "\u003b\u00cc\u0064\u00ce\u0069\u00cf\u006c\u00d0\u003b\u00d1\u0072\u00d3\u0063\u00d4\u003b\u00d5",
+            "\u006e\u00d7\u0069\u00d8\u006e\u00d9\u0074\u00da\u003b\u00db\u006f\u00dd\u0074\u00de\u003b\u00df",
+            "\u0064\u00e1\u006e\u00e7\u0069\u00e2\u006c\u00e3\u006c\u00e4\u0061\u00e5\u003b\u00e6\u0074\u00e8",
+            "\u0065\u00e9\u0072\u00ea\u0044\u00eb\u006f\u00ec\u0074\u00ed\u003b\u00ee\u0072\u00f0\u003b\u00f1",
+            "\u0069\u00f3\u003b\u00f4\u0072\u00f6\u0063\u00f7\u006c\u00f8\u0065\u00f9\u0044\u00fa\u004d\u00fe",
+            "\u0050\u0104\u0054\u0109\u006f\u00fb\u0074\u00fc\u003b\u00fd\u0069\u00ff\u006e\u0100\u0075\u0101",
+            "\u0073\u0102\u003b\u0103\u006c\u0105\u0075\u0106\u0073\u0107\u003b\u0108\u0069\u010a\u006d\u010b",
+            "\u0065\u010c\u0073\u010d\u003b\u010e\u006f\u0110\u0063\u0111\u0073\u0127\u006b\u0112\u0077\u0113",
+            "\u0069\u0114\u0073\u0115\u0065\u0116\u0043\u0117\u006f\u0118\u006e\u0119\u0074\u011a\u006f\u011b",
+            "\u0075\u011c\u0072\u011d\u0049\u011e\u006e\u011f\u0074\u0120\u0065\u0121\u0067\u0122\u0072\u0123",
+            "\u0061\u0124\u006c\u0125\u003b\u0126\u0065\u0128\u0043\u0129\u0075\u012a\u0072\u012b\u006c\u012c",
+            "\u0079\u012d\u0044\u012e\u0051\u013a\u006f\u012f\u0075\u0130\u0062\u0131\u006c\u0132\u0065\u0133",
+            "\u0051\u0134\u0075\u0135\u006f\u0136\u0074\u0137\u0065\u0138\u003b\u0139\u0075\u013b\u006f\u013c",
+            "\u0074\u013d\u0065\u013e\u003b\u013f\u006c\u0141\u006e\u0147\u0070\u0160\u0075\u016a\u006f\u0142",
+            "\u006e\u0143\u003b\u0144\u0065\u0145\u003b\u0146\u0067\u0148\u0069\u014f\u0074\u0153\u0072\u0149",
+            "\u0075\u014a\u0065\u014b\u006e\u014c\u0074\u014d\u003b\u014e\u006e\u0150\u0074\u0151\u003b\u0152",
+            "\u006f\u0154\u0075\u0155\u0072\u0156\u0049\u0157\u006e\u0158\u0074\u0159\u0065\u015a\u0067\u015b",
+            "\u0072\u015c\u0061\u015d\u006c\u015e\u003b\u015f\u0066\u0161\u0072\u0163\u003b\u0162\u006f\u0164",
+            "\u0064\u0165\u0075\u0166\u0063\u0167\u0074\u0168\u003b\u0169\u006e\u016b\u0074\u016c\u0065\u016d",
+            "\u0072\u016e\u0043\u016f\u006c\u0170\u006f\u0171\u0063\u0172\u006b\u0173\u0077\u0174\u0069\u0175",
+            "\u0073\u0176\u0065\u0177\u0043\u0178\u006f\u0179\u006e\u017a\u0074\u017b\u006f\u017c\u0075\u017d",
+            "\u0072\u017e\u0049\u017f\u006e\u0180\u0074\u0181\u0065\u0182\u0067\u0183\u0072\u0184\u0061\u0185",
+            "\u006c\u0186\u003b\u0187\u006f\u0189\u0073\u018a\u0073\u018b\u003b\u018c\u0063\u018e\u0072\u018f",
+            "\u003b\u0190\u0070\u0192\u003b\u0193\u0043\u0194\u0061\u0195\u0070\u0196\u003b\u0197\u0044\u0199",
+            "\u004a\u01a2\u0053\u01a6\u005a\u01aa\u0061\u01ae\u0063\u01bb\u0065\u01c3\u0066\u01c9\u0069\u01cc",
+            "\u006f\u0207\u0073\u0309\u003b\u019a\u006f\u019b\u0074\u019c\u0072\u019d\u0061\u019e\u0068\u019f",
+            "\u0064\u01a0\u003b\u01a1\u0063\u01a3\u0079\u01a4\u003b\u01a5\u0063\u01a7\u0079\u01a8\u003b\u01a9",
+            "\u0063\u01ab\u0079\u01ac\u003b\u01ad\u0067\u01af\u0072\u01b4\u0073\u01b7\u0067\u01b0\u0065\u01b1",
+            "\u0072\u01b2\u003b\u01b3\u0072\u01b5\u003b\u01b6\u0068\u01b8\u0076\u01b9\u003b\u01ba\u0061\u01bc",
+            "\u0079\u01c1\u0072\u01bd\u006f\u01be\u006e\u01bf\u003b\u01c0\u003b\u01c2\u006c\u01c4\u003b\u01c5",
+            "\u0074\u01c6\u0061\u01c7\u003b\u01c8\u0072\u01ca\u003b\u01cb\u0061\u01cd\u0066\u01fb\u0063\u01ce",
+            "\u006d\u01f6\u0072\u01cf\u0069\u01d0\u0074\u01d1\u0069\u01d2\u0063\u01d3\u0061\u01d4\u006c\u01d5",
+            "\u0041\u01d6\u0044\u01dc\u0047\u01ea\u0054\u01f0\u0063\u01d7\u0075\u01d8\u0074\u01d9\u0065\u01da",
+            "\u003b\u01db\u006f\u01dd\u0074\u01de\u0075\u01e0\u003b\u01df\u0062\u01e1\u006c\u01e2\u0065\u01e3",
+            "\u0041\u01e4\u0063\u01e5\u0075\u01e6\u0074\u01e7\u0065\u01e8\u003b\u01e9\u0072\u01eb\u0061\u01ec",
+            "\u0076\u01ed\u0065\u01ee\u003b\u01ef\u0069\u01f1\u006c\u01f2\u0064\u01f3\u0065\u01f4\u003b\u01f5",
+            "\u006f\u01f7\u006e\u01f8\u0064\u01f9\u003b\u01fa\u0066\u01fc\u0065\u01fd\u0072\u01fe\u0065\u01ff",
+            "\u006e\u0200\u0074\u0201\u0069\u0202\u0061\u0203\u006c\u0204\u0044\u0205\u003b\u0206\u0070\u0208",
+            "\u0074\u020b\u0075\u0217\u0077\u02a0\u0066\u0209\u003b\u020a\u003b\u020c\u0044\u020d\u0045\u0211",
+            "\u006f\u020e\u0074\u020f\u003b\u0210\u0071\u0212\u0075\u0213\u0061\u0214\u006c\u0215\u003b\u0216",
+            "\u0062\u0218\u006c\u0219\u0065\u021a\u0043\u021b\u0044\u022b\u004c\u0237\u0052\u0273\u0055\u0282",
+            "\u0056\u0294\u006f\u021c\u006e\u021d\u0074\u021e\u006f\u021f\u0075\u0220\u0072\u0221\u0049\u0222",
+            "\u006e\u0223\u0074\u0224\u0065\u0225\u0067\u0226\u0072\u0227\u0061\u0228\u006c\u0229\u003b\u022a",
+            "\u006f\u022c\u0074\u022d\u0077\u022f\u003b\u022e\u006e\u0230\u0041\u0231\u0072\u0232\u0072\u0233",
+            "\u006f\u0234\u0077\u0235\u003b\u0236\u0065\u0238\u006f\u0250\u0066\u0239\u0074\u023a\u0041\u023b",
+            "\u0052\u0241\u0054\u024c\u0072\u023c\u0072\u023d\u006f\u023e\u0077\u023f\u003b\u0240\u0069\u0242",
+            "\u0067\u0243\u0068\u0244\u0074\u0245\u0041\u0246\u0072\u0247\u0072\u0248\u006f\u0249\u0077\u024a",
+            "\u003b\u024b\u0065\u024d\u0065\u024e\u003b\u024f\u006e\u0251\u0067\u0252\u004c\u0253\u0052\u0268",
+            "\u0065\u0254\u0066\u0255\u0074\u0256\u0041\u0257\u0052\u025d\u0072\u0258\u0072\u0259\u006f\u025a",
+            "\u0077\u025b\u003b\u025c\u0069\u025e\u0067\u025f\u0068\u0260\u0074\u0261\u0041\u0262\u0072\u0263",
+            "\u0072\u0264\u006f\u0265\u0077\u0266\u003b\u0267\u0069\u0269\u0067\u026a\u0068\u026b\u0074\u026c",
+            "\u0041\u026d\u0072\u026e\u0072\u026f\u006f\u0270\u0077\u0271\u003b\u0272\u0069\u0274\u0067\u0275",
+            "\u0068\u0276\u0074\u0277\u0041\u0278\u0054\u027e\u0072\u0279\u0072\u027a\u006f\u027b\u0077\u027c",
+            "\u003b\u027d\u0065\u027f\u0065\u0280\u003b\u0281\u0070\u0283\u0041\u0284\u0044\u028a\u0072\u0285",
+            "\u0072\u0286\u006f\u0287\u0077\u0288\u003b\u0289\u006f\u028b\u0077\u028c\u006e\u028d\u0041\u028e",
+            "\u0072\u028f\u0072\u0290\u006f\u0291\u0077\u0292\u003b\u0293\u0065\u0295\u0072\u0296\u0074\u0297",
+            "\u0069\u0298\u0063\u0299\u0061\u029a\u006c\u029b\u0042\u029c\u0061\u029d\u0072\u029e\u003b\u029f",
+            "\u006e\u02a1\u0041\u02a2\u0042\u02b4\u004c\u02ba\u0052\u02df\u0054\u02f9\u0061\u0303\u0072\u02a3",
+            "\u0072\u02a4\u006f\u02a5\u0077\u02a6\u003b\u02a7\u0042\u02a8\u0055\u02ac\u0061\u02a9\u0072\u02aa",
+            "\u003b\u02ab\u0070\u02ad\u0041\u02ae\u0072\u02af\u0072\u02b0\u006f\u02b1\u0077\u02b2\u003b\u02b3",
+            "\u0072\u02b5\u0065\u02b6\u0076\u02b7\u0065\u02b8\u003b\u02b9\u0065\u02bb\u0066\u02bc\u0074\u02bd",
+            "\u0052\u02be\u0054\u02ca\u0056\u02d4\u0069\u02bf\u0067\u02c0\u0068\u02c1\u0074\u02c2\u0056\u02c3",
+            "\u0065\u02c4\u0063\u02c5\u0074\u02c6\u006f\u02c7\u0072\u02c8\u003b\u02c9\u0065\u02cb\u0065\u02cc",
+            "\u0056\u02cd\u0065\u02ce\u0063\u02cf\u0074\u02d0\u006f\u02d1\u0072\u02d2\u003b\u02d3\u0065\u02d5",
+            "\u0063\u02d6\u0074\u02d7\u006f\u02d8\u0072\u02d9\u003b\u02da\u0042\u02db\u0061\u02dc\u0072\u02dd",
+            "\u003b\u02de\u0069\u02e0\u0067\u02e1\u0068\u02e2\u0074\u02e3\u0054\u02e4\u0056\u02ee\u0065\u02e5",
+            "\u0065\u02e6\u0056\u02e7\u0065\u02e8\u0063\u02e9\u0074\u02ea\u006f\u02eb\u0072\u02ec\u003b\u02ed",
+            "\u0065\u02ef\u0063\u02f0\u0074\u02f1\u006f\u02f2\u0072\u02f3\u003b\u02f4\u0042\u02f5\u0061\u02f6",
+            "\u0072\u02f7\u003b\u02f8\u0065\u02fa\u0065\u02fb\u003b\u02fc\u0041\u02fd\u0072\u02fe\u0072\u02ff",
+            "\u006f\u0300\u0077\u0301\u003b\u0302\u0072\u0304\u0072\u0305\u006f\u0306\u0077\u0307\u003b\u0308",
+            "\u0063\u030a\u0074\u030d\u0072\u030b\u003b\u030c\u0072\u030e\u006f\u030f\u006b\u0310\u003b\u0311",
+            "\u004e\u0313\u0054\u0316\u0061\u0319\u0063\u031f\u0064\u032b\u0066\u032f\u0067\u0332\u006c\u0338",
+            "\u006d\u033f\u006f\u0363\u0070\u036b\u0071\u0372\u0073\u0386\u0074\u038d\u0075\u0390\u0078\u0394",
+            "\u0047\u0314\u003b\u0315\u0048\u0317\u003b\u0318\u0063\u031a\u0075\u031b\u0074\u031c\u0065\u031d",
+            "\u003b\u031e\u0061\u0320\u0069\u0325\u0079\u0329\u0072\u0321\u006f\u0322\u006e\u0323\u003b\u0324",
+            "\u0072\u0326\u0063\u0327\u003b\u0328\u003b\u032a\u006f\u032c\u0074\u032d\u003b\u032e\u0072\u0330",
+            "\u003b\u0331\u0072\u0333\u0061\u0334\u0076\u0335\u0065\u0336\u003b\u0337\u0065\u0339\u006d\u033a",
+            "\u0065\u033b\u006e\u033c\u0074\u033d\u003b\u033e\u0061\u0340\u0070\u0344\u0063\u0341\u0072\u0342",
+            "\u003b\u0343\u0074\u0345\u0079\u0346\u0053\u0347\u0056\u0353\u006d\u0348\u0061\u0349\u006c\u034a",
+            "\u006c\u034b\u0053\u034c\u0071\u034d\u0075\u034e\u0061\u034f\u0072\u0350\u0065\u0351\u003b\u0352",
+            "\u0065\u0354\u0072\u0355\u0079\u0356\u0053\u0357\u006d\u0358\u0061\u0359\u006c\u035a\u006c\u035b",
+            "\u0053\u035c\u0071\u035d\u0075\u035e\u0061\u035f\u0072\u0360\u0065\u0361\u003b\u0362\u0067\u0364",
+            "\u0070\u0368\u006f\u0365\u006e\u0366\u003b\u0367\u0066\u0369\u003b\u036a\u0073\u036c\u0069\u036d",
+            "\u006c\u036e\u006f\u036f\u006e\u0370\u003b\u0371\u0075\u0373\u0061\u0374\u0069\u037d\u006c\u0375",
+            "\u003b\u0376\u0054\u0377\u0069\u0378\u006c\u0379\u0064\u037a\u0065\u037b\u003b\u037c\u006c\u037e",
+            "\u0069\u037f\u0062\u0380\u0072\u0381\u0069\u0382\u0075\u0383\u006d\u0384\u003b\u0385\u0063\u0387",
+            "\u0069\u038a\u0072\u0388\u003b\u0389\u006d\u038b\u003b\u038c\u0061\u038e\u003b\u038f\u006d\u0391",
+            "\u006c\u0392\u003b\u0393\u0069\u0395\u0070\u039a\u0073\u0396\u0074\u0397\u0073\u0398\u003b\u0399",
+            "\u006f\u039b\u006e\u039c\u0065\u039d\u006e\u039e\u0074\u039f\u0069\u03a0\u0061\u03a1\u006c\u03a2",
+            "\u0045\u03a3\u003b\u03a4\u0063\u03a6\u0066\u03a9\u0069\u03ac\u006f\u03cd\u0073\u03df\u0079\u03a7",
+            "\u003b\u03a8\u0072\u03aa\u003b\u03ab\u006c\u03ad\u006c\u03ae\u0065\u03af\u0064\u03b0\u0053\u03b1",
+            "\u0056\u03bd\u006d\u03b2\u0061\u03b3\u006c\u03b4\u006c\u03b5\u0053\u03b6\u0071\u03b7\u0075\u03b8",
+            "\u0061\u03b9\u0072\u03ba\u0065\u03bb\u003b\u03bc\u0065\u03be\u0072\u03bf\u0079\u03c0\u0053\u03c1",
+            "\u006d\u03c2\u0061\u03c3\u006c\u03c4\u006c\u03c5\u0053\u03c6\u0071\u03c7\u0075\u03c8\u0061\u03c9",
+            "\u0072\u03ca\u0065\u03cb\u003b\u03cc\u0070\u03ce\u0072\u03d1\u0075\u03d6\u0066\u03cf\u003b\u03d0",
+            "\u0041\u03d2\u006c\u03d3\u006c\u03d4\u003b\u03d5\u0072\u03d7\u0069\u03d8\u0065\u03d9\u0072\u03da",
+            "\u0074\u03db\u0072\u03dc\u0066\u03dd\u003b\u03de\u0063\u03e0\u0072\u03e1\u003b\u03e2\u004a\u03e4",
+            "\u0054\u03e8\u0061\u03ea\u0062\u03f1\u0063\u03f7\u0064\u0403\u0066\u0407\u0067\u040a\u006f\u040c",
+            "\u0072\u0410\u0073\u0449\u0074\u044d\u0063\u03e5\u0079\u03e6\u003b\u03e7\u003b\u03e9\u006d\u03eb",
+            "\u006d\u03ec\u0061\u03ed\u003b\u03ee\u0064\u03ef\u003b\u03f0\u0072\u03f2\u0065\u03f3\u0076\u03f4",
+            "\u0065\u03f5\u003b\u03f6\u0065\u03f8\u0069\u03fd\u0079\u0401\u0064\u03f9\u0069\u03fa\u006c\u03fb",
+            "\u003b\u03fc\u0072\u03fe\u0063\u03ff\u003b\u0400\u003b\u0402\u006f\u0404\u0074\u0405\u003b\u0406",
+            "\u0072\u0408\u003b\u0409\u003b\u040b\u0070\u040d\u0066\u040e\u003b\u040f\u0065\u0411\u0061\u0412",
+            "\u0074\u0413\u0065\u0414\u0072\u0415\u0045\u0416\u0046\u0421\u0047\u042b\u004c\u0433\u0053\u0438",
+            "\u0054\u0443\u0071\u0417\u0075\u0418\u0061\u0419\u006c\u041a\u003b\u041b\u004c\u041c\u0065\u041d",
+            "\u0073\u041e\u0073\u041f\u003b\u0420\u0075\u0422\u006c\u0423\u006c\u0424\u0045\u0425\u0071\u0426",
+            "\u0075\u0427\u0061\u0428\u006c\u0429\u003b\u042a\u0072\u042c\u0065\u042d\u0061\u042e\u0074\u042f",
+            "\u0065\u0430\u0072\u0431\u003b\u0432\u0065\u0434\u0073\u0435\u0073\u0436\u003b\u0437\u006c\u0439",
+            "\u0061\u043a\u006e\u043b\u0074\u043c\u0045\u043d\u0071\u043e\u0075\u043f\u0061\u0440\u006c\u0441",
+            "\u003b\u0442\u0069\u0444\u006c\u0445\u0064\u0446\u0065\u0447\u003b\u0448\u0063\u044a\u0072\u044b",
+            "\u003b\u044c\u003b\u044e\u0041\u0450\u0061\u0456\u0063\u045d\u0066\u0462\u0069\u0465\u006f\u0471",
+            "\u0073\u0482\u0075\u048b\u0052\u0451\u0044\u0452\u0063\u0453\u0079\u0454\u003b\u0455\u0063\u0457",
+            "\u0074\u045b\u0065\u0458\u006b\u0459\u003b\u045a\u003b\u045c\u0069\u045e\u0072\u045f\u0063\u0460",
+            "\u003b\u0461\u0072\u0463\u003b\u0464\u006c\u0466\u0062\u0467\u0065\u0468\u0072\u0469\u0074\u046a",
+            "\u0053\u046b\u0070\u046c\u0061\u046d\u0063\u046e\u0065\u046f\u003b\u0470\u0070\u0472\u0072\u0475",
+            "\u0066\u0473\u003b\u0474\u0069\u0476\u007a\u0477\u006f\u0478\u006e\u0479\u0074\u047a\u0061\u047b",
+            "\u006c\u047c\u004c\u047d\u0069\u047e\u006e\u047f\u0065\u0480\u003b\u0481\u0063\u0483\u0074\u0486",
+            "\u0072\u0484\u003b\u0485\u0072\u0487\u006f\u0488\u006b\u0489\u003b\u048a\u006d\u048c\u0070\u048d",
+            "\u0044\u048e\u0045\u0497\u006f\u048f\u0077\u0490\u006e\u0491\u0048\u0492\u0075\u0493\u006d\u0494",
+            "\u0070\u0495\u003b\u0496\u0071\u0498\u0075\u0499\u0061\u049a\u006c\u049b\u003b\u049c\u0045\u049e",
+            "\u004a\u04a2\u004f\u04a7\u0061\u04ab\u0063\u04b1\u0064\u04b8\u0066\u04bc\u0067\u04bf\u006d\u04c5",
+            "\u006e\u04d9\u006f\u04fe\u0073\u0509\u0074\u050d\u0075\u0513\u0063\u049f\u0079\u04a0\u003b\u04a1",
+            "\u006c\u04a3\u0069\u04a4\u0067\u04a5\u003b\u04a6\u0063\u04a8\u0079\u04a9\u003b\u04aa\u0063\u04ac",
+            "\u0075\u04ad\u0074\u04ae\u0065\u04af\u003b\u04b0\u0069\u04b2\u0079\u04b6\u0072\u04b3\u0063\u04b4",
+            "\u003b\u04b5\u003b\u04b7\u006f\u04b9\u0074\u04ba\u003b\u04bb\u0072\u04bd\u003b\u04be\u0072\u04c0",
+            "\u0061\u04c1\u0076\u04c2\u0065\u04c3\u003b\u04c4\u003b\u04c6\u0061\u04c7\u0070\u04d3\u0063\u04c8",
+            "\u0067\u04cb\u0072\u04c9\u003b\u04ca\u0069\u04cc\u006e\u04cd\u0061\u04ce\u0072\u04cf\u0079\u04d0",
+            "\u0049\u04d1\u003b\u04d2\u006c\u04d4\u0069\u04d5\u0065\u04d6\u0073\u04d7\u003b\u04d8\u0074\u04da",
+            "\u0076\u04eb\u003b\u04db\u0065\u04dc\u0067\u04dd\u0072\u04e2\u0072\u04de\u0061\u04df\u006c\u04e0",
+            "\u003b\u04e1\u0073\u04e3\u0065\u04e4\u0063\u04e5\u0074\u04e6\u0069\u04e7\u006f\u04e8\u006e\u04e9",
+            "\u003b\u04ea\u0069\u04ec\u0073\u04ed\u0069\u04ee\u0062\u04ef\u006c\u04f0\u0065\u04f1\u0043\u04f2",
+            "\u0054\u04f8\u006f\u04f3\u006d\u04f4\u006d\u04f5\u0061\u04f6\u003b\u04f7\u0069\u04f9\u006d\u04fa",
+            "\u0065\u04fb\u0073\u04fc\u003b\u04fd\u0067\u04ff\u0070\u0503\u0074\u0506\u006f\u0500\u006e\u0501",
+            "\u003b\u0502\u0066\u0504\u003b\u0505\u0061\u0507\u003b\u0508\u0063\u050a\u0072\u050b\u003b\u050c",
+            "\u0069\u050e\u006c\u050f\u0064\u0510\u0065\u0511\u003b\u0512\u006b\u0514\u006d\u0518\u0063\u0515",
+            "\u0079\u0516\u003b\u0517\u006c\u0519\u003b\u051a\u0063\u051c\u0066\u0523\u006f\u0526\u0073\u052a",
+            "\u0075\u0533\u0069\u051d\u0079\u0521\u0072\u051e\u0063\u051f\u003b\u0520\u003b\u0522\u0072\u0524",
+            "\u003b\u0525\u0070\u0527\u0066\u0528\u003b\u0529\u0063\u052b\u0065\u052e\u0072\u052c\u003b\u052d",
+            "\u0072\u052f\u0063\u0530\u0079\u0531\u003b\u0532\u006b\u0534\u0063\u0535\u0079\u0536\u003b\u0537",
+            "\u0048\u0539\u004a\u053d\u0061\u0541\u0063\u0546\u0066\u054e\u006f\u0551\u0073\u0555\u0063\u053a",
+            "\u0079\u053b\u003b\u053c\u0063\u053e\u0079\u053f\u003b\u0540\u0070\u0542\u0070\u0543\u0061\u0544",
+            "\u003b\u0545\u0065\u0547\u0079\u054c\u0064\u0548\u0069\u0549\u006c\u054a\u003b\u054b\u003b\u054d",
+            "\u0072\u054f\u003b\u0550\u0070\u0552\u0066\u0553\u003b\u0554\u0063\u0556\u0072\u0557\u003b\u0558",
+            "\u004a\u055a\u0054\u055e\u0061\u0560\u0063\u057a\u0065\u0587\u0066\u0688\u006c\u068b\u006d\u0696",
+            "\u006f\u069c\u0073\u06fa\u0074\u0705\u0063\u055b\u0079\u055c\u003b\u055d\u003b\u055f\u0063\u0561",
+            "\u006d\u0566\u006e\u056b\u0070\u056e\u0072\u0577\u0075\u0562\u0074\u0563\u0065\u0564\u003b\u0565",
+            "\u0062\u0567\u0064\u0568\u0061\u0569\u003b\u056a\u0067\u056c\u003b\u056d\u006c\u056f\u0061\u0570",
+            "\u0063\u0571\u0065\u0572\u0074\u0573\u0072\u0574\u0066\u0575\u003b\u0576\u0072\u0578\u003b\u0579",
+            "\u0061\u057b\u0065\u0580\u0079\u0585\u0072\u057c\u006f\u057d\u006e\u057e\u003b\u057f\u0064\u0581",
+            "\u0069\u0582\u006c\u0583\u003b\u0584\u003b\u0586\u0066\u0588\u0073\u0651\u0074\u0589\u0041\u058a",
+            "\u0043\u05ab\u0044\u05b3\u0046\u05d8\u0052\u05de\u0054\u05f0\u0055\u0613\u0056\u0635\u0061\u0640",
+            "\u0072\u0646\u006e\u058b\u0072\u0597\u0067\u058c\u006c\u058d\u0065\u058e\u0042\u058f\u0072\u0590",
+            "\u0061\u0591\u0063\u0592\u006b\u0593\u0065\u0594\u0074\u0595\u003b\u0596\u0072\u0598\u006f\u0599",
+            "\u0077\u059a\u003b\u059b\u0042\u059c\u0052\u05a0\u0061\u059d\u0072\u059e\u003b\u059f\u0069\u05a1",
+            "\u0067\u05a2\u0068\u05a3\u0074\u05a4\u0041\u05a5\u0072\u05a6\u0072\u05a7\u006f\u05a8\u0077\u05a9",
+            "\u003b\u05aa\u0065\u05ac\u0069\u05ad\u006c\u05ae\u0069\u05af\u006e\u05b0\u0067\u05b1\u003b\u05b2",
+            "\u006f\u05b4\u0075\u05b5\u0077\u05c1\u0062\u05b6\u006c\u05b7\u0065\u05b8\u0042\u05b9\u0072\u05ba",
+            "\u0061\u05bb\u0063\u05bc\u006b\u05bd\u0065\u05be\u0074\u05bf\u003b\u05c0\u006e\u05c2\u0054\u05c3",
+            "\u0056\u05cd\u0065\u05c4\u0065\u05c5\u0056\u05c6\u0065\u05c7\u0063\u05c8\u0074\u05c9\u006f\u05ca",
+            "\u0072\u05cb\u003b\u05cc\u0065\u05ce\u0063\u05cf\u0074\u05d0\u006f\u05d1\u0072\u05d2\u003b\u05d3",
+            "\u0042\u05d4\u0061\u05d5\u0072\u05d6\u003b\u05d7\u006c\u05d9\u006f\u05da\u006f\u05db\u0072\u05dc",
+            "\u003b\u05dd\u0069\u05df\u0067\u05e0\u0068\u05e1\u0074\u05e2\u0041\u05e3\u0056\u05e9\u0072\u05e4",
+            "\u0072\u05e5\u006f\u05e6\u0077\u05e7\u003b\u05e8\u0065\u05ea\u0063\u05eb\u0074\u05ec\u006f\u05ed",
+            "\u0072\u05ee\u003b\u05ef\u0065\u05f1\u0072\u0601\u0065\u05f2\u003b\u05f3\u0041\u05f4\u0056\u05fa",
+            "\u0072\u05f5\u0072\u05f6\u006f\u05f7\u0077\u05f8\u003b\u05f9\u0065\u05fb\u0063\u05fc\u0074\u05fd",
+            "\u006f\u05fe\u0072\u05ff\u003b\u0600\u0069\u0602\u0061\u0603\u006e\u0604\u0067\u0605\u006c\u0606",
+            "\u0065\u0607\u003b\u0608\u0042\u0609\u0045\u060d\u0061\u060a\u0072\u060b\u003b\u060c\u0071\u060e",
+            "\u0075\u060f\u0061\u0610\u006c\u0611\u003b\u0612\u0070\u0614\u0044\u0615\u0054\u0620\u0056\u062a",
+            "\u006f\u0616\u0077\u0617\u006e\u0618\u0056\u0619\u0065\u061a\u0063\u061b\u0074\u061c\u006f\u061d",
+            "\u0072\u061e\u003b\u061f\u0065\u0621\u0065\u0622\u0056\u0623\u0065\u0624\u0063\u0625\u0074\u0626",
+            "\u006f\u0627\u0072\u0628\u003b\u0629\u0065\u062b\u0063\u062c\u0074\u062d\u006f\u062e\u0072\u062f",
+            "\u003b\u0630\u0042\u0631\u0061\u0632\u0072\u0633\u003b\u0634\u0065\u0636\u0063\u0637\u0074\u0638",
+            "\u006f\u0639\u0072\u063a\u003b\u063b\u0042\u063c\u0061\u063d\u0072\u063e\u003b\u063f\u0072\u0641",
+            "\u0072\u0642\u006f\u0643\u0077\u0644\u003b\u0645\u0069\u0647\u0067\u0648\u0068\u0649\u0074\u064a",
+            "\u0061\u064b\u0072\u064c\u0072\u064d\u006f\u064e\u0077\u064f\u003b\u0650\u0073\u0652\u0045\u0653",
+            "\u0046\u0660\u0047\u066a\u004c\u0672\u0053\u0677\u0054\u0682\u0071\u0654\u0075\u0655\u0061\u0656",
+            "\u006c\u0657\u0047\u0658\u0072\u0659\u0065\u065a\u0061\u065b\u0074\u065c\u0065\u065d\u0072\u065e",
+            "\u003b\u065f\u0075\u0661\u006c\u0662\u006c\u0663\u0045\u0664\u0071\u0665\u0075\u0666\u0061\u0667",
+            "\u006c\u0668\u003b\u0669\u0072\u066b\u0065\u066c\u0061\u066d\u0074\u066e\u0065\u066f\u0072\u0670",
+            "\u003b\u0671\u0065\u0673\u0073\u0674\u0073\u0675\u003b\u0676\u006c\u0678\u0061\u0679\u006e\u067a",
+            "\u0074\u067b\u0045\u067c\u0071\u067d\u0075\u067e\u0061\u067f\u006c\u0680\u003b\u0681\u0069\u0683",
+            "\u006c\u0684\u0064\u0685\u0065\u0686\u003b\u0687\u0072\u0689\u003b\u068a\u003b\u068c\u0065\u068d",
+            "\u0066\u068e\u0074\u068f\u0061\u0690\u0072\u0691\u0072\u0692\u006f\u0693\u0077\u0694\u003b\u0695",
+            "\u0069\u0697\u0064\u0698\u006f\u0699\u0074\u069a\u003b\u069b\u006e\u069d\u0070\u06df\u0077\u06e2",
+            "\u0067\u069e\u004c\u069f\u0052\u06b4\u006c\u06bf\u0072\u06d4\u0065\u06a0\u0066\u06a1\u0074\u06a2",
+            "\u0041\u06a3\u0052\u06a9\u0072\u06a4\u0072\u06a5\u006f\u06a6\u0077\u06a7\u003b\u06a8\u0069\u06aa",
+            "\u0067\u06ab\u0068\u06ac\u0074\u06ad\u0041\u06ae\u0072\u06af\u0072\u06b0\u006f\u06b1\u0077\u06b2",
+            "\u003b\u06b3\u0069\u06b5\u0067\u06b6\u0068\u06b7\u0074\u06b8\u0041\u06b9\u0072\u06ba\u0072\u06bb",
+            "\u006f\u06bc\u0077\u06bd\u003b\u06be\u0065\u06c0\u0066\u06c1\u0074\u06c2\u0061\u06c3\u0072\u06c9",
+            "\u0072\u06c4\u0072\u06c5\u006f\u06c6\u0077\u06c7\u003b\u06c8\u0069\u06ca\u0067\u06cb\u0068\u06cc",
+            "\u0074\u06cd\u0061\u06ce\u0072\u06cf\u0072\u06d0\u006f\u06d1\u0077\u06d2\u003b\u06d3\u0069\u06d5",
+            "\u0067\u06d6\u0068\u06d7\u0074\u06d8\u0061\u06d9\u0072\u06da\u0072\u06db\u006f\u06dc\u0077\u06dd",
+            "\u003b\u06de\u0066\u06e0\u003b\u06e1\u0065\u06e3\u0072\u06e4\u004c\u06e5\u0052\u06ef\u0065\u06e6",
+            "\u0066\u06e7\u0074\u06e8\u0041\u06e9\u0072\u06ea\u0072\u06eb\u006f\u06ec\u0077\u06ed\u003b\u06ee",
+            "\u0069\u06f0\u0067\u06f1\u0068\u06f2\u0074\u06f3\u0041\u06f4\u0072\u06f5\u0072\u06f6\u006f\u06f7",
+            "\u0077\u06f8\u003b\u06f9\u0063\u06fb\u0068\u06fe\u0074\u0700\u0072\u06fc\u003b\u06fd\u003b\u06ff",
+            "\u0072\u0701\u006f\u0702\u006b\u0703\u003b\u0704\u003b\u0706\u0061\u0708\u0063\u070b\u0065\u070e",
+            "\u0066\u0721\u0069\u0724\u006f\u072d\u0073\u0731\u0075\u0735\u0070\u0709\u003b\u070a\u0079\u070c",
+            "\u003b\u070d\u0064\u070f\u006c\u0719\u0069\u0710\u0075\u0711\u006d\u0712\u0053\u0713\u0070\u0714",
+            "\u0061\u0715\u0063\u0716\u0065\u0717\u003b\u0718\u006c\u071a\u0069\u071b\u006e\u071c\u0074\u071d",
+            "\u0072\u071e\u0066\u071f\u003b\u0720\u0072\u0722\u003b\u0723\u006e\u0725\u0075\u0726\u0073\u0727",
+            "\u0050\u0728\u006c\u0729\u0075\u072a\u0073\u072b\u003b\u072c\u0070\u072e\u0066\u072f\u003b\u0730",
+            "\u0063\u0732\u0072\u0733\u003b\u0734\u003b\u0736\u004a\u0738\u0061\u073c\u0063\u0742\u0065\u074f",
+            "\u0066\u07a4\u006f\u07a7\u0073\u0961\u0074\u0965\u0075\u096b\u0063\u0739\u0079\u073a\u003b\u073b",
+            "\u0063\u073d\u0075\u073e\u0074\u073f\u0065\u0740\u003b\u0741\u0061\u0743\u0065\u0748\u0079\u074d",
+            "\u0072\u0744\u006f\u0745\u006e\u0746\u003b\u0747\u0064\u0749\u0069\u074a\u006c\u074b\u003b\u074c",
+            "\u003b\u074e\u0067\u0750\u0073\u0782\u0077\u079e\u0061\u0751\u0074\u0752\u0069\u0753\u0076\u0754",
+            "\u0065\u0755\u004d\u0756\u0054\u0762\u0056\u0774\u0065\u0757\u0064\u0758\u0069\u0759\u0075\u075a",
+            "\u006d\u075b\u0053\u075c\u0070\u075d\u0061\u075e\u0063\u075f\u0065\u0760\u003b\u0761\u0068\u0763",
+            "\u0069\u0764\u0063\u0765\u006e\u076d\u006b\u0766\u0053\u0767\u0070\u0768\u0061\u0769\u0063\u076a",
+            "\u0065\u076b\u003b\u076c\u0053\u076e\u0070\u076f\u0061\u0770\u0063\u0771\u0065\u0772\u003b\u0773",
+            "\u0065\u0775\u0072\u0776\u0079\u0777\u0054\u0778\u0068\u0779\u0069\u077a\u006e\u077b\u0053\u077c",
+            "\u0070\u077d\u0061\u077e\u0063\u077f\u0065\u0780\u003b\u0781\u0074\u0783\u0065\u0784\u0064\u0785",
+            "\u0047\u0786\u004c\u0795\u0072\u0787\u0065\u0788\u0061\u0789\u0074\u078a\u0065\u078b\u0072\u078c",
+            "\u0047\u078d\u0072\u078e\u0065\u078f\u0061\u0790\u0074\u0791\u0065\u0792\u0072\u0793\u003b\u0794",
+            "\u0065\u0796\u0073\u0797\u0073\u0798\u004c\u0799\u0065\u079a\u0073\u079b\u0073\u079c\u003b\u079d",
+            "\u004c\u079f\u0069\u07a0\u006e\u07a1\u0065\u07a2\u003b\u07a3\u0072\u07a5\u003b\u07a6\u0042\u07a8",
+            "\u006e\u07ae\u0070\u07bd\u0074\u07c0\u0072\u07a9\u0065\u07aa\u0061\u07ab\u006b\u07ac\u003b\u07ad",
+            "\u0042\u07af\u0072\u07b0\u0065\u07b1\u0061\u07b2\u006b\u07b3\u0069\u07b4\u006e\u07b5\u0067\u07b6",
+            "\u0053\u07b7\u0070\u07b8\u0061\u07b9\u0063\u07ba\u0065\u07bb\u003b\u07bc\u0066\u07be\u003b\u07bf",
+            "\u003b\u07c1\u0043\u07c2\u0044\u07d2\u0045\u07e4\u0047\u07fd\u0048\u0833\u004c\u0846\u004e\u0884",
+            "\u0050\u08a2\u0052\u08bc\u0053\u08e2\u0054\u0939\u0056\u0955\u006f\u07c3\u0075\u07cc\u006e\u07c4",
+            "\u0067\u07c5\u0072\u07c6\u0075\u07c7\u0065\u07c8\u006e\u07c9\u0074\u07ca\u003b\u07cb\u0070\u07cd",
+            "\u0043\u07ce\u0061\u07cf\u0070\u07d0\u003b\u07d1\u006f\u07d3\u0075\u07d4\u0062\u07d5\u006c\u07d6",
+            "\u0065\u07d7\u0056\u07d8\u0065\u07d9\u0072\u07da\u0074\u07db\u0069\u07dc\u0063\u07dd\u0061\u07de",
+            "\u006c\u07df\u0042\u07e0\u0061\u07e1\u0072\u07e2\u003b\u07e3\u006c\u07e5\u0071\u07ec\u0078\u07f7",
+            "\u0065\u07e6\u006d\u07e7\u0065\u07e8\u006e\u07e9\u0074\u07ea\u003b\u07eb\u0075\u07ed\u0061\u07ee",
+            "\u006c\u07ef\u003b\u07f0\u0054\u07f1\u0069\u07f2\u006c\u07f3\u0064\u07f4\u0065\u07f5\u003b\u07f6",
+            "\u0069\u07f8\u0073\u07f9\u0074\u07fa\u0073\u07fb\u003b\u07fc\u0072\u07fe\u0065\u07ff\u0061\u0800",
+            "\u0074\u0801\u0065\u0802\u0072\u0803\u003b\u0804\u0045\u0805\u0046\u080b\u0047\u0815\u004c\u081d",
+            "\u0053\u0822\u0054\u082d\u0071\u0806\u0075\u0807\u0061\u0808\u006c\u0809\u003b\u080a\u0075\u080c",
+            "\u006c\u080d\u006c\u080e\u0045\u080f\u0071\u0810\u0075\u0811\u0061\u0812\u006c\u0813\u003b\u0814",
+            "\u0072\u0816\u0065\u0817\u0061\u0818\u0074\u0819\u0065\u081a\u0072\u081b\u003b\u081c\u0065\u081e",
+            "\u0073\u081f\u0073\u0820\u003b\u0821\u006c\u0823\u0061\u0824\u006e\u0825\u0074\u0826\u0045\u0827",
+            "\u0071\u0828\u0075\u0829\u0061\u082a\u006c\u082b\u003b\u082c\u0069\u082e\u006c\u082f\u0064\u0830",
+            "\u0065\u0831\u003b\u0832\u0075\u0834\u006d\u0835\u0070\u0836\u0044\u0837\u0045\u0840\u006f\u0838",
+            "\u0077\u0839\u006e\u083a\u0048\u083b\u0075\u083c\u006d\u083d\u0070\u083e\u003b\u083f\u0071\u0841",
+            "\u0075\u0842\u0061\u0843\u006c\u0844\u003b\u0845\u0065\u0847\u0066\u0848\u0073\u085d\u0074\u0849",
+            "\u0054\u084a\u0072\u084b\u0069\u084c\u0061\u084d\u006e\u084e\u0067\u084f\u006c\u0850\u0065\u0851",
+            "\u003b\u0852\u0042\u0853\u0045\u0857\u0061\u0854\u0072\u0855\u003b\u0856\u0071\u0858\u0075\u0859",
+            "\u0061\u085a\u006c\u085b\u003b\u085c\u0073\u085e\u003b\u085f\u0045\u0860\u0047\u0866\u004c\u086e",
+            "\u0053\u0873\u0054\u087e\u0071\u0861\u0075\u0862\u0061\u0863\u006c\u0864\u003b\u0865\u0072\u0867",
+            "\u0065\u0868\u0061\u0869\u0074\u086a\u0065\u086b\u0072\u086c\u003b\u086d\u0065\u086f\u0073\u0870",
+            "\u0073\u0871\u003b\u0872\u006c\u0874\u0061\u0875\u006e\u0876\u0074\u0877\u0045\u0878\u0071\u0879",
+            "\u0075\u087a\u0061\u087b\u006c\u087c\u003b\u087d\u0069\u087f\u006c\u0880\u0064\u0881\u0065\u0882",
+            "\u003b\u0883\u0065\u0885\u0073\u0886\u0074\u0887\u0065\u0888\u0064\u0889\u0047\u088a\u004c\u0899",
+            "\u0072\u088b\u0065\u088c\u0061\u088d\u0074\u088e\u0065\u088f\u0072\u0890\u0047\u0891\u0072\u0892",
+            "\u0065\u0893\u0061\u0894\u0074\u0895\u0065\u0896\u0072\u0897\u003b\u0898\u0065\u089a\u0073\u089b",
+            "\u0073\u089c\u004c\u089d\u0065\u089e\u0073\u089f\u0073\u08a0\u003b\u08a1\u0072\u08a3\u0065\u08a4",
+            "\u0063\u08a5\u0065\u08a6\u0064\u08a7\u0065\u08a8\u0073\u08a9\u003b\u08aa\u0045\u08ab\u0053\u08b1",
+            "\u0071\u08ac\u0075\u08ad\u0061\u08ae\u006c\u08af\u003b\u08b0\u006c\u08b2\u0061\u08b3\u006e\u08b4",
+            "\u0074\u08b5\u0045\u08b6\u0071\u08b7\u0075\u08b8\u0061\u08b9\u006c\u08ba\u003b\u08bb\u0065\u08bd",
+            "\u0069\u08cb\u0076\u08be\u0065\u08bf\u0072\u08c0\u0073\u08c1\u0065\u08c2\u0045\u08c3\u006c\u08c4",
+            "\u0065\u08c5\u006d\u08c6\u0065\u08c7\u006e\u08c8\u0074\u08c9\u003b\u08ca\u0067\u08cc\u0068\u08cd",
+            "\u0074\u08ce\u0054\u08cf\u0072\u08d0\u0069\u08d1\u0061\u08d2\u006e\u08d3\u0067\u08d4\u006c\u08d5",
+            "\u0065\u08d6\u003b\u08d7\u0042\u08d8\u0045\u08dc\u0061\u08d9\u0072\u08da\u003b\u08db\u0071\u08dd",
+            "\u0075\u08de\u0061\u08df\u006c\u08e0\u003b\u08e1\u0071\u08e3\u0075\u0902\u0075\u08e4\u0061\u08e5",
+            "\u0072\u08e6\u0065\u08e7\u0053\u08e8\u0075\u08e9\u0062\u08ea\u0070\u08f5\u0073\u08eb\u0065\u08ec",
+            "\u0074\u08ed\u003b\u08ee\u0045\u08ef\u0071\u08f0\u0075\u08f1\u0061\u08f2\u006c\u08f3\u003b\u08f4",
+            "\u0065\u08f6\u0072\u08f7\u0073\u08f8\u0065\u08f9\u0074\u08fa\u003b\u08fb\u0045\u08fc\u0071\u08fd",
+            "\u0075\u08fe\u0061\u08ff\u006c\u0900\u003b\u0901\u0062\u0903\u0063\u090e\u0070\u092c\u0073\u0904",
+            "\u0065\u0905\u0074\u0906\u003b\u0907\u0045\u0908\u0071\u0909\u0075\u090a\u0061\u090b\u006c\u090c",
+            "\u003b\u090d\u0063\u090f\u0065\u0910\u0065\u0911\u0064\u0912\u0073\u0913\u003b\u0914\u0045\u0915",
+            "\u0053\u091b\u0054\u0926\u0071\u0916\u0075\u0917\u0061\u0918\u006c\u0919\u003b\u091a\u006c\u091c",
+            "\u0061\u091d\u006e\u091e\u0074\u091f\u0045\u0920\u0071\u0921\u0075\u0922\u0061\u0923\u006c\u0924",
+            "\u003b\u0925\u0069\u0927\u006c\u0928\u0064\u0929\u0065\u092a\u003b\u092b\u0065\u092d\u0072\u092e",
+            "\u0073\u092f\u0065\u0930\u0074\u0931\u003b\u0932\u0045\u0933\u0071\u0934\u0075\u0935\u0061\u0936",
+            "\u006c\u0937\u003b\u0938\u0069\u093a\u006c\u093b\u0064\u093c\u0065\u093d\u003b\u093e\u0045\u093f",
+            "\u0046\u0945\u0054\u094f\u0071\u0940\u0075\u0941\u0061\u0942\u006c\u0943\u003b\u0944\u0075\u0946",
+            "\u006c\u0947\u006c\u0948\u0045\u0949\u0071\u094a\u0075\u094b\u0061\u094c\u006c\u094d\u003b\u094e",
+            "\u0069\u0950\u006c\u0951\u0064\u0952\u0065\u0953\u003b\u0954\u0065\u0956\u0072\u0957\u0074\u0958",
+            "\u0069\u0959\u0063\u095a\u0061\u095b\u006c\u095c\u0042\u095d\u0061\u095e\u0072\u095f\u003b\u0960",
+            "\u0063\u0962\u0072\u0963\u003b\u0964\u0069\u0966\u006c\u0967\u0064\u0968\u0065\u0969\u003b\u096a",
+            "\u003b\u096c\u0045\u096e\u0061\u0973\u0063\u0979\u0064\u0980\u0066\u0986\u0067\u0989\u006d\u098f",
+            "\u006f\u099e\u0070\u09a2\u0072\u09bc\u0073\u09be\u0074\u09c7\u0075\u09d1\u0076\u09d5\u006c\u096f",
+            "\u0069\u0970\u0067\u0971\u003b\u0972\u0063\u0974\u0075\u0975\u0074\u0976\u0065\u0977\u003b\u0978",
+            "\u0069\u097a\u0079\u097e\u0072\u097b\u0063\u097c\u003b\u097d\u003b\u097f\u0062\u0981\u006c\u0982",
+            "\u0061\u0983\u0063\u0984\u003b\u0985\u0072\u0987\u003b\u0988\u0072\u098a\u0061\u098b\u0076\u098c",
+            "\u0065\u098d\u003b\u098e\u0061\u0990\u0065\u0994\u0069\u0998\u0063\u0991\u0072\u0992\u003b\u0993",
+            "\u0067\u0995\u0061\u0996\u003b\u0997\u0063\u0999\u0072\u099a\u006f\u099b\u006e\u099c\u003b\u099d",
+            "\u0070\u099f\u0066\u09a0\u003b\u09a1\u0065\u09a3\u006e\u09a4\u0043\u09a5\u0075\u09a6\u0072\u09a7",
+            "\u006c\u09a8\u0079\u09a9\u0044\u09aa\u0051\u09b6\u006f\u09ab\u0075\u09ac\u0062\u09ad\u006c\u09ae",
+            "\u0065\u09af\u0051\u09b0\u0075\u09b1\u006f\u09b2\u0074\u09b3\u0065\u09b4\u003b\u09b5\u0075\u09b7",
+            "\u006f\u09b8\u0074\u09b9\u0065\u09ba\u003b\u09bb\u003b\u09bd\u0063\u09bf\u006c\u09c2\u0072\u09c0",
+            "\u003b\u09c1\u0061\u09c3\u0073\u09c4\u0068\u09c5\u003b\u09c6\u0069\u09c8\u006c\u09c9\u006d\u09cd",
+            "\u0064\u09ca\u0065\u09cb\u003b\u09cc\u0065\u09ce\u0073\u09cf\u003b\u09d0\u006d\u09d2\u006c\u09d3",
+            "\u003b\u09d4\u0065\u09d6\u0072\u09d7\u0042\u09d8\u0050\u09e5\u0061\u09d9\u0072\u09dc\u0072\u09da",
+            "\u003b\u09db\u0061\u09dd\u0063\u09de\u0065\u09df\u006b\u09e1\u003b\u09e0\u0065\u09e2\u0074\u09e3",
+            "\u003b\u09e4\u0061\u09e6\u0072\u09e7\u0065\u09e8\u006e\u09e9\u0074\u09ea\u0068\u09eb\u0065\u09ec",
+            "\u0073\u09ed\u0069\u09ee\u0073\u09ef\u003b\u09f0\u0061\u09f2\u0063\u09fa\u0066\u09fd\u0068\u0a00",
+            "\u0069\u0a03\u006c\u0a05\u006f\u0a0e\u0072\u0a1e\u0073\u0a53\u0072\u09f3\u0074\u09f4\u0069\u09f5",
+            "\u0061\u09f6\u006c\u09f7\u0044\u09f8\u003b\u09f9\u0079\u09fb\u003b\u09fc\u0072\u09fe\u003b\u09ff",
+            "\u0069\u0a01\u003b\u0a02\u003b\u0a04\u0075\u0a06\u0073\u0a07\u004d\u0a08\u0069\u0a09\u006e\u0a0a",
+            "\u0075\u0a0b\u0073\u0a0c\u003b\u0a0d\u0069\u0a0f\u0070\u0a1b\u006e\u0a10\u0063\u0a11\u0061\u0a12",
+            "\u0072\u0a13\u0065\u0a14\u0070\u0a15\u006c\u0a16\u0061\u0a17\u006e\u0a18\u0065\u0a19\u003b\u0a1a",
+            "\u0066\u0a1c\u003b\u0a1d\u003b\u0a1f\u0065\u0a20\u0069\u0a3e\u006f\u0a42\u0063\u0a21\u0065\u0a22",
+            "\u0064\u0a23\u0065\u0a24\u0073\u0a25\u003b\u0a26\u0045\u0a27\u0053\u0a2d\u0054\u0a38\u0071\u0a28",
+            "\u0075\u0a29\u0061\u0a2a\u006c\u0a2b\u003b\u0a2c\u006c\u0a2e\u0061\u0a2f\u006e\u0a30\u0074\u0a31",
+            "\u0045\u0a32\u0071\u0a33\u0075\u0a34\u0061\u0a35\u006c\u0a36\u003b\u0a37\u0069\u0a39\u006c\u0a3a",
+            "\u0064\u0a3b\u0065\u0a3c\u003b\u0a3d\u006d\u0a3f\u0065\u0a40\u003b\u0a41\u0064\u0a43\u0070\u0a48",
+            "\u0075\u0a44\u0063\u0a45\u0074\u0a46\u003b\u0a47\u006f\u0a49\u0072\u0a4a\u0074\u0a4b\u0069\u0a4c",
+            "\u006f\u0a4d\u006e\u0a4e\u003b\u0a4f\u0061\u0a50\u006c\u0a51\u003b\u0a52\u0063\u0a54\u0069\u0a57",
+            "\u0072\u0a55\u003b\u0a56\u003b\u0a58\u0055\u0a5a\u0066\u0a5e\u006f\u0a61\u0073\u0a65\u004f\u0a5b",
+            "\u0054\u0a5c\u003b\u0a5d\u0072\u0a5f\u003b\u0a60\u0070\u0a62\u0066\u0a63\u003b\u0a64\u0063\u0a66",
+            "\u0072\u0a67\u003b\u0a68\u0042\u0a6a\u0045\u0a6f\u0061\u0a72\u0063\u0a81\u0065\u0a8e\u0066\u0ab6",
+            "\u0068\u0ab9\u0069\u0abc\u006f\u0b69\u0072\u0b78\u0073\u0b83\u0075\u0b89\u0061\u0a6b\u0072\u0a6c",
+            "\u0072\u0a6d\u003b\u0a6e\u0047\u0a70\u003b\u0a71\u0063\u0a73\u006e\u0a78\u0072\u0a7b\u0075\u0a74",
+            "\u0074\u0a75\u0065\u0a76\u003b\u0a77\u0067\u0a79\u003b\u0a7a\u0072\u0a7c\u003b\u0a7d\u0074\u0a7e",
+            "\u006c\u0a7f\u003b\u0a80\u0061\u0a82\u0065\u0a87\u0079\u0a8c\u0072\u0a83\u006f\u0a84\u006e\u0a85",
+            "\u003b\u0a86\u0064\u0a88\u0069\u0a89\u006c\u0a8a\u003b\u0a8b\u003b\u0a8d\u003b\u0a8f\u0076\u0a90",
+            "\u0065\u0a91\u0072\u0a92\u0073\u0a93\u0065\u0a94\u0045\u0a95\u0055\u0aa8\u006c\u0a96\u0071\u0a9d",
+            "\u0065\u0a97\u006d\u0a98\u0065\u0a99\u006e\u0a9a\u0074\u0a9b\u003b\u0a9c\u0075\u0a9e\u0069\u0a9f",
+            "\u006c\u0aa0\u0069\u0aa1\u0062\u0aa2\u0072\u0aa3\u0069\u0aa4\u0075\u0aa5\u006d\u0aa6\u003b\u0aa7",
+            "\u0070\u0aa9\u0045\u0aaa\u0071\u0aab\u0075\u0aac\u0069\u0aad\u006c\u0aae\u0069\u0aaf\u0062\u0ab0",
+            "\u0072\u0ab1\u0069\u0ab2\u0075\u0ab3\u006d\u0ab4\u003b\u0ab5\u0072\u0ab7\u003b\u0ab8\u006f\u0aba",
+            "\u003b\u0abb\u0067\u0abd\u0068\u0abe\u0074\u0abf\u0041\u0ac0\u0043\u0ae0\u0044\u0ae8\u0046\u0b0d",
+            "\u0054\u0b13\u0055\u0b36\u0056\u0b58\u0061\u0b63\u006e\u0ac1\u0072\u0acd\u0067\u0ac2\u006c\u0ac3",
+            "\u0065\u0ac4\u0042\u0ac5\u0072\u0ac6\u0061\u0ac7\u0063\u0ac8\u006b\u0ac9\u0065\u0aca\u0074\u0acb",
+            "\u003b\u0acc\u0072\u0ace\u006f\u0acf\u0077\u0ad0\u003b\u0ad1\u0042\u0ad2\u004c\u0ad6\u0061\u0ad3",
+            "\u0072\u0ad4\u003b\u0ad5\u0065\u0ad7\u0066\u0ad8\u0074\u0ad9\u0041\u0ada\u0072\u0adb\u0072\u0adc",
+            "\u006f\u0add\u0077\u0ade\u003b\u0adf\u0065\u0ae1\u0069\u0ae2\u006c\u0ae3\u0069\u0ae4\u006e\u0ae5",
+            "\u0067\u0ae6\u003b\u0ae7\u006f\u0ae9\u0075\u0aea\u0077\u0af6\u0062\u0aeb\u006c\u0aec\u0065\u0aed",
+            "\u0042\u0aee\u0072\u0aef\u0061\u0af0\u0063\u0af1\u006b\u0af2\u0065\u0af3\u0074\u0af4\u003b\u0af5",
+            "\u006e\u0af7\u0054\u0af8\u0056\u0b02\u0065\u0af9\u0065\u0afa\u0056\u0afb\u0065\u0afc\u0063\u0afd",
+            "\u0074\u0afe\u006f\u0aff\u0072\u0b00\u003b\u0b01\u0065\u0b03\u0063\u0b04\u0074\u0b05\u006f\u0b06",
+            "\u0072\u0b07\u003b\u0b08\u0042\u0b09\u0061\u0b0a\u0072\u0b0b\u003b\u0b0c\u006c\u0b0e\u006f\u0b0f",
+            "\u006f\u0b10\u0072\u0b11\u003b\u0b12\u0065\u0b14\u0072\u0b24\u0065\u0b15\u003b\u0b16\u0041\u0b17",
+            "\u0056\u0b1d\u0072\u0b18\u0072\u0b19\u006f\u0b1a\u0077\u0b1b\u003b\u0b1c\u0065\u0b1e\u0063\u0b1f",
+            "\u0074\u0b20\u006f\u0b21\u0072\u0b22\u003b\u0b23\u0069\u0b25\u0061\u0b26\u006e\u0b27\u0067\u0b28",
+            "\u006c\u0b29\u0065\u0b2a\u003b\u0b2b\u0042\u0b2c\u0045\u0b30\u0061\u0b2d\u0072\u0b2e\u003b\u0b2f",
+            "\u0071\u0b31\u0075\u0b32\u0061\u0b33\u006c\u0b34\u003b\u0b35\u0070\u0b37\u0044\u0b38\u0054\u0b43",
+            "\u0056\u0b4d\u006f\u0b39\u0077\u0b3a\u006e\u0b3b\u0056\u0b3c\u0065\u0b3d\u0063\u0b3e\u0074\u0b3f",
+            "\u006f\u0b40\u0072\u0b41\u003b\u0b42\u0065\u0b44\u0065\u0b45\u0056\u0b46\u0065\u0b47\u0063\u0b48",
+            "\u0074\u0b49\u006f\u0b4a\u0072\u0b4b\u003b\u0b4c\u0065\u0b4e\u0063\u0b4f\u0074\u0b50\u006f\u0b51",
+            "\u0072\u0b52\u003b\u0b53\u0042\u0b54\u0061\u0b55\u0072\u0b56\u003b\u0b57\u0065\u0b59\u0063\u0b5a",
+            "\u0074\u0b5b\u006f\u0b5c\u0072\u0b5d\u003b\u0b5e\u0042\u0b5f\u0061\u0b60\u0072\u0b61\u003b\u0b62",
+            "\u0072\u0b64\u0072\u0b65\u006f\u0b66\u0077\u0b67\u003b\u0b68\u0070\u0b6a\u0075\u0b6d\u0066\u0b6b",
+            "\u003b\u0b6c\u006e\u0b6e\u0064\u0b6f\u0049\u0b70\u006d\u0b71\u0070\u0b72\u006c\u0b73\u0069\u0b74",
+            "\u0065\u0b75\u0073\u0b76\u003b\u0b77\u0069\u0b79\u0067\u0b7a\u0068\u0b7b\u0074\u0b7c\u0061\u0b7d",
+            "\u0072\u0b7e\u0072\u0b7f\u006f\u0b80\u0077\u0b81\u003b\u0b82\u0063\u0b84\u0068\u0b87\u0072\u0b85",
+            "\u003b\u0b86\u003b\u0b88\u006c\u0b8a\u0065\u0b8b\u0044\u0b8c\u0065\u0b8d\u006c\u0b8e\u0061\u0b8f",
+            "\u0079\u0b90\u0065\u0b91\u0064\u0b92\u003b\u0b93\u0048\u0b95\u004f\u0b9e\u0061\u0ba4\u0063\u0baa",
+            "\u0066\u0bbc\u0068\u0bbf\u0069\u0bea\u006d\u0bef\u006f\u0bfa\u0071\u0bfe\u0073\u0c34\u0074\u0c38",
+            "\u0075\u0c3c\u0043\u0b96\u0063\u0b9b\u0048\u0b97\u0063\u0b98\u0079\u0b99\u003b\u0b9a\u0079\u0b9c",
+            "\u003b\u0b9d\u0046\u0b9f\u0054\u0ba0\u0063\u0ba1\u0079\u0ba2\u003b\u0ba3\u0063\u0ba5\u0075\u0ba6",
+            "\u0074\u0ba7\u0065\u0ba8\u003b\u0ba9\u003b\u0bab\u0061\u0bac\u0065\u0bb1\u0069\u0bb6\u0079\u0bba",
+            "\u0072\u0bad\u006f\u0bae\u006e\u0baf\u003b\u0bb0\u0064\u0bb2\u0069\u0bb3\u006c\u0bb4\u003b\u0bb5",
+            "\u0072\u0bb7\u0063\u0bb8\u003b\u0bb9\u003b\u0bbb\u0072\u0bbd\u003b\u0bbe\u006f\u0bc0\u0072\u0bc1",
+            "\u0074\u0bc2\u0044\u0bc3\u004c\u0bcd\u0052\u0bd7\u0055\u0be2\u006f\u0bc4\u0077\u0bc5\u006e\u0bc6",
+            "\u0041\u0bc7\u0072\u0bc8\u0072\u0bc9\u006f\u0bca\u0077\u0bcb\u003b\u0bcc\u0065\u0bce\u0066\u0bcf",
+            "\u0074\u0bd0\u0041\u0bd1\u0072\u0bd2\u0072\u0bd3\u006f\u0bd4\u0077\u0bd5\u003b\u0bd6\u0069\u0bd8",
+            "\u0067\u0bd9\u0068\u0bda\u0074\u0bdb\u0041\u0bdc\u0072\u0bdd\u0072\u0bde\u006f\u0bdf\u0077\u0be0",
+            "\u003b\u0be1\u0070\u0be3\u0041\u0be4\u0072\u0be5\u0072\u0be6\u006f\u0be7\u0077\u0be8\u003b\u0be9",
+            "\u0067\u0beb\u006d\u0bec\u0061\u0bed\u003b\u0bee\u0061\u0bf0\u006c\u0bf1\u006c\u0bf2\u0043\u0bf3",
+            "\u0069\u0bf4\u0072\u0bf5\u0063\u0bf6\u006c\u0bf7\u0065\u0bf8\u003b\u0bf9\u0070\u0bfb\u0066\u0bfc",
+            "\u003b\u0bfd\u0072\u0bff\u0075\u0c02\u0074\u0c00\u003b\u0c01\u0061\u0c03\u0072\u0c04\u0065\u0c05",
+            "\u003b\u0c06\u0049\u0c07\u0053\u0c14\u0055\u0c2e\u006e\u0c08\u0074\u0c09\u0065\u0c0a\u0072\u0c0b",
+            "\u0073\u0c0c\u0065\u0c0d\u0063\u0c0e\u0074\u0c0f\u0069\u0c10\u006f\u0c11\u006e\u0c12\u003b\u0c13",
+            "\u0075\u0c15\u0062\u0c16\u0070\u0c21\u0073\u0c17\u0065\u0c18\u0074\u0c19\u003b\u0c1a\u0045\u0c1b",
+            "\u0071\u0c1c\u0075\u0c1d\u0061\u0c1e\u006c\u0c1f\u003b\u0c20\u0065\u0c22\u0072\u0c23\u0073\u0c24",
+            "\u0065\u0c25\u0074\u0c26\u003b\u0c27\u0045\u0c28\u0071\u0c29\u0075\u0c2a\u0061\u0c2b\u006c\u0c2c",
+            "\u003b\u0c2d\u006e\u0c2f\u0069\u0c30\u006f\u0c31\u006e\u0c32\u003b\u0c33\u0063\u0c35\u0072\u0c36",
+            "\u003b\u0c37\u0061\u0c39\u0072\u0c3a\u003b\u0c3b\u0062\u0c3d\u0063\u0c49\u006d\u0c6d\u0070\u0c6f",
+            "\u003b\u0c3e\u0073\u0c3f\u0065\u0c40\u0074\u0c41\u003b\u0c42\u0045\u0c43\u0071\u0c44\u0075\u0c45",
+            "\u0061\u0c46\u006c\u0c47\u003b\u0c48\u0063\u0c4a\u0068\u0c67\u0065\u0c4b\u0065\u0c4c\u0064\u0c4d",
+            "\u0073\u0c4e\u003b\u0c4f\u0045\u0c50\u0053\u0c56\u0054\u0c61\u0071\u0c51\u0075\u0c52\u0061\u0c53",
+            "\u006c\u0c54\u003b\u0c55\u006c\u0c57\u0061\u0c58\u006e\u0c59\u0074\u0c5a\u0045\u0c5b\u0071\u0c5c",
+            "\u0075\u0c5d\u0061\u0c5e\u006c\u0c5f\u003b\u0c60\u0069\u0c62\u006c\u0c63\u0064\u0c64\u0065\u0c65",
+            "\u003b\u0c66\u0054\u0c68\u0068\u0c69\u0061\u0c6a\u0074\u0c6b\u003b\u0c6c\u003b\u0c6e\u003b\u0c70",
+            "\u0065\u0c71\u0073\u0c7d\u0072\u0c72\u0073\u0c73\u0065\u0c74\u0074\u0c75\u003b\u0c76\u0045\u0c77",
+            "\u0071\u0c78\u0075\u0c79\u0061\u0c7a\u006c\u0c7b\u003b\u0c7c\u0065\u0c7e\u0074\u0c7f\u003b\u0c80",
+            "\u0048\u0c82\u0052\u0c87\u0053\u0c8c\u0061\u0c94\u0063\u0c99\u0066\u0ca6\u0068\u0ca9\u0069\u0cc5",
+            "\u006f\u0ce0\u0072\u0ce4\u0073\u0ced\u004f\u0c83\u0052\u0c84\u004e\u0c85\u003b\u0c86\u0041\u0c88",
+            "\u0044\u0c89\u0045\u0c8a\u003b\u0c8b\u0048\u0c8d\u0063\u0c91\u0063\u0c8e\u0079\u0c8f\u003b\u0c90",
+            "\u0079\u0c92\u003b\u0c93\u0062\u0c95\u0075\u0c97\u003b\u0c96\u003b\u0c98\u0061\u0c9a\u0065\u0c9f",
+            "\u0079\u0ca4\u0072\u0c9b\u006f\u0c9c\u006e\u0c9d\u003b\u0c9e\u0064\u0ca0\u0069\u0ca1\u006c\u0ca2",
+            "\u003b\u0ca3\u003b\u0ca5\u0072\u0ca7\u003b\u0ca8\u0065\u0caa\u0069\u0cb5\u0072\u0cab\u0074\u0cb2",
+            "\u0065\u0cac\u0066\u0cad\u006f\u0cae\u0072\u0caf\u0065\u0cb0\u003b\u0cb1\u0061\u0cb3\u003b\u0cb4",
+            "\u0063\u0cb6\u006e\u0cbe\u006b\u0cb7\u0053\u0cb8\u0070\u0cb9\u0061\u0cba\u0063\u0cbb\u0065\u0cbc",
+            "\u003b\u0cbd\u0053\u0cbf\u0070\u0cc0\u0061\u0cc1\u0063\u0cc2\u0065\u0cc3\u003b\u0cc4\u006c\u0cc6",
+            "\u0064\u0cc7\u0065\u0cc8\u003b\u0cc9\u0045\u0cca\u0046\u0cd0\u0054\u0cda\u0071\u0ccb\u0075\u0ccc",
+            "\u0061\u0ccd\u006c\u0cce\u003b\u0ccf\u0075\u0cd1\u006c\u0cd2\u006c\u0cd3\u0045\u0cd4\u0071\u0cd5",
+            "\u0075\u0cd6\u0061\u0cd7\u006c\u0cd8\u003b\u0cd9\u0069\u0cdb\u006c\u0cdc\u0064\u0cdd\u0065\u0cde",
+            "\u003b\u0cdf\u0070\u0ce1\u0066\u0ce2\u003b\u0ce3\u0069\u0ce5\u0070\u0ce6\u006c\u0ce7\u0065\u0ce8",
+            "\u0044\u0ce9\u006f\u0cea\u0074\u0ceb\u003b\u0cec\u0063\u0cee\u0074\u0cf1\u0072\u0cef\u003b\u0cf0",
+            "\u0072\u0cf2\u006f\u0cf3\u006b\u0cf4\u003b\u0cf5\u0061\u0cf7\u0062\u0d05\u0063\u0d0e\u0064\u0d15",
+            "\u0066\u0d1b\u0067\u0d1e\u006d\u0d24\u006e\u0d29\u006f\u0d4f\u0070\u0d57\u0072\u0dbb\u0073\u0dc0",
+            "\u0074\u0dc4\u0075\u0dca\u0063\u0cf8\u0072\u0cfd\u0075\u0cf9\u0074\u0cfa\u0065\u0cfb\u003b\u0cfc",
+            "\u0072\u0cfe\u003b\u0cff\u006f\u0d00\u0063\u0d01\u0069\u0d02\u0072\u0d03\u003b\u0d04\u0072\u0d06",
+            "\u0063\u0d07\u0065\u0d0a\u0079\u0d08\u003b\u0d09\u0076\u0d0b\u0065\u0d0c\u003b\u0d0d\u0069\u0d0f",
+            "\u0079\u0d13\u0072\u0d10\u0063\u0d11\u003b\u0d12\u003b\u0d14\u0062\u0d16\u006c\u0d17\u0061\u0d18",
+            "\u0063\u0d19\u003b\u0d1a\u0072\u0d1c\u003b\u0d1d\u0072\u0d1f\u0061\u0d20\u0076\u0d21\u0065\u0d22",
+            "\u003b\u0d23\u0061\u0d25\u0063\u0d26\u0072\u0d27\u003b\u0d28\u0064\u0d2a\u0069\u0d46\u0065\u0d2b",
+            "\u0072\u0d2c\u0042\u0d2d\u0050\u0d3a\u0061\u0d2e\u0072\u0d31\u0072\u0d2f\u003b\u0d30\u0061\u0d32",
+            "\u0063\u0d33\u0065\u0d34\u006b\u0d36\u003b\u0d35\u0065\u0d37\u0074\u0d38\u003b\u0d39\u0061\u0d3b",
+            "\u0072\u0d3c\u0065\u0d3d\u006e\u0d3e\u0074\u0d3f\u0068\u0d40\u0065\u0d41\u0073\u0d42\u0069\u0d43",
+            "\u0073\u0d44\u003b\u0d45\u006f\u0d47\u006e\u0d48\u003b\u0d49\u0050\u0d4a\u006c\u0d4b\u0075\u0d4c",
+            "\u0073\u0d4d\u003b\u0d4e\u0067\u0d50\u0070\u0d54\u006f\u0d51\u006e\u0d52\u003b\u0d53\u0066\u0d55",
+            "\u003b\u0d56\u0041\u0d58\u0044\u0d6c\u0045\u0d76\u0054\u0d82\u0061\u0d8c\u0064\u0d92\u0070\u0d9c",
+            "\u0073\u0db4\u0072\u0d59\u0072\u0d5a\u006f\u0d5b\u0077\u0d5c\u003b\u0d5d\u0042\u0d5e\u0044\u0d62",
+            "\u0061\u0d5f\u0072\u0d60\u003b\u0d61\u006f\u0d63\u0077\u0d64\u006e\u0d65\u0041\u0d66\u0072\u0d67",
+            "\u0072\u0d68\u006f\u0d69\u0077\u0d6a\u003b\u0d6b\u006f\u0d6d\u0077\u0d6e\u006e\u0d6f\u0041\u0d70",
+            "\u0072\u0d71\u0072\u0d72\u006f\u0d73\u0077\u0d74\u003b\u0d75\u0071\u0d77\u0075\u0d78\u0069\u0d79",
+            "\u006c\u0d7a\u0069\u0d7b\u0062\u0d7c\u0072\u0d7d\u0069\u0d7e\u0075\u0d7f\u006d\u0d80\u003b\u0d81",
+            "\u0065\u0d83\u0065\u0d84\u003b\u0d85\u0041\u0d86\u0072\u0d87\u0072\u0d88\u006f\u0d89\u0077\u0d8a",
+            "\u003b\u0d8b\u0072\u0d8d\u0072\u0d8e\u006f\u0d8f\u0077\u0d90\u003b\u0d91\u006f\u0d93\u0077\u0d94",
+            "\u006e\u0d95\u0061\u0d96\u0072\u0d97\u0072\u0d98\u006f\u0d99\u0077\u0d9a\u003b\u0d9b\u0065\u0d9d",
+            "\u0072\u0d9e\u004c\u0d9f\u0052\u0da9\u0065\u0da0\u0066\u0da1\u0074\u0da2\u0041\u0da3\u0072\u0da4",
+            "\u0072\u0da5\u006f\u0da6\u0077\u0da7\u003b\u0da8\u0069\u0daa\u0067\u0dab\u0068\u0dac\u0074\u0dad",
+            "\u0041\u0dae\u0072\u0daf\u0072\u0db0\u006f\u0db1\u0077\u0db2\u003b\u0db3\u0069\u0db5\u003b\u0db6",
+            "\u006c\u0db7\u006f\u0db8\u006e\u0db9\u003b\u0dba\u0069\u0dbc\u006e\u0dbd\u0067\u0dbe\u003b\u0dbf",
+            "\u0063\u0dc1\u0072\u0dc2\u003b\u0dc3\u0069\u0dc5\u006c\u0dc6\u0064\u0dc7\u0065\u0dc8\u003b\u0dc9",
+            "\u006d\u0dcb\u006c\u0dcc\u003b\u0dcd\u0044\u0dcf\u0062\u0dd4\u0063\u0dd8\u0064\u0ddb\u0065\u0de2",
+            "\u0066\u0e14\u006f\u0e17\u0073\u0e1b\u0076\u0e1f\u0061\u0dd0\u0073\u0dd1\u0068\u0dd2\u003b\u0dd3",
+            "\u0061\u0dd5\u0072\u0dd6\u003b\u0dd7\u0079\u0dd9\u003b\u0dda\u0061\u0ddc\u0073\u0ddd\u0068\u0dde",
+            "\u003b\u0ddf\u006c\u0de0\u003b\u0de1\u0065\u0de3\u0072\u0de5\u003b\u0de4\u0062\u0de6\u0074\u0dea",
+            "\u0079\u0e09\u0061\u0de7\u0072\u0de8\u003b\u0de9\u003b\u0deb\u0069\u0dec\u0063\u0ded\u0061\u0dee",
+            "\u006c\u0def\u0042\u0df0\u004c\u0df4\u0053\u0df9\u0054\u0e03\u0061\u0df1\u0072\u0df2\u003b\u0df3",
+            "\u0069\u0df5\u006e\u0df6\u0065\u0df7\u003b\u0df8\u0065\u0dfa\u0070\u0dfb\u0061\u0dfc\u0072\u0dfd",
+            "\u0061\u0dfe\u0074\u0dff\u006f\u0e00\u0072\u0e01\u003b\u0e02\u0069\u0e04\u006c\u0e05\u0064\u0e06",
+            "\u0065\u0e07\u003b\u0e08\u0054\u0e0a\u0068\u0e0b\u0069\u0e0c\u006e\u0e0d\u0053\u0e0e\u0070\u0e0f",
+            "\u0061\u0e10\u0063\u0e11\u0065\u0e12\u003b\u0e13\u0072\u0e15\u003b\u0e16\u0070\u0e18\u0066\u0e19",
+            "\u003b\u0e1a\u0063\u0e1c\u0072\u0e1d\u003b\u0e1e\u0064\u0e20\u0061\u0e21\u0073\u0e22\u0068\u0e23",
+            "\u003b\u0e24\u0063\u0e26\u0065\u0e2b\u0066\u0e30\u006f\u0e33\u0073\u0e37\u0069\u0e27\u0072\u0e28",
+            "\u0063\u0e29\u003b\u0e2a\u0064\u0e2c\u0067\u0e2d\u0065\u0e2e\u003b\u0e2f\u0072\u0e31\u003b\u0e32",
+            "\u0070\u0e34\u0066\u0e35\u003b\u0e36\u0063\u0e38\u0072\u0e39\u003b\u0e3a\u0066\u0e3c\u0069\u0e3f",
+            "\u006f\u0e41\u0073\u0e45\u0072\u0e3d\u003b\u0e3e\u003b\u0e40\u0070\u0e42\u0066\u0e43\u003b\u0e44",
+            "\u0063\u0e46\u0072\u0e47\u003b\u0e48\u0041\u0e4a\u0049\u0e4e\u0055\u0e52\u0061\u0e56\u0063\u0e5c",
+            "\u0066\u0e63\u006f\u0e66\u0073\u0e6a\u0075\u0e6e\u0063\u0e4b\u0079\u0e4c\u003b\u0e4d\u0063\u0e4f",
+            "\u0079\u0e50\u003b\u0e51\u0063\u0e53\u0079\u0e54\u003b\u0e55\u0063\u0e57\u0075\u0e58\u0074\u0e59",
+            "\u0065\u0e5a\u003b\u0e5b\u0069\u0e5d\u0079\u0e61\u0072\u0e5e\u0063\u0e5f\u003b\u0e60\u003b\u0e62",
+            "\u0072\u0e64\u003b\u0e65\u0070\u0e67\u0066\u0e68\u003b\u0e69\u0063\u0e6b\u0072\u0e6c\u003b\u0e6d",
+            "\u006d\u0e6f\u006c\u0e70\u003b\u0e71\u0048\u0e73\u0061\u0e77\u0063\u0e7d\u0064\u0e85\u0065\u0e89",
+            "\u0066\u0e9a\u006f\u0e9d\u0073\u0ea1\u0063\u0e74\u0079\u0e75\u003b\u0e76\u0063\u0e78\u0075\u0e79",
+            "\u0074\u0e7a\u0065\u0e7b\u003b\u0e7c\u0061\u0e7e\u0079\u0e83\u0072\u0e7f\u006f\u0e80\u006e\u0e81",
+            "\u003b\u0e82\u003b\u0e84\u006f\u0e86\u0074\u0e87\u003b\u0e88\u0072\u0e8a\u0074\u0e97\u006f\u0e8b",
+            "\u0057\u0e8c\u0069\u0e8d\u0064\u0e8e\u0074\u0e8f\u0068\u0e90\u0053\u0e91\u0070\u0e92\u0061\u0e93",
+            "\u0063\u0e94\u0065\u0e95\u003b\u0e96\u0061\u0e98\u003b\u0e99\u0072\u0e9b\u003b\u0e9c\u0070\u0e9e",
+            "\u0066\u0e9f\u003b\u0ea0\u0063\u0ea2\u0072\u0ea3\u003b\u0ea4\u0061\u0ea6\u0062\u0eac\u0063\u0eb2",
+            "\u0065\u0ec2\u0066\u0ec7\u0067\u0ecb\u006c\u0ed1\u006d\u0edf\u006e\u0ee9\u006f\u0f29\u0070\u0f31",
+            "\u0072\u0f4a\u0073\u0f4f\u0074\u0f5c\u0075\u0f62\u0077\u0f66\u0063\u0ea7\u0075\u0ea8\u0074\u0ea9",
+            "\u0065\u0eaa\u003b\u0eab\u0072\u0ead\u0065\u0eae\u0076\u0eaf\u0065\u0eb0\u003b\u0eb1\u003b\u0eb3",
+            "\u0045\u0eb4\u0064\u0eb6\u0069\u0eb8\u0075\u0ebc\u0079\u0ec0\u003b\u0eb5\u003b\u0eb7\u0072\u0eb9",
+            "\u0063\u0eba\u003b\u0ebb\u0074\u0ebd\u0065\u0ebe\u003b\u0ebf\u003b\u0ec1\u006c\u0ec3\u0069\u0ec4",
+            "\u0067\u0ec5\u003b\u0ec6\u003b\u0ec8\u0072\u0ec9\u003b\u0eca\u0072\u0ecc\u0061\u0ecd\u0076\u0ece",
+            "\u0065\u0ecf\u003b\u0ed0\u0065\u0ed2\u0070\u0edb\u0066\u0ed3\u0070\u0ed8\u0073\u0ed4\u0079\u0ed5",
+            "\u006d\u0ed6\u003b\u0ed7\u0068\u0ed9\u003b\u0eda\u0068\u0edc\u0061\u0edd\u003b\u0ede\u0061\u0ee0",
+            "\u0070\u0ee7\u0063\u0ee1\u006c\u0ee4\u0072\u0ee2\u003b\u0ee3\u0067\u0ee5\u003b\u0ee6\u003b\u0ee8",
+            "\u0064\u0eea\u0067\u0efa\u003b\u0eeb\u0061\u0eec\u0064\u0ef0\u0073\u0ef2\u0076\u0ef8\u006e\u0eed",
+            "\u0064\u0eee\u003b\u0eef\u003b\u0ef1\u006c\u0ef3\u006f\u0ef4\u0070\u0ef5\u0065\u0ef6\u003b\u0ef7",
+            "\u003b\u0ef9\u003b\u0efb\u0065\u0efc\u006c\u0efe\u006d\u0f01\u0072\u0f16\u0073\u0f1e\u007a\u0f24",
+            "\u003b\u0efd\u0065\u0eff\u003b\u0f00\u0073\u0f02\u0064\u0f03\u003b\u0f04\u0061\u0f05\u0061\u0f06",
+            "\u0062\u0f08\u0063\u0f0a\u0064\u0f0c\u0065\u0f0e\u0066\u0f10\u0067\u0f12\u0068\u0f14\u003b\u0f07",
+            "\u003b\u0f09\u003b\u0f0b\u003b\u0f0d\u003b\u0f0f\u003b\u0f11\u003b\u0f13\u003b\u0f15\u0074\u0f17",
+            "\u003b\u0f18\u0076\u0f19\u0062\u0f1a\u003b\u0f1b\u0064\u0f1c\u003b\u0f1d\u0070\u0f1f\u0074\u0f22",
+            "\u0068\u0f20\u003b\u0f21\u003b\u0f23\u0061\u0f25\u0072\u0f26\u0072\u0f27\u003b\u0f28\u0067\u0f2a",
+            "\u0070\u0f2e\u006f\u0f2b\u006e\u0f2c\u003b\u0f2d\u0066\u0f2f\u003b\u0f30\u003b\u0f32\u0045\u0f33",
+            "\u0061\u0f35\u0065\u0f3a\u0069\u0f3c\u006f\u0f3f\u0070\u0f42\u003b\u0f34\u0063\u0f36\u0069\u0f37",
+            "\u0072\u0f38\u003b\u0f39\u003b\u0f3b\u0064\u0f3d\u003b\u0f3e\u0073\u0f40\u003b\u0f41\u0072\u0f43",
+            "\u006f\u0f44\u0078\u0f45\u003b\u0f46\u0065\u0f47\u0071\u0f48\u003b\u0f49\u0069\u0f4b\u006e\u0f4c",
+            "\u0067\u0f4d\u003b\u0f4e\u0063\u0f50\u0074\u0f53\u0079\u0f55\u0072\u0f51\u003b\u0f52\u003b\u0f54",
+            "\u006d\u0f56\u0070\u0f57\u003b\u0f58\u0065\u0f59\u0071\u0f5a\u003b\u0f5b\u0069\u0f5d\u006c\u0f5e",
+            "\u0064\u0f5f\u0065\u0f60\u003b\u0f61\u006d\u0f63\u006c\u0f64\u003b\u0f65\u0063\u0f67\u0069\u0f6e",
+            "\u006f\u0f68\u006e\u0f69\u0069\u0f6a\u006e\u0f6b\u0074\u0f6c\u003b\u0f6d\u006e\u0f6f\u0074\u0f70",
+            "\u003b\u0f71\u004e\u0f73\u0061\u0f77\u0062\u0fa0\u0063\u0fa9\u0064\u0fb0\u0065\u0fb5\u0066\u0fd6",
+            "\u0069\u0fd9\u006b\u1020\u006c\u1026\u006e\u1062\u006f\u106d\u0070\u10e6\u0072\u10ec\u0073\u10f6",
+            "\u0075\u110d\u006f\u0f74\u0074\u0f75\u003b\u0f76\u0063\u0f78\u0072\u0f94\u006b\u0f79\u0063\u0f7a",
+            "\u0065\u0f7f\u0070\u0f87\u0073\u0f8d\u006f\u0f7b\u006e\u0f7c\u0067\u0f7d\u003b\u0f7e\u0070\u0f80",
+            "\u0073\u0f81\u0069\u0f82\u006c\u0f83\u006f\u0f84\u006e\u0f85\u003b\u0f86\u0072\u0f88\u0069\u0f89",
+            "\u006d\u0f8a\u0065\u0f8b\u003b\u0f8c\u0069\u0f8e\u006d\u0f8f\u003b\u0f90\u0065\u0f91\u0071\u0f92",
+            "\u003b\u0f93\u0076\u0f95\u0077\u0f99\u0065\u0f96\u0065\u0f97\u003b\u0f98\u0065\u0f9a\u0064\u0f9b",
+            "\u003b\u0f9c\u0067\u0f9d\u0065\u0f9e\u003b\u0f9f\u0072\u0fa1\u006b\u0fa2\u003b\u0fa3\u0074\u0fa4",
+            "\u0062\u0fa5\u0072\u0fa6\u006b\u0fa7\u003b\u0fa8\u006f\u0faa\u0079\u0fae\u006e\u0fab\u0067\u0fac",
+            "\u003b\u0fad\u003b\u0faf\u0071\u0fb1\u0075\u0fb2\u006f\u0fb3\u003b\u0fb4\u0063\u0fb6\u006d\u0fbd",
+            "\u0070\u0fc3\u0072\u0fc7\u0074\u0fcc\u0061\u0fb7\u0075\u0fb8\u0073\u0fb9\u003b\u0fba\u0065\u0fbb",
+            "\u003b\u0fbc\u0070\u0fbe\u0074\u0fbf\u0079\u0fc0\u0076\u0fc1\u003b\u0fc2\u0073\u0fc4\u0069\u0fc5",
+            "\u003b\u0fc6\u006e\u0fc8\u006f\u0fc9\u0075\u0fca\u003b\u0fcb\u0061\u0fcd\u0068\u0fcf\u0077\u0fd1",
+            "\u003b\u0fce\u003b\u0fd0\u0065\u0fd2\u0065\u0fd3\u006e\u0fd4\u003b\u0fd5\u0072\u0fd7\u003b\u0fd8",
+            "\u0067\u0fda\u0063\u0fdb\u006f\u0fe6\u0073\u0ff6\u0074\u1000\u0075\u1010\u0076\u1016\u0077\u101a",
+            "\u0061\u0fdc\u0069\u0fdf\u0075\u0fe3\u0070\u0fdd\u003b\u0fde\u0072\u0fe0\u0063\u0fe1\u003b\u0fe2",
+            "\u0070\u0fe4\u003b\u0fe5\u0064\u0fe7\u0070\u0feb\u0074\u0ff0\u006f\u0fe8\u0074\u0fe9\u003b\u0fea",
+            "\u006c\u0fec\u0075\u0fed\u0073\u0fee\u003b\u0fef\u0069\u0ff1\u006d\u0ff2\u0065\u0ff3\u0073\u0ff4",
+            "\u003b\u0ff5\u0071\u0ff7\u0074\u0ffc\u0063\u0ff8\u0075\u0ff9\u0070\u0ffa\u003b\u0ffb\u0061\u0ffd",
+            "\u0072\u0ffe\u003b\u0fff\u0072\u1001\u0069\u1002\u0061\u1003\u006e\u1004\u0067\u1005\u006c\u1006",
+            "\u0065\u1007\u0064\u1008\u0075\u100d\u006f\u1009\u0077\u100a\u006e\u100b\u003b\u100c\u0070\u100e",
+            "\u003b\u100f\u0070\u1011\u006c\u1012\u0075\u1013\u0073\u1014\u003b\u1015\u0065\u1017\u0065\u1018",
+            "\u003b\u1019\u0065\u101b\u0064\u101c\u0067\u101d\u0065\u101e\u003b\u101f\u0061\u1021\u0072\u1022",
+            "\u006f\u1023\u0077\u1024\u003b\u1025\u0061\u1027\u006b\u1055\u006f\u105e\u0063\u1028\u006e\u1052",
+            "\u006b\u1029\u006c\u102a\u0073\u1032\u0074\u1039\u006f\u102b\u007a\u102c\u0065\u102d\u006e\u102e",
+            "\u0067\u102f\u0065\u1030\u003b\u1031\u0071\u1033\u0075\u1034\u0061\u1035\u0072\u1036\u0065\u1037",
+            "\u003b\u1038\u0072\u103a\u0069\u103b\u0061\u103c\u006e\u103d\u0067\u103e\u006c\u103f\u0065\u1040",
+            "\u003b\u1041\u0064\u1042\u006c\u1047\u0072\u104c\u006f\u1043\u0077\u1044\u006e\u1045\u003b\u1046",
+            "\u0065\u1048\u0066\u1049\u0074\u104a\u003b\u104b\u0069\u104d\u0067\u104e\u0068\u104f\u0074\u1050",
+            "\u003b\u1051\u006b\u1053\u003b\u1054\u0031\u1056\u0033\u105b\u0032\u1057\u0034\u1059\u003b\u1058",
+            "\u003b\u105a\u0034\u105c\u003b\u105d\u0063\u105f\u006b\u1060\u003b\u1061\u0065\u1063\u006f\u106a",
+            "\u003b\u1064\u0071\u1065\u0075\u1066\u0069\u1067\u0076\u1068\u003b\u1069\u0074\u106b\u003b\u106c",
+            "\u0070\u106e\u0074\u1071\u0077\u1077\u0078\u107c\u0066\u106f\u003b\u1070\u003b\u1072\u0074\u1073",
+            "\u006f\u1074\u006d\u1075\u003b\u1076\u0074\u1078\u0069\u1079\u0065\u107a\u003b\u107b\u0044\u107d",
+            "\u0048\u1086\u0055\u1090\u0056\u1099\u0062\u10a7\u0064\u10ab\u0068\u10b4\u006d\u10be\u0070\u10c4",
+            "\u0074\u10c9\u0075\u10cf\u0076\u10d8\u004c\u107e\u0052\u1080\u006c\u1082\u0072\u1084\u003b\u107f",
+            "\u003b\u1081\u003b\u1083\u003b\u1085\u003b\u1087\u0044\u1088\u0055\u108a\u0064\u108c\u0075\u108e",
+            "\u003b\u1089\u003b\u108b\u003b\u108d\u003b\u108f\u004c\u1091\u0052\u1093\u006c\u1095\u0072\u1097",
+            "\u003b\u1092\u003b\u1094\u003b\u1096\u003b\u1098\u003b\u109a\u0048\u109b\u004c\u109d\u0052\u109f",
+            "\u0068\u10a1\u006c\u10a3\u0072\u10a5\u003b\u109c\u003b\u109e\u003b\u10a0\u003b\u10a2\u003b\u10a4",
+            "\u003b\u10a6\u006f\u10a8\u0078\u10a9\u003b\u10aa\u004c\u10ac\u0052\u10ae\u006c\u10b0\u0072\u10b2",
+            "\u003b\u10ad\u003b\u10af\u003b\u10b1\u003b\u10b3\u003b\u10b5\u0044\u10b6\u0055\u10b8\u0064\u10ba",
+            "\u0075\u10bc\u003b\u10b7\u003b\u10b9\u003b\u10bb\u003b\u10bd\u0069\u10bf\u006e\u10c0\u0075\u10c1",
+            "\u0073\u10c2\u003b\u10c3\u006c\u10c5\u0075\u10c6\u0073\u10c7\u003b\u10c8\u0069\u10ca\u006d\u10cb",
+            "\u0065\u10cc\u0073\u10cd\u003b\u10ce\u004c\u10d0\u0052\u10d2\u006c\u10d4\u0072\u10d6\u003b\u10d1",
+            "\u003b\u10d3\u003b\u10d5\u003b\u10d7\u003b\u10d9\u0048\u10da\u004c\u10dc\u0052\u10de\u0068\u10e0",
+            "\u006c\u10e2\u0072\u10e4\u003b\u10db\u003b\u10dd\u003b\u10df\u003b\u10e1\u003b\u10e3\u003b\u10e5",
+            "\u0072\u10e7\u0069\u10e8\u006d\u10e9\u0065\u10ea\u003b\u10eb\u0065\u10ed\u0076\u10f1\u0076\u10ee",
+            "\u0065\u10ef\u003b\u10f0\u0062\u10f2\u0061\u10f3\u0072\u10f4\u003b\u10f5\u0063\u10f7\u0065\u10fa",
+            "\u0069\u10fe\u006f\u1103\u0072\u10f8\u003b\u10f9\u006d\u10fb\u0069\u10fc\u003b\u10fd\u006d\u10ff",
+            "\u003b\u1100\u0065\u1101\u003b\u1102\u006c\u1104\u003b\u1105\u0062\u1106\u0068\u1108\u003b\u1107",
+            "\u0073\u1109\u0075\u110a\u0062\u110b\u003b\u110c\u006c\u110e\u006d\u1114\u006c\u110f\u003b\u1110",
+            "\u0065\u1111\u0074\u1112\u003b\u1113\u0070\u1115\u003b\u1116\u0045\u1117\u0065\u1119\u003b\u1118",
+            "\u003b\u111a\u0071\u111b\u003b\u111c\u0061\u111e\u0063\u1144\u0064\u115d\u0065\u1161\u0066\u1175",
+            "\u0068\u1178\u0069\u1187\u006c\u11c7\u006f\u11d0\u0072\u1206\u0073\u120f\u0074\u121c\u0075\u1221",
+            "\u0077\u128d\u0079\u1299\u0063\u111f\u0070\u1124\u0072\u113d\u0075\u1120\u0074\u1121\u0065\u1122",
+            "\u003b\u1123\u003b\u1125\u0061\u1126\u0062\u112a\u0063\u1130\u0064\u1137\u0073\u113b\u006e\u1127",
+            "\u0064\u1128\u003b\u1129\u0072\u112b\u0063\u112c\u0075\u112d\u0070\u112e\u003b\u112f\u0061\u1131",
+            "\u0075\u1134\u0070\u1132\u003b\u1133\u0070\u1135\u003b\u1136\u006f\u1138\u0074\u1139\u003b\u113a",
+            "\u003b\u113c\u0065\u113e\u006f\u1141\u0074\u113f\u003b\u1140\u006e\u1142\u003b\u1143\u0061\u1145",
+            "\u0065\u114d\u0069\u1152\u0075\u1156\u0070\u1146\u0072\u1149\u0073\u1147\u003b\u1148\u006f\u114a",
+            "\u006e\u114b\u003b\u114c\u0064\u114e\u0069\u114f\u006c\u1150\u003b\u1151\u0072\u1153\u0063\u1154",
+            "\u003b\u1155\u0070\u1157\u0073\u1158\u003b\u1159\u0073\u115a\u006d\u115b\u003b\u115c\u006f\u115e",
+            "\u0074\u115f\u003b\u1160\u0064\u1162\u006d\u1166\u006e\u116c\u0069\u1163\u006c\u1164\u003b\u1165",
+            "\u0070\u1167\u0074\u1168\u0079\u1169\u0076\u116a\u003b\u116b\u0074\u116d\u003b\u116e\u0065\u116f",
+            "\u0072\u1170\u0064\u1171\u006f\u1172\u0074\u1173\u003b\u1174\u0072\u1176\u003b\u1177\u0063\u1179",
+            "\u0065\u117c\u0069\u1185\u0079\u117a\u003b\u117b\u0063\u117d\u006b\u117e\u003b\u117f\u006d\u1180",
+            "\u0061\u1181\u0072\u1182\u006b\u1183\u003b\u1184\u003b\u1186\u0072\u1188\u003b\u1189\u0045\u118a",
+            "\u0063\u118c\u0065\u11b6\u0066\u11b8\u006d\u11be\u0073\u11c2\u003b\u118b\u003b\u118d\u0065\u118e",
+            "\u006c\u1191\u0071\u118f\u003b\u1190\u0065\u1192\u0061\u1193\u0064\u11a3\u0072\u1194\u0072\u1195",
+            "\u006f\u1196\u0077\u1197\u006c\u1198\u0072\u119d\u0065\u1199\u0066\u119a\u0074\u119b\u003b\u119c",
+            "\u0069\u119e\u0067\u119f\u0068\u11a0\u0074\u11a1\u003b\u11a2\u0052\u11a4\u0053\u11a6\u0061\u11a8",
+            "\u0063\u11ac\u0064\u11b1\u003b\u11a5\u003b\u11a7\u0073\u11a9\u0074\u11aa\u003b\u11ab\u0069\u11ad",
+            "\u0072\u11ae\u0063\u11af\u003b\u11b0\u0061\u11b2\u0073\u11b3\u0068\u11b4\u003b\u11b5\u003b\u11b7",
+            "\u006e\u11b9\u0069\u11ba\u006e\u11bb\u0074\u11bc\u003b\u11bd\u0069\u11bf\u0064\u11c0\u003b\u11c1",
+            "\u0063\u11c3\u0069\u11c4\u0072\u11c5\u003b\u11c6\u0075\u11c8\u0062\u11c9\u0073\u11ca\u003b\u11cb",
+            "\u0075\u11cc\u0069\u11cd\u0074\u11ce\u003b\u11cf\u006c\u11d1\u006d\u11d9\u006e\u11ef\u0070\u11fa",
+            "\u006f\u11d2\u006e\u11d3\u003b\u11d4\u0065\u11d5\u003b\u11d6\u0071\u11d7\u003b\u11d8\u006d\u11da",
+            "\u0070\u11df\u0061\u11db\u003b\u11dc\u0074\u11dd\u003b\u11de\u003b\u11e0\u0066\u11e1\u006c\u11e4",
+            "\u006e\u11e2\u003b\u11e3\u0065\u11e5\u006d\u11e6\u0078\u11eb\u0065\u11e7\u006e\u11e8\u0074\u11e9",
+            "\u003b\u11ea\u0065\u11ec\u0073\u11ed\u003b\u11ee\u0067\u11f0\u0069\u11f6\u003b\u11f1\u0064\u11f2",
+            "\u006f\u11f3\u0074\u11f4\u003b\u11f5\u006e\u11f7\u0074\u11f8\u003b\u11f9\u0066\u11fb\u0072\u11fd",
+            "\u0079\u1201\u003b\u11fc\u006f\u11fe\u0064\u11ff\u003b\u1200\u003b\u1202\u0073\u1203\u0072\u1204",
+            "\u003b\u1205\u0061\u1207\u006f\u120b\u0072\u1208\u0072\u1209\u003b\u120a\u0073\u120c\u0073\u120d",
+            "\u003b\u120e\u0063\u1210\u0075\u1213\u0072\u1211\u003b\u1212\u0062\u1214\u0070\u1218\u003b\u1215",
+            "\u0065\u1216\u003b\u1217\u003b\u1219\u0065\u121a\u003b\u121b\u0064\u121d\u006f\u121e\u0074\u121f",
+            "\u003b\u1220\u0064\u1222\u0065\u122a\u006c\u1231\u0070\u1238\u0072\u1250\u0076\u1285\u0077\u1289",
+            "\u0061\u1223\u0072\u1224\u0072\u1225\u006c\u1226\u0072\u1228\u003b\u1227\u003b\u1229\u0070\u122b",
+            "\u0073\u122e\u0072\u122c\u003b\u122d\u0063\u122f\u003b\u1230\u0061\u1232\u0072\u1233\u0072\u1234",
+            "\u003b\u1235\u0070\u1236\u003b\u1237\u003b\u1239\u0062\u123a\u0063\u1240\u0064\u1247\u006f\u124b",
+            "\u0073\u124e\u0072\u123b\u0063\u123c\u0061\u123d\u0070\u123e\u003b\u123f\u0061\u1241\u0075\u1244",
+            "\u0070\u1242\u003b\u1243\u0070\u1245\u003b\u1246\u006f\u1248\u0074\u1249\u003b\u124a\u0072\u124c",
+            "\u003b\u124d\u003b\u124f\u0061\u1251\u006c\u1257\u0072\u126f\u0076\u1273\u0072\u1252\u0072\u1253",
+            "\u003b\u1254\u006d\u1255\u003b\u1256\u0079\u1258\u0065\u1259\u0076\u1265\u0077\u1269\u0071\u125a",
+            "\u0070\u125b\u0073\u1260\u0072\u125c\u0065\u125d\u0063\u125e\u003b\u125f\u0075\u1261\u0063\u1262",
+            "\u0063\u1263\u003b\u1264\u0065\u1266\u0065\u1267\u003b\u1268\u0065\u126a\u0064\u126b\u0067\u126c",
+            "\u0065\u126d\u003b\u126e\u0065\u1270\u006e\u1271\u003b\u1272\u0065\u1274\u0061\u1275\u0072\u1276",
+            "\u0072\u1277\u006f\u1278\u0077\u1279\u006c\u127a\u0072\u127f\u0065\u127b\u0066\u127c\u0074\u127d",
+            "\u003b\u127e\u0069\u1280\u0067\u1281\u0068\u1282\u0074\u1283\u003b\u1284\u0065\u1286\u0065\u1287",
+            "\u003b\u1288\u0065\u128a\u0064\u128b\u003b\u128c\u0063\u128e\u0069\u1295\u006f\u128f\u006e\u1290",
+            "\u0069\u1291\u006e\u1292\u0074\u1293\u003b\u1294\u006e\u1296\u0074\u1297\u003b\u1298\u006c\u129a",
+            "\u0063\u129b\u0074\u129c\u0079\u129d\u003b\u129e\u0041\u12a0\u0048\u12a4\u0061\u12a8\u0062\u12bb",
+            "\u0063\u12c6\u0064\u12ce\u0065\u12df\u0066\u12ec\u0068\u12f4\u0069\u12fb\u006a\u1328\u006c\u132c",
+            "\u006f\u1336\u0072\u138c\u0073\u139d\u0074\u13ab\u0075\u13b5\u0077\u13be\u007a\u13c5\u0072\u12a1",
+            "\u0072\u12a2\u003b\u12a3\u0061\u12a5\u0072\u12a6\u003b\u12a7\u0067\u12a9\u006c\u12ae\u0072\u12b3",
+            "\u0073\u12b6\u0067\u12aa\u0065\u12ab\u0072\u12ac\u003b\u12ad\u0065\u12af\u0074\u12b0\u0068\u12b1",
+            "\u003b\u12b2\u0072\u12b4\u003b\u12b5\u0068\u12b7\u003b\u12b8\u0076\u12b9\u003b\u12ba\u006b\u12bc",
+            "\u006c\u12c2\u0061\u12bd\u0072\u12be\u006f\u12bf\u0077\u12c0\u003b\u12c1\u0061\u12c3\u0063\u12c4",
+            "\u003b\u12c5\u0061\u12c7\u0079\u12cc\u0072\u12c8\u006f\u12c9\u006e\u12ca\u003b\u12cb\u003b\u12cd",
+            "\u003b\u12cf\u0061\u12d0\u006f\u12d9\u0067\u12d1\u0072\u12d6\u0067\u12d2\u0065\u12d3\u0072\u12d4",
+            "\u003b\u12d5\u0072\u12d7\u003b\u12d8\u0074\u12da\u0073\u12db\u0065\u12dc\u0071\u12dd\u003b\u12de",
+            "\u0067\u12e0\u006c\u12e2\u006d\u12e6\u003b\u12e1\u0074\u12e3\u0061\u12e4\u003b\u12e5\u0070\u12e7",
+            "\u0074\u12e8\u0079\u12e9\u0076\u12ea\u003b\u12eb\u0069\u12ed\u0072\u12f2\u0073\u12ee\u0068\u12ef",
+            "\u0074\u12f0\u003b\u12f1\u003b\u12f3\u0061\u12f5\u0072\u12f6\u006c\u12f7\u0072\u12f9\u003b\u12f8",
+            "\u003b\u12fa\u0061\u12fc\u0065\u130a\u0067\u130c\u0073\u1312\u0076\u1316\u006d\u12fd\u003b\u12fe",
+            "\u006f\u12ff\u0073\u1308\u006e\u1300\u0064\u1301\u003b\u1302\u0073\u1303\u0075\u1304\u0069\u1305",
+            "\u0074\u1306\u003b\u1307\u003b\u1309\u003b\u130b\u0061\u130d\u006d\u130e\u006d\u130f\u0061\u1310",
+            "\u003b\u1311\u0069\u1313\u006e\u1314\u003b\u1315\u003b\u1317\u0069\u1318\u006f\u1324\u0064\u1319",
+            "\u0065\u131a\u003b\u131b\u006f\u131c\u006e\u131d\u0074\u131e\u0069\u131f\u006d\u1320\u0065\u1321",
+            "\u0073\u1322\u003b\u1323\u006e\u1325\u0078\u1326\u003b\u1327\u0063\u1329\u0079\u132a\u003b\u132b",
+            "\u0063\u132d\u006f\u132e\u0072\u1332\u0072\u132f\u006e\u1330\u003b\u1331\u006f\u1333\u0070\u1334",
+            "\u003b\u1335\u006c\u1337\u0070\u133c\u0074\u133f\u0075\u135a\u0077\u1367\u006c\u1338\u0061\u1339",
+            "\u0072\u133a\u003b\u133b\u0066\u133d\u003b\u133e\u003b\u1340\u0065\u1341\u006d\u1348\u0070\u134e",
+            "\u0073\u1353\u0071\u1342\u003b\u1343\u0064\u1344\u006f\u1345\u0074\u1346\u003b\u1347\u0069\u1349",
+            "\u006e\u134a\u0075\u134b\u0073\u134c\u003b\u134d\u006c\u134f\u0075\u1350\u0073\u1351\u003b\u1352",
+            "\u0071\u1354\u0075\u1355\u0061\u1356\u0072\u1357\u0065\u1358\u003b\u1359\u0062\u135b\u006c\u135c",
+            "\u0065\u135d\u0062\u135e\u0061\u135f\u0072\u1360\u0077\u1361\u0065\u1362\u0064\u1363\u0067\u1364",
+            "\u0065\u1365\u003b\u1366\u006e\u1368\u0061\u1369\u0064\u136f\u0068\u137a\u0072\u136a\u0072\u136b",
+            "\u006f\u136c\u0077\u136d\u003b\u136e\u006f\u1370\u0077\u1371\u006e\u1372\u0061\u1373\u0072\u1374",
+            "\u0072\u1375\u006f\u1376\u0077\u1377\u0073\u1378\u003b\u1379\u0061\u137b\u0072\u137c\u0070\u137d",
+            "\u006f\u137e\u006f\u137f\u006e\u1380\u006c\u1381\u0072\u1386\u0065\u1382\u0066\u1383\u0074\u1384",
+            "\u003b\u1385\u0069\u1387\u0067\u1388\u0068\u1389\u0074\u138a\u003b\u138b\u0062\u138d\u0063\u1394",
+            "\u006b\u138e\u0061\u138f\u0072\u1390\u006f\u1391\u0077\u1392\u003b\u1393\u006f\u1395\u0072\u1399",
+            "\u0072\u1396\u006e\u1397\u003b\u1398\u006f\u139a\u0070\u139b\u003b\u139c\u0063\u139e\u006f\u13a3",
+            "\u0074\u13a6\u0072\u139f\u0079\u13a1\u003b\u13a0\u003b\u13a2\u006c\u13a4\u003b\u13a5\u0072\u13a7",
+            "\u006f\u13a8\u006b\u13a9\u003b\u13aa\u0064\u13ac\u0072\u13b0\u006f\u13ad\u0074\u13ae\u003b\u13af",
+            "\u0069\u13b1\u003b\u13b2\u0066\u13b3\u003b\u13b4\u0061\u13b6\u0068\u13ba\u0072\u13b7\u0072\u13b8",
+            "\u003b\u13b9\u0061\u13bb\u0072\u13bc\u003b\u13bd\u0061\u13bf\u006e\u13c0\u0067\u13c1\u006c\u13c2",
+            "\u0065\u13c3\u003b\u13c4\u0063\u13c6\u0069\u13c9\u0079\u13c7\u003b\u13c8\u0067\u13ca\u0072\u13cb",
+            "\u0061\u13cc\u0072\u13cd\u0072\u13ce\u003b\u13cf\u0044\u13d1\u0061\u13d9\u0063\u13e4\u0064\u13f6",
+            "\u0065\u13fa\u0066\u13fc\u0067\u1403\u006c\u1410\u006d\u1421\u006e\u1438\u006f\u143e\u0070\u1446",
+            "\u0071\u145a\u0072\u148c\u0073\u1495\u0074\u14a0\u0075\u14a5\u0078\u14ac\u0044\u13d2\u006f\u13d6",
+            "\u006f\u13d3\u0074\u13d4\u003b\u13d5\u0074\u13d7\u003b\u13d8\u0063\u13da\u0073\u13df\u0075\u13db",
+            "\u0074\u13dc\u0065\u13dd\u003b\u13de\u0074\u13e0\u0065\u13e1\u0072\u13e2\u003b\u13e3\u0061\u13e5",
+            "\u0069\u13ea\u006f\u13ef\u0079\u13f4\u0072\u13e6\u006f\u13e7\u006e\u13e8\u003b\u13e9\u0072\u13eb",
+            "\u003b\u13ec\u0063\u13ed\u003b\u13ee\u006c\u13f0\u006f\u13f1\u006e\u13f2\u003b\u13f3\u003b\u13f5",
+            "\u006f\u13f7\u0074\u13f8\u003b\u13f9\u003b\u13fb\u0044\u13fd\u0072\u1401\u006f\u13fe\u0074\u13ff",
+            "\u003b\u1400\u003b\u1402\u003b\u1404\u0072\u1405\u0073\u140a\u0061\u1406\u0076\u1407\u0065\u1408",
+            "\u003b\u1409\u003b\u140b\u0064\u140c\u006f\u140d\u0074\u140e\u003b\u140f\u003b\u1411\u0069\u1412",
+            "\u006c\u1419\u0073\u141b\u006e\u1413\u0074\u1414\u0065\u1415\u0072\u1416\u0073\u1417\u003b\u1418",
+            "\u003b\u141a\u003b\u141c\u0064\u141d\u006f\u141e\u0074\u141f\u003b\u1420\u0061\u1422\u0070\u1426",
+            "\u0073\u1430\u0063\u1423\u0072\u1424\u003b\u1425\u0074\u1427\u0079\u1428\u003b\u1429\u0073\u142a",
+            "\u0076\u142e\u0065\u142b\u0074\u142c\u003b\u142d\u003b\u142f\u0070\u1431\u0031\u1432\u003b\u1437",
+            "\u0033\u1433\u0034\u1435\u003b\u1434\u003b\u1436\u0067\u1439\u0073\u143b\u003b\u143a\u0070\u143c",
+            "\u003b\u143d\u0067\u143f\u0070\u1443\u006f\u1440\u006e\u1441\u003b\u1442\u0066\u1444\u003b\u1445",
+            "\u0061\u1447\u006c\u144d\u0073\u1451\u0072\u1448\u003b\u1449\u0073\u144a\u006c\u144b\u003b\u144c",
+            "\u0075\u144e\u0073\u144f\u003b\u1450\u0069\u1452\u003b\u1453\u006c\u1454\u0076\u1458\u006f\u1455",
+            "\u006e\u1456\u003b\u1457\u003b\u1459\u0063\u145b\u0073\u1465\u0075\u1476\u0076\u1485\u0069\u145c",
+            "\u006f\u1460\u0072\u145d\u0063\u145e\u003b\u145f\u006c\u1461\u006f\u1462\u006e\u1463\u003b\u1464",
+            "\u0069\u1466\u006c\u1469\u006d\u1467\u003b\u1468\u0061\u146a\u006e\u146b\u0074\u146c\u0067\u146d",
+            "\u006c\u1471\u0074\u146e\u0072\u146f\u003b\u1470\u0065\u1472\u0073\u1473\u0073\u1474\u003b\u1475",
+            "\u0061\u1477\u0065\u147b\u0069\u147f\u006c\u1478\u0073\u1479\u003b\u147a\u0073\u147c\u0074\u147d",
+            "\u003b\u147e\u0076\u1480\u003b\u1481\u0044\u1482\u0044\u1483\u003b\u1484\u0070\u1486\u0061\u1487",
+            "\u0072\u1488\u0073\u1489\u006c\u148a\u003b\u148b\u0044\u148d\u0061\u1491\u006f\u148e\u0074\u148f",
+            "\u003b\u1490\u0072\u1492\u0072\u1493\u003b\u1494\u0063\u1496\u0064\u1499\u0069\u149d\u0072\u1497",
+            "\u003b\u1498\u006f\u149a\u0074\u149b\u003b\u149c\u006d\u149e\u003b\u149f\u0061\u14a1\u0068\u14a3",
+            "\u003b\u14a2\u003b\u14a4\u006d\u14a6\u0072\u14a9\u006c\u14a7\u003b\u14a8\u006f\u14aa\u003b\u14ab",
+            "\u0063\u14ad\u0069\u14b0\u0070\u14b4\u006c\u14ae\u003b\u14af\u0073\u14b1\u0074\u14b2\u003b\u14b3",
+            "\u0065\u14b5\u006f\u14be\u0063\u14b6\u0074\u14b7\u0061\u14b8\u0074\u14b9\u0069\u14ba\u006f\u14bb",
+            "\u006e\u14bc\u003b\u14bd\u006e\u14bf\u0065\u14c0\u006e\u14c1\u0074\u14c2\u0069\u14c3\u0061\u14c4",
+            "\u006c\u14c5\u0065\u14c6\u003b\u14c7\u0061\u14c9\u0063\u14d6\u0065\u14d9\u0066\u14df\u0069\u14ef",
+            "\u006a\u14f4\u006c\u14f9\u006e\u1505\u006f\u1509\u0070\u1516\u0072\u151e\u0073\u154c\u006c\u14ca",
+            "\u006c\u14cb\u0069\u14cc\u006e\u14cd\u0067\u14ce\u0064\u14cf\u006f\u14d0\u0074\u14d1\u0073\u14d2",
+            "\u0065\u14d3\u0071\u14d4\u003b\u14d5\u0079\u14d7\u003b\u14d8\u006d\u14da\u0061\u14db\u006c\u14dc",
+            "\u0065\u14dd\u003b\u14de\u0069\u14e0\u006c\u14e5\u0072\u14ed\u006c\u14e1\u0069\u14e2\u0067\u14e3",
+            "\u003b\u14e4\u0069\u14e6\u006c\u14e9\u0067\u14e7\u003b\u14e8\u0069\u14ea\u0067\u14eb\u003b\u14ec",
+            "\u003b\u14ee\u006c\u14f0\u0069\u14f1\u0067\u14f2\u003b\u14f3\u006c\u14f5\u0069\u14f6\u0067\u14f7",
+            "\u003b\u14f8\u0061\u14fa\u006c\u14fd\u0074\u1501\u0074\u14fb\u003b\u14fc\u0069\u14fe\u0067\u14ff",
+            "\u003b\u1500\u006e\u1502\u0073\u1503\u003b\u1504\u006f\u1506\u0066\u1507\u003b\u1508\u0070\u150a",
+            "\u0072\u150d\u0066\u150b\u003b\u150c\u0061\u150e\u006b\u1512\u006c\u150f\u006c\u1510\u003b\u1511",
+            "\u003b\u1513\u0076\u1514\u003b\u1515\u0061\u1517\u0072\u1518\u0074\u1519\u0069\u151a\u006e\u151b",
+            "\u0074\u151c\u003b\u151d\u0061\u151f\u006f\u1548\u0063\u1520\u0073\u1545\u0031\u1521\u0032\u152e",
+            "\u0033\u1533\u0034\u153a\u0035\u153d\u0037\u1542\u0032\u1522\u0033\u1524\u0034\u1526\u0035\u1528",
+            "\u0036\u152a\u0038\u152c\u003b\u1523\u003b\u1525\u003b\u1527\u003b\u1529\u003b\u152b\u003b\u152d",
+            "\u0033\u152f\u0035\u1531\u003b\u1530\u003b\u1532\u0034\u1534\u0035\u1536\u0038\u1538\u003b\u1535",
+            "\u003b\u1537\u003b\u1539\u0035\u153b\u003b\u153c\u0036\u153e\u0038\u1540\u003b\u153f\u003b\u1541",
+            "\u0038\u1543\u003b\u1544\u006c\u1546\u003b\u1547\u0077\u1549\u006e\u154a\u003b\u154b\u0063\u154d",
+            "\u0072\u154e\u003b\u154f\u0045\u1551\u0061\u1555\u0062\u1563\u0063\u1569\u0064\u1570\u0065\u1574",
+            "\u0066\u1594\u0067\u1597\u0069\u159b\u006a\u15a0\u006c\u15a4\u006e\u15ac\u006f\u15c1\u0072\u15c5",
+            "\u0073\u15ca\u0074\u15d5\u0076\u1611\u003b\u1552\u006c\u1553\u003b\u1554\u0063\u1556\u006d\u155b",
+            "\u0070\u1561\u0075\u1557\u0074\u1558\u0065\u1559\u003b\u155a\u006d\u155c\u0061\u155d\u003b\u155e",
+            "\u0064\u155f\u003b\u1560\u003b\u1562\u0072\u1564\u0065\u1565\u0076\u1566\u0065\u1567\u003b\u1568",
+            "\u0069\u156a\u0079\u156e\u0072\u156b\u0063\u156c\u003b\u156d\u003b\u156f\u006f\u1571\u0074\u1572",
+            "\u003b\u1573\u003b\u1575\u006c\u1576\u0071\u1578\u0073\u1582\u003b\u1577\u003b\u1579\u0071\u157a",
+            "\u0073\u157c\u003b\u157b\u006c\u157d\u0061\u157e\u006e\u157f\u0074\u1580\u003b\u1581\u003b\u1583",
+            "\u0063\u1584\u0064\u1587\u006c\u158f\u0063\u1585\u003b\u1586\u006f\u1588\u0074\u1589\u003b\u158a",
+            "\u006f\u158b\u003b\u158c\u006c\u158d\u003b\u158e\u003b\u1590\u0065\u1591\u0073\u1592\u003b\u1593",
+            "\u0072\u1595\u003b\u1596\u003b\u1598\u0067\u1599\u003b\u159a\u006d\u159c\u0065\u159d\u006c\u159e",
+            "\u003b\u159f\u0063\u15a1\u0079\u15a2\u003b\u15a3\u003b\u15a5\u0045\u15a6\u0061\u15a8\u006a\u15aa",
+            "\u003b\u15a7\u003b\u15a9\u003b\u15ab\u0045\u15ad\u0061\u15af\u0065\u15b7\u0073\u15bd\u003b\u15ae",
+            "\u0070\u15b0\u003b\u15b1\u0070\u15b2\u0072\u15b3\u006f\u15b4\u0078\u15b5\u003b\u15b6\u003b\u15b8",
+            "\u0071\u15b9\u003b\u15ba\u0071\u15bb\u003b\u15bc\u0069\u15be\u006d\u15bf\u003b\u15c0\u0070\u15c2",
+            "\u0066\u15c3\u003b\u15c4\u0061\u15c6\u0076\u15c7\u0065\u15c8\u003b\u15c9\u0063\u15cb\u0069\u15ce",
+            "\u0072\u15cc\u003b\u15cd\u006d\u15cf\u003b\u15d0\u0065\u15d1\u006c\u15d3\u003b\u15d2\u003b\u15d4",
+            "\u003b\u15d6\u0063\u15d7\u0064\u15dd\u006c\u15e1\u0071\u15e6\u0072\u15ec\u0063\u15d8\u0069\u15da",
+            "\u003b\u15d9\u0072\u15db\u003b\u15dc\u006f\u15de\u0074\u15df\u003b\u15e0\u0050\u15e2\u0061\u15e3",
+            "\u0072\u15e4\u003b\u15e5\u0075\u15e7\u0065\u15e8\u0073\u15e9\u0074\u15ea\u003b\u15eb\u0061\u15ed",
+            "\u0064\u15f7\u0065\u15fb\u006c\u1608\u0073\u160d\u0070\u15ee\u0072\u15f4\u0070\u15ef\u0072\u15f0",
+            "\u006f\u15f1\u0078\u15f2\u003b\u15f3\u0072\u15f5\u003b\u15f6\u006f\u15f8\u0074\u15f9\u003b\u15fa",
+            "\u0071\u15fc\u006c\u15fd\u0071\u1602\u0065\u15fe\u0073\u15ff\u0073\u1600\u003b\u1601\u006c\u1603",
+            "\u0065\u1604\u0073\u1605\u0073\u1606\u003b\u1607\u0065\u1609\u0073\u160a\u0073\u160b\u003b\u160c",
+            "\u0069\u160e\u006d\u160f\u003b\u1610\u0065\u1612\u006e\u161a\u0072\u1613\u0074\u1614\u006e\u1615",
+            "\u0065\u1616\u0071\u1617\u0071\u1618\u003b\u1619\u0045\u161b\u003b\u161c\u0041\u161e\u0061\u1622",
+            "\u0062\u163d\u0063\u1641\u0065\u1646\u0066\u165a\u006b\u165d\u006f\u166b\u0073\u1694\u0079\u16a2",
+            "\u0072\u161f\u0072\u1620\u003b\u1621\u0069\u1623\u006c\u1628\u006d\u162b\u0072\u1630\u0072\u1624",
+            "\u0073\u1625\u0070\u1626\u003b\u1627\u0066\u1629\u003b\u162a\u0069\u162c\u006c\u162d\u0074\u162e",
+            "\u003b\u162f\u0064\u1631\u0072\u1635\u0063\u1632\u0079\u1633\u003b\u1634\u003b\u1636\u0063\u1637",
+            "\u0077\u163b\u0069\u1638\u0072\u1639\u003b\u163a\u003b\u163c\u0061\u163e\u0072\u163f\u003b\u1640",
+            "\u0069\u1642\u0072\u1643\u0063\u1644\u003b\u1645\u0061\u1647\u006c\u1650\u0072\u1655\u0072\u1648",
+            "\u0074\u1649\u0073\u164a\u003b\u164b\u0075\u164c\u0069\u164d\u0074\u164e\u003b\u164f\u006c\u1651",
+            "\u0069\u1652\u0070\u1653\u003b\u1654\u0063\u1656\u006f\u1657\u006e\u1658\u003b\u1659\u0072\u165b",
+            "\u003b\u165c\u0073\u165e\u0065\u165f\u0077\u1665\u0061\u1660\u0072\u1661\u006f\u1662\u0077\u1663",
+            "\u003b\u1664\u0061\u1666\u0072\u1667\u006f\u1668\u0077\u1669\u003b\u166a\u0061\u166c\u006d\u1670",
+            "\u006f\u1675\u0070\u168c\u0072\u168f\u0072\u166d\u0072\u166e\u003b\u166f\u0074\u1671\u0068\u1672",
+            "\u0074\u1673\u003b\u1674\u006b\u1676\u006c\u1677\u0072\u1681\u0065\u1678\u0066\u1679\u0074\u167a",
+            "\u0061\u167b\u0072\u167c\u0072\u167d\u006f\u167e\u0077\u167f\u003b\u1680\u0069\u1682\u0067\u1683",
+            "\u0068\u1684\u0074\u1685\u0061\u1686\u0072\u1687\u0072\u1688\u006f\u1689\u0077\u168a\u003b\u168b",
+            "\u0066\u168d\u003b\u168e\u0062\u1690\u0061\u1691\u0072\u1692\u003b\u1693\u0063\u1695\u006c\u1698",
+            "\u0074\u169d\u0072\u1696\u003b\u1697\u0061\u1699\u0073\u169a\u0068\u169b\u003b\u169c\u0072\u169e",
+            "\u006f\u169f\u006b\u16a0\u003b\u16a1\u0062\u16a3\u0070\u16a8\u0075\u16a4\u006c\u16a5\u006c\u16a6",
+            "\u003b\u16a7\u0068\u16a9\u0065\u16aa\u006e\u16ab\u003b\u16ac\u0061\u16ae\u0063\u16b4\u0065\u16bc",
+            "\u0066\u16c4\u0067\u16c9\u0069\u16cf\u006a\u16e2\u006d\u16e7\u006e\u1703\u006f\u1733\u0070\u1741",
+            "\u0071\u1746\u0073\u174c\u0074\u175f\u0075\u1766\u0063\u16af\u0075\u16b0\u0074\u16b1\u0065\u16b2",
+            "\u003b\u16b3\u003b\u16b5\u0069\u16b6\u0079\u16ba\u0072\u16b7\u0063\u16b8\u003b\u16b9\u003b\u16bb",
+            "\u0063\u16bd\u0078\u16c0\u0079\u16be\u003b\u16bf\u0063\u16c1\u006c\u16c2\u003b\u16c3\u0066\u16c5",
+            "\u0072\u16c7\u003b\u16c6\u003b\u16c8\u0072\u16ca\u0061\u16cb\u0076\u16cc\u0065\u16cd\u003b\u16ce",
+            "\u003b\u16d0\u0069\u16d1\u006e\u16d9\u006f\u16de\u0069\u16d2\u006e\u16d6\u006e\u16d3\u0074\u16d4",
+            "\u003b\u16d5\u0074\u16d7\u003b\u16d8\u0066\u16da\u0069\u16db\u006e\u16dc\u003b\u16dd\u0074\u16df",
+            "\u0061\u16e0\u003b\u16e1\u006c\u16e3\u0069\u16e4\u0067\u16e5\u003b\u16e6\u0061\u16e8\u006f\u16fc",
+            "\u0070\u16ff\u0063\u16e9\u0067\u16ec\u0074\u16f9\u0072\u16ea\u003b\u16eb\u0065\u16ed\u006c\u16ef",
+            "\u0070\u16f4\u003b\u16ee\u0069\u16f0\u006e\u16f1\u0065\u16f2\u003b\u16f3\u0061\u16f5\u0072\u16f6",
+            "\u0074\u16f7\u003b\u16f8\u0068\u16fa\u003b\u16fb\u0066\u16fd\u003b\u16fe\u0065\u1700\u0064\u1701",
+            "\u003b\u1702\u003b\u1704\u0063\u1705\u0066\u170a\u006f\u1712\u0074\u1717\u0061\u1706\u0072\u1707",
+            "\u0065\u1708\u003b\u1709\u0069\u170b\u006e\u170c\u003b\u170d\u0074\u170e\u0069\u170f\u0065\u1710",
+            "\u003b\u1711\u0064\u1713\u006f\u1714\u0074\u1715\u003b\u1716\u003b\u1718\u0063\u1719\u0065\u171d",
+            "\u006c\u1728\u0070\u172e\u0061\u171a\u006c\u171b\u003b\u171c\u0067\u171e\u0072\u1723\u0065\u171f",
+            "\u0072\u1720\u0073\u1721\u003b\u1722\u0063\u1724\u0061\u1725\u006c\u1726\u003b\u1727\u0061\u1729",
+            "\u0072\u172a\u0068\u172b\u006b\u172c\u003b\u172d\u0072\u172f\u006f\u1730\u0064\u1731\u003b\u1732",
+            "\u0063\u1734\u0067\u1737\u0070\u173b\u0074\u173e\u0079\u1735\u003b\u1736\u006f\u1738\u006e\u1739",
+            "\u003b\u173a\u0066\u173c\u003b\u173d\u0061\u173f\u003b\u1740\u0072\u1742\u006f\u1743\u0064\u1744",
+            "\u003b\u1745\u0075\u1747\u0065\u1748\u0073\u1749\u0074\u174a\u003b\u174b\u0063\u174d\u0069\u1750",
+            "\u0072\u174e\u003b\u174f\u006e\u1751\u003b\u1752\u0045\u1753\u0064\u1755\u0073\u1759\u0076\u175d",
+            "\u003b\u1754\u006f\u1756\u0074\u1757\u003b\u1758\u003b\u175a\u0076\u175b\u003b\u175c\u003b\u175e",
+            "\u003b\u1760\u0069\u1761\u006c\u1762\u0064\u1763\u0065\u1764\u003b\u1765\u006b\u1767\u006d\u176b",
+            "\u0063\u1768\u0079\u1769\u003b\u176a\u006c\u176c\u003b\u176d\u0063\u176f\u0066\u1776\u006d\u1779",
+            "\u006f\u177e\u0073\u1782\u0075\u178b\u0069\u1770\u0079\u1774\u0072\u1771\u0063\u1772\u003b\u1773",
+            "\u003b\u1775\u0072\u1777\u003b\u1778\u0061\u177a\u0074\u177b\u0068\u177c\u003b\u177d\u0070\u177f",
+            "\u0066\u1780\u003b\u1781\u0063\u1783\u0065\u1786\u0072\u1784\u003b\u1785\u0072\u1787\u0063\u1788",
+            "\u0079\u1789\u003b\u178a\u006b\u178c\u0063\u178d\u0079\u178e\u003b\u178f\u0061\u1791\u0063\u1798",
+            "\u0066\u17a0\u0067\u17a3\u0068\u17a9\u006a\u17ad\u006f\u17b1\u0073\u17b5\u0070\u1792\u0070\u1793",
+            "\u0061\u1794\u003b\u1795\u0076\u1796\u003b\u1797\u0065\u1799\u0079\u179e\u0064\u179a\u0069\u179b",
+            "\u006c\u179c\u003b\u179d\u003b\u179f\u0072\u17a1\u003b\u17a2\u0072\u17a4\u0065\u17a5\u0065\u17a6",
+            "\u006e\u17a7\u003b\u17a8\u0063\u17aa\u0079\u17ab\u003b\u17ac\u0063\u17ae\u0079\u17af\u003b\u17b0",
+            "\u0070\u17b2\u0066\u17b3\u003b\u17b4\u0063\u17b6\u0072\u17b7\u003b\u17b8\u0041\u17ba\u0042\u17c7",
+            "\u0045\u17cc\u0048\u17d0\u0061\u17d4\u0062\u181e\u0063\u1837\u0064\u184a\u0065\u1863\u0066\u18f5",
+            "\u0067\u1902\u0068\u1906\u006a\u1913\u006c\u1917\u006d\u192d\u006e\u193d\u006f\u1952\u0070\u19bb",
+            "\u0072\u19c2\u0073\u19da\u0074\u19f9\u0075\u1a25\u0076\u1a32\u0061\u17bb\u0072\u17bf\u0074\u17c2",
+            "\u0072\u17bc\u0072\u17bd\u003b\u17be\u0072\u17c0\u003b\u17c1\u0061\u17c3\u0069\u17c4\u006c\u17c5",
+            "\u003b\u17c6\u0061\u17c8\u0072\u17c9\u0072\u17ca\u003b\u17cb\u003b\u17cd\u0067\u17ce\u003b\u17cf",
+            "\u0061\u17d1\u0072\u17d2\u003b\u17d3\u0063\u17d5\u0065\u17da\u0067\u17e1\u006d\u17e6\u006e\u17eb",
+            "\u0070\u17f3\u0071\u17f5\u0072\u17f9\u0074\u1814\u0075\u17d6\u0074\u17d7\u0065\u17d8\u003b\u17d9",
+            "\u006d\u17db\u0070\u17dc\u0074\u17dd\u0079\u17de\u0076\u17df\u003b\u17e0\u0072\u17e2\u0061\u17e3",
+            "\u006e\u17e4\u003b\u17e5\u0062\u17e7\u0064\u17e8\u0061\u17e9\u003b\u17ea\u0067\u17ec\u003b\u17ed",
+            "\u0064\u17ee\u006c\u17f0\u003b\u17ef\u0065\u17f1\u003b\u17f2\u003b\u17f4\u0075\u17f6\u006f\u17f7",
+            "\u003b\u17f8\u0072\u17fa\u003b\u17fb\u0062\u17fc\u0066\u1801\u0068\u1804\u006c\u1807\u0070\u180a",
+            "\u0073\u180d\u0074\u1811\u003b\u17fd\u0066\u17fe\u0073\u17ff\u003b\u1800\u0073\u1802\u003b\u1803",
+            "\u006b\u1805\u003b\u1806\u0070\u1808\u003b\u1809\u006c\u180b\u003b\u180c\u0069\u180e\u006d\u180f",
+            "\u003b\u1810\u006c\u1812\u003b\u1813\u003b\u1815\u0061\u1816\u0065\u181a\u0069\u1817\u006c\u1818",
+            "\u003b\u1819\u003b\u181b\u0073\u181c\u003b\u181d\u0061\u181f\u0062\u1823\u0072\u1827\u0072\u1820",
+            "\u0072\u1821\u003b\u1822\u0072\u1824\u006b\u1825\u003b\u1826\u0061\u1828\u006b\u182e\u0063\u1829",
+            "\u0065\u182a\u006b\u182c\u003b\u182b\u003b\u182d\u0065\u182f\u0073\u1831\u003b\u1830\u006c\u1832",
+            "\u0064\u1833\u0075\u1835\u003b\u1834\u003b\u1836\u0061\u1838\u0065\u183d\u0075\u1845\u0079\u1848",
+            "\u0072\u1839\u006f\u183a\u006e\u183b\u003b\u183c\u0064\u183e\u0069\u1842\u0069\u183f\u006c\u1840",
+            "\u003b\u1841\u006c\u1843\u003b\u1844\u0062\u1846\u003b\u1847\u003b\u1849\u0063\u184b\u0071\u184e",
+            "\u0072\u1854\u0073\u1860\u0061\u184c\u003b\u184d\u0075\u184f\u006f\u1850\u003b\u1851\u0072\u1852",
+            "\u003b\u1853\u0064\u1855\u0075\u185a\u0068\u1856\u0061\u1857\u0072\u1858\u003b\u1859\u0073\u185b",
+            "\u0068\u185c\u0061\u185d\u0072\u185e\u003b\u185f\u0068\u1861\u003b\u1862\u003b\u1864\u0066\u1865",
+            "\u0067\u18b8\u0071\u18ba\u0073\u18c4\u0074\u1866\u0061\u1867\u0068\u1872\u006c\u1881\u0072\u188c",
+            "\u0074\u18ad\u0072\u1868\u0072\u1869\u006f\u186a\u0077\u186b\u003b\u186c\u0074\u186d\u0061\u186e",
+            "\u0069\u186f\u006c\u1870\u003b\u1871\u0061\u1873\u0072\u1874\u0070\u1875\u006f\u1876\u006f\u1877",
+            "\u006e\u1878\u0064\u1879\u0075\u187e\u006f\u187a\u0077\u187b\u006e\u187c\u003b\u187d\u0070\u187f",
+            "\u003b\u1880\u0065\u1882\u0066\u1883\u0074\u1884\u0061\u1885\u0072\u1886\u0072\u1887\u006f\u1888",
+            "\u0077\u1889\u0073\u188a\u003b\u188b\u0069\u188d\u0067\u188e\u0068\u188f\u0074\u1890\u0061\u1891",
+            "\u0068\u1899\u0073\u18a2\u0072\u1892\u0072\u1893\u006f\u1894\u0077\u1895\u003b\u1896\u0073\u1897",
+            "\u003b\u1898\u0061\u189a\u0072\u189b\u0070\u189c\u006f\u189d\u006f\u189e\u006e\u189f\u0073\u18a0",
+            "\u003b\u18a1\u0071\u18a3\u0075\u18a4\u0069\u18a5\u0067\u18a6\u0061\u18a7\u0072\u18a8\u0072\u18a9",
+            "\u006f\u18aa\u0077\u18ab\u003b\u18ac\u0068\u18ae\u0072\u18af\u0065\u18b0\u0065\u18b1\u0074\u18b2",
+            "\u0069\u18b3\u006d\u18b4\u0065\u18b5\u0073\u18b6\u003b\u18b7\u003b\u18b9\u003b\u18bb\u0071\u18bc",
+            "\u0073\u18be\u003b\u18bd\u006c\u18bf\u0061\u18c0\u006e\u18c1\u0074\u18c2\u003b\u18c3\u003b\u18c5",
+            "\u0063\u18c6\u0064\u18c9\u0067\u18d1\u0073\u18d6\u0063\u18c7\u003b\u18c8\u006f\u18ca\u0074\u18cb",
+            "\u003b\u18cc\u006f\u18cd\u003b\u18ce\u0072\u18cf\u003b\u18d0\u003b\u18d2\u0065\u18d3\u0073\u18d4",
+            "\u003b\u18d5\u0061\u18d7\u0064\u18de\u0065\u18e2\u0067\u18ed\u0073\u18f1\u0070\u18d8\u0070\u18d9",
+            "\u0072\u18da\u006f\u18db\u0078\u18dc\u003b\u18dd\u006f\u18df\u0074\u18e0\u003b\u18e1\u0071\u18e3",
+            "\u0067\u18e4\u0071\u18e8\u0074\u18e5\u0072\u18e6\u003b\u18e7\u0067\u18e9\u0074\u18ea\u0072\u18eb",
+            "\u003b\u18ec\u0074\u18ee\u0072\u18ef\u003b\u18f0\u0069\u18f2\u006d\u18f3\u003b\u18f4\u0069\u18f6",
+            "\u006c\u18fb\u0072\u1900\u0073\u18f7\u0068\u18f8\u0074\u18f9\u003b\u18fa\u006f\u18fc\u006f\u18fd",
+            "\u0072\u18fe\u003b\u18ff\u003b\u1901\u003b\u1903\u0045\u1904\u003b\u1905\u0061\u1907\u0062\u190f",
+            "\u0072\u1908\u0064\u1909\u0075\u190b\u003b\u190a\u003b\u190c\u006c\u190d\u003b\u190e\u006c\u1910",
+            "\u006b\u1911\u003b\u1912\u0063\u1914\u0079\u1915\u003b\u1916\u003b\u1918\u0061\u1919\u0063\u191d",
+            "\u0068\u1924\u0074\u1929\u0072\u191a\u0072\u191b\u003b\u191c\u006f\u191e\u0072\u191f\u006e\u1920",
+            "\u0065\u1921\u0072\u1922\u003b\u1923\u0061\u1925\u0072\u1926\u0064\u1927\u003b\u1928\u0072\u192a",
+            "\u0069\u192b\u003b\u192c\u0069\u192e\u006f\u1933\u0064\u192f\u006f\u1930\u0074\u1931\u003b\u1932",
+            "\u0075\u1934\u0073\u1935\u0074\u1936\u003b\u1937\u0061\u1938\u0063\u1939\u0068\u193a\u0065\u193b",
+            "\u003b\u193c\u0045\u193e\u0061\u1940\u0065\u1948\u0073\u194e\u003b\u193f\u0070\u1941\u003b\u1942",
+            "\u0070\u1943\u0072\u1944\u006f\u1945\u0078\u1946\u003b\u1947\u003b\u1949\u0071\u194a\u003b\u194b",
+            "\u0071\u194c\u003b\u194d\u0069\u194f\u006d\u1950\u003b\u1951\u0061\u1953\u0062\u195a\u006e\u195e",
+            "\u006f\u1987\u0070\u1999\u0074\u19a3\u0077\u19a9\u007a\u19b2\u006e\u1954\u0072\u1957\u0067\u1955",
+            "\u003b\u1956\u0072\u1958\u003b\u1959\u0072\u195b\u006b\u195c\u003b\u195d\u0067\u195f\u006c\u1960",
+            "\u006d\u1975\u0072\u197c\u0065\u1961\u0066\u1962\u0074\u1963\u0061\u1964\u0072\u196a\u0072\u1965",
+            "\u0072\u1966\u006f\u1967\u0077\u1968\u003b\u1969\u0069\u196b\u0067\u196c\u0068\u196d\u0074\u196e",
+            "\u0061\u196f\u0072\u1970\u0072\u1971\u006f\u1972\u0077\u1973\u003b\u1974\u0061\u1976\u0070\u1977",
+            "\u0073\u1978\u0074\u1979\u006f\u197a\u003b\u197b\u0069\u197d\u0067\u197e\u0068\u197f\u0074\u1980",
+            "\u0061\u1981\u0072\u1982\u0072\u1983\u006f\u1984\u0077\u1985\u003b\u1986\u0070\u1988\u0061\u1989",
+            "\u0072\u198a\u0072\u198b\u006f\u198c\u0077\u198d\u006c\u198e\u0072\u1993\u0065\u198f\u0066\u1990",
+            "\u0074\u1991\u003b\u1992\u0069\u1994\u0067\u1995\u0068\u1996\u0074\u1997\u003b\u1998\u0061\u199a",
+            "\u0066\u199d\u006c\u199f\u0072\u199b\u003b\u199c\u003b\u199e\u0075\u19a0\u0073\u19a1\u003b\u19a2",
+            "\u0069\u19a4\u006d\u19a5\u0065\u19a6\u0073\u19a7\u003b\u19a8\u0061\u19aa\u0062\u19ae\u0073\u19ab",
+            "\u0074\u19ac\u003b\u19ad\u0061\u19af\u0072\u19b0\u003b\u19b1\u003b\u19b3\u0065\u19b4\u0066\u19b9",
+            "\u006e\u19b5\u0067\u19b6\u0065\u19b7\u003b\u19b8\u003b\u19ba\u0061\u19bc\u0072\u19bd\u003b\u19be",
+            "\u006c\u19bf\u0074\u19c0\u003b\u19c1\u0061\u19c3\u0063\u19c7\u0068\u19ce\u006d\u19d4\u0074\u19d6",
+            "\u0072\u19c4\u0072\u19c5\u003b\u19c6\u006f\u19c8\u0072\u19c9\u006e\u19ca\u0065\u19cb\u0072\u19cc",
+            "\u003b\u19cd\u0061\u19cf\u0072\u19d0\u003b\u19d1\u0064\u19d2\u003b\u19d3\u003b\u19d5\u0072\u19d7",
+            "\u0069\u19d8\u003b\u19d9\u0061\u19db\u0063\u19e0\u0068\u19e3\u0069\u19e5\u0071\u19ec\u0074\u19f4",
+            "\u0071\u19dc\u0075\u19dd\u006f\u19de\u003b\u19df\u0072\u19e1\u003b\u19e2\u003b\u19e4\u006d\u19e6",
+            "\u003b\u19e7\u0065\u19e8\u0067\u19ea\u003b\u19e9\u003b\u19eb\u0062\u19ed\u0075\u19ef\u003b\u19ee",
+            "\u006f\u19f0\u003b\u19f1\u0072\u19f2\u003b\u19f3\u0072\u19f5\u006f\u19f6\u006b\u19f7\u003b\u19f8",
+            "\u003b\u19fa\u0063\u19fb\u0064\u1a01\u0068\u1a05\u0069\u1a0a\u006c\u1a0f\u0071\u1a14\u0072\u1a1a",
+            "\u0063\u19fc\u0069\u19fe\u003b\u19fd\u0072\u19ff\u003b\u1a00\u006f\u1a02\u0074\u1a03\u003b\u1a04",
+            "\u0072\u1a06\u0065\u1a07\u0065\u1a08\u003b\u1a09\u006d\u1a0b\u0065\u1a0c\u0073\u1a0d\u003b\u1a0e",
+            "\u0061\u1a10\u0072\u1a11\u0072\u1a12\u003b\u1a13\u0075\u1a15\u0065\u1a16\u0073\u1a17\u0074\u1a18",
+            "\u003b\u1a19\u0050\u1a1b\u0069\u1a1f\u0061\u1a1c\u0072\u1a1d\u003b\u1a1e\u003b\u1a20\u0065\u1a21",
+            "\u0066\u1a23\u003b\u1a22\u003b\u1a24\u0072\u1a26\u0064\u1a27\u0075\u1a2d\u0073\u1a28\u0068\u1a29",
+            "\u0061\u1a2a\u0072\u1a2b\u003b\u1a2c\u0068\u1a2e\u0061\u1a2f\u0072\u1a30\u003b\u1a31\u0065\u1a33",
+            "\u006e\u1a3b\u0072\u1a34\u0074\u1a35\u006e\u1a36\u0065\u1a37\u0071\u1a38\u0071\u1a39\u003b\u1a3a",
+            "\u0045\u1a3c\u003b\u1a3d\u0044\u1a3f\u0061\u1a44\u0063\u1a69\u0064\u1a71\u0065\u1a76\u0066\u1a83",
+            "\u0068\u1a86\u0069\u1a89\u006c\u1aa6\u006e\u1aad\u006f\u1ab3\u0070\u1abc\u0073\u1abe\u0075\u1ac7",
+            "\u0044\u1a40\u006f\u1a41\u0074\u1a42\u003b\u1a43\u0063\u1a45\u006c\u1a48\u0070\u1a51\u0072\u1a64",
+            "\u0072\u1a46\u003b\u1a47\u0065\u1a49\u0074\u1a4b\u003b\u1a4a\u003b\u1a4c\u0065\u1a4d\u0073\u1a4e",
+            "\u0065\u1a4f\u003b\u1a50\u003b\u1a52\u0073\u1a53\u0074\u1a54\u006f\u1a55\u003b\u1a56\u0064\u1a57",
+            "\u006c\u1a5c\u0075\u1a61\u006f\u1a58\u0077\u1a59\u006e\u1a5a\u003b\u1a5b\u0065\u1a5d\u0066\u1a5e",
+            "\u0074\u1a5f\u003b\u1a60\u0070\u1a62\u003b\u1a63\u006b\u1a65\u0065\u1a66\u0072\u1a67\u003b\u1a68",
+            "\u006f\u1a6a\u0079\u1a6f\u006d\u1a6b\u006d\u1a6c\u0061\u1a6d\u003b\u1a6e\u003b\u1a70\u0061\u1a72",
+            "\u0073\u1a73\u0068\u1a74\u003b\u1a75\u0061\u1a77\u0073\u1a78\u0075\u1a79\u0072\u1a7a\u0065\u1a7b",
+            "\u0064\u1a7c\u0061\u1a7d\u006e\u1a7e\u0067\u1a7f\u006c\u1a80\u0065\u1a81\u003b\u1a82\u0072\u1a84",
+            "\u003b\u1a85\u006f\u1a87\u003b\u1a88\u0063\u1a8a\u0064\u1a8e\u006e\u1a9c\u0072\u1a8b\u006f\u1a8c",
+            "\u003b\u1a8d\u003b\u1a8f\u0061\u1a90\u0063\u1a94\u0064\u1a98\u0073\u1a91\u0074\u1a92\u003b\u1a93",
+            "\u0069\u1a95\u0072\u1a96\u003b\u1a97\u006f\u1a99\u0074\u1a9a\u003b\u1a9b\u0075\u1a9d\u0073\u1a9e",
+            "\u003b\u1a9f\u0062\u1aa0\u0064\u1aa2\u003b\u1aa1\u003b\u1aa3\u0075\u1aa4\u003b\u1aa5\u0063\u1aa7",
+            "\u0064\u1aaa\u0070\u1aa8\u003b\u1aa9\u0072\u1aab\u003b\u1aac\u0070\u1aae\u006c\u1aaf\u0075\u1ab0",
+            "\u0073\u1ab1\u003b\u1ab2\u0064\u1ab4\u0070\u1ab9\u0065\u1ab5\u006c\u1ab6\u0073\u1ab7\u003b\u1ab8",
+            "\u0066\u1aba\u003b\u1abb\u003b\u1abd\u0063\u1abf\u0074\u1ac2\u0072\u1ac0\u003b\u1ac1\u0070\u1ac3",
+            "\u006f\u1ac4\u0073\u1ac5\u003b\u1ac6\u003b\u1ac8\u006c\u1ac9\u006d\u1ad0\u0074\u1aca\u0069\u1acb",
+            "\u006d\u1acc\u0061\u1acd\u0070\u1ace\u003b\u1acf\u0061\u1ad1\u0070\u1ad2\u003b\u1ad3\u0047\u1ad5",
+            "\u004c\u1adc\u0052\u1af7\u0056\u1b02\u0061\u1b0d\u0062\u1b32\u0063\u1b3c\u0064\u1b56\u0065\u1b5b",
+            "\u0066\u1b83\u0067\u1b86\u0068\u1b9f\u0069\u1bac\u006a\u1bb4\u006c\u1bb8\u006d\u1bf4\u006f\u1bf8",
+            "\u0070\u1c18\u0072\u1c3a\u0073\u1c57\u0074\u1cb0\u0075\u1cd4\u0076\u1cdf\u0077\u1d18\u0067\u1ad6",
+            "\u0074\u1ad8\u003b\u1ad7\u003b\u1ad9\u0076\u1ada\u003b\u1adb\u0065\u1add\u006c\u1af1\u0074\u1af3",
+            "\u0066\u1ade\u0074\u1adf\u0061\u1ae0\u0072\u1ae6\u0072\u1ae1\u0072\u1ae2\u006f\u1ae3\u0077\u1ae4",
+            "\u003b\u1ae5\u0069\u1ae7\u0067\u1ae8\u0068\u1ae9\u0074\u1aea\u0061\u1aeb\u0072\u1aec\u0072\u1aed",
+            "\u006f\u1aee\u0077\u1aef\u003b\u1af0\u003b\u1af2\u003b\u1af4\u0076\u1af5\u003b\u1af6\u0069\u1af8",
+            "\u0067\u1af9\u0068\u1afa\u0074\u1afb\u0061\u1afc\u0072\u1afd\u0072\u1afe\u006f\u1aff\u0077\u1b00",
+            "\u003b\u1b01\u0044\u1b03\u0064\u1b08\u0061\u1b04\u0073\u1b05\u0068\u1b06\u003b\u1b07\u0061\u1b09",
+            "\u0073\u1b0a\u0068\u1b0b\u003b\u1b0c\u0062\u1b0e\u0063\u1b12\u006e\u1b17\u0070\u1b1a\u0074\u1b29",
+            "\u006c\u1b0f\u0061\u1b10\u003b\u1b11\u0075\u1b13\u0074\u1b14\u0065\u1b15\u003b\u1b16\u0067\u1b18",
+            "\u003b\u1b19\u003b\u1b1b\u0045\u1b1c\u0069\u1b1e\u006f\u1b21\u0070\u1b24\u003b\u1b1d\u0064\u1b1f",
+            "\u003b\u1b20\u0073\u1b22\u003b\u1b23\u0072\u1b25\u006f\u1b26\u0078\u1b27\u003b\u1b28\u0075\u1b2a",
+            "\u0072\u1b2b\u003b\u1b2c\u0061\u1b2d\u006c\u1b2e\u003b\u1b2f\u0073\u1b30\u003b\u1b31\u0073\u1b33",
+            "\u0075\u1b36\u0070\u1b34\u003b\u1b35\u006d\u1b37\u0070\u1b38\u003b\u1b39\u0065\u1b3a\u003b\u1b3b",
+            "\u0061\u1b3d\u0065\u1b44\u006f\u1b49\u0075\u1b51\u0079\u1b54\u0070\u1b3e\u0072\u1b40\u003b\u1b3f",
+            "\u006f\u1b41\u006e\u1b42\u003b\u1b43\u0064\u1b45\u0069\u1b46\u006c\u1b47\u003b\u1b48\u006e\u1b4a",
+            "\u0067\u1b4b\u003b\u1b4c\u0064\u1b4d\u006f\u1b4e\u0074\u1b4f\u003b\u1b50\u0070\u1b52\u003b\u1b53",
+            "\u003b\u1b55\u0061\u1b57\u0073\u1b58\u0068\u1b59\u003b\u1b5a\u003b\u1b5c\u0041\u1b5d\u0061\u1b61",
+            "\u0064\u1b6b\u0071\u1b6f\u0073\u1b74\u0078\u1b7c\u0072\u1b5e\u0072\u1b5f\u003b\u1b60\u0072\u1b62",
+            "\u0068\u1b63\u0072\u1b66\u006b\u1b64\u003b\u1b65\u003b\u1b67\u006f\u1b68\u0077\u1b69\u003b\u1b6a",
+            "\u006f\u1b6c\u0074\u1b6d\u003b\u1b6e\u0075\u1b70\u0069\u1b71\u0076\u1b72\u003b\u1b73\u0065\u1b75",
+            "\u0069\u1b79\u0061\u1b76\u0072\u1b77\u003b\u1b78\u006d\u1b7a\u003b\u1b7b\u0069\u1b7d\u0073\u1b7e",
+            "\u0074\u1b7f\u003b\u1b80\u0073\u1b81\u003b\u1b82\u0072\u1b84\u003b\u1b85\u0045\u1b87\u0065\u1b89",
+            "\u0073\u1b97\u0074\u1b9b\u003b\u1b88\u003b\u1b8a\u0071\u1b8b\u0073\u1b95\u003b\u1b8c\u0071\u1b8d",
+            "\u0073\u1b8f\u003b\u1b8e\u006c\u1b90\u0061\u1b91\u006e\u1b92\u0074\u1b93\u003b\u1b94\u003b\u1b96",
+            "\u0069\u1b98\u006d\u1b99\u003b\u1b9a\u003b\u1b9c\u0072\u1b9d\u003b\u1b9e\u0041\u1ba0\u0061\u1ba4",
+            "\u0070\u1ba8\u0072\u1ba1\u0072\u1ba2\u003b\u1ba3\u0072\u1ba5\u0072\u1ba6\u003b\u1ba7\u0061\u1ba9",
+            "\u0072\u1baa\u003b\u1bab\u003b\u1bad\u0073\u1bae\u0076\u1bb2\u003b\u1baf\u0064\u1bb0\u003b\u1bb1",
+            "\u003b\u1bb3\u0063\u1bb5\u0079\u1bb6\u003b\u1bb7\u0041\u1bb9\u0045\u1bbd\u0061\u1bbf\u0064\u1bc3",
+            "\u0065\u1bc6\u0073\u1be9\u0074\u1bed\u0072\u1bba\u0072\u1bbb\u003b\u1bbc\u003b\u1bbe\u0072\u1bc0",
+            "\u0072\u1bc1\u003b\u1bc2\u0072\u1bc4\u003b\u1bc5\u003b\u1bc7\u0066\u1bc8\u0071\u1bdb\u0073\u1be5",
+            "\u0074\u1bc9\u0061\u1bca\u0072\u1bd0\u0072\u1bcb\u0072\u1bcc\u006f\u1bcd\u0077\u1bce\u003b\u1bcf",
+            "\u0069\u1bd1\u0067\u1bd2\u0068\u1bd3\u0074\u1bd4\u0061\u1bd5\u0072\u1bd6\u0072\u1bd7\u006f\u1bd8",
+            "\u0077\u1bd9\u003b\u1bda\u003b\u1bdc\u0071\u1bdd\u0073\u1bdf\u003b\u1bde\u006c\u1be0\u0061\u1be1",
+            "\u006e\u1be2\u0074\u1be3\u003b\u1be4\u003b\u1be6\u0073\u1be7\u003b\u1be8\u0069\u1bea\u006d\u1beb",
+            "\u003b\u1bec\u003b\u1bee\u0072\u1bef\u0069\u1bf0\u003b\u1bf1\u0065\u1bf2\u003b\u1bf3\u0069\u1bf5",
+            "\u0064\u1bf6\u003b\u1bf7\u0070\u1bf9\u0074\u1bfc\u0066\u1bfa\u003b\u1bfb\u003b\u1bfd\u0069\u1bfe",
+            "\u006e\u1c0e\u006e\u1bff\u003b\u1c00\u0045\u1c01\u0064\u1c03\u0076\u1c07\u003b\u1c02\u006f\u1c04",
+            "\u0074\u1c05\u003b\u1c06\u0061\u1c08\u0062\u1c0a\u0063\u1c0c\u003b\u1c09\u003b\u1c0b\u003b\u1c0d",
+            "\u0069\u1c0f\u003b\u1c10\u0076\u1c11\u0061\u1c12\u0062\u1c14\u0063\u1c16\u003b\u1c13\u003b\u1c15",
+            "\u003b\u1c17\u0061\u1c19\u006f\u1c27\u0072\u1c2d\u0072\u1c1a\u003b\u1c1b\u0061\u1c1c\u0073\u1c22",
+            "\u0074\u1c25\u006c\u1c1d\u006c\u1c1e\u0065\u1c1f\u006c\u1c20\u003b\u1c21\u006c\u1c23\u003b\u1c24",
+            "\u003b\u1c26\u006c\u1c28\u0069\u1c29\u006e\u1c2a\u0074\u1c2b\u003b\u1c2c\u003b\u1c2e\u0063\u1c2f",
+            "\u0065\u1c33\u0075\u1c30\u0065\u1c31\u003b\u1c32\u003b\u1c34\u0063\u1c35\u003b\u1c36\u0065\u1c37",
+            "\u0071\u1c38\u003b\u1c39\u0041\u1c3b\u0061\u1c3f\u0069\u1c47\u0074\u1c51\u0072\u1c3c\u0072\u1c3d",
+            "\u003b\u1c3e\u0072\u1c40\u0072\u1c41\u003b\u1c42\u0063\u1c43\u0077\u1c45\u003b\u1c44\u003b\u1c46",
+            "\u0067\u1c48\u0068\u1c49\u0074\u1c4a\u0061\u1c4b\u0072\u1c4c\u0072\u1c4d\u006f\u1c4e\u0077\u1c4f",
+            "\u003b\u1c50\u0072\u1c52\u0069\u1c53\u003b\u1c54\u0065\u1c55\u003b\u1c56\u0063\u1c58\u0068\u1c62",
+            "\u0069\u1c73\u006d\u1c7a\u0070\u1c7e\u0071\u1c82\u0075\u1c8b\u003b\u1c59\u0063\u1c5a\u0065\u1c5e",
+            "\u0072\u1c60\u0075\u1c5b\u0065\u1c5c\u003b\u1c5d\u003b\u1c5f\u003b\u1c61\u006f\u1c63\u0072\u1c64",
+            "\u0074\u1c65\u006d\u1c66\u0070\u1c6a\u0069\u1c67\u0064\u1c68\u003b\u1c69\u0061\u1c6b\u0072\u1c6c",
+            "\u0061\u1c6d\u006c\u1c6e\u006c\u1c6f\u0065\u1c70\u006c\u1c71\u003b\u1c72\u006d\u1c74\u003b\u1c75",
+            "\u0065\u1c76\u003b\u1c77\u0071\u1c78\u003b\u1c79\u0069\u1c7b\u0064\u1c7c\u003b\u1c7d\u0061\u1c7f",
+            "\u0072\u1c80\u003b\u1c81\u0073\u1c83\u0075\u1c84\u0062\u1c85\u0070\u1c88\u0065\u1c86\u003b\u1c87",
+            "\u0065\u1c89\u003b\u1c8a\u0062\u1c8c\u0063\u1c9b\u0070\u1ca1\u003b\u1c8d\u0045\u1c8e\u0065\u1c90",
+            "\u0073\u1c92\u003b\u1c8f\u003b\u1c91\u0065\u1c93\u0074\u1c94\u003b\u1c95\u0065\u1c96\u0071\u1c97",
+            "\u003b\u1c98\u0071\u1c99\u003b\u1c9a\u0063\u1c9c\u003b\u1c9d\u0065\u1c9e\u0071\u1c9f\u003b\u1ca0",
+            "\u003b\u1ca2\u0045\u1ca3\u0065\u1ca5\u0073\u1ca7\u003b\u1ca4\u003b\u1ca6\u0065\u1ca8\u0074\u1ca9",
+            "\u003b\u1caa\u0065\u1cab\u0071\u1cac\u003b\u1cad\u0071\u1cae\u003b\u1caf\u0067\u1cb1\u0069\u1cb4",
+            "\u006c\u1cb9\u0072\u1cbc\u006c\u1cb2\u003b\u1cb3\u006c\u1cb5\u0064\u1cb6\u0065\u1cb7\u003b\u1cb8",
+            "\u0067\u1cba\u003b\u1cbb\u0069\u1cbd\u0061\u1cbe\u006e\u1cbf\u0067\u1cc0\u006c\u1cc1\u0065\u1cc2",
+            "\u006c\u1cc3\u0072\u1ccb\u0065\u1cc4\u0066\u1cc5\u0074\u1cc6\u003b\u1cc7\u0065\u1cc8\u0071\u1cc9",
+            "\u003b\u1cca\u0069\u1ccc\u0067\u1ccd\u0068\u1cce\u0074\u1ccf\u003b\u1cd0\u0065\u1cd1\u0071\u1cd2",
+            "\u003b\u1cd3\u003b\u1cd5\u006d\u1cd6\u003b\u1cd7\u0065\u1cd8\u0073\u1cdc\u0072\u1cd9\u006f\u1cda",
+            "\u003b\u1cdb\u0070\u1cdd\u003b\u1cde\u0044\u1ce0\u0048\u1ce5\u0061\u1cea\u0064\u1ced\u0067\u1cf2",
+            "\u0069\u1cf7\u006c\u1cfd\u0072\u1d0a\u0073\u1d14\u0061\u1ce1\u0073\u1ce2\u0068\u1ce3\u003b\u1ce4",
+            "\u0061\u1ce6\u0072\u1ce7\u0072\u1ce8\u003b\u1ce9\u0070\u1ceb\u003b\u1cec\u0061\u1cee\u0073\u1cef",
+            "\u0068\u1cf0\u003b\u1cf1\u0065\u1cf3\u0074\u1cf5\u003b\u1cf4\u003b\u1cf6\u006e\u1cf8\u0066\u1cf9",
+            "\u0069\u1cfa\u006e\u1cfb\u003b\u1cfc\u0041\u1cfe\u0065\u1d02\u0074\u1d04\u0072\u1cff\u0072\u1d00",
+            "\u003b\u1d01\u003b\u1d03\u003b\u1d05\u0072\u1d06\u0069\u1d07\u0065\u1d08\u003b\u1d09\u0041\u1d0b",
+            "\u0074\u1d0f\u0072\u1d0c\u0072\u1d0d\u003b\u1d0e\u0072\u1d10\u0069\u1d11\u0065\u1d12\u003b\u1d13",
+            "\u0069\u1d15\u006d\u1d16\u003b\u1d17\u0041\u1d19\u0061\u1d1d\u006e\u1d27\u0072\u1d1a\u0072\u1d1b",
+            "\u003b\u1d1c\u0072\u1d1e\u0068\u1d1f\u0072\u1d22\u006b\u1d20\u003b\u1d21\u003b\u1d23\u006f\u1d24",
+            "\u0077\u1d25\u003b\u1d26\u0065\u1d28\u0061\u1d29\u0072\u1d2a\u003b\u1d2b\u0053\u1d2d\u0061\u1d2f",
+            "\u0063\u1d38\u0064\u1d40\u0065\u1d55\u0066\u1d5a\u0067\u1d61\u0068\u1d6c\u0069\u1d73\u006c\u1d77",
+            "\u006d\u1d8b\u006f\u1da0\u0070\u1da4\u0072\u1db0\u0073\u1dd2\u0074\u1dde\u0075\u1deb\u0076\u1def",
+            "\u003b\u1d2e\u0063\u1d30\u0073\u1d35\u0075\u1d31\u0074\u1d32\u0065\u1d33\u003b\u1d34\u0074\u1d36",
+            "\u003b\u1d37\u0069\u1d39\u0079\u1d3e\u0072\u1d3a\u003b\u1d3b\u0063\u1d3c\u003b\u1d3d\u003b\u1d3f",
+            "\u0061\u1d41\u0062\u1d45\u0069\u1d4a\u006f\u1d4d\u0073\u1d50\u0073\u1d42\u0068\u1d43\u003b\u1d44",
+            "\u006c\u1d46\u0061\u1d47\u0063\u1d48\u003b\u1d49\u0076\u1d4b\u003b\u1d4c\u0074\u1d4e\u003b\u1d4f",
+            "\u006f\u1d51\u006c\u1d52\u0064\u1d53\u003b\u1d54\u006c\u1d56\u0069\u1d57\u0067\u1d58\u003b\u1d59",
+            "\u0063\u1d5b\u0072\u1d5f\u0069\u1d5c\u0072\u1d5d\u003b\u1d5e\u003b\u1d60\u006f\u1d62\u0072\u1d65",
+            "\u0074\u1d6a\u006e\u1d63\u003b\u1d64\u0061\u1d66\u0076\u1d67\u0065\u1d68\u003b\u1d69\u003b\u1d6b",
+            "\u0062\u1d6d\u006d\u1d71\u0061\u1d6e\u0072\u1d6f\u003b\u1d70\u003b\u1d72\u006e\u1d74\u0074\u1d75",
+            "\u003b\u1d76\u0061\u1d78\u0063\u1d7c\u0069\u1d85\u0074\u1d89\u0072\u1d79\u0072\u1d7a\u003b\u1d7b",
+            "\u0069\u1d7d\u0072\u1d80\u0072\u1d7e\u003b\u1d7f\u006f\u1d81\u0073\u1d82\u0073\u1d83\u003b\u1d84",
+            "\u006e\u1d86\u0065\u1d87\u003b\u1d88\u003b\u1d8a\u0061\u1d8c\u0065\u1d90\u0069\u1d94\u0063\u1d8d",
+            "\u0072\u1d8e\u003b\u1d8f\u0067\u1d91\u0061\u1d92\u003b\u1d93\u0063\u1d95\u0064\u1d9a\u006e\u1d9c",
+            "\u0072\u1d96\u006f\u1d97\u006e\u1d98\u003b\u1d99\u003b\u1d9b\u0075\u1d9d\u0073\u1d9e\u003b\u1d9f",
+            "\u0070\u1da1\u0066\u1da2\u003b\u1da3\u0061\u1da5\u0065\u1da8\u006c\u1dac\u0072\u1da6\u003b\u1da7",
+            "\u0072\u1da9\u0070\u1daa\u003b\u1dab\u0075\u1dad\u0073\u1dae\u003b\u1daf\u003b\u1db1\u0061\u1db2",
+            "\u0064\u1db6\u0069\u1dc2\u006f\u1dc7\u0073\u1dca\u0076\u1dd0\u0072\u1db3\u0072\u1db4\u003b\u1db5",
+            "\u003b\u1db7\u0065\u1db8\u0066\u1dbe\u006d\u1dc0\u0072\u1db9\u003b\u1dba\u006f\u1dbb\u0066\u1dbc",
+            "\u003b\u1dbd\u003b\u1dbf\u003b\u1dc1\u0067\u1dc3\u006f\u1dc4\u0066\u1dc5\u003b\u1dc6\u0072\u1dc8",
+            "\u003b\u1dc9\u006c\u1dcb\u006f\u1dcc\u0070\u1dcd\u0065\u1dce\u003b\u1dcf\u003b\u1dd1\u0063\u1dd3",
+            "\u006c\u1dd6\u006f\u1ddb\u0072\u1dd4\u003b\u1dd5\u0061\u1dd7\u0073\u1dd8\u0068\u1dd9\u003b\u1dda",
+            "\u006c\u1ddc\u003b\u1ddd\u0069\u1ddf\u006c\u1de0\u006d\u1de4\u0064\u1de1\u0065\u1de2\u003b\u1de3",
+            "\u0065\u1de5\u0073\u1de6\u003b\u1de7\u0061\u1de8\u0073\u1de9\u003b\u1dea\u006d\u1dec\u006c\u1ded",
+            "\u003b\u1dee\u0062\u1df0\u0061\u1df1\u0072\u1df2\u003b\u1df3\u0061\u1df5\u0063\u1e07\u0065\u1e0a",
+            "\u0066\u1e1f\u0068\u1e22\u0069\u1e30\u006c\u1e3c\u006d\u1e67\u006f\u1e69\u0072\u1e78\u0073\u1ede",
+            "\u0075\u1ee4\u0072\u1df6\u003b\u1df7\u0061\u1df8\u0073\u1dff\u0074\u1e05\u003b\u1df9\u006c\u1dfa",
+            "\u006c\u1dfb\u0065\u1dfc\u006c\u1dfd\u003b\u1dfe\u0069\u1e00\u006c\u1e03\u006d\u1e01\u003b\u1e02",
+            "\u003b\u1e04\u003b\u1e06\u0079\u1e08\u003b\u1e09\u0072\u1e0b\u0063\u1e0c\u0069\u1e10\u006d\u1e14",
+            "\u0070\u1e18\u0074\u1e1a\u006e\u1e0d\u0074\u1e0e\u003b\u1e0f\u006f\u1e11\u0064\u1e12\u003b\u1e13",
+            "\u0069\u1e15\u006c\u1e16\u003b\u1e17\u003b\u1e19\u0065\u1e1b\u006e\u1e1c\u006b\u1e1d\u003b\u1e1e",
+            "\u0072\u1e20\u003b\u1e21\u0069\u1e23\u006d\u1e27\u006f\u1e2c\u003b\u1e24\u0076\u1e25\u003b\u1e26",
+            "\u006d\u1e28\u0061\u1e29\u0074\u1e2a\u003b\u1e2b\u006e\u1e2d\u0065\u1e2e\u003b\u1e2f\u003b\u1e31",
+            "\u0074\u1e32\u0076\u1e3a\u0063\u1e33\u0068\u1e34\u0066\u1e35\u006f\u1e36\u0072\u1e37\u006b\u1e38",
+            "\u003b\u1e39\u003b\u1e3b\u0061\u1e3d\u0075\u1e47\u006e\u1e3e\u0063\u1e3f\u006b\u1e44\u006b\u1e40",
+            "\u003b\u1e41\u0068\u1e42\u003b\u1e43\u0076\u1e45\u003b\u1e46\u0073\u1e48\u003b\u1e49\u0061\u1e4a",
+            "\u0062\u1e4f\u0063\u1e51\u0064\u1e55\u0065\u1e5a\u006d\u1e5c\u0073\u1e5f\u0074\u1e63\u0063\u1e4b",
+            "\u0069\u1e4c\u0072\u1e4d\u003b\u1e4e\u003b\u1e50\u0069\u1e52\u0072\u1e53\u003b\u1e54\u006f\u1e56",
+            "\u0075\u1e58\u003b\u1e57\u003b\u1e59\u003b\u1e5b\u006e\u1e5d\u003b\u1e5e\u0069\u1e60\u006d\u1e61",
+            "\u003b\u1e62\u0077\u1e64\u006f\u1e65\u003b\u1e66\u003b\u1e68\u0069\u1e6a\u0070\u1e71\u0075\u1e74",
+            "\u006e\u1e6b\u0074\u1e6c\u0069\u1e6d\u006e\u1e6e\u0074\u1e6f\u003b\u1e70\u0066\u1e72\u003b\u1e73",
+            "\u006e\u1e75\u0064\u1e76\u003b\u1e77\u003b\u1e79\u0045\u1e7a\u0061\u1e7c\u0063\u1e7f\u0065\u1e83",
+            "\u0069\u1ead\u006e\u1eb3\u006f\u1ebd\u0073\u1ed5\u0075\u1ed9\u003b\u1e7b\u0070\u1e7d\u003b\u1e7e",
+            "\u0075\u1e80\u0065\u1e81\u003b\u1e82\u003b\u1e84\u0063\u1e85\u003b\u1e86\u0061\u1e87\u0063\u1e8e",
+            "\u0065\u1e96\u006e\u1e99\u0073\u1ea9\u0070\u1e88\u0070\u1e89\u0072\u1e8a\u006f\u1e8b\u0078\u1e8c",
+            "\u003b\u1e8d\u0075\u1e8f\u0072\u1e90\u006c\u1e91\u0079\u1e92\u0065\u1e93\u0071\u1e94\u003b\u1e95",
+            "\u0071\u1e97\u003b\u1e98\u0061\u1e9a\u0065\u1ea1\u0073\u1ea5\u0070\u1e9b\u0070\u1e9c\u0072\u1e9d",
+            "\u006f\u1e9e\u0078\u1e9f\u003b\u1ea0\u0071\u1ea2\u0071\u1ea3\u003b\u1ea4\u0069\u1ea6\u006d\u1ea7",
+            "\u003b\u1ea8\u0069\u1eaa\u006d\u1eab\u003b\u1eac\u006d\u1eae\u0065\u1eaf\u003b\u1eb0\u0073\u1eb1",
+            "\u003b\u1eb2\u0045\u1eb4\u0061\u1eb6\u0073\u1eb9\u003b\u1eb5\u0070\u1eb7\u003b\u1eb8\u0069\u1eba",
+            "\u006d\u1ebb\u003b\u1ebc\u0064\u1ebe\u0066\u1ec0\u0070\u1ed0\u003b\u1ebf\u0061\u1ec1\u006c\u1ec6",
+            "\u0073\u1ecb\u006c\u1ec2\u0061\u1ec3\u0072\u1ec4\u003b\u1ec5\u0069\u1ec7\u006e\u1ec8\u0065\u1ec9",
+            "\u003b\u1eca\u0075\u1ecc\u0072\u1ecd\u0066\u1ece\u003b\u1ecf\u003b\u1ed1\u0074\u1ed2\u006f\u1ed3",
+            "\u003b\u1ed4\u0069\u1ed6\u006d\u1ed7\u003b\u1ed8\u0072\u1eda\u0065\u1edb\u006c\u1edc\u003b\u1edd",
+            "\u0063\u1edf\u0069\u1ee2\u0072\u1ee0\u003b\u1ee1\u003b\u1ee3\u006e\u1ee5\u0063\u1ee6\u0073\u1ee7",
+            "\u0070\u1ee8\u003b\u1ee9\u0066\u1eeb\u0069\u1eee\u006f\u1ef2\u0070\u1ef6\u0073\u1efc\u0075\u1f00",
+            "\u0072\u1eec\u003b\u1eed\u006e\u1eef\u0074\u1ef0\u003b\u1ef1\u0070\u1ef3\u0066\u1ef4\u003b\u1ef5",
+            "\u0072\u1ef7\u0069\u1ef8\u006d\u1ef9\u0065\u1efa\u003b\u1efb\u0063\u1efd\u0072\u1efe\u003b\u1eff",
+            "\u0061\u1f01\u0065\u1f0f\u006f\u1f16\u0074\u1f02\u0065\u1f03\u0069\u1f0b\u0072\u1f04\u006e\u1f05",
+            "\u0069\u1f06\u006f\u1f07\u006e\u1f08\u0073\u1f09\u003b\u1f0a\u006e\u1f0c\u0074\u1f0d\u003b\u1f0e",
+            "\u0073\u1f10\u0074\u1f11\u003b\u1f12\u0065\u1f13\u0071\u1f14\u003b\u1f15\u0074\u1f17\u003b\u1f18",
+            "\u0041\u1f1a\u0042\u1f27\u0048\u1f2c\u0061\u1f30\u0062\u1f80\u0063\u1f99\u0064\u1fac\u0065\u1fbf",
+            "\u0066\u1fd3\u0068\u1fe0\u0069\u1fed\u006c\u204f\u006d\u205a\u006e\u2065\u006f\u206a\u0070\u2086",
+            "\u0072\u2094\u0073\u2099\u0074\u20ac\u0075\u20c3\u0078\u20ca\u0061\u1f1b\u0072\u1f1f\u0074\u1f22",
+            "\u0072\u1f1c\u0072\u1f1d\u003b\u1f1e\u0072\u1f20\u003b\u1f21\u0061\u1f23\u0069\u1f24\u006c\u1f25",
+            "\u003b\u1f26\u0061\u1f28\u0072\u1f29\u0072\u1f2a\u003b\u1f2b\u0061\u1f2d\u0072\u1f2e\u003b\u1f2f",
+            "\u0063\u1f31\u0064\u1f38\u0065\u1f3c\u006e\u1f43\u0071\u1f4d\u0072\u1f51\u0074\u1f73\u0065\u1f32",
+            "\u0075\u1f34\u003b\u1f33\u0074\u1f35\u0065\u1f36\u003b\u1f37\u0069\u1f39\u0063\u1f3a\u003b\u1f3b",
+            "\u006d\u1f3d\u0070\u1f3e\u0074\u1f3f\u0079\u1f40\u0076\u1f41\u003b\u1f42\u0067\u1f44\u003b\u1f45",
+            "\u0064\u1f46\u0065\u1f48\u006c\u1f4a\u003b\u1f47\u003b\u1f49\u0065\u1f4b\u003b\u1f4c\u0075\u1f4e",
+            "\u006f\u1f4f\u003b\u1f50\u0072\u1f52\u003b\u1f53\u0061\u1f54\u0062\u1f57\u0063\u1f5c\u0066\u1f5e",
+            "\u0068\u1f61\u006c\u1f64\u0070\u1f67\u0073\u1f6a\u0074\u1f6e\u0077\u1f71\u0070\u1f55\u003b\u1f56",
+            "\u003b\u1f58\u0066\u1f59\u0073\u1f5a\u003b\u1f5b\u003b\u1f5d\u0073\u1f5f\u003b\u1f60\u006b\u1f62",
+            "\u003b\u1f63\u0070\u1f65\u003b\u1f66\u006c\u1f68\u003b\u1f69\u0069\u1f6b\u006d\u1f6c\u003b\u1f6d",
+            "\u006c\u1f6f\u003b\u1f70\u003b\u1f72\u0061\u1f74\u0069\u1f78\u0069\u1f75\u006c\u1f76\u003b\u1f77",
+            "\u006f\u1f79\u003b\u1f7a\u006e\u1f7b\u0061\u1f7c\u006c\u1f7d\u0073\u1f7e\u003b\u1f7f\u0061\u1f81",
+            "\u0062\u1f85\u0072\u1f89\u0072\u1f82\u0072\u1f83\u003b\u1f84\u0072\u1f86\u006b\u1f87\u003b\u1f88",
+            "\u0061\u1f8a\u006b\u1f90\u0063\u1f8b\u0065\u1f8c\u006b\u1f8e\u003b\u1f8d\u003b\u1f8f\u0065\u1f91",
+            "\u0073\u1f93\u003b\u1f92\u006c\u1f94\u0064\u1f95\u0075\u1f97\u003b\u1f96\u003b\u1f98\u0061\u1f9a",
+            "\u0065\u1f9f\u0075\u1fa7\u0079\u1faa\u0072\u1f9b\u006f\u1f9c\u006e\u1f9d\u003b\u1f9e\u0064\u1fa0",
+            "\u0069\u1fa4\u0069\u1fa1\u006c\u1fa2\u003b\u1fa3\u006c\u1fa5\u003b\u1fa6\u0062\u1fa8\u003b\u1fa9",
+            "\u003b\u1fab\u0063\u1fad\u006c\u1fb0\u0071\u1fb6\u0073\u1fbc\u0061\u1fae\u003b\u1faf\u0064\u1fb1",
+            "\u0068\u1fb2\u0061\u1fb3\u0072\u1fb4\u003b\u1fb5\u0075\u1fb7\u006f\u1fb8\u003b\u1fb9\u0072\u1fba",
+            "\u003b\u1fbb\u0068\u1fbd\u003b\u1fbe\u0061\u1fc0\u0063\u1fce\u0067\u1fd1\u006c\u1fc1\u003b\u1fc2",
+            "\u0069\u1fc3\u0070\u1fc7\u0073\u1fcc\u006e\u1fc4\u0065\u1fc5\u003b\u1fc6\u0061\u1fc8\u0072\u1fc9",
+            "\u0074\u1fca\u003b\u1fcb\u003b\u1fcd\u0074\u1fcf\u003b\u1fd0\u003b\u1fd2\u0069\u1fd4\u006c\u1fd9",
+            "\u0072\u1fde\u0073\u1fd5\u0068\u1fd6\u0074\u1fd7\u003b\u1fd8\u006f\u1fda\u006f\u1fdb\u0072\u1fdc",
+            "\u003b\u1fdd\u003b\u1fdf\u0061\u1fe1\u006f\u1fe9\u0072\u1fe2\u0064\u1fe3\u0075\u1fe5\u003b\u1fe4",
+            "\u003b\u1fe6\u006c\u1fe7\u003b\u1fe8\u003b\u1fea\u0076\u1feb\u003b\u1fec\u0067\u1fee\u006e\u2041",
+            "\u0073\u2044\u0068\u1fef\u0074\u1ff0\u0061\u1ff1\u0068\u1ffc\u006c\u200b\u0072\u201f\u0073\u202b",
+            "\u0074\u2036\u0072\u1ff2\u0072\u1ff3\u006f\u1ff4\u0077\u1ff5\u003b\u1ff6\u0074\u1ff7\u0061\u1ff8",
+            "\u0069\u1ff9\u006c\u1ffa\u003b\u1ffb\u0061\u1ffd\u0072\u1ffe\u0070\u1fff\u006f\u2000\u006f\u2001",
+            "\u006e\u2002\u0064\u2003\u0075\u2008\u006f\u2004\u0077\u2005\u006e\u2006\u003b\u2007\u0070\u2009",
+            "\u003b\u200a\u0065\u200c\u0066\u200d\u0074\u200e\u0061\u200f\u0068\u2016\u0072\u2010\u0072\u2011",
+            "\u006f\u2012\u0077\u2013\u0073\u2014\u003b\u2015\u0061\u2017\u0072\u2018\u0070\u2019\u006f\u201a",
+            "\u006f\u201b\u006e\u201c\u0073\u201d\u003b\u201e\u0069\u2020\u0067\u2021\u0068\u2022\u0074\u2023",
+            "\u0061\u2024\u0072\u2025\u0072\u2026\u006f\u2027\u0077\u2028\u0073\u2029\u003b\u202a\u0071\u202c",
+            "\u0075\u202d\u0069\u202e\u0067\u202f\u0061\u2030\u0072\u2031\u0072\u2032\u006f\u2033\u0077\u2034",
+            "\u003b\u2035\u0068\u2037\u0072\u2038\u0065\u2039\u0065\u203a\u0074\u203b\u0069\u203c\u006d\u203d",
+            "\u0065\u203e\u0073\u203f\u003b\u2040\u0067\u2042\u003b\u2043\u0069\u2045\u006e\u2046\u0067\u2047",
+            "\u0064\u2048\u006f\u2049\u0074\u204a\u0073\u204b\u0065\u204c\u0071\u204d\u003b\u204e\u0061\u2050",
+            "\u0068\u2054\u006d\u2058\u0072\u2051\u0072\u2052\u003b\u2053\u0061\u2055\u0072\u2056\u003b\u2057",
+            "\u003b\u2059\u006f\u205b\u0075\u205c\u0073\u205d\u0074\u205e\u003b\u205f\u0061\u2060\u0063\u2061",
+            "\u0068\u2062\u0065\u2063\u003b\u2064\u006d\u2066\u0069\u2067\u0064\u2068\u003b\u2069\u0061\u206b",
+            "\u0062\u2072\u0070\u2076\u0074\u2080\u006e\u206c\u0072\u206f\u0067\u206d\u003b\u206e\u0072\u2070",
+            "\u003b\u2071\u0072\u2073\u006b\u2074\u003b\u2075\u0061\u2077\u0066\u207a\u006c\u207c\u0072\u2078",
+            "\u003b\u2079\u003b\u207b\u0075\u207d\u0073\u207e\u003b\u207f\u0069\u2081\u006d\u2082\u0065\u2083",
+            "\u0073\u2084\u003b\u2085\u0061\u2087\u0070\u208d\u0072\u2088\u003b\u2089\u0067\u208a\u0074\u208b",
+            "\u003b\u208c\u006f\u208e\u006c\u208f\u0069\u2090\u006e\u2091\u0074\u2092\u003b\u2093\u0061\u2095",
+            "\u0072\u2096\u0072\u2097\u003b\u2098\u0061\u209a\u0063\u209f\u0068\u20a2\u0071\u20a4\u0071\u209b",
+            "\u0075\u209c\u006f\u209d\u003b\u209e\u0072\u20a0\u003b\u20a1\u003b\u20a3\u0062\u20a5\u0075\u20a7",
+            "\u003b\u20a6\u006f\u20a8\u003b\u20a9\u0072\u20aa\u003b\u20ab\u0068\u20ad\u0069\u20b2\u0072\u20b7",
+            "\u0072\u20ae\u0065\u20af\u0065\u20b0\u003b\u20b1\u006d\u20b3\u0065\u20b4\u0073\u20b5\u003b\u20b6",
+            "\u0069\u20b8\u003b\u20b9\u0065\u20ba\u0066\u20bc\u006c\u20be\u003b\u20bb\u003b\u20bd\u0074\u20bf",
+            "\u0072\u20c0\u0069\u20c1\u003b\u20c2\u006c\u20c4\u0075\u20c5\u0068\u20c6\u0061\u20c7\u0072\u20c8",
+            "\u003b\u20c9\u003b\u20cb\u0061\u20cd\u0062\u20d3\u0063\u20d8\u0064\u2108\u0065\u2110\u0066\u2136",
+            "\u0068\u213d\u0069\u215b\u006c\u2183\u006d\u2188\u006f\u21ac\u0070\u21bc\u0071\u21c8\u0072\u21f6",
+            "\u0073\u21fb\u0074\u220e\u0075\u2229\u0077\u22dc\u007a\u22f0\u0063\u20ce\u0075\u20cf\u0074\u20d0",
+            "\u0065\u20d1\u003b\u20d2\u0071\u20d4\u0075\u20d5\u006f\u20d6\u003b\u20d7\u003b\u20d9\u0045\u20da",
+            "\u0061\u20dc\u0063\u20e3\u0065\u20e7\u0069\u20ed\u006e\u20f1\u0070\u20fb\u0073\u2102\u0079\u2106",
+            "\u003b\u20db\u0070\u20dd\u0072\u20df\u003b\u20de\u006f\u20e0\u006e\u20e1\u003b\u20e2\u0075\u20e4",
+            "\u0065\u20e5\u003b\u20e6\u003b\u20e8\u0064\u20e9\u0069\u20ea\u006c\u20eb\u003b\u20ec\u0072\u20ee",
+            "\u0063\u20ef\u003b\u20f0\u0045\u20f2\u0061\u20f4\u0073\u20f7\u003b\u20f3\u0070\u20f5\u003b\u20f6",
+            "\u0069\u20f8\u006d\u20f9\u003b\u20fa\u006f\u20fc\u006c\u20fd\u0069\u20fe\u006e\u20ff\u0074\u2100",
+            "\u003b\u2101\u0069\u2103\u006d\u2104\u003b\u2105\u003b\u2107\u006f\u2109\u0074\u210a\u003b\u210b",
+            "\u0062\u210c\u0065\u210e\u003b\u210d\u003b\u210f\u0041\u2111\u0061\u2115\u0063\u211f\u006d\u2122",
+            "\u0073\u2125\u0074\u212a\u0078\u2133\u0072\u2112\u0072\u2113\u003b\u2114\u0072\u2116\u0068\u2117",
+            "\u0072\u211a\u006b\u2118\u003b\u2119\u003b\u211b\u006f\u211c\u0077\u211d\u003b\u211e\u0074\u2120",
+            "\u003b\u2121\u0069\u2123\u003b\u2124\u0077\u2126\u0061\u2127\u0072\u2128\u003b\u2129\u006d\u212b",
+            "\u0069\u212c\u006e\u2131\u006e\u212d\u0075\u212e\u0073\u212f\u003b\u2130\u003b\u2132\u0074\u2134",
+            "\u003b\u2135\u0072\u2137\u003b\u2138\u006f\u2139\u0077\u213a\u006e\u213b\u003b\u213c\u0061\u213e",
+            "\u0063\u2142\u006f\u2149\u0079\u2159\u0072\u213f\u0070\u2140\u003b\u2141\u0068\u2143\u0079\u2147",
+            "\u0063\u2144\u0079\u2145\u003b\u2146\u003b\u2148\u0072\u214a\u0074\u214b\u006d\u214c\u0070\u2150",
+            "\u0069\u214d\u0064\u214e\u003b\u214f\u0061\u2151\u0072\u2152\u0061\u2153\u006c\u2154\u006c\u2155",
+            "\u0065\u2156\u006c\u2157\u003b\u2158\u003b\u215a\u0067\u215c\u006d\u2164\u006d\u215d\u0061\u215e",
+            "\u003b\u215f\u0066\u2160\u0076\u2162\u003b\u2161\u003b\u2163\u003b\u2165\u0064\u2166\u0065\u216a",
+            "\u0067\u216e\u006c\u2172\u006e\u2176\u0070\u2179\u0072\u217e\u006f\u2167\u0074\u2168\u003b\u2169",
+            "\u003b\u216b\u0071\u216c\u003b\u216d\u003b\u216f\u0045\u2170\u003b\u2171\u003b\u2173\u0045\u2174",
+            "\u003b\u2175\u0065\u2177\u003b\u2178\u006c\u217a\u0075\u217b\u0073\u217c\u003b\u217d\u0061\u217f",
+            "\u0072\u2180\u0072\u2181\u003b\u2182\u0061\u2184\u0072\u2185\u0072\u2186\u003b\u2187\u0061\u2189",
+            "\u0065\u2199\u0069\u21a0\u0074\u21a6\u006c\u218a\u0073\u2195\u006c\u218b\u0073\u218c\u0065\u218d",
+            "\u0074\u218e\u006d\u218f\u0069\u2190\u006e\u2191\u0075\u2192\u0073\u2193\u003b\u2194\u0068\u2196",
+            "\u0070\u2197\u003b\u2198\u0070\u219a\u0061\u219b\u0072\u219c\u0073\u219d\u006c\u219e\u003b\u219f",
+            "\u0064\u21a1\u006c\u21a3\u003b\u21a2\u0065\u21a4\u003b\u21a5\u003b\u21a7\u0065\u21a8\u003b\u21a9",
+            "\u0073\u21aa\u003b\u21ab\u0066\u21ad\u006c\u21b2\u0070\u21b9\u0074\u21ae\u0063\u21af\u0079\u21b0",
+            "\u003b\u21b1\u003b\u21b3\u0062\u21b4\u003b\u21b5\u0061\u21b6\u0072\u21b7\u003b\u21b8\u0066\u21ba",
+            "\u003b\u21bb\u0061\u21bd\u0064\u21be\u0072\u21c6\u0065\u21bf\u0073\u21c0\u003b\u21c1\u0075\u21c2",
+            "\u0069\u21c3\u0074\u21c4\u003b\u21c5\u003b\u21c7\u0063\u21c9\u0073\u21d4\u0075\u21ec\u0061\u21ca",
+            "\u0075\u21cf\u0070\u21cb\u003b\u21cc\u0073\u21cd\u003b\u21ce\u0070\u21d0\u003b\u21d1\u0073\u21d2",
+            "\u003b\u21d3\u0075\u21d5\u0062\u21d6\u0070\u21e1\u003b\u21d7\u0065\u21d8\u0073\u21da\u003b\u21d9",
+            "\u0065\u21db\u0074\u21dc\u003b\u21dd\u0065\u21de\u0071\u21df\u003b\u21e0\u003b\u21e2\u0065\u21e3",
+            "\u0073\u21e5\u003b\u21e4\u0065\u21e6\u0074\u21e7\u003b\u21e8\u0065\u21e9\u0071\u21ea\u003b\u21eb",
+            "\u003b\u21ed\u0061\u21ee\u0066\u21f4\u0072\u21ef\u0065\u21f0\u0066\u21f2\u003b\u21f1\u003b\u21f3",
+            "\u003b\u21f5\u0061\u21f7\u0072\u21f8\u0072\u21f9\u003b\u21fa\u0063\u21fc\u0065\u21ff\u006d\u2204",
+            "\u0074\u2209\u0072\u21fd\u003b\u21fe\u0074\u2200\u006d\u2201\u006e\u2202\u003b\u2203\u0069\u2205",
+            "\u006c\u2206\u0065\u2207\u003b\u2208\u0061\u220a\u0072\u220b\u0066\u220c\u003b\u220d\u0061\u220f",
+            "\u0072\u2214\u0072\u2210\u003b\u2211\u0066\u2212\u003b\u2213\u0061\u2215\u006e\u2226\u0069\u2216",
+            "\u0067\u2217\u0068\u2218\u0074\u2219\u0065\u221a\u0070\u2222\u0070\u221b\u0073\u221c\u0069\u221d",
+            "\u006c\u221e\u006f\u221f\u006e\u2220\u003b\u2221\u0068\u2223\u0069\u2224\u003b\u2225\u0073\u2227",
+            "\u003b\u2228\u0062\u222a\u0063\u2263\u006d\u228c\u006e\u228e\u0070\u2291\u003b\u222b\u0045\u222c",
+            "\u0064\u222e\u0065\u2232\u006d\u2238\u006e\u223d\u0070\u2242\u0072\u2247\u0073\u224c\u003b\u222d",
+            "\u006f\u222f\u0074\u2230\u003b\u2231\u003b\u2233\u0064\u2234\u006f\u2235\u0074\u2236\u003b\u2237",
+            "\u0075\u2239\u006c\u223a\u0074\u223b\u003b\u223c\u0045\u223e\u0065\u2240\u003b\u223f\u003b\u2241",
+            "\u006c\u2243\u0075\u2244\u0073\u2245\u003b\u2246\u0061\u2248\u0072\u2249\u0072\u224a\u003b\u224b",
+            "\u0065\u224d\u0069\u225b\u0075\u225e\u0074\u224e\u003b\u224f\u0065\u2250\u006e\u2255\u0071\u2251",
+            "\u003b\u2252\u0071\u2253\u003b\u2254\u0065\u2256\u0071\u2257\u003b\u2258\u0071\u2259\u003b\u225a",
+            "\u006d\u225c\u003b\u225d\u0062\u225f\u0070\u2261\u003b\u2260\u003b\u2262\u0063\u2264\u003b\u2265",
+            "\u0061\u2266\u0063\u226d\u0065\u2275\u006e\u2278\u0073\u2288\u0070\u2267\u0070\u2268\u0072\u2269",
+            "\u006f\u226a\u0078\u226b\u003b\u226c\u0075\u226e\u0072\u226f\u006c\u2270\u0079\u2271\u0065\u2272",
+            "\u0071\u2273\u003b\u2274\u0071\u2276\u003b\u2277\u0061\u2279\u0065\u2280\u0073\u2284\u0070\u227a",
+            "\u0070\u227b\u0072\u227c\u006f\u227d\u0078\u227e\u003b\u227f\u0071\u2281\u0071\u2282\u003b\u2283",
+            "\u0069\u2285\u006d\u2286\u003b\u2287\u0069\u2289\u006d\u228a\u003b\u228b\u003b\u228d\u0067\u228f",
+            "\u003b\u2290\u0031\u2292\u0032\u2294\u0033\u2296\u003b\u2298\u0045\u2299\u0064\u229b\u0065\u22a3",
+            "\u0068\u22a9\u006c\u22b1\u006d\u22b6\u006e\u22bb\u0070\u22c0\u0073\u22c5\u003b\u2293\u003b\u2295",
+            "\u003b\u2297\u003b\u229a\u006f\u229c\u0073\u229f\u0074\u229d\u003b\u229e\u0075\u22a0\u0062\u22a1",
+            "\u003b\u22a2\u003b\u22a4\u0064\u22a5\u006f\u22a6\u0074\u22a7\u003b\u22a8\u0073\u22aa\u006f\u22ab",
+            "\u0075\u22ae\u006c\u22ac\u003b\u22ad\u0062\u22af\u003b\u22b0\u0061\u22b2\u0072\u22b3\u0072\u22b4",
+            "\u003b\u22b5\u0075\u22b7\u006c\u22b8\u0074\u22b9\u003b\u22ba\u0045\u22bc\u0065\u22be\u003b\u22bd",
+            "\u003b\u22bf\u006c\u22c1\u0075\u22c2\u0073\u22c3\u003b\u22c4\u0065\u22c6\u0069\u22d4\u0075\u22d7",
+            "\u0074\u22c7\u003b\u22c8\u0065\u22c9\u006e\u22ce\u0071\u22ca\u003b\u22cb\u0071\u22cc\u003b\u22cd",
+            "\u0065\u22cf\u0071\u22d0\u003b\u22d1\u0071\u22d2\u003b\u22d3\u006d\u22d5\u003b\u22d6\u0062\u22d8",
+            "\u0070\u22da\u003b\u22d9\u003b\u22db\u0041\u22dd\u0061\u22e1\u006e\u22eb\u0072\u22de\u0072\u22df",
+            "\u003b\u22e0\u0072\u22e2\u0068\u22e3\u0072\u22e6\u006b\u22e4\u003b\u22e5\u003b\u22e7\u006f\u22e8",
+            "\u0077\u22e9\u003b\u22ea\u0077\u22ec\u0061\u22ed\u0072\u22ee\u003b\u22ef\u006c\u22f1\u0069\u22f2",
+            "\u0067\u22f3\u003b\u22f4\u0061\u22f6\u0062\u22fe\u0063\u2302\u0064\u230f\u0065\u2313\u0066\u2319",
+            "\u0068\u231c\u0069\u234e\u006f\u2361\u0070\u2378\u0072\u237e\u0073\u23c2\u0077\u23d1\u0072\u22f7",
+            "\u0075\u22fc\u0067\u22f8\u0065\u22f9\u0074\u22fa\u003b\u22fb\u003b\u22fd\u0072\u22ff\u006b\u2300",
+            "\u003b\u2301\u0061\u2303\u0065\u2308\u0079\u230d\u0072\u2304\u006f\u2305\u006e\u2306\u003b\u2307",
+            "\u0064\u2309\u0069\u230a\u006c\u230b\u003b\u230c\u003b\u230e\u006f\u2310\u0074\u2311\u003b\u2312",
+            "\u006c\u2314\u0072\u2315\u0065\u2316\u0063\u2317\u003b\u2318\u0072\u231a\u003b\u231b\u0065\u231d",
+            "\u0069\u2330\u006b\u2342\u006f\u234a\u0072\u231e\u0074\u2327\u0065\u231f\u0034\u2320\u0066\u2322",
+            "\u003b\u2321\u006f\u2323\u0072\u2324\u0065\u2325\u003b\u2326\u0061\u2328\u003b\u2329\u0073\u232a",
+            "\u0076\u232e\u0079\u232b\u006d\u232c\u003b\u232d\u003b\u232f\u0063\u2331\u006e\u233e\u006b\u2332",
+            "\u0061\u2333\u0073\u233a\u0070\u2334\u0070\u2335\u0072\u2336\u006f\u2337\u0078\u2338\u003b\u2339",
+            "\u0069\u233b\u006d\u233c\u003b\u233d\u0073\u233f\u0070\u2340\u003b\u2341\u0061\u2343\u0073\u2346",
+            "\u0070\u2344\u003b\u2345\u0069\u2347\u006d\u2348\u003b\u2349\u0072\u234b\u006e\u234c\u003b\u234d",
+            "\u006c\u234f\u006d\u2353\u006e\u235e\u0064\u2350\u0065\u2351\u003b\u2352\u0065\u2354\u0073\u2355",
+            "\u003b\u2356\u0062\u2357\u0064\u235c\u003b\u2358\u0061\u2359\u0072\u235a\u003b\u235b\u003b\u235d",
+            "\u0074\u235f\u003b\u2360\u0065\u2362\u0070\u2365\u0073\u2375\u0061\u2363\u003b\u2364\u003b\u2366",
+            "\u0062\u2367\u0063\u236b\u0066\u236f\u006f\u2368\u0074\u2369\u003b\u236a\u0069\u236c\u0072\u236d",
+            "\u003b\u236e\u003b\u2370\u006f\u2371\u0072\u2372\u006b\u2373\u003b\u2374\u0061\u2376\u003b\u2377",
+            "\u0072\u2379\u0069\u237a\u006d\u237b\u0065\u237c\u003b\u237d\u0061\u237f\u0069\u2383\u0070\u23bb",
+            "\u0064\u2380\u0065\u2381\u003b\u2382\u0061\u2384\u0064\u23a2\u0065\u23a6\u006d\u23a8\u0070\u23ae",
+            "\u0073\u23b3\u0074\u23b6\u006e\u2385\u0067\u2386\u006c\u2387\u0065\u2388\u003b\u2389\u0064\u238a",
+            "\u006c\u238f\u0071\u2397\u0072\u2399\u006f\u238b\u0077\u238c\u006e\u238d\u003b\u238e\u0065\u2390",
+            "\u0066\u2391\u0074\u2392\u003b\u2393\u0065\u2394\u0071\u2395\u003b\u2396\u003b\u2398\u0069\u239a",
+            "\u0067\u239b\u0068\u239c\u0074\u239d\u003b\u239e\u0065\u239f\u0071\u23a0\u003b\u23a1\u006f\u23a3",
+            "\u0074\u23a4\u003b\u23a5\u003b\u23a7\u0069\u23a9\u006e\u23aa\u0075\u23ab\u0073\u23ac\u003b\u23ad",
+            "\u006c\u23af\u0075\u23b0\u0073\u23b1\u003b\u23b2\u0062\u23b4\u003b\u23b5\u0069\u23b7\u006d\u23b8",
+            "\u0065\u23b9\u003b\u23ba\u0065\u23bc\u007a\u23bd\u0069\u23be\u0075\u23bf\u006d\u23c0\u003b\u23c1",
+            "\u0063\u23c3\u0068\u23c8\u0074\u23cc\u0072\u23c4\u0079\u23c6\u003b\u23c5\u003b\u23c7\u0063\u23c9",
+            "\u0079\u23ca\u003b\u23cb\u0072\u23cd\u006f\u23ce\u006b\u23cf\u003b\u23d0\u0069\u23d2\u006f\u23d6",
+            "\u0078\u23d3\u0074\u23d4\u003b\u23d5\u0068\u23d7\u0065\u23d8\u0061\u23d9\u0064\u23da\u006c\u23db",
+            "\u0072\u23e5\u0065\u23dc\u0066\u23dd\u0074\u23de\u0061\u23df\u0072\u23e0\u0072\u23e1\u006f\u23e2",
+            "\u0077\u23e3\u003b\u23e4\u0069\u23e6\u0067\u23e7\u0068\u23e8\u0074\u23e9\u0061\u23ea\u0072\u23eb",
+            "\u0072\u23ec\u006f\u23ed\u0077\u23ee\u003b\u23ef\u0041\u23f1\u0048\u23f5\u0061\u23f9\u0062\u2402",
+            "\u0063\u240b\u0064\u2412\u0066\u2420\u0067\u2428\u0068\u242e\u006c\u2439\u006d\u244a\u006f\u2451",
+            "\u0070\u2459\u0072\u2492\u0073\u24a7\u0074\u24ab\u0075\u24ba\u0077\u24c2\u0072\u23f2\u0072\u23f3",
+            "\u003b\u23f4\u0061\u23f6\u0072\u23f7\u003b\u23f8\u0063\u23fa\u0072\u23ff\u0075\u23fb\u0074\u23fc",
+            "\u0065\u23fd\u003b\u23fe\u0072\u2400\u003b\u2401\u0072\u2403\u0063\u2404\u0065\u2407\u0079\u2405",
+            "\u003b\u2406\u0076\u2408\u0065\u2409\u003b\u240a\u0069\u240c\u0079\u2410\u0072\u240d\u0063\u240e",
+            "\u003b\u240f\u003b\u2411\u0061\u2413\u0062\u2417\u0068\u241c\u0072\u2414\u0072\u2415\u003b\u2416",
+            "\u006c\u2418\u0061\u2419\u0063\u241a\u003b\u241b\u0061\u241d\u0072\u241e\u003b\u241f\u0069\u2421",
+            "\u0072\u2426\u0073\u2422\u0068\u2423\u0074\u2424\u003b\u2425\u003b\u2427\u0072\u2429\u0061\u242a",
+            "\u0076\u242b\u0065\u242c\u003b\u242d\u0061\u242f\u0062\u2435\u0072\u2430\u006c\u2431\u0072\u2433",
+            "\u003b\u2432\u003b\u2434\u006c\u2436\u006b\u2437\u003b\u2438\u0063\u243a\u0074\u2446\u006f\u243b",
+            "\u0072\u2442\u0072\u243c\u006e\u243d\u003b\u243e\u0065\u243f\u0072\u2440\u003b\u2441\u006f\u2443",
+            "\u0070\u2444\u003b\u2445\u0072\u2447\u0069\u2448\u003b\u2449\u0061\u244b\u006c\u244f\u0063\u244c",
+            "\u0072\u244d\u003b\u244e\u003b\u2450\u0067\u2452\u0070\u2456\u006f\u2453\u006e\u2454\u003b\u2455",
+            "\u0066\u2457\u003b\u2458\u0061\u245a\u0064\u2460\u0068\u246a\u006c\u247c\u0073\u2480\u0075\u2489",
+            "\u0072\u245b\u0072\u245c\u006f\u245d\u0077\u245e\u003b\u245f\u006f\u2461\u0077\u2462\u006e\u2463",
+            "\u0061\u2464\u0072\u2465\u0072\u2466\u006f\u2467\u0077\u2468\u003b\u2469\u0061\u246b\u0072\u246c",
+            "\u0070\u246d\u006f\u246e\u006f\u246f\u006e\u2470\u006c\u2471\u0072\u2476\u0065\u2472\u0066\u2473",
+            "\u0074\u2474\u003b\u2475\u0069\u2477\u0067\u2478\u0068\u2479\u0074\u247a\u003b\u247b\u0075\u247d",
+            "\u0073\u247e\u003b\u247f\u0069\u2481\u003b\u2482\u0068\u2483\u006c\u2485\u003b\u2484\u006f\u2486",
+            "\u006e\u2487\u003b\u2488\u0070\u248a\u0061\u248b\u0072\u248c\u0072\u248d\u006f\u248e\u0077\u248f",
+            "\u0073\u2490\u003b\u2491\u0063\u2493\u0069\u249f\u0074\u24a3\u006f\u2494\u0072\u249b\u0072\u2495",
+            "\u006e\u2496\u003b\u2497\u0065\u2498\u0072\u2499\u003b\u249a\u006f\u249c\u0070\u249d\u003b\u249e",
+            "\u006e\u24a0\u0067\u24a1\u003b\u24a2\u0072\u24a4\u0069\u24a5\u003b\u24a6\u0063\u24a8\u0072\u24a9",
+            "\u003b\u24aa\u0064\u24ac\u0069\u24b0\u0072\u24b5\u006f\u24ad\u0074\u24ae\u003b\u24af\u006c\u24b1",
+            "\u0064\u24b2\u0065\u24b3\u003b\u24b4\u0069\u24b6\u003b\u24b7\u0066\u24b8\u003b\u24b9\u0061\u24bb",
+            "\u006d\u24bf\u0072\u24bc\u0072\u24bd\u003b\u24be\u006c\u24c0\u003b\u24c1\u0061\u24c3\u006e\u24c4",
+            "\u0067\u24c5\u006c\u24c6\u0065\u24c7\u003b\u24c8\u0041\u24ca\u0042\u24ce\u0044\u24d4\u0061\u24d9",
+            "\u0063\u253a\u0064\u253d\u0065\u2542\u0066\u2558\u006c\u255b\u006e\u2560\u006f\u2567\u0070\u256b",
+            "\u0072\u2570\u0073\u2575\u007a\u2586\u0072\u24cb\u0072\u24cc\u003b\u24cd\u0061\u24cf\u0072\u24d0",
+            "\u003b\u24d1\u0076\u24d2\u003b\u24d3\u0061\u24d5\u0073\u24d6\u0068\u24d7\u003b\u24d8\u006e\u24da",
+            "\u0072\u24df\u0067\u24db\u0072\u24dc\u0074\u24dd\u003b\u24de\u0065\u24e0\u006b\u24e8\u006e\u24ee",
+            "\u0070\u24f6\u0072\u2502\u0073\u2507\u0074\u2522\u0070\u24e1\u0073\u24e2\u0069\u24e3\u006c\u24e4",
+            "\u006f\u24e5\u006e\u24e6\u003b\u24e7\u0061\u24e9\u0070\u24ea\u0070\u24eb\u0061\u24ec\u003b\u24ed",
+            "\u006f\u24ef\u0074\u24f0\u0068\u24f1\u0069\u24f2\u006e\u24f3\u0067\u24f4\u003b\u24f5\u0068\u24f7",
+            "\u0069\u24fa\u0072\u24fc\u0069\u24f8\u003b\u24f9\u003b\u24fb\u006f\u24fd\u0070\u24fe\u0074\u24ff",
+            "\u006f\u2500\u003b\u2501\u003b\u2503\u0068\u2504\u006f\u2505\u003b\u2506\u0069\u2508\u0075\u250d",
+            "\u0067\u2509\u006d\u250a\u0061\u250b\u003b\u250c\u0062\u250e\u0070\u2518\u0073\u250f\u0065\u2510",
+            "\u0074\u2511\u006e\u2512\u0065\u2513\u0071\u2514\u003b\u2515\u0071\u2516\u003b\u2517\u0073\u2519",
+            "\u0065\u251a\u0074\u251b\u006e\u251c\u0065\u251d\u0071\u251e\u003b\u251f\u0071\u2520\u003b\u2521",
+            "\u0068\u2523\u0072\u2528\u0065\u2524\u0074\u2525\u0061\u2526\u003b\u2527\u0069\u2529\u0061\u252a",
+            "\u006e\u252b\u0067\u252c\u006c\u252d\u0065\u252e\u006c\u252f\u0072\u2534\u0065\u2530\u0066\u2531",
+            "\u0074\u2532\u003b\u2533\u0069\u2535\u0067\u2536\u0068\u2537\u0074\u2538\u003b\u2539\u0079\u253b",
+            "\u003b\u253c\u0061\u253e\u0073\u253f\u0068\u2540\u003b\u2541\u0065\u2543\u006c\u254c\u0072\u2551",
+            "\u003b\u2544\u0062\u2545\u0065\u2549\u0061\u2546\u0072\u2547\u003b\u2548\u0071\u254a\u003b\u254b",
+            "\u006c\u254d\u0069\u254e\u0070\u254f\u003b\u2550\u0062\u2552\u0074\u2556\u0061\u2553\u0072\u2554",
+            "\u003b\u2555\u003b\u2557\u0072\u2559\u003b\u255a\u0074\u255c\u0072\u255d\u0069\u255e\u003b\u255f",
+            "\u0073\u2561\u0075\u2562\u0062\u2563\u0070\u2565\u003b\u2564\u003b\u2566\u0070\u2568\u0066\u2569",
+            "\u003b\u256a\u0072\u256c\u006f\u256d\u0070\u256e\u003b\u256f\u0074\u2571\u0072\u2572\u0069\u2573",
+            "\u003b\u2574\u0063\u2576\u0075\u2579\u0072\u2577\u003b\u2578\u0062\u257a\u0070\u2580\u006e\u257b",
+            "\u0045\u257c\u0065\u257e\u003b\u257d\u003b\u257f\u006e\u2581\u0045\u2582\u0065\u2584\u003b\u2583",
+            "\u003b\u2585\u0069\u2587\u0067\u2588\u007a\u2589\u0061\u258a\u0067\u258b\u003b\u258c\u0063\u258e",
+            "\u0065\u2593\u0066\u25a3\u006f\u25a6\u0070\u25aa\u0072\u25ac\u0073\u25b3\u0069\u258f\u0072\u2590",
+            "\u0063\u2591\u003b\u2592\u0064\u2594\u0069\u259e\u0062\u2595\u0067\u2599\u0061\u2596\u0072\u2597",
+            "\u003b\u2598\u0065\u259a\u003b\u259b\u0071\u259c\u003b\u259d\u0065\u259f\u0072\u25a0\u0070\u25a1",
+            "\u003b\u25a2\u0072\u25a4\u003b\u25a5\u0070\u25a7\u0066\u25a8\u003b\u25a9\u003b\u25ab\u003b\u25ad",
+            "\u0065\u25ae\u0061\u25af\u0074\u25b0\u0068\u25b1\u003b\u25b2\u0063\u25b4\u0072\u25b5\u003b\u25b6",
+            "\u0063\u25b8\u0064\u25c3\u0066\u25c8\u0068\u25cb\u0069\u25d4\u006c\u25d6\u006d\u25df\u006e\u25e3",
+            "\u006f\u25e7\u0072\u25f8\u0073\u2601\u0075\u260a\u0076\u2614\u0077\u2618\u0061\u25b9\u0069\u25bc",
+            "\u0075\u25c0\u0070\u25ba\u003b\u25bb\u0072\u25bd\u0063\u25be\u003b\u25bf\u0070\u25c1\u003b\u25c2",
+            "\u0074\u25c4\u0072\u25c5\u0069\u25c6\u003b\u25c7\u0072\u25c9\u003b\u25ca\u0041\u25cc\u0061\u25d0",
+            "\u0072\u25cd\u0072\u25ce\u003b\u25cf\u0072\u25d1\u0072\u25d2\u003b\u25d3\u003b\u25d5\u0041\u25d7",
+            "\u0061\u25db\u0072\u25d8\u0072\u25d9\u003b\u25da\u0072\u25dc\u0072\u25dd\u003b\u25de\u0061\u25e0",
+            "\u0070\u25e1\u003b\u25e2\u0069\u25e4\u0073\u25e5\u003b\u25e6\u0064\u25e8\u0070\u25ec\u0074\u25f3",
+            "\u006f\u25e9\u0074\u25ea\u003b\u25eb\u0066\u25ed\u006c\u25ef\u003b\u25ee\u0075\u25f0\u0073\u25f1",
+            "\u003b\u25f2\u0069\u25f4\u006d\u25f5\u0065\u25f6\u003b\u25f7\u0041\u25f9\u0061\u25fd\u0072\u25fa",
+            "\u0072\u25fb\u003b\u25fc\u0072\u25fe\u0072\u25ff\u003b\u2600\u0063\u2602\u0071\u2605\u0072\u2603",
+            "\u003b\u2604\u0063\u2606\u0075\u2607\u0070\u2608\u003b\u2609\u0070\u260b\u0074\u2610\u006c\u260c",
+            "\u0075\u260d\u0073\u260e\u003b\u260f\u0072\u2611\u0069\u2612\u003b\u2613\u0065\u2615\u0065\u2616",
+            "\u003b\u2617\u0065\u2619\u0064\u261a\u0067\u261b\u0065\u261c\u003b\u261d\u0061\u261f\u0063\u2627",
+            "\u0065\u262e\u0066\u2631\u0069\u2634\u006f\u2638\u0073\u263c\u0075\u2640\u0063\u2620\u0075\u2621",
+            "\u0079\u2625\u0074\u2622\u0065\u2623\u003b\u2624\u003b\u2626\u0069\u2628\u0079\u262c\u0072\u2629",
+            "\u0063\u262a\u003b\u262b\u003b\u262d\u006e\u262f\u003b\u2630\u0072\u2632\u003b\u2633\u0063\u2635",
+            "\u0079\u2636\u003b\u2637\u0070\u2639\u0066\u263a\u003b\u263b\u0063\u263d\u0072\u263e\u003b\u263f",
+            "\u0063\u2641\u006d\u2644\u0079\u2642\u003b\u2643\u006c\u2645\u003b\u2646\u0061\u2648\u0063\u264e",
+            "\u0064\u2656\u0065\u265a\u0066\u2663\u0068\u2666\u0069\u266a\u006f\u2671\u0073\u2675\u0077\u2679",
+            "\u0063\u2649\u0075\u264a\u0074\u264b\u0065\u264c\u003b\u264d\u0061\u264f\u0079\u2654\u0072\u2650",
+            "\u006f\u2651\u006e\u2652\u003b\u2653\u003b\u2655\u006f\u2657\u0074\u2658\u003b\u2659\u0065\u265b",
+            "\u0074\u2660\u0074\u265c\u0072\u265d\u0066\u265e\u003b\u265f\u0061\u2661\u003b\u2662\u0072\u2664",
+            "\u003b\u2665\u0063\u2667\u0079\u2668\u003b\u2669\u0067\u266b\u0072\u266c\u0061\u266d\u0072\u266e",
+            "\u0072\u266f\u003b\u2670\u0070\u2672\u0066\u2673\u003b\u2674\u0063\u2676\u0072\u2677\u003b\u2678",
+            "\u006a\u267a\u006e\u267c\u003b\u267b\u006a\u267d\u003b\u267e",
+    });
+
+    static final @NoLength char[] VALUES = join(new String[] {
+            "\u00c6\u0000\u00c6\u0000\u0026\u0000\u0026\u0000\u00c1\u0000\u00c1\u0000\u0102\u0000\u00c2\u0000",
+            "\u00c2\u0000\u0410\u0000\ud835\udd04\u00c0\u0000\u00c0\u0000\u0391\u0000\u0100\u0000\u2a53\u0000",
+            "\u0104\u0000\ud835\udd38\u2061\u0000\u00c5\u0000\u00c5\u0000\ud835\udc9c\u2254\u0000\u00c3\u0000",
+            "\u00c3\u0000\u00c4\u0000\u00c4\u0000\u2216\u0000\u2ae7\u0000\u2306\u0000\u0411\u0000\u2235\u0000",
+            "\u212c\u0000\u0392\u0000\ud835\udd05\ud835\udd39\u02d8\u0000\u212c\u0000\u224e\u0000\u0427\u0000",
+            "\u00a9\u0000\u00a9\u0000\u0106\u0000\u22d2\u0000\u2145\u0000\u212d\u0000\u010c\u0000\u00c7\u0000",
+            "\u00c7\u0000\u0108\u0000\u2230\u0000\u010a\u0000\u00b8\u0000\u00b7\u0000\u212d\u0000\u03a7\u0000",
+            "\u2299\u0000\u2296\u0000\u2295\u0000\u2297\u0000\u2232\u0000\u201d\u0000\u2019\u0000\u2237\u0000",
+            "\u2a74\u0000\u2261\u0000\u222f\u0000\u222e\u0000\u2102\u0000\u2210\u0000\u2233\u0000\u2a2f\u0000",
+            "\ud835\udc9e\u22d3\u0000\u224d\u0000\u2145\u0000\u2911\u0000\u0402\u0000\u0405\u0000\u040f\u0000",
+            "\u2021\u0000\u21a1\u0000\u2ae4\u0000\u010e\u0000\u0414\u0000\u2207\u0000\u0394\u0000\ud835\udd07",
+            "\u00b4\u0000\u02d9\u0000\u02dd\u0000\u0060\u0000\u02dc\u0000\u22c4\u0000\u2146\u0000\ud835\udd3b",
+            "\u00a8\u0000\u20dc\u0000\u2250\u0000\u222f\u0000\u00a8\u0000\u21d3\u0000\u21d0\u0000\u21d4\u0000",
+            "\u2ae4\u0000\u27f8\u0000\u27fa\u0000\u27f9\u0000\u21d2\u0000\u22a8\u0000\u21d1\u0000\u21d5\u0000",
+            "\u2225\u0000\u2193\u0000\u2913\u0000\u21f5\u0000\u0311\u0000\u2950\u0000\u295e\u0000\u21bd\u0000",
+            "\u2956\u0000\u295f\u0000\u21c1\u0000\u2957\u0000\u22a4\u0000\u21a7\u0000\u21d3\u0000\ud835\udc9f",
+            "\u0110\u0000\u014a\u0000\u00d0\u0000\u00d0\u0000\u00c9\u0000\u00c9\u0000\u011a\u0000\u00ca\u0000",
+            "\u00ca\u0000\u042d\u0000\u0116\u0000\ud835\udd08\u00c8\u0000\u00c8\u0000\u2208\u0000\u0112\u0000",
+            "\u25fb\u0000\u25ab\u0000\u0118\u0000\ud835\udd3c\u0395\u0000\u2a75\u0000\u2242\u0000\u21cc\u0000",
+            "\u2130\u0000\u2a73\u0000\u0397\u0000\u00cb\u0000\u00cb\u0000\u2203\u0000\u2147\u0000\u0424\u0000",
+            "\ud835\udd09\u25fc\u0000\u25aa\u0000\ud835\udd3d\u2200\u0000\u2131\u0000\u2131\u0000\u0403\u0000",
+            "\u003e\u0000\u003e\u0000\u0393\u0000\u03dc\u0000\u011e\u0000\u0122\u0000\u011c\u0000\u0413\u0000",
+            "\u0120\u0000\ud835\udd0a\u22d9\u0000\ud835\udd3e\u2265\u0000\u22db\u0000\u2267\u0000\u2aa2\u0000",
+            "\u2277\u0000\u2a7e\u0000\u2273\u0000\ud835\udca2\u226b\u0000\u042a\u0000\u02c7\u0000\u005e\u0000",
+            "\u0124\u0000\u210c\u0000\u210b\u0000\u210d\u0000\u2500\u0000\u210b\u0000\u0126\u0000\u224e\u0000",
+            "\u224f\u0000\u0415\u0000\u0132\u0000\u0401\u0000\u00cd\u0000\u00cd\u0000\u00ce\u0000\u00ce\u0000",
+            "\u0418\u0000\u0130\u0000\u2111\u0000\u00cc\u0000\u00cc\u0000\u2111\u0000\u012a\u0000\u2148\u0000",
+            "\u21d2\u0000\u222c\u0000\u222b\u0000\u22c2\u0000\u2063\u0000\u2062\u0000\u012e\u0000\ud835\udd40",
+            "\u0399\u0000\u2110\u0000\u0128\u0000\u0406\u0000\u00cf\u0000\u00cf\u0000\u0134\u0000\u0419\u0000",
+            "\ud835\udd0d\ud835\udd41\ud835\udca5\u0408\u0000\u0404\u0000\u0425\u0000\u040c\u0000\u039a\u0000",
+            "\u0136\u0000\u041a\u0000\ud835\udd0e\ud835\udd42\ud835\udca6\u0409\u0000\u003c\u0000\u003c\u0000",
+            "\u0139\u0000\u039b\u0000\u27ea\u0000\u2112\u0000\u219e\u0000\u013d\u0000\u013b\u0000\u041b\u0000",
+            "\u27e8\u0000\u2190\u0000\u21e4\u0000\u21c6\u0000\u2308\u0000\u27e6\u0000\u2961\u0000\u21c3\u0000",
+            "\u2959\u0000\u230a\u0000\u2194\u0000\u294e\u0000\u22a3\u0000\u21a4\u0000\u295a\u0000\u22b2\u0000",
+            "\u29cf\u0000\u22b4\u0000\u2951\u0000\u2960\u0000\u21bf\u0000\u2958\u0000\u21bc\u0000\u2952\u0000",
+            "\u21d0\u0000\u21d4\u0000\u22da\u0000\u2266\u0000\u2276\u0000\u2aa1\u0000\u2a7d\u0000\u2272\u0000",
+            "\ud835\udd0f\u22d8\u0000\u21da\u0000\u013f\u0000\u27f5\u0000\u27f7\u0000\u27f6\u0000\u27f8\u0000",
+            "\u27fa\u0000\u27f9\u0000\ud835\udd43\u2199\u0000\u2198\u0000\u2112\u0000\u21b0\u0000\u0141\u0000",
+            "\u226a\u0000\u2905\u0000\u041c\u0000\u205f\u0000\u2133\u0000\ud835\udd10\u2213\u0000\ud835\udd44",
+            "\u2133\u0000\u039c\u0000\u040a\u0000\u0143\u0000\u0147\u0000\u0145\u0000\u041d\u0000\u200b\u0000",
+            "\u200b\u0000\u200b\u0000\u200b\u0000\u226b\u0000\u226a\u0000\n\u0000\ud835\udd11\u2060\u0000",
+            "\u00a0\u0000\u2115\u0000\u2aec\u0000\u2262\u0000\u226d\u0000\u2226\u0000\u2209\u0000\u2260\u0000",
+            "\u2242\u0338\u2204\u0000\u226f\u0000\u2271\u0000\u2267\u0338\u226b\u0338\u2279\u0000\u2a7e\u0338",
+            "\u2275\u0000\u224e\u0338\u224f\u0338\u22ea\u0000\u29cf\u0338\u22ec\u0000\u226e\u0000\u2270\u0000",
+            "\u2278\u0000\u226a\u0338\u2a7d\u0338\u2274\u0000\u2aa2\u0338\u2aa1\u0338\u2280\u0000\u2aaf\u0338",
+            "\u22e0\u0000\u220c\u0000\u22eb\u0000\u29d0\u0338\u22ed\u0000\u228f\u0338\u22e2\u0000\u2290\u0338",
+            "\u22e3\u0000\u2282\u20d2\u2288\u0000\u2281\u0000\u2ab0\u0338\u22e1\u0000\u227f\u0338\u2283\u20d2",
+            "\u2289\u0000\u2241\u0000\u2244\u0000\u2247\u0000\u2249\u0000\u2224\u0000\ud835\udca9\u00d1\u0000",
+            "\u00d1\u0000\u039d\u0000\u0152\u0000\u00d3\u0000\u00d3\u0000\u00d4\u0000\u00d4\u0000\u041e\u0000",
+            "\u0150\u0000\ud835\udd12\u00d2\u0000\u00d2\u0000\u014c\u0000\u03a9\u0000\u039f\u0000\ud835\udd46",
+            "\u201c\u0000\u2018\u0000\u2a54\u0000\ud835\udcaa\u00d8\u0000\u00d8\u0000\u00d5\u0000\u00d5\u0000",
+            "\u2a37\u0000\u00d6\u0000\u00d6\u0000\u203e\u0000\u23de\u0000\u23b4\u0000\u23dc\u0000\u2202\u0000",
+            "\u041f\u0000\ud835\udd13\u03a6\u0000\u03a0\u0000\u00b1\u0000\u210c\u0000\u2119\u0000\u2abb\u0000",
+            "\u227a\u0000\u2aaf\u0000\u227c\u0000\u227e\u0000\u2033\u0000\u220f\u0000\u2237\u0000\u221d\u0000",
+            "\ud835\udcab\u03a8\u0000\"\u0000\"\u0000\ud835\udd14\u211a\u0000\ud835\udcac\u2910\u0000",
+            "\u00ae\u0000\u00ae\u0000\u0154\u0000\u27eb\u0000\u21a0\u0000\u2916\u0000\u0158\u0000\u0156\u0000",
+            "\u0420\u0000\u211c\u0000\u220b\u0000\u21cb\u0000\u296f\u0000\u211c\u0000\u03a1\u0000\u27e9\u0000",
+            "\u2192\u0000\u21e5\u0000\u21c4\u0000\u2309\u0000\u27e7\u0000\u295d\u0000\u21c2\u0000\u2955\u0000",
+            "\u230b\u0000\u22a2\u0000\u21a6\u0000\u295b\u0000\u22b3\u0000\u29d0\u0000\u22b5\u0000\u294f\u0000",
+            "\u295c\u0000\u21be\u0000\u2954\u0000\u21c0\u0000\u2953\u0000\u21d2\u0000\u211d\u0000\u2970\u0000",
+            "\u21db\u0000\u211b\u0000\u21b1\u0000\u29f4\u0000\u0429\u0000\u0428\u0000\u042c\u0000\u015a\u0000",
+            "\u2abc\u0000\u0160\u0000\u015e\u0000\u015c\u0000\u0421\u0000\ud835\udd16\u2193\u0000\u2190\u0000",
+            "\u2192\u0000\u2191\u0000\u03a3\u0000\u2218\u0000\ud835\udd4a\u221a\u0000\u25a1\u0000\u2293\u0000",
+            "\u228f\u0000\u2291\u0000\u2290\u0000\u2292\u0000\u2294\u0000\ud835\udcae\u22c6\u0000\u22d0\u0000",
+            "\u22d0\u0000\u2286\u0000\u227b\u0000\u2ab0\u0000\u227d\u0000\u227f\u0000\u220b\u0000\u2211\u0000",
+            "\u22d1\u0000\u2283\u0000\u2287\u0000\u22d1\u0000\u00de\u0000\u00de\u0000\u2122\u0000\u040b\u0000",
+            "\u0426\u0000\u0009\u0000\u03a4\u0000\u0164\u0000\u0162\u0000\u0422\u0000\ud835\udd17\u2234\u0000",
+            "\u0398\u0000\u205f\u200a\u2009\u0000\u223c\u0000\u2243\u0000\u2245\u0000\u2248\u0000\ud835\udd4b",
+            "\u20db\u0000\ud835\udcaf\u0166\u0000\u00da\u0000\u00da\u0000\u219f\u0000\u2949\u0000\u040e\u0000",
+            "\u016c\u0000\u00db\u0000\u00db\u0000\u0423\u0000\u0170\u0000\ud835\udd18\u00d9\u0000\u00d9\u0000",
+            "\u016a\u0000\u005f\u0000\u23df\u0000\u23b5\u0000\u23dd\u0000\u22c3\u0000\u228e\u0000\u0172\u0000",
+            "\ud835\udd4c\u2191\u0000\u2912\u0000\u21c5\u0000\u2195\u0000\u296e\u0000\u22a5\u0000\u21a5\u0000",
+            "\u21d1\u0000\u21d5\u0000\u2196\u0000\u2197\u0000\u03d2\u0000\u03a5\u0000\u016e\u0000\ud835\udcb0",
+            "\u0168\u0000\u00dc\u0000\u00dc\u0000\u22ab\u0000\u2aeb\u0000\u0412\u0000\u22a9\u0000\u2ae6\u0000",
+            "\u22c1\u0000\u2016\u0000\u2016\u0000\u2223\u0000\u007c\u0000\u2758\u0000\u2240\u0000\u200a\u0000",
+            "\ud835\udd19\ud835\udd4d\ud835\udcb1\u22aa\u0000\u0174\u0000\u22c0\u0000\ud835\udd1a\ud835\udd4e",
+            "\ud835\udcb2\ud835\udd1b\u039e\u0000\ud835\udd4f\ud835\udcb3\u042f\u0000\u0407\u0000\u042e\u0000",
+            "\u00dd\u0000\u00dd\u0000\u0176\u0000\u042b\u0000\ud835\udd1c\ud835\udd50\ud835\udcb4\u0178\u0000",
+            "\u0416\u0000\u0179\u0000\u017d\u0000\u0417\u0000\u017b\u0000\u200b\u0000\u0396\u0000\u2128\u0000",
+            "\u2124\u0000\ud835\udcb5\u00e1\u0000\u00e1\u0000\u0103\u0000\u223e\u0000\u223e\u0333\u223f\u0000",
+            "\u00e2\u0000\u00e2\u0000\u00b4\u0000\u00b4\u0000\u0430\u0000\u00e6\u0000\u00e6\u0000\u2061\u0000",
+            "\ud835\udd1e\u00e0\u0000\u00e0\u0000\u2135\u0000\u2135\u0000\u03b1\u0000\u0101\u0000\u2a3f\u0000",
+            "\u0026\u0000\u0026\u0000\u2227\u0000\u2a55\u0000\u2a5c\u0000\u2a58\u0000\u2a5a\u0000\u2220\u0000",
+            "\u29a4\u0000\u2220\u0000\u2221\u0000\u29a8\u0000\u29a9\u0000\u29aa\u0000\u29ab\u0000\u29ac\u0000",
+            "\u29ad\u0000\u29ae\u0000\u29af\u0000\u221f\u0000\u22be\u0000\u299d\u0000\u2222\u0000\u00c5\u0000",
+            "\u237c\u0000\u0105\u0000\ud835\udd52\u2248\u0000\u2a70\u0000\u2a6f\u0000\u224a\u0000\u224b\u0000",
+            "\u0027\u0000\u2248\u0000\u224a\u0000\u00e5\u0000\u00e5\u0000\ud835\udcb6\u002a\u0000\u2248\u0000",
+            "\u224d\u0000\u00e3\u0000\u00e3\u0000\u00e4\u0000\u00e4\u0000\u2233\u0000\u2a11\u0000\u2aed\u0000",
+            "\u224c\u0000\u03f6\u0000\u2035\u0000\u223d\u0000\u22cd\u0000\u22bd\u0000\u2305\u0000\u2305\u0000",
+            "\u23b5\u0000\u23b6\u0000\u224c\u0000\u0431\u0000\u201e\u0000\u2235\u0000\u2235\u0000\u29b0\u0000",
+            "\u03f6\u0000\u212c\u0000\u03b2\u0000\u2136\u0000\u226c\u0000\ud835\udd1f\u22c2\u0000\u25ef\u0000",
+            "\u22c3\u0000\u2a00\u0000\u2a01\u0000\u2a02\u0000\u2a06\u0000\u2605\u0000\u25bd\u0000\u25b3\u0000",
+            "\u2a04\u0000\u22c1\u0000\u22c0\u0000\u290d\u0000\u29eb\u0000\u25aa\u0000\u25b4\u0000\u25be\u0000",
+            "\u25c2\u0000\u25b8\u0000\u2423\u0000\u2592\u0000\u2591\u0000\u2593\u0000\u2588\u0000\u003d\u20e5",
+            "\u2261\u20e5\u2310\u0000\ud835\udd53\u22a5\u0000\u22a5\u0000\u22c8\u0000\u2557\u0000\u2554\u0000",
+            "\u2556\u0000\u2553\u0000\u2550\u0000\u2566\u0000\u2569\u0000\u2564\u0000\u2567\u0000\u255d\u0000",
+            "\u255a\u0000\u255c\u0000\u2559\u0000\u2551\u0000\u256c\u0000\u2563\u0000\u2560\u0000\u256b\u0000",
+            "\u2562\u0000\u255f\u0000\u29c9\u0000\u2555\u0000\u2552\u0000\u2510\u0000\u250c\u0000\u2500\u0000",
+            "\u2565\u0000\u2568\u0000\u252c\u0000\u2534\u0000\u229f\u0000\u229e\u0000\u22a0\u0000\u255b\u0000",
+            "\u2558\u0000\u2518\u0000\u2514\u0000\u2502\u0000\u256a\u0000\u2561\u0000\u255e\u0000\u253c\u0000",
+            "\u2524\u0000\u251c\u0000\u2035\u0000\u02d8\u0000\u00a6\u0000\u00a6\u0000\ud835\udcb7\u204f\u0000",
+            "\u223d\u0000\u22cd\u0000\\\u0000\u29c5\u0000\u27c8\u0000\u2022\u0000\u2022\u0000\u224e\u0000",
+            "\u2aae\u0000\u224f\u0000\u224f\u0000\u0107\u0000\u2229\u0000\u2a44\u0000\u2a49\u0000\u2a4b\u0000",
+            "\u2a47\u0000\u2a40\u0000\u2229\ufe00\u2041\u0000\u02c7\u0000\u2a4d\u0000\u010d\u0000\u00e7\u0000",
+            "\u00e7\u0000\u0109\u0000\u2a4c\u0000\u2a50\u0000\u010b\u0000\u00b8\u0000\u00b8\u0000\u29b2\u0000",
+            "\u00a2\u0000\u00a2\u0000\u00b7\u0000\ud835\udd20\u0447\u0000\u2713\u0000\u2713\u0000\u03c7\u0000",
+            "\u25cb\u0000\u29c3\u0000\u02c6\u0000\u2257\u0000\u21ba\u0000\u21bb\u0000\u00ae\u0000\u24c8\u0000",
+            "\u229b\u0000\u229a\u0000\u229d\u0000\u2257\u0000\u2a10\u0000\u2aef\u0000\u29c2\u0000\u2663\u0000",
+            "\u2663\u0000\u003a\u0000\u2254\u0000\u2254\u0000\u002c\u0000\u0040\u0000\u2201\u0000\u2218\u0000",
+            "\u2201\u0000\u2102\u0000\u2245\u0000\u2a6d\u0000\u222e\u0000\ud835\udd54\u2210\u0000\u00a9\u0000",
+            "\u00a9\u0000\u2117\u0000\u21b5\u0000\u2717\u0000\ud835\udcb8\u2acf\u0000\u2ad1\u0000\u2ad0\u0000",
+            "\u2ad2\u0000\u22ef\u0000\u2938\u0000\u2935\u0000\u22de\u0000\u22df\u0000\u21b6\u0000\u293d\u0000",
+            "\u222a\u0000\u2a48\u0000\u2a46\u0000\u2a4a\u0000\u228d\u0000\u2a45\u0000\u222a\ufe00\u21b7\u0000",
+            "\u293c\u0000\u22de\u0000\u22df\u0000\u22ce\u0000\u22cf\u0000\u00a4\u0000\u00a4\u0000\u21b6\u0000",
+            "\u21b7\u0000\u22ce\u0000\u22cf\u0000\u2232\u0000\u2231\u0000\u232d\u0000\u21d3\u0000\u2965\u0000",
+            "\u2020\u0000\u2138\u0000\u2193\u0000\u2010\u0000\u22a3\u0000\u290f\u0000\u02dd\u0000\u010f\u0000",
+            "\u0434\u0000\u2146\u0000\u2021\u0000\u21ca\u0000\u2a77\u0000\u00b0\u0000\u00b0\u0000\u03b4\u0000",
+            "\u29b1\u0000\u297f\u0000\ud835\udd21\u21c3\u0000\u21c2\u0000\u22c4\u0000\u22c4\u0000\u2666\u0000",
+            "\u2666\u0000\u00a8\u0000\u03dd\u0000\u22f2\u0000\u00f7\u0000\u00f7\u0000\u00f7\u0000\u22c7\u0000",
+            "\u22c7\u0000\u0452\u0000\u231e\u0000\u230d\u0000\u0024\u0000\ud835\udd55\u02d9\u0000\u2250\u0000",
+            "\u2251\u0000\u2238\u0000\u2214\u0000\u22a1\u0000\u2306\u0000\u2193\u0000\u21ca\u0000\u21c3\u0000",
+            "\u21c2\u0000\u2910\u0000\u231f\u0000\u230c\u0000\ud835\udcb9\u0455\u0000\u29f6\u0000\u0111\u0000",
+            "\u22f1\u0000\u25bf\u0000\u25be\u0000\u21f5\u0000\u296f\u0000\u29a6\u0000\u045f\u0000\u27ff\u0000",
+            "\u2a77\u0000\u2251\u0000\u00e9\u0000\u00e9\u0000\u2a6e\u0000\u011b\u0000\u2256\u0000\u00ea\u0000",
+            "\u00ea\u0000\u2255\u0000\u044d\u0000\u0117\u0000\u2147\u0000\u2252\u0000\ud835\udd22\u2a9a\u0000",
+            "\u00e8\u0000\u00e8\u0000\u2a96\u0000\u2a98\u0000\u2a99\u0000\u23e7\u0000\u2113\u0000\u2a95\u0000",
+            "\u2a97\u0000\u0113\u0000\u2205\u0000\u2205\u0000\u2205\u0000\u2004\u0000\u2005\u0000\u2003\u0000",
+            "\u014b\u0000\u2002\u0000\u0119\u0000\ud835\udd56\u22d5\u0000\u29e3\u0000\u2a71\u0000\u03b5\u0000",
+            "\u03b5\u0000\u03f5\u0000\u2256\u0000\u2255\u0000\u2242\u0000\u2a96\u0000\u2a95\u0000\u003d\u0000",
+            "\u225f\u0000\u2261\u0000\u2a78\u0000\u29e5\u0000\u2253\u0000\u2971\u0000\u212f\u0000\u2250\u0000",
+            "\u2242\u0000\u03b7\u0000\u00f0\u0000\u00f0\u0000\u00eb\u0000\u00eb\u0000\u20ac\u0000\u0021\u0000",
+            "\u2203\u0000\u2130\u0000\u2147\u0000\u2252\u0000\u0444\u0000\u2640\u0000\ufb03\u0000\ufb00\u0000",
+            "\ufb04\u0000\ud835\udd23\ufb01\u0000\u0066\u006a\u266d\u0000\ufb02\u0000\u25b1\u0000\u0192\u0000",
+            "\ud835\udd57\u2200\u0000\u22d4\u0000\u2ad9\u0000\u2a0d\u0000\u00bd\u0000\u00bd\u0000\u2153\u0000",
+            "\u00bc\u0000\u00bc\u0000\u2155\u0000\u2159\u0000\u215b\u0000\u2154\u0000\u2156\u0000\u00be\u0000",
+            "\u00be\u0000\u2157\u0000\u215c\u0000\u2158\u0000\u215a\u0000\u215d\u0000\u215e\u0000\u2044\u0000",
+            "\u2322\u0000\ud835\udcbb\u2267\u0000\u2a8c\u0000\u01f5\u0000\u03b3\u0000\u03dd\u0000\u2a86\u0000",
+            "\u011f\u0000\u011d\u0000\u0433\u0000\u0121\u0000\u2265\u0000\u22db\u0000\u2265\u0000\u2267\u0000",
+            "\u2a7e\u0000\u2a7e\u0000\u2aa9\u0000\u2a80\u0000\u2a82\u0000\u2a84\u0000\u22db\ufe00\u2a94\u0000",
+            "\ud835\udd24\u226b\u0000\u22d9\u0000\u2137\u0000\u0453\u0000\u2277\u0000\u2a92\u0000\u2aa5\u0000",
+            "\u2aa4\u0000\u2269\u0000\u2a8a\u0000\u2a8a\u0000\u2a88\u0000\u2a88\u0000\u2269\u0000\u22e7\u0000",
+            "\ud835\udd58\u0060\u0000\u210a\u0000\u2273\u0000\u2a8e\u0000\u2a90\u0000\u003e\u0000\u003e\u0000",
+            "\u2aa7\u0000\u2a7a\u0000\u22d7\u0000\u2995\u0000\u2a7c\u0000\u2a86\u0000\u2978\u0000\u22d7\u0000",
+            "\u22db\u0000\u2a8c\u0000\u2277\u0000\u2273\u0000\u2269\ufe00\u2269\ufe00\u21d4\u0000\u200a\u0000",
+            "\u00bd\u0000\u210b\u0000\u044a\u0000\u2194\u0000\u2948\u0000\u21ad\u0000\u210f\u0000\u0125\u0000",
+            "\u2665\u0000\u2665\u0000\u2026\u0000\u22b9\u0000\ud835\udd25\u2925\u0000\u2926\u0000\u21ff\u0000",
+            "\u223b\u0000\u21a9\u0000\u21aa\u0000\ud835\udd59\u2015\u0000\ud835\udcbd\u210f\u0000\u0127\u0000",
+            "\u2043\u0000\u2010\u0000\u00ed\u0000\u00ed\u0000\u2063\u0000\u00ee\u0000\u00ee\u0000\u0438\u0000",
+            "\u0435\u0000\u00a1\u0000\u00a1\u0000\u21d4\u0000\ud835\udd26\u00ec\u0000\u00ec\u0000\u2148\u0000",
+            "\u2a0c\u0000\u222d\u0000\u29dc\u0000\u2129\u0000\u0133\u0000\u012b\u0000\u2111\u0000\u2110\u0000",
+            "\u2111\u0000\u0131\u0000\u22b7\u0000\u01b5\u0000\u2208\u0000\u2105\u0000\u221e\u0000\u29dd\u0000",
+            "\u0131\u0000\u222b\u0000\u22ba\u0000\u2124\u0000\u22ba\u0000\u2a17\u0000\u2a3c\u0000\u0451\u0000",
+            "\u012f\u0000\ud835\udd5a\u03b9\u0000\u2a3c\u0000\u00bf\u0000\u00bf\u0000\ud835\udcbe\u2208\u0000",
+            "\u22f9\u0000\u22f5\u0000\u22f4\u0000\u22f3\u0000\u2208\u0000\u2062\u0000\u0129\u0000\u0456\u0000",
+            "\u00ef\u0000\u00ef\u0000\u0135\u0000\u0439\u0000\ud835\udd27\u0237\u0000\ud835\udd5b\ud835\udcbf",
+            "\u0458\u0000\u0454\u0000\u03ba\u0000\u03f0\u0000\u0137\u0000\u043a\u0000\ud835\udd28\u0138\u0000",
+            "\u0445\u0000\u045c\u0000\ud835\udd5c\ud835\udcc0\u21da\u0000\u21d0\u0000\u291b\u0000\u290e\u0000",
+            "\u2266\u0000\u2a8b\u0000\u2962\u0000\u013a\u0000\u29b4\u0000\u2112\u0000\u03bb\u0000\u27e8\u0000",
+            "\u2991\u0000\u27e8\u0000\u2a85\u0000\u00ab\u0000\u00ab\u0000\u2190\u0000\u21e4\u0000\u291f\u0000",
+            "\u291d\u0000\u21a9\u0000\u21ab\u0000\u2939\u0000\u2973\u0000\u21a2\u0000\u2aab\u0000\u2919\u0000",
+            "\u2aad\u0000\u2aad\ufe00\u290c\u0000\u2772\u0000\u007b\u0000\u005b\u0000\u298b\u0000\u298f\u0000",
+            "\u298d\u0000\u013e\u0000\u013c\u0000\u2308\u0000\u007b\u0000\u043b\u0000\u2936\u0000\u201c\u0000",
+            "\u201e\u0000\u2967\u0000\u294b\u0000\u21b2\u0000\u2264\u0000\u2190\u0000\u21a2\u0000\u21bd\u0000",
+            "\u21bc\u0000\u21c7\u0000\u2194\u0000\u21c6\u0000\u21cb\u0000\u21ad\u0000\u22cb\u0000\u22da\u0000",
+            "\u2264\u0000\u2266\u0000\u2a7d\u0000\u2a7d\u0000\u2aa8\u0000\u2a7f\u0000\u2a81\u0000\u2a83\u0000",
+            "\u22da\ufe00\u2a93\u0000\u2a85\u0000\u22d6\u0000\u22da\u0000\u2a8b\u0000\u2276\u0000\u2272\u0000",
+            "\u297c\u0000\u230a\u0000\ud835\udd29\u2276\u0000\u2a91\u0000\u21bd\u0000\u21bc\u0000\u296a\u0000",
+            "\u2584\u0000\u0459\u0000\u226a\u0000\u21c7\u0000\u231e\u0000\u296b\u0000\u25fa\u0000\u0140\u0000",
+            "\u23b0\u0000\u23b0\u0000\u2268\u0000\u2a89\u0000\u2a89\u0000\u2a87\u0000\u2a87\u0000\u2268\u0000",
+            "\u22e6\u0000\u27ec\u0000\u21fd\u0000\u27e6\u0000\u27f5\u0000\u27f7\u0000\u27fc\u0000\u27f6\u0000",
+            "\u21ab\u0000\u21ac\u0000\u2985\u0000\ud835\udd5d\u2a2d\u0000\u2a34\u0000\u2217\u0000\u005f\u0000",
+            "\u25ca\u0000\u25ca\u0000\u29eb\u0000\u0028\u0000\u2993\u0000\u21c6\u0000\u231f\u0000\u21cb\u0000",
+            "\u296d\u0000\u200e\u0000\u22bf\u0000\u2039\u0000\ud835\udcc1\u21b0\u0000\u2272\u0000\u2a8d\u0000",
+            "\u2a8f\u0000\u005b\u0000\u2018\u0000\u201a\u0000\u0142\u0000\u003c\u0000\u003c\u0000\u2aa6\u0000",
+            "\u2a79\u0000\u22d6\u0000\u22cb\u0000\u22c9\u0000\u2976\u0000\u2a7b\u0000\u2996\u0000\u25c3\u0000",
+            "\u22b4\u0000\u25c2\u0000\u294a\u0000\u2966\u0000\u2268\ufe00\u2268\ufe00\u223a\u0000\u00af\u0000",
+            "\u00af\u0000\u2642\u0000\u2720\u0000\u2720\u0000\u21a6\u0000\u21a6\u0000\u21a7\u0000\u21a4\u0000",
+            "\u21a5\u0000\u25ae\u0000\u2a29\u0000\u043c\u0000\u2014\u0000\u2221\u0000\ud835\udd2a\u2127\u0000",
+            "\u00b5\u0000\u00b5\u0000\u2223\u0000\u002a\u0000\u2af0\u0000\u00b7\u0000\u00b7\u0000\u2212\u0000",
+            "\u229f\u0000\u2238\u0000\u2a2a\u0000\u2adb\u0000\u2026\u0000\u2213\u0000\u22a7\u0000\ud835\udd5e",
+            "\u2213\u0000\ud835\udcc2\u223e\u0000\u03bc\u0000\u22b8\u0000\u22b8\u0000\u22d9\u0338\u226b\u20d2",
+            "\u226b\u0338\u21cd\u0000\u21ce\u0000\u22d8\u0338\u226a\u20d2\u226a\u0338\u21cf\u0000\u22af\u0000",
+            "\u22ae\u0000\u2207\u0000\u0144\u0000\u2220\u20d2\u2249\u0000\u2a70\u0338\u224b\u0338\u0149\u0000",
+            "\u2249\u0000\u266e\u0000\u266e\u0000\u2115\u0000\u00a0\u0000\u00a0\u0000\u224e\u0338\u224f\u0338",
+            "\u2a43\u0000\u0148\u0000\u0146\u0000\u2247\u0000\u2a6d\u0338\u2a42\u0000\u043d\u0000\u2013\u0000",
+            "\u2260\u0000\u21d7\u0000\u2924\u0000\u2197\u0000\u2197\u0000\u2250\u0338\u2262\u0000\u2928\u0000",
+            "\u2242\u0338\u2204\u0000\u2204\u0000\ud835\udd2b\u2267\u0338\u2271\u0000\u2271\u0000\u2267\u0338",
+            "\u2a7e\u0338\u2a7e\u0338\u2275\u0000\u226f\u0000\u226f\u0000\u21ce\u0000\u21ae\u0000\u2af2\u0000",
+            "\u220b\u0000\u22fc\u0000\u22fa\u0000\u220b\u0000\u045a\u0000\u21cd\u0000\u2266\u0338\u219a\u0000",
+            "\u2025\u0000\u2270\u0000\u219a\u0000\u21ae\u0000\u2270\u0000\u2266\u0338\u2a7d\u0338\u2a7d\u0338",
+            "\u226e\u0000\u2274\u0000\u226e\u0000\u22ea\u0000\u22ec\u0000\u2224\u0000\ud835\udd5f\u00ac\u0000",
+            "\u00ac\u0000\u2209\u0000\u22f9\u0338\u22f5\u0338\u2209\u0000\u22f7\u0000\u22f6\u0000\u220c\u0000",
+            "\u220c\u0000\u22fe\u0000\u22fd\u0000\u2226\u0000\u2226\u0000\u2afd\u20e5\u2202\u0338\u2a14\u0000",
+            "\u2280\u0000\u22e0\u0000\u2aaf\u0338\u2280\u0000\u2aaf\u0338\u21cf\u0000\u219b\u0000\u2933\u0338",
+            "\u219d\u0338\u219b\u0000\u22eb\u0000\u22ed\u0000\u2281\u0000\u22e1\u0000\u2ab0\u0338\ud835\udcc3",
+            "\u2224\u0000\u2226\u0000\u2241\u0000\u2244\u0000\u2244\u0000\u2224\u0000\u2226\u0000\u22e2\u0000",
+            "\u22e3\u0000\u2284\u0000\u2ac5\u0338\u2288\u0000\u2282\u20d2\u2288\u0000\u2ac5\u0338\u2281\u0000",
+            "\u2ab0\u0338\u2285\u0000\u2ac6\u0338\u2289\u0000\u2283\u20d2\u2289\u0000\u2ac6\u0338\u2279\u0000",
+            "\u00f1\u0000\u00f1\u0000\u2278\u0000\u22ea\u0000\u22ec\u0000\u22eb\u0000\u22ed\u0000\u03bd\u0000",
+            "\u0023\u0000\u2116\u0000\u2007\u0000\u22ad\u0000\u2904\u0000\u224d\u20d2\u22ac\u0000\u2265\u20d2",
+            "\u003e\u20d2\u29de\u0000\u2902\u0000\u2264\u20d2\u003c\u20d2\u22b4\u20d2\u2903\u0000\u22b5\u20d2",
+            "\u223c\u20d2\u21d6\u0000\u2923\u0000\u2196\u0000\u2196\u0000\u2927\u0000\u24c8\u0000\u00f3\u0000",
+            "\u00f3\u0000\u229b\u0000\u229a\u0000\u00f4\u0000\u00f4\u0000\u043e\u0000\u229d\u0000\u0151\u0000",
+            "\u2a38\u0000\u2299\u0000\u29bc\u0000\u0153\u0000\u29bf\u0000\ud835\udd2c\u02db\u0000\u00f2\u0000",
+            "\u00f2\u0000\u29c1\u0000\u29b5\u0000\u03a9\u0000\u222e\u0000\u21ba\u0000\u29be\u0000\u29bb\u0000",
+            "\u203e\u0000\u29c0\u0000\u014d\u0000\u03c9\u0000\u03bf\u0000\u29b6\u0000\u2296\u0000\ud835\udd60",
+            "\u29b7\u0000\u29b9\u0000\u2295\u0000\u2228\u0000\u21bb\u0000\u2a5d\u0000\u2134\u0000\u2134\u0000",
+            "\u00aa\u0000\u00aa\u0000\u00ba\u0000\u00ba\u0000\u22b6\u0000\u2a56\u0000\u2a57\u0000\u2a5b\u0000",
+            "\u2134\u0000\u00f8\u0000\u00f8\u0000\u2298\u0000\u00f5\u0000\u00f5\u0000\u2297\u0000\u2a36\u0000",
+            "\u00f6\u0000\u00f6\u0000\u233d\u0000\u2225\u0000\u00b6\u0000\u00b6\u0000\u2225\u0000\u2af3\u0000",
+            "\u2afd\u0000\u2202\u0000\u043f\u0000\u0025\u0000\u002e\u0000\u2030\u0000\u22a5\u0000\u2031\u0000",
+            "\ud835\udd2d\u03c6\u0000\u03d5\u0000\u2133\u0000\u260e\u0000\u03c0\u0000\u22d4\u0000\u03d6\u0000",
+            "\u210f\u0000\u210e\u0000\u210f\u0000\u002b\u0000\u2a23\u0000\u229e\u0000\u2a22\u0000\u2214\u0000",
+            "\u2a25\u0000\u2a72\u0000\u00b1\u0000\u00b1\u0000\u2a26\u0000\u2a27\u0000\u00b1\u0000\u2a15\u0000",
+            "\ud835\udd61\u00a3\u0000\u00a3\u0000\u227a\u0000\u2ab3\u0000\u2ab7\u0000\u227c\u0000\u2aaf\u0000",
+            "\u227a\u0000\u2ab7\u0000\u227c\u0000\u2aaf\u0000\u2ab9\u0000\u2ab5\u0000\u22e8\u0000\u227e\u0000",
+            "\u2032\u0000\u2119\u0000\u2ab5\u0000\u2ab9\u0000\u22e8\u0000\u220f\u0000\u232e\u0000\u2312\u0000",
+            "\u2313\u0000\u221d\u0000\u221d\u0000\u227e\u0000\u22b0\u0000\ud835\udcc5\u03c8\u0000\u2008\u0000",
+            "\ud835\udd2e\u2a0c\u0000\ud835\udd62\u2057\u0000\ud835\udcc6\u210d\u0000\u2a16\u0000\u003f\u0000",
+            "\u225f\u0000\"\u0000\"\u0000\u21db\u0000\u21d2\u0000\u291c\u0000\u290f\u0000\u2964\u0000",
+            "\u223d\u0331\u0155\u0000\u221a\u0000\u29b3\u0000\u27e9\u0000\u2992\u0000\u29a5\u0000\u27e9\u0000",
+            "\u00bb\u0000\u00bb\u0000\u2192\u0000\u2975\u0000\u21e5\u0000\u2920\u0000\u2933\u0000\u291e\u0000",
+            "\u21aa\u0000\u21ac\u0000\u2945\u0000\u2974\u0000\u21a3\u0000\u219d\u0000\u291a\u0000\u2236\u0000",
+            "\u211a\u0000\u290d\u0000\u2773\u0000\u007d\u0000\u005d\u0000\u298c\u0000\u298e\u0000\u2990\u0000",
+            "\u0159\u0000\u0157\u0000\u2309\u0000\u007d\u0000\u0440\u0000\u2937\u0000\u2969\u0000\u201d\u0000",
+            "\u201d\u0000\u21b3\u0000\u211c\u0000\u211b\u0000\u211c\u0000\u211d\u0000\u25ad\u0000\u00ae\u0000",
+            "\u00ae\u0000\u297d\u0000\u230b\u0000\ud835\udd2f\u21c1\u0000\u21c0\u0000\u296c\u0000\u03c1\u0000",
+            "\u03f1\u0000\u2192\u0000\u21a3\u0000\u21c1\u0000\u21c0\u0000\u21c4\u0000\u21cc\u0000\u21c9\u0000",
+            "\u219d\u0000\u22cc\u0000\u02da\u0000\u2253\u0000\u21c4\u0000\u21cc\u0000\u200f\u0000\u23b1\u0000",
+            "\u23b1\u0000\u2aee\u0000\u27ed\u0000\u21fe\u0000\u27e7\u0000\u2986\u0000\ud835\udd63\u2a2e\u0000",
+            "\u2a35\u0000\u0029\u0000\u2994\u0000\u2a12\u0000\u21c9\u0000\u203a\u0000\ud835\udcc7\u21b1\u0000",
+            "\u005d\u0000\u2019\u0000\u2019\u0000\u22cc\u0000\u22ca\u0000\u25b9\u0000\u22b5\u0000\u25b8\u0000",
+            "\u29ce\u0000\u2968\u0000\u211e\u0000\u015b\u0000\u201a\u0000\u227b\u0000\u2ab4\u0000\u2ab8\u0000",
+            "\u0161\u0000\u227d\u0000\u2ab0\u0000\u015f\u0000\u015d\u0000\u2ab6\u0000\u2aba\u0000\u22e9\u0000",
+            "\u2a13\u0000\u227f\u0000\u0441\u0000\u22c5\u0000\u22a1\u0000\u2a66\u0000\u21d8\u0000\u2925\u0000",
+            "\u2198\u0000\u2198\u0000\u00a7\u0000\u00a7\u0000\u003b\u0000\u2929\u0000\u2216\u0000\u2216\u0000",
+            "\u2736\u0000\ud835\udd30\u2322\u0000\u266f\u0000\u0449\u0000\u0448\u0000\u2223\u0000\u2225\u0000",
+            "\u00ad\u0000\u00ad\u0000\u03c3\u0000\u03c2\u0000\u03c2\u0000\u223c\u0000\u2a6a\u0000\u2243\u0000",
+            "\u2243\u0000\u2a9e\u0000\u2aa0\u0000\u2a9d\u0000\u2a9f\u0000\u2246\u0000\u2a24\u0000\u2972\u0000",
+            "\u2190\u0000\u2216\u0000\u2a33\u0000\u29e4\u0000\u2223\u0000\u2323\u0000\u2aaa\u0000\u2aac\u0000",
+            "\u2aac\ufe00\u044c\u0000\u002f\u0000\u29c4\u0000\u233f\u0000\ud835\udd64\u2660\u0000\u2660\u0000",
+            "\u2225\u0000\u2293\u0000\u2293\ufe00\u2294\u0000\u2294\ufe00\u228f\u0000\u2291\u0000\u228f\u0000",
+            "\u2291\u0000\u2290\u0000\u2292\u0000\u2290\u0000\u2292\u0000\u25a1\u0000\u25a1\u0000\u25aa\u0000",
+            "\u25aa\u0000\u2192\u0000\ud835\udcc8\u2216\u0000\u2323\u0000\u22c6\u0000\u2606\u0000\u2605\u0000",
+            "\u03f5\u0000\u03d5\u0000\u00af\u0000\u2282\u0000\u2ac5\u0000\u2abd\u0000\u2286\u0000\u2ac3\u0000",
+            "\u2ac1\u0000\u2acb\u0000\u228a\u0000\u2abf\u0000\u2979\u0000\u2282\u0000\u2286\u0000\u2ac5\u0000",
+            "\u228a\u0000\u2acb\u0000\u2ac7\u0000\u2ad5\u0000\u2ad3\u0000\u227b\u0000\u2ab8\u0000\u227d\u0000",
+            "\u2ab0\u0000\u2aba\u0000\u2ab6\u0000\u22e9\u0000\u227f\u0000\u2211\u0000\u266a\u0000\u00b9\u0000",
+            "\u00b9\u0000\u00b2\u0000\u00b2\u0000\u00b3\u0000\u00b3\u0000\u2283\u0000\u2ac6\u0000\u2abe\u0000",
+            "\u2ad8\u0000\u2287\u0000\u2ac4\u0000\u27c9\u0000\u2ad7\u0000\u297b\u0000\u2ac2\u0000\u2acc\u0000",
+            "\u228b\u0000\u2ac0\u0000\u2283\u0000\u2287\u0000\u2ac6\u0000\u228b\u0000\u2acc\u0000\u2ac8\u0000",
+            "\u2ad4\u0000\u2ad6\u0000\u21d9\u0000\u2926\u0000\u2199\u0000\u2199\u0000\u292a\u0000\u00df\u0000",
+            "\u00df\u0000\u2316\u0000\u03c4\u0000\u23b4\u0000\u0165\u0000\u0163\u0000\u0442\u0000\u20db\u0000",
+            "\u2315\u0000\ud835\udd31\u2234\u0000\u2234\u0000\u03b8\u0000\u03d1\u0000\u03d1\u0000\u2248\u0000",
+            "\u223c\u0000\u2009\u0000\u2248\u0000\u223c\u0000\u00fe\u0000\u00fe\u0000\u02dc\u0000\u00d7\u0000",
+            "\u00d7\u0000\u22a0\u0000\u2a31\u0000\u2a30\u0000\u222d\u0000\u2928\u0000\u22a4\u0000\u2336\u0000",
+            "\u2af1\u0000\ud835\udd65\u2ada\u0000\u2929\u0000\u2034\u0000\u2122\u0000\u25b5\u0000\u25bf\u0000",
+            "\u25c3\u0000\u22b4\u0000\u225c\u0000\u25b9\u0000\u22b5\u0000\u25ec\u0000\u225c\u0000\u2a3a\u0000",
+            "\u2a39\u0000\u29cd\u0000\u2a3b\u0000\u23e2\u0000\ud835\udcc9\u0446\u0000\u045b\u0000\u0167\u0000",
+            "\u226c\u0000\u219e\u0000\u21a0\u0000\u21d1\u0000\u2963\u0000\u00fa\u0000\u00fa\u0000\u2191\u0000",
+            "\u045e\u0000\u016d\u0000\u00fb\u0000\u00fb\u0000\u0443\u0000\u21c5\u0000\u0171\u0000\u296e\u0000",
+            "\u297e\u0000\ud835\udd32\u00f9\u0000\u00f9\u0000\u21bf\u0000\u21be\u0000\u2580\u0000\u231c\u0000",
+            "\u231c\u0000\u230f\u0000\u25f8\u0000\u016b\u0000\u00a8\u0000\u00a8\u0000\u0173\u0000\ud835\udd66",
+            "\u2191\u0000\u2195\u0000\u21bf\u0000\u21be\u0000\u228e\u0000\u03c5\u0000\u03d2\u0000\u03c5\u0000",
+            "\u21c8\u0000\u231d\u0000\u231d\u0000\u230e\u0000\u016f\u0000\u25f9\u0000\ud835\udcca\u22f0\u0000",
+            "\u0169\u0000\u25b5\u0000\u25b4\u0000\u21c8\u0000\u00fc\u0000\u00fc\u0000\u29a7\u0000\u21d5\u0000",
+            "\u2ae8\u0000\u2ae9\u0000\u22a8\u0000\u299c\u0000\u03f5\u0000\u03f0\u0000\u2205\u0000\u03d5\u0000",
+            "\u03d6\u0000\u221d\u0000\u2195\u0000\u03f1\u0000\u03c2\u0000\u228a\ufe00\u2acb\ufe00\u228b\ufe00",
+            "\u2acc\ufe00\u03d1\u0000\u22b2\u0000\u22b3\u0000\u0432\u0000\u22a2\u0000\u2228\u0000\u22bb\u0000",
+            "\u225a\u0000\u22ee\u0000\u007c\u0000\u007c\u0000\ud835\udd33\u22b2\u0000\u2282\u20d2\u2283\u20d2",
+            "\ud835\udd67\u221d\u0000\u22b3\u0000\ud835\udccb\u2acb\ufe00\u228a\ufe00\u2acc\ufe00\u228b\ufe00",
+            "\u299a\u0000\u0175\u0000\u2a5f\u0000\u2227\u0000\u2259\u0000\u2118\u0000\ud835\udd34\ud835\udd68",
+            "\u2118\u0000\u2240\u0000\u2240\u0000\ud835\udccc\u22c2\u0000\u25ef\u0000\u22c3\u0000\u25bd\u0000",
+            "\ud835\udd35\u27fa\u0000\u27f7\u0000\u03be\u0000\u27f8\u0000\u27f5\u0000\u27fc\u0000\u22fb\u0000",
+            "\u2a00\u0000\ud835\udd69\u2a01\u0000\u2a02\u0000\u27f9\u0000\u27f6\u0000\ud835\udccd\u2a06\u0000",
+            "\u2a04\u0000\u25b3\u0000\u22c1\u0000\u22c0\u0000\u00fd\u0000\u00fd\u0000\u044f\u0000\u0177\u0000",
+            "\u044b\u0000\u00a5\u0000\u00a5\u0000\ud835\udd36\u0457\u0000\ud835\udd6a\ud835\udcce\u044e\u0000",
+            "\u00ff\u0000\u00ff\u0000\u017a\u0000\u017e\u0000\u0437\u0000\u017c\u0000\u2128\u0000\u03b6\u0000",
+            "\ud835\udd37\u0436\u0000\u21dd\u0000\ud835\udd6b\ud835\udccf\u200d\u0000\u200c\u0000",
+    });
+
+    private static char[] join(String[] parts) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < parts.length; i++) {
+            sb.append(parts[i]);
+        }
+        return sb.toString().toCharArray();
+    }
+
+    /**
+     * Returns the accept value of <code>node</code>.
+     */
+    @Inline static int accept(int node) {
+        return NODES[(node << 1) + 1] - 1;
+    }
+
+    /**
+     * Returns the node reached from <code>node</code> by <code>c</code> or 0.
+     */
+    @Inline static int child(int node, char c) {
+        int end = NODES[(node << 1) + 2] << 1;
+        for (int i = NODES[node << 1] << 1; i < end; i += 2) {
+            if (EDGES[i] == c) {
+                return EDGES[i + 1];
+            }
+        }
+        return 0;
+    }
+}
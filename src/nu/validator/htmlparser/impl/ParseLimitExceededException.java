@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.impl;
+
+import org.xml.sax.Locator;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Thrown when a parse goes over one of its <code>ParseLimits</code>. The
+ * error handler does not see this exception; it aborts the parse.
+ * 
+ * @version $Id$
+ */
+public final class ParseLimitExceededException extends SAXParseException {
+
+    private static final long serialVersionUID = 6023428542339446617L;
+
+    private final ParseLimits.Limit limit;
+
+    /**
+     * Constructor.
+     * 
+     * @param limit
+     *            the limit that was exceeded
+     * @param max
+     *            the value of the limit
+     * @param locator
+     *            where the parse was or <code>null</code>
+     */
+    public ParseLimitExceededException(ParseLimits.Limit limit, long max,
+            Locator locator) {
+        super("Parse aborted: more than " + max + " "
+                + limit.getDescription() + ".", locator);
+        this.limit = limit;
+    }
+
+    /**
+     * Returns the limit that was exceeded.
+     * 
+     * @return the limit
+     */
+    public ParseLimits.Limit getLimit() {
+        return limit;
+    }
+}
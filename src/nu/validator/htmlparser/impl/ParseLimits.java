@@ -0,0 +1,341 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.impl;
+
+/**
+ * Resource limits for a parse. A parse that goes over a limit is aborted
+ * with a <code>ParseLimitExceededException</code>. Meant for parsing
+ * untrusted documents in a server, where a single hostile document should
+ * not be able to take all the memory or CPU time.
+ * 
+ * <p>
+ * Everything is unlimited by default. The limits are read when a parse
+ * starts, so changing them affects the next parse. The deadline is
+ * checked once per buffer of input, so a parse may run a bit over its
+ * time. The text length limit applies to comments and to text nodes. The
+ * DOM, XOM and arena tree builders check the length of a text node after
+ * they have merged a run of text into it. <code>TreeOpBuilder</code> does
+ * not see the tree, so it checks each run of text that it records.
+ * 
+ * <p>
+ * Independently of the limits, a parse that reads from a stream is
+ * aborted with an <code>InterruptedIOException</code> if the parsing
+ * thread is interrupted.
+ * 
+ * @version $Id$
+ */
+public final class ParseLimits {
+
+    /**
+     * The kinds of limits.
+     */
+    public enum Limit {
+        /**
+         * The number of bytes read from the byte stream.
+         */
+        INPUT_BYTES("bytes of input"),
+
+        /**
+         * The number of UTF-16 code units tokenized.
+         */
+        CHARS("characters of input"),
+
+        /**
+         * The depth of the stack of open elements.
+         */
+        STACK_DEPTH("open elements"),
+
+        /**
+         * The length of the list of active formatting elements.
+         */
+        ACTIVE_FORMATTING_ELEMENTS("active formatting elements"),
+
+        /**
+         * The number of attributes on a tag.
+         */
+        ATTRIBUTES("attributes on an element"),
+
+        /**
+         * The length of an attribute value.
+         */
+        ATTRIBUTE_VALUE_LENGTH("characters in an attribute value"),
+
+        /**
+         * The length of a text node or comment.
+         */
+        TEXT_LENGTH("characters in a text node or comment"),
+
+        /**
+         * The number of elements, text nodes and comments created.
+         */
+        NODES("nodes"),
+
+        /**
+         * The wall-clock time of the parse in milliseconds.
+         */
+        TIME("milliseconds of parsing");
+
+        private final String description;
+
+        private Limit(String description) {
+            this.description = description;
+        }
+
+        /**
+         * Returns what the limit counts, in plural.
+         * 
+         * @return the description
+         */
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private long maxInputBytes = Long.MAX_VALUE;
+
+    private long maxChars = Long.MAX_VALUE;
+
+    private int maxStackDepth = Integer.MAX_VALUE;
+
+    private int maxActiveFormattingElements = Integer.MAX_VALUE;
+
+    private int maxAttributes = Integer.MAX_VALUE;
+
+    private int maxAttributeValueLength = Integer.MAX_VALUE;
+
+    private int maxTextLength = Integer.MAX_VALUE;
+
+    private int maxNodes = Integer.MAX_VALUE;
+
+    private long timeoutMillis = 0;
+
+    /**
+     * Constructor. Nothing is limited.
+     */
+    public ParseLimits() {
+    }
+
+    private static void checkPositive(long value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("Limit must be positive: "
+                    + value);
+        }
+    }
+
+    /**
+     * Returns the maximum number of bytes to read.
+     * 
+     * @return the maximum number of bytes
+     */
+    public long getMaxInputBytes() {
+        return maxInputBytes;
+    }
+
+    /**
+     * Sets the maximum number of bytes to read from a byte stream. The bytes
+     * read again after rewinding for a reparse count as well.
+     * 
+     * @param maxInputBytes
+     *            the maximum number of bytes
+     */
+    public void setMaxInputBytes(long maxInputBytes) {
+        checkPositive(maxInputBytes);
+        this.maxInputBytes = maxInputBytes;
+    }
+
+    /**
+     * Returns the maximum number of UTF-16 code units to tokenize.
+     * 
+     * @return the maximum number of code units
+     */
+    public long getMaxChars() {
+        return maxChars;
+    }
+
+    /**
+     * Sets the maximum number of UTF-16 code units to tokenize.
+     * 
+     * @param maxChars
+     *            the maximum number of code units
+     */
+    public void setMaxChars(long maxChars) {
+        checkPositive(maxChars);
+        this.maxChars = maxChars;
+    }
+
+    /**
+     * Returns the maximum depth of the stack of open elements.
+     * 
+     * @return the maximum depth
+     */
+    public int getMaxStackDepth() {
+        return maxStackDepth;
+    }
+
+    /**
+     * Sets the maximum depth of the stack of open elements. This also bounds
+     * the work the tree builder does per tag, because the tree construction
+     * algorithms that walk the stack would otherwise make deeply nested
+     * documents take quadratic time.
+     * 
+     * @param maxStackDepth
+     *            the maximum depth
+     */
+    public void setMaxStackDepth(int maxStackDepth) {
+        checkPositive(maxStackDepth);
+        this.maxStackDepth = maxStackDepth;
+    }
+
+    /**
+     * Returns the maximum length of the list of active formatting elements.
+     * 
+     * @return the maximum length
+     */
+    public int getMaxActiveFormattingElements() {
+        return maxActiveFormattingElements;
+    }
+
+    /**
+     * Sets the maximum length of the list of active formatting elements,
+     * counting the markers. The Noah's Ark clause and the reconstruction of
+     * the active formatting elements search the list, so together with the
+     * stack depth limit, this makes the tree builder do a bounded amount of
+     * work per token.
+     * 
+     * @param maxActiveFormattingElements
+     *            the maximum length
+     */
+    public void setMaxActiveFormattingElements(int maxActiveFormattingElements) {
+        checkPositive(maxActiveFormattingElements);
+        this.maxActiveFormattingElements = maxActiveFormattingElements;
+    }
+
+    /**
+     * Returns the maximum number of attributes on a tag.
+     * 
+     * @return the maximum number of attributes
+     */
+    public int getMaxAttributes() {
+        return maxAttributes;
+    }
+
+    /**
+     * Sets the maximum number of attributes on a tag. Dropped duplicate
+     * attributes don't count.
+     * 
+     * @param maxAttributes
+     *            the maximum number of attributes
+     */
+    public void setMaxAttributes(int maxAttributes) {
+        checkPositive(maxAttributes);
+        this.maxAttributes = maxAttributes;
+    }
+
+    /**
+     * Returns the maximum length of an attribute value.
+     * 
+     * @return the maximum length in UTF-16 code units
+     */
+    public int getMaxAttributeValueLength() {
+        return maxAttributeValueLength;
+    }
+
+    /**
+     * Sets the maximum length of an attribute value. The tokenizer stops as
+     * soon as its buffer would have to grow past this length while reading
+     * a value, so a longer value is never buffered whole.
+     * 
+     * @param maxAttributeValueLength
+     *            the maximum length in UTF-16 code units
+     */
+    public void setMaxAttributeValueLength(int maxAttributeValueLength) {
+        checkPositive(maxAttributeValueLength);
+        this.maxAttributeValueLength = maxAttributeValueLength;
+    }
+
+    /**
+     * Returns the maximum length of a text node or comment.
+     * 
+     * @return the maximum length in UTF-16 code units
+     */
+    public int getMaxTextLength() {
+        return maxTextLength;
+    }
+
+    /**
+     * Sets the maximum length of a text node or comment.
+     * 
+     * @param maxTextLength
+     *            the maximum length in UTF-16 code units
+     */
+    public void setMaxTextLength(int maxTextLength) {
+        checkPositive(maxTextLength);
+        this.maxTextLength = maxTextLength;
+    }
+
+    /**
+     * Returns the maximum number of nodes to create.
+     * 
+     * @return the maximum number of nodes
+     */
+    public int getMaxNodes() {
+        return maxNodes;
+    }
+
+    /**
+     * Sets the maximum number of elements, text nodes and comments to
+     * create. Elements that the tree builder creates on its own, such as
+     * implied <code>html</code> elements and clones made by the adoption
+     * agency algorithm, count as well.
+     * 
+     * @param maxNodes
+     *            the maximum number of nodes
+     */
+    public void setMaxNodes(int maxNodes) {
+        checkPositive(maxNodes);
+        this.maxNodes = maxNodes;
+    }
+
+    /**
+     * Returns the time a parse may take.
+     * 
+     * @return the time in milliseconds or 0 if there is no deadline
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Sets the wall-clock time a parse may take.
+     * 
+     * @param timeoutMillis
+     *            the time in milliseconds or 0 for no deadline
+     */
+    public void setTimeoutMillis(long timeoutMillis) {
+        if (timeoutMillis < 0) {
+            throw new IllegalArgumentException("Negative timeout: "
+                    + timeoutMillis);
+        }
+        this.timeoutMillis = timeoutMillis;
+    }
+}
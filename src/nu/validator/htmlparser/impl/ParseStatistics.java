@@ -0,0 +1,539 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+
+package nu.validator.htmlparser.impl;
+
+/**
+ * Counters and timings for a parse. A parser fills in an instance only if
+ * one has been set on it, and it clears the instance at the start of each
+ * parse. After a parse, the instance therefore describes that parse. Useful
+ * for finding pages that are pathologically slow to parse and for setting
+ * per-document budgets. When the document is reparsed because of a late
+ * encoding declaration, the counts include the abandoned pass.
+ * 
+ * <p>
+ * The step counters tell which tree construction algorithm does the work
+ * when a document takes long to parse. Each of them grows linearly with the
+ * size of ordinary documents. A step counter that grows much faster than
+ * the number of tokens points at the algorithm that went superlinear.
+ * 
+ * <p>
+ * The timings cost two calls to <code>System.nanoTime()</code> per tag,
+ * comment, doctype and run of text, so they make parsing a bit slower. The
+ * time spent in the tree builder includes the time spent by the tree
+ * builder's own handlers, such as SAX content handlers when streaming.
+ * The tokenizing time is the time spent in the tokenizer minus the time
+ * spent in the tree builder.
+ * 
+ * <p>
+ * An instance is meant to be read by the thread that parses. It is not
+ * filled in in the pipelined or parallel modes.
+ * 
+ * @version $Id$
+ */
+public final class ParseStatistics {
+
+    private long bytesRead;
+
+    private long charsDecoded;
+
+    private int encodingSniffs;
+
+    private int reparses;
+
+    private int startTags;
+
+    private int endTags;
+
+    private int characterTokens;
+
+    private int comments;
+
+    private int doctypes;
+
+    private int elementsCreated;
+
+    private int maxStackDepth;
+
+    private int adoptionAgencyInvocations;
+
+    private long adoptionAgencySteps;
+
+    private int reconstructions;
+
+    private long reconstructionSteps;
+
+    private int noahsArkScans;
+
+    private long noahsArkSteps;
+
+    private int scopeSearches;
+
+    private long scopeSearchSteps;
+
+    private int fosterParentings;
+
+    private int bufferGrowths;
+
+    private long decodeNanos;
+
+    private long tokenizeNanos;
+
+    private long treeBuildNanos;
+
+    /**
+     * Constructor.
+     */
+    public ParseStatistics() {
+    }
+
+    /**
+     * Sets all the counters and timings to zero.
+     */
+    public void reset() {
+        bytesRead = 0;
+        charsDecoded = 0;
+        encodingSniffs = 0;
+        reparses = 0;
+        startTags = 0;
+        endTags = 0;
+        characterTokens = 0;
+        comments = 0;
+        doctypes = 0;
+        elementsCreated = 0;
+        maxStackDepth = 0;
+        adoptionAgencyInvocations = 0;
+        adoptionAgencySteps = 0;
+        reconstructions = 0;
+        reconstructionSteps = 0;
+        noahsArkScans = 0;
+        noahsArkSteps = 0;
+        scopeSearches = 0;
+        scopeSearchSteps = 0;
+        fosterParentings = 0;
+        bufferGrowths = 0;
+        decodeNanos = 0;
+        tokenizeNanos = 0;
+        treeBuildNanos = 0;
+    }
+
+    /**
+     * Returns the number of bytes read from the byte stream, including the
+     * bytes read again after rewinding for a reparse. Zero when parsing
+     * from a character stream.
+     * 
+     * @return the number of bytes read
+     */
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    /**
+     * Returns the number of UTF-16 code units decoded from the byte stream
+     * or read from the character stream.
+     * 
+     * @return the number of code units
+     */
+    public long getCharsDecoded() {
+        return charsDecoded;
+    }
+
+    /**
+     * Returns the number of times the encoding was sniffed from the start
+     * of the byte stream.
+     * 
+     * @return the number of sniffs
+     */
+    public int getEncodingSniffs() {
+        return encodingSniffs;
+    }
+
+    /**
+     * Returns the number of times the document was parsed again from the
+     * start because a <code>meta</code> element declared another encoding.
+     * 
+     * @return the number of reparses
+     */
+    public int getReparses() {
+        return reparses;
+    }
+
+    /**
+     * Returns the number of start tag tokens.
+     * 
+     * @return the number of start tags
+     */
+    public int getStartTags() {
+        return startTags;
+    }
+
+    /**
+     * Returns the number of end tag tokens.
+     * 
+     * @return the number of end tags
+     */
+    public int getEndTags() {
+        return endTags;
+    }
+
+    /**
+     * Returns the number of runs of characters passed to the tree builder.
+     * 
+     * @return the number of character tokens
+     */
+    public int getCharacterTokens() {
+        return characterTokens;
+    }
+
+    /**
+     * Returns the number of comment tokens.
+     * 
+     * @return the number of comments
+     */
+    public int getComments() {
+        return comments;
+    }
+
+    /**
+     * Returns the number of doctype tokens.
+     * 
+     * @return the number of doctypes
+     */
+    public int getDoctypes() {
+        return doctypes;
+    }
+
+    /**
+     * Returns the number of elements created by the tree builder, including
+     * the clones made for misnested formatting elements.
+     * 
+     * @return the number of elements
+     */
+    public int getElementsCreated() {
+        return elementsCreated;
+    }
+
+    /**
+     * Returns the greatest number of elements on the stack of open elements.
+     * 
+     * @return the maximum depth
+     */
+    public int getMaxStackDepth() {
+        return maxStackDepth;
+    }
+
+    /**
+     * Returns the number of times the adoption agency algorithm ran for
+     * misnested formatting elements.
+     * 
+     * @return the number of invocations
+     */
+    public int getAdoptionAgencyInvocations() {
+        return adoptionAgencyInvocations;
+    }
+
+    /**
+     * Returns the number of entries of the stack of open elements and of the
+     * list of active formatting elements that the adoption agency algorithm
+     * looked at.
+     * 
+     * @return the number of steps
+     */
+    public long getAdoptionAgencySteps() {
+        return adoptionAgencySteps;
+    }
+
+    /**
+     * Returns the number of times the tree builder checked whether active
+     * formatting elements needed to be reconstructed. This happens for
+     * most start tags and runs of text in the body.
+     * 
+     * @return the number of checks
+     */
+    public int getReconstructions() {
+        return reconstructions;
+    }
+
+    /**
+     * Returns the number of entries of the stack of open elements that were
+     * looked at when reconstructing active formatting elements.
+     * 
+     * @return the number of steps
+     */
+    public long getReconstructionSteps() {
+        return reconstructionSteps;
+    }
+
+    /**
+     * Returns the number of times the list of active formatting elements was
+     * searched for earlier duplicates of a formatting element (the Noah's
+     * Ark clause).
+     * 
+     * @return the number of scans
+     */
+    public int getNoahsArkScans() {
+        return noahsArkScans;
+    }
+
+    /**
+     * Returns the number of list entries looked at by the Noah's Ark scans.
+     * 
+     * @return the number of steps
+     */
+    public long getNoahsArkSteps() {
+        return noahsArkSteps;
+    }
+
+    /**
+     * Returns the number of times the stack of open elements was searched
+     * for an element, in scope or not.
+     * 
+     * @return the number of searches
+     */
+    public int getScopeSearches() {
+        return scopeSearches;
+    }
+
+    /**
+     * Returns the number of entries that the searches of the stack of open
+     * elements looked at.
+     * 
+     * @return the number of steps
+     */
+    public long getScopeSearchSteps() {
+        return scopeSearchSteps;
+    }
+
+    /**
+     * Returns the number of elements and runs of text that were foster
+     * parented out of a table.
+     * 
+     * @return the number of foster parentings
+     */
+    public int getFosterParentings() {
+        return fosterParentings;
+    }
+
+    /**
+     * Returns the number of times a buffer or a stack of the tokenizer or
+     * the tree builder had to be grown.
+     * 
+     * @return the number of growths
+     */
+    public int getBufferGrowths() {
+        return bufferGrowths;
+    }
+
+    /**
+     * Returns the time spent decoding and reading the input, including
+     * encoding sniffing.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long getDecodeNanos() {
+        return decodeNanos;
+    }
+
+    /**
+     * Returns the time spent in the tokenizer, excluding the tree builder.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long getTokenizeNanos() {
+        return tokenizeNanos;
+    }
+
+    /**
+     * Returns the time spent in the tree builder.
+     * 
+     * @return the time in nanoseconds
+     */
+    public long getTreeBuildNanos() {
+        return treeBuildNanos;
+    }
+
+    /**
+     * Adds to the number of bytes read.
+     * 
+     * @param bytes
+     *            the number of bytes
+     */
+    public void addBytesRead(int bytes) {
+        bytesRead += bytes;
+    }
+
+    /**
+     * Adds to the number of code units decoded.
+     * 
+     * @param chars
+     *            the number of code units
+     */
+    public void addCharsDecoded(int chars) {
+        charsDecoded += chars;
+    }
+
+    /**
+     * Counts an encoding sniff.
+     */
+    public void countEncodingSniff() {
+        encodingSniffs++;
+    }
+
+    /**
+     * Counts a reparse.
+     */
+    public void countReparse() {
+        reparses++;
+    }
+
+    /**
+     * Counts a start tag.
+     */
+    public void countStartTag() {
+        startTags++;
+    }
+
+    /**
+     * Counts an end tag.
+     */
+    public void countEndTag() {
+        endTags++;
+    }
+
+    /**
+     * Counts a comment.
+     */
+    public void countComment() {
+        comments++;
+    }
+
+    /**
+     * Counts a doctype.
+     */
+    public void countDoctype() {
+        doctypes++;
+    }
+
+    /**
+     * Adds to the decoding time.
+     * 
+     * @param nanos
+     *            the time in nanoseconds
+     */
+    public void addDecodeNanos(long nanos) {
+        decodeNanos += nanos;
+    }
+
+    /**
+     * Adds to the tokenizing time.
+     * 
+     * @param nanos
+     *            the time in nanoseconds
+     */
+    public void addTokenizeNanos(long nanos) {
+        tokenizeNanos += nanos;
+    }
+
+    // The tokenizer and the tree builder update the rest.
+
+    void countCharacterToken() {
+        characterTokens++;
+    }
+
+    void countElement() {
+        elementsCreated++;
+    }
+
+    void updateMaxStackDepth(int depth) {
+        if (depth > maxStackDepth) {
+            maxStackDepth = depth;
+        }
+    }
+
+    void countAdoptionAgencyInvocation() {
+        adoptionAgencyInvocations++;
+    }
+
+    void addAdoptionAgencySteps(int steps) {
+        adoptionAgencySteps += steps;
+    }
+
+    void countReconstruction() {
+        reconstructions++;
+    }
+
+    void addReconstructionSteps(int steps) {
+        reconstructionSteps += steps;
+    }
+
+    void countNoahsArkScan() {
+        noahsArkScans++;
+    }
+
+    void addNoahsArkSteps(int steps) {
+        noahsArkSteps += steps;
+    }
+
+    void countScopeSearch() {
+        scopeSearches++;
+    }
+
+    void addScopeSearchSteps(int steps) {
+        scopeSearchSteps += steps;
+    }
+
+    void countFosterParenting() {
+        fosterParentings++;
+    }
+
+    void countBufferGrowth() {
+        bufferGrowths++;
+    }
+
+    void addTreeBuildNanos(long nanos) {
+        treeBuildNanos += nanos;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override public String toString() {
+        return "bytesRead=" + bytesRead + " charsDecoded=" + charsDecoded
+                + " encodingSniffs=" + encodingSniffs + " reparses="
+                + reparses + " startTags=" + startTags + " endTags="
+                + endTags + " characterTokens=" + characterTokens
+                + " comments=" + comments + " doctypes=" + doctypes
+                + " elementsCreated=" + elementsCreated + " maxStackDepth="
+                + maxStackDepth + " adoptionAgencyInvocations="
+                + adoptionAgencyInvocations + " adoptionAgencySteps="
+                + adoptionAgencySteps + " reconstructions="
+                + reconstructions + " reconstructionSteps="
+                + reconstructionSteps + " noahsArkScans=" + noahsArkScans
+                + " noahsArkSteps=" + noahsArkSteps + " scopeSearches="
+                + scopeSearches + " scopeSearchSteps=" + scopeSearchSteps
+                + " fosterParentings="
+                + fosterParentings + " bufferGrowths=" + bufferGrowths
+                + " decodeNanos=" + decodeNanos + " tokenizeNanos="
+                + tokenizeNanos + " treeBuildNanos=" + treeBuildNanos;
+    }
+}
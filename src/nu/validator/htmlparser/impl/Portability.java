@@ -36,6 +36,11 @@ public final class Portability {
      * calling <code>releaseLocal</code> on the return value balances the refcount set by this method.
      */
     public static @Local String newLocalNameFromBuffer(@NoLength char[] buf, int length, Interner interner) {
+        if (interner == null) {
+            return LocalNameInterner.SHARED.intern(buf, length);
+        } else if (interner instanceof LocalNameInterner) {
+            return ((LocalNameInterner) interner).intern(buf, length);
+        }
         return new String(buf, 0, length).intern();
     }
 
@@ -338,6 +338,18 @@ final class StackNode<T> {
         return name;
     }
 
+    /**
+     * Drops the references to the node and the attributes of an unused
+     * stack node that is kept in the pool of a tree builder after the end
+     * of a parse.
+     */
+    void forget() {
+        assert isUnused();
+        this.node = null;
+        this.attributes = null;
+        this.locator = null;
+    }
+
     // ]NOCPP]
 
     public void retain() {
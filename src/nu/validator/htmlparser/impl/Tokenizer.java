@@ -42,7 +42,6 @@ import org.xml.sax.SAXException;
 import org.xml.sax.SAXParseException;
 
 import nu.validator.htmlparser.annotation.Auto;
-import nu.validator.htmlparser.annotation.CharacterName;
 import nu.validator.htmlparser.annotation.Const;
 import nu.validator.htmlparser.annotation.Inline;
 import nu.validator.htmlparser.annotation.Local;
@@ -226,6 +225,20 @@ public class Tokenizer implements Locator, Locator2 {
      */
     private static final int LEAD_OFFSET = (0xD800 - (0x10000 >> 10));
 
+    // [NOCPP[
+    /**
+     * The initial length of <code>strBuf</code>.
+     */
+    private static final int STR_BUF_INITIAL_LENGTH = 128;
+
+    /**
+     * The longest <code>strBuf</code> that is kept from one parse to the
+     * next.
+     */
+    private static final int STR_BUF_MAX_RETAINED_LENGTH = 8 * 1024;
+
+    // ]NOCPP]
+
     /**
      * UTF-16 code unit array containing less than and greater than for emitting
      * those characters on certain parse errors.
@@ -341,14 +354,17 @@ public class Tokenizer implements Locator, Locator2 {
 
     private char additional;
 
-    private int entCol;
-
     private int firstCharKey;
 
-    private int lo;
-
-    private int hi;
+    /**
+     * The current node in <code>NamedCharactersTrie</code>.
+     */
+    private int charRefNode;
 
+    /**
+     * The accept value of the longest named character reference matched so
+     * far or -1.
+     */
     private int candidate;
 
     private int charRefBufMark;
@@ -493,6 +509,12 @@ public class Tokenizer implements Locator, Locator2 {
 
     private int mappingLangToXmlLang;
 
+    /**
+     * Whether attribute values are handed to <code>HtmlAttributes</code> as
+     * characters to be turned into <code>String</code>s only on demand.
+     */
+    private boolean lazyAttributeValues = false;
+
     // ]NOCPP]
 
     private final boolean newAttributesEachTime;
@@ -503,6 +525,15 @@ public class Tokenizer implements Locator, Locator2 {
 
     private int line;
 
+    // [NOCPP[
+
+    /**
+     * The line remembered by <code>saveLocation()</code>.
+     */
+    private int savedLine;
+
+    // ]NOCPP]
+
     /*
      * The line number of the current attribute. First set to the line of the
      * attribute name and if there is a value, set to the line the value
@@ -518,6 +549,34 @@ public class Tokenizer implements Locator, Locator2 {
 
     protected LocatorImpl ampersandLocation;
 
+    /**
+     * The statistics to fill in or <code>null</code>.
+     */
+    private ParseStatistics statistics;
+
+    /**
+     * The limits or <code>null</code>.
+     */
+    private ParseLimits limits;
+
+    /**
+     * The attribute count limit of the current parse.
+     */
+    private int maxAttributes = Integer.MAX_VALUE;
+
+    /**
+     * The attribute value length limit of the current parse.
+     */
+    private int maxAttributeValueLength = Integer.MAX_VALUE;
+
+    /**
+     * The length beyond which <code>strBuf</code> must not grow. This is
+     * <code>maxAttributeValueLength</code> while <code>strBuf</code> holds
+     * an attribute value, so that a long value is rejected before it has
+     * been buffered whole.
+     */
+    private int maxStrBufLen = Integer.MAX_VALUE;
+
     public Tokenizer(TokenHandler tokenHandler, boolean newAttributesEachTime) {
         this.tokenHandler = tokenHandler;
         this.encodingDeclarationHandler = null;
@@ -527,10 +586,8 @@ public class Tokenizer implements Locator, Locator2 {
         this.index = 0;
         this.forceQuirks = false;
         this.additional = '\u0000';
-        this.entCol = 0;
         this.firstCharKey = 0;
-        this.lo = 0;
-        this.hi = 0;
+        this.charRefNode = 0;
         this.candidate = 0;
         this.charRefBufMark = 0;
         this.value = 0;
@@ -585,10 +642,8 @@ public class Tokenizer implements Locator, Locator2 {
         this.index = 0;
         this.forceQuirks = false;
         this.additional = '\u0000';
-        this.entCol = 0;
         this.firstCharKey = 0;
-        this.lo = 0;
-        this.hi = 0;
+        this.charRefNode = 0;
         this.candidate = 0;
         this.charRefBufMark = 0;
         this.value = 0;
@@ -629,6 +684,54 @@ public class Tokenizer implements Locator, Locator2 {
         this.interner = interner;
     }
 
+    // [NOCPP[
+
+    /**
+     * Sets the statistics that this tokenizer and its tree builder fill in.
+     * 
+     * @param statistics
+     *            the statistics or <code>null</code> not to collect any
+     */
+    public void setStatistics(ParseStatistics statistics) {
+        this.statistics = statistics;
+        if (tokenHandler instanceof TreeBuilder<?>) {
+            ((TreeBuilder<?>) tokenHandler).setStatistics(statistics);
+        }
+    }
+
+    /**
+     * Returns the statistics that this tokenizer fills in.
+     * 
+     * @return the statistics or <code>null</code>
+     */
+    public ParseStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Sets the limits that this tokenizer and its tree builder enforce.
+     * 
+     * @param limits
+     *            the limits or <code>null</code> not to limit anything
+     */
+    public void setLimits(ParseLimits limits) {
+        this.limits = limits;
+        if (tokenHandler instanceof TreeBuilder<?>) {
+            ((TreeBuilder<?>) tokenHandler).setLimits(limits);
+        }
+    }
+
+    /**
+     * Returns the limits that this tokenizer enforces.
+     * 
+     * @return the limits or <code>null</code>
+     */
+    public ParseLimits getLimits() {
+        return limits;
+    }
+
+    // ]NOCPP]
+
     public void initLocation(String newPublicId, String newSystemId) {
         this.systemId = newSystemId;
         this.publicId = newPublicId;
@@ -674,6 +777,24 @@ public class Tokenizer implements Locator, Locator2 {
         return this.errorHandler;
     }
 
+    /**
+     * Returns the token handler that this tokenizer reports tokens to.
+     *
+     * @return the token handler
+     */
+    public TokenHandler getTokenHandler() {
+        return tokenHandler;
+    }
+
+    /**
+     * Returns the state that the tokenizer resumes in.
+     *
+     * @return the state
+     */
+    public int getState() {
+        return stateSave;
+    }
+
     /**
      * Sets the commentPolicy.
      *
@@ -725,6 +846,28 @@ public class Tokenizer implements Locator, Locator2 {
         this.namePolicy = namePolicy;
     }
 
+    /**
+     * Sets whether attribute values are kept as characters in
+     * <code>HtmlAttributes</code> and turned into <code>String</code>s only
+     * when asked for. This saves the allocations for values that are never
+     * read.
+     *
+     * @param lazyAttributeValues
+     *            the lazyAttributeValues to set
+     */
+    public void setLazyAttributeValues(boolean lazyAttributeValues) {
+        this.lazyAttributeValues = lazyAttributeValues;
+    }
+
+    /**
+     * Returns the lazyAttributeValues.
+     *
+     * @return the lazyAttributeValues
+     */
+    public boolean isLazyAttributeValues() {
+        return lazyAttributeValues;
+    }
+
     // ]NOCPP]
 
     // For the token handler to call
@@ -833,6 +976,25 @@ public class Tokenizer implements Locator, Locator2 {
         this.line = line;
     }
 
+    // [NOCPP[
+
+    /**
+     * Remembers the location so that the input after it can be tokenized
+     * again after <code>restoreLocation()</code>.
+     */
+    public void saveLocation() {
+        savedLine = line;
+    }
+
+    /**
+     * Goes back to the location remembered by <code>saveLocation()</code>.
+     */
+    public void restoreLocation() {
+        line = savedLine;
+    }
+
+    // ]NOCPP]
+
     // start Locator impl
 
     /**
@@ -916,7 +1078,7 @@ public class Tokenizer implements Locator, Locator2 {
             appendCharRefBufToStrBuf();
         } else {
             if (charRefBufLen > 0) {
-                tokenHandler.characters(charRefBuf, 0, charRefBufLen);
+                emitCharacters(charRefBuf, 0, charRefBufLen);
                 charRefBufLen = 0;
             }
         }
@@ -943,13 +1105,18 @@ public class Tokenizer implements Locator, Locator2 {
      * @param c
      *            the UTF-16 code unit to append
      */
-    @Inline private void appendStrBuf(char c) {
+    @Inline private void appendStrBuf(char c) throws SAXException {
         // CPPONLY: assert strBufLen < strBuf.length: "Previous buffer length insufficient.";
         // CPPONLY: if (strBufLen == strBuf.length) {
         // CPPONLY:     if (!EnsureBufferSpace(1)) {
         // CPPONLY:         assert false: "RELEASE: Unable to recover from buffer reallocation failure";
         // CPPONLY:     } // TODO: Add telemetry when outer if fires but inner does not
         // CPPONLY: }
+        // [NOCPP[
+        if (strBufLen == strBuf.length) {
+            growStrBuf(1);
+        }
+        // ]NOCPP]
         strBuf[strBufLen++] = c;
     }
 
@@ -988,7 +1155,7 @@ public class Tokenizer implements Locator, Locator2 {
      */
     private void emitStrBuf() throws SAXException {
         if (strBufLen > 0) {
-            tokenHandler.characters(strBuf, 0, strBufLen);
+            emitCharacters(strBuf, 0, strBufLen);
             clearStrBufAfterUse();
         }
     }
@@ -1054,7 +1221,8 @@ public class Tokenizer implements Locator, Locator2 {
         // ]NOCPP]
     }
 
-    private void appendStrBuf(@NoLength char[] buffer, int offset, int length) {
+    private void appendStrBuf(@NoLength char[] buffer, int offset, int length)
+            throws SAXException {
         int newLen = strBufLen + length;
         // CPPONLY: assert newLen <= strBuf.length: "Previous buffer length insufficient.";
         // CPPONLY: if (strBuf.length < newLen) {
@@ -1062,14 +1230,48 @@ public class Tokenizer implements Locator, Locator2 {
         // CPPONLY:         assert false: "RELEASE: Unable to recover from buffer reallocation failure";
         // CPPONLY:     } // TODO: Add telemetry when outer if fires but inner does not
         // CPPONLY: }
+        // [NOCPP[
+        if (strBuf.length < newLen) {
+            growStrBuf(length);
+        }
+        // ]NOCPP]
         System.arraycopy(buffer, offset, strBuf, strBufLen, length);
         strBufLen = newLen;
     }
 
+    // [NOCPP[
+    /**
+     * Grows <code>strBuf</code> so that at least <code>length</code> more
+     * <code>char</code>s fit. Doubles the buffer in order to keep the cost
+     * of appending linear.
+     *
+     * @param length
+     *            the number of <code>char</code>s about to be appended
+     * @throws ParseLimitExceededException
+     *             if the buffer holds an attribute value that would become
+     *             longer than the limit
+     */
+    private void growStrBuf(int length) throws SAXException {
+        int newLen = strBufLen + length;
+        if (newLen > maxStrBufLen) {
+            throw new ParseLimitExceededException(
+                    ParseLimits.Limit.ATTRIBUTE_VALUE_LENGTH,
+                    maxAttributeValueLength, this);
+        }
+        int doubled = strBuf.length << 1;
+        char[] newBuf = new char[doubled > newLen ? doubled : newLen];
+        System.arraycopy(strBuf, 0, newBuf, 0, strBufLen);
+        strBuf = newBuf;
+        if (statistics != null) {
+            statistics.countBufferGrowth();
+        }
+    }
+    // ]NOCPP]
+
     /**
      * Append the contents of the char reference buffer to the main one.
      */
-    @Inline private void appendCharRefBufToStrBuf() {
+    @Inline private void appendCharRefBufToStrBuf() throws SAXException {
         appendStrBuf(charRefBuf, 0, charRefBufLen);
         charRefBufLen = 0;
     }
@@ -1086,10 +1288,17 @@ public class Tokenizer implements Locator, Locator2 {
             throws SAXException {
         // [NOCPP[
         if (wantsComments) {
+            long treeBuildStart = statistics == null ? 0 : System.nanoTime();
             // ]NOCPP]
             tokenHandler.comment(strBuf, 0, strBufLen
                     - provisionalHyphens);
             // [NOCPP[
+            if (statistics != null) {
+                statistics.addTreeBuildNanos(System.nanoTime() - treeBuildStart);
+            }
+        }
+        if (statistics != null) {
+            statistics.countComment();
         }
         // ]NOCPP]
         clearStrBufAfterUse();
@@ -1109,11 +1318,36 @@ public class Tokenizer implements Locator, Locator2 {
     protected void flushChars(@NoLength char[] buf, int pos)
             throws SAXException {
         if (pos > cstart) {
-            tokenHandler.characters(buf, cstart, pos - cstart);
+            emitCharacters(buf, cstart, pos - cstart);
         }
         cstart = Integer.MAX_VALUE;
     }
 
+    /**
+     * Passes characters to the tree builder.
+     *
+     * @param buf
+     *            the buffer
+     * @param start
+     *            the offset of the first character
+     * @param length
+     *            the number of characters
+     *
+     * @throws SAXException
+     */
+    @Inline protected final void emitCharacters(@Const @NoLength char[] buf,
+            int start, int length) throws SAXException {
+        // [NOCPP[
+        if (statistics != null) {
+            long treeBuildStart = System.nanoTime();
+            tokenHandler.characters(buf, start, length);
+            statistics.addTreeBuildNanos(System.nanoTime() - treeBuildStart);
+            return;
+        }
+        // ]NOCPP]
+        tokenHandler.characters(buf, start, length);
+    }
+
     /**
      * Reports an condition that would make the infoset incompatible with XML
      * 1.0 as fatal.
@@ -1211,6 +1445,10 @@ public class Tokenizer implements Locator, Locator2 {
         stateSave = Tokenizer.DATA;
         HtmlAttributes attrs = (attributes == null ? HtmlAttributes.EMPTY_ATTRIBUTES
                 : attributes);
+        // [NOCPP[
+        long treeBuildStart = statistics == null ? 0 : System.nanoTime();
+        boolean wasEndTag = endTag;
+        // ]NOCPP]
         if (endTag) {
             /*
              * When an end tag token is emitted, the content model flag must be
@@ -1233,6 +1471,16 @@ public class Tokenizer implements Locator, Locator2 {
             tokenHandler.startTag(tagName, attrs, selfClosing);
             // CPPONLY: }
         }
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.addTreeBuildNanos(System.nanoTime() - treeBuildStart);
+            if (wasEndTag) {
+                statistics.countEndTag();
+            } else {
+                statistics.countStartTag();
+            }
+        }
+        // ]NOCPP]
         tagName = null;
         if (newAttributesEachTime) {
             attributes = null;
@@ -1276,12 +1524,22 @@ public class Tokenizer implements Locator, Locator2 {
             errDuplicateAttribute();
             attributeName = null;
         }
+        // [NOCPP[
+        if (attributeName != null
+                && attributes.getLength() >= maxAttributes) {
+            throw new ParseLimitExceededException(
+                    ParseLimits.Limit.ATTRIBUTES, maxAttributes, this);
+        }
+        // strBuf holds the value from here on, even for a dropped attribute.
+        maxStrBufLen = maxAttributeValueLength;
+        // ]NOCPP]
     }
 
     private void addAttributeWithoutValue() throws SAXException {
         noteAttributeWithoutValue();
 
         // [NOCPP[
+        maxStrBufLen = Integer.MAX_VALUE;
         if (metaBoundaryPassed && AttributeName.CHARSET == attributeName
                 && ElementName.META == tagName) {
             err("A \u201Ccharset\u201D attribute on a \u201Cmeta\u201D element found after the first 1024 bytes.");
@@ -1311,12 +1569,27 @@ public class Tokenizer implements Locator, Locator2 {
 
     private void addAttributeWithValue() throws SAXException {
         // [NOCPP[
+        maxStrBufLen = Integer.MAX_VALUE;
+        if (strBufLen > maxAttributeValueLength) {
+            throw new ParseLimitExceededException(
+                    ParseLimits.Limit.ATTRIBUTE_VALUE_LENGTH,
+                    maxAttributeValueLength, this);
+        }
         if (metaBoundaryPassed && ElementName.META == tagName
                 && AttributeName.CHARSET == attributeName) {
             err("A \u201Ccharset\u201D attribute on a \u201Cmeta\u201D element found after the first 1024 bytes.");
         }
         // ]NOCPP]
         if (attributeName != null) {
+            // [NOCPP[
+            if (lazyAttributeValues) {
+                attributes.addAttribute(attributeName, strBuf, strBufLen,
+                        xmlnsPolicy);
+                clearStrBufAfterUse();
+                attributeName = null;
+                return;
+            }
+            // ]NOCPP]
             String val = strBufToString(); // Ownership transferred to
             // HtmlAttributes
             // CPPONLY: if (mViewSource) {
@@ -1345,6 +1618,16 @@ public class Tokenizer implements Locator, Locator2 {
 
     public void start() throws SAXException {
         initializeWithoutStarting();
+        // [NOCPP[
+        if (limits == null) {
+            maxAttributes = Integer.MAX_VALUE;
+            maxAttributeValueLength = Integer.MAX_VALUE;
+        } else {
+            maxAttributes = limits.getMaxAttributes();
+            maxAttributeValueLength = limits.getMaxAttributeValueLength();
+        }
+        maxStrBufLen = Integer.MAX_VALUE;
+        // ]NOCPP]
         tokenHandler.startTokenization(this);
         // [NOCPP[
         startErrorReporting();
@@ -1430,33 +1713,16 @@ public class Tokenizer implements Locator, Locator2 {
     // [NOCPP[
     private void ensureBufferSpace(int inputLength) throws SAXException {
         // Add 2 to account for emissions of LT_GT, LT_SOLIDUS and RSQB_RSQB.
-        // Adding to the general worst case instead of only the
-        // TreeBuilder-exposed worst case to avoid re-introducing a bug when
-        // unifying the tokenizer and tree builder buffers in the future.
+        // strBuf is included, because emitStrBuf() passes its contents to
+        // characters().
         int worstCase = strBufLen + inputLength + charRefBufLen + 2;
         tokenHandler.ensureBufferSpace(worstCase);
-        if (commentPolicy == XmlViolationPolicy.ALTER_INFOSET) {
-            // When altering infoset, if the comment contents are consecutive
-            // hyphens, each hyphen generates a space, too. These buffer
-            // contents never get emitted as characters() to the tokenHandler,
-            // which is why this calculation happens after the call to
-            // ensureBufferSpace on tokenHandler.
-            worstCase *= 2;
-        }
         if (strBuf == null) {
-            // Add an arbitrary small value to avoid immediate reallocation
-            // once there are a few characters in the buffer.
-            strBuf = new char[worstCase + 128];
-        } else if (worstCase > strBuf.length) {
-            // HotSpot reportedly allocates memory with 8-byte accuracy, so
-            // there's no point in trying to do math here to avoid slop.
-            // Maybe we should add some small constant to worstCase here
-            // but not doing that without profiling. In C++ with jemalloc,
-            // the corresponding method should do math to round up here
-            // to avoid slop.
-            char[] newBuf = new char[worstCase];
-            System.arraycopy(strBuf, 0, newBuf, 0, strBufLen);
-            strBuf = newBuf;
+            // strBuf only ever holds the current name, attribute value,
+            // comment or the like, so unlike the tree builder's character
+            // buffer, it is not sized after the input but grows on demand in
+            // appendStrBuf() like in the C++ version.
+            strBuf = new char[STR_BUF_INITIAL_LENGTH];
         }
     }
     // ]NOCPP]
@@ -1583,6 +1849,7 @@ public class Tokenizer implements Locator, Locator2 {
                                  *
                                  * Stay in the data state.
                                  */
+                                pos = skipCharacterRun(buf, pos, endPos, true, true);
                                 continue;
                         }
                     }
@@ -1690,7 +1957,7 @@ public class Tokenizer implements Locator, Locator2 {
                                  * and a U+003E GREATER-THAN SIGN character
                                  * token.
                                  */
-                                tokenHandler.characters(Tokenizer.LT_GT, 0, 2);
+                                emitCharacters(Tokenizer.LT_GT, 0, 2);
                                 /* Switch to the data state. */
                                 cstart = pos + 1;
                                 state = transition(state, Tokenizer.DATA, reconsume, pos);
@@ -1703,7 +1970,7 @@ public class Tokenizer implements Locator, Locator2 {
                                 /*
                                  * Emit a U+003C LESS-THAN SIGN character token
                                  */
-                                tokenHandler.characters(Tokenizer.LT_GT, 0, 1);
+                                emitCharacters(Tokenizer.LT_GT, 0, 1);
                                 /*
                                  * and reconsume the current input character in
                                  * the data state.
@@ -2928,7 +3195,7 @@ public class Tokenizer implements Locator, Locator2 {
                                 state = transition(state, Tokenizer.CDATA_RSQB_RSQB, reconsume, pos);
                                 break cdatarsqb;
                             default:
-                                tokenHandler.characters(Tokenizer.RSQB_RSQB, 0,
+                                emitCharacters(Tokenizer.RSQB_RSQB, 0,
                                         1);
                                 cstart = pos;
                                 reconsume = true;
@@ -2949,14 +3216,14 @@ public class Tokenizer implements Locator, Locator2 {
                                 // first one) and stay in this state to
                                 // remember that the last two characters seen
                                 // have been ]].
-                                tokenHandler.characters(Tokenizer.RSQB_RSQB, 0, 1);
+                                emitCharacters(Tokenizer.RSQB_RSQB, 0, 1);
                                 continue;
                             case '>':
                                 cstart = pos + 1;
                                 state = transition(state, Tokenizer.DATA, reconsume, pos);
                                 continue stateloop;
                             default:
-                                tokenHandler.characters(Tokenizer.RSQB_RSQB, 0, 2);
+                                emitCharacters(Tokenizer.RSQB_RSQB, 0, 2);
                                 cstart = pos;
                                 reconsume = true;
                                 state = transition(state, Tokenizer.CDATA_SECTION, reconsume, pos);
@@ -3108,51 +3375,19 @@ public class Tokenizer implements Locator, Locator2 {
                         }
                         c = checkChar(buf, pos);
                         /*
-                         * The data structure is as follows:
-                         *
-                         * HILO_ACCEL is a two-dimensional int array whose major
-                         * index corresponds to the second character of the
-                         * character reference (code point as index) and the
-                         * minor index corresponds to the first character of the
-                         * character reference (packed so that A-Z runs from 0
-                         * to 25 and a-z runs from 26 to 51). This layout makes
-                         * it easier to use the sparseness of the data structure
-                         * to omit parts of it: The second dimension of the
-                         * table is null when no character reference starts with
-                         * the character corresponding to that row.
-                         *
-                         * The int value HILO_ACCEL (by these indeces) is zero
-                         * if there exists no character reference starting with
-                         * that two-letter prefix. Otherwise, the value is an
-                         * int that packs two shorts so that the higher short is
-                         * the index of the highest character reference name
-                         * with that prefix in NAMES and the lower short
-                         * corresponds to the index of the lowest character
-                         * reference name with that prefix. (It happens that the
-                         * first two character reference names share their
-                         * prefix so the packed int cannot be 0 by packing the
-                         * two shorts.)
-                         *
-                         * NAMES is an array of byte arrays where each byte
-                         * array encodes the name of a character references as
-                         * ASCII. The names omit the first two letters of the
-                         * name. (Since storing the first two letters would be
-                         * redundant with the data contained in HILO_ACCEL.) The
-                         * entries are lexically sorted.
-                         *
-                         * For a given index in NAMES, the same index in VALUES
-                         * contains the corresponding expansion as an array of
-                         * two UTF-16 code units (either the character and
-                         * U+0000 or a suggogate pair).
+                         * The names are matched by walking
+                         * NamedCharactersTrie. The first character selected
+                         * firstCharKey in the previous state, so start from
+                         * the node for it and take the edge for the second
+                         * character.
                          */
-                        int hilo = 0;
+                        int node = 0;
                         if (c <= 'z') {
-                            @Const @NoLength int[] row = NamedCharactersAccel.HILO_ACCEL[c];
-                            if (row != null) {
-                                hilo = row[firstCharKey];
-                            }
+                            node = NamedCharactersTrie.child(
+                                    NamedCharactersTrie.FIRST_CHAR_NODES[firstCharKey],
+                                    c);
                         }
-                        if (hilo == 0) {
+                        if (node == 0) {
                             /*
                              * If no match can be made, then this is a parse
                              * error.
@@ -3168,9 +3403,7 @@ public class Tokenizer implements Locator, Locator2 {
                         }
                         // Didn't fail yet
                         appendCharRefBuf(c);
-                        lo = hilo & 0xFFFF;
-                        hi = hilo >> 16;
-                        entCol = -1;
+                        charRefNode = node;
                         candidate = -1;
                         charRefBufMark = 0;
                         state = transition(state, Tokenizer.CHARACTER_REFERENCE_TAIL, reconsume, pos);
@@ -3183,7 +3416,6 @@ public class Tokenizer implements Locator, Locator2 {
                             break stateloop;
                         }
                         c = checkChar(buf, pos);
-                        entCol++;
                         /*
                          * Consume the maximum number of characters possible,
                          * with the consumed characters matching one of the
@@ -3191,174 +3423,32 @@ public class Tokenizer implements Locator, Locator2 {
                          * character references table (in a case-sensitive
                          * manner).
                          */
-                        loloop: for (;;) {
-                            if (hi < lo) {
-                                break outer;
-                            }
-                            if (entCol == NamedCharacters.NAMES[lo].length()) {
-                                candidate = lo;
-                                charRefBufMark = charRefBufLen;
-                                lo++;
-                            } else if (entCol > NamedCharacters.NAMES[lo].length()) {
-                                break outer;
-                            } else if (c > NamedCharacters.NAMES[lo].charAt(entCol)) {
-                                lo++;
-                            } else {
-                                break loloop;
-                            }
+                        int accept = NamedCharactersTrie.accept(charRefNode);
+                        if (accept != -1) {
+                            candidate = accept;
+                            charRefBufMark = charRefBufLen;
                         }
-
-                        hiloop: for (;;) {
-                            if (hi < lo) {
-                                break outer;
-                            }
-                            if (entCol == NamedCharacters.NAMES[hi].length()) {
-                                break hiloop;
-                            }
-                            if (entCol > NamedCharacters.NAMES[hi].length()) {
-                                break outer;
-                            } else if (c < NamedCharacters.NAMES[hi].charAt(entCol)) {
-                                hi--;
-                            } else {
-                                break hiloop;
-                            }
+                        int next = NamedCharactersTrie.child(charRefNode, c);
+                        if (next == 0) {
+                            break outer;
                         }
-
                         if (c == ';') {
                             // If we see a semicolon, there cannot be a
-                            // longer match. Break the loop. However, before
-                            // breaking, take the longest match so far as the
-                            // candidate, if we are just about to complete a
-                            // match.
-                            if (entCol + 1 == NamedCharacters.NAMES[lo].length()) {
-                                candidate = lo;
-                                charRefBufMark = charRefBufLen;
-                            }
-                            break outer;
-                        }
-
-                        if (hi < lo) {
+                            // longer match, since all names ending at a
+                            // semicolon are complete.
+                            candidate = NamedCharactersTrie.accept(next);
+                            charRefBufMark = charRefBufLen;
                             break outer;
                         }
                         appendCharRefBuf(c);
+                        charRefNode = next;
                         continue;
                     }
 
-                    if (candidate == -1) {
-                        // reconsume deals with CR, LF or nul
-                        /*
-                         * If no match can be made, then this is a parse error.
-                         */
-                        errNoNamedCharacterMatch();
-                        emitOrAppendCharRefBuf(returnState);
-                        if ((returnState & DATA_AND_RCDATA_MASK) == 0) {
-                            cstart = pos;
-                        }
-                        reconsume = true;
-                        state = transition(state, returnState, reconsume, pos);
-                        continue stateloop;
-                    } else {
-                        // c can't be CR, LF or nul if we got here
-                        @Const @CharacterName String candidateName = NamedCharacters.NAMES[candidate];
-                        if (candidateName.length() == 0
-                                || candidateName.charAt(candidateName.length() - 1) != ';') {
-                            /*
-                             * If the last character matched is not a U+003B
-                             * SEMICOLON (;), there is a parse error.
-                             */
-                            if ((returnState & DATA_AND_RCDATA_MASK) != 0) {
-                                /*
-                                 * If the entity is being consumed as part of an
-                                 * attribute, and the last character matched is
-                                 * not a U+003B SEMICOLON (;),
-                                 */
-                                char ch;
-                                if (charRefBufMark == charRefBufLen) {
-                                    ch = c;
-                                } else {
-                                    ch = charRefBuf[charRefBufMark];
-                                }
-                                if (ch == '=' || (ch >= '0' && ch <= '9')
-                                        || (ch >= 'A' && ch <= 'Z')
-                                        || (ch >= 'a' && ch <= 'z')) {
-                                    /*
-                                     * and the next character is either a U+003D
-                                     * EQUALS SIGN character (=) or in the range
-                                     * U+0030 DIGIT ZERO to U+0039 DIGIT NINE,
-                                     * U+0041 LATIN CAPITAL LETTER A to U+005A
-                                     * LATIN CAPITAL LETTER Z, or U+0061 LATIN
-                                     * SMALL LETTER A to U+007A LATIN SMALL
-                                     * LETTER Z, then, for historical reasons,
-                                     * all the characters that were matched
-                                     * after the U+0026 AMPERSAND (&) must be
-                                     * unconsumed, and nothing is returned.
-                                     */
-                                    errNoNamedCharacterMatch();
-                                    appendCharRefBufToStrBuf();
-                                    reconsume = true;
-                                    state = transition(state, returnState, reconsume, pos);
-                                    continue stateloop;
-                                }
-                            }
-                            if ((returnState & DATA_AND_RCDATA_MASK) != 0) {
-                                errUnescapedAmpersandInterpretedAsCharacterReference();
-                            } else {
-                                errNotSemicolonTerminated();
-                            }
-                        }
-
-                        /*
-                         * Otherwise, return a character token for the character
-                         * corresponding to the entity name (as given by the
-                         * second column of the named character references
-                         * table).
-                         */
-                        // CPPONLY: completedNamedCharacterReference();
-                        @Const @NoLength char[] val = NamedCharacters.VALUES[candidate];
-                        if (
-                        // [NOCPP[
-                        val.length == 1
-                        // ]NOCPP]
-                        // CPPONLY: val[1] == 0
-                        ) {
-                            emitOrAppendOne(val, returnState);
-                        } else {
-                            emitOrAppendTwo(val, returnState);
-                        }
-                        // this is so complicated!
-                        if (charRefBufMark < charRefBufLen) {
-                            if ((returnState & DATA_AND_RCDATA_MASK) != 0) {
-                                appendStrBuf(charRefBuf, charRefBufMark,
-                                        charRefBufLen - charRefBufMark);
-                            } else {
-                                tokenHandler.characters(charRefBuf, charRefBufMark,
-                                        charRefBufLen - charRefBufMark);
-                            }
-                        }
-                        // charRefBufLen will be zeroed below!
-
-                        // Check if we broke out early with c being the last
-                        // character that matched as opposed to being the
-                        // first one that didn't match. In the case of an
-                        // early break, the next run on text should start
-                        // *after* the current character and the current
-                        // character shouldn't be reconsumed.
-                        boolean earlyBreak = (c == ';' && charRefBufMark == charRefBufLen);
-                        charRefBufLen = 0;
-                        if ((returnState & DATA_AND_RCDATA_MASK) == 0) {
-                            cstart = earlyBreak ? pos + 1 : pos;
-                        }
-                        reconsume = !earlyBreak;
-                        state = transition(state, returnState, reconsume, pos);
-                        continue stateloop;
-                        /*
-                         * If the markup contains I'm &notit; I tell you, the
-                         * entity is parsed as "not", as in, I'm ¬it; I tell
-                         * you. But if the markup was I'm &notin; I tell you,
-                         * the entity would be parsed as "notin;", resulting in
-                         * I'm ∉ I tell you.
-                         */
-                    }
+                    reconsume = emitNamedCharacterReference(c, pos,
+                            returnState);
+                    state = transition(state, returnState, reconsume, pos);
+                    continue stateloop;
                 case CONSUME_NCR:
                     if (++pos == endPos) {
                         break stateloop;
@@ -3598,6 +3688,7 @@ public class Tokenizer implements Locator, Locator2 {
                                  * character as a character token. Stay in the
                                  * RAWTEXT state.
                                  */
+                                pos = skipCharacterRun(buf, pos, endPos, false, false);
                                 continue;
                         }
                     }
@@ -3729,6 +3820,7 @@ public class Tokenizer implements Locator, Locator2 {
                                  * Emit the current input character as a
                                  * character token. Stay in the RCDATA state.
                                  */
+                                pos = skipCharacterRun(buf, pos, endPos, true, true);
                                 continue;
                         }
                     }
@@ -3768,6 +3860,7 @@ public class Tokenizer implements Locator, Locator2 {
                                  * Emit the current input character as a
                                  * character token. Stay in the RAWTEXT state.
                                  */
+                                pos = skipCharacterRun(buf, pos, endPos, false, true);
                                 continue;
                         }
                     }
@@ -3795,7 +3888,7 @@ public class Tokenizer implements Locator, Locator2 {
                                  * Otherwise, emit a U+003C LESS-THAN SIGN
                                  * character token
                                  */
-                                tokenHandler.characters(Tokenizer.LT_GT, 0, 1);
+                                emitCharacters(Tokenizer.LT_GT, 0, 1);
                                 /*
                                  * and reconsume the current input character in
                                  * the data state.
@@ -3819,7 +3912,7 @@ public class Tokenizer implements Locator, Locator2 {
                          * without lookahead. strBuf is the 'temporary buffer'.
                          */
                         if (endTagExpectationAsArray == null) {
-                            tokenHandler.characters(Tokenizer.LT_SOLIDUS,
+                            emitCharacters(Tokenizer.LT_SOLIDUS,
                                     0, 2);
                             cstart = pos;
                             reconsume = true;
@@ -3835,7 +3928,7 @@ public class Tokenizer implements Locator, Locator2 {
                                 // [NOCPP[
                                 errHtml4LtSlashInRcdata(folded);
                                 // ]NOCPP]
-                                tokenHandler.characters(Tokenizer.LT_SOLIDUS,
+                                emitCharacters(Tokenizer.LT_SOLIDUS,
                                         0, 2);
                                 emitStrBuf();
                                 cstart = pos;
@@ -3909,7 +4002,7 @@ public class Tokenizer implements Locator, Locator2 {
                                     // [NOCPP[
                                     errWarnLtSlashInRcdata();
                                     // ]NOCPP]
-                                    tokenHandler.characters(
+                                    emitCharacters(
                                             Tokenizer.LT_SOLIDUS, 0, 2);
                                     emitStrBuf();
                                     cstart = pos; // don't drop the
@@ -4043,6 +4136,7 @@ public class Tokenizer implements Locator, Locator2 {
                                  * character as a character token. Stay in the
                                  * script data state.
                                  */
+                                pos = skipCharacterRun(buf, pos, endPos, false, true);
                                 continue;
                         }
                     }
@@ -4065,7 +4159,7 @@ public class Tokenizer implements Locator, Locator2 {
                                 state = transition(state, Tokenizer.NON_DATA_END_TAG_NAME, reconsume, pos);
                                 continue stateloop;
                             case '!':
-                                tokenHandler.characters(Tokenizer.LT_GT, 0, 1);
+                                emitCharacters(Tokenizer.LT_GT, 0, 1);
                                 cstart = pos;
                                 state = transition(state, Tokenizer.SCRIPT_DATA_ESCAPE_START, reconsume, pos);
                                 break scriptdatalessthansignloop; // FALL THRU
@@ -4076,7 +4170,7 @@ public class Tokenizer implements Locator, Locator2 {
                                  * Otherwise, emit a U+003C LESS-THAN SIGN
                                  * character token
                                  */
-                                tokenHandler.characters(Tokenizer.LT_GT, 0, 1);
+                                emitCharacters(Tokenizer.LT_GT, 0, 1);
                                 /*
                                  * and reconsume the current input character in
                                  * the data state.
@@ -4334,7 +4428,7 @@ public class Tokenizer implements Locator, Locator2 {
                                  * LESS-THAN SIGN character token and the
                                  * current input character as a character token.
                                  */
-                                tokenHandler.characters(Tokenizer.LT_GT, 0, 1);
+                                emitCharacters(Tokenizer.LT_GT, 0, 1);
                                 cstart = pos;
                                 index = 1;
                                 /*
@@ -4355,7 +4449,7 @@ public class Tokenizer implements Locator, Locator2 {
                                  * input character in the script data escaped
                                  * state.
                                  */
-                                tokenHandler.characters(Tokenizer.LT_GT, 0, 1);
+                                emitCharacters(Tokenizer.LT_GT, 0, 1);
                                 cstart = pos;
                                 reconsume = true;
                                 state = transition(state, Tokenizer.SCRIPT_DATA_ESCAPED, reconsume, pos);
@@ -5966,12 +6060,12 @@ public class Tokenizer implements Locator, Locator2 {
         adjustDoubleHyphenAndAppendToStrBufAndErr('\n');
     }
 
-    @Inline private void appendStrBufLineFeed() {
+    @Inline private void appendStrBufLineFeed() throws SAXException {
         silentLineFeed();
         appendStrBuf('\n');
     }
 
-    @Inline private void appendStrBufCarriageReturn() {
+    @Inline private void appendStrBufCarriageReturn() throws SAXException {
         silentCarriageReturn();
         appendStrBuf('\n');
     }
@@ -5981,6 +6075,64 @@ public class Tokenizer implements Locator, Locator2 {
         lastCR = true;
     }
 
+    /**
+     * Skips over a run of characters that a data-like state emits as
+     * character tokens without looking at them individually. The run is
+     * already part of the coalesced range that starts at <code>cstart</code>,
+     * so skipping it only saves the per-character state dispatch.
+     *
+     * <p>
+     * All the characters that end a run sort at or below U+003C LESS-THAN
+     * SIGN, so most characters of ordinary text are rejected with a single
+     * comparison. Line feeds do not end a run but are counted.
+     *
+     * @param buf
+     *            the buffer being tokenized
+     * @param pos
+     *            the index of the last character consumed
+     * @param endPos
+     *            the end of the significant part of the buffer
+     * @param ampersand
+     *            whether U+0026 AMPERSAND ends the run
+     * @param lessThan
+     *            whether U+003C LESS-THAN SIGN ends the run
+     * @return the index of the last character of the run, which is
+     *         <code>pos</code> if the next character needs handling by the
+     *         state
+     */
+    protected int skipCharacterRun(@NoLength char[] buf, int pos, int endPos,
+            boolean ampersand, boolean lessThan) {
+        for (;;) {
+            if (++pos == endPos) {
+                return pos - 1;
+            }
+            char c = buf[pos];
+            if (c > '<') {
+                continue;
+            }
+            switch (c) {
+                case '<':
+                    if (lessThan) {
+                        return pos - 1;
+                    }
+                    continue;
+                case '&':
+                    if (ampersand) {
+                        return pos - 1;
+                    }
+                    continue;
+                case '\u0000':
+                case '\r':
+                    return pos - 1;
+                case '\n':
+                    ++line;
+                    continue;
+                default:
+                    continue;
+            }
+        }
+    }
+
     @Inline protected void silentLineFeed() {
         ++line;
     }
@@ -5989,21 +6141,29 @@ public class Tokenizer implements Locator, Locator2 {
             throws SAXException {
         silentCarriageReturn();
         flushChars(buf, pos);
-        tokenHandler.characters(Tokenizer.LF, 0, 1);
+        emitCharacters(Tokenizer.LF, 0, 1);
         cstart = Integer.MAX_VALUE;
     }
 
     private void emitReplacementCharacter(@NoLength char[] buf, int pos)
             throws SAXException {
         flushChars(buf, pos);
+        // [NOCPP[
+        long treeBuildStart = statistics == null ? 0 : System.nanoTime();
+        // ]NOCPP]
         tokenHandler.zeroOriginatingReplacementCharacter();
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.addTreeBuildNanos(System.nanoTime() - treeBuildStart);
+        }
+        // ]NOCPP]
         cstart = pos + 1;
     }
 
     private void emitPlaintextReplacementCharacter(@NoLength char[] buf, int pos)
             throws SAXException {
         flushChars(buf, pos);
-        tokenHandler.characters(REPLACEMENT_CHARACTER, 0, 1);
+        emitCharacters(REPLACEMENT_CHARACTER, 0, 1);
         cstart = pos + 1;
     }
 
@@ -6111,7 +6271,7 @@ public class Tokenizer implements Locator, Locator2 {
                     /*
                      * Otherwise, emit a U+003C LESS-THAN SIGN character token
                      */
-                    tokenHandler.characters(Tokenizer.LT_GT, 0, 1);
+                    emitCharacters(Tokenizer.LT_GT, 0, 1);
                     /*
                      * and reconsume the current input character in the data
                      * state.
@@ -6129,7 +6289,7 @@ public class Tokenizer implements Locator, Locator2 {
                     /*
                      * Emit a U+003C LESS-THAN SIGN character token
                      */
-                    tokenHandler.characters(Tokenizer.LT_GT, 0, 1);
+                    emitCharacters(Tokenizer.LT_GT, 0, 1);
                     /*
                      * and reconsume the current input character in the data
                      * state.
@@ -6139,7 +6299,7 @@ public class Tokenizer implements Locator, Locator2 {
                     /*
                      * Emit a U+003C LESS-THAN SIGN character token
                      */
-                    tokenHandler.characters(Tokenizer.LT_GT, 0, 1);
+                    emitCharacters(Tokenizer.LT_GT, 0, 1);
                     /*
                      * and reconsume the current input character in the RCDATA
                      * state.
@@ -6150,7 +6310,7 @@ public class Tokenizer implements Locator, Locator2 {
                      * Emit a U+003C LESS-THAN SIGN character token, a U+002F
                      * SOLIDUS character token,
                      */
-                    tokenHandler.characters(Tokenizer.LT_SOLIDUS, 0, 2);
+                    emitCharacters(Tokenizer.LT_SOLIDUS, 0, 2);
                     /*
                      * a character token for each of the characters in the
                      * temporary buffer (in the order they were added to the
@@ -6169,7 +6329,7 @@ public class Tokenizer implements Locator, Locator2 {
                      * Emit a U+003C LESS-THAN SIGN character token and a U+002F
                      * SOLIDUS character token.
                      */
-                    tokenHandler.characters(Tokenizer.LT_SOLIDUS, 0, 2);
+                    emitCharacters(Tokenizer.LT_SOLIDUS, 0, 2);
                     /*
                      * Reconsume the EOF character in the data state.
                      */
@@ -6454,52 +6614,14 @@ public class Tokenizer implements Locator, Locator2 {
                     state = returnState;
                     continue;
                 case CHARACTER_REFERENCE_TAIL:
-                    outer: for (;;) {
-                        char c = '\u0000';
-                        entCol++;
-                        /*
-                         * Consume the maximum number of characters possible,
-                         * with the consumed characters matching one of the
-                         * identifiers in the first column of the named
-                         * character references table (in a case-sensitive
-                         * manner).
-                         */
-                        hiloop: for (;;) {
-                            if (hi == -1) {
-                                break hiloop;
-                            }
-                            if (entCol == NamedCharacters.NAMES[hi].length()) {
-                                break hiloop;
-                            }
-                            if (entCol > NamedCharacters.NAMES[hi].length()) {
-                                break outer;
-                            } else if (c < NamedCharacters.NAMES[hi].charAt(entCol)) {
-                                hi--;
-                            } else {
-                                break hiloop;
-                            }
-                        }
-
-                        loloop: for (;;) {
-                            if (hi < lo) {
-                                break outer;
-                            }
-                            if (entCol == NamedCharacters.NAMES[lo].length()) {
-                                candidate = lo;
-                                charRefBufMark = charRefBufLen;
-                                lo++;
-                            } else if (entCol > NamedCharacters.NAMES[lo].length()) {
-                                break outer;
-                            } else if (c > NamedCharacters.NAMES[lo].charAt(entCol)) {
-                                lo++;
-                            } else {
-                                break loloop;
-                            }
-                        }
-                        if (hi < lo) {
-                            break outer;
+                    {
+                        // No more characters, so only a name ending at the
+                        // current node can match.
+                        int accept = NamedCharactersTrie.accept(charRefNode);
+                        if (accept != -1) {
+                            candidate = accept;
+                            charRefBufMark = charRefBufLen;
                         }
-                        continue;
                     }
 
                     if (candidate == -1) {
@@ -6511,9 +6633,7 @@ public class Tokenizer implements Locator, Locator2 {
                         state = returnState;
                         continue eofloop;
                     } else {
-                        @Const @CharacterName String candidateName = NamedCharacters.NAMES[candidate];
-                        if (candidateName.length() == 0
-                                || candidateName.charAt(candidateName.length() - 1) != ';') {
+                        if ((candidate & 1) == 0) {
                             /*
                              * If the last character matched is not a U+003B
                              * SEMICOLON (;), there is a parse error.
@@ -6563,24 +6683,15 @@ public class Tokenizer implements Locator, Locator2 {
                          * second column of the named character references
                          * table).
                          */
-                        @Const @NoLength char[] val = NamedCharacters.VALUES[candidate];
-                        if (
-                        // [NOCPP[
-                        val.length == 1
-                        // ]NOCPP]
-                        // CPPONLY: val[1] == 0
-                        ) {
-                            emitOrAppendOne(val, returnState);
-                        } else {
-                            emitOrAppendTwo(val, returnState);
-                        }
+                        emitOrAppendNamedCharacterValue(candidate & ~1,
+                                returnState);
                         // this is so complicated!
                         if (charRefBufMark < charRefBufLen) {
                             if ((returnState & DATA_AND_RCDATA_MASK) != 0) {
                                 appendStrBuf(charRefBuf, charRefBufMark,
                                         charRefBufLen - charRefBufMark);
                             } else {
-                                tokenHandler.characters(charRefBuf, charRefBufMark,
+                                emitCharacters(charRefBuf, charRefBufMark,
                                         charRefBufLen - charRefBufMark);
                             }
                         }
@@ -6620,10 +6731,10 @@ public class Tokenizer implements Locator, Locator2 {
                     state = returnState;
                     continue;
                 case CDATA_RSQB:
-                    tokenHandler.characters(Tokenizer.RSQB_RSQB, 0, 1);
+                    emitCharacters(Tokenizer.RSQB_RSQB, 0, 1);
                     break eofloop;
                 case CDATA_RSQB_RSQB:
-                    tokenHandler.characters(Tokenizer.RSQB_RSQB, 0, 2);
+                    emitCharacters(Tokenizer.RSQB_RSQB, 0, 2);
                     break eofloop;
                 case DATA:
                 default:
@@ -6634,14 +6745,31 @@ public class Tokenizer implements Locator, Locator2 {
         /*
          * EOF Emit an end-of-file token.
          */
+        // [NOCPP[
+        long treeBuildStart = statistics == null ? 0 : System.nanoTime();
+        // ]NOCPP]
         tokenHandler.eof();
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.addTreeBuildNanos(System.nanoTime() - treeBuildStart);
+        }
+        // ]NOCPP]
         return;
     }
 
     private void emitDoctypeToken(int pos) throws SAXException {
         cstart = pos + 1;
+        // [NOCPP[
+        long treeBuildStart = statistics == null ? 0 : System.nanoTime();
+        // ]NOCPP]
         tokenHandler.doctype(doctypeName, publicIdentifier, systemIdentifier,
                 forceQuirks);
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.addTreeBuildNanos(System.nanoTime() - treeBuildStart);
+            statistics.countDoctype();
+        }
+        // ]NOCPP]
         // It is OK and sufficient to release these here, since
         // there's no way out of the doctype states than through paths
         // that call this method.
@@ -6675,7 +6803,138 @@ public class Tokenizer implements Locator, Locator2 {
             appendStrBuf(val[0]);
             appendStrBuf(val[1]);
         } else {
-            tokenHandler.characters(val, 0, 2);
+            emitCharacters(val, 0, 2);
+        }
+    }
+
+    /**
+     * Emits or appends the named character reference matched so far, or the
+     * characters consumed if there is no match, after the character
+     * reference tail state has stopped on <code>c</code>. Kept out of
+     * <code>stateLoop</code> to keep it under the HotSpot huge method limit.
+     *
+     * @return whether <code>c</code> needs to be reconsumed in the return
+     *         state
+     */
+    private boolean emitNamedCharacterReference(char c, int pos,
+            int returnState) throws SAXException {
+        if (candidate == -1) {
+            // reconsume deals with CR, LF or nul
+            /*
+             * If no match can be made, then this is a parse error.
+             */
+            errNoNamedCharacterMatch();
+            emitOrAppendCharRefBuf(returnState);
+            if ((returnState & DATA_AND_RCDATA_MASK) == 0) {
+                cstart = pos;
+            }
+            return true;
+        } else {
+            // c can't be CR, LF or nul if we got here
+            if ((candidate & 1) == 0) {
+                /*
+                 * If the last character matched is not a U+003B
+                 * SEMICOLON (;), there is a parse error.
+                 */
+                if ((returnState & DATA_AND_RCDATA_MASK) != 0) {
+                    /*
+                     * If the entity is being consumed as part of an
+                     * attribute, and the last character matched is
+                     * not a U+003B SEMICOLON (;),
+                     */
+                    char ch;
+                    if (charRefBufMark == charRefBufLen) {
+                        ch = c;
+                    } else {
+                        ch = charRefBuf[charRefBufMark];
+                    }
+                    if (ch == '=' || (ch >= '0' && ch <= '9')
+                            || (ch >= 'A' && ch <= 'Z')
+                            || (ch >= 'a' && ch <= 'z')) {
+                        /*
+                         * and the next character is either a U+003D
+                         * EQUALS SIGN character (=) or in the range
+                         * U+0030 DIGIT ZERO to U+0039 DIGIT NINE,
+                         * U+0041 LATIN CAPITAL LETTER A to U+005A
+                         * LATIN CAPITAL LETTER Z, or U+0061 LATIN
+                         * SMALL LETTER A to U+007A LATIN SMALL
+                         * LETTER Z, then, for historical reasons,
+                         * all the characters that were matched
+                         * after the U+0026 AMPERSAND (&) must be
+                         * unconsumed, and nothing is returned.
+                         */
+                        errNoNamedCharacterMatch();
+                        appendCharRefBufToStrBuf();
+                        return true;
+                    }
+                }
+                if ((returnState & DATA_AND_RCDATA_MASK) != 0) {
+                    errUnescapedAmpersandInterpretedAsCharacterReference();
+                } else {
+                    errNotSemicolonTerminated();
+                }
+            }
+
+            /*
+             * Otherwise, return a character token for the character
+             * corresponding to the entity name (as given by the
+             * second column of the named character references
+             * table).
+             */
+            // CPPONLY: completedNamedCharacterReference();
+            emitOrAppendNamedCharacterValue(candidate & ~1,
+                    returnState);
+            /*
+             * If the markup contains I'm &notit; I tell you, the
+             * entity is parsed as "not", as in, I'm ¬it; I tell
+             * you. But if the markup was I'm &notin; I tell you,
+             * the entity would be parsed as "notin;", resulting in
+             * I'm ∉ I tell you.
+             */
+            // this is so complicated!
+            if (charRefBufMark < charRefBufLen) {
+                if ((returnState & DATA_AND_RCDATA_MASK) != 0) {
+                    appendStrBuf(charRefBuf, charRefBufMark,
+                            charRefBufLen - charRefBufMark);
+                } else {
+                    emitCharacters(charRefBuf, charRefBufMark,
+                            charRefBufLen - charRefBufMark);
+                }
+            }
+            // charRefBufLen will be zeroed below!
+
+            // Check if we broke out early with c being the last
+            // character that matched as opposed to being the
+            // first one that didn't match. In the case of an
+            // early break, the next run on text should start
+            // *after* the current character and the current
+            // character shouldn't be reconsumed.
+            boolean earlyBreak = (c == ';' && charRefBufMark == charRefBufLen);
+            charRefBufLen = 0;
+            if ((returnState & DATA_AND_RCDATA_MASK) == 0) {
+                cstart = earlyBreak ? pos + 1 : pos;
+            }
+            return !earlyBreak;
+        }
+    }
+
+    /**
+     * Emits or appends the expansion of a named character reference.
+     *
+     * @param offset
+     *            the offset of the expansion in
+     *            <code>NamedCharactersTrie.VALUES</code>
+     * @param returnState
+     *            the return state
+     */
+    private void emitOrAppendNamedCharacterValue(int offset, int returnState)
+            throws SAXException {
+        @Const @NoLength char[] val = NamedCharactersTrie.VALUES;
+        int length = val[offset + 1] == 0 ? 1 : 2;
+        if ((returnState & DATA_AND_RCDATA_MASK) != 0) {
+            appendStrBuf(val, offset, length);
+        } else {
+            emitCharacters(val, offset, length);
         }
     }
 
@@ -6684,12 +6943,18 @@ public class Tokenizer implements Locator, Locator2 {
         if ((returnState & DATA_AND_RCDATA_MASK) != 0) {
             appendStrBuf(val[0]);
         } else {
-            tokenHandler.characters(val, 0, 1);
+            emitCharacters(val, 0, 1);
         }
     }
 
     public void end() throws SAXException {
-        strBuf = null;
+        // [NOCPP[
+        // Keep a strBuf of a reasonable size for the next parse.
+        if (strBuf != null && strBuf.length > STR_BUF_MAX_RETAINED_LENGTH) {
+            strBuf = null;
+        }
+        // ]NOCPP]
+        // CPPONLY: strBuf = null;
         doctypeName = null;
         if (systemIdentifier != null) {
             Portability.releaseString(systemIdentifier);
@@ -6770,10 +7035,8 @@ public class Tokenizer implements Locator, Locator2 {
         index = 0;
         forceQuirks = false;
         additional = '\u0000';
-        entCol = -1;
         firstCharKey = -1;
-        lo = 0;
-        hi = 0; // will always be overwritten before use anyway
+        charRefNode = 0;
         candidate = -1;
         charRefBufMark = 0;
         value = 0;
@@ -6811,10 +7074,8 @@ public class Tokenizer implements Locator, Locator2 {
         index = other.index;
         forceQuirks = other.forceQuirks;
         additional = other.additional;
-        entCol = other.entCol;
         firstCharKey = other.firstCharKey;
-        lo = other.lo;
-        hi = other.hi;
+        charRefNode = other.charRefNode;
         candidate = other.candidate;
         charRefBufMark = other.charRefBufMark;
         value = other.value;
@@ -6854,6 +7115,7 @@ public class Tokenizer implements Locator, Locator2 {
 
         // [NOCPP[
         attributeName = other.attributeName;
+        maxStrBufLen = other.maxStrBufLen;
         // ]NOCPP]
         // CPPONLY: if (other.attributeName == null) {
         // CPPONLY:     attributeName = null;
@@ -6877,7 +7139,7 @@ public class Tokenizer implements Locator, Locator2 {
 
     public void initializeWithoutStarting() throws SAXException {
         confident = false;
-        strBuf = null;
+        // CPPONLY: strBuf = null;
         line = 1;
         // CPPONLY: attributeLine = 1;
         // [NOCPP[
@@ -358,6 +358,18 @@ public abstract class TreeBuilder<T> implements TokenHandler,
 
     private static final @Local String HTML_LOCAL = "html";
 
+    /**
+     * The longest stack, list or stack node pool that is kept from one parse
+     * to the next. Longer ones come from pathological nesting and are
+     * dropped at the end of the parse.
+     */
+    private static final int MAX_RETAINED_STACK_LENGTH = 1024;
+
+    /**
+     * The longest character buffer that is kept from one parse to the next.
+     */
+    private static final int MAX_RETAINED_CHAR_BUFFER_LENGTH = 64 * 1024;
+
     // ]NOCPP]
 
     private int mode = INITIAL;
@@ -444,6 +456,42 @@ public abstract class TreeBuilder<T> implements TokenHandler,
 
     private final Map<String, LocatorImpl> idLocations = new HashMap<String, LocatorImpl>();
 
+    /**
+     * The statistics to fill in or <code>null</code>.
+     */
+    protected ParseStatistics statistics;
+
+    /**
+     * The limits or <code>null</code>.
+     */
+    private ParseLimits limits;
+
+    /**
+     * The stack depth limit of the current parse.
+     */
+    private int stackDepthLimit = Integer.MAX_VALUE;
+
+    /**
+     * The limit of the length of the list of active formatting elements of
+     * the current parse.
+     */
+    private int activeFormattingLimit = Integer.MAX_VALUE;
+
+    /**
+     * The text length limit of the current parse.
+     */
+    private int textLengthLimit = Integer.MAX_VALUE;
+
+    /**
+     * The node count limit of the current parse.
+     */
+    private int nodeLimit = Integer.MAX_VALUE;
+
+    /**
+     * The number of nodes created in the current parse.
+     */
+    private int nodeCount;
+
     // ]NOCPP]
 
     protected TreeBuilder() {
@@ -579,15 +627,23 @@ public abstract class TreeBuilder<T> implements TokenHandler,
 
     @SuppressWarnings("unchecked") public final void startTokenization(Tokenizer self) throws SAXException {
         tokenizer = self;
+        // [NOCPP[
+        // endTokenization() keeps the arrays and the stack node pool of the
+        // previous parse unless they grew too long.
+        if (stack == null) {
+        // ]NOCPP]
         stackNodes = new StackNode[64];
         stack = new StackNode[64];
         templateModeStack = new int[64];
         listOfActiveFormattingElements = new StackNode[64];
+        numStackNodes = 0;
+        // [NOCPP[
+        }
+        // ]NOCPP]
         needToDropLF = false;
         originalMode = INITIAL;
         templateModePtr = -1;
         stackNodesIdx = 0;
-        numStackNodes = 0;
         currentPtr = -1;
         listPtr = -1;
         formPointer = null;
@@ -595,16 +651,31 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         // [NOCPP[
         idLocations.clear();
         wantingComments = wantsComments();
+        if (limits == null) {
+            stackDepthLimit = Integer.MAX_VALUE;
+            activeFormattingLimit = Integer.MAX_VALUE;
+            textLengthLimit = Integer.MAX_VALUE;
+            nodeLimit = Integer.MAX_VALUE;
+        } else {
+            stackDepthLimit = limits.getMaxStackDepth();
+            activeFormattingLimit = limits.getMaxActiveFormattingElements();
+            textLengthLimit = limits.getMaxTextLength();
+            nodeLimit = limits.getMaxNodes();
+        }
+        nodeCount = 0;
         // ]NOCPP]
         start(fragment);
         charBufferLen = 0;
-        charBuffer = null;
+        // CPPONLY: charBuffer = null;
         framesetOk = true;
         if (fragment) {
             T elt;
             if (contextNode != null) {
                 elt = contextNode;
             } else {
+                // [NOCPP[
+                countElement();
+                // ]NOCPP]
                 elt = createHtmlElementSetAsRoot(tokenizer.emptyAttributes());
             }
             // When the context node is not in the HTML namespace, contrary
@@ -803,6 +874,11 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         if (!wantingComments) {
             return;
         }
+        if (length > textLengthLimit) {
+            throw new ParseLimitExceededException(
+                    ParseLimits.Limit.TEXT_LENGTH, textLengthLimit, tokenizer);
+        }
+        countNode();
         // ]NOCPP]
         if (!isInForeign()) {
             switch (mode) {
@@ -851,6 +927,11 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         // CPPONLY: if (tokenizer.isViewingXmlSource()) {
         // CPPONLY: return;
         // CPPONLY: }
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.countCharacterToken();
+        }
+        // ]NOCPP]
         if (needToDropLF) {
             needToDropLF = false;
             if (buf[start] == '\n') {
@@ -1415,6 +1496,12 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         headPointer = null;
         contextName = null;
         contextNode = null;
+        // [NOCPP[
+        if (retainStacks()) {
+            end();
+            return;
+        }
+        // ]NOCPP]
         templateModeStack = null;
         if (stack != null) {
             while (currentPtr > -1) {
@@ -1448,6 +1535,62 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         end();
     }
 
+    // [NOCPP[
+
+    /**
+     * Empties the stack, the list of active formatting elements and the
+     * stack node pool but keeps the arrays and the unused stack nodes for
+     * the next parse, so that parsing many small documents with the same
+     * tree builder does not allocate them over and over. Nothing is kept if
+     * pathological nesting made the arrays long.
+     * 
+     * @return <code>true</code> if the arrays were kept
+     */
+    private boolean retainStacks() {
+        if (stack == null || stack.length > MAX_RETAINED_STACK_LENGTH
+                || listOfActiveFormattingElements.length > MAX_RETAINED_STACK_LENGTH
+                || templateModeStack.length > MAX_RETAINED_STACK_LENGTH
+                || stackNodes.length > MAX_RETAINED_STACK_LENGTH) {
+            return false;
+        }
+        while (currentPtr > -1) {
+            stack[currentPtr].release(this);
+            currentPtr--;
+        }
+        while (listPtr > -1) {
+            if (listOfActiveFormattingElements[listPtr] != null) {
+                listOfActiveFormattingElements[listPtr].release(this);
+            }
+            listPtr--;
+        }
+        Arrays.fill(stack, null);
+        Arrays.fill(listOfActiveFormattingElements, null);
+        boolean leaked = false;
+        for (int i = 0; i < numStackNodes; i++) {
+            if (stackNodes[i].isUnused()) {
+                // Don't keep the nodes of the last document reachable.
+                stackNodes[i].forget();
+            } else {
+                leaked = true;
+            }
+        }
+        if (leaked) {
+            // A parse that was aborted by an exception can leave stack nodes
+            // that were retained but never pushed. Start a new pool.
+            Arrays.fill(stackNodes, 0, numStackNodes, null);
+            numStackNodes = 0;
+        }
+        stackNodesIdx = 0;
+        idLocations.clear();
+        if (charBuffer != null
+                && charBuffer.length > MAX_RETAINED_CHAR_BUFFER_LENGTH) {
+            charBuffer = null;
+        }
+        return true;
+    }
+
+    // ]NOCPP]
+
     public final void startTag(ElementName elementName,
             HtmlAttributes attributes, boolean selfClosing) throws SAXException {
         flushCharacters();
@@ -3900,18 +4043,30 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         for (int i = currentPtr; i > 0; i--) {
             if (stack[i].getGroup() == TreeBuilder.TBODY_OR_THEAD_OR_TFOOT ||
                     stack[i].getGroup() == TreeBuilder.TEMPLATE) {
+                // [NOCPP[
+                countScopeSearch(currentPtr - i + 1);
+                // ]NOCPP]
                 return i;
             }
         }
+        // [NOCPP[
+        countScopeSearch(currentPtr);
+        // ]NOCPP]
         return 0;
     }
 
     private int findLast(@Local String name) {
         for (int i = currentPtr; i > 0; i--) {
             if (stack[i].ns == "http://www.w3.org/1999/xhtml" && stack[i].name == name) {
+                // [NOCPP[
+                countScopeSearch(currentPtr - i + 1);
+                // ]NOCPP]
                 return i;
             }
         }
+        // [NOCPP[
+        countScopeSearch(currentPtr);
+        // ]NOCPP]
         return TreeBuilder.NOT_FOUND_ON_STACK;
     }
 
@@ -3919,12 +4074,21 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         for (int i = currentPtr; i > 0; i--) {
             if (stack[i].ns == "http://www.w3.org/1999/xhtml") {
                 if (stack[i].name == name) {
+                    // [NOCPP[
+                    countScopeSearch(currentPtr - i + 1);
+                    // ]NOCPP]
                     return i;
                 } else if (stack[i].name == "table" || stack[i].name == "template") {
+                    // [NOCPP[
+                    countScopeSearch(currentPtr - i + 1);
+                    // ]NOCPP]
                     return TreeBuilder.NOT_FOUND_ON_STACK;
                 }
             }
         }
+        // [NOCPP[
+        countScopeSearch(currentPtr);
+        // ]NOCPP]
         return TreeBuilder.NOT_FOUND_ON_STACK;
     }
 
@@ -3932,27 +4096,48 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         for (int i = currentPtr; i > 0; i--) {
             if (stack[i].ns == "http://www.w3.org/1999/xhtml") {
                 if (stack[i].name == name) {
+                    // [NOCPP[
+                    countScopeSearch(currentPtr - i + 1);
+                    // ]NOCPP]
                     return i;
                 } else if (stack[i].name == "button") {
+                    // [NOCPP[
+                    countScopeSearch(currentPtr - i + 1);
+                    // ]NOCPP]
                     return TreeBuilder.NOT_FOUND_ON_STACK;
                 }
             }
 
             if (stack[i].isScoping()) {
+                // [NOCPP[
+                countScopeSearch(currentPtr - i + 1);
+                // ]NOCPP]
                 return TreeBuilder.NOT_FOUND_ON_STACK;
             }
         }
+        // [NOCPP[
+        countScopeSearch(currentPtr);
+        // ]NOCPP]
         return TreeBuilder.NOT_FOUND_ON_STACK;
     }
 
     private int findLastInScope(@Local String name) {
         for (int i = currentPtr; i > 0; i--) {
             if (stack[i].ns == "http://www.w3.org/1999/xhtml" && stack[i].name == name) {
+                // [NOCPP[
+                countScopeSearch(currentPtr - i + 1);
+                // ]NOCPP]
                 return i;
             } else if (stack[i].isScoping()) {
+                // [NOCPP[
+                countScopeSearch(currentPtr - i + 1);
+                // ]NOCPP]
                 return TreeBuilder.NOT_FOUND_ON_STACK;
             }
         }
+        // [NOCPP[
+        countScopeSearch(currentPtr);
+        // ]NOCPP]
         return TreeBuilder.NOT_FOUND_ON_STACK;
     }
 
@@ -3960,27 +4145,48 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         for (int i = currentPtr; i > 0; i--) {
             if (stack[i].ns == "http://www.w3.org/1999/xhtml") {
                 if (stack[i].name == name) {
+                    // [NOCPP[
+                    countScopeSearch(currentPtr - i + 1);
+                    // ]NOCPP]
                     return i;
                 } else if (stack[i].name == "ul" || stack[i].name == "ol") {
+                    // [NOCPP[
+                    countScopeSearch(currentPtr - i + 1);
+                    // ]NOCPP]
                     return TreeBuilder.NOT_FOUND_ON_STACK;
                 }
             }
 
             if (stack[i].isScoping()) {
+                // [NOCPP[
+                countScopeSearch(currentPtr - i + 1);
+                // ]NOCPP]
                 return TreeBuilder.NOT_FOUND_ON_STACK;
             }
         }
+        // [NOCPP[
+        countScopeSearch(currentPtr);
+        // ]NOCPP]
         return TreeBuilder.NOT_FOUND_ON_STACK;
     }
 
     private int findLastInScopeHn() {
         for (int i = currentPtr; i > 0; i--) {
             if (stack[i].getGroup() == TreeBuilder.H1_OR_H2_OR_H3_OR_H4_OR_H5_OR_H6) {
+                // [NOCPP[
+                countScopeSearch(currentPtr - i + 1);
+                // ]NOCPP]
                 return i;
             } else if (stack[i].isScoping()) {
+                // [NOCPP[
+                countScopeSearch(currentPtr - i + 1);
+                // ]NOCPP]
                 return TreeBuilder.NOT_FOUND_ON_STACK;
             }
         }
+        // [NOCPP[
+        countScopeSearch(currentPtr);
+        // ]NOCPP]
         return TreeBuilder.NOT_FOUND_ON_STACK;
     }
 
@@ -4143,12 +4349,21 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             @Local String name = stack[i].name;
             if (stack[i].ns == "http://www.w3.org/1999/xhtml") {
                 if ("td" == name || "th" == name) {
+                    // [NOCPP[
+                    countScopeSearch(currentPtr - i + 1);
+                    // ]NOCPP]
                     return i;
                 } else if (name == "table" || name == "template") {
+                    // [NOCPP[
+                    countScopeSearch(currentPtr - i + 1);
+                    // ]NOCPP]
                     return TreeBuilder.NOT_FOUND_ON_STACK;
                 }
             }
         }
+        // [NOCPP[
+        countScopeSearch(currentPtr);
+        // ]NOCPP]
         return TreeBuilder.NOT_FOUND_ON_STACK;
     }
 
@@ -4288,6 +4503,11 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             int[] newStack = new int[templateModeStack.length + 64];
             System.arraycopy(templateModeStack, 0, newStack, 0, templateModeStack.length);
             templateModeStack = newStack;
+            // [NOCPP[
+            if (statistics != null) {
+                statistics.countBufferGrowth();
+            }
+            // ]NOCPP]
         }
         templateModeStack[templateModePtr] = mode;
     }
@@ -4298,8 +4518,23 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             StackNode<T>[] newStack = new StackNode[stack.length + 64];
             System.arraycopy(stack, 0, newStack, 0, stack.length);
             stack = newStack;
+            // [NOCPP[
+            if (statistics != null) {
+                statistics.countBufferGrowth();
+            }
+            // ]NOCPP]
+        }
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.updateMaxStackDepth(currentPtr + 1);
         }
+        // ]NOCPP]
         stack[currentPtr] = node;
+        // [NOCPP[
+        // Check after storing the node so that the stack can be released if
+        // the limit aborts the parse.
+        checkPush();
+        // ]NOCPP]
         elementPushed(node.ns, node.popName, node.node);
     }
 
@@ -4309,22 +4544,49 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             StackNode<T>[] newStack = new StackNode[stack.length + 64];
             System.arraycopy(stack, 0, newStack, 0, stack.length);
             stack = newStack;
+            // [NOCPP[
+            if (statistics != null) {
+                statistics.countBufferGrowth();
+            }
+            // ]NOCPP]
+        }
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.updateMaxStackDepth(currentPtr + 1);
         }
+        // ]NOCPP]
         stack[currentPtr] = node;
+        // [NOCPP[
+        checkPush();
+        // ]NOCPP]
     }
 
-    @SuppressWarnings("unchecked") private void append(StackNode<T> node) {
+    @SuppressWarnings("unchecked") private void append(StackNode<T> node) throws SAXException {
+        // [NOCPP[
+        // Check before appending, since the callers retain the node after
+        // this returns.
+        if (listPtr + 1 >= activeFormattingLimit) {
+            throw new ParseLimitExceededException(
+                    ParseLimits.Limit.ACTIVE_FORMATTING_ELEMENTS,
+                    activeFormattingLimit, tokenizer);
+        }
+        // ]NOCPP]
         listPtr++;
         if (listPtr == listOfActiveFormattingElements.length) {
             StackNode<T>[] newList = new StackNode[listOfActiveFormattingElements.length + 64];
             System.arraycopy(listOfActiveFormattingElements, 0, newList, 0,
                     listOfActiveFormattingElements.length);
             listOfActiveFormattingElements = newList;
+            // [NOCPP[
+            if (statistics != null) {
+                statistics.countBufferGrowth();
+            }
+            // ]NOCPP]
         }
         listOfActiveFormattingElements[listPtr] = node;
     }
 
-    @Inline private void insertMarker() {
+    @Inline private void insertMarker() throws SAXException {
         append(null);
     }
 
@@ -4400,6 +4662,11 @@ public abstract class TreeBuilder<T> implements TokenHandler,
      * @throws SAXException
      */
     private boolean adoptionAgencyEndTag(@Local String name) throws SAXException {
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.countAdoptionAgencyInvocation();
+        }
+        // ]NOCPP]
         // This check intends to ensure that for properly nested tags, closing tags will match
         // against the stack instead of the listOfActiveFormattingElements.
         if (stack[currentPtr].ns == "http://www.w3.org/1999/xhtml" &&
@@ -4421,13 +4688,18 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             while (formattingEltListPos > -1) {
                 StackNode<T> listNode = listOfActiveFormattingElements[formattingEltListPos]; // weak ref
                 if (listNode == null) {
-                    formattingEltListPos = -1;
-                    break;
+                    // [NOCPP[
+                    countAdoptionAgencySteps(listPtr - formattingEltListPos + 1);
+                    // ]NOCPP]
+                    return false;
                 } else if (listNode.name == name) {
                     break;
                 }
                 formattingEltListPos--;
             }
+            // [NOCPP[
+            countAdoptionAgencySteps(listPtr + 1 - Math.max(formattingEltListPos, 0));
+            // ]NOCPP]
             if (formattingEltListPos == -1) {
                 return false;
             }
@@ -4444,6 +4716,9 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                 }
                 formattingEltStackPos--;
             }
+            // [NOCPP[
+            countAdoptionAgencySteps(currentPtr + 1 - Math.max(formattingEltStackPos, 0));
+            // ]NOCPP]
             if (formattingEltStackPos == -1) {
                 errNoElementToCloseButEndTagSeen(name);
                 removeFromListOfActiveFormattingElements(formattingEltListPos);
@@ -4466,6 +4741,9 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                 }
                 furthestBlockPos++;
             }
+            // [NOCPP[
+            countAdoptionAgencySteps(Math.min(furthestBlockPos, currentPtr) - formattingEltStackPos);
+            // ]NOCPP]
             if (furthestBlockPos > currentPtr) {
                 // no furthest block
                 while (currentPtr >= formattingEltStackPos) {
@@ -4525,6 +4803,9 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                 // if (hasChildren(node.node)) { XXX AAA CHANGE
                 assert node == listOfActiveFormattingElements[nodeListPos];
                 assert node == stack[nodePos];
+                // [NOCPP[
+                countElement();
+                // ]NOCPP]
                 T clone = createElement("http://www.w3.org/1999/xhtml",
                         node.name, node.attributes.cloneAttributes(), insertionCommonAncestor
                         // CPPONLY: , htmlCreator(node.getHtmlCreator())
@@ -4558,6 +4839,9 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                 detachFromParent(lastNode.node);
                 appendElement(lastNode.node, insertionCommonAncestor);
             }
+            // [NOCPP[
+            countElement();
+            // ]NOCPP]
             T clone = createElement("http://www.w3.org/1999/xhtml",
                     formattingElt.name,
                     formattingElt.attributes.cloneAttributes(), furthestBlock.node
@@ -4598,6 +4882,9 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                     (currentPtr - position) + 1);
             currentPtr++;
             stack[position] = node;
+            // [NOCPP[
+            checkPush();
+            // ]NOCPP]
         }
     }
 
@@ -4617,9 +4904,15 @@ public abstract class TreeBuilder<T> implements TokenHandler,
     private int findInListOfActiveFormattingElements(StackNode<T> node) {
         for (int i = listPtr; i >= 0; i--) {
             if (node == listOfActiveFormattingElements[i]) {
+                // [NOCPP[
+                countAdoptionAgencySteps(listPtr - i + 1);
+                // ]NOCPP]
                 return i;
             }
         }
+        // [NOCPP[
+        countAdoptionAgencySteps(listPtr + 1);
+        // ]NOCPP]
         return -1;
     }
 
@@ -4639,9 +4932,15 @@ public abstract class TreeBuilder<T> implements TokenHandler,
 
     private void maybeForgetEarlierDuplicateFormattingElement(
             @Local String name, HtmlAttributes attributes) throws SAXException {
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.countNoahsArkScan();
+        }
+        // ]NOCPP]
         int candidate = -1;
         int count = 0;
-        for (int i = listPtr; i >= 0; i--) {
+        int i = listPtr;
+        for (; i >= 0; i--) {
             StackNode<T> node = listOfActiveFormattingElements[i];
             if (node == null) {
                 break;
@@ -4651,6 +4950,9 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                 ++count;
             }
         }
+        // [NOCPP[
+        countNoahsArkSteps(listPtr + 1 - Math.max(i, 0));
+        // ]NOCPP]
         if (count >= 3) {
             removeFromListOfActiveFormattingElements(candidate);
         }
@@ -4659,18 +4961,30 @@ public abstract class TreeBuilder<T> implements TokenHandler,
     private int findLastOrRoot(@Local String name) {
         for (int i = currentPtr; i > 0; i--) {
             if (stack[i].ns == "http://www.w3.org/1999/xhtml" && stack[i].name == name) {
+                // [NOCPP[
+                countScopeSearch(currentPtr - i + 1);
+                // ]NOCPP]
                 return i;
             }
         }
+        // [NOCPP[
+        countScopeSearch(currentPtr);
+        // ]NOCPP]
         return 0;
     }
 
     private int findLastOrRoot(int group) {
         for (int i = currentPtr; i > 0; i--) {
             if (stack[i].getGroup() == group) {
+                // [NOCPP[
+                countScopeSearch(currentPtr - i + 1);
+                // ]NOCPP]
                 return i;
             }
         }
+        // [NOCPP[
+        countScopeSearch(currentPtr);
+        // ]NOCPP]
         return 0;
     }
 
@@ -4722,8 +5036,16 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         if (listPtr == -1) {
             return;
         }
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.countReconstruction();
+        }
+        // ]NOCPP]
         StackNode<T> mostRecent = listOfActiveFormattingElements[listPtr];
-        if (mostRecent == null || isInStack(mostRecent)) {
+        if (mostRecent == null) {
+            return;
+        }
+        if (isInStack(mostRecent)) {
             return;
         }
         int entryPos = listPtr;
@@ -4745,6 +5067,9 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             StackNode<T> current = stack[currentPtr];
 
             T clone;
+            // [NOCPP[
+            countElement();
+            // ]NOCPP]
             if (current.isFosterParenting()) {
                 clone = createAndInsertFosterParentedElement("http://www.w3.org/1999/xhtml", entry.name,
                         entry.attributes.cloneAttributes()
@@ -4807,6 +5132,11 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         StackNode<T>[] newStack = new StackNode[stackNodes.length + 64];
         System.arraycopy(stackNodes, 0, newStack, 0, stackNodes.length);
         stackNodes = newStack;
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.countBufferGrowth();
+        }
+        // ]NOCPP]
 
         // Create a new stack node and return it.
         stackNodes[stackNodesIdx] = new StackNode<T>(stackNodesIdx);
@@ -4912,6 +5242,11 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         }
 
         StackNode<T> node = stack[tablePos];
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.countFosterParenting();
+        }
+        // ]NOCPP]
         insertFosterParentedChild(child, node.node, stack[tablePos - 1].node);
     }
 
@@ -4940,6 +5275,11 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         }
 
         StackNode<T> node = stack[tablePos];
+        // [NOCPP[
+        if (statistics != null) {
+            statistics.countFosterParenting();
+        }
+        // ]NOCPP]
         return createAndInsertFosterParentedElement(ns, name, attributes, form, node.node, stack[tablePos - 1].node
                 // CPPONLY: , creator
                 );
@@ -4948,9 +5288,15 @@ public abstract class TreeBuilder<T> implements TokenHandler,
     private boolean isInStack(StackNode<T> node) {
         for (int i = currentPtr; i >= 0; i--) {
             if (stack[i] == node) {
+                // [NOCPP[
+                countReconstructionSteps(currentPtr - i + 1);
+                // ]NOCPP]
                 return true;
             }
         }
+        // [NOCPP[
+        countReconstructionSteps(currentPtr + 1);
+        // ]NOCPP]
         return false;
     }
 
@@ -5085,6 +5431,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
     private void appendHtmlElementToDocumentAndPush(HtmlAttributes attributes)
             throws SAXException {
         // [NOCPP[
+        countElement();
         checkAttributes(attributes, "http://www.w3.org/1999/xhtml");
         // ]NOCPP]
         T elt = createHtmlElementSetAsRoot(attributes);
@@ -5104,6 +5451,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
     private void appendToCurrentNodeAndPushHeadElement(HtmlAttributes attributes)
             throws SAXException {
         // [NOCPP[
+        countElement();
         checkAttributes(attributes, "http://www.w3.org/1999/xhtml");
         // ]NOCPP]
         T currentNode = nodeFromStackWithBlinkCompat(currentPtr);
@@ -5137,6 +5485,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
     private void appendToCurrentNodeAndPushFormElementMayFoster(
             HtmlAttributes attributes) throws SAXException {
         // [NOCPP[
+        countElement();
         checkAttributes(attributes, "http://www.w3.org/1999/xhtml");
         // ]NOCPP]
 
@@ -5172,6 +5521,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             ElementName elementName, HtmlAttributes attributes)
             throws SAXException {
         // [NOCPP[
+        countElement();
         checkAttributes(attributes, "http://www.w3.org/1999/xhtml");
         // ]NOCPP]
         // This method can't be called for custom elements
@@ -5206,6 +5556,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             HtmlAttributes attributes)
             throws SAXException {
         // [NOCPP[
+        countElement();
         checkAttributes(attributes, "http://www.w3.org/1999/xhtml");
         // ]NOCPP]
         // This method can't be called for custom elements
@@ -5230,6 +5581,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             throws SAXException {
         @Local String popName = elementName.getName();
         // [NOCPP[
+        countElement();
         checkAttributes(attributes, "http://www.w3.org/1999/xhtml");
         if (!elementName.isInterned()) {
             popName = checkPopName(popName);
@@ -5262,6 +5614,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             throws SAXException {
         @Local String popName = elementName.getName();
         // [NOCPP[
+        countElement();
         checkAttributes(attributes, "http://www.w3.org/1998/Math/MathML");
         if (!elementName.isInterned()) {
             popName = checkPopName(popName);
@@ -5323,6 +5676,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             throws SAXException {
         @Local String popName = elementName.getCamelCaseName();
         // [NOCPP[
+        countElement();
         checkAttributes(attributes, "http://www.w3.org/2000/svg");
         if (!elementName.isInterned()) {
             popName = checkPopName(popName);
@@ -5354,6 +5708,7 @@ public abstract class TreeBuilder<T> implements TokenHandler,
             HtmlAttributes attributes, T form)
             throws SAXException {
         // [NOCPP[
+        countElement();
         checkAttributes(attributes, "http://www.w3.org/1999/xhtml");
         // ]NOCPP]
         // Can't be called for custom elements
@@ -5384,6 +5739,10 @@ public abstract class TreeBuilder<T> implements TokenHandler,
 
     private void appendVoidElementToCurrentMayFoster(
             ElementName elementName, HtmlAttributes attributes, T form) throws SAXException {
+        // [NOCPP[
+        countElement();
+        countNode();
+        // ]NOCPP]
         @Local String name = elementName.getName();
         // [NOCPP[
         checkAttributes(attributes, "http://www.w3.org/1999/xhtml");
@@ -5413,6 +5772,10 @@ public abstract class TreeBuilder<T> implements TokenHandler,
     private void appendVoidElementToCurrentMayFoster(
             ElementName elementName, HtmlAttributes attributes)
             throws SAXException {
+        // [NOCPP[
+        countElement();
+        countNode();
+        // ]NOCPP]
         @Local String popName = elementName.getName();
         // [NOCPP[
         checkAttributes(attributes, "http://www.w3.org/1999/xhtml");
@@ -5441,6 +5804,10 @@ public abstract class TreeBuilder<T> implements TokenHandler,
     private void appendVoidElementToCurrentMayFosterSVG(
             ElementName elementName, HtmlAttributes attributes)
             throws SAXException {
+        // [NOCPP[
+        countElement();
+        countNode();
+        // ]NOCPP]
         @Local String popName = elementName.getCamelCaseName();
         // [NOCPP[
         checkAttributes(attributes, "http://www.w3.org/2000/svg");
@@ -5469,6 +5836,10 @@ public abstract class TreeBuilder<T> implements TokenHandler,
     private void appendVoidElementToCurrentMayFosterMathML(
             ElementName elementName, HtmlAttributes attributes)
             throws SAXException {
+        // [NOCPP[
+        countElement();
+        countNode();
+        // ]NOCPP]
         @Local String popName = elementName.getName();
         // [NOCPP[
         checkAttributes(attributes, "http://www.w3.org/1998/Math/MathML");
@@ -5495,6 +5866,10 @@ public abstract class TreeBuilder<T> implements TokenHandler,
     }
 
     private void appendVoidInputToCurrent(HtmlAttributes attributes, T form) throws SAXException {
+        // [NOCPP[
+        countElement();
+        countNode();
+        // ]NOCPP]
         // [NOCPP[
         checkAttributes(attributes, "http://www.w3.org/1999/xhtml");
         // ]NOCPP]
@@ -5510,6 +5885,10 @@ public abstract class TreeBuilder<T> implements TokenHandler,
     }
 
     private void appendVoidFormToCurrent(HtmlAttributes attributes) throws SAXException {
+        // [NOCPP[
+        countElement();
+        countNode();
+        // ]NOCPP]
         // [NOCPP[
         checkAttributes(attributes, "http://www.w3.org/1999/xhtml");
         // ]NOCPP]
@@ -5535,23 +5914,34 @@ public abstract class TreeBuilder<T> implements TokenHandler,
 
     @Override public void ensureBufferSpace(int inputLength)
             throws SAXException {
-        // TODO: Unify Tokenizer.strBuf and TreeBuilder.charBuffer so that
-        // this method becomes unnecessary.
+        // The tokenizer passes the worst case for a whole input buffer, so
+        // accumulateCharacters() and accumulateCharactersForced() can copy
+        // without bounds checks. Tokenizer.strBuf is not sized after the
+        // input but grows on demand, so the input-sized slack exists only
+        // here.
+        checkTextLength();
         int worstCase = charBufferLen + inputLength;
         if (charBuffer == null) {
             // Add an arbitrary small value to avoid immediate reallocation
             // once there are a few characters in the buffer.
             charBuffer = new char[worstCase + 128];
         } else if (worstCase > charBuffer.length) {
-            // HotSpot reportedly allocates memory with 8-byte accuracy, so
-            // there's no point in trying to do math here to avoid slop.
-            // Maybe we should add some small constant to worstCase here
-            // but not doing that without profiling. In C++ with jemalloc,
+            // Text is accumulated until the next tag, so a long run of text
+            // (a big <pre>) comes here once per input buffer. Growing to
+            // just worstCase would copy the whole run each time, which is
+            // quadratic, so grow by half at least. In C++ with jemalloc,
             // the corresponding method should do math to round up here
             // to avoid slop.
-            char[] newBuf = new char[worstCase];
+            int newLength = charBuffer.length + (charBuffer.length >> 1);
+            if (newLength < worstCase) {
+                newLength = worstCase;
+            }
+            char[] newBuf = new char[newLength];
             System.arraycopy(charBuffer, 0, newBuf, 0, charBufferLen);
             charBuffer = newBuf;
+            if (statistics != null) {
+                statistics.countBufferGrowth();
+            }
         }
     }
 
@@ -5696,6 +6086,100 @@ public abstract class TreeBuilder<T> implements TokenHandler,
         return errorHandler;
     }
 
+    /**
+     * Sets the statistics to fill in. Normally set through
+     * <code>Tokenizer.setStatistics()</code>.
+     *
+     * @param statistics
+     *            the statistics or <code>null</code> not to collect any
+     */
+    public final void setStatistics(ParseStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Sets the limits to enforce. Normally set through
+     * <code>Tokenizer.setLimits()</code>.
+     *
+     * @param limits
+     *            the limits or <code>null</code> not to limit anything
+     */
+    public final void setLimits(ParseLimits limits) {
+        this.limits = limits;
+    }
+
+    private void checkPush() throws SAXException {
+        if (currentPtr >= stackDepthLimit) {
+            throw new ParseLimitExceededException(
+                    ParseLimits.Limit.STACK_DEPTH, stackDepthLimit, tokenizer);
+        }
+        countNode();
+    }
+
+    private void countNode() throws SAXException {
+        if (++nodeCount > nodeLimit) {
+            throw new ParseLimitExceededException(ParseLimits.Limit.NODES,
+                    nodeLimit, tokenizer);
+        }
+    }
+
+    private void checkTextLength() throws SAXException {
+        checkTextLength(charBufferLen);
+    }
+
+    /**
+     * Aborts the parse if a text node would get longer than the text length
+     * limit. The tree builder only sees the text accumulated since the
+     * previous flush, so subclasses that append flushed text to an existing
+     * text node call this with the length of the merged text.
+     * 
+     * @param length
+     *            the length of the text node after the append
+     * @throws SAXException
+     *             if the length is over the limit
+     */
+    protected final void checkTextLength(int length) throws SAXException {
+        if (length > textLengthLimit) {
+            throw new ParseLimitExceededException(
+                    ParseLimits.Limit.TEXT_LENGTH, textLengthLimit, tokenizer);
+        }
+    }
+
+    private void countElement() {
+        if (statistics != null) {
+            statistics.countElement();
+        }
+    }
+
+    /**
+     * Counts a search of the stack when it returns. The steps are counted
+     * here rather than in the loop.
+     */
+    private void countScopeSearch(int steps) {
+        if (statistics != null) {
+            statistics.countScopeSearch();
+            statistics.addScopeSearchSteps(steps);
+        }
+    }
+
+    private void countAdoptionAgencySteps(int steps) {
+        if (statistics != null) {
+            statistics.addAdoptionAgencySteps(steps);
+        }
+    }
+
+    private void countReconstructionSteps(int steps) {
+        if (statistics != null) {
+            statistics.addReconstructionSteps(steps);
+        }
+    }
+
+    private void countNoahsArkSteps(int steps) {
+        if (statistics != null) {
+            statistics.addNoahsArkSteps(steps);
+        }
+    }
+
     /**
      * The argument MUST be an interned string or <code>null</code>.
      *
@@ -5814,6 +6298,10 @@ public abstract class TreeBuilder<T> implements TokenHandler,
      */
     public final void flushCharacters() throws SAXException {
         if (charBufferLen > 0) {
+            // [NOCPP[
+            checkTextLength();
+            countNode();
+            // ]NOCPP]
             if ((mode == IN_TABLE || mode == IN_TABLE_BODY || mode == IN_ROW)
                     && charBufferContainsNonWhitespace()) {
                 errNonSpaceInTable();
@@ -5836,6 +6324,11 @@ public abstract class TreeBuilder<T> implements TokenHandler,
                 }
 
                 StackNode<T> tableElt = stack[tablePos];
+                // [NOCPP[
+                if (statistics != null) {
+                    statistics.countFosterParenting();
+                }
+                // ]NOCPP]
                 insertFosterParentedCharacters(charBuffer, 0, charBufferLen,
                         tableElt.node, stack[tablePos - 1].node);
                 charBufferLen = 0;
@@ -0,0 +1,294 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+
+package nu.validator.htmlparser.io;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import nu.validator.htmlparser.rewindable.Rewindable;
+
+/**
+ * An input stream that reads a sequence of byte buffers, such as the chunks
+ * of a response body, without concatenating them first. Each buffer is read
+ * from its position to its limit. The buffers may be direct. Their
+ * positions are not changed.
+ * 
+ * <p>
+ * The stream keeps the buffers it has read for rewinding until
+ * <code>willNotRewind()</code> is called, so <code>Driver</code> uses it
+ * as it is instead of keeping a copy of the bytes in a
+ * <code>RewindableInputStream</code>. After that, each buffer is given to
+ * the <code>Releaser</code> as soon as all its bytes have been read, which
+ * lets the buffers go back to a pool while the rest of the document is
+ * being parsed.
+ * 
+ * <p>
+ * <code>close()</code> releases the buffers that have been taken from the
+ * sequence and not released yet. The buffers that were never taken remain
+ * the caller's, and the stream reads as if at its end from then on. Before
+ * <code>willNotRewind()</code>, <code>close()</code> only makes the stream
+ * read as if at its end, and the buffers are released when
+ * <code>willNotRewind()</code> follows. <code>Driver</code> calls
+ * <code>willNotRewind()</code> when it does not keep the stream for
+ * rewinding and at the end of the parse.
+ * 
+ * @version $Id$
+ */
+public final class ByteBufferInputStream extends InputStream implements
+        Rewindable {
+
+    /**
+     * Receives the buffers that the stream is done with.
+     */
+    public interface Releaser {
+        /**
+         * Called once for each buffer taken from the sequence when the
+         * stream no longer needs it.
+         * 
+         * @param buffer
+         *            the buffer as it was in the sequence
+         */
+        void release(ByteBuffer buffer);
+    }
+
+    private final Iterator<ByteBuffer> buffers;
+
+    private final Releaser releaser;
+
+    /**
+     * The buffers taken from <code>buffers</code> while saving. The
+     * released ones are <code>null</code>.
+     */
+    private final ArrayList<ByteBuffer> kept = new ArrayList<ByteBuffer>();
+
+    /**
+     * The index in <code>kept</code> of the buffer to read after
+     * <code>current</code>.
+     */
+    private int keptIndex = 0;
+
+    /**
+     * The buffer being read as it was in the sequence
+     */
+    private ByteBuffer currentOriginal;
+
+    /**
+     * A duplicate of <code>currentOriginal</code> for reading
+     */
+    private ByteBuffer current;
+
+    /**
+     * true unless willNotRewind has been called
+     */
+    private boolean saving = true;
+
+    private boolean pretendClosed = false;
+
+    /**
+     * true once the buffers have been released by <code>close()</code>
+     */
+    private boolean closed = false;
+
+    /**
+     * @param buffers
+     *            the buffers
+     * @param releaser
+     *            the receiver of the buffers or <code>null</code>
+     */
+    public ByteBufferInputStream(ByteBuffer[] buffers, Releaser releaser) {
+        this(Arrays.asList(buffers).iterator(), releaser);
+    }
+
+    /**
+     * @param buffers
+     *            the buffers. The stream asks for the next buffer only when
+     *            it has read all the previous ones.
+     * @param releaser
+     *            the receiver of the buffers or <code>null</code>
+     */
+    public ByteBufferInputStream(Iterator<ByteBuffer> buffers,
+            Releaser releaser) {
+        if (buffers == null) {
+            throw new NullPointerException();
+        }
+        this.buffers = buffers;
+        this.releaser = releaser;
+    }
+
+    private void release(ByteBuffer buffer) {
+        if (releaser != null) {
+            releaser.release(buffer);
+        }
+    }
+
+    /**
+     * Drops the current buffer once it has been read. Releases it unless
+     * saving.
+     */
+    private void finishCurrent() {
+        if (!saving) {
+            if (keptIndex > 0) {
+                kept.set(keptIndex - 1, null);
+            }
+            release(currentOriginal);
+        }
+        currentOriginal = null;
+        current = null;
+    }
+
+    /**
+     * Moves to the next buffer that has bytes left.
+     * 
+     * @return <code>false</code> at the end of the sequence
+     */
+    private boolean nextBuffer() {
+        for (;;) {
+            if (currentOriginal != null) {
+                finishCurrent();
+            }
+            if (keptIndex < kept.size()) {
+                currentOriginal = kept.get(keptIndex++);
+            } else if (buffers.hasNext()) {
+                currentOriginal = buffers.next();
+                if (saving) {
+                    kept.add(currentOriginal);
+                    keptIndex++;
+                } else if (keptIndex > 0) {
+                    // All the kept buffers have been read again and released.
+                    kept.clear();
+                    keptIndex = 0;
+                }
+            } else {
+                return false;
+            }
+            current = currentOriginal.duplicate();
+            if (current.hasRemaining()) {
+                return true;
+            }
+        }
+    }
+
+    @Override public int read() {
+        if (pretendClosed || closed) {
+            return -1;
+        }
+        if (current == null && !nextBuffer()) {
+            return -1;
+        }
+        int c = current.get() & 0xFF;
+        if (!current.hasRemaining()) {
+            finishCurrent();
+        }
+        return c;
+    }
+
+    @Override public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (pretendClosed || closed) {
+            return -1;
+        }
+        // Fill as much as asked like a single array would so that the
+        // decoder sees the same runs of bytes however the input was split.
+        int nRead = 0;
+        while (nRead < len) {
+            if (current == null && !nextBuffer()) {
+                return nRead == 0 ? -1 : nRead;
+            }
+            int n = Math.min(len - nRead, current.remaining());
+            current.get(b, off + nRead, n);
+            nRead += n;
+            if (!current.hasRemaining()) {
+                finishCurrent();
+            }
+        }
+        return nRead;
+    }
+
+    @Override public int available() {
+        if (pretendClosed || closed || current == null) {
+            return 0;
+        }
+        return current.remaining();
+    }
+
+    @Override public void close() {
+        if (saving) {
+            pretendClosed = true;
+            return;
+        }
+        pretendClosed = false;
+        // Reading on would take more buffers from the sequence.
+        closed = true;
+        for (int i = keptIndex; i < kept.size(); i++) {
+            ByteBuffer buffer = kept.get(i);
+            if (buffer != null) {
+                release(buffer);
+            }
+        }
+        kept.clear();
+        keptIndex = 0;
+        if (currentOriginal != null) {
+            release(currentOriginal);
+            currentOriginal = null;
+            current = null;
+        }
+    }
+
+    public void rewind() {
+        if (!saving) {
+            throw new IllegalStateException("rewind() after willNotRewind()");
+        }
+        pretendClosed = false;
+        keptIndex = 0;
+        currentOriginal = null;
+        current = null;
+    }
+
+    public boolean canRewind() {
+        return saving;
+    }
+
+    public void willNotRewind() {
+        if (!saving) {
+            return;
+        }
+        saving = false;
+        // The buffers before the current one have been read. The current one
+        // and the ones still to be read again are released as they are
+        // passed.
+        int end = currentOriginal == null ? keptIndex : keptIndex - 1;
+        for (int i = 0; i < end; i++) {
+            release(kept.get(i));
+            kept.set(i, null);
+        }
+        if (pretendClosed) {
+            close();
+        }
+    }
+}
@@ -25,18 +25,25 @@ package nu.validator.htmlparser.io;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.Reader;
 import java.nio.charset.UnsupportedCharsetException;
 
 import nu.validator.htmlparser.common.CharacterHandler;
 import nu.validator.htmlparser.common.EncodingDeclarationHandler;
 import nu.validator.htmlparser.common.Heuristics;
+import nu.validator.htmlparser.common.Interner;
 import nu.validator.htmlparser.common.TransitionHandler;
 import nu.validator.htmlparser.common.XmlViolationPolicy;
 import nu.validator.htmlparser.extra.NormalizationChecker;
 import nu.validator.htmlparser.impl.ErrorReportingTokenizer;
+import nu.validator.htmlparser.impl.ParseLimitExceededException;
+import nu.validator.htmlparser.impl.ParseLimits;
+import nu.validator.htmlparser.impl.ParseStatistics;
 import nu.validator.htmlparser.impl.Tokenizer;
 import nu.validator.htmlparser.impl.UTF16Buffer;
+import nu.validator.htmlparser.rewindable.BlockPool;
+import nu.validator.htmlparser.rewindable.Rewindable;
 import nu.validator.htmlparser.rewindable.RewindableInputStream;
 
 import org.xml.sax.ErrorHandler;
@@ -57,7 +64,23 @@ public class Driver implements EncodingDeclarationHandler {
      * The reference to the rewindable byte stream. <code>null</code> if 
      * prohibited or no longer needed.
      */
-    private RewindableInputStream rewindableInputStream;
+    private Rewindable rewindable;
+
+    /**
+     * The byte stream to decode again after rewinding. The same object as
+     * <code>rewindable</code>.
+     */
+    private InputStream rewindableInputStream;
+
+    /**
+     * The blocks of the rewindable byte streams of all drivers.
+     */
+    private static final BlockPool BLOCK_POOL = new BlockPool(64);
+
+    /**
+     * The number of bytes kept for reparsing at most.
+     */
+    private int maxRewindBytes = Integer.MAX_VALUE;
 
     private boolean swallowBom;
 
@@ -77,6 +100,73 @@ public class Driver implements EncodingDeclarationHandler {
      */
     private CharacterHandler[] characterHandlers = new CharacterHandler[0];
 
+    /**
+     * Whether a BOM may still need to be dropped from the start of the
+     * characters.
+     */
+    private boolean atStartOfCharacters;
+
+    /**
+     * Whether the last run of characters ended with a CR.
+     */
+    private boolean lastWasCR;
+
+    /**
+     * The offset of the next run of characters from the start of the
+     * stream, for transition reporting.
+     */
+    private int streamOffset;
+
+    /**
+     * Whether tokenization has been suspended until
+     * <code>resumeCharacters()</code>.
+     */
+    private boolean suspended;
+
+    /**
+     * The rest of a run of characters that was not tokenized because of a
+     * suspension or <code>null</code>.
+     */
+    private UTF16Buffer unfinished;
+
+    /**
+     * The buffer that <code>runStates()</code> reads into. Kept from one
+     * parse to the next.
+     */
+    private char[] readBuffer;
+
+    /**
+     * A run over <code>readBuffer</code> or <code>null</code>. Reused for
+     * every run of characters that is read into the same buffer.
+     */
+    private UTF16Buffer run;
+
+    /**
+     * The statistics to fill in or <code>null</code>.
+     */
+    private ParseStatistics statistics;
+
+    /**
+     * The limits or <code>null</code>.
+     */
+    private ParseLimits limits;
+
+    /**
+     * The number of bytes read in the current parse.
+     */
+    private long bytesRead;
+
+    /**
+     * The number of UTF-16 code units tokenized in the current parse.
+     */
+    private long charsTokenized;
+
+    /**
+     * The <code>System.nanoTime()</code> by which the current parse must
+     * finish. Only meaningful if <code>limits</code> has a timeout.
+     */
+    private long deadline;
+
     public Driver(Tokenizer tokenizer) {
         this.tokenizer = tokenizer;
         tokenizer.setEncodingDeclarationHandler(this);
@@ -176,58 +266,32 @@ public class Driver implements EncodingDeclarationHandler {
         if (is == null) {
             throw new IllegalArgumentException("InputSource was null.");
         }
-        tokenizer.start();
-        confidence = Confidence.TENTATIVE;
-        swallowBom = true;
-        rewindableInputStream = null;
-        tokenizer.initLocation(is.getPublicId(), is.getSystemId());
-        this.reader = is.getCharacterStream();
-        this.characterEncoding = encodingFromExternalDeclaration(is.getEncoding());
-        if (this.reader == null) {
-            InputStream inputStream = is.getByteStream();
-            if (inputStream == null) {
-                throw new SAXException("Both streams in InputSource were null.");
-            }
-            if (this.characterEncoding == null) {
-                if (allowRewinding) {
-                    inputStream = rewindableInputStream = new RewindableInputStream(
-                            inputStream);
+        startTokenization(is.getPublicId(), is.getSystemId(),
+                is.getEncoding());
+        Throwable t = null;
+        try {
+            // Sniffing may throw after blocks have been taken from the pool.
+            Reader characterStream = is.getCharacterStream();
+            if (characterStream == null) {
+                InputStream inputStream = is.getByteStream();
+                if (inputStream == null) {
+                    throw new SAXException(
+                            "Both streams in InputSource were null.");
                 }
-                this.reader = new HtmlInputStreamReader(inputStream,
-                        tokenizer.getErrorHandler(), tokenizer, this, heuristics);
+                openByteStream(inputStream);
             } else {
-                if (this.characterEncoding != Encoding.UTF8) {
-                    errorWithoutLocation("Legacy encoding \u201C"
-                            + this.characterEncoding.getCanonName()
-                            + "\u201D used. Documents must use UTF-8.");
-                }
-                becomeConfident();
-                this.reader = new HtmlInputStreamReader(inputStream,
-                        tokenizer.getErrorHandler(), tokenizer, this, this.characterEncoding);
+                openCharacterStream(characterStream);
             }
-        } else {
-            becomeConfident();
-        }
-        Throwable t = null;
-        try {
             for (;;) {
                 try {
-                    for (int i = 0; i < characterHandlers.length; i++) {
-                        CharacterHandler ch = characterHandlers[i];
-                        ch.start();
-                    }
+                    startCharacters();
                     runStates();
                     break;
                 } catch (ReparseException e) {
-                    if (rewindableInputStream == null) {
-                        tokenizer.fatal("Changing encoding at this point would need non-streamable behavior.");
-                    } else {
-                        rewindableInputStream.rewind();
-                        becomeConfident();
-                        this.reader = new HtmlInputStreamReader(
-                                rewindableInputStream, tokenizer.getErrorHandler(), tokenizer,
-                                this, this.characterEncoding);
+                    if (statistics != null) {
+                        statistics.countReparse();
                     }
+                    rewindForReparse();
                     continue;
                 }
             }
@@ -235,34 +299,164 @@ public class Driver implements EncodingDeclarationHandler {
             t = tr;
         } finally {
             try {
-                tokenizer.end();
-                characterEncoding = null;
-                for (int i = 0; i < characterHandlers.length; i++) {
-                    CharacterHandler ch = characterHandlers[i];
-                    ch.end();
-                }
-                reader.close();
-                reader = null;
-                rewindableInputStream = null;
+                endTokenization();
             } catch (Throwable tr) {
                 if (t == null) {
                     t = tr;
                 } // else drop the later throwable
             }
             if (t != null) {
-                if (t instanceof IOException) {
-                    throw (IOException) t;
-                } else if (t instanceof SAXException) {
-                    throw (SAXException) t;
-                } else if (t instanceof RuntimeException) {
-                    throw (RuntimeException) t;
-                } else if (t instanceof Error) {
-                    throw (Error) t;
+                rethrow(t);
+            }
+        }
+    }
+
+    /**
+     * Starts the tokenizer and resolves the externally declared encoding.
+     * One of <code>openByteStream()</code> and
+     * <code>openCharacterStream()</code> must follow.
+     */
+    void startTokenization(String publicId, String systemId, String encoding)
+            throws SAXException {
+        if (statistics != null) {
+            statistics.reset();
+        }
+        bytesRead = 0;
+        charsTokenized = 0;
+        if (limits != null && limits.getTimeoutMillis() > 0) {
+            deadline = System.nanoTime() + limits.getTimeoutMillis()
+                    * 1000000L;
+        }
+        tokenizer.start();
+        confidence = Confidence.TENTATIVE;
+        swallowBom = true;
+        rewindable = null;
+        rewindableInputStream = null;
+        reader = null;
+        // a suspension requested at the end of the previous document
+        suspended = false;
+        unfinished = null;
+        tokenizer.initLocation(publicId, systemId);
+        this.characterEncoding = encodingFromExternalDeclaration(encoding);
+    }
+
+    /**
+     * Sets up decoding <code>inputStream</code>. Unless the encoding was
+     * declared externally, this sniffs the encoding, which reads up to 1024
+     * bytes from the stream.
+     */
+    void openByteStream(InputStream inputStream) throws SAXException,
+            IOException {
+        if (inputStream instanceof Rewindable
+                && (this.characterEncoding != null || !allowRewinding)) {
+            // The stream would otherwise keep everything it reads for a
+            // rewind that never comes.
+            ((Rewindable) inputStream).willNotRewind();
+        }
+        if (this.characterEncoding == null) {
+            if (allowRewinding) {
+                if (inputStream instanceof Rewindable) {
+                    // E.g. a mapping or buffers that can be read again as
+                    // they are
+                    rewindable = (Rewindable) inputStream;
                 } else {
-                    // impossible
-                    throw new RuntimeException(t);
+                    RewindableInputStream ris = new RewindableInputStream(
+                            inputStream, maxRewindBytes, BLOCK_POOL);
+                    rewindable = ris;
+                    inputStream = ris;
                 }
+                rewindableInputStream = inputStream;
+            }
+            long start = statistics == null ? 0 : System.nanoTime();
+            this.reader = new HtmlInputStreamReader(inputStream,
+                    tokenizer.getErrorHandler(), tokenizer, this, heuristics);
+            if (statistics != null) {
+                statistics.countEncodingSniff();
+                statistics.addDecodeNanos(System.nanoTime() - start);
+            }
+        } else {
+            if (this.characterEncoding != Encoding.UTF8) {
+                errorWithoutLocation("Legacy encoding \u201C"
+                        + this.characterEncoding.getCanonName()
+                        + "\u201D used. Documents must use UTF-8.");
             }
+            becomeConfident();
+            this.reader = new HtmlInputStreamReader(inputStream,
+                    tokenizer.getErrorHandler(), tokenizer, this, this.characterEncoding);
+        }
+    }
+
+    void openCharacterStream(Reader characterStream) {
+        this.reader = characterStream;
+        becomeConfident();
+    }
+
+    /**
+     * Rewinds the byte stream after the tree builder has found an encoding
+     * declaration that disagrees with the tentative encoding.
+     */
+    void rewindForReparse() throws SAXException, IOException {
+        if (rewindable == null || !rewindable.canRewind()) {
+            tokenizer.fatal("Changing encoding at this point would need non-streamable behavior.");
+        } else {
+            rewindable.rewind();
+            becomeConfident();
+            this.reader = new HtmlInputStreamReader(
+                    rewindableInputStream, tokenizer.getErrorHandler(), tokenizer,
+                    this, this.characterEncoding);
+        }
+    }
+
+    /**
+     * Prepares for the first call to <code>tokenizeCharacters()</code>.
+     */
+    void startCharacters() throws SAXException {
+        for (int i = 0; i < characterHandlers.length; i++) {
+            CharacterHandler ch = characterHandlers[i];
+            ch.start();
+        }
+        atStartOfCharacters = true;
+        lastWasCR = false;
+        streamOffset = 0;
+        suspended = false;
+        unfinished = null;
+    }
+
+    void endTokenization() throws SAXException, IOException {
+        try {
+            tokenizer.end();
+            characterEncoding = null;
+            for (int i = 0; i < characterHandlers.length; i++) {
+                CharacterHandler ch = characterHandlers[i];
+                ch.end();
+            }
+        } finally {
+            Reader r = reader;
+            reader = null;
+            if (rewindable != null) {
+                // returns the blocks to the pool
+                rewindable.willNotRewind();
+                rewindable = null;
+                rewindableInputStream = null;
+            }
+            if (r != null) {
+                r.close();
+            }
+        }
+    }
+
+    static void rethrow(Throwable t) throws SAXException, IOException {
+        if (t instanceof IOException) {
+            throw (IOException) t;
+        } else if (t instanceof SAXException) {
+            throw (SAXException) t;
+        } else if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        } else if (t instanceof Error) {
+            throw (Error) t;
+        } else {
+            // impossible
+            throw new RuntimeException(t);
         }
     }
 
@@ -271,59 +465,243 @@ public class Driver implements EncodingDeclarationHandler {
     }
 
     private void runStates() throws SAXException, IOException {
-        char[] buffer = new char[2048];
-        UTF16Buffer bufr = new UTF16Buffer(buffer, 0, 0);
-        boolean lastWasCR = false;
-        int len = -1;
-        if ((len = reader.read(buffer)) != -1) {
+        char[] buffer = getReadBuffer();
+        int len;
+        while ((len = read(buffer)) != -1) {
             assert len > 0;
-            int streamOffset = 0;
-            int offset = 0;
-            int length = len;
-            if (swallowBom) {
-                if (buffer[0] == '\uFEFF') {
-                    streamOffset = -1;
-                    offset = 1;
-                    length--;
-                }
+            tokenizeCharacters(buffer, 0, len);
+        }
+        if (statistics == null) {
+            tokenizer.eof();
+        } else {
+            long start = System.nanoTime();
+            long treeBuildNanos = statistics.getTreeBuildNanos();
+            tokenizer.eof();
+            statistics.addTokenizeNanos(System.nanoTime() - start
+                    - (statistics.getTreeBuildNanos() - treeBuildNanos));
+        }
+    }
+
+    /**
+     * Returns a buffer for reading runs of characters into. The same buffer
+     * is returned for every parse with this driver.
+     */
+    char[] getReadBuffer() {
+        if (readBuffer == null) {
+            readBuffer = new char[2048];
+        }
+        return readBuffer;
+    }
+
+    /**
+     * Reads from the reader opened by <code>openByteStream()</code> or
+     * <code>openCharacterStream()</code>.
+     *
+     * @return the number of <code>char</code>s read, 0 if a non-blocking
+     *         byte source has run dry or -1 at the end of the stream
+     * @throws InterruptedIOException
+     *             if the thread has been interrupted. The interrupt status
+     *             stays set, so that the caller still sees it.
+     */
+    int read(char[] buffer) throws IOException {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new InterruptedIOException("Parsing was interrupted.");
+        }
+        if (statistics == null) {
+            return reader.read(buffer);
+        }
+        long start = System.nanoTime();
+        int len = reader.read(buffer);
+        statistics.addDecodeNanos(System.nanoTime() - start);
+        if (len > 0) {
+            statistics.addCharsDecoded(len);
+        }
+        return len;
+    }
+
+    /**
+     * Passes a run of UTF-16 code units to the character handlers and the
+     * tokenizer. A BOM at the very start is dropped. If tokenization gets
+     * suspended, the rest of the run is retained for
+     * <code>resumeCharacters()</code>, and the buffer must not be modified
+     * until then.
+     */
+    void tokenizeCharacters(char[] buffer, int offset, int length)
+            throws SAXException {
+        if (limits != null) {
+            checkLimits(length);
+        }
+        int consumed = length;
+        if (atStartOfCharacters) {
+            atStartOfCharacters = false;
+            if (swallowBom && length > 0 && buffer[offset] == '\uFEFF') {
+                streamOffset = -1;
+                offset++;
+                length--;
             }
-            if (length > 0) {
-                for (int i = 0; i < characterHandlers.length; i++) {
-                    CharacterHandler ch = characterHandlers[i];
-                    ch.characters(buffer, offset, length);
-                }
-                tokenizer.setTransitionBaseOffset(streamOffset);
-                bufr.setStart(offset);
-                bufr.setEnd(offset + length);
-                while (bufr.hasMore()) {
-                    bufr.adjust(lastWasCR);
-                    lastWasCR = false;
-                    if (bufr.hasMore()) {
-                        lastWasCR = tokenizer.tokenizeBuffer(bufr);                    
-                    }
-                }
+        }
+        if (length > 0) {
+            for (int i = 0; i < characterHandlers.length; i++) {
+                CharacterHandler ch = characterHandlers[i];
+                ch.characters(buffer, offset, length);
             }
-            streamOffset = length;
-            while ((len = reader.read(buffer)) != -1) {
-                assert len > 0;
-                for (int i = 0; i < characterHandlers.length; i++) {
-                    CharacterHandler ch = characterHandlers[i];
-                    ch.characters(buffer, 0, len);
-                }
-                tokenizer.setTransitionBaseOffset(streamOffset);
-                bufr.setStart(0);
-                bufr.setEnd(len);
-                while (bufr.hasMore()) {
-                    bufr.adjust(lastWasCR);
-                    lastWasCR = false;
-                    if (bufr.hasMore()) {
-                        lastWasCR = tokenizer.tokenizeBuffer(bufr);                    
-                    }
+            tokenizer.setTransitionBaseOffset(streamOffset);
+            if (run == null || run.getBuffer() != buffer || unfinished != null) {
+                run = new UTF16Buffer(buffer, offset, offset + length);
+            } else {
+                run.setStart(offset);
+                run.setEnd(offset + length);
+            }
+            unfinished = run;
+            tokenizeUnfinished();
+        }
+        streamOffset += consumed;
+    }
+
+    /**
+     * Checks the limits that are about the input as a whole before a run of
+     * <code>length</code> code units is tokenized.
+     */
+    private void checkLimits(int length) throws SAXException {
+        charsTokenized += length;
+        if (charsTokenized > limits.getMaxChars()) {
+            throw new ParseLimitExceededException(ParseLimits.Limit.CHARS,
+                    limits.getMaxChars(), tokenizer);
+        }
+        if (bytesRead > limits.getMaxInputBytes()) {
+            throw new ParseLimitExceededException(
+                    ParseLimits.Limit.INPUT_BYTES, limits.getMaxInputBytes(),
+                    tokenizer);
+        }
+        if (limits.getTimeoutMillis() > 0 && System.nanoTime() - deadline > 0) {
+            throw new ParseLimitExceededException(ParseLimits.Limit.TIME,
+                    limits.getTimeoutMillis(), tokenizer);
+        }
+    }
+
+    /**
+     * Called by <code>HtmlInputStreamReader</code> for the bytes it reads.
+     */
+    void countBytes(int num) {
+        bytesRead += num;
+        if (statistics != null) {
+            statistics.addBytesRead(num);
+        }
+    }
+
+    /**
+     * Makes the tokenizer stop at its next suspension point, which is after
+     * the next tag. May be called from the token handler.
+     */
+    void suspendCharacters() {
+        suspended = true;
+        tokenizer.requestSuspension();
+    }
+
+    boolean isTokenizationSuspended() {
+        return suspended;
+    }
+
+    /**
+     * Tokenizes the rest of the run that was suspended. Tokenization may get
+     * suspended again.
+     */
+    void resumeCharacters() throws SAXException {
+        suspended = false;
+        tokenizeUnfinished();
+    }
+
+    private void tokenizeUnfinished() throws SAXException {
+        UTF16Buffer bufr = unfinished;
+        if (bufr == null) {
+            return;
+        }
+        while (bufr.hasMore()) {
+            if (suspended) {
+                return;
+            }
+            bufr.adjust(lastWasCR);
+            lastWasCR = false;
+            if (bufr.hasMore()) {
+                if (statistics == null) {
+                    lastWasCR = tokenizer.tokenizeBuffer(bufr);
+                } else {
+                    long start = System.nanoTime();
+                    long treeBuildNanos = statistics.getTreeBuildNanos();
+                    lastWasCR = tokenizer.tokenizeBuffer(bufr);
+                    statistics.addTokenizeNanos(System.nanoTime() - start
+                            - (statistics.getTreeBuildNanos() - treeBuildNanos));
                 }
-                streamOffset += len;
             }
         }
-        tokenizer.eof();
+        unfinished = null;
+    }
+
+    /**
+     * Returns the run that is being tokenized or <code>null</code> if the
+     * last run has been tokenized to the end.
+     */
+    UTF16Buffer getUnfinished() {
+        return unfinished;
+    }
+
+    /**
+     * Makes <code>resumeCharacters()</code> continue from <code>start</code>
+     * in <code>run</code> instead of from where the tokenizer stopped. The
+     * character handlers have already seen the characters and don't see them
+     * again.
+     */
+    void rewindCharacters(UTF16Buffer run, int start) {
+        run.setStart(start);
+        unfinished = run;
+        lastWasCR = false;
+    }
+
+    Tokenizer getTokenizer() {
+        return tokenizer;
+    }
+
+    /**
+     * Sets the statistics that this driver, its tokenizer and its tree
+     * builder fill in. They are cleared at the start of each parse.
+     * 
+     * @param statistics
+     *            the statistics or <code>null</code> not to collect any
+     */
+    public void setStatistics(ParseStatistics statistics) {
+        this.statistics = statistics;
+        tokenizer.setStatistics(statistics);
+    }
+
+    /**
+     * Returns the statistics that this driver fills in.
+     * 
+     * @return the statistics or <code>null</code>
+     */
+    public ParseStatistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Sets the limits that this driver, its tokenizer and its tree builder
+     * enforce. A parse that goes over a limit throws a
+     * <code>ParseLimitExceededException</code>.
+     * 
+     * @param limits
+     *            the limits or <code>null</code> not to limit anything
+     */
+    public void setLimits(ParseLimits limits) {
+        this.limits = limits;
+        tokenizer.setLimits(limits);
+    }
+
+    /**
+     * Returns the limits that this driver enforces.
+     * 
+     * @return the limits or <code>null</code>
+     */
+    public ParseLimits getLimits() {
+        return limits;
     }
 
     public void setEncoding(Encoding encoding, Confidence confidence) {
@@ -335,13 +713,27 @@ public class Driver implements EncodingDeclarationHandler {
 
     public boolean internalEncodingDeclaration(String internalCharset)
             throws SAXException {
+        return internalEncodingDeclaration(internalCharset, tokenizer);
+    }
+
+    /**
+     * Deals with an encoding declaration that the tree builder of
+     * <code>reporter</code> found.
+     * 
+     * @param internalCharset
+     *            the declared encoding
+     * @param reporter
+     *            the tokenizer that reports the errors and becomes confident
+     */
+    boolean internalEncodingDeclaration(String internalCharset,
+            Tokenizer reporter) throws SAXException {
         try {
             internalCharset = Encoding.toAsciiLowerCase(internalCharset);
             Encoding cs;
             if ("utf-16".equals(internalCharset)
                     || "utf-16be".equals(internalCharset)
                     || "utf-16le".equals(internalCharset)) {
-                tokenizer.errTreeBuilder("Internal encoding declaration specified \u201C"
+                reporter.errTreeBuilder("Internal encoding declaration specified \u201C"
                         + internalCharset
                         + "\u201D which is not an ASCII superset. Continuing as if the encoding had been \u201Cutf-8\u201D.");
                 cs = Encoding.UTF8;
@@ -354,7 +746,7 @@ public class Driver implements EncodingDeclarationHandler {
                 actual = cs;
             }
             if (!actual.isAsciiSuperset()) {
-                tokenizer.errTreeBuilder("Internal encoding declaration specified \u201C"
+                reporter.errTreeBuilder("Internal encoding declaration specified \u201C"
                         + internalCharset
                         + "\u201D which is not an ASCII superset. Not changing the encoding.");
                 return false;
@@ -364,25 +756,37 @@ public class Driver implements EncodingDeclarationHandler {
                 return true;
             }
             if (characterEncoding == actual) {
-                becomeConfident();
+                becomeConfident(reporter);
                 return true;
             }
             if (confidence == Confidence.CERTAIN && actual != characterEncoding) {
-                tokenizer.errTreeBuilder("Internal encoding declaration \u201C"
+                reporter.errTreeBuilder("Internal encoding declaration \u201C"
                         + internalCharset
                         + "\u201D disagrees with the actual encoding of the document (\u201C"
                         + characterEncoding.getCanonName() + "\u201D).");
+            } else if (!canReparse()) {
+                reporter.errTreeBuilder("Internal encoding declaration \u201C"
+                        + internalCharset
+                        + "\u201D found, but the document can\u2019t be reparsed. Continuing with \u201C"
+                        + characterEncoding.getCanonName() + "\u201D.");
+                becomeConfident(reporter);
+            } else if (rewindable != null && !rewindable.canRewind()) {
+                reporter.errTreeBuilder("Internal encoding declaration \u201C"
+                        + internalCharset
+                        + "\u201D found after the bytes kept for reparsing. Continuing with \u201C"
+                        + characterEncoding.getCanonName() + "\u201D.");
+                becomeConfident(reporter);
             } else {
                 Encoding newEnc = whineAboutEncodingAndReturnActual(
                         internalCharset, cs);
-                tokenizer.errTreeBuilder("Changing character encoding \u201C"
+                reporter.errTreeBuilder("Changing character encoding \u201C"
                         + internalCharset + "\u201D and reparsing.");
                 characterEncoding = newEnc;
                 throw new ReparseException();
             }
             return true;
         } catch (UnsupportedCharsetException e) {
-            tokenizer.errTreeBuilder("Internal encoding declaration named an unsupported chararacter encoding \u201C"
+            reporter.errTreeBuilder("Internal encoding declaration named an unsupported chararacter encoding \u201C"
                     + internalCharset + "\u201D.");
             return false;
         }
@@ -391,12 +795,24 @@ public class Driver implements EncodingDeclarationHandler {
     /**
      * 
      */
-    private void becomeConfident() {
-        if (rewindableInputStream != null) {
-            rewindableInputStream.willNotRewind();
+    void becomeConfident() {
+        becomeConfident(tokenizer);
+    }
+
+    private void becomeConfident(Tokenizer reporter) {
+        if (rewindable != null) {
+            rewindable.willNotRewind();
         }
         confidence = Confidence.CERTAIN;
-        tokenizer.becomeConfident();
+        reporter.becomeConfident();
+    }
+
+    /**
+     * Returns whether an encoding declaration found by the tree builder can
+     * make the document get reparsed.
+     */
+    boolean canReparse() {
+        return true;
     }
 
     /**
@@ -409,6 +825,45 @@ public class Driver implements EncodingDeclarationHandler {
         this.heuristics = heuristics;
     }
 
+    /**
+     * Sets the number of bytes that are kept for reparsing the document when
+     * a <code>meta</code> element declares an encoding other than the one in
+     * use. An encoding declaration found after that many bytes does not
+     * cause a reparse. Either way, the bytes stop being kept once the
+     * tokenizer has passed the first 1024 bytes, where encoding declarations
+     * are expected.
+     * 
+     * @param maxRewindBytes
+     *            the number of bytes
+     */
+    public void setMaxRewindBytes(int maxRewindBytes) {
+        if (maxRewindBytes < 0) {
+            throw new IllegalArgumentException(
+                    "The number of bytes must not be negative.");
+        }
+        this.maxRewindBytes = maxRewindBytes;
+    }
+
+    /**
+     * Returns the number of bytes that are kept for reparsing.
+     * 
+     * @return the number of bytes
+     */
+    public int getMaxRewindBytes() {
+        return maxRewindBytes;
+    }
+
+    /**
+     * Returns the number of idle blocks in the pool that the drivers keep
+     * the bytes for reparsing in. A parse returns the blocks it took when it
+     * ends, normally or by an exception.
+     * 
+     * @return the number of idle blocks
+     */
+    public static int getIdleRewindBlocks() {
+        return BLOCK_POOL.getIdleCount();
+    }
+
     /**
      * Reports a warning without line/col
      * 
@@ -497,12 +952,15 @@ public class Driver implements EncodingDeclarationHandler {
         }
     }
 
-    private class ReparseException extends SAXException {
+    class ReparseException extends SAXException {
 
     }
 
     void notifyAboutMetaBoundary() {
         tokenizer.notifyAboutMetaBoundary();
+        if (rewindable != null) {
+            rewindable.willNotRewind();
+        }
     }
 
     /**
@@ -554,6 +1012,19 @@ public class Driver implements EncodingDeclarationHandler {
         }
     }
 
+    /**
+     * Sets whether the tokenizer computes the location only when asked for.
+     * Has no effect on a tokenizer that does not track locations.
+     * 
+     * @param lazyLocations
+     * @see nu.validator.htmlparser.impl.ErrorReportingTokenizer#setLazyLocations(boolean)
+     */
+    public void setLazyLocations(boolean lazyLocations) {
+        if (tokenizer instanceof ErrorReportingTokenizer) {
+            ((ErrorReportingTokenizer) tokenizer).setLazyLocations(lazyLocations);
+        }
+    }
+
     /**
      * @param mappingLangToXmlLang
      * @see nu.validator.htmlparser.impl.Tokenizer#setMappingLangToXmlLang(boolean)
@@ -570,6 +1041,22 @@ public class Driver implements EncodingDeclarationHandler {
         tokenizer.setNamePolicy(namePolicy);
     }
 
+    /**
+     * @param interner
+     * @see nu.validator.htmlparser.impl.Tokenizer#setInterner(nu.validator.htmlparser.common.Interner)
+     */
+    public void setInterner(Interner interner) {
+        tokenizer.setInterner(interner);
+    }
+
+    /**
+     * @param lazyAttributeValues
+     * @see nu.validator.htmlparser.impl.Tokenizer#setLazyAttributeValues(boolean)
+     */
+    public void setLazyAttributeValues(boolean lazyAttributeValues) {
+        tokenizer.setLazyAttributeValues(lazyAttributeValues);
+    }
+
     /**
      * @param xmlnsPolicy
      * @see nu.validator.htmlparser.impl.Tokenizer#setXmlnsPolicy(nu.validator.htmlparser.common.XmlViolationPolicy)
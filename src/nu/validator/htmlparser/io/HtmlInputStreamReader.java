@@ -52,6 +52,10 @@ import org.xml.sax.SAXParseException;
  * what <code>Tokenizer</code> needs while being an instance of
  * <code>Reader</code>.
  * 
+ * After sniffing, the underlying stream may return 0 from
+ * <code>read()</code> when it has no bytes for now, as the one of
+ * <code>HtmlPushParser</code> does. <code>read()</code> then returns 0, too.
+ * 
  * The only reason why this is a public class is that it needs to be visible to
  * test code in another package.
  * 
@@ -73,6 +77,19 @@ public final class HtmlInputStreamReader extends Reader implements
 
     private CharsetDecoder decoder = null;
 
+    /**
+     * Non-<code>null</code> when decoding UTF-8, in which case it is used
+     * instead of <code>decoder</code>.
+     */
+    private Utf8Decoder utf8Decoder = null;
+
+    /**
+     * The wrapper of the array last passed to <code>read()</code> when
+     * decoding with <code>decoder</code>. Driver passes the same array every
+     * time.
+     */
+    private CharBuffer charBuffer = null;
+
     private boolean sniffing = true;
 
     private int limit = 0;
@@ -178,12 +195,23 @@ public final class HtmlInputStreamReader extends Reader implements
         initDecoder();
     }
 
+    private void countBytes(int num) {
+        if (num > 0 && driver != null) {
+            driver.countBytes(num);
+        }
+    }
+
     /**
      * 
      */
     private void initDecoder() {
         this.decoder.onMalformedInput(CodingErrorAction.REPORT);
         this.decoder.onUnmappableCharacter(CodingErrorAction.REPORT);
+        if ("UTF-8".equals(decoder.charset().name())) {
+            this.utf8Decoder = new Utf8Decoder();
+        } else {
+            this.utf8Decoder = null;
+        }
     }
 
     public HtmlInputStreamReader(InputStream inputStream,
@@ -207,6 +235,16 @@ public final class HtmlInputStreamReader extends Reader implements
         inputStream.close();
     }
 
+    /**
+     * Makes this reader decode UTF-8 with <code>decoder</code> like any other
+     * encoding instead of with <code>Utf8Decoder</code>. Must be called
+     * before the first <code>read()</code>. Lets tests check that the two
+     * agree.
+     */
+    public void useCharsetDecoder() {
+        utf8Decoder = null;
+    }
+
     @Override public int read(char[] charArray) throws IOException {
         lineColPos = 0;
         assert !sniffing;
@@ -217,9 +255,15 @@ public final class HtmlInputStreamReader extends Reader implements
             }
             needToNotifyTokenizer = false;
         }
-        CharBuffer charBuffer = CharBuffer.wrap(charArray);
-        charBuffer.limit(charArray.length);
-        charBuffer.position(0);
+        if (utf8Decoder != null) {
+            return readUtf8(charArray);
+        }
+        CharBuffer charBuffer = this.charBuffer;
+        if (charBuffer == null || charBuffer.array() != charArray) {
+            charBuffer = CharBuffer.wrap(charArray);
+            this.charBuffer = charBuffer;
+        }
+        charBuffer.clear();
         if (flushing) {
             decoder.flush(charBuffer);
             // return -1 if zero
@@ -240,6 +284,11 @@ public final class HtmlInputStreamReader extends Reader implements
                     readLen = SNIFFING_LIMIT - oldLimit;
                 }
                 int num = inputStream.read(byteArray, oldLimit, readLen);
+                countBytes(num);
+                if (num == 0) {
+                    // A non-blocking source has no bytes for now.
+                    return charBuffer.position();
+                }
                 if (num == -1) {
                     eofSeen = true;
                     inputStream.close();
@@ -322,7 +371,8 @@ public final class HtmlInputStreamReader extends Reader implements
                     } else {
                         hasPendingReplacementCharacter = true;
                     }
-                    calculateLineAndCol(charBuffer);
+                    calculateLineAndCol(charBuffer.array(),
+                            charBuffer.position());
                     if (cr.isMalformed()) {
                         err("Malformed byte sequence: " + sb + ".");
                     } else if (cr.isUnmappable()) {
@@ -343,7 +393,126 @@ public final class HtmlInputStreamReader extends Reader implements
         }
     }
 
-    private void calculateLineAndCol(CharBuffer charBuffer) {
+    /**
+     * The UTF-8 case of <code>read()</code>. Does the same as the generic
+     * case but decodes straight from <code>byteArray</code> into the
+     * caller's array without the NIO wrappers.
+     */
+    private int readUtf8(char[] charArray) throws IOException {
+        int charPos = 0;
+        int charLimit = charArray.length;
+        if (hasPendingReplacementCharacter) {
+            charArray[charPos++] = '\uFFFD';
+            hasPendingReplacementCharacter = false;
+        }
+        if (flushing) {
+            return charPos == 0 ? -1 : charPos;
+        }
+        int bytePos = byteBuffer.position();
+        int byteLimit = byteBuffer.limit();
+        try {
+            for (;;) {
+                if (shouldReadBytes) {
+                    int readLen;
+                    if (charsetBoundaryPassed) {
+                        readLen = byteArray.length - byteLimit;
+                    } else {
+                        readLen = SNIFFING_LIMIT - byteLimit;
+                    }
+                    int num = inputStream.read(byteArray, byteLimit, readLen);
+                    countBytes(num);
+                    if (num == 0) {
+                        // A non-blocking source has no bytes for now.
+                        return charPos;
+                    }
+                    if (num == -1) {
+                        eofSeen = true;
+                        inputStream.close();
+                    } else {
+                        bytePos = 0;
+                        byteLimit += num;
+                    }
+                    shouldReadBytes = false;
+                }
+                for (;;) {
+                    int result = utf8Decoder.decode(byteArray, bytePos,
+                            byteLimit, charArray, charPos, charLimit);
+                    bytesRead += utf8Decoder.srcPos - bytePos;
+                    bytePos = utf8Decoder.srcPos;
+                    charPos = utf8Decoder.dstPos;
+                    if (result == Utf8Decoder.OVERFLOW) {
+                        return charPos;
+                    } else if (result == Utf8Decoder.MALFORMED) {
+                        charPos = malformedUtf8(charArray, charPos, charLimit,
+                                bytePos, utf8Decoder.malformedLength);
+                        bytePos += utf8Decoder.malformedLength;
+                        continue;
+                    }
+                    int remaining = byteLimit - bytePos;
+                    if (!charsetBoundaryPassed) {
+                        if (bytesRead + remaining >= SNIFFING_LIMIT) {
+                            needToNotifyTokenizer = true;
+                            charsetBoundaryPassed = true;
+                        }
+                    }
+                    if (remaining > 0) {
+                        System.arraycopy(byteArray, bytePos, byteArray, 0,
+                                remaining);
+                    }
+                    bytePos = 0;
+                    byteLimit = remaining;
+                    if (eofSeen) {
+                        flushing = true;
+                        if (remaining > 0) {
+                            // An incomplete sequence at the end of the stream
+                            charPos = malformedUtf8(charArray, charPos,
+                                    charLimit, 0, remaining);
+                            byteLimit = 0;
+                        }
+                        return charPos == 0 ? -1 : charPos;
+                    }
+                    shouldReadBytes = true;
+                    if (charPos == 0) {
+                        // No output. Read more bytes right away
+                        break;
+                    }
+                    return charPos;
+                }
+            }
+        } finally {
+            byteBuffer.limit(byteLimit);
+            byteBuffer.position(bytePos);
+        }
+    }
+
+    /**
+     * Replaces a malformed UTF-8 sequence with U+FFFD and reports it.
+     *
+     * @return the new output position
+     */
+    private int malformedUtf8(char[] charArray, int charPos, int charLimit,
+            int bytePos, int length) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append('\u201C');
+            sb.append(Integer.toHexString(byteArray[bytePos + i] & 0xFF));
+            sb.append('\u201D');
+        }
+        bytesRead += length;
+        if (charPos < charLimit) {
+            charArray[charPos++] = '\uFFFD';
+        } else {
+            hasPendingReplacementCharacter = true;
+        }
+        calculateLineAndCol(charArray, charPos);
+        err("Malformed byte sequence: " + sb + ".");
+        return charPos;
+    }
+
+    private void calculateLineAndCol(char[] charArray, int charPos) {
         if (tokenizer != null) {
             if (lineColPos == 0) {
                 line = tokenizer.getLine();
@@ -352,9 +521,8 @@ public final class HtmlInputStreamReader extends Reader implements
                 prevWasCR = tokenizer.isPrevCR();
             }
             
-            char[] charArray = charBuffer.array();
             int i = lineColPos;
-            while (i < charBuffer.position()) {
+            while (i < charPos) {
                 char c;
                 if (nextCharOnNewLine) {
                     line++;
@@ -395,6 +563,7 @@ public final class HtmlInputStreamReader extends Reader implements
             return byteArray[position++] & 0xFF;
         } else {
             int num = inputStream.read(byteArray, limit, SNIFFING_LIMIT - limit);
+            countBytes(num);
             if (num == -1) {
                 return -1;
             } else {
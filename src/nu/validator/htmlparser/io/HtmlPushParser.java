@@ -0,0 +1,469 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.LinkedList;
+
+import nu.validator.htmlparser.impl.Tokenizer;
+
+import org.xml.sax.SAXException;
+
+/**
+ * A push-style counterpart of <code>Driver.tokenize()</code>. Instead of the
+ * parser pulling from a blocking stream, the caller feeds chunks of input as
+ * they arrive and calls <code>finish()</code> after the last one. None of the
+ * methods block.
+ *
+ * <p>
+ * The tokenizer keeps its state between chunks the same way it does between
+ * the buffers of a stream, and the decoder keeps incomplete byte sequences,
+ * so the input may be split anywhere. The tree builder, if the tokenizer
+ * feeds one, sees the same calls as with <code>Driver</code>.
+ *
+ * <p>
+ * Unless an encoding is given to <code>start()</code>, the first 1024 bytes
+ * are held back for encoding sniffing before anything is tokenized. While the
+ * encoding is tentative, the bytes are retained so that an internal encoding
+ * declaration that disagrees can cause a reparse like with
+ * <code>Driver</code>.
+ *
+ * <p>
+ * A handler that cannot take more events for now may call
+ * <code>suspend()</code>. The tokenizer then stops after the current tag, the
+ * call to <code>feed()</code> or <code>finish()</code> returns, and the rest
+ * of the input given to it is retained until <code>resume()</code>. The
+ * buffer passed to <code>feed()</code> must not be modified in the meantime.
+ *
+ * <p>
+ * One document is parsed at a time. The calls for a document may come from
+ * different threads as long as they do not overlap.
+ *
+ * @version $Id$
+ */
+public class HtmlPushParser extends Driver {
+
+    private static final int SNIFFING_LIMIT = 1024;
+
+    private static final int NOT_STARTED = 0;
+
+    private static final int STARTED = 1;
+
+    private static final int BUFFERING_BYTES = 2;
+
+    private static final int DECODING_BYTES = 3;
+
+    private static final int CHARACTERS = 4;
+
+    /**
+     * The byte source of the decoder. It returns 0 when the chunks fed so far
+     * have been consumed.
+     */
+    private static final class PushedBytes extends InputStream {
+
+        private final LinkedList<ByteBuffer> chunks = new LinkedList<ByteBuffer>();
+
+        private boolean finished;
+
+        void push(ByteBuffer bytes) {
+            chunks.add(bytes);
+        }
+
+        void finish() {
+            finished = true;
+        }
+
+        void clear() {
+            chunks.clear();
+            finished = false;
+        }
+
+        /**
+         * Drops consumed chunks so that the caller's buffers are not held on
+         * to.
+         */
+        private ByteBuffer current() {
+            while (!chunks.isEmpty()) {
+                ByteBuffer bytes = chunks.getFirst();
+                if (bytes.hasRemaining()) {
+                    return bytes;
+                }
+                chunks.removeFirst();
+            }
+            return null;
+        }
+
+        @Override public int read() throws IOException {
+            ByteBuffer bytes = current();
+            if (bytes == null) {
+                if (finished) {
+                    return -1;
+                }
+                throw new IllegalStateException("No bytes have been fed.");
+            }
+            return bytes.get() & 0xFF;
+        }
+
+        @Override public int read(byte[] b, int off, int len)
+                throws IOException {
+            ByteBuffer bytes = current();
+            if (bytes == null) {
+                return finished ? -1 : 0;
+            }
+            int num = Math.min(len, bytes.remaining());
+            bytes.get(b, off, num);
+            return num;
+        }
+    }
+
+    private final PushedBytes pushedBytes = new PushedBytes();
+
+    private final char[] charBuffer = new char[2048];
+
+    /**
+     * The bytes held back for sniffing or <code>null</code>.
+     */
+    private byte[] sniffingBuffer;
+
+    private int sniffingLength;
+
+    private int state = NOT_STARTED;
+
+    /**
+     * The rest of the characters fed last if suspended or <code>null</code>.
+     */
+    private CharBuffer pendingChars;
+
+    /**
+     * Whether <code>finish()</code> has been called but not completed because
+     * of a suspension.
+     */
+    private boolean finishing;
+
+    public HtmlPushParser(Tokenizer tokenizer) {
+        super(tokenizer);
+    }
+
+    /**
+     * Starts a document.
+     *
+     * @param publicId
+     *            the public id for locators or <code>null</code>
+     * @param systemId
+     *            the system id for locators or <code>null</code>
+     * @param encoding
+     *            the externally declared encoding or <code>null</code> to
+     *            sniff
+     * @throws SAXException
+     *             if the error handler threw
+     * @throws IOException
+     *             never in practice
+     */
+    public void start(String publicId, String systemId, String encoding)
+            throws SAXException, IOException {
+        if (state != NOT_STARTED) {
+            throw new IllegalStateException(
+                    "The previous document was not finished.");
+        }
+        state = STARTED;
+        try {
+            startTokenization(publicId, systemId, encoding);
+        } catch (Throwable t) {
+            fail(t);
+        }
+    }
+
+    /**
+     * Feeds the next chunk of bytes. All the remaining bytes of
+     * <code>bytes</code> are consumed, and unless suspended, the buffer is
+     * not referenced after this method returns.
+     *
+     * @param bytes
+     *            the bytes
+     * @throws SAXException
+     *             on fatal error or if the token handler threw
+     * @throws IOException
+     *             if the error handler threw on a decoding error
+     */
+    public void feed(ByteBuffer bytes) throws SAXException, IOException {
+        if (state != STARTED && state != BUFFERING_BYTES
+                && state != DECODING_BYTES) {
+            throw new IllegalStateException(
+                    "Cannot feed bytes in the current state.");
+        }
+        checkNotSuspended();
+        try {
+            if (state == STARTED) {
+                if (getCharacterEncoding() == null) {
+                    state = BUFFERING_BYTES;
+                    sniffingBuffer = new byte[SNIFFING_LIMIT];
+                    sniffingLength = 0;
+                } else {
+                    openBytes();
+                }
+            }
+            if (state == BUFFERING_BYTES) {
+                int num = Math.min(bytes.remaining(), SNIFFING_LIMIT
+                        - sniffingLength);
+                bytes.get(sniffingBuffer, sniffingLength, num);
+                sniffingLength += num;
+                if (sniffingLength < SNIFFING_LIMIT) {
+                    return;
+                }
+                pushedBytes.push(ByteBuffer.wrap(sniffingBuffer));
+                sniffingBuffer = null;
+                pushedBytes.push(bytes);
+                openBytes();
+            } else {
+                pushedBytes.push(bytes);
+            }
+            drain();
+        } catch (Throwable t) {
+            fail(t);
+        }
+    }
+
+    /**
+     * Feeds the next chunk of UTF-16 code units. All the remaining
+     * <code>char</code>s of <code>chars</code> are consumed. Unless
+     * suspended, the buffer is not referenced after this method returns.
+     * Characters and bytes cannot be mixed within a document.
+     *
+     * @param chars
+     *            the characters
+     * @throws SAXException
+     *             on fatal error or if the token handler threw
+     * @throws IOException
+     *             never in practice
+     */
+    public void feed(CharBuffer chars) throws SAXException, IOException {
+        if (state != STARTED && state != CHARACTERS) {
+            throw new IllegalStateException(
+                    "Cannot feed characters in the current state.");
+        }
+        checkNotSuspended();
+        try {
+            if (state == STARTED) {
+                state = CHARACTERS;
+                becomeConfident();
+                startCharacters();
+            }
+            tokenizeChars(chars);
+        } catch (Throwable t) {
+            fail(t);
+        }
+    }
+
+    /**
+     * Ends the document. This processes any bytes held back for sniffing and
+     * the end of the input.
+     *
+     * @throws SAXException
+     *             on fatal error or if the token handler threw
+     * @throws IOException
+     *             if the error handler threw on a decoding error
+     */
+    public void finish() throws SAXException, IOException {
+        if (state == NOT_STARTED) {
+            throw new IllegalStateException("No document was started.");
+        }
+        checkNotSuspended();
+        finishing = true;
+        try {
+            if (state != CHARACTERS) {
+                pushedBytes.finish();
+                if (state == BUFFERING_BYTES) {
+                    pushedBytes.push(ByteBuffer.wrap(sniffingBuffer, 0,
+                            sniffingLength));
+                    sniffingBuffer = null;
+                    openBytes();
+                } else if (state == STARTED) {
+                    // Like an empty byte stream
+                    openBytes();
+                }
+                drain();
+            }
+        } catch (Throwable t) {
+            fail(t);
+        }
+        completeFinish();
+    }
+
+    /**
+     * Makes the tokenizer stop after the current tag. This is meant to be
+     * called from a handler during <code>feed()</code> or
+     * <code>finish()</code> when it cannot take more for now. The events
+     * of the tag itself, and of the end of the input if
+     * <code>finish()</code> has already reached it, are still delivered.
+     */
+    public void suspend() {
+        if (state == NOT_STARTED) {
+            throw new IllegalStateException("No document was started.");
+        }
+        suspendCharacters();
+    }
+
+    /**
+     * Whether <code>suspend()</code> has been called and
+     * <code>resume()</code> has not.
+     *
+     * @return <code>true</code> if suspended
+     */
+    public boolean isSuspended() {
+        return state != NOT_STARTED && isTokenizationSuspended();
+    }
+
+    /**
+     * Continues with the input that was retained because of
+     * <code>suspend()</code>. If <code>finish()</code> had been called, this
+     * completes it. Processing may get suspended again.
+     *
+     * @throws SAXException
+     *             on fatal error or if the token handler threw
+     * @throws IOException
+     *             if the error handler threw on a decoding error
+     */
+    public void resume() throws SAXException, IOException {
+        if (!isSuspended()) {
+            throw new IllegalStateException("Not suspended.");
+        }
+        try {
+            if (state == CHARACTERS) {
+                resumeCharacters();
+                CharBuffer chars = pendingChars;
+                pendingChars = null;
+                if (chars != null) {
+                    tokenizeChars(chars);
+                }
+            } else {
+                drain();
+            }
+        } catch (Throwable t) {
+            fail(t);
+        }
+        if (finishing) {
+            completeFinish();
+        }
+    }
+
+    private void checkNotSuspended() {
+        if (isSuspended()) {
+            throw new IllegalStateException("Suspended.");
+        }
+    }
+
+    private void completeFinish() throws SAXException, IOException {
+        if (isTokenizationSuspended()) {
+            return;
+        }
+        try {
+            getTokenizer().eof();
+        } catch (Throwable t) {
+            fail(t);
+        }
+        state = NOT_STARTED;
+        finishing = false;
+        pushedBytes.clear();
+        endTokenization();
+    }
+
+    /**
+     * Copies the characters to the tokenizer buffer, because the tokenizer
+     * may write to the buffer.
+     */
+    private void tokenizeChars(CharBuffer chars) throws SAXException {
+        while (chars.hasRemaining()) {
+            if (isTokenizationSuspended()) {
+                pendingChars = chars;
+                return;
+            }
+            int len = Math.min(chars.remaining(), charBuffer.length);
+            chars.get(charBuffer, 0, len);
+            tokenizeCharacters(charBuffer, 0, len);
+        }
+    }
+
+    private void openBytes() throws SAXException, IOException {
+        state = DECODING_BYTES;
+        openByteStream(pushedBytes);
+        startCharacters();
+    }
+
+    /**
+     * Tokenizes the characters retained by a suspension, if any, and then
+     * decodes and tokenizes until the bytes fed so far run out or until
+     * suspended.
+     */
+    private void drain() throws SAXException, IOException {
+        for (;;) {
+            try {
+                resumeCharacters();
+                int len;
+                while (!isTokenizationSuspended() && (len = read(charBuffer)) > 0) {
+                    tokenizeCharacters(charBuffer, 0, len);
+                }
+                return;
+            } catch (ReparseException e) {
+                rewindForReparse();
+                startCharacters();
+            }
+        }
+    }
+
+    /**
+     * Abandons the current document, if any, without processing the rest of
+     * the input.
+     *
+     * @throws SAXException
+     *             if the token handler threw
+     * @throws IOException
+     *             never in practice
+     */
+    public void abort() throws SAXException, IOException {
+        if (state != NOT_STARTED) {
+            clear();
+            endTokenization();
+        }
+    }
+
+    private void clear() {
+        state = NOT_STARTED;
+        finishing = false;
+        pushedBytes.clear();
+        pendingChars = null;
+        sniffingBuffer = null;
+    }
+
+    private void fail(Throwable t) throws SAXException, IOException {
+        clear();
+        try {
+            endTokenization();
+        } catch (Throwable tr) {
+            // drop the later throwable
+        }
+        rethrow(t);
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+
+package nu.validator.htmlparser.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+import nu.validator.htmlparser.rewindable.Rewindable;
+
+/**
+ * An input stream that reads a file through a memory mapping instead of
+ * read system calls. The stream reads from the position of the channel at
+ * construction time to the end of the file and does not move the position.
+ * 
+ * <p>
+ * Since the whole file stays accessible, rewinding costs nothing, and
+ * <code>Driver</code> uses this stream as it is instead of keeping a copy
+ * of the bytes in a <code>RewindableInputStream</code>. Rewinding is
+ * still refused after <code>willNotRewind()</code> so that a document
+ * parses the same way as when read from any other stream.
+ * 
+ * <p>
+ * Closing the stream does not close the channel.
+ * 
+ * <p>
+ * Mapping a small file costs more than reading it, so <code>open()</code>
+ * maps only files of at least <code>MIN_MAPPED_SIZE</code> bytes.
+ * 
+ * @version $Id$
+ */
+public final class MappedInputStream extends InputStream implements
+        Rewindable {
+
+    /**
+     * The size of the part of the file mapped at a time. A single mapping
+     * cannot exceed 2 GB.
+     */
+    private static final int MAX_MAPPING = 1 << 30;
+
+    /**
+     * The number of bytes from which <code>open()</code> maps the file.
+     * Reading 4 KB blocks of a cached file to the end took as long through
+     * a mapping as through a <code>FileInputStream</code> at 12 to 16 KB.
+     * Smaller files were faster to read, larger ones faster to map.
+     */
+    public static final int MIN_MAPPED_SIZE = 16 * 1024;
+
+    private final FileChannel channel;
+
+    /**
+     * The file offset of the first byte of the stream
+     */
+    private final long start;
+
+    /**
+     * The file size
+     */
+    private final long end;
+
+    /**
+     * The file offset of the first byte of <code>mapping</code>
+     */
+    private long mappingStart;
+
+    private MappedByteBuffer mapping;
+
+    /**
+     * The mapping that starts at <code>start</code>, kept for rewinding
+     */
+    private final MappedByteBuffer firstMapping;
+
+    private boolean saving = true;
+
+    /**
+     * @param channel
+     *            the channel to read
+     * @throws IOException
+     *             if the file cannot be mapped
+     */
+    public MappedInputStream(FileChannel channel) throws IOException {
+        if (channel == null) {
+            throw new NullPointerException();
+        }
+        this.channel = channel;
+        this.end = channel.size();
+        this.start = Math.min(channel.position(), end);
+        map(start);
+        this.firstMapping = mapping;
+    }
+
+    /**
+     * Returns a stream that reads the channel from its current position to
+     * the end of the file without moving the position. The stream is a
+     * <code>MappedInputStream</code> if there are at least
+     * <code>MIN_MAPPED_SIZE</code> bytes to read. Otherwise the bytes are
+     * read into an array, which can be read again as cheaply as a mapping.
+     * Either way, closing the stream does not close the channel.
+     * 
+     * @param channel
+     *            the channel to read
+     * @return a <code>Rewindable</code> stream
+     * @throws IOException
+     *             if the file cannot be mapped or read
+     */
+    public static InputStream open(FileChannel channel) throws IOException {
+        long position = channel.position();
+        long size = channel.size() - position;
+        if (size >= MIN_MAPPED_SIZE) {
+            return new MappedInputStream(channel);
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.max(0, size));
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) == -1) {
+                // The file got shorter.
+                break;
+            }
+        }
+        buffer.flip();
+        return new ByteBufferInputStream(new ByteBuffer[] { buffer }, null);
+    }
+
+    private void map(long offset) throws IOException {
+        mappingStart = offset;
+        mapping = channel.map(FileChannel.MapMode.READ_ONLY, offset,
+                Math.min(MAX_MAPPING, end - offset));
+    }
+
+    /**
+     * Maps the next part of the file when the current mapping has been read
+     * to the end.
+     * 
+     * @return <code>false</code> at the end of the file
+     */
+    private boolean hasRemaining() throws IOException {
+        if (mapping.hasRemaining()) {
+            return true;
+        }
+        long next = mappingStart + mapping.limit();
+        if (next >= end) {
+            return false;
+        }
+        map(next);
+        return true;
+    }
+
+    @Override public int read() throws IOException {
+        if (!hasRemaining()) {
+            return -1;
+        }
+        return mapping.get() & 0xFF;
+    }
+
+    @Override public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!hasRemaining()) {
+            return -1;
+        }
+        int n = Math.min(len, mapping.remaining());
+        mapping.get(b, off, n);
+        return n;
+    }
+
+    @Override public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        long pos = mappingStart + mapping.position();
+        long skipped = Math.min(n, end - pos);
+        if (skipped <= mapping.remaining()) {
+            mapping.position(mapping.position() + (int) skipped);
+        } else {
+            map(pos + skipped);
+        }
+        return skipped;
+    }
+
+    @Override public int available() throws IOException {
+        return (int) Math.min(Integer.MAX_VALUE, end
+                - (mappingStart + mapping.position()));
+    }
+
+    /**
+     * Does nothing. The mapping goes away when the stream becomes garbage
+     * and the channel belongs to the caller.
+     * 
+     * @see java.io.InputStream#close()
+     */
+    @Override public void close() {
+    }
+
+    public void rewind() {
+        if (!saving) {
+            throw new IllegalStateException("rewind() after willNotRewind()");
+        }
+        mappingStart = start;
+        mapping = firstMapping;
+        mapping.position(0);
+    }
+
+    public boolean canRewind() {
+        return saving;
+    }
+
+    public void willNotRewind() {
+        saving = false;
+    }
+}
@@ -0,0 +1,466 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.io;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import nu.validator.htmlparser.common.Interner;
+import nu.validator.htmlparser.common.TokenHandler;
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.impl.ErrorReportingTokenizer;
+import nu.validator.htmlparser.impl.ParseLimitExceededException;
+import nu.validator.htmlparser.impl.ParseLimits;
+import nu.validator.htmlparser.impl.ParseStatistics;
+import nu.validator.htmlparser.impl.Tokenizer;
+import nu.validator.htmlparser.impl.TreeBuilder;
+import nu.validator.htmlparser.impl.UTF16Buffer;
+
+import org.xml.sax.SAXException;
+
+/**
+ * Parses a document that is entirely in memory by tokenizing chunks of it
+ * in parallel.
+ *
+ * <p>The input is split before likely tag starts. The first chunk is
+ * tokenized into the tree builder on the calling thread while the other
+ * chunks are tokenized on the executor, each from the data state and with
+ * guessed tokenizer state switches (see <code>TokenRecorder</code>). The
+ * recorded tokens are then replayed into the tree builder in document order.
+ * Before a chunk is replayed, the real tokenizer state at its start (the end
+ * state of the previous chunk) is checked; a chunk that did not really start
+ * in the data state, that contains a CDATA section or whose guessed state
+ * switches turn out to be wrong is re-tokenized sequentially from the point
+ * where the guess went wrong. Since the tree builder always sees the same
+ * token sequence as with sequential parsing, the result is the same.
+ *
+ * <p>Only the tokenizer runs in parallel; the tree builder runs on the
+ * calling thread. Tokenizer errors are not reported and locators do not
+ * report meaningful positions. Encoding declarations are ignored, so byte
+ * input has to be decoded by the caller.
+ *
+ * @version $Id$
+ */
+public class ParallelDriver {
+
+    /**
+     * How far past the target chunk size a chunk boundary that follows a
+     * line break is looked for.
+     */
+    private static final int LINE_START_LOOKAHEAD = 4096;
+
+    private final TreeBuilder<?> treeBuilder;
+
+    private final ExecutorService executor;
+
+    private Tokenizer tokenizer;
+
+    private int chunkSize = 1024 * 1024;
+
+    private int maxPendingChunks = 2 * Runtime.getRuntime().availableProcessors();
+
+    private XmlViolationPolicy commentPolicy = XmlViolationPolicy.ALTER_INFOSET;
+
+    private XmlViolationPolicy contentSpacePolicy = XmlViolationPolicy.ALTER_INFOSET;
+
+    private XmlViolationPolicy contentNonXmlCharPolicy = XmlViolationPolicy.ALLOW;
+
+    private XmlViolationPolicy xmlnsPolicy = XmlViolationPolicy.ALTER_INFOSET;
+
+    private XmlViolationPolicy namePolicy = XmlViolationPolicy.ALTER_INFOSET;
+
+    private boolean mappingLangToXmlLang = false;
+
+    private Interner interner;
+
+    private ParseLimits limits;
+
+    private ParseStatistics statistics;
+
+    private int chunkCount;
+
+    private int reparsedChunkCount;
+
+    /**
+     * Constructor.
+     *
+     * @param treeBuilder
+     *            the tree builder
+     * @param executor
+     *            the executor for tokenizing chunks; a
+     *            <code>ForkJoinPool</code> works, too
+     */
+    public ParallelDriver(TreeBuilder<?> treeBuilder, ExecutorService executor) {
+        this.treeBuilder = treeBuilder;
+        this.executor = executor;
+    }
+
+    private Tokenizer newTokenizer(TokenHandler handler,
+            boolean newAttributesEachTime) {
+        Tokenizer t;
+        if (contentNonXmlCharPolicy == XmlViolationPolicy.ALLOW) {
+            t = new Tokenizer(handler, newAttributesEachTime);
+        } else {
+            t = new ErrorReportingTokenizer(handler, newAttributesEachTime);
+            t.setContentNonXmlCharPolicy(contentNonXmlCharPolicy);
+        }
+        t.setCommentPolicy(commentPolicy);
+        t.setContentSpacePolicy(contentSpacePolicy);
+        t.setXmlnsPolicy(xmlnsPolicy);
+        t.setNamePolicy(namePolicy);
+        t.setMappingLangToXmlLang(mappingLangToXmlLang);
+        t.setInterner(interner);
+        t.setLimits(limits);
+        return t;
+    }
+
+    /**
+     * Sets the target chunk size in UTF-16 code units. Documents shorter than
+     * two chunks are parsed sequentially.
+     *
+     * @param chunkSize
+     *            the chunk size
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive.");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Sets how many chunks may be tokenized ahead of the tree builder. This
+     * bounds the memory used for recorded tokens.
+     *
+     * @param maxPendingChunks
+     *            the number of chunks
+     */
+    public void setMaxPendingChunks(int maxPendingChunks) {
+        if (maxPendingChunks < 1) {
+            throw new IllegalArgumentException(
+                    "Must allow at least one pending chunk.");
+        }
+        this.maxPendingChunks = maxPendingChunks;
+    }
+
+    public void setCommentPolicy(XmlViolationPolicy commentPolicy) {
+        this.commentPolicy = commentPolicy;
+    }
+
+    public void setContentNonXmlCharPolicy(
+            XmlViolationPolicy contentNonXmlCharPolicy) {
+        this.contentNonXmlCharPolicy = contentNonXmlCharPolicy;
+    }
+
+    public void setContentSpacePolicy(XmlViolationPolicy contentSpacePolicy) {
+        this.contentSpacePolicy = contentSpacePolicy;
+    }
+
+    public void setXmlnsPolicy(XmlViolationPolicy xmlnsPolicy) {
+        if (xmlnsPolicy == XmlViolationPolicy.FATAL) {
+            throw new IllegalArgumentException("Can't use FATAL here.");
+        }
+        this.xmlnsPolicy = xmlnsPolicy;
+    }
+
+    public void setNamePolicy(XmlViolationPolicy namePolicy) {
+        this.namePolicy = namePolicy;
+    }
+
+    public void setMappingLangToXmlLang(boolean mappingLangToXmlLang) {
+        this.mappingLangToXmlLang = mappingLangToXmlLang;
+    }
+
+    /**
+     * Sets the interner for names that are not built into the parser. It is
+     * used on the executor threads, too.
+     *
+     * @param interner
+     *            the interner or <code>null</code> for the default
+     */
+    public void setInterner(Interner interner) {
+        this.interner = interner;
+    }
+
+    /**
+     * Sets the limits to enforce. The tokenizer limits apply to the chunks
+     * tokenized on the executor, too.
+     *
+     * @param limits
+     *            the limits or <code>null</code> not to limit anything
+     */
+    public void setLimits(ParseLimits limits) {
+        this.limits = limits;
+    }
+
+    /**
+     * Sets the statistics to fill in. The tokens recorded on the executor are
+     * counted when they are replayed. The decoding and tokenizing times are
+     * not measured.
+     *
+     * @param statistics
+     *            the statistics or <code>null</code> not to collect any
+     */
+    public void setStatistics(ParseStatistics statistics) {
+        this.statistics = statistics;
+    }
+
+    /**
+     * Returns the number of chunks the last document was split into.
+     *
+     * @return the chunk count
+     */
+    public int getChunkCount() {
+        return chunkCount;
+    }
+
+    /**
+     * Returns the number of chunks of the last document whose recorded
+     * tokens could not be used in full.
+     *
+     * @return the reparsed chunk count
+     */
+    public int getReparsedChunkCount() {
+        return reparsedChunkCount;
+    }
+
+    /**
+     * Reads the reader to the end and parses what was read.
+     *
+     * @param reader
+     *            the reader
+     * @throws SAXException
+     * @throws IOException
+     */
+    public void tokenize(Reader reader) throws SAXException, IOException {
+        char[] buf = new char[8192];
+        int length = 0;
+        int num;
+        while ((num = reader.read(buf, length, buf.length - length)) != -1) {
+            length += num;
+            if (length == buf.length) {
+                char[] newBuf = new char[buf.length + (buf.length >> 1)];
+                System.arraycopy(buf, 0, newBuf, 0, length);
+                buf = newBuf;
+            }
+        }
+        tokenize(buf, 0, length);
+    }
+
+    /**
+     * Parses a document. The array must not be modified until this method
+     * returns.
+     *
+     * @param buf
+     *            the document
+     * @param offset
+     *            the start of the document in the array
+     * @param length
+     *            the length of the document
+     * @throws SAXException
+     */
+    public void tokenize(char[] buf, int offset, int length)
+            throws SAXException {
+        if (statistics != null) {
+            statistics.reset();
+        }
+        long deadline = 0;
+        if (limits != null) {
+            if (length > limits.getMaxChars()) {
+                throw new ParseLimitExceededException(ParseLimits.Limit.CHARS,
+                        limits.getMaxChars(), null);
+            }
+            if (limits.getTimeoutMillis() > 0) {
+                deadline = System.nanoTime() + limits.getTimeoutMillis()
+                        * 1000000L;
+            }
+        }
+        int end = offset + length;
+        if (offset < end && buf[offset] == '\uFEFF') {
+            offset++;
+        }
+        int[] bounds = chunkBounds(buf, offset, end);
+        chunkCount = bounds.length - 1;
+        reparsedChunkCount = 0;
+        boolean wantsComments = treeBuilder.wantsComments();
+        boolean scriptingEnabled = treeBuilder.isScriptingEnabled();
+        List<Future<TokenRecorder>> futures = new ArrayList<Future<TokenRecorder>>(
+                Collections.<Future<TokenRecorder>> nCopies(chunkCount, null));
+        tokenizer = newTokenizer(treeBuilder, true);
+        tokenizer.setStatistics(statistics);
+        tokenizer.start();
+        try {
+            int submitted = 1;
+            for (; submitted < chunkCount && submitted <= maxPendingChunks; submitted++) {
+                futures.set(submitted, submit(buf, bounds[submitted],
+                        bounds[submitted + 1], wantsComments, scriptingEnabled));
+            }
+            tokenizeSequentially(buf, bounds[0], bounds[1]);
+            for (int i = 1; i < chunkCount; i++) {
+                TokenRecorder recorder = await(futures.get(i));
+                futures.set(i, null);
+                if (submitted < chunkCount) {
+                    futures.set(submitted, submit(buf, bounds[submitted],
+                            bounds[submitted + 1], wantsComments,
+                            scriptingEnabled));
+                    submitted++;
+                }
+                if (deadline != 0 && System.nanoTime() - deadline > 0) {
+                    throw new ParseLimitExceededException(
+                            ParseLimits.Limit.TIME, limits.getTimeoutMillis(),
+                            tokenizer);
+                }
+                if (!tokenizer.isInDataState()) {
+                    reparsedChunkCount++;
+                    tokenizeSequentially(buf, bounds[i], bounds[i + 1]);
+                    continue;
+                }
+                int resumeAt = recorder.replay(treeBuilder, tokenizer);
+                if (resumeAt != -1) {
+                    reparsedChunkCount++;
+                    tokenizeSequentially(buf, resumeAt, bounds[i + 1]);
+                    continue;
+                }
+                Tokenizer chunkTokenizer = recorder.getTokenizer();
+                if (!chunkTokenizer.isInDataState()) {
+                    tokenizer.loadState(chunkTokenizer);
+                }
+            }
+            tokenizer.eof();
+        } finally {
+            for (Future<TokenRecorder> future : futures) {
+                if (future != null) {
+                    future.cancel(true);
+                }
+            }
+            tokenizer.end();
+            tokenizer = null;
+        }
+    }
+
+    private Future<TokenRecorder> submit(final char[] buf, final int start,
+            final int end, final boolean wantsComments,
+            final boolean scriptingEnabled) {
+        return executor.submit(new Callable<TokenRecorder>() {
+            public TokenRecorder call() throws SAXException {
+                TokenRecorder recorder = new TokenRecorder(buf, start, end,
+                        wantsComments, scriptingEnabled);
+                recorder.record(newTokenizer(recorder, true));
+                return recorder;
+            }
+        });
+    }
+
+    private TokenRecorder await(Future<TokenRecorder> future)
+            throws SAXException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SAXException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof SAXException) {
+                throw (SAXException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new SAXException((Exception) cause);
+        }
+    }
+
+    private void tokenizeSequentially(char[] buf, int start, int end)
+            throws SAXException {
+        UTF16Buffer buffer = new UTF16Buffer(buf, start, end);
+        boolean lastWasCR = false;
+        while (buffer.hasMore()) {
+            buffer.adjust(lastWasCR);
+            lastWasCR = false;
+            if (buffer.hasMore()) {
+                lastWasCR = tokenizer.tokenizeBuffer(buffer);
+            }
+        }
+    }
+
+    /**
+     * Splits the input into chunks of roughly the chunk size. Each chunk
+     * after the first one starts with a <code>&lt;</code> followed by an
+     * ASCII letter or a solidus, preferably at the start of a line.
+     *
+     * @return the chunk start indices followed by the end of the input
+     */
+    private int[] chunkBounds(char[] buf, int start, int end) {
+        int[] bounds = new int[16];
+        bounds[0] = start;
+        int count = 1;
+        int pos = start;
+        while (end - pos >= 2 * chunkSize) {
+            int next = nextBoundary(buf, pos + chunkSize, end);
+            if (next == end) {
+                break;
+            }
+            if (count + 1 == bounds.length) {
+                int[] newBounds = new int[bounds.length << 1];
+                System.arraycopy(bounds, 0, newBounds, 0, count);
+                bounds = newBounds;
+            }
+            bounds[count++] = next;
+            pos = next;
+        }
+        bounds[count++] = end;
+        int[] rv = new int[count];
+        System.arraycopy(bounds, 0, rv, 0, count);
+        return rv;
+    }
+
+    private int nextBoundary(char[] buf, int from, int end) {
+        int firstCandidate = -1;
+        for (int i = from; i < end - 1; i++) {
+            if (buf[i] != '<') {
+                continue;
+            }
+            char c = buf[i + 1];
+            if (c == '/' || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                if (buf[i - 1] == '\n') {
+                    return i;
+                }
+                if (firstCandidate == -1) {
+                    firstCandidate = i;
+                }
+            }
+            if (firstCandidate != -1 && i - from > LINE_START_LOOKAHEAD) {
+                return firstCandidate;
+            }
+        }
+        return firstCandidate == -1 ? end : firstCandidate;
+    }
+}
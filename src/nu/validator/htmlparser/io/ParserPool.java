@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+
+package nu.validator.htmlparser.io;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import nu.validator.htmlparser.common.ReusableParser;
+
+/**
+ * A bounded pool of parsers that have all been configured the same way.
+ * Subclasses create the parsers in <code>newParser()</code>.
+ * 
+ * <p>
+ * The pool does not use <code>ThreadLocal</code> and never blocks, so it
+ * works the same with platform and virtual threads. The idle parsers are in
+ * an array of slots that are claimed and filled with compare-and-set.
+ * <code>acquire()</code> creates a new parser when no idle one is found and
+ * <code>release()</code> drops the parser when all the slots are taken, so
+ * the pool holds at most as many parsers as it has slots.
+ * 
+ * <p>
+ * A parser must be used by one thread at a time between
+ * <code>acquire()</code> and <code>release()</code>. A parser that is not
+ * released is simply not reused.
+ * 
+ * @version $Id$
+ * @param <P>
+ *            the parser type
+ */
+public abstract class ParserPool<P extends ReusableParser> {
+
+    private final AtomicReferenceArray<P> idle;
+
+    /**
+     * Constructor.
+     * 
+     * @param capacity
+     *            the maximum number of idle parsers
+     */
+    protected ParserPool(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                    "The capacity must be at least 1.");
+        }
+        this.idle = new AtomicReferenceArray<P>(capacity);
+    }
+
+    /**
+     * Creates a configured parser when the pool has no idle parsers.
+     * 
+     * @return a new parser
+     */
+    protected abstract P newParser();
+
+    /**
+     * Returns an idle parser or a new one.
+     * 
+     * @return a parser for the exclusive use of the caller until it is
+     *         released
+     */
+    public P acquire() {
+        int length = idle.length();
+        for (int i = 0; i < length; i++) {
+            if (idle.get(i) != null) {
+                P parser = idle.getAndSet(i, null);
+                if (parser != null) {
+                    return parser;
+                }
+            }
+        }
+        return newParser();
+    }
+
+    /**
+     * Resets the parser and returns it to the pool. The caller must not use
+     * the parser afterwards.
+     * 
+     * @param parser
+     *            a parser from <code>acquire()</code>
+     */
+    public void release(P parser) {
+        if (parser == null) {
+            throw new IllegalArgumentException("Null parser.");
+        }
+        parser.reset();
+        int length = idle.length();
+        for (int i = 0; i < length; i++) {
+            if (idle.get(i) == null && idle.compareAndSet(i, null, parser)) {
+                return;
+            }
+        }
+        // The pool is full. Let the parser be collected.
+    }
+
+    /**
+     * Drops all the idle parsers.
+     */
+    public void clear() {
+        int length = idle.length();
+        for (int i = 0; i < length; i++) {
+            idle.set(i, null);
+        }
+    }
+}
@@ -0,0 +1,400 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import nu.validator.htmlparser.common.EncodingDeclarationHandler;
+import nu.validator.htmlparser.common.TransitionHandler;
+import nu.validator.htmlparser.impl.ElementName;
+import nu.validator.htmlparser.impl.ErrorReportingTokenizer;
+import nu.validator.htmlparser.impl.ParseLimits;
+import nu.validator.htmlparser.impl.Tokenizer;
+import nu.validator.htmlparser.impl.UTF16Buffer;
+
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * A driver that decodes and tokenizes on a thread of an executor while the
+ * tree builder runs on the calling thread. The tokens are passed through a
+ * bounded lock-free queue (see <code>TokenPipe</code>), so a document is
+ * parsed with two cores.
+ *
+ * <p>The tree builder switches the state of the tokenizer after some start
+ * tags. Those switches are guessed on the tokenizer thread as if the tag were
+ * in the HTML namespace, and the tokenizer goes on speculatively with the
+ * rest of the current run of characters while the tree builder catches up.
+ * If the tree builder did something else, the speculative tokens are
+ * discarded and the run is tokenized again from after the tag. The tree
+ * builder therefore sees the same tokens as with <code>Driver</code>.
+ * The errors of the tokenizer thread are queued with the tokens and
+ * reported on the calling thread, so the errors of discarded tokens are
+ * discarded, too. Speculation is turned off when a transition handler is
+ * set, since transitions are reported as they happen.
+ *
+ * <p>The tree builder is given a tokenizer of its own that never tokenizes;
+ * it only takes the state switches. Locators given to the tree builder do
+ * not report meaningful positions. Since the tree builder runs behind the
+ * tokenizer, an encoding declaration that the tree builder finds can't
+ * trigger a reparse. It is reported as an error if it disagrees with the
+ * encoding in use, and only the encoding sniffing before the tokenization
+ * applies.
+ *
+ * @version $Id$
+ */
+public class PipelinedDriver extends Driver {
+
+    private final Tokenizer treeBuilderTokenizer;
+
+    private final ExecutorService executor;
+
+    private final TokenPipe pipe;
+
+    /**
+     * The run being tokenized when the guess at a checkpoint is being
+     * checked, or <code>null</code>.
+     */
+    private UTF16Buffer speculativeRun;
+
+    /**
+     * The position in <code>speculativeRun</code> right after the
+     * checkpoint.
+     */
+    private int speculationStart;
+
+    private long speculationCheckpoint;
+
+    private ElementName speculationName;
+
+    private int speculationGuess;
+
+    /**
+     * Whether tokenizing speculatively threw.
+     */
+    private boolean speculationFailed;
+
+    /**
+     * Whether speculation is off until the end of the current run.
+     */
+    private boolean speculationSuspended;
+
+    private boolean reportsTransitions;
+
+    /**
+     * Constructor.
+     *
+     * @param tokenizer
+     *            the tokenizer that was created for the tree builder; the
+     *            tree builder switches its states, but the tokenizing is
+     *            done by a tokenizer of the same class that this driver
+     *            creates
+     * @param executor
+     *            the executor for the tokenizer thread
+     */
+    public PipelinedDriver(Tokenizer tokenizer, ExecutorService executor) {
+        super(newPipeTokenizer(tokenizer));
+        this.treeBuilderTokenizer = tokenizer;
+        this.executor = executor;
+        this.pipe = (TokenPipe) getTokenizer().getTokenHandler();
+        pipe.setDriver(this);
+        setAllowRewinding(false);
+        tokenizer.setEncodingDeclarationHandler(new EncodingDeclarationHandler() {
+            public boolean internalEncodingDeclaration(String charset)
+                    throws SAXException {
+                return PipelinedDriver.this.internalEncodingDeclaration(
+                        charset, treeBuilderTokenizer);
+            }
+
+            public String getCharacterEncoding() throws SAXException {
+                return PipelinedDriver.this.getCharacterEncoding();
+            }
+        });
+    }
+
+    private static Tokenizer newPipeTokenizer(Tokenizer tokenizer) {
+        TokenPipe pipe = new TokenPipe(tokenizer);
+        if (tokenizer instanceof ErrorReportingTokenizer) {
+            ErrorReportingTokenizer pipeTokenizer = new ErrorReportingTokenizer(
+                    pipe, true);
+            pipeTokenizer.setErrorProfile(((ErrorReportingTokenizer) tokenizer).getErrorProfile());
+            return pipeTokenizer;
+        }
+        // The attributes are handed over to the other thread.
+        return new Tokenizer(pipe, true);
+    }
+
+    /**
+     * Runs the tokenization on the executor and the tree builder on the
+     * calling thread.
+     *
+     * @param is
+     *            the input source
+     * @throws SAXException
+     *             on fatal error (if configured to treat XML violations as
+     *             fatal) or if the token handler threw
+     * @throws IOException
+     *             if the stream threw
+     */
+    public void tokenize(InputSource is) throws SAXException, IOException {
+        if (is == null) {
+            throw new IllegalArgumentException("InputSource was null.");
+        }
+        final InputSource source = is;
+        treeBuilderTokenizer.start();
+        Throwable t = null;
+        try {
+            pipe.reset();
+            Future<Object> producer = executor.submit(new Callable<Object>() {
+                public Object call() throws Exception {
+                    try {
+                        produce(source);
+                    } finally {
+                        pipe.finish();
+                    }
+                    return null;
+                }
+            });
+            try {
+                pipe.drain();
+            } catch (Throwable tr) {
+                t = tr;
+                pipe.abort();
+            }
+            try {
+                producer.get();
+            } catch (InterruptedException e) {
+                pipe.abort();
+                producer.cancel(true);
+                Thread.currentThread().interrupt();
+                if (t == null) {
+                    t = new SAXException(e);
+                }
+            } catch (ExecutionException e) {
+                if (t == null) {
+                    t = e.getCause();
+                } // else the producer failed because of the abort
+            }
+        } catch (Throwable tr) {
+            if (t == null) {
+                t = tr;
+            }
+        } finally {
+            try {
+                treeBuilderTokenizer.end();
+            } catch (Throwable tr) {
+                if (t == null) {
+                    t = tr;
+                }
+            }
+            if (t != null) {
+                rethrow(t);
+            }
+        }
+    }
+
+    /**
+     * Sets the limits on both threads. The tokenizer thread enforces the
+     * limits on the input and the attributes, and the calling thread
+     * enforces the limits on the tree.
+     * 
+     * @see nu.validator.htmlparser.io.Driver#setLimits(nu.validator.htmlparser.impl.ParseLimits)
+     */
+    @Override public void setLimits(ParseLimits limits) {
+        super.setLimits(limits);
+        treeBuilderTokenizer.setLimits(limits);
+    }
+
+    /**
+     * Sets the error handler of the calling thread. The tokenizer thread
+     * reports to the pipe, which passes the errors on in order.
+     * 
+     * @see nu.validator.htmlparser.io.Driver#setErrorHandler(org.xml.sax.ErrorHandler)
+     */
+    @Override public void setErrorHandler(ErrorHandler eh) {
+        pipe.setErrorHandler(eh);
+        super.setErrorHandler(eh == null ? null : pipe);
+        treeBuilderTokenizer.setErrorHandler(eh);
+    }
+
+    /**
+     * @see nu.validator.htmlparser.io.Driver#setTransitionHandler(nu.validator.htmlparser.common.TransitionHandler)
+     */
+    @Override public void setTransitionHandler(
+            TransitionHandler transitionHandler) {
+        super.setTransitionHandler(transitionHandler);
+        reportsTransitions = transitionHandler != null;
+    }
+
+    /**
+     * The tree builder runs behind the tokenizer.
+     * 
+     * @see nu.validator.htmlparser.io.Driver#canReparse()
+     */
+    @Override boolean canReparse() {
+        return false;
+    }
+
+    private void produce(InputSource is) throws SAXException, IOException {
+        startTokenization(is.getPublicId(), is.getSystemId(),
+                is.getEncoding());
+        // A fragment context may have switched the state.
+        getTokenizer().setState(treeBuilderTokenizer.getState());
+        Throwable t = null;
+        try {
+            Reader characterStream = is.getCharacterStream();
+            if (characterStream == null) {
+                InputStream inputStream = is.getByteStream();
+                if (inputStream == null) {
+                    throw new SAXException(
+                            "Both streams in InputSource were null.");
+                }
+                openByteStream(inputStream);
+            } else {
+                openCharacterStream(characterStream);
+            }
+            startCharacters();
+            char[] buffer = getReadBuffer();
+            int len;
+            while ((len = read(buffer)) != -1) {
+                assert len > 0;
+                tokenizeCharacters(buffer, 0, len);
+                finishRun();
+            }
+            getTokenizer().eof();
+            // The tree builder may still ask for the encoding.
+            pipe.awaitConsumed();
+        } catch (Throwable tr) {
+            t = tr;
+        } finally {
+            if (speculativeRun == null) {
+                // E.g. the fatal error that goes with the exception
+                pipe.publish();
+            }
+            speculativeRun = null;
+            speculationFailed = false;
+            try {
+                endTokenization();
+            } catch (Throwable tr) {
+                if (t == null) {
+                    t = tr;
+                }
+            }
+            pipe.publish();
+            if (t != null) {
+                rethrow(t);
+            }
+        }
+    }
+
+    /**
+     * Deals with the checkpoints that suspended the tokenization of the
+     * current run until the run has been tokenized and its tokens have been
+     * published.
+     */
+    private void finishRun() throws SAXException {
+        for (;;) {
+            if (speculativeRun != null) {
+                // Check the guess before going any further.
+                UTF16Buffer run = speculativeRun;
+                speculativeRun = null;
+                boolean spoiled = pipe.isSpoiled() || speculationFailed;
+                speculationFailed = false;
+                pipe.setSpeculating(false);
+                int state = stateAfter(speculationCheckpoint, speculationName);
+                if (spoiled
+                        || (state != Tokenizer.DATA) != (speculationGuess != Tokenizer.DATA)) {
+                    pipe.truncate(speculationCheckpoint);
+                    getTokenizer().restoreLocation();
+                    switchState(state, speculationName);
+                    rewindCharacters(run, speculationStart);
+                    speculationSuspended = spoiled;
+                    resumeCharacters();
+                    continue;
+                }
+            }
+            if (!isTokenizationSuspended()) {
+                pipe.publish();
+                speculationSuspended = false;
+                return;
+            }
+            // Stopped right after a checkpoint.
+            long checkpoint = pipe.getCheckpoint();
+            ElementName name = pipe.getCheckpointName();
+            int guess = pipe.getCheckpointGuess();
+            UTF16Buffer run = getUnfinished();
+            if (run == null || speculationSuspended || reportsTransitions) {
+                // Nothing left in the run to speculate on or speculation
+                // would report transitions twice.
+                pipe.publish();
+                int state = stateAfter(checkpoint, name);
+                if ((state != Tokenizer.DATA) != (guess != Tokenizer.DATA)) {
+                    switchState(state, name);
+                }
+            } else {
+                // Every character left in the run yields at most one slot.
+                pipe.awaitRoom(run.getLength() + 2);
+                speculativeRun = run;
+                speculationStart = run.getStart();
+                speculationCheckpoint = checkpoint;
+                speculationName = name;
+                speculationGuess = guess;
+                getTokenizer().saveLocation();
+                pipe.setSpeculating(true);
+            }
+            try {
+                resumeCharacters();
+            } catch (SAXException e) {
+                if (speculativeRun == null) {
+                    throw e;
+                }
+                // The run is tokenized again without speculation. If the
+                // guess was right, the failure happens again there.
+                speculationFailed = true;
+            }
+        }
+    }
+
+    private int stateAfter(long checkpoint, ElementName name)
+            throws SAXException {
+        if (pipe.awaitVerdict(checkpoint)) {
+            return TokenRecorder.guessState(name, true);
+        }
+        return Tokenizer.DATA;
+    }
+
+    private void switchState(int state, ElementName name) {
+        Tokenizer tokenizer = getTokenizer();
+        tokenizer.resetToDataState();
+        if (state != Tokenizer.DATA) {
+            tokenizer.setStateAndEndTagExpectation(state, name);
+        }
+    }
+}
@@ -0,0 +1,646 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.io;
+
+import java.util.concurrent.locks.LockSupport;
+
+import nu.validator.htmlparser.common.TokenHandler;
+import nu.validator.htmlparser.impl.ElementName;
+import nu.validator.htmlparser.impl.HtmlAttributes;
+import nu.validator.htmlparser.impl.Tokenizer;
+import nu.validator.htmlparser.impl.TreeBuilder;
+
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * A bounded single-producer single-consumer queue of tokens from a tokenizer
+ * thread to a tree builder thread. The producer side is the token handler of
+ * the tokenizer. The consumer side reports the queued tokens to the real
+ * token handler.
+ *
+ * <p>The slots are allocated up front and reused, so queuing a token only
+ * allocates when the text of a slot needs to grow. The producer writes slots
+ * ahead of what it has published. That lets it take back tokens that were
+ * tokenized in a guessed tokenizer state once the consumer reports what the
+ * tree builder really did.
+ *
+ * <p>Start tags that the tree builder may switch the tokenizer state for are
+ * checkpoints: the tokenizer is suspended after them with the guessed state
+ * and the consumer reports back whether the tree builder switched the state
+ * of its own tokenizer.
+ *
+ * <p>The pipe is also the error handler of the tokenizer when errors are
+ * reported. The errors are queued with the tokens, so they reach the real
+ * error handler in the same order as without the pipe and the errors of
+ * speculative tokens are taken back with the tokens.
+ *
+ * @version $Id$
+ */
+final class TokenPipe implements TokenHandler, ErrorHandler {
+
+    private static final byte CHARACTERS = 0;
+
+    private static final byte ZERO_ORIGINATING_REPLACEMENT_CHARACTER = 1;
+
+    private static final byte START_TAG = 2;
+
+    private static final byte END_TAG = 3;
+
+    private static final byte COMMENT = 4;
+
+    private static final byte DOCTYPE = 5;
+
+    private static final byte EOF = 6;
+
+    private static final byte WARNING = 7;
+
+    private static final byte ERROR = 8;
+
+    private static final byte FATAL_ERROR = 9;
+
+    /**
+     * The number of slots. Has to be a power of two and at least twice the
+     * size of the runs that the driver tokenizes.
+     */
+    static final int CAPACITY = 4096;
+
+    /**
+     * How often the consumer publishes how far it has got when it does not
+     * run out of tokens.
+     */
+    private static final int CONSUMED_BATCH = 64;
+
+    private static final int SPIN_ROUNDS = 100;
+
+    private static final int YIELD_ROUNDS = 100;
+
+    private static final long PARK_NANOS = 50000;
+
+    private static final class Slot {
+
+        byte type;
+
+        ElementName name;
+
+        HtmlAttributes attributes;
+
+        /**
+         * Self-closing for start tags and force quirks for doctypes.
+         */
+        boolean flag;
+
+        /**
+         * Whether the consumer reports back the tokenizer state after the
+         * start tag.
+         */
+        boolean checkpoint;
+
+        char[] text;
+
+        int length;
+
+        String doctypeName;
+
+        String publicIdentifier;
+
+        String systemIdentifier;
+
+        SAXParseException exception;
+    }
+
+    private final Slot[] slots = new Slot[CAPACITY];
+
+    private final TokenHandler treeBuilder;
+
+    private final Tokenizer treeBuilderTokenizer;
+
+    private Driver driver;
+
+    private ErrorHandler errorHandler;
+
+    // Producer
+
+    private Tokenizer tokenizer;
+
+    private boolean wantsComments;
+
+    private boolean scriptingEnabled;
+
+    /**
+     * The number of slots written.
+     */
+    private long written;
+
+    /**
+     * The producer's copy of <code>published</code>.
+     */
+    private long publishedCopy;
+
+    /**
+     * The producer's last look at <code>consumed</code>.
+     */
+    private long consumedCopy;
+
+    private long checkpoint;
+
+    private ElementName checkpointName;
+
+    private int checkpointGuess;
+
+    private boolean speculating;
+
+    private boolean spoiled;
+
+    // Consumer
+
+    private long read;
+
+    // Shared
+
+    private volatile long published;
+
+    private volatile long consumed;
+
+    private volatile long verdictIndex;
+
+    private volatile boolean verdictSwitched;
+
+    private volatile boolean producerDone;
+
+    private volatile boolean aborted;
+
+    /**
+     * @param treeBuilderTokenizer
+     *            the tokenizer that the real token handler switches states on
+     */
+    TokenPipe(Tokenizer treeBuilderTokenizer) {
+        this.treeBuilder = treeBuilderTokenizer.getTokenHandler();
+        this.treeBuilderTokenizer = treeBuilderTokenizer;
+        for (int i = 0; i < CAPACITY; i++) {
+            slots[i] = new Slot();
+        }
+    }
+
+    void setDriver(Driver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Sets the error handler that the queued errors are reported to.
+     */
+    void setErrorHandler(ErrorHandler errorHandler) {
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * Prepares for a parse. Called on the consumer thread after the real
+     * token handler has been started and before the producer starts.
+     */
+    void reset() throws SAXException {
+        wantsComments = treeBuilder.wantsComments();
+        scriptingEnabled = treeBuilder instanceof TreeBuilder<?>
+                && ((TreeBuilder<?>) treeBuilder).isScriptingEnabled();
+        written = 0;
+        publishedCopy = 0;
+        consumedCopy = 0;
+        checkpoint = -1;
+        checkpointName = null;
+        speculating = false;
+        spoiled = false;
+        read = 0;
+        published = 0;
+        consumed = 0;
+        verdictIndex = -1;
+        producerDone = false;
+        aborted = false;
+    }
+
+    private Slot slot(long index) {
+        return slots[(int) index & (CAPACITY - 1)];
+    }
+
+    private static void idle(int round) {
+        if (round < SPIN_ROUNDS) {
+            return;
+        } else if (round < SPIN_ROUNDS + YIELD_ROUNDS) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    // Producer
+
+    /**
+     * Makes everything written so far visible to the consumer.
+     */
+    void publish() {
+        if (publishedCopy != written) {
+            publishedCopy = written;
+            published = written;
+        }
+    }
+
+    /**
+     * Marks the end of the tokens. Called on the producer thread even if
+     * tokenization failed.
+     */
+    void finish() {
+        producerDone = true;
+    }
+
+    /**
+     * Drops the slots written after the slot at <code>index</code>.
+     */
+    void truncate(long index) {
+        while (written > index + 1) {
+            written--;
+            Slot slot = slot(written);
+            slot.name = null;
+            slot.attributes = null;
+            slot.exception = null;
+        }
+    }
+
+    /**
+     * Returns the index of the latest checkpoint.
+     */
+    long getCheckpoint() {
+        return checkpoint;
+    }
+
+    ElementName getCheckpointName() {
+        return checkpointName;
+    }
+
+    /**
+     * Returns the tokenizer state that was guessed for the latest
+     * checkpoint.
+     */
+    int getCheckpointGuess() {
+        return checkpointGuess;
+    }
+
+    /**
+     * Sets whether the tokens being written may have to be taken back. The
+     * CDATA section question can't be answered while speculating.
+     */
+    void setSpeculating(boolean speculating) {
+        this.speculating = speculating;
+        this.spoiled = false;
+    }
+
+    /**
+     * Returns whether the CDATA section question was answered with a guess
+     * or the slots ran out while speculating.
+     */
+    boolean isSpoiled() {
+        return spoiled;
+    }
+
+    /**
+     * Waits until <code>count</code> slots can be written without waiting.
+     */
+    void awaitRoom(int count) throws SAXException {
+        publish();
+        int round = 0;
+        while (written - consumedCopy > CAPACITY - count) {
+            checkAborted();
+            idle(round++);
+            consumedCopy = consumed;
+        }
+    }
+
+    /**
+     * Waits until the consumer has reported the checkpoint at
+     * <code>index</code> and returns whether the tree builder switched the
+     * tokenizer state.
+     */
+    boolean awaitVerdict(long index) throws SAXException {
+        int round = 0;
+        while (verdictIndex != index) {
+            checkAborted();
+            idle(round++);
+        }
+        return verdictSwitched;
+    }
+
+    /**
+     * Publishes everything written so far and waits until the consumer has
+     * reported all of it.
+     */
+    void awaitConsumed() throws SAXException {
+        publish();
+        int round = 0;
+        while (consumed != written) {
+            checkAborted();
+            idle(round++);
+        }
+    }
+
+    private void checkAborted() throws SAXException {
+        if (aborted) {
+            throw new SAXException("The tree builder failed.");
+        }
+    }
+
+    private Slot claim() throws SAXException {
+        if (written - consumedCopy == CAPACITY) {
+            consumedCopy = consumed;
+            if (written - consumedCopy == CAPACITY) {
+                if (speculating) {
+                    // Errors took more than the free space that the driver
+                    // waited for. The slots can't be published, so the
+                    // driver tokenizes the run again without speculating.
+                    spoiled = true;
+                    throw new SAXException("Speculation ran out of slots.");
+                }
+                awaitRoom(1);
+            }
+        }
+        return slot(written);
+    }
+
+    private static char[] ensureText(Slot slot, int length) {
+        char[] text = slot.text;
+        if (text == null || text.length < length) {
+            int grown = text == null ? 64 : text.length << 1;
+            text = new char[grown < length ? length : grown];
+            if (slot.length > 0) {
+                System.arraycopy(slot.text, 0, text, 0, slot.length);
+            }
+            slot.text = text;
+        }
+        return text;
+    }
+
+    private static ElementName own(ElementName eltName) {
+        if (eltName.isInterned()) {
+            return eltName;
+        }
+        // The tokenizer reuses its non-interned name object.
+        ElementName copy = new ElementName();
+        copy.setNameForNonInterned(eltName.getName());
+        return copy;
+    }
+
+    // TokenHandler
+
+    public void startTokenization(Tokenizer self) throws SAXException {
+        tokenizer = self;
+    }
+
+    public boolean wantsComments() throws SAXException {
+        return wantsComments;
+    }
+
+    public void doctype(String name, String publicIdentifier,
+            String systemIdentifier, boolean forceQuirks) throws SAXException {
+        Slot slot = claim();
+        slot.type = DOCTYPE;
+        slot.doctypeName = name;
+        slot.publicIdentifier = publicIdentifier;
+        slot.systemIdentifier = systemIdentifier;
+        slot.flag = forceQuirks;
+        written++;
+    }
+
+    public void startTag(ElementName eltName, HtmlAttributes attributes,
+            boolean selfClosing) throws SAXException {
+        eltName = own(eltName);
+        Slot slot = claim();
+        slot.type = START_TAG;
+        slot.name = eltName;
+        slot.attributes = attributes;
+        slot.flag = selfClosing;
+        int guessedState = TokenRecorder.guessState(eltName, scriptingEnabled);
+        slot.checkpoint = guessedState != -1;
+        if (guessedState != -1) {
+            if (guessedState != Tokenizer.DATA) {
+                tokenizer.setStateAndEndTagExpectation(guessedState, eltName);
+            }
+            checkpoint = written;
+            checkpointName = eltName;
+            checkpointGuess = guessedState;
+            driver.suspendCharacters();
+        }
+        written++;
+    }
+
+    public void endTag(ElementName eltName) throws SAXException {
+        Slot slot = claim();
+        slot.type = END_TAG;
+        slot.name = own(eltName);
+        written++;
+    }
+
+    public void comment(char[] buf, int start, int length) throws SAXException {
+        Slot slot = claim();
+        slot.type = COMMENT;
+        slot.length = 0;
+        System.arraycopy(buf, start, ensureText(slot, length), 0, length);
+        slot.length = length;
+        written++;
+    }
+
+    public void characters(char[] buf, int start, int length)
+            throws SAXException {
+        if (length == 0) {
+            return;
+        }
+        if (written > publishedCopy) {
+            Slot last = slot(written - 1);
+            if (last.type == CHARACTERS) {
+                int newLength = last.length + length;
+                System.arraycopy(buf, start, ensureText(last, newLength),
+                        last.length, length);
+                last.length = newLength;
+                return;
+            }
+        }
+        Slot slot = claim();
+        slot.type = CHARACTERS;
+        slot.length = 0;
+        System.arraycopy(buf, start, ensureText(slot, length), 0, length);
+        slot.length = length;
+        written++;
+    }
+
+    public void zeroOriginatingReplacementCharacter() throws SAXException {
+        Slot slot = claim();
+        slot.type = ZERO_ORIGINATING_REPLACEMENT_CHARACTER;
+        written++;
+    }
+
+    public void eof() throws SAXException {
+        Slot slot = claim();
+        slot.type = EOF;
+        written++;
+    }
+
+    public void endTokenization() throws SAXException {
+    }
+
+    public boolean cdataSectionAllowed() throws SAXException {
+        if (speculating) {
+            spoiled = true;
+            return false;
+        }
+        // Ask the tree builder once it has caught up. It is idle until more
+        // tokens get published.
+        awaitConsumed();
+        return treeBuilder.cdataSectionAllowed();
+    }
+
+    public void ensureBufferSpace(int inputLength) throws SAXException {
+    }
+
+    // ErrorHandler
+
+    public void warning(SAXParseException exception) throws SAXException {
+        queue(WARNING, exception);
+    }
+
+    public void error(SAXParseException exception) throws SAXException {
+        queue(ERROR, exception);
+    }
+
+    public void fatalError(SAXParseException exception) throws SAXException {
+        queue(FATAL_ERROR, exception);
+    }
+
+    private void queue(byte type, SAXParseException exception)
+            throws SAXException {
+        Slot slot = claim();
+        slot.type = type;
+        slot.exception = exception;
+        written++;
+    }
+
+    // Consumer
+
+    /**
+     * Makes the producer fail at its next chance. Called on the consumer
+     * thread when the real token handler has failed.
+     */
+    void abort() {
+        aborted = true;
+    }
+
+    /**
+     * Reports the tokens to the real token handler until the producer has
+     * finished.
+     */
+    void drain() throws SAXException {
+        for (;;) {
+            long available = published;
+            if (read == available) {
+                consumed = read;
+                int round = 0;
+                for (;;) {
+                    available = published;
+                    if (read != available) {
+                        break;
+                    }
+                    if (producerDone) {
+                        available = published;
+                        if (read == available) {
+                            return;
+                        }
+                        break;
+                    }
+                    idle(round++);
+                }
+            }
+            while (read != available) {
+                deliver(slot(read));
+                read++;
+                if ((read & (CONSUMED_BATCH - 1)) == 0) {
+                    consumed = read;
+                }
+            }
+        }
+    }
+
+    private void deliver(Slot slot) throws SAXException {
+        switch (slot.type) {
+            case CHARACTERS:
+                treeBuilder.ensureBufferSpace(slot.length);
+                treeBuilder.characters(slot.text, 0, slot.length);
+                break;
+            case ZERO_ORIGINATING_REPLACEMENT_CHARACTER:
+                treeBuilder.ensureBufferSpace(1);
+                treeBuilder.zeroOriginatingReplacementCharacter();
+                break;
+            case START_TAG:
+                ElementName name = slot.name;
+                HtmlAttributes attributes = slot.attributes;
+                slot.name = null;
+                slot.attributes = null;
+                if (slot.checkpoint) {
+                    treeBuilderTokenizer.setState(Tokenizer.DATA);
+                    treeBuilder.startTag(name, attributes, slot.flag);
+                    verdictSwitched = !treeBuilderTokenizer.isInDataState();
+                    verdictIndex = read;
+                } else {
+                    treeBuilder.startTag(name, attributes, slot.flag);
+                }
+                break;
+            case END_TAG:
+                name = slot.name;
+                slot.name = null;
+                treeBuilder.endTag(name);
+                break;
+            case COMMENT:
+                treeBuilder.comment(slot.text, 0, slot.length);
+                break;
+            case DOCTYPE:
+                treeBuilder.doctype(slot.doctypeName, slot.publicIdentifier,
+                        slot.systemIdentifier, slot.flag);
+                slot.doctypeName = null;
+                slot.publicIdentifier = null;
+                slot.systemIdentifier = null;
+                break;
+            case EOF:
+                treeBuilder.eof();
+                break;
+            case WARNING:
+                SAXParseException exception = slot.exception;
+                slot.exception = null;
+                errorHandler.warning(exception);
+                break;
+            case ERROR:
+                exception = slot.exception;
+                slot.exception = null;
+                errorHandler.error(exception);
+                break;
+            case FATAL_ERROR:
+                exception = slot.exception;
+                slot.exception = null;
+                errorHandler.fatalError(exception);
+                break;
+        }
+    }
+}
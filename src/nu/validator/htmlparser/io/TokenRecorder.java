@@ -0,0 +1,434 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.io;
+
+import nu.validator.htmlparser.common.TokenHandler;
+import nu.validator.htmlparser.impl.ElementName;
+import nu.validator.htmlparser.impl.HtmlAttributes;
+import nu.validator.htmlparser.impl.ParseLimitExceededException;
+import nu.validator.htmlparser.impl.ParseStatistics;
+import nu.validator.htmlparser.impl.Tokenizer;
+import nu.validator.htmlparser.impl.UTF16Buffer;
+
+import org.xml.sax.SAXException;
+
+/**
+ * Tokenizes one chunk of a document without a tree builder and records the
+ * tokens so that they can be replayed into the real tree builder later.
+ *
+ * <p>Instead of asking a tree builder, the recorder guesses the tokenizer
+ * state switches: start tags that the tree builder may switch the tokenizer
+ * for are assumed to be in the HTML namespace. The position after each such
+ * tag is recorded, so that the replay can check the guess against what the
+ * real tree builder did and hand the rest of the chunk over to a sequential
+ * tokenizer if the guess was wrong.
+ *
+ * @version $Id$
+ */
+final class TokenRecorder implements TokenHandler {
+
+    private static final byte SOURCE_CHARACTERS = 0;
+
+    private static final byte CHARACTERS = 1;
+
+    private static final byte ZERO_ORIGINATING_REPLACEMENT_CHARACTER = 2;
+
+    private static final byte START_TAG = 3;
+
+    private static final byte END_TAG = 4;
+
+    private static final byte COMMENT = 5;
+
+    private static final byte DOCTYPE = 6;
+
+    /**
+     * A comment that the real tree builder does not want. Only counted.
+     */
+    private static final byte UNWANTED_COMMENT = 7;
+
+    private static final class StartTag {
+
+        final ElementName name;
+
+        final HtmlAttributes attributes;
+
+        final boolean selfClosing;
+
+        /**
+         * The guessed tokenizer state after the tag or <code>-1</code> if
+         * the tree builder never switches the tokenizer state for the tag.
+         */
+        final int guessedState;
+
+        /**
+         * The index of the first character after the tag in the source.
+         */
+        int resumeAt = -1;
+
+        StartTag(ElementName name, HtmlAttributes attributes,
+                boolean selfClosing, int guessedState) {
+            this.name = name;
+            this.attributes = attributes;
+            this.selfClosing = selfClosing;
+            this.guessedState = guessedState;
+        }
+    }
+
+    private final char[] source;
+
+    private final int start;
+
+    private final int end;
+
+    private final boolean wantsComments;
+
+    private final boolean scriptingEnabled;
+
+    private Tokenizer tokenizer;
+
+    private byte[] types = new byte[256];
+
+    private int[] starts = new int[256];
+
+    private int[] lengths = new int[256];
+
+    private Object[] objects = new Object[256];
+
+    private int count = 0;
+
+    /**
+     * Copies of characters that did not come directly from the source.
+     */
+    private char[] text = new char[1024];
+
+    private int textLength = 0;
+
+    private StartTag pendingCheckpoint = null;
+
+    private boolean cdataSectionQueried = false;
+
+    /**
+     * Whether the chunk tokenizer hit a limit. The text may not really be
+     * markup, so the main tokenizer decides.
+     */
+    private boolean limitExceeded = false;
+
+    /**
+     * @param source
+     *            the whole input
+     * @param start
+     *            the start of the chunk
+     * @param end
+     *            the end of the chunk
+     * @param wantsComments
+     *            whether the real tree builder wants comments
+     * @param scriptingEnabled
+     *            whether the real tree builder has scripting enabled
+     */
+    TokenRecorder(char[] source, int start, int end, boolean wantsComments,
+            boolean scriptingEnabled) {
+        this.source = source;
+        this.start = start;
+        this.end = end;
+        this.wantsComments = wantsComments;
+        this.scriptingEnabled = scriptingEnabled;
+    }
+
+    int getStart() {
+        return start;
+    }
+
+    int getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the tokenizer that recorded the chunk. Its state is the state
+     * at the end of the chunk if all the guesses were right.
+     *
+     * @return the tokenizer
+     */
+    Tokenizer getTokenizer() {
+        return tokenizer;
+    }
+
+    /**
+     * Tokenizes the chunk starting from the data state.
+     *
+     * @param chunkTokenizer
+     *            a fresh tokenizer whose token handler is this object
+     * @throws SAXException
+     */
+    void record(Tokenizer chunkTokenizer) throws SAXException {
+        chunkTokenizer.start();
+        UTF16Buffer buffer = new UTF16Buffer(source, start, end);
+        boolean lastWasCR = false;
+        while (buffer.hasMore()) {
+            buffer.adjust(lastWasCR);
+            lastWasCR = false;
+            if (buffer.hasMore()) {
+                try {
+                    lastWasCR = chunkTokenizer.tokenizeBuffer(buffer);
+                } catch (ParseLimitExceededException e) {
+                    limitExceeded = true;
+                    return;
+                }
+                if (pendingCheckpoint != null) {
+                    pendingCheckpoint.resumeAt = buffer.getStart();
+                    pendingCheckpoint = null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Replays the recorded tokens into a token handler whose tokenizer is
+     * <code>mainTokenizer</code>. The main tokenizer must be in the data
+     * state. The tokens are counted in the statistics of the main tokenizer,
+     * if any.
+     *
+     * @param handler
+     *            the real token handler
+     * @param mainTokenizer
+     *            the tokenizer the real token handler switches states on
+     * @return <code>-1</code> if all the tokens were replayed or the index
+     *         in the source from which the main tokenizer has to continue
+     * @throws SAXException
+     */
+    int replay(TokenHandler handler, Tokenizer mainTokenizer)
+            throws SAXException {
+        if (cdataSectionQueried) {
+            // The guess may have turned a CDATA section into a bogus
+            // comment and the position of the section is not known.
+            return start;
+        }
+        if (limitExceeded) {
+            return start;
+        }
+        ParseStatistics statistics = mainTokenizer.getStatistics();
+        for (int i = 0; i < count; i++) {
+            if (statistics != null) {
+                count(statistics, types[i]);
+            }
+            switch (types[i]) {
+                case SOURCE_CHARACTERS:
+                    handler.ensureBufferSpace(lengths[i]);
+                    handler.characters(source, starts[i], lengths[i]);
+                    break;
+                case CHARACTERS:
+                    handler.ensureBufferSpace(lengths[i]);
+                    handler.characters(text, starts[i], lengths[i]);
+                    break;
+                case ZERO_ORIGINATING_REPLACEMENT_CHARACTER:
+                    handler.ensureBufferSpace(1);
+                    handler.zeroOriginatingReplacementCharacter();
+                    break;
+                case START_TAG:
+                    StartTag tag = (StartTag) objects[i];
+                    handler.startTag(tag.name, tag.attributes, tag.selfClosing);
+                    if (tag.guessedState != -1) {
+                        boolean switched = !mainTokenizer.isInDataState();
+                        if (switched != (tag.guessedState != Tokenizer.DATA)) {
+                            return tag.resumeAt;
+                        }
+                        mainTokenizer.setState(Tokenizer.DATA);
+                    }
+                    break;
+                case END_TAG:
+                    handler.endTag((ElementName) objects[i]);
+                    break;
+                case COMMENT:
+                    handler.comment(text, starts[i], lengths[i]);
+                    break;
+                case DOCTYPE:
+                    String[] ids = (String[]) objects[i];
+                    handler.doctype(ids[0], ids[1], ids[2], starts[i] != 0);
+                    break;
+            }
+        }
+        return -1;
+    }
+
+    private static void count(ParseStatistics statistics, byte type) {
+        switch (type) {
+            case START_TAG:
+                statistics.countStartTag();
+                break;
+            case END_TAG:
+                statistics.countEndTag();
+                break;
+            case COMMENT:
+            case UNWANTED_COMMENT:
+                statistics.countComment();
+                break;
+            case DOCTYPE:
+                statistics.countDoctype();
+                break;
+        }
+    }
+
+    /**
+     * Returns the tokenizer state that the tree builder switches to after
+     * an HTML start tag called <code>name</code>, <code>DATA</code> if it
+     * only switches for some configurations or <code>-1</code> if it never
+     * switches the state for the tag.
+     */
+    static int guessState(ElementName name, boolean scriptingEnabled) {
+        if (name == ElementName.SCRIPT) {
+            return Tokenizer.SCRIPT_DATA;
+        } else if (name == ElementName.STYLE || name == ElementName.XMP
+                || name == ElementName.IFRAME || name == ElementName.NOEMBED
+                || name == ElementName.NOFRAMES) {
+            return Tokenizer.RAWTEXT;
+        } else if (name == ElementName.NOSCRIPT) {
+            return scriptingEnabled ? Tokenizer.RAWTEXT : Tokenizer.DATA;
+        } else if (name == ElementName.TITLE || name == ElementName.TEXTAREA) {
+            return Tokenizer.RCDATA;
+        } else if (name == ElementName.PLAINTEXT) {
+            return Tokenizer.PLAINTEXT;
+        }
+        return -1;
+    }
+
+    private int add(byte type, int start, int length, Object object) {
+        if (count == types.length) {
+            int newLength = count + (count >> 1);
+            byte[] newTypes = new byte[newLength];
+            System.arraycopy(types, 0, newTypes, 0, count);
+            types = newTypes;
+            int[] newStarts = new int[newLength];
+            System.arraycopy(starts, 0, newStarts, 0, count);
+            starts = newStarts;
+            int[] newLengths = new int[newLength];
+            System.arraycopy(lengths, 0, newLengths, 0, count);
+            lengths = newLengths;
+            Object[] newObjects = new Object[newLength];
+            System.arraycopy(objects, 0, newObjects, 0, count);
+            objects = newObjects;
+        }
+        types[count] = type;
+        starts[count] = start;
+        lengths[count] = length;
+        objects[count] = object;
+        return count++;
+    }
+
+    private int copyText(char[] buf, int start, int length) {
+        int newLength = textLength + length;
+        if (newLength > text.length) {
+            int grown = text.length + (text.length >> 1);
+            char[] newText = new char[grown < newLength ? newLength : grown];
+            System.arraycopy(text, 0, newText, 0, textLength);
+            text = newText;
+        }
+        System.arraycopy(buf, start, text, textLength, length);
+        int offset = textLength;
+        textLength = newLength;
+        return offset;
+    }
+
+    // TokenHandler
+
+    public void startTokenization(Tokenizer self) throws SAXException {
+        tokenizer = self;
+    }
+
+    /**
+     * Always wants comments, so that unwanted ones can still be counted in
+     * the statistics like the main tokenizer counts them.
+     */
+    public boolean wantsComments() throws SAXException {
+        return true;
+    }
+
+    public void doctype(String name, String publicIdentifier,
+            String systemIdentifier, boolean forceQuirks) throws SAXException {
+        add(DOCTYPE, forceQuirks ? 1 : 0, 0, new String[] { name,
+                publicIdentifier, systemIdentifier });
+    }
+
+    public void startTag(ElementName eltName, HtmlAttributes attributes,
+            boolean selfClosing) throws SAXException {
+        if (!eltName.isInterned()) {
+            // The tokenizer reuses its non-interned name object.
+            String name = eltName.getName();
+            eltName = new ElementName();
+            eltName.setNameForNonInterned(name);
+        }
+        int guessedState = guessState(eltName, scriptingEnabled);
+        StartTag tag = new StartTag(eltName, attributes, selfClosing,
+                guessedState);
+        add(START_TAG, 0, 0, tag);
+        if (guessedState != -1) {
+            if (guessedState != Tokenizer.DATA) {
+                tokenizer.setStateAndEndTagExpectation(guessedState, eltName);
+            }
+            pendingCheckpoint = tag;
+            tokenizer.requestSuspension();
+        }
+    }
+
+    public void endTag(ElementName eltName) throws SAXException {
+        if (!eltName.isInterned()) {
+            String name = eltName.getName();
+            eltName = new ElementName();
+            eltName.setNameForNonInterned(name);
+        }
+        add(END_TAG, 0, 0, eltName);
+    }
+
+    public void comment(char[] buf, int start, int length) throws SAXException {
+        if (wantsComments) {
+            add(COMMENT, copyText(buf, start, length), length, null);
+        } else {
+            add(UNWANTED_COMMENT, 0, 0, null);
+        }
+    }
+
+    public void characters(char[] buf, int start, int length)
+            throws SAXException {
+        if (buf == source) {
+            add(SOURCE_CHARACTERS, start, length, null);
+        } else {
+            add(CHARACTERS, copyText(buf, start, length), length, null);
+        }
+    }
+
+    public void zeroOriginatingReplacementCharacter() throws SAXException {
+        add(ZERO_ORIGINATING_REPLACEMENT_CHARACTER, 0, 0, null);
+    }
+
+    public void eof() throws SAXException {
+    }
+
+    public void endTokenization() throws SAXException {
+    }
+
+    public boolean cdataSectionAllowed() throws SAXException {
+        cdataSectionQueried = true;
+        return false;
+    }
+
+    public void ensureBufferSpace(int inputLength) throws SAXException {
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.io;
+
+/**
+ * A UTF-8 decoder that works on raw arrays. It exists so that
+ * <code>HtmlInputStreamReader</code> does not need to go through
+ * <code>CharsetDecoder</code> and the NIO buffer wrappers for the by far most
+ * common encoding.
+ *
+ * The lengths of malformed sequences are the same as the ones the JDK UTF-8
+ * decoder reports, so the same replacement characters and errors come out
+ * either way.
+ *
+ * @version $Id$
+ */
+final class Utf8Decoder {
+
+    /**
+     * All the input that could be decoded was decoded. There may be an
+     * incomplete sequence left at the end of the input.
+     */
+    static final int UNDERFLOW = 0;
+
+    /**
+     * The output array is full.
+     */
+    static final int OVERFLOW = 1;
+
+    /**
+     * There is a malformed sequence of <code>malformedLength</code> bytes at
+     * <code>srcPos</code>.
+     */
+    static final int MALFORMED = 2;
+
+    /**
+     * The index of the first byte not consumed by the last call to
+     * <code>decode()</code>.
+     */
+    int srcPos;
+
+    /**
+     * The index after the last <code>char</code> written by the last call to
+     * <code>decode()</code>.
+     */
+    int dstPos;
+
+    /**
+     * The length of the malformed sequence if the last call to
+     * <code>decode()</code> returned <code>MALFORMED</code>.
+     */
+    int malformedLength;
+
+    /**
+     * Decodes UTF-8 from <code>src</code> into <code>dst</code> until the
+     * input runs out, the output fills up or a malformed sequence is seen.
+     *
+     * @param src
+     *            the bytes
+     * @param sp
+     *            the index of the first byte to decode
+     * @param sl
+     *            the index after the last byte to decode
+     * @param dst
+     *            the output buffer
+     * @param dp
+     *            the index to start writing at
+     * @param dl
+     *            the index after the last writable <code>char</code>
+     * @return <code>UNDERFLOW</code>, <code>OVERFLOW</code> or
+     *         <code>MALFORMED</code>
+     */
+    int decode(byte[] src, int sp, int sl, char[] dst, int dp, int dl) {
+        malformedLength = 0;
+        for (;;) {
+            // ASCII run. Testing eight bytes at a time, with an OR of eight
+            // loads or with ByteBuffer.getLong(), measured about 15% faster
+            // on pure ASCII but 30-80% slower when non-ASCII characters
+            // come every few dozen bytes or more often, so it was rejected.
+            // HotSpot unrolls this loop.
+            int asciiEnd = sp + Math.min(sl - sp, dl - dp);
+            while (sp < asciiEnd) {
+                byte b = src[sp];
+                if (b < 0) {
+                    break;
+                }
+                dst[dp++] = (char) b;
+                sp++;
+            }
+            if (sp == sl) {
+                return done(UNDERFLOW, sp, dp);
+            }
+            int b1 = src[sp];
+            if (b1 >= 0) {
+                return done(OVERFLOW, sp, dp);
+            }
+            if ((b1 >> 5) == -2 && (b1 & 0x1E) != 0) {
+                // C2..DF
+                if (sl - sp < 2) {
+                    return done(UNDERFLOW, sp, dp);
+                }
+                if (dp == dl) {
+                    return done(OVERFLOW, sp, dp);
+                }
+                int b2 = src[sp + 1];
+                if (isNotContinuation(b2)) {
+                    return malformed(1, sp, dp);
+                }
+                dst[dp++] = (char) (((b1 & 0x1F) << 6) | (b2 & 0x3F));
+                sp += 2;
+            } else if ((b1 >> 4) == -2) {
+                // E0..EF
+                int remaining = sl - sp;
+                if (remaining < 3 || dp == dl) {
+                    if (remaining > 1 && isMalformed3Prefix(b1, src[sp + 1])) {
+                        return malformed(1, sp, dp);
+                    }
+                    return done(remaining < 3 ? UNDERFLOW : OVERFLOW, sp, dp);
+                }
+                int b2 = src[sp + 1];
+                int b3 = src[sp + 2];
+                if (isMalformed3Prefix(b1, b2)) {
+                    return malformed(1, sp, dp);
+                }
+                if (isNotContinuation(b3)) {
+                    return malformed(2, sp, dp);
+                }
+                char c = (char) (((b1 & 0x0F) << 12) | ((b2 & 0x3F) << 6) | (b3 & 0x3F));
+                if ((c & 0xF800) == 0xD800) {
+                    // Encoded surrogate
+                    return malformed(3, sp, dp);
+                }
+                dst[dp++] = c;
+                sp += 3;
+            } else if ((b1 >> 3) == -2) {
+                // F0..F7
+                int lead = b1 & 0xFF;
+                int remaining = sl - sp;
+                if (remaining < 4 || dl - dp < 2) {
+                    if (lead > 0xF4 || remaining > 1
+                            && isMalformed4Prefix(lead, src[sp + 1] & 0xFF)) {
+                        return malformed(1, sp, dp);
+                    }
+                    if (remaining > 2 && isNotContinuation(src[sp + 2])) {
+                        return malformed(2, sp, dp);
+                    }
+                    return done(remaining < 4 ? UNDERFLOW : OVERFLOW, sp, dp);
+                }
+                int b2 = src[sp + 1];
+                int b3 = src[sp + 2];
+                int b4 = src[sp + 3];
+                if (lead > 0xF4 || isMalformed4Prefix(lead, b2 & 0xFF)) {
+                    return malformed(1, sp, dp);
+                }
+                if (isNotContinuation(b3)) {
+                    return malformed(2, sp, dp);
+                }
+                if (isNotContinuation(b4)) {
+                    return malformed(3, sp, dp);
+                }
+                int cp = ((lead & 0x07) << 18) | ((b2 & 0x3F) << 12)
+                        | ((b3 & 0x3F) << 6) | (b4 & 0x3F);
+                dst[dp++] = (char) ((cp >> 10) + (0xD800 - (0x10000 >> 10)));
+                dst[dp++] = (char) (0xDC00 + (cp & 0x3FF));
+                sp += 4;
+            } else {
+                // Continuation byte or C0, C1, F8..FF
+                return malformed(1, sp, dp);
+            }
+        }
+    }
+
+    private int done(int result, int sp, int dp) {
+        srcPos = sp;
+        dstPos = dp;
+        return result;
+    }
+
+    private int malformed(int length, int sp, int dp) {
+        malformedLength = length;
+        return done(MALFORMED, sp, dp);
+    }
+
+    private static boolean isNotContinuation(int b) {
+        return (b & 0xC0) != 0x80;
+    }
+
+    private static boolean isMalformed3Prefix(int b1, int b2) {
+        return (b1 == (byte) 0xE0 && (b2 & 0xE0) == 0x80)
+                || isNotContinuation(b2);
+    }
+
+    private static boolean isMalformed4Prefix(int lead, int b2) {
+        return (lead == 0xF0 && (b2 < 0x90 || b2 > 0xBF))
+                || (lead == 0xF4 && (b2 & 0xF0) != 0x80)
+                || isNotContinuation(b2);
+    }
+}
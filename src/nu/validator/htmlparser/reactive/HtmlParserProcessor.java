@@ -0,0 +1,405 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.reactive;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedList;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import nu.validator.htmlparser.impl.ErrorReportingTokenizer;
+import nu.validator.htmlparser.impl.Tokenizer;
+import nu.validator.htmlparser.io.HtmlPushParser;
+
+import org.reactivestreams.Processor;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.xml.sax.ErrorHandler;
+
+/**
+ * A Reactive Streams processor that parses an HTML document from the
+ * <code>ByteBuffer</code>s it is subscribed to and publishes the
+ * <code>ParseEvent</code>s of the document. On Java 9 and later,
+ * <code>org.reactivestreams.FlowAdapters</code> turns it into a
+ * <code>java.util.concurrent.Flow.Processor</code>.
+ *
+ * <p>
+ * Nothing blocks and nothing is buffered without bound. One chunk is
+ * requested from upstream at a time and only when the events of the previous
+ * chunks have been delivered and the subscriber has outstanding demand.
+ * While a chunk is parsed, the tokenizer is suspended as soon as the queued
+ * events cover the demand, and the rest of the chunk waits for the next
+ * request. The tokenizer can stop after a tag, so the events of one tag and
+ * the text before it may exceed the demand; they are held until requested.
+ *
+ * <p>
+ * Like <code>HtmlParser</code> with a non-<code>ALLOW</code> streamability
+ * violation policy, the processor cannot take back published events. A
+ * document that would need content moved (foster parenting or misnested
+ * formatting elements) or a late encoding change is signaled with
+ * <code>onError()</code>.
+ *
+ * <p>
+ * An instance parses one document and accepts one subscriber. The setters
+ * must be called before subscribing.
+ *
+ * @version $Id$
+ */
+public class HtmlParserProcessor implements Processor<ByteBuffer, ParseEvent> {
+
+    private final class EventSubscription implements Subscription {
+
+        public void request(long n) {
+            if (n <= 0) {
+                demandError = new IllegalArgumentException(
+                        "Non-positive request: " + n);
+            } else {
+                for (;;) {
+                    long current = requested.get();
+                    long next = current + n;
+                    if (next < 0) {
+                        next = Long.MAX_VALUE;
+                    }
+                    if (requested.compareAndSet(current, next)) {
+                        break;
+                    }
+                }
+            }
+            drain();
+        }
+
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+    }
+
+    private static final class RejectedSubscription implements Subscription {
+
+        public void request(long n) {
+        }
+
+        public void cancel() {
+        }
+    }
+
+    private final ConcurrentLinkedQueue<ByteBuffer> chunks = new ConcurrentLinkedQueue<ByteBuffer>();
+
+    private final AtomicInteger wip = new AtomicInteger();
+
+    private final AtomicLong requested = new AtomicLong();
+
+    private final AtomicReference<Subscriber<? super ParseEvent>> downstream = new AtomicReference<Subscriber<? super ParseEvent>>();
+
+    private volatile Subscription upstream;
+
+    private volatile boolean upstreamDone;
+
+    private volatile Throwable upstreamError;
+
+    private volatile Throwable demandError;
+
+    private volatile boolean cancelled;
+
+    private String systemId;
+
+    private String encoding;
+
+    private ErrorHandler errorHandler;
+
+    // The fields below are only accessed in drain().
+
+    private final LinkedList<ParseEvent> events = new LinkedList<ParseEvent>();
+
+    private HtmlPushParser parser;
+
+    private boolean parsing;
+
+    private boolean finishing;
+
+    private boolean finished;
+
+    private boolean awaitingChunk;
+
+    /**
+     * The error to signal after the queued events or <code>null</code>.
+     */
+    private Throwable failure;
+
+    private boolean terminated;
+
+    /**
+     * Sets the system id for locators.
+     *
+     * @param systemId
+     *            the system id or <code>null</code>
+     */
+    public void setSystemId(String systemId) {
+        this.systemId = systemId;
+    }
+
+    /**
+     * Sets the externally declared encoding.
+     *
+     * @param encoding
+     *            the encoding or <code>null</code> to sniff
+     */
+    public void setEncoding(String encoding) {
+        this.encoding = encoding;
+    }
+
+    /**
+     * Sets the error handler for parse errors. If it throws, the exception
+     * is signaled with <code>onError()</code>.
+     *
+     * @param errorHandler
+     *            the error handler or <code>null</code>
+     */
+    public void setErrorHandler(ErrorHandler errorHandler) {
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * @see org.reactivestreams.Publisher#subscribe(org.reactivestreams.Subscriber)
+     */
+    public void subscribe(Subscriber<? super ParseEvent> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException();
+        }
+        if (downstream.compareAndSet(null, subscriber)) {
+            subscriber.onSubscribe(new EventSubscription());
+            drain();
+        } else {
+            subscriber.onSubscribe(new RejectedSubscription());
+            subscriber.onError(new IllegalStateException(
+                    "Only one subscriber is supported."));
+        }
+    }
+
+    /**
+     * @see org.reactivestreams.Subscriber#onSubscribe(org.reactivestreams.Subscription)
+     */
+    public void onSubscribe(Subscription subscription) {
+        if (subscription == null) {
+            throw new NullPointerException();
+        }
+        if (upstream != null) {
+            subscription.cancel();
+            return;
+        }
+        upstream = subscription;
+        drain();
+    }
+
+    /**
+     * @see org.reactivestreams.Subscriber#onNext(java.lang.Object)
+     */
+    public void onNext(ByteBuffer chunk) {
+        if (chunk == null) {
+            throw new NullPointerException();
+        }
+        chunks.offer(chunk);
+        drain();
+    }
+
+    /**
+     * @see org.reactivestreams.Subscriber#onError(java.lang.Throwable)
+     */
+    public void onError(Throwable t) {
+        if (t == null) {
+            throw new NullPointerException();
+        }
+        upstreamError = t;
+        drain();
+    }
+
+    /**
+     * @see org.reactivestreams.Subscriber#onComplete()
+     */
+    public void onComplete() {
+        upstreamDone = true;
+        drain();
+    }
+
+    /**
+     * Called by the tree builder for each event.
+     */
+    void enqueue(ParseEvent event) {
+        events.add(event);
+        if (parsing && events.size() >= requested.get()) {
+            parser.suspend();
+        }
+    }
+
+    /**
+     * Does whatever the signals so far allow. Runs on one thread at a time;
+     * a call that finds another one running leaves the work to it.
+     */
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        for (;;) {
+            if (!terminated) {
+                work();
+            }
+            missed = wip.addAndGet(-missed);
+            if (missed == 0) {
+                return;
+            }
+        }
+    }
+
+    private void work() {
+        Subscriber<? super ParseEvent> subscriber = downstream.get();
+        Subscription subscription = upstream;
+        if (subscriber == null || subscription == null) {
+            return;
+        }
+        for (;;) {
+            if (cancelled) {
+                terminated = true;
+                events.clear();
+                stopParsing(subscription);
+                return;
+            }
+            Throwable error = demandError;
+            if (error != null) {
+                terminated = true;
+                events.clear();
+                stopParsing(subscription);
+                subscriber.onError(error);
+                return;
+            }
+            if (failure == null && upstreamError != null) {
+                failure = upstreamError;
+                stopParsing(subscription);
+            }
+            while (!events.isEmpty() && requested.get() > 0) {
+                subscriber.onNext(events.removeFirst());
+                if (requested.get() != Long.MAX_VALUE) {
+                    requested.decrementAndGet();
+                }
+                if (cancelled) {
+                    break;
+                }
+            }
+            if (cancelled) {
+                continue;
+            }
+            if (!events.isEmpty()) {
+                return;
+            }
+            if (failure != null) {
+                terminated = true;
+                subscriber.onError(failure);
+                return;
+            }
+            if (finished) {
+                terminated = true;
+                subscriber.onComplete();
+                return;
+            }
+            if (requested.get() == 0) {
+                return;
+            }
+            try {
+                if (!advance(subscription)) {
+                    return;
+                }
+            } catch (Throwable t) {
+                // The parser has already abandoned the document. The events
+                // before the error are still delivered.
+                failure = t;
+                stopParsing(subscription);
+            }
+        }
+    }
+
+    /**
+     * Moves the parser forward by a step.
+     *
+     * @return <code>false</code> if nothing can be done before the next
+     *         signal
+     */
+    private boolean advance(Subscription subscription) throws Exception {
+        if (parser == null) {
+            parser = newParser();
+            parser.start(null, systemId, encoding);
+        }
+        parsing = true;
+        try {
+            if (parser.isSuspended()) {
+                parser.resume();
+            } else {
+                ByteBuffer chunk = chunks.poll();
+                if (chunk != null) {
+                    awaitingChunk = false;
+                    parser.feed(chunk);
+                } else if (upstreamDone) {
+                    finishing = true;
+                    parser.finish();
+                } else if (!awaitingChunk) {
+                    awaitingChunk = true;
+                    subscription.request(1);
+                } else {
+                    return false;
+                }
+            }
+        } finally {
+            parsing = false;
+        }
+        if (finishing && !parser.isSuspended()) {
+            finished = true;
+        }
+        return true;
+    }
+
+    private HtmlPushParser newParser() {
+        ParseEventStreamer streamer = new ParseEventStreamer(this);
+        Tokenizer tokenizer = errorHandler == null ? new Tokenizer(streamer,
+                true) : new ErrorReportingTokenizer(streamer, true);
+        HtmlPushParser pushParser = new HtmlPushParser(tokenizer);
+        pushParser.setErrorHandler(errorHandler);
+        streamer.setErrorHandler(errorHandler);
+        streamer.setIgnoringComments(false);
+        // Published events cannot be taken back.
+        pushParser.setAllowRewinding(false);
+        return pushParser;
+    }
+
+    private void stopParsing(Subscription subscription) {
+        chunks.clear();
+        subscription.cancel();
+        if (parser != null) {
+            try {
+                parser.abort();
+            } catch (Throwable t) {
+                // nowhere to report it
+            }
+        }
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.reactive;
+
+import org.xml.sax.Attributes;
+
+/**
+ * A parse event published by <code>HtmlParserProcessor</code>. The events
+ * follow the tree as the tree builder builds it, so implied start and end
+ * tags are included and every start tag has an end tag.
+ *
+ * @version $Id$
+ */
+public final class ParseEvent {
+
+    public enum Type {
+        START_TAG, END_TAG, TEXT, COMMENT
+    }
+
+    private final Type type;
+
+    private final String uri;
+
+    private final String localName;
+
+    private final Attributes attributes;
+
+    private final String text;
+
+    private ParseEvent(Type type, String uri, String localName,
+            Attributes attributes, String text) {
+        this.type = type;
+        this.uri = uri;
+        this.localName = localName;
+        this.attributes = attributes;
+        this.text = text;
+    }
+
+    static ParseEvent startTag(String uri, String localName,
+            Attributes attributes) {
+        return new ParseEvent(Type.START_TAG, uri, localName, attributes, null);
+    }
+
+    static ParseEvent endTag(String uri, String localName) {
+        return new ParseEvent(Type.END_TAG, uri, localName, null, null);
+    }
+
+    static ParseEvent text(char[] buf, int start, int length) {
+        return new ParseEvent(Type.TEXT, null, null, null, new String(buf,
+                start, length));
+    }
+
+    static ParseEvent comment(char[] buf, int start, int length) {
+        return new ParseEvent(Type.COMMENT, null, null, null, new String(buf,
+                start, length));
+    }
+
+    /**
+     * Returns the type.
+     *
+     * @return the type
+     */
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the namespace URI of a start or end tag.
+     *
+     * @return the namespace URI or <code>null</code>
+     */
+    public String getUri() {
+        return uri;
+    }
+
+    /**
+     * Returns the local name of a start or end tag.
+     *
+     * @return the local name or <code>null</code>
+     */
+    public String getLocalName() {
+        return localName;
+    }
+
+    /**
+     * Returns the attributes of a start tag. They are owned by the event.
+     *
+     * @return the attributes or <code>null</code>
+     */
+    public Attributes getAttributes() {
+        return attributes;
+    }
+
+    /**
+     * Returns the content of text or a comment. Adjacent text may come as
+     * more than one event.
+     *
+     * @return the text or <code>null</code>
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @see java.lang.Object#toString()
+     */
+    @Override public String toString() {
+        switch (type) {
+            case START_TAG:
+                return "<" + localName + ">";
+            case END_TAG:
+                return "</" + localName + ">";
+            case COMMENT:
+                return "<!--" + text + "-->";
+            default:
+                return text;
+        }
+    }
+}
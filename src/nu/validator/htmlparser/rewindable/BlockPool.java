@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+
+package nu.validator.htmlparser.rewindable;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded pool of the byte arrays that <code>RewindableInputStream</code>
+ * keeps the bytes for rewinding in. One pool may be shared by streams on
+ * different threads.
+ * 
+ * <p>
+ * Like <code>ParserPool</code>, the pool never blocks. The idle arrays are
+ * in an array of slots that are claimed and filled with compare-and-set.
+ * <code>acquire()</code> allocates when no idle array is found and
+ * <code>release()</code> drops the array when all the slots are taken.
+ * 
+ * @version $Id$
+ */
+public final class BlockPool {
+
+    /**
+     * The length of the arrays.
+     */
+    public static final int BLOCK_SIZE = 4096;
+
+    private final AtomicReferenceArray<byte[]> idle;
+
+    /**
+     * Constructor.
+     * 
+     * @param capacity
+     *            the maximum number of idle arrays
+     */
+    public BlockPool(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException(
+                    "The capacity must be at least 1.");
+        }
+        this.idle = new AtomicReferenceArray<byte[]>(capacity);
+    }
+
+    /**
+     * Returns an idle array or a new one.
+     * 
+     * @return an array of <code>BLOCK_SIZE</code> bytes
+     */
+    public byte[] acquire() {
+        for (int i = 0; i < idle.length(); i++) {
+            if (idle.get(i) != null) {
+                byte[] block = idle.getAndSet(i, null);
+                if (block != null) {
+                    return block;
+                }
+            }
+        }
+        return new byte[BLOCK_SIZE];
+    }
+
+    /**
+     * Returns the number of idle arrays. With other threads using the pool,
+     * the number may have changed by the time it is returned.
+     * 
+     * @return the number of arrays that <code>acquire()</code> can return
+     *         without allocating
+     */
+    public int getIdleCount() {
+        int count = 0;
+        for (int i = 0; i < idle.length(); i++) {
+            if (idle.get(i) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns an array to the pool. The caller must not use the array
+     * afterwards.
+     * 
+     * @param block
+     *            an array from <code>acquire()</code>
+     */
+    public void release(byte[] block) {
+        for (int i = 0; i < idle.length(); i++) {
+            if (idle.get(i) == null && idle.compareAndSet(i, null, block)) {
+                return;
+            }
+        }
+    }
+}
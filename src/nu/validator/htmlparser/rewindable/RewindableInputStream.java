@@ -36,6 +36,12 @@ package nu.validator.htmlparser.rewindable;
 import java.io.IOException;
 import java.io.InputStream;
 
+/**
+ * An input stream that keeps the bytes read from the underlying stream so
+ * that they can be read again after <code>rewind()</code>, until
+ * <code>willNotRewind()</code> is called or more bytes have been read than
+ * the stream is allowed to keep.
+ */
 public class RewindableInputStream extends InputStream implements Rewindable {
     static class Block {
         Block next;
@@ -44,14 +50,8 @@ public class RewindableInputStream extends InputStream implements Rewindable {
 
         int used = 0;
 
-        static final int MIN_SIZE = 1024;
-
-        Block(int minSize) {
-            buf = new byte[Math.max(MIN_SIZE, minSize)];
-        }
-
-        Block() {
-            this(0);
+        Block(byte[] buf) {
+            this.buf = buf;
         }
 
         void append(byte b) {
@@ -92,10 +92,44 @@ public class RewindableInputStream extends InputStream implements Rewindable {
      */
     private boolean eof;
 
+    /**
+     * The pool to take the blocks from and to return them to or null
+     */
+    private final BlockPool pool;
+
+    /**
+     * The number of bytes that may be kept
+     */
+    private final int maxSaved;
+
+    /**
+     * The number of bytes kept
+     */
+    private int saved;
+
     public RewindableInputStream(InputStream in) {
+        this(in, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * @param in
+     *            the underlying stream
+     * @param maxSaved
+     *            the number of bytes to keep at most; once more have been
+     *            read, the stream acts as if <code>willNotRewind()</code>
+     *            had been called
+     * @param pool
+     *            the pool for the blocks that keep the bytes or
+     *            <code>null</code> to allocate them
+     */
+    public RewindableInputStream(InputStream in, int maxSaved, BlockPool pool) {
         if (in == null)
             throw new NullPointerException();
+        if (maxSaved < 0)
+            throw new IllegalArgumentException("Negative maxSaved: " + maxSaved);
         this.in = in;
+        this.maxSaved = maxSaved;
+        this.pool = pool;
     }
 
     public void close() throws IOException {
@@ -104,6 +138,8 @@ public class RewindableInputStream extends InputStream implements Rewindable {
             curBlock = null;
             pretendClosed = true;
         } else {
+            for (Block b = curBlock; b != null; b = b.next)
+                release(b);
             head = null;
             curBlock = null;
             lastBlock = null;
@@ -130,6 +166,10 @@ public class RewindableInputStream extends InputStream implements Rewindable {
 
     public void willNotRewind() {
         saving = false;
+        // The blocks that are still to be read again are released as they
+        // are passed.
+        for (Block b = head; b != null && b != curBlock; b = b.next)
+            release(b);
         head = null;
         lastBlock = null;
         if (pretendClosed) {
@@ -141,25 +181,64 @@ public class RewindableInputStream extends InputStream implements Rewindable {
         }
     }
 
+    private Block newBlock() {
+        return new Block(pool == null ? new byte[BlockPool.BLOCK_SIZE]
+                : pool.acquire());
+    }
+
+    private void release(Block b) {
+        if (pool != null)
+            pool.release(b.buf);
+    }
+
+    private void nextBlock() {
+        Block done = curBlock;
+        curBlock = curBlock.next;
+        if (!saving)
+            release(done);
+        if (curBlock != null) {
+            curBlockPos = 0;
+            curBlockAvail = curBlock.used;
+        }
+    }
+
+    private void save(byte[] b, int off, int len) {
+        if (len > maxSaved - saved) {
+            willNotRewind();
+            return;
+        }
+        saved += len;
+        while (len > 0) {
+            if (lastBlock == null)
+                lastBlock = head = newBlock();
+            else if (lastBlock.used == lastBlock.buf.length)
+                lastBlock = lastBlock.next = newBlock();
+            int n = Math.min(len, lastBlock.buf.length - lastBlock.used);
+            lastBlock.append(b, off, n);
+            off += n;
+            len -= n;
+        }
+    }
+
     public int read() throws IOException {
         if (curBlockAvail > 0) {
             int c = curBlock.buf[curBlockPos++] & 0xFF;
             --curBlockAvail;
-            if (curBlockAvail == 0) {
-                curBlock = curBlock.next;
-                if (curBlock != null) {
-                    curBlockPos = 0;
-                    curBlockAvail = curBlock.used;
-                }
-            }
+            if (curBlockAvail == 0)
+                nextBlock();
             return c;
         }
         int c = in.read();
         if (saving && c != -1) {
+            if (saved == maxSaved) {
+                willNotRewind();
+                return c;
+            }
+            saved++;
             if (lastBlock == null)
-                lastBlock = head = new Block();
+                lastBlock = head = newBlock();
             else if (lastBlock.used == lastBlock.buf.length)
-                lastBlock = lastBlock.next = new Block();
+                lastBlock = lastBlock.next = newBlock();
             lastBlock.append((byte) c);
         }
         return c;
@@ -177,16 +256,17 @@ public class RewindableInputStream extends InputStream implements Rewindable {
             for (;;) {
                 if (len == 0)
                     return nRead;
-                b[off++] = curBlock.buf[curBlockPos++];
-                --len;
-                nRead++;
-                --curBlockAvail;
+                int n = Math.min(len, curBlockAvail);
+                System.arraycopy(curBlock.buf, curBlockPos, b, off, n);
+                curBlockPos += n;
+                curBlockAvail -= n;
+                off += n;
+                len -= n;
+                nRead += n;
                 if (curBlockAvail == 0) {
-                    curBlock = curBlock.next;
+                    nextBlock();
                     if (curBlock == null)
                         break;
-                    curBlockAvail = curBlock.used;
-                    curBlockPos = 0;
                 }
             }
         }
@@ -201,20 +281,8 @@ public class RewindableInputStream extends InputStream implements Rewindable {
                 return nRead > 0 ? nRead : -1;
             }
             nRead += n;
-            if (saving) {
-                if (lastBlock == null)
-                    lastBlock = head = new Block(n);
-                else if (lastBlock.buf.length - lastBlock.used < n) {
-                    if (lastBlock.used != lastBlock.buf.length) {
-                        int free = lastBlock.buf.length - lastBlock.used;
-                        lastBlock.append(b, off, free);
-                        off += free;
-                        n -= free;
-                    }
-                    lastBlock = lastBlock.next = new Block(n);
-                }
-                lastBlock.append(b, off, n);
-            }
+            if (saving)
+                save(b, off, n);
         } catch (IOException e) {
             eof = true;
             if (nRead == 0)
@@ -23,23 +23,33 @@
 
 package nu.validator.htmlparser.sax;
 
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.channels.FileChannel;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.HashMap;
+import java.util.concurrent.ExecutorService;
 
 import nu.validator.htmlparser.common.CharacterHandler;
 import nu.validator.htmlparser.common.DocumentModeHandler;
 import nu.validator.htmlparser.common.Heuristics;
+import nu.validator.htmlparser.common.Interner;
+import nu.validator.htmlparser.common.ReusableParser;
 import nu.validator.htmlparser.common.TokenHandler;
 import nu.validator.htmlparser.common.TransitionHandler;
 import nu.validator.htmlparser.common.XmlViolationPolicy;
 import nu.validator.htmlparser.impl.ErrorReportingTokenizer;
+import nu.validator.htmlparser.impl.ParseLimits;
+import nu.validator.htmlparser.impl.ParseStatistics;
 import nu.validator.htmlparser.impl.Tokenizer;
 import nu.validator.htmlparser.impl.TreeBuilder;
 import nu.validator.htmlparser.io.Driver;
+import nu.validator.htmlparser.io.MappedInputStream;
+import nu.validator.htmlparser.io.PipelinedDriver;
 import nu.validator.saxtree.Document;
 import nu.validator.saxtree.DocumentFragment;
 import nu.validator.saxtree.TreeParser;
@@ -82,10 +92,16 @@ import org.xml.sax.helpers.DefaultHandler;
  * <code>LexicalHandler</code> can be turned on by calling 
  * <code>setReportingDoctype(true)</code>.
  * 
+ * <p>An instance can parse any number of documents one after another. 
+ * The tokenizer, the tree builder and their buffers are kept from one parse 
+ * to the next as long as the configuration doesn't change. Use 
+ * <code>nu.validator.htmlparser.io.ParserPool</code> to share instances 
+ * between threads.
+ * 
  * @version $Id$
  * @author hsivonen
  */
-public class HtmlParser implements XMLReader {
+public class HtmlParser implements XMLReader, ReusableParser {
 
     private Driver driver = null;
 
@@ -133,9 +149,23 @@ public class HtmlParser implements XMLReader {
 
     private Heuristics heuristics = Heuristics.NONE;
 
+    private int maxRewindBytes = Integer.MAX_VALUE;
+
+    private boolean lazyLocations = false;
+
     private HashMap<String, String> errorProfileMap = null;
 
     private TransitionHandler transitionHandler = null;
+
+    private ExecutorService pipelineExecutor = null;
+
+    private ParseStatistics statistics = null;
+
+    private ParseLimits limits = null;
+
+    private boolean lazyAttributeValues = false;
+
+    private Interner interner = null;
     
     /**
      * Instantiates the parser with a fatal XML violation policy.
@@ -164,6 +194,13 @@ public class HtmlParser implements XMLReader {
         return tokenizer;
    }
     
+    private Driver newDriver(Tokenizer tokenizer) {
+        if (pipelineExecutor == null) {
+            return new Driver(tokenizer);
+        }
+        return new PipelinedDriver(tokenizer, pipelineExecutor);
+    }
+
     /**
      * This class wraps different tree builders depending on configuration. This 
      * method does the work of hiding this from the user of the class.
@@ -174,12 +211,12 @@ public class HtmlParser implements XMLReader {
                 this.saxTreeBuilder = new SAXTreeBuilder();
                 this.treeBuilder = this.saxTreeBuilder;
                 this.saxStreamer = null;
-                this.driver = new Driver(newTokenizer(treeBuilder, true));
+                this.driver = newDriver(newTokenizer(treeBuilder, true));
             } else {
                 this.saxStreamer = new SAXStreamer();
                 this.treeBuilder = this.saxStreamer;
                 this.saxTreeBuilder = null;
-                this.driver = new Driver(newTokenizer(treeBuilder, false));
+                this.driver = newDriver(newTokenizer(treeBuilder, false));
             }
             this.driver.setErrorHandler(errorHandler);
             this.driver.setTransitionHandler(transitionHandler);
@@ -190,7 +227,15 @@ public class HtmlParser implements XMLReader {
             this.driver.setContentSpacePolicy(contentSpacePolicy);
             this.driver.setMappingLangToXmlLang(mappingLangToXmlLang);
             this.driver.setXmlnsPolicy(xmlnsPolicy);
+            this.driver.setLazyAttributeValues(lazyAttributeValues);
+            this.driver.setInterner(interner);
             this.driver.setHeuristics(heuristics);
+            this.driver.setMaxRewindBytes(maxRewindBytes);
+            this.driver.setLazyLocations(lazyLocations);
+            if (pipelineExecutor == null) {
+                this.driver.setStatistics(statistics);
+            }
+            this.driver.setLimits(limits);
             for (CharacterHandler characterHandler : characterHandlers) {
                 this.driver.addCharacterHandler(characterHandler);
             }
@@ -488,6 +533,22 @@ public class HtmlParser implements XMLReader {
         driver.tokenize(is);
     }
 
+    /**
+     * Makes the parser ready for parsing another document while keeping its 
+     * configuration, its tokenizer and tree builder and their buffers.
+     * 
+     * @see nu.validator.htmlparser.common.ReusableParser#reset()
+     */
+    public void reset() {
+        if (saxTreeBuilder != null) {
+            // Drop the tree of a parse that failed.
+            saxTreeBuilder.getDocument();
+        }
+        if (treeBuilder != null) {
+            treeBuilder.setFragmentContext(null);
+        }
+    }
+
     /**
      * @see org.xml.sax.XMLReader#parse(java.lang.String)
      */
@@ -495,6 +556,43 @@ public class HtmlParser implements XMLReader {
         parse(new InputSource(systemId));
     }
 
+    /**
+     * Parses a local file through a memory mapping unless it is small.
+     * 
+     * @param file the file
+     * @throws IOException
+     * @throws SAXException
+     */
+    public void parse(File file) throws IOException, SAXException {
+        FileInputStream in = new FileInputStream(file);
+        try {
+            parse(in.getChannel(), file.toURI().toASCIIString());
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Parses a file channel through a memory mapping unless it is small.
+     * The channel is read from its current position to the end of the file.
+     * It is not closed and its position does not change.
+     * 
+     * @param channel the channel
+     * @throws IOException
+     * @throws SAXException
+     * @see MappedInputStream
+     */
+    public void parse(FileChannel channel) throws IOException, SAXException {
+        parse(channel, null);
+    }
+
+    private void parse(FileChannel channel, String systemId)
+            throws IOException, SAXException {
+        InputSource is = new InputSource(MappedInputStream.open(channel));
+        is.setSystemId(systemId);
+        parse(is);
+    }
+
     /**
      * @see org.xml.sax.XMLReader#setContentHandler(org.xml.sax.ContentHandler)
      */
@@ -859,6 +957,56 @@ public class HtmlParser implements XMLReader {
         return mappingLangToXmlLang;
     }
 
+    /**
+     * Sets the interner for element and attribute names that are not 
+     * built into the parser. By default, a cache shared by all parsers is 
+     * used. Passing a <code>LocalNameInterner</code> of a different size 
+     * allows the cache to be sized for a particular workload. Other 
+     * <code>Interner</code> implementations fall back to 
+     * <code>String.intern()</code>.
+     * @param interner the interner or <code>null</code> for the default
+     * @see nu.validator.htmlparser.impl.LocalNameInterner
+     */
+    public void setInterner(Interner interner) {
+        this.interner = interner;
+        if (driver != null) {
+            driver.setInterner(interner);
+        }
+    }
+
+    /**
+     * Returns the interner set with <code>setInterner()</code>.
+     * 
+     * @return the interner or <code>null</code>
+     */
+    public Interner getInterner() {
+        return interner;
+    }
+
+    /**
+     * Whether attribute values are turned into <code>String</code>s only 
+     * when read through <code>Attributes</code>. Useful when only a few of 
+     * the attribute values are looked at.
+     * @param lazyAttributeValues
+     * @see nu.validator.htmlparser.impl.Tokenizer#setLazyAttributeValues(boolean)
+     */
+    public void setLazyAttributeValues(boolean lazyAttributeValues) {
+        this.lazyAttributeValues = lazyAttributeValues;
+        if (driver != null) {
+            driver.setLazyAttributeValues(lazyAttributeValues);
+        }
+    }
+
+    /**
+     * Whether attribute values are turned into <code>String</code>s only 
+     * when read.
+     * 
+     * @return the lazyAttributeValues
+     */
+    public boolean isLazyAttributeValues() {
+        return lazyAttributeValues;
+    }
+
     /**
      * Whether the <code>xmlns</code> attribute on the root element is 
      * passed to through. (FATAL not allowed.)
@@ -978,6 +1126,119 @@ public class HtmlParser implements XMLReader {
         return this.heuristics;
     }
 
+    /**
+     * Sets the number of bytes that are kept for reparsing the document when
+     * a <code>meta</code> element declares an encoding other than the one in
+     * use.
+     * 
+     * @param maxRewindBytes the number of bytes
+     * @see nu.validator.htmlparser.io.Driver#setMaxRewindBytes(int)
+     */
+    public void setMaxRewindBytes(int maxRewindBytes) {
+        if (maxRewindBytes < 0) {
+            throw new IllegalArgumentException(
+                    "The number of bytes must not be negative.");
+        }
+        this.maxRewindBytes = maxRewindBytes;
+        if (driver != null) {
+            driver.setMaxRewindBytes(maxRewindBytes);
+        }
+    }
+
+    public int getMaxRewindBytes() {
+        return this.maxRewindBytes;
+    }
+
+    /**
+     * Sets whether the line and column of errors are computed from an index
+     * of line starts when an error is reported instead of being tracked for
+     * every character. The locations are the same either way.
+     * 
+     * @param lazyLocations <code>true</code> to compute locations when needed
+     * @see nu.validator.htmlparser.impl.ErrorReportingTokenizer#setLazyLocations(boolean)
+     */
+    public void setLazyLocations(boolean lazyLocations) {
+        this.lazyLocations = lazyLocations;
+        if (driver != null) {
+            driver.setLazyLocations(lazyLocations);
+        }
+    }
+
+    public boolean isLazyLocations() {
+        return this.lazyLocations;
+    }
+
+    /**
+     * Sets the executor for tokenizing on a second thread while the tree is
+     * built on the calling thread. <code>null</code> (the default) means
+     * parsing on the calling thread only.
+     * 
+     * @param executor the executor or <code>null</code>
+     * @see nu.validator.htmlparser.io.PipelinedDriver
+     */
+    public void setPipelineExecutor(ExecutorService executor) {
+        this.pipelineExecutor = executor;
+        driver = null;
+    }
+
+    /**
+     * Returns the executor for tokenizing on a second thread.
+     * 
+     * @return the executor or <code>null</code>
+     */
+    public ExecutorService getPipelineExecutor() {
+        return pipelineExecutor;
+    }
+
+    /**
+     * Sets the statistics to fill in during each parse. They are cleared at 
+     * the start of each parse. <code>null</code> (the default) means no 
+     * statistics are collected. Statistics are not collected when a 
+     * pipeline executor has been set.
+     * 
+     * @param statistics the statistics or <code>null</code>
+     * @see nu.validator.htmlparser.impl.ParseStatistics
+     */
+    public void setParseStatistics(ParseStatistics statistics) {
+        this.statistics = statistics;
+        if (driver != null && pipelineExecutor == null) {
+            driver.setStatistics(statistics);
+        }
+    }
+
+    /**
+     * Returns the statistics filled in during each parse.
+     * 
+     * @return the statistics or <code>null</code>
+     */
+    public ParseStatistics getParseStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Sets the resource limits for each parse. <code>null</code> (the 
+     * default) means nothing is limited. A parse that goes over a limit 
+     * throws a <code>ParseLimitExceededException</code>.
+     * 
+     * @param limits the limits or <code>null</code>
+     * @see nu.validator.htmlparser.impl.ParseLimits
+     */
+    public void setParseLimits(ParseLimits limits) {
+        this.limits = limits;
+        if (driver != null) {
+            driver.setLimits(limits);
+        }
+    }
+
+    /**
+     * Returns the resource limits for each parse.
+     * 
+     * @return the limits or <code>null</code>
+     */
+    public ParseLimits getParseLimits() {
+        return limits;
+    }
+
     /**
      * This is a catch-all convenience method for setting name, xmlns, content space, 
      * content non-XML char and comment policies in one go. This does not affect the 
@@ -0,0 +1,206 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.treeop;
+
+import nu.validator.htmlparser.common.DocumentMode;
+import nu.validator.htmlparser.impl.HtmlAttributes;
+
+import org.xml.sax.SAXException;
+
+/**
+ * Builds a tree by applying the logs of a <code>TreeOpBuilder</code>. The
+ * abstract methods correspond to the tree builder methods of the same names
+ * and are called in the same order as they would have been called on a tree
+ * builder for the target model. An element gets all its attributes at once
+ * when it is created.
+ *
+ * <p>The applier doesn't have to run on the parsing thread, but the logs of
+ * one parse have to be applied in order by one applier instance.
+ *
+ * @version $Id$
+ */
+public abstract class TreeOpApplier<T> {
+
+    private Object[] nodes = new Object[256];
+
+    /**
+     * Applies a log.
+     *
+     * @param log
+     *            the log taken from the tree op builder
+     * @throws SAXException
+     *             if a method of the subclass threw
+     */
+    public void apply(TreeOpLog log) throws SAXException {
+        if (log.handleLimit > nodes.length) {
+            int grown = nodes.length + (nodes.length >> 1);
+            Object[] newNodes = new Object[grown < log.handleLimit ? log.handleLimit
+                    : grown];
+            System.arraycopy(nodes, 0, newNodes, 0, nodes.length);
+            nodes = newNodes;
+        }
+        int[] ops = log.ops;
+        int opsLength = log.opsLength;
+        Object[] objects = log.objects;
+        char[] text = log.text;
+        int o = 0;
+        int i = 0;
+        while (i < opsLength) {
+            switch (ops[i]) {
+                case TreeOpLog.CREATE_ELEMENT:
+                    nodes[ops[i + 1]] = createElement((String) objects[o],
+                            (String) objects[o + 1],
+                            (HtmlAttributes) objects[o + 2],
+                            ops[i + 2] == -1 ? null : node(ops[i + 2]));
+                    o += 3;
+                    i += 3;
+                    break;
+                case TreeOpLog.CREATE_HTML_ELEMENT_SET_AS_ROOT:
+                    nodes[ops[i + 1]] = createHtmlElementSetAsRoot((HtmlAttributes) objects[o]);
+                    o++;
+                    i += 2;
+                    break;
+                case TreeOpLog.APPEND_ELEMENT:
+                    appendElement(node(ops[i + 1]), node(ops[i + 2]));
+                    i += 3;
+                    break;
+                case TreeOpLog.APPEND_CHILDREN_TO_NEW_PARENT:
+                    appendChildrenToNewParent(node(ops[i + 1]),
+                            node(ops[i + 2]));
+                    i += 3;
+                    break;
+                case TreeOpLog.INSERT_FOSTER_PARENTED_CHILD:
+                    insertFosterParentedChild(node(ops[i + 1]),
+                            node(ops[i + 2]), node(ops[i + 3]));
+                    i += 4;
+                    break;
+                case TreeOpLog.DETACH_FROM_PARENT:
+                    detachFromParent(node(ops[i + 1]));
+                    i += 2;
+                    break;
+                case TreeOpLog.APPEND_CHARACTERS:
+                    appendCharacters(node(ops[i + 1]), text, ops[i + 2],
+                            ops[i + 3]);
+                    i += 4;
+                    break;
+                case TreeOpLog.INSERT_FOSTER_PARENTED_CHARACTERS:
+                    insertFosterParentedCharacters(text, ops[i + 1],
+                            ops[i + 2], node(ops[i + 3]), node(ops[i + 4]));
+                    i += 5;
+                    break;
+                case TreeOpLog.APPEND_COMMENT:
+                    appendComment(node(ops[i + 1]), text, ops[i + 2],
+                            ops[i + 3]);
+                    i += 4;
+                    break;
+                case TreeOpLog.APPEND_COMMENT_TO_DOCUMENT:
+                    appendCommentToDocument(text, ops[i + 1], ops[i + 2]);
+                    i += 3;
+                    break;
+                case TreeOpLog.ADD_ATTRIBUTES_TO_ELEMENT:
+                    addAttributesToElement(node(ops[i + 1]),
+                            (HtmlAttributes) objects[o]);
+                    o++;
+                    i += 2;
+                    break;
+                case TreeOpLog.MARK_MALFORMED_IF_SCRIPT:
+                    markMalformedIfScript(node(ops[i + 1]));
+                    i += 2;
+                    break;
+                case TreeOpLog.APPEND_DOCTYPE_TO_DOCUMENT:
+                    appendDoctypeToDocument((String) objects[o],
+                            (String) objects[o + 1], (String) objects[o + 2]);
+                    o += 3;
+                    i++;
+                    break;
+                case TreeOpLog.DOCUMENT_MODE:
+                    documentMode((DocumentMode) objects[o],
+                            (String) objects[o + 1], (String) objects[o + 2]);
+                    o += 3;
+                    i++;
+                    break;
+                default:
+                    throw new IllegalStateException("Bad tree op.");
+            }
+        }
+    }
+
+    /**
+     * Returns the node for a handle. The root element is handle 0.
+     *
+     * @param handle
+     *            the handle
+     * @return the node
+     */
+    @SuppressWarnings("unchecked") protected final T node(int handle) {
+        return (T) nodes[handle];
+    }
+
+    protected abstract T createElement(String ns, String name,
+            HtmlAttributes attributes, T form) throws SAXException;
+
+    protected abstract T createHtmlElementSetAsRoot(HtmlAttributes attributes)
+            throws SAXException;
+
+    protected abstract void appendElement(T child, T newParent)
+            throws SAXException;
+
+    protected abstract void appendChildrenToNewParent(T oldParent, T newParent)
+            throws SAXException;
+
+    protected abstract void insertFosterParentedChild(T child, T table,
+            T stackParent) throws SAXException;
+
+    protected abstract void detachFromParent(T element) throws SAXException;
+
+    protected abstract void appendCharacters(T parent, char[] buf, int start,
+            int length) throws SAXException;
+
+    protected abstract void insertFosterParentedCharacters(char[] buf,
+            int start, int length, T table, T stackParent)
+            throws SAXException;
+
+    protected abstract void appendComment(T parent, char[] buf, int start,
+            int length) throws SAXException;
+
+    protected abstract void appendCommentToDocument(char[] buf, int start,
+            int length) throws SAXException;
+
+    protected abstract void addAttributesToElement(T element,
+            HtmlAttributes attributes) throws SAXException;
+
+    protected void markMalformedIfScript(T elt) throws SAXException {
+
+    }
+
+    protected void appendDoctypeToDocument(String name,
+            String publicIdentifier, String systemIdentifier)
+            throws SAXException {
+
+    }
+
+    protected void documentMode(DocumentMode m, String publicIdentifier,
+            String systemIdentifier) throws SAXException {
+
+    }
+}
@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.treeop;
+
+import nu.validator.htmlparser.common.DocumentMode;
+import nu.validator.htmlparser.impl.HtmlAttributes;
+import nu.validator.htmlparser.impl.TreeBuilder;
+
+import org.xml.sax.SAXException;
+
+/**
+ * A tree builder that does not build a tree but records the tree operations
+ * into a <code>TreeOpLog</code>. The nodes are <code>Integer</code> handles
+ * that a <code>TreeOpApplier</code> maps to the nodes of the real tree when
+ * it applies the log.
+ *
+ * <p>The attributes passed to the tree builder are kept in the log, so the
+ * tokenizer has to be created with <code>newAttributesEachTime</code> set
+ * to <code>true</code>.
+ *
+ * <p>The operations since the previous call can be taken with
+ * <code>takeLog()</code> between calls into the tree builder, e.g. between
+ * the buffers of a push parse, to apply a document in batches while it is
+ * still being parsed.
+ *
+ * <p>The builder keeps track of which element is a child of which, so that
+ * it can tell whether an element has children without the tree.
+ *
+ * @version $Id$
+ */
+public class TreeOpBuilder extends TreeBuilder<Integer> {
+
+    private static final int NONE = -1;
+
+    private TreeOpLog log = new TreeOpLog();
+
+    private int nextHandle = 0;
+
+    /**
+     * The parent of each element handle or <code>NONE</code>.
+     */
+    private int[] parents = new int[64];
+
+    /**
+     * The first element child of each element handle or <code>NONE</code>.
+     * The order of the children is not kept.
+     */
+    private int[] firstChildren = new int[64];
+
+    private int[] nextSiblings = new int[64];
+
+    private int[] previousSiblings = new int[64];
+
+    /**
+     * Whether each element handle has text or comment children.
+     */
+    private boolean[] otherChildren = new boolean[64];
+
+    /**
+     * The constructor.
+     */
+    public TreeOpBuilder() {
+        super();
+    }
+
+    /**
+     * Returns the operations recorded since the previous call and starts a
+     * new log. The handles of the next log continue from the handles of
+     * this one, so the logs of a parse have to be applied in order by the
+     * same applier.
+     *
+     * @return the log
+     */
+    public TreeOpLog takeLog() {
+        TreeOpLog rv = log;
+        rv.handleLimit = nextHandle;
+        log = new TreeOpLog();
+        return rv;
+    }
+
+    private Integer newHandle() {
+        int node = nextHandle++;
+        if (node == parents.length) {
+            int newLength = node + (node >> 1);
+            parents = grow(parents, node, newLength);
+            firstChildren = grow(firstChildren, node, newLength);
+            nextSiblings = grow(nextSiblings, node, newLength);
+            previousSiblings = grow(previousSiblings, node, newLength);
+            boolean[] newOtherChildren = new boolean[newLength];
+            System.arraycopy(otherChildren, 0, newOtherChildren, 0, node);
+            otherChildren = newOtherChildren;
+        }
+        parents[node] = NONE;
+        firstChildren[node] = NONE;
+        nextSiblings[node] = NONE;
+        previousSiblings[node] = NONE;
+        otherChildren[node] = false;
+        return Integer.valueOf(node);
+    }
+
+    private static int[] grow(int[] array, int length, int newLength) {
+        int[] newArray = new int[newLength];
+        System.arraycopy(array, 0, newArray, 0, length);
+        return newArray;
+    }
+
+    private void detach(int node) {
+        int parent = parents[node];
+        if (parent == NONE) {
+            return;
+        }
+        int previous = previousSiblings[node];
+        int next = nextSiblings[node];
+        if (previous == NONE) {
+            firstChildren[parent] = next;
+        } else {
+            nextSiblings[previous] = next;
+        }
+        if (next != NONE) {
+            previousSiblings[next] = previous;
+        }
+        parents[node] = NONE;
+        nextSiblings[node] = NONE;
+        previousSiblings[node] = NONE;
+    }
+
+    private void link(int node, int parent) {
+        detach(node);
+        int first = firstChildren[parent];
+        if (first != NONE) {
+            previousSiblings[first] = node;
+        }
+        nextSiblings[node] = first;
+        firstChildren[parent] = node;
+        parents[node] = parent;
+    }
+
+    /**
+     * Returns the parent that foster parenting next to <code>table</code>
+     * inserts into.
+     */
+    private int fosterParent(int table, int stackParent) {
+        int parent = parents[table];
+        return parent == NONE ? stackParent : parent;
+    }
+
+    private static int handle(Integer node) {
+        return node == null ? -1 : node.intValue();
+    }
+
+    @Override protected void start(boolean fragmentMode) throws SAXException {
+        log = new TreeOpLog();
+        nextHandle = 0;
+    }
+
+
+    @Override protected final void accumulateCharacters(char[] buf, int start,
+            int length) throws SAXException {
+        // Coalesce text until it is flushed like CoalescingTreeBuilder.
+        System.arraycopy(buf, start, charBuffer, charBufferLen, length);
+        charBufferLen += length;
+    }
+
+    @Override protected Integer createElement(String ns, String name,
+            HtmlAttributes attributes, Integer intendedParent)
+            throws SAXException {
+        return createElement(ns, name, attributes, null, intendedParent);
+    }
+
+    @Override protected Integer createElement(String ns, String name,
+            HtmlAttributes attributes, Integer form, Integer intendedParent)
+            throws SAXException {
+        Integer rv = newHandle();
+        log.add(TreeOpLog.CREATE_ELEMENT, rv.intValue(), handle(form));
+        log.addObject(ns);
+        log.addObject(name);
+        log.addObject(attributes);
+        return rv;
+    }
+
+    @Override protected Integer createHtmlElementSetAsRoot(
+            HtmlAttributes attributes) throws SAXException {
+        Integer rv = newHandle();
+        log.add(TreeOpLog.CREATE_HTML_ELEMENT_SET_AS_ROOT, rv.intValue());
+        log.addObject(attributes);
+        return rv;
+    }
+
+    @Override protected void detachFromParent(Integer element)
+            throws SAXException {
+        detach(element.intValue());
+        log.add(TreeOpLog.DETACH_FROM_PARENT, element.intValue());
+    }
+
+    @Override protected boolean hasChildren(Integer element)
+            throws SAXException {
+        int node = element.intValue();
+        return firstChildren[node] != NONE || otherChildren[node];
+    }
+
+    @Override protected void appendElement(Integer child, Integer newParent)
+            throws SAXException {
+        link(child.intValue(), newParent.intValue());
+        log.add(TreeOpLog.APPEND_ELEMENT, child.intValue(),
+                newParent.intValue());
+    }
+
+    @Override protected void appendChildrenToNewParent(Integer oldParent,
+            Integer newParent) throws SAXException {
+        int from = oldParent.intValue();
+        int to = newParent.intValue();
+        int child;
+        while ((child = firstChildren[from]) != NONE) {
+            link(child, to);
+        }
+        if (otherChildren[from]) {
+            otherChildren[from] = false;
+            otherChildren[to] = true;
+        }
+        log.add(TreeOpLog.APPEND_CHILDREN_TO_NEW_PARENT, from, to);
+    }
+
+    @Override protected void insertFosterParentedChild(Integer child,
+            Integer table, Integer stackParent) throws SAXException {
+        link(child.intValue(), fosterParent(table.intValue(),
+                stackParent.intValue()));
+        log.add(TreeOpLog.INSERT_FOSTER_PARENTED_CHILD, child.intValue(),
+                table.intValue(), stackParent.intValue());
+    }
+
+    @Override protected Integer createAndInsertFosterParentedElement(
+            String ns, String name, HtmlAttributes attributes, Integer table,
+            Integer stackParent) throws SAXException {
+        return createAndInsertFosterParentedElement(ns, name, attributes,
+                null, table, stackParent);
+    }
+
+    @Override protected Integer createAndInsertFosterParentedElement(
+            String ns, String name, HtmlAttributes attributes, Integer form,
+            Integer table, Integer stackParent) throws SAXException {
+        Integer rv = createElement(ns, name, attributes, form, null);
+        insertFosterParentedChild(rv, table, stackParent);
+        return rv;
+    }
+
+    @Override protected void insertFosterParentedCharacters(char[] buf,
+            int start, int length, Integer table, Integer stackParent)
+            throws SAXException {
+        otherChildren[fosterParent(table.intValue(), stackParent.intValue())] = true;
+        log.add(TreeOpLog.INSERT_FOSTER_PARENTED_CHARACTERS, log.addText(buf,
+                start, length), length, table.intValue(),
+                stackParent.intValue());
+    }
+
+    @Override protected void appendCharacters(Integer parent, char[] buf,
+            int start, int length) throws SAXException {
+        otherChildren[parent.intValue()] = true;
+        log.add(TreeOpLog.APPEND_CHARACTERS, parent.intValue(), log.addText(
+                buf, start, length), length);
+    }
+
+    @Override protected void appendComment(Integer parent, char[] buf,
+            int start, int length) throws SAXException {
+        otherChildren[parent.intValue()] = true;
+        log.add(TreeOpLog.APPEND_COMMENT, parent.intValue(), log.addText(buf,
+                start, length), length);
+    }
+
+    @Override protected void appendCommentToDocument(char[] buf, int start,
+            int length) throws SAXException {
+        log.add(TreeOpLog.APPEND_COMMENT_TO_DOCUMENT, log.addText(buf, start,
+                length), length);
+    }
+
+    @Override protected void addAttributesToElement(Integer element,
+            HtmlAttributes attributes) throws SAXException {
+        log.add(TreeOpLog.ADD_ATTRIBUTES_TO_ELEMENT, element.intValue());
+        log.addObject(attributes);
+    }
+
+    @Override protected void markMalformedIfScript(Integer elt)
+            throws SAXException {
+        log.add(TreeOpLog.MARK_MALFORMED_IF_SCRIPT, elt.intValue());
+    }
+
+    @Override protected void appendDoctypeToDocument(String name,
+            String publicIdentifier, String systemIdentifier)
+            throws SAXException {
+        log.add(TreeOpLog.APPEND_DOCTYPE_TO_DOCUMENT);
+        log.addObject(name);
+        log.addObject(publicIdentifier);
+        log.addObject(systemIdentifier);
+    }
+
+    @Override protected void documentMode(DocumentMode m,
+            String publicIdentifier, String systemIdentifier)
+            throws SAXException {
+        log.add(TreeOpLog.DOCUMENT_MODE);
+        log.addObject(m);
+        log.addObject(publicIdentifier);
+        log.addObject(systemIdentifier);
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.treeop;
+
+/**
+ * A batch of tree operations recorded by <code>TreeOpBuilder</code>. Nodes
+ * are referred to by <code>int</code> handles, the operations and their
+ * operands are in an <code>int</code> array, the text of text and comment
+ * nodes is in a <code>char</code> array and the names, attributes and other
+ * objects are in an <code>Object</code> array in the order the operations
+ * use them.
+ *
+ * <p>A log is not modified after it has been taken from the builder, so it
+ * can be handed over to another thread for applying.
+ *
+ * @version $Id$
+ */
+public final class TreeOpLog {
+
+    // Operands in ops; objects in objects.
+
+    /**
+     * handle, form handle or -1; namespace, local name, attributes
+     */
+    static final int CREATE_ELEMENT = 0;
+
+    /**
+     * handle; attributes
+     */
+    static final int CREATE_HTML_ELEMENT_SET_AS_ROOT = 1;
+
+    /**
+     * child, new parent
+     */
+    static final int APPEND_ELEMENT = 2;
+
+    /**
+     * old parent, new parent
+     */
+    static final int APPEND_CHILDREN_TO_NEW_PARENT = 3;
+
+    /**
+     * child, table, stack parent
+     */
+    static final int INSERT_FOSTER_PARENTED_CHILD = 4;
+
+    /**
+     * element
+     */
+    static final int DETACH_FROM_PARENT = 5;
+
+    /**
+     * parent, text start, text length
+     */
+    static final int APPEND_CHARACTERS = 6;
+
+    /**
+     * text start, text length, table, stack parent
+     */
+    static final int INSERT_FOSTER_PARENTED_CHARACTERS = 7;
+
+    /**
+     * parent, text start, text length
+     */
+    static final int APPEND_COMMENT = 8;
+
+    /**
+     * text start, text length
+     */
+    static final int APPEND_COMMENT_TO_DOCUMENT = 9;
+
+    /**
+     * element; attributes
+     */
+    static final int ADD_ATTRIBUTES_TO_ELEMENT = 10;
+
+    /**
+     * element
+     */
+    static final int MARK_MALFORMED_IF_SCRIPT = 11;
+
+    /**
+     * (none); name, public identifier, system identifier
+     */
+    static final int APPEND_DOCTYPE_TO_DOCUMENT = 12;
+
+    /**
+     * (none); document mode, public identifier, system identifier
+     */
+    static final int DOCUMENT_MODE = 13;
+
+    int[] ops = new int[1024];
+
+    int opsLength = 0;
+
+    int opCount = 0;
+
+    Object[] objects = new Object[256];
+
+    int objectsLength = 0;
+
+    char[] text = new char[1024];
+
+    int textLength = 0;
+
+    /**
+     * One more than the largest handle that the operations may refer to.
+     */
+    int handleLimit = 0;
+
+    TreeOpLog() {
+    }
+
+    /**
+     * Returns the number of operations.
+     *
+     * @return the number of operations
+     */
+    public int getOperationCount() {
+        return opCount;
+    }
+
+    private void ensureOps(int count) {
+        if (opsLength + count > ops.length) {
+            int[] newOps = new int[ops.length + (ops.length >> 1) + count];
+            System.arraycopy(ops, 0, newOps, 0, opsLength);
+            ops = newOps;
+        }
+    }
+
+    void add(int op, int a) {
+        ensureOps(2);
+        ops[opsLength++] = op;
+        ops[opsLength++] = a;
+        opCount++;
+    }
+
+    void add(int op, int a, int b) {
+        ensureOps(3);
+        ops[opsLength++] = op;
+        ops[opsLength++] = a;
+        ops[opsLength++] = b;
+        opCount++;
+    }
+
+    void add(int op, int a, int b, int c) {
+        ensureOps(4);
+        ops[opsLength++] = op;
+        ops[opsLength++] = a;
+        ops[opsLength++] = b;
+        ops[opsLength++] = c;
+        opCount++;
+    }
+
+    void add(int op, int a, int b, int c, int d) {
+        ensureOps(5);
+        ops[opsLength++] = op;
+        ops[opsLength++] = a;
+        ops[opsLength++] = b;
+        ops[opsLength++] = c;
+        ops[opsLength++] = d;
+        opCount++;
+    }
+
+    void add(int op) {
+        ensureOps(1);
+        ops[opsLength++] = op;
+        opCount++;
+    }
+
+    void addObject(Object object) {
+        if (objectsLength == objects.length) {
+            Object[] newObjects = new Object[objectsLength
+                    + (objectsLength >> 1)];
+            System.arraycopy(objects, 0, newObjects, 0, objectsLength);
+            objects = newObjects;
+        }
+        objects[objectsLength++] = object;
+    }
+
+    /**
+     * Copies text to the end of the text array.
+     *
+     * @return the start of the copy
+     */
+    int addText(char[] buf, int start, int length) {
+        int newLength = textLength + length;
+        if (newLength > text.length) {
+            int grown = text.length + (text.length >> 1);
+            char[] newText = new char[grown < newLength ? newLength : grown];
+            System.arraycopy(text, 0, newText, 0, textLength);
+            text = newText;
+        }
+        System.arraycopy(buf, start, text, textLength, length);
+        int offset = textLength;
+        textLength = newLength;
+        return offset;
+    }
+}
@@ -31,18 +31,25 @@ import java.io.Reader;
 import java.io.StringReader;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.channels.FileChannel;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
 
 import nu.validator.htmlparser.common.CharacterHandler;
 import nu.validator.htmlparser.common.DocumentModeHandler;
 import nu.validator.htmlparser.common.Heuristics;
+import nu.validator.htmlparser.common.ReusableParser;
 import nu.validator.htmlparser.common.TokenHandler;
 import nu.validator.htmlparser.common.TransitionHandler;
 import nu.validator.htmlparser.common.XmlViolationPolicy;
 import nu.validator.htmlparser.impl.ErrorReportingTokenizer;
+import nu.validator.htmlparser.impl.ParseLimits;
+import nu.validator.htmlparser.impl.ParseStatistics;
 import nu.validator.htmlparser.impl.Tokenizer;
 import nu.validator.htmlparser.io.Driver;
+import nu.validator.htmlparser.io.MappedInputStream;
+import nu.validator.htmlparser.io.PipelinedDriver;
 import nu.xom.Builder;
 import nu.xom.Document;
 import nu.xom.Nodes;
@@ -78,10 +85,16 @@ import org.xml.sax.SAXParseException;
  * XOM node factory may return multiple nodes instead of one confusing 
  * the assumptions of the DOM-oriented HTML5 parsing algorithm.
  * 
+ * <p>An instance can parse any number of documents one after another. 
+ * The tokenizer, the tree builder and their buffers are kept from one parse 
+ * to the next as long as the configuration doesn't change. Use 
+ * <code>nu.validator.htmlparser.io.ParserPool</code> to share instances 
+ * between threads.
+ * 
  * @version $Id$
  * @author hsivonen
  */
-public class HtmlBuilder extends Builder {
+public class HtmlBuilder extends Builder implements ReusableParser {
 
     private Driver driver;
 
@@ -121,7 +134,17 @@ public class HtmlBuilder extends Builder {
 
     private Heuristics heuristics = Heuristics.NONE;
 
+    private int maxRewindBytes = Integer.MAX_VALUE;
+
+    private boolean lazyLocations = false;
+
     private TransitionHandler transitionHandler = null;
+
+    private ExecutorService pipelineExecutor = null;
+
+    private ParseStatistics statistics = null;
+
+    private ParseLimits limits = null;
     
     /**
      * Constructor with default node factory and fatal XML violation policy.
@@ -174,7 +197,12 @@ public class HtmlBuilder extends Builder {
      */
     private void lazyInit() {
         if (driver == null) {
-            this.driver = new Driver(newTokenizer(treeBuilder, false));
+            if (pipelineExecutor == null) {
+                this.driver = new Driver(newTokenizer(treeBuilder, false));
+            } else {
+                this.driver = new PipelinedDriver(newTokenizer(
+                        treeBuilder, false), pipelineExecutor);
+            }
             this.driver.setErrorHandler(errorHandler);
             this.driver.setTransitionHandler(transitionHandler);
             this.treeBuilder.setErrorHandler(treeBuilderErrorHandler);
@@ -185,6 +213,12 @@ public class HtmlBuilder extends Builder {
             this.driver.setMappingLangToXmlLang(mappingLangToXmlLang);
             this.driver.setXmlnsPolicy(xmlnsPolicy);
             this.driver.setHeuristics(heuristics);
+            this.driver.setMaxRewindBytes(maxRewindBytes);
+            this.driver.setLazyLocations(lazyLocations);
+            if (pipelineExecutor == null) {
+                this.driver.setStatistics(statistics);
+            }
+            this.driver.setLimits(limits);
             for (CharacterHandler characterHandler : characterHandlers) {
                 this.driver.addCharacterHandler(characterHandler);
             }
@@ -228,6 +262,18 @@ public class HtmlBuilder extends Builder {
         }
     }
 
+    /**
+     * Makes the builder ready for parsing another document while keeping 
+     * its configuration, its tokenizer and tree builder and their buffers.
+     * 
+     * @see nu.validator.htmlparser.common.ReusableParser#reset()
+     */
+    public void reset() {
+        // Drop the tree of a parse that failed.
+        treeBuilder.getDocument();
+        treeBuilder.setFragmentContext(null);
+    }
+
     /**
      * Parse from SAX <code>InputSource</code>.
      * @param is the <code>InputSource</code>
@@ -277,7 +323,8 @@ public class HtmlBuilder extends Builder {
     }
     
     /**
-     * Parse from <code>File</code>.
+     * Parse from <code>File</code>. The file is read through a memory
+     * mapping unless it is small.
      * @param file the file
      * @return the document
      * @throws ParsingException in case of an XML violation
@@ -287,7 +334,44 @@ public class HtmlBuilder extends Builder {
     @Override
     public Document build(File file) throws ParsingException,
             ValidityException, IOException {
-        return build(new FileInputStream(file), file.toURI().toASCIIString());
+        FileInputStream in = new FileInputStream(file);
+        try {
+            return build(in.getChannel(), file.toURI().toASCIIString());
+        } finally {
+            in.close();
+        }
+    }
+
+    /**
+     * Parse from <code>FileChannel</code> through a memory mapping unless it
+     * is small. The channel is read from its current position to the end of
+     * the file. It is not closed and its position does not change.
+     * @param channel the channel
+     * @param uri the base URI
+     * @return the document
+     * @throws ParsingException in case of an XML violation
+     * @throws IOException if IO goes wrang
+     * @see MappedInputStream
+     */
+    public Document build(FileChannel channel, String uri)
+            throws ParsingException, IOException {
+        InputSource is = new InputSource(MappedInputStream.open(channel));
+        is.setSystemId(uri);
+        return build(is);
+    }
+
+    /**
+     * Parse from <code>FileChannel</code> through a memory mapping unless it
+     * is small.
+     * @param channel the channel
+     * @return the document
+     * @throws ParsingException in case of an XML violation
+     * @throws IOException if IO goes wrang
+     * @see #build(FileChannel, String)
+     */
+    public Document build(FileChannel channel) throws ParsingException,
+            IOException {
+        return build(channel, null);
     }
 
     /**
@@ -659,6 +743,119 @@ public class HtmlBuilder extends Builder {
         return this.heuristics;
     }
 
+    /**
+     * Sets the number of bytes that are kept for reparsing the document when
+     * a <code>meta</code> element declares an encoding other than the one in
+     * use.
+     * 
+     * @param maxRewindBytes the number of bytes
+     * @see nu.validator.htmlparser.io.Driver#setMaxRewindBytes(int)
+     */
+    public void setMaxRewindBytes(int maxRewindBytes) {
+        if (maxRewindBytes < 0) {
+            throw new IllegalArgumentException(
+                    "The number of bytes must not be negative.");
+        }
+        this.maxRewindBytes = maxRewindBytes;
+        if (driver != null) {
+            driver.setMaxRewindBytes(maxRewindBytes);
+        }
+    }
+
+    public int getMaxRewindBytes() {
+        return this.maxRewindBytes;
+    }
+
+    /**
+     * Sets whether the line and column of errors are computed from an index
+     * of line starts when an error is reported instead of being tracked for
+     * every character. The locations are the same either way.
+     * 
+     * @param lazyLocations <code>true</code> to compute locations when needed
+     * @see nu.validator.htmlparser.impl.ErrorReportingTokenizer#setLazyLocations(boolean)
+     */
+    public void setLazyLocations(boolean lazyLocations) {
+        this.lazyLocations = lazyLocations;
+        if (driver != null) {
+            driver.setLazyLocations(lazyLocations);
+        }
+    }
+
+    public boolean isLazyLocations() {
+        return this.lazyLocations;
+    }
+
+    /**
+     * Sets the executor for tokenizing on a second thread while the tree is
+     * built on the calling thread. <code>null</code> (the default) means
+     * parsing on the calling thread only.
+     * 
+     * @param executor the executor or <code>null</code>
+     * @see nu.validator.htmlparser.io.PipelinedDriver
+     */
+    public void setPipelineExecutor(ExecutorService executor) {
+        this.pipelineExecutor = executor;
+        driver = null;
+    }
+
+    /**
+     * Returns the executor for tokenizing on a second thread.
+     * 
+     * @return the executor or <code>null</code>
+     */
+    public ExecutorService getPipelineExecutor() {
+        return pipelineExecutor;
+    }
+
+    /**
+     * Sets the statistics to fill in during each parse. They are cleared at 
+     * the start of each parse. <code>null</code> (the default) means no 
+     * statistics are collected. Statistics are not collected when a 
+     * pipeline executor has been set.
+     * 
+     * @param statistics the statistics or <code>null</code>
+     * @see nu.validator.htmlparser.impl.ParseStatistics
+     */
+    public void setParseStatistics(ParseStatistics statistics) {
+        this.statistics = statistics;
+        if (driver != null && pipelineExecutor == null) {
+            driver.setStatistics(statistics);
+        }
+    }
+
+    /**
+     * Returns the statistics filled in during each parse.
+     * 
+     * @return the statistics or <code>null</code>
+     */
+    public ParseStatistics getParseStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Sets the resource limits for each parse. <code>null</code> (the 
+     * default) means nothing is limited. A parse that goes over a limit 
+     * throws a <code>ParseLimitExceededException</code>.
+     * 
+     * @param limits the limits or <code>null</code>
+     * @see nu.validator.htmlparser.impl.ParseLimits
+     */
+    public void setParseLimits(ParseLimits limits) {
+        this.limits = limits;
+        if (driver != null) {
+            driver.setLimits(limits);
+        }
+    }
+
+    /**
+     * Returns the resource limits for each parse.
+     * 
+     * @return the limits or <code>null</code>
+     */
+    public ParseLimits getParseLimits() {
+        return limits;
+    }
+
     /**
      * This is a catch-all convenience method for setting name, xmlns, content space, 
      * content non-XML char and comment policies in one go. This does not affect the 
@@ -47,6 +47,19 @@ class XOMTreeBuilder extends CoalescingTreeBuilder<Element> {
     
     private Element cachedTable = null;
 
+    /**
+     * The text node whose value is being accumulated in
+     * <code>pendingText</code> or <code>null</code>.
+     */
+    private Text pendingTextNode;
+
+    /**
+     * The value of <code>pendingTextNode</code>. Appending to the node with
+     * <code>setValue()</code> each time would copy all of its value each
+     * time.
+     */
+    private final StringBuilder pendingText = new StringBuilder();
+
     protected XOMTreeBuilder(SimpleNodeFactory nodeFactory) {
         super();
         this.nodeFactory = nodeFactory;
@@ -80,8 +93,7 @@ class XOMTreeBuilder extends CoalescingTreeBuilder<Element> {
             Node lastChild;
             if (childCount != 0
                     && ((lastChild = parent.getChild(childCount - 1)) instanceof Text)) {
-                Text lastAsText = (Text) lastChild;
-                lastAsText.setValue(lastAsText.getValue() + text);
+                appendToText((Text) lastChild, text);
                 return;
             }
             parent.appendChild(nodeFactory.makeText(text));
@@ -248,6 +260,8 @@ class XOMTreeBuilder extends CoalescingTreeBuilder<Element> {
     @Override
     protected void start(boolean fragment) throws SAXException {
         document = nodeFactory.makeDocument();
+        pendingTextNode = null;
+        pendingText.setLength(0);
         cachedTableIndex = -1;
         cachedTable = null;
     }
@@ -295,8 +309,7 @@ class XOMTreeBuilder extends CoalescingTreeBuilder<Element> {
                 Node prevSibling;
                 if (tableIndex != 0
                         && ((prevSibling = parentAsElt.getChild(tableIndex - 1)) instanceof Text)) {
-                    Text prevAsText = (Text) prevSibling;
-                    prevAsText.setValue(prevAsText.getValue() + text);
+                    appendToText((Text) prevSibling, text);
                     return;
                 }
                 parentAsElt.insertChild(nodeFactory.makeText(text), tableIndex);
@@ -307,8 +320,7 @@ class XOMTreeBuilder extends CoalescingTreeBuilder<Element> {
             Node lastChild;
             if (childCount != 0
                     && ((lastChild = stackParent.getChild(childCount - 1)) instanceof Text)) {
-                Text lastAsText = (Text) lastChild;
-                lastAsText.setValue(lastAsText.getValue() + text);
+                appendToText((Text) lastChild, text);
                 return;
             }
             stackParent.appendChild(nodeFactory.makeText(text));
@@ -347,5 +359,32 @@ class XOMTreeBuilder extends CoalescingTreeBuilder<Element> {
     @Override protected void end() throws SAXException {
         cachedTableIndex = -1;
         cachedTable = null;
+        try {
+            flushPendingText();
+        } catch (XMLException e) {
+            fatal(e);
+        }
+    }
+
+    /**
+     * Appends to an existing text node. The value is written to the node
+     * when text is appended to another node or at the end.
+     */
+    private void appendToText(Text node, String text) throws SAXException {
+        if (node != pendingTextNode) {
+            flushPendingText();
+            pendingTextNode = node;
+            pendingText.append(node.getValue());
+        }
+        checkTextLength(pendingText.length() + text.length());
+        pendingText.append(text);
+    }
+
+    private void flushPendingText() {
+        if (pendingTextNode != null) {
+            pendingTextNode.setValue(pendingText.toString());
+            pendingTextNode = null;
+            pendingText.setLength(0);
+        }
     }
 }
@@ -66,6 +66,11 @@ public abstract class Node implements Locator, Locator2 {
      * The next sibling.
      */
     private Node nextSibling = null;
+
+    /**
+     * The previous sibling.
+     */
+    private Node previousSibling = null;
     
     /**
      * The parent.
@@ -183,15 +188,16 @@ public abstract class Node implements Locator, Locator2 {
      * @return the previous sibling
      */
     public final Node getPreviousSibling() {
-        Node prev = null;
-        Node next = parentNode.getFirstChild();
-        for(;;) {
-            if (this == next) {
-                return prev;
-            }
-            prev = next;
-            next = next.nextSibling;
-        }
+        return previousSibling;
+    }
+
+    /**
+     * Sets the previousSibling.
+     * 
+     * @param previousSibling the previousSibling to set
+     */
+    void setPreviousSibling(Node previousSibling) {
+        this.previousSibling = previousSibling;
     }
 
     /**
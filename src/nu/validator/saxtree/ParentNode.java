@@ -104,18 +104,14 @@ public abstract class ParentNode extends Node {
         }
         child.detach();
         child.setParentNode(this);
-        if (firstChild == sibling) {
-            child.setNextSibling(sibling);
+        Node prev = sibling.getPreviousSibling();
+        child.setPreviousSibling(prev);
+        child.setNextSibling(sibling);
+        sibling.setPreviousSibling(child);
+        if (prev == null) {
             firstChild = child;
         } else {
-            Node prev = firstChild;
-            Node next = firstChild.getNextSibling();
-            while (next != sibling) {
-                prev = next;
-                next = next.getNextSibling();
-            }
             prev.setNextSibling(child);
-            child.setNextSibling(next);
         }
         return child;
     }
@@ -131,7 +127,9 @@ public abstract class ParentNode extends Node {
         }
         child.detach();
         child.setParentNode(this);
+        child.setPreviousSibling(prev);
         child.setNextSibling(next);
+        next.setPreviousSibling(child);
         if (prev == null) {
             firstChild = child;
         } else {
@@ -149,6 +147,8 @@ public abstract class ParentNode extends Node {
     public Node appendChild(Node child) {
         child.detach();
         child.setParentNode(this);
+        child.setPreviousSibling(lastChild);
+        child.setNextSibling(null);
         if (firstChild == null) {
             firstChild = child;
         } else {
@@ -168,6 +168,7 @@ public abstract class ParentNode extends Node {
             return;
         }
         ParentNode another = (ParentNode) parent;
+        child.setPreviousSibling(lastChild);
         if (firstChild == null) {
             firstChild = child;
         } else {
@@ -187,22 +188,19 @@ public abstract class ParentNode extends Node {
      */
     void removeChild(Node node) {
         assert this == node.getParentNode();
-        if (firstChild == node) {
-            firstChild = node.getNextSibling();
-            if (lastChild == node) {
-                lastChild = null;
-            }
+        Node prev = node.getPreviousSibling();
+        Node next = node.getNextSibling();
+        if (prev == null) {
+            firstChild = next;
+        } else {
+            prev.setNextSibling(next);
+        }
+        if (next == null) {
+            lastChild = prev;
         } else {
-            Node prev = firstChild;
-            Node next = firstChild.getNextSibling();
-            while (next != node) {
-                prev = next;
-                next = next.getNextSibling();
-            }
-            prev.setNextSibling(node.getNextSibling());
-            if (lastChild == node) {
-                lastChild = prev;
-            }            
+            next.setPreviousSibling(prev);
         }
+        node.setPreviousSibling(null);
+        node.setNextSibling(null);
     }
 }
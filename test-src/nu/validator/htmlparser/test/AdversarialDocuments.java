@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+
+package nu.validator.htmlparser.test;
+
+/**
+ * Generates documents that push one tree construction algorithm towards its
+ * worst case. Each generator takes a repetition count and the size of its
+ * output is linear in the count, so that the parse time can be compared
+ * across sizes.
+ * 
+ * <p>
+ * Most of the cases make the stack of open elements or the list of active
+ * formatting elements grow with every repetition. A document can also be
+ * generated so that only the first repetitions grow them and the others
+ * keep them at that size. That is the worst a document can do when the
+ * stack depth and the list length are limited.
+ * 
+ * @version $Id$
+ */
+public final class AdversarialDocuments {
+
+    /**
+     * Misnested formatting elements around a block, so that every end tag
+     * runs the adoption agency algorithm with a furthest block.
+     */
+    public static final String ADOPTION_AGENCY = "adoption-agency";
+
+    /**
+     * A formatting element followed by deeper and deeper blocks with text,
+     * so that every run of text checks whether the formatting element needs
+     * to be reconstructed.
+     */
+    public static final String RECONSTRUCT = "reconstruct";
+
+    /**
+     * Many open formatting elements that differ only in their attributes,
+     * so that the Noah's Ark clause finds no duplicates to forget and the
+     * list of active formatting elements keeps growing.
+     */
+    public static final String NOAHS_ARK = "noahs-ark";
+
+    /**
+     * Deeply nested blocks followed by end tags that are not in scope, so
+     * that every end tag searches the whole stack of open elements.
+     */
+    public static final String DEEP_SCOPE = "deep-scope";
+
+    /**
+     * Elements and text directly inside tables, so that they are all foster
+     * parented and every insertion looks for the table on the stack.
+     */
+    public static final String FOSTER_PARENTING = "foster-parenting";
+
+    /**
+     * All the cases.
+     */
+    public static final String[] CASES = { ADOPTION_AGENCY, RECONSTRUCT,
+            NOAHS_ARK, DEEP_SCOPE, FOSTER_PARENTING };
+
+    private AdversarialDocuments() {
+    }
+
+    /**
+     * Generates a document whose every repetition grows the stack or the
+     * list.
+     * 
+     * @param name
+     *            one of the case names
+     * @param count
+     *            the number of times the troublesome pattern is repeated
+     * @return the document
+     */
+    public static String generate(String name, int count) {
+        return generate(name, count, count);
+    }
+
+    /**
+     * Generates a document whose first repetitions grow the stack or the
+     * list. Each of them adds about one entry to the stack or the list.
+     * 
+     * @param name
+     *            one of the case names
+     * @param count
+     *            the number of times the troublesome pattern is repeated
+     * @param growing
+     *            the number of repetitions that grow the stack or the list
+     * @return the document
+     */
+    public static String generate(String name, int count, int growing) {
+        StringBuilder sb = new StringBuilder("<!DOCTYPE html><body>");
+        if (ADOPTION_AGENCY.equals(name)) {
+            for (int i = 0; i < count; i++) {
+                sb.append(i < growing ? "<b><div>x</b>" : "<b><div>x</b></div>");
+            }
+        } else if (RECONSTRUCT.equals(name)) {
+            sb.append("<b>");
+            for (int i = 0; i < count; i++) {
+                sb.append(i < growing ? "<div>x" : "<br>x");
+            }
+        } else if (NOAHS_ARK.equals(name)) {
+            for (int i = 0; i < count; i++) {
+                if (i >= growing) {
+                    sb.append("</b>");
+                }
+                sb.append("<b class=c").append(i).append('>');
+            }
+        } else if (DEEP_SCOPE.equals(name)) {
+            for (int i = 0; i < count && i < growing; i++) {
+                sb.append("<div>");
+            }
+            for (int i = 0; i < count; i++) {
+                sb.append("</p>");
+            }
+        } else if (FOSTER_PARENTING.equals(name)) {
+            for (int i = 0; i < count; i++) {
+                sb.append("<table>x<b>y</b><p>z</p>");
+            }
+        } else {
+            throw new IllegalArgumentException("No such case: " + name);
+        }
+        return sb.toString();
+    }
+}
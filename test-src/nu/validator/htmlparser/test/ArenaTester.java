@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+
+import nu.validator.htmlparser.arena.ArenaDocument;
+import nu.validator.htmlparser.arena.ArenaTreeParser;
+import nu.validator.htmlparser.arena.HtmlArenaBuilder;
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.dom.Dom2Sax;
+import nu.validator.htmlparser.dom.HtmlDocumentBuilder;
+
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Checks that <code>HtmlArenaBuilder</code> builds the same tree as
+ * <code>HtmlDocumentBuilder</code> for documents and fragments. The inputs
+ * are the <code>#data</code> sections of the html5lib tree construction
+ * tests named on the command line and random documents. The trees are
+ * compared as html5lib tree dumps without the doctype, since the DOM tree
+ * builder does not create a doctype node.
+ *
+ * @version $Id$
+ */
+public class ArenaTester {
+
+    private static final String[] FRAGMENTS = { "<p>", "</p>",
+            "<div class=x id='y'>", "</div>", "text ", "\n", "&amp;", "&not",
+            "&#x0;", "\u0000", "<b>", "</b>", "<i>", "</i>", "<a href=y>",
+            "</a>", "<table>", "<tr>", "<td>", "</td>", "</table>",
+            "<!--c-->", "<!DOCTYPE html>", "<script>a < b</script>",
+            "<style>p<a></style>", "<title>t</title>",
+            "<textarea>x</textarea>", "<svg viewBox=0 xlink:href=z>",
+            "</svg>", "<math definitionURL=u><mi>", "</math>",
+            "<svg><foreignObject><p>", "<select><option>", "</select>",
+            "<template>", "</template>", "<li>", "<form>", "</form>",
+            "<body x=1>", "<html y=2>", "<br>", "</br>", "<nobr>",
+            "<frameset>", "<plaintext>", "<![CDATA[x]]>", "<xmp><p></xmp>",
+            "<head>", "<meta charset=utf-8>", "<col>", "<caption>", };
+
+    private static final String[] CONTEXTS = { "div", "table", "tr",
+            "select", "title", "svg path", "math mi", "template", "body",
+            "html", };
+
+    private int failures;
+
+    private int tests;
+
+    /**
+     * The tree dump without the doctype.
+     */
+    private static final class DumpHandler extends TreeDumpContentHandler {
+
+        DumpHandler(StringWriter writer) {
+            super(writer, false);
+        }
+
+        @Override public void startDTD(String name, String publicIdentifier,
+                String systemIdentifier) throws SAXException {
+        }
+    }
+
+    private static String randomDocument(Random random, int fragments) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < fragments; i++) {
+            sb.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private void check(String name, String expected, String actual) {
+        tests++;
+        if (expected.equals(actual)) {
+            return;
+        }
+        failures++;
+        System.out.println("FAIL " + name);
+        System.out.println("  expected:\n" + expected);
+        System.out.println("  actual:\n" + actual);
+    }
+
+    private static String contextLocal(String context) {
+        int space = context.indexOf(' ');
+        return space == -1 ? context : context.substring(space + 1);
+    }
+
+    private static String contextNamespace(String context) {
+        if (context.startsWith("svg ")) {
+            return "http://www.w3.org/2000/svg";
+        } else if (context.startsWith("math ")) {
+            return "http://www.w3.org/1998/Math/MathML";
+        }
+        return "http://www.w3.org/1999/xhtml";
+    }
+
+    private static String dom(String doc, String context, boolean scripting) {
+        HtmlDocumentBuilder builder = new HtmlDocumentBuilder(
+                XmlViolationPolicy.ALTER_INFOSET);
+        builder.setScriptingEnabled(scripting);
+        try {
+            InputSource is = new InputSource(new StringReader(doc));
+            Node node;
+            if (context == null) {
+                node = builder.parse(is);
+            } else {
+                node = builder.parseFragment(is, contextLocal(context),
+                        contextNamespace(context));
+            }
+            StringWriter writer = new StringWriter();
+            DumpHandler dump = new DumpHandler(writer);
+            new Dom2Sax(dump, dump).parse(node);
+            dump.endDocument();
+            return writer.toString();
+        } catch (Exception e) {
+            return e.getClass().getName();
+        }
+    }
+
+    private static String arena(String doc, String context, boolean scripting) {
+        HtmlArenaBuilder builder = new HtmlArenaBuilder(
+                XmlViolationPolicy.ALTER_INFOSET);
+        builder.setScriptingEnabled(scripting);
+        try {
+            InputSource is = new InputSource(new StringReader(doc));
+            ArenaDocument document;
+            if (context == null) {
+                document = builder.parse(is);
+            } else {
+                document = builder.parseFragment(is, contextLocal(context),
+                        contextNamespace(context));
+            }
+            StringWriter writer = new StringWriter();
+            DumpHandler dump = new DumpHandler(writer);
+            new ArenaTreeParser(dump, dump).parse(document);
+            dump.endDocument();
+            return writer.toString();
+        } catch (Exception e) {
+            return e.getClass().getName();
+        }
+    }
+
+    private void compare(String name, String doc, String context,
+            boolean scripting) {
+        check(name + (context == null ? "" : " in " + context) + ": " + doc,
+                dom(doc, context, scripting), arena(doc, context, scripting));
+    }
+
+    /**
+     * Runs the <code>#data</code> of the tests in an html5lib tree
+     * construction test file.
+     */
+    private void runFile(String fileName) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new FileInputStream(fileName), "UTF-8"));
+        try {
+            String line = reader.readLine();
+            while (line != null) {
+                if (!"#data".equals(line)) {
+                    line = reader.readLine();
+                    continue;
+                }
+                StringBuilder data = new StringBuilder();
+                boolean first = true;
+                while ((line = reader.readLine()) != null
+                        && !line.startsWith("#errors")) {
+                    if (!first) {
+                        data.append('\n');
+                    }
+                    data.append(line);
+                    first = false;
+                }
+                String context = null;
+                boolean scripting = true;
+                while ((line = reader.readLine()) != null
+                        && !"#data".equals(line)) {
+                    if ("#document-fragment".equals(line)) {
+                        context = reader.readLine();
+                    } else if ("#script-off".equals(line)) {
+                        scripting = false;
+                    }
+                }
+                compare(fileName, data.toString(), context, scripting);
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    private void randomDocuments() {
+        Random random = new Random(37);
+        for (int i = 0; i < 1000; i++) {
+            String doc = randomDocument(random, 1 + random.nextInt(200));
+            boolean scripting = (i & 1) == 0;
+            compare("random document " + i, doc, null, scripting);
+            compare("random fragment " + i, doc,
+                    CONTEXTS[random.nextInt(CONTEXTS.length)], scripting);
+        }
+    }
+
+    /**
+     * @param args
+     *            html5lib tree construction test files
+     * @throws IOException
+     */
+    public static void main(String[] args) throws IOException {
+        ArenaTester tester = new ArenaTester();
+        for (int i = 0; i < args.length; i++) {
+            tester.runFile(args[i]);
+        }
+        tester.randomDocuments();
+        System.out.println(tester.tests + " trees compared, "
+                + tester.failures + " failures");
+        if (tester.failures != 0) {
+            System.exit(1);
+        }
+    }
+}
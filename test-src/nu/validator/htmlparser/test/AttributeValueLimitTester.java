@@ -0,0 +1,166 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.StringReader;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.impl.ParseLimitExceededException;
+import nu.validator.htmlparser.impl.ParseLimits;
+import nu.validator.htmlparser.impl.ParseStatistics;
+import nu.validator.htmlparser.sax.HtmlParser;
+
+import org.xml.sax.InputSource;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Checks that the attribute value length limit rejects a long value before
+ * the tokenizer has buffered all of it, for quoted and unquoted values,
+ * values with character references and the values of dropped duplicate
+ * attributes. Comments, text and attribute names after an attribute, and
+ * the next parse with the same parser, are not limited.
+ *
+ * @version $Id$
+ */
+public class AttributeValueLimitTester {
+
+    private static final int LIMIT = 100;
+
+    private final ParseStatistics statistics = new ParseStatistics();
+
+    private int failures;
+
+    private int tests;
+
+    private static String repeat(String s, int count) {
+        StringBuilder sb = new StringBuilder(s.length() * count);
+        for (int i = 0; i < count; i++) {
+            sb.append(s);
+        }
+        return sb.toString();
+    }
+
+    private static HtmlParser newParser(ParseStatistics statistics) {
+        HtmlParser parser = new HtmlParser(XmlViolationPolicy.ALLOW);
+        ParseLimits limits = new ParseLimits();
+        limits.setMaxAttributeValueLength(LIMIT);
+        parser.setParseLimits(limits);
+        parser.setParseStatistics(statistics);
+        parser.setContentHandler(new DefaultHandler());
+        return parser;
+    }
+
+    /**
+     * Returns the limit that stopped the parse or <code>null</code>.
+     */
+    private static ParseLimits.Limit parse(HtmlParser parser, String doc)
+            throws Exception {
+        try {
+            parser.parse(new InputSource(new StringReader(doc)));
+            return null;
+        } catch (ParseLimitExceededException e) {
+            return e.getLimit();
+        }
+    }
+
+    private void check(String name, boolean ok, String detail) {
+        tests++;
+        if (!ok) {
+            failures++;
+            System.out.println("FAIL " + name + ": " + detail);
+        }
+    }
+
+    /**
+     * Parses a value of <code>LIMIT + 1</code> characters and one that is
+     * much longer. Each <code>unit</code> is one character of the value. Both have to fail, and the longer one must not make the
+     * buffer grow more often.
+     */
+    private void tooLong(String name, String before, String unit,
+            String after) throws Exception {
+        int[] growths = new int[2];
+        int[] lengths = { LIMIT + 1, 100000 };
+        for (int i = 0; i < lengths.length; i++) {
+            String doc = before + repeat(unit, lengths[i]) + after;
+            ParseLimits.Limit limit = parse(newParser(statistics), doc);
+            check(name + ", " + lengths[i],
+                    limit == ParseLimits.Limit.ATTRIBUTE_VALUE_LENGTH, ""
+                            + limit);
+            growths[i] = statistics.getBufferGrowths();
+        }
+        check(name + ", buffer growths", growths[1] == growths[0], growths[0]
+                + " and " + growths[1]);
+    }
+
+    private void values() throws Exception {
+        tooLong("double-quoted", "<p a=\"", "x", "\">");
+        tooLong("single-quoted", "<p a='", "x", "'>");
+        tooLong("unquoted", "<p a=", "x", ">");
+        tooLong("character references", "<p a=\"", "&amp;", "\">");
+        tooLong("duplicate attribute", "<p a=x a=\"", "x", "\">");
+        tooLong("second attribute", "<p a=x b c=\"", "x", "\">");
+        // The tag is dropped at the end of the file, so only a value that
+        // has to be buffered beyond the limit is rejected.
+        check("at end of file", parse(newParser(statistics), "<p a=\""
+                + repeat("x", 100000)) == ParseLimits.Limit.ATTRIBUTE_VALUE_LENGTH,
+                "");
+        String value = repeat("x", LIMIT);
+        check("value at the limit", parse(newParser(statistics), "<p a=\""
+                + value + "\" b=" + value + ">") == null, "");
+    }
+
+    private void notValues() throws Exception {
+        String longText = repeat("y", 10000);
+        String[] docs = { "<p a=x><!--" + longText + "-->",
+                "<p a=x>" + longText, "<p a='x'>&amp;" + longText,
+                "<p a " + longText + "=x>", "<p a=x " + longText + ">",
+                "<p a=\"x\" b><title>" + longText + "</title>", };
+        for (int i = 0; i < docs.length; i++) {
+            ParseLimits.Limit limit = parse(newParser(statistics), docs[i]);
+            check("not a value " + i, limit == null, "" + limit);
+        }
+        HtmlParser parser = newParser(statistics);
+        parse(parser, "<p a=\"" + repeat("x", LIMIT / 2));
+        check("after a value cut off by the end of file", parse(parser,
+                "<!--" + longText + "-->") == null, "");
+        parse(parser, "<p a=\"" + repeat("x", 2 * LIMIT) + "\">");
+        check("after the limit", parse(parser, "<!--" + longText + "-->") == null,
+                "");
+    }
+
+    /**
+     * @param args
+     *            ignored
+     * @throws Exception
+     */
+    public static void main(String[] args) throws Exception {
+        AttributeValueLimitTester tester = new AttributeValueLimitTester();
+        tester.values();
+        tester.notValues();
+        System.out.println(tester.tests + " checks, " + tester.failures
+                + " failures");
+        if (tester.failures != 0) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,492 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.io.ByteBufferInputStream;
+import nu.validator.htmlparser.sax.HtmlParser;
+
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Checks that a document split into byte buffers in any way parses like the
+ * same bytes in one array and that <code>ByteBufferInputStream</code> gives
+ * each buffer it took to the <code>Releaser</code> exactly once. The
+ * splits cut through a byte order mark, an encoding declaration and
+ * multi-byte characters and include empty buffers. A document that
+ * declares windows-1251 inside a <code>script</code>, where the prescan
+ * finds it, and KOI8-R in a <code>meta</code> is reparsed from the kept
+ * buffers. When the driver does not keep the stream for rewinding, each
+ * buffer has to be released as soon as it has been read.
+ *
+ * @version $Id$
+ */
+public class ByteBufferInputStreamTester {
+
+    private static final String REPARSING = "and reparsing.";
+
+    private int failures;
+
+    private int tests;
+
+    /**
+     * Counts the releases of each buffer.
+     */
+    private static final class CountingReleaser implements
+            ByteBufferInputStream.Releaser {
+
+        final IdentityHashMap<ByteBuffer, Integer> counts = new IdentityHashMap<ByteBuffer, Integer>();
+
+        int released;
+
+        public void release(ByteBuffer buffer) {
+            released++;
+            Integer count = counts.get(buffer);
+            counts.put(buffer, Integer.valueOf(count == null ? 1
+                    : count.intValue() + 1));
+        }
+    }
+
+    /**
+     * Remembers the buffers taken from the sequence.
+     */
+    private static final class RecordingIterator implements
+            Iterator<ByteBuffer> {
+
+        final List<ByteBuffer> taken = new ArrayList<ByteBuffer>();
+
+        /**
+         * The most buffers taken and not released at a time if there is a
+         * <code>releaser</code>
+         */
+        int maxHeld;
+
+        private final Iterator<ByteBuffer> buffers;
+
+        private final CountingReleaser releaser;
+
+        RecordingIterator(List<ByteBuffer> buffers) {
+            this(buffers, null);
+        }
+
+        RecordingIterator(List<ByteBuffer> buffers, CountingReleaser releaser) {
+            this.buffers = buffers.iterator();
+            this.releaser = releaser;
+        }
+
+        public boolean hasNext() {
+            return buffers.hasNext();
+        }
+
+        public ByteBuffer next() {
+            ByteBuffer buffer = buffers.next();
+            taken.add(buffer);
+            if (releaser != null) {
+                maxHeld = Math.max(maxHeld, taken.size() - releaser.released);
+            }
+            return buffer;
+        }
+
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Collects the text and the errors and throws at the error asked to.
+     */
+    private static final class RecordingHandler extends DefaultHandler
+            implements ErrorHandler {
+
+        final StringBuilder text = new StringBuilder();
+
+        final StringBuilder errors = new StringBuilder();
+
+        private final String throwAt;
+
+        RecordingHandler(String throwAt) {
+            this.throwAt = throwAt;
+        }
+
+        @Override public void characters(char[] ch, int start, int length) {
+            text.append(ch, start, length);
+        }
+
+        @Override public void error(SAXParseException e) throws SAXException {
+            errors.append(e.getMessage()).append('\n');
+            if (throwAt != null && e.getMessage().indexOf(throwAt) != -1) {
+                throw e;
+            }
+        }
+
+        @Override public void fatalError(SAXParseException e)
+                throws SAXException {
+            throw e;
+        }
+
+        @Override public void warning(SAXParseException e) {
+        }
+    }
+
+    private static byte[] bytes(String s) {
+        byte[] b = new byte[s.length()];
+        for (int i = 0; i < s.length(); i++) {
+            b[i] = (byte) s.charAt(i);
+        }
+        return b;
+    }
+
+    /**
+     * Splits <code>doc</code> at <code>cuts</code>. The buffers share the
+     * array and start at its offsets, and every other one is direct.
+     */
+    private static List<ByteBuffer> split(byte[] doc, int... cuts) {
+        List<ByteBuffer> buffers = new ArrayList<ByteBuffer>();
+        int start = 0;
+        for (int i = 0; i <= cuts.length; i++) {
+            int end = i == cuts.length ? doc.length : cuts[i];
+            if (i % 2 == 0) {
+                buffers.add(ByteBuffer.wrap(doc, start, end - start));
+            } else {
+                ByteBuffer direct = ByteBuffer.allocateDirect(end - start);
+                direct.put(doc, start, end - start);
+                direct.flip();
+                buffers.add(direct);
+            }
+            start = end;
+        }
+        return buffers;
+    }
+
+    private static List<ByteBuffer> chunks(byte[] doc, int size) {
+        int[] cuts = new int[(doc.length - 1) / size];
+        for (int i = 0; i < cuts.length; i++) {
+            cuts[i] = (i + 1) * size;
+        }
+        return split(doc, cuts);
+    }
+
+    /**
+     * Returns the text of the document and the errors.
+     */
+    private static String parse(InputStream stream, String throwAt) {
+        return parse(stream, null, false, throwAt);
+    }
+
+    /**
+     * Returns the text of the document and the errors. The parser streams if
+     * <code>streaming</code>, so the driver does not rewind.
+     */
+    private static String parse(InputStream stream, String encoding,
+            boolean streaming, String throwAt) {
+        RecordingHandler handler = new RecordingHandler(throwAt);
+        HtmlParser parser = new HtmlParser(XmlViolationPolicy.ALLOW);
+        if (streaming) {
+            parser.setStreamabilityViolationPolicy(XmlViolationPolicy.FATAL);
+        }
+        parser.setContentHandler(handler);
+        parser.setErrorHandler(handler);
+        try {
+            InputSource is = new InputSource(stream);
+            is.setEncoding(encoding);
+            parser.parse(is);
+        } catch (Exception e) {
+            handler.errors.append("thrown: ").append(e.getMessage());
+        }
+        return handler.text + "\n" + handler.errors;
+    }
+
+    private void check(String name, boolean ok, String detail) {
+        tests++;
+        if (!ok) {
+            failures++;
+            System.out.println("FAIL " + name + ": " + detail);
+        }
+    }
+
+    /**
+     * Checks that the buffers taken from the sequence and only those have
+     * been released once each.
+     */
+    private void checkReleased(String name, List<ByteBuffer> buffers,
+            RecordingIterator iterator, CountingReleaser releaser) {
+        int taken = iterator.taken.size();
+        for (int i = 0; i < buffers.size(); i++) {
+            Integer count = releaser.counts.get(buffers.get(i));
+            int expected = i < taken ? 1 : 0;
+            int actual = count == null ? 0 : count.intValue();
+            if (actual != expected) {
+                check(name + ", releases", false, "buffer " + i + " of "
+                        + buffers.size() + " released " + actual
+                        + " times, " + taken + " taken");
+                return;
+            }
+        }
+        check(name + ", releases", true, "");
+    }
+
+    /**
+     * Parses the buffers and compares with parsing <code>doc</code> from
+     * one array.
+     */
+    private void compare(String name, byte[] doc, List<ByteBuffer> buffers,
+            String throwAt) {
+        String expected = parse(new ByteArrayInputStream(doc), throwAt);
+        RecordingIterator iterator = new RecordingIterator(buffers);
+        CountingReleaser releaser = new CountingReleaser();
+        String actual = parse(new ByteBufferInputStream(iterator, releaser),
+                throwAt);
+        check(name, expected.equals(actual), "expected\n" + expected
+                + "actual\n" + actual);
+        checkReleased(name, buffers, iterator, releaser);
+    }
+
+    /**
+     * Splits documents at every byte, at every pair of bytes near the start
+     * and into single bytes.
+     */
+    private void sniffing() {
+        String[] docs = {
+                "<meta charset=windows-1251><p>\u00C1\u00E0",
+                "<!DOCTYPE html><meta http-equiv=content-type content='text/html; charset=windows-1251'><p>\u00C1",
+                "\u00EF\u00BB\u00BF<p>\u00C3\u00A9\u00E2\u0082\u00AC",
+                "\u00FF\u00FE<\u0000p\u0000>\u00000\u0004", };
+        for (String s : docs) {
+            byte[] doc = bytes(s);
+            for (int i = 0; i <= doc.length; i++) {
+                compare("cut at " + i + ": " + s, doc, split(doc, i), null);
+            }
+            int near = Math.min(doc.length, 48);
+            for (int i = 1; i < near; i++) {
+                for (int j = i; j < near; j++) {
+                    compare("cut at " + i + " and " + j + ": " + s, doc,
+                            split(doc, i, j), null);
+                }
+            }
+            compare("single bytes: " + s, doc, chunks(doc, 1), null);
+        }
+        byte[] doc = bytes(docs[0]);
+        String text = parse(new ByteBufferInputStream(chunks(doc, 1).toArray(
+                new ByteBuffer[0]), null), null);
+        check("declaration split into single bytes", text.startsWith("\u0411\u0430")
+                && text.indexOf("was not declared") == -1, text);
+    }
+
+    /**
+     * Reparses from the kept buffers after the tree builder sees the late
+     * declaration.
+     */
+    private void reparse() {
+        StringBuilder sb = new StringBuilder(
+                "<script><meta charset=windows-1251></script><meta charset=koi8-r><p>\u00C1");
+        for (int i = 0; i < 5000; i++) {
+            sb.append((char) ('a' + i % 26));
+        }
+        byte[] doc = bytes(sb.toString());
+        for (int size : new int[] { 1, 3, 16, 64, 1000, 1024, 4096, 10000 }) {
+            List<ByteBuffer> buffers = chunks(doc, size);
+            String name = "reparse in buffers of " + size;
+            compare(name, doc, buffers, null);
+            String text = parse(new ByteBufferInputStream(
+                    buffers.toArray(new ByteBuffer[0]), null), null);
+            check(name + ", reparsed", text.indexOf("\u0430") != -1
+                    && text.indexOf(REPARSING) != -1, text);
+            compare(name + ", throwing at the reparse", doc, buffers,
+                    REPARSING);
+            compare(name + ", throwing later", doc, chunks(doc, size),
+                    "End of file seen");
+        }
+    }
+
+    /**
+     * Parses with the encoding given from outside and while streaming, where
+     * the driver does not keep the stream for rewinding. Each buffer has to
+     * be released as soon as it has been read rather than at the end.
+     */
+    private void notRewinding() {
+        StringBuilder sb = new StringBuilder(
+                "\u00EF\u00BB\u00BF<p>\u00C3\u00A9");
+        for (int i = 0; i < 20000; i++) {
+            sb.append((char) ('a' + i % 26));
+        }
+        byte[] doc = bytes(sb.toString());
+        String[] encodings = { "utf-8", null, "utf-8" };
+        boolean[] streaming = { false, true, true };
+        for (int i = 0; i < encodings.length; i++) {
+            String expected = parse(new ByteArrayInputStream(doc),
+                    encodings[i], streaming[i], null);
+            for (int size : new int[] { 1, 7, 64, 1024, 4096 }) {
+                String name = "encoding " + encodings[i] + ", streaming "
+                        + streaming[i] + ", buffers of " + size;
+                List<ByteBuffer> buffers = chunks(doc, size);
+                CountingReleaser releaser = new CountingReleaser();
+                RecordingIterator iterator = new RecordingIterator(buffers,
+                        releaser);
+                String actual = parse(new ByteBufferInputStream(iterator,
+                        releaser), encodings[i], streaming[i], null);
+                check(name, expected.equals(actual)
+                        && actual.startsWith("\u00E9"), "expected\n"
+                        + expected + "actual\n" + actual);
+                checkReleased(name, buffers, iterator, releaser);
+                check(name + ", held", iterator.maxHeld == 1, iterator.maxHeld
+                        + " buffers held at a time");
+            }
+        }
+    }
+
+    /**
+     * Reads, rewinds, stops rewinding and closes the stream directly at
+     * various points.
+     */
+    private void release() throws UnsupportedEncodingException {
+        byte[] doc = bytes("0123456789abcdefghij");
+        int[][] plans = {
+                // bytes to read, then bytes to read again after rewind or
+                // -1 for no rewind, then bytes to read after willNotRewind
+                { 20, -1, 0 }, { 5, -1, 0 }, { 5, -1, 3 }, { 0, -1, 0 },
+                { 20, 0, 0 }, { 20, 0, 20 }, { 20, 7, 4 }, { 9, 3, 30 },
+                { 20, 20, 5 }, };
+        for (int[] plan : plans) {
+            for (boolean pretend : new boolean[] { false, true }) {
+                List<ByteBuffer> buffers = chunks(doc, 4);
+                RecordingIterator iterator = new RecordingIterator(buffers);
+                CountingReleaser releaser = new CountingReleaser();
+                ByteBufferInputStream stream = new ByteBufferInputStream(
+                        iterator, releaser);
+                String name = "read " + plan[0] + ", again " + plan[1]
+                        + ", then " + plan[2]
+                        + (pretend ? ", closed while rewinding" : "");
+                StringBuilder read = new StringBuilder();
+                for (int i = 0; i < plan[0]; i++) {
+                    read.append((char) stream.read());
+                }
+                if (plan[1] >= 0) {
+                    stream.rewind();
+                    read.setLength(0);
+                    byte[] b = new byte[plan[1]];
+                    int n = plan[1] == 0 ? 0 : stream.read(b, 0, b.length);
+                    for (int i = 0; i < n; i++) {
+                        read.append((char) b[i]);
+                    }
+                }
+                if (pretend) {
+                    stream.close();
+                    check(name + ", nothing to read when closed",
+                            stream.read() == -1, "");
+                }
+                stream.willNotRewind();
+                for (int i = 0; i < plan[2]; i++) {
+                    int c = stream.read();
+                    if (c == -1) {
+                        break;
+                    }
+                    read.append((char) c);
+                }
+                // Closing while rewinding ends the stream at willNotRewind.
+                int end = plan[1] >= 0 ? plan[1] : plan[0];
+                if (!pretend) {
+                    end = Math.min(doc.length, end + plan[2]);
+                }
+                String expected = new String(doc, 0, end, "US-ASCII");
+                check(name + ", bytes", expected.equals(read.toString()),
+                        read.toString());
+                stream.close();
+                int taken = iterator.taken.size();
+                byte[] b = new byte[4];
+                check(name + ", nothing to read after close",
+                        stream.read() == -1 && stream.read(b, 0, 4) == -1
+                                && stream.available() == 0
+                                && iterator.taken.size() == taken, "");
+                stream.close();
+                stream.willNotRewind();
+                checkReleased(name, buffers, iterator, releaser);
+            }
+        }
+    }
+
+    /**
+     * Parses sequences with empty buffers.
+     */
+    private void empty() {
+        byte[] doc = bytes("<meta charset=windows-1251><p>\u00C1");
+        byte[] none = new byte[0];
+        compare("no buffers", none, new ArrayList<ByteBuffer>(), null);
+        compare("an empty buffer", none, split(none), null);
+        compare("empty buffers", none, split(none, 0, 0, 0), null);
+        compare("empty first and last", doc, split(doc, 0, doc.length), null);
+        compare("empty in the declaration", doc, split(doc, 10, 10, 10, 20,
+                20), null);
+        int[] cuts = new int[2 * doc.length];
+        for (int i = 0; i < doc.length; i++) {
+            cuts[2 * i] = i;
+            cuts[2 * i + 1] = i;
+        }
+        compare("empty between single bytes", doc, split(doc, cuts), null);
+        List<ByteBuffer> buffers = split(none, 0, 0);
+        RecordingIterator iterator = new RecordingIterator(buffers);
+        CountingReleaser releaser = new CountingReleaser();
+        ByteBufferInputStream stream = new ByteBufferInputStream(iterator,
+                releaser);
+        byte[] b = new byte[4];
+        check("empty buffers read", stream.read() == -1
+                && stream.read(b, 0, 4) == -1, "");
+        stream.rewind();
+        check("empty buffers read again", stream.read(b, 0, 4) == -1, "");
+        stream.willNotRewind();
+        stream.close();
+        checkReleased("empty buffers read", buffers, iterator, releaser);
+    }
+
+    /**
+     * @param args
+     *            ignored
+     * @throws UnsupportedEncodingException
+     */
+    public static void main(String[] args)
+            throws UnsupportedEncodingException {
+        ByteBufferInputStreamTester tester = new ByteBufferInputStreamTester();
+        tester.sniffing();
+        tester.reparse();
+        tester.notRewinding();
+        tester.release();
+        tester.empty();
+        System.out.println(tester.tests + " checks, " + tester.failures
+                + " failures");
+        if (tester.failures != 0) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import nu.validator.htmlparser.reactive.HtmlParserProcessor;
+import nu.validator.htmlparser.reactive.ParseEvent;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Checks the backpressure and termination rules of
+ * <code>HtmlParserProcessor</code> with a synchronous upstream and
+ * downstream: a demand of one event at a time, cancelling and requesting
+ * zero from <code>onNext()</code> and an upstream error after some events
+ * have been published. The events of each run are compared with the events
+ * of a run with unbounded demand.
+ *
+ * @version $Id$
+ */
+public class HtmlParserProcessorTester {
+
+    private static final String CHUNK = "<p class=x>a<b>b</b>&amp;c</p>"
+            + "<script>if (x < y) {}</script><ul><li>1<li>2</ul><!--c-->";
+
+    private static final int CHUNK_COUNT = 20;
+
+    /**
+     * Publishes the document in chunks, one per requested item, and then
+     * completes or fails.
+     */
+    private static final class Source implements Subscription {
+
+        private final HtmlParserProcessor processor;
+
+        private final Throwable error;
+
+        private final int errorAfter;
+
+        private int sent;
+
+        private long outstanding;
+
+        private boolean emitting;
+
+        boolean cancelled;
+
+        boolean requestedTooMuch;
+
+        /**
+         * @param errorAfter
+         *            the number of chunks after which to signal
+         *            <code>error</code> or -1 to complete normally
+         */
+        Source(HtmlParserProcessor processor, Throwable error, int errorAfter) {
+            this.processor = processor;
+            this.error = error;
+            this.errorAfter = errorAfter;
+        }
+
+        public void request(long n) {
+            outstanding += n;
+            // The processor asks for one chunk at a time.
+            if (outstanding > 1) {
+                requestedTooMuch = true;
+            }
+            if (emitting) {
+                return;
+            }
+            emitting = true;
+            try {
+                while (outstanding > 0 && !cancelled) {
+                    if (sent == errorAfter) {
+                        cancelled = true;
+                        processor.onError(error);
+                    } else if (sent == CHUNK_COUNT) {
+                        cancelled = true;
+                        processor.onComplete();
+                    } else {
+                        outstanding--;
+                        sent++;
+                        processor.onNext(ByteBuffer.wrap(bytes(CHUNK)));
+                    }
+                }
+            } finally {
+                emitting = false;
+            }
+        }
+
+        public void cancel() {
+            cancelled = true;
+        }
+    }
+
+    /**
+     * Records the events and checks that no more are delivered than
+     * requested and nothing after a terminal signal.
+     */
+    private static class Sink implements Subscriber<ParseEvent> {
+
+        final List<String> events = new ArrayList<String>();
+
+        Subscription subscription;
+
+        long demand;
+
+        boolean completed;
+
+        Throwable error;
+
+        String violation;
+
+        void request(long n) {
+            demand += n;
+            subscription.request(n);
+        }
+
+        public void onSubscribe(Subscription s) {
+            subscription = s;
+        }
+
+        public void onNext(ParseEvent event) {
+            if (completed || error != null) {
+                violation = "onNext() after a terminal signal";
+            }
+            if (--demand < 0) {
+                violation = "onNext() without demand";
+            }
+            events.add(event.toString());
+        }
+
+        public void onError(Throwable t) {
+            if (completed || error != null) {
+                violation = "second terminal signal";
+            }
+            error = t;
+        }
+
+        public void onComplete() {
+            if (completed || error != null) {
+                violation = "second terminal signal";
+            }
+            completed = true;
+        }
+    }
+
+    private static byte[] bytes(String s) {
+        try {
+            return s.getBytes("UTF-8");
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static Source connect(HtmlParserProcessor processor, Sink sink,
+            Throwable error, int errorAfter) {
+        Source source = new Source(processor, error, errorAfter);
+        processor.setEncoding("UTF-8");
+        processor.subscribe(sink);
+        processor.onSubscribe(source);
+        return source;
+    }
+
+    private int failures;
+
+    private void check(String name, boolean ok, String detail) {
+        if (ok) {
+            System.out.println("PASS " + name);
+        } else {
+            failures++;
+            System.out.println("FAIL " + name + ": " + detail);
+        }
+    }
+
+    private void checkProtocol(String name, Source source, Sink sink) {
+        check(name + ", protocol", sink.violation == null, sink.violation);
+        check(name + ", one chunk at a time", !source.requestedTooMuch,
+                "more than one chunk outstanding");
+    }
+
+    private static boolean isPrefix(List<String> prefix, List<String> list) {
+        return prefix.size() <= list.size()
+                && prefix.equals(list.subList(0, prefix.size()));
+    }
+
+    private List<String> unbounded() {
+        HtmlParserProcessor processor = new HtmlParserProcessor();
+        Sink sink = new Sink();
+        Source source = connect(processor, sink, null, -1);
+        sink.request(Long.MAX_VALUE);
+        checkProtocol("unbounded", source, sink);
+        check("unbounded, completed", sink.completed && sink.error == null,
+                String.valueOf(sink.error));
+        check("unbounded, events", sink.events.size() > CHUNK_COUNT * 10,
+                sink.events.size() + " events");
+        return sink.events;
+    }
+
+    /**
+     * Requests one event at a time, from <code>onNext()</code> or from
+     * outside.
+     */
+    private void demandOfOne(List<String> expected, final boolean fromOnNext) {
+        String name = fromOnNext ? "demand 1 from onNext" : "demand 1";
+        HtmlParserProcessor processor = new HtmlParserProcessor();
+        Sink sink = new Sink() {
+            @Override public void onNext(ParseEvent event) {
+                super.onNext(event);
+                if (fromOnNext) {
+                    request(1);
+                }
+            }
+        };
+        Source source = connect(processor, sink, null, -1);
+        if (fromOnNext) {
+            sink.request(1);
+        } else {
+            while (!sink.completed && sink.error == null && sink.violation == null) {
+                int before = sink.events.size();
+                sink.request(1);
+                if (sink.events.size() > before + 1) {
+                    sink.violation = "more than one event per request";
+                }
+            }
+        }
+        checkProtocol(name, source, sink);
+        check(name + ", completed", sink.completed && sink.error == null,
+                String.valueOf(sink.error));
+        check(name + ", events", expected.equals(sink.events),
+                sink.events.size() + " events instead of " + expected.size());
+    }
+
+    private void cancelInOnNext(List<String> expected, final int after) {
+        String name = "cancel after " + after;
+        HtmlParserProcessor processor = new HtmlParserProcessor();
+        Sink sink = new Sink() {
+            @Override public void onNext(ParseEvent event) {
+                super.onNext(event);
+                if (events.size() == after) {
+                    subscription.cancel();
+                } else if (events.size() > after) {
+                    violation = "onNext() after cancel()";
+                }
+            }
+        };
+        Source source = connect(processor, sink, null, -1);
+        sink.request(Long.MAX_VALUE);
+        checkProtocol(name, source, sink);
+        check(name + ", no terminal signal", !sink.completed
+                && sink.error == null, String.valueOf(sink.error));
+        check(name + ", upstream cancelled", source.cancelled,
+                "upstream not cancelled");
+        check(name + ", events", sink.events.equals(expected.subList(0, after)),
+                sink.events.size() + " events");
+    }
+
+    private void requestZero(List<String> expected) {
+        String name = "request(0)";
+        HtmlParserProcessor processor = new HtmlParserProcessor();
+        Sink sink = new Sink() {
+            @Override public void onNext(ParseEvent event) {
+                super.onNext(event);
+                if (events.size() == 5) {
+                    subscription.request(0);
+                }
+            }
+        };
+        Source source = connect(processor, sink, null, -1);
+        sink.request(10);
+        checkProtocol(name, source, sink);
+        check(name + ", IllegalArgumentException",
+                sink.error instanceof IllegalArgumentException,
+                String.valueOf(sink.error));
+        check(name + ", upstream cancelled", source.cancelled,
+                "upstream not cancelled");
+        check(name + ", events", isPrefix(sink.events, expected)
+                && sink.events.size() >= 5, sink.events.size() + " events");
+    }
+
+    private void upstreamError(List<String> expected, boolean bounded) {
+        String name = bounded ? "upstream error, demand 1"
+                : "upstream error";
+        Throwable error = new IOException("connection reset");
+        HtmlParserProcessor processor = new HtmlParserProcessor();
+        Sink sink = new Sink();
+        Source source = connect(processor, sink, error, CHUNK_COUNT / 2);
+        if (bounded) {
+            while (!sink.completed && sink.error == null && sink.violation == null) {
+                sink.request(1);
+            }
+        } else {
+            sink.request(Long.MAX_VALUE);
+        }
+        checkProtocol(name, source, sink);
+        check(name + ", signaled", sink.error == error && !sink.completed,
+                String.valueOf(sink.error));
+        check(name + ", partial events", isPrefix(sink.events, expected)
+                && sink.events.size() > CHUNK_COUNT * 3
+                && sink.events.size() < expected.size(), sink.events.size()
+                + " events");
+    }
+
+    private void run() {
+        List<String> expected = unbounded();
+        demandOfOne(expected, false);
+        demandOfOne(expected, true);
+        cancelInOnNext(expected, 1);
+        cancelInOnNext(expected, 50);
+        requestZero(expected);
+        upstreamError(expected, false);
+        upstreamError(expected, true);
+    }
+
+    /**
+     * @param args
+     *            ignored
+     */
+    public static void main(String[] args) {
+        HtmlParserProcessorTester tester = new HtmlParserProcessorTester();
+        tester.run();
+        if (tester.failures != 0) {
+            System.out.println(tester.failures + " failures");
+            System.exit(1);
+        }
+    }
+}
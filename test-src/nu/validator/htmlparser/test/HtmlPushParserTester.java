@@ -0,0 +1,293 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.util.Random;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.impl.Tokenizer;
+import nu.validator.htmlparser.io.HtmlPushParser;
+import nu.validator.htmlparser.sax.HtmlParser;
+import nu.validator.htmlparser.sax.XmlSerializer;
+
+import nu.validator.saxtree.Element;
+
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Feeds documents to <code>HtmlPushParser</code> in chunks of one unit and
+ * in random splits, with and without suspensions, and checks that the tree
+ * is the same as the one <code>HtmlParser</code> builds from the whole
+ * input.
+ *
+ * @version $Id$
+ */
+public class HtmlPushParserTester {
+
+    /**
+     * A tree builder that suspends the push parser after every
+     * <code>interval</code> elements if <code>interval</code> is positive.
+     */
+    private static final class SuspendingTreeBuilder extends TestTreeBuilder {
+
+        HtmlPushParser parser;
+
+        int interval;
+
+        private int count;
+
+        @Override protected void elementPushed(String ns, String name,
+                Element node) throws SAXException {
+            if (interval > 0 && ++count % interval == 0) {
+                parser.suspend();
+            }
+        }
+    }
+
+    private static final String BODY = "<title>T &amp; t</title>"
+            + "<style>p > a { content: \"</p>\" }</style>"
+            + "<script>if (a < b && c) { d = '</scr' + 'ipt>'; }</script>"
+            + "<!-- comment --><table><tr><td>x<b>y</td>z</table>"
+            + "<p>caf\u00E9 &eacute;&notin; &notit; &#x41;&#65 \u20AC "
+            + "\uD83D\uDE00<textarea>&lt;a&gt; </p></textarea>"
+            + "<svg><foreignObject><p>q</p></foreignObject></svg>";
+
+    private static final String PADDING = "<!-- "
+            + repeat("0123456789abcdef", 70) + " -->";
+
+    private static String repeat(String s, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append(s);
+        }
+        return sb.toString();
+    }
+
+    private static byte[] concat(byte[] a, byte[] b) {
+        byte[] rv = new byte[a.length + b.length];
+        System.arraycopy(a, 0, rv, 0, a.length);
+        System.arraycopy(b, 0, rv, a.length, b.length);
+        return rv;
+    }
+
+    private static byte[][] byteDocuments() throws IOException {
+        String meta = "<!DOCTYPE html><meta charset=windows-1252>" + BODY
+                .replace("\uD83D\uDE00", "").replace("\u20AC", "");
+        return new byte[][] {
+                concat(new byte[] { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF },
+                        ("<!DOCTYPE html>" + BODY + PADDING + BODY).getBytes("UTF-8")),
+                concat(new byte[] { (byte) 0xFF, (byte) 0xFE },
+                        ("<!DOCTYPE html>" + BODY).getBytes("UTF-16LE")),
+                meta.getBytes("windows-1252"),
+                ("<!DOCTYPE html>" + PADDING + "\u00E9<meta charset=utf-8>" + BODY).getBytes("UTF-8"),
+                ("<!DOCTYPE html>" + BODY + PADDING + BODY).getBytes("UTF-8"),
+                new byte[0], };
+    }
+
+    private static String[] charDocuments() {
+        return new String[] { "<!DOCTYPE html>" + BODY,
+                "\uFEFF" + BODY + PADDING + BODY, "", };
+    }
+
+    private static String expected(InputSource is) throws SAXException,
+            IOException {
+        StringWriter writer = new StringWriter();
+        XmlSerializer serializer = new XmlSerializer(writer);
+        HtmlParser parser = new HtmlParser(XmlViolationPolicy.ALLOW);
+        parser.setStreamabilityViolationPolicy(XmlViolationPolicy.ALLOW);
+        parser.setContentHandler(serializer);
+        parser.setLexicalHandler(serializer);
+        parser.parse(is);
+        return writer.toString();
+    }
+
+    private final SuspendingTreeBuilder treeBuilder = new SuspendingTreeBuilder();
+
+    private final HtmlPushParser parser;
+
+    private final Random random = new Random(5);
+
+    private int failures;
+
+    private HtmlPushParserTester() {
+        parser = new HtmlPushParser(new Tokenizer(treeBuilder, true));
+        treeBuilder.parser = parser;
+        treeBuilder.setIgnoringComments(false);
+    }
+
+    private int[] splits(int length, int mode) {
+        int[] rv = new int[length + 2];
+        int n = 0;
+        int pos = 0;
+        rv[n++] = 0;
+        while (pos < length) {
+            pos += mode == 0 ? 1 : 1 + random.nextInt(mode == 1 ? 7 : 1500);
+            rv[n++] = Math.min(pos, length);
+        }
+        int[] trimmed = new int[n];
+        System.arraycopy(rv, 0, trimmed, 0, n);
+        return trimmed;
+    }
+
+    private void resumeAll() throws SAXException, IOException {
+        while (parser.isSuspended()) {
+            parser.resume();
+        }
+    }
+
+    /**
+     * Finishes the document, which may still be suspended by the last
+     * chunk. Calling <code>finish()</code> while suspended must be rejected
+     * and leave the parser usable.
+     */
+    private void finish() throws SAXException, IOException {
+        if (parser.isSuspended()) {
+            try {
+                parser.finish();
+                throw new RuntimeException(
+                        "finish() while suspended did not throw.");
+            } catch (IllegalStateException e) {
+                // expected
+            }
+            resumeAll();
+        }
+        parser.finish();
+        resumeAll();
+    }
+
+    private String pushBytes(byte[] doc, int mode, int interval)
+            throws SAXException, IOException {
+        treeBuilder.interval = interval;
+        parser.start(null, null, null);
+        int[] splits = splits(doc.length, mode);
+        for (int i = 1; i < splits.length; i++) {
+            resumeAll();
+            parser.feed(ByteBuffer.wrap(doc, splits[i - 1], splits[i]
+                    - splits[i - 1]));
+        }
+        finish();
+        return treeBuilder.serialize();
+    }
+
+    private String pushChars(String doc, int mode, int interval)
+            throws SAXException, IOException {
+        treeBuilder.interval = interval;
+        parser.start(null, null, null);
+        int[] splits = splits(doc.length(), mode);
+        for (int i = 1; i < splits.length; i++) {
+            resumeAll();
+            parser.feed(CharBuffer.wrap(doc, splits[i - 1], splits[i]));
+        }
+        finish();
+        return treeBuilder.serialize();
+    }
+
+    /**
+     * Aborts a document midway, possibly while suspended, and then parses
+     * the whole document with the same parser.
+     */
+    private String abortAndRestart(byte[] doc, int interval)
+            throws SAXException, IOException {
+        treeBuilder.interval = interval;
+        parser.start(null, null, null);
+        parser.feed(ByteBuffer.wrap(doc, 0, doc.length / 2));
+        parser.abort();
+        if (parser.isSuspended()) {
+            throw new RuntimeException("Suspended after abort().");
+        }
+        return pushBytes(doc, 2, interval);
+    }
+
+    private static String tail(String s, int from) {
+        return s.substring(from, Math.min(s.length(), from + 80));
+    }
+
+    private void check(String name, String expected, String actual) {
+        if (expected.equals(actual)) {
+            System.out.println("PASS " + name);
+        } else {
+            failures++;
+            int i = 0;
+            while (i < expected.length() && i < actual.length()
+                    && expected.charAt(i) == actual.charAt(i)) {
+                i++;
+            }
+            System.out.println("FAIL " + name + ": differs at " + i);
+            System.out.println("  expected: " + tail(expected, i));
+            System.out.println("  actual:   " + tail(actual, i));
+        }
+    }
+
+    private void run() throws SAXException, IOException {
+        String[] modes = { "one unit", "small splits", "large splits" };
+        int[] intervals = { 0, 1, 3 };
+        byte[][] byteDocs = byteDocuments();
+        for (int d = 0; d < byteDocs.length; d++) {
+            String expected = expected(new InputSource(
+                    new ByteArrayInputStream(byteDocs[d])));
+            for (int mode = 0; mode < modes.length; mode++) {
+                for (int interval : intervals) {
+                    check("bytes " + d + ", " + modes[mode] + ", suspend "
+                            + interval, expected, pushBytes(byteDocs[d], mode,
+                            interval));
+                }
+            }
+            check("bytes " + d + ", abort", expected, abortAndRestart(
+                    byteDocs[d], 2));
+        }
+        String[] charDocs = charDocuments();
+        for (int d = 0; d < charDocs.length; d++) {
+            String expected = expected(new InputSource(new StringReader(
+                    charDocs[d])));
+            for (int mode = 0; mode < modes.length; mode++) {
+                for (int interval : intervals) {
+                    check("chars " + d + ", " + modes[mode] + ", suspend "
+                            + interval, expected, pushChars(charDocs[d], mode,
+                            interval));
+                }
+            }
+        }
+    }
+
+    /**
+     * @param args
+     *            ignored
+     * @throws SAXException
+     * @throws IOException
+     */
+    public static void main(String[] args) throws SAXException, IOException {
+        HtmlPushParserTester tester = new HtmlPushParserTester();
+        tester.run();
+        if (tester.failures != 0) {
+            System.out.println(tester.failures + " failures");
+            System.exit(1);
+        }
+    }
+}
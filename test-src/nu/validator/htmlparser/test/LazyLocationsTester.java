@@ -0,0 +1,264 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.sax.HtmlParser;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.Locator;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Parses random documents with errors once with the eager locations of
+ * <code>ErrorReportingTokenizer</code> and once with the lazy ones and
+ * checks that every error, warning and element start is reported at the
+ * same line and column. The documents mix CR, LF and CRLF line breaks, BOMs
+ * and long runs that cross the buffers of the driver, and are parsed from
+ * characters, from UTF-8 and UTF-16 bytes and with a late encoding
+ * declaration that makes the parser start over.
+ *
+ * @version $Id$
+ */
+public class LazyLocationsTester {
+
+    /**
+     * Records the errors, the warnings and the element starts with their
+     * locations.
+     */
+    private static final class RecordingHandler extends DefaultHandler {
+
+        final List<String> events = new ArrayList<String>();
+
+        final StringBuilder text = new StringBuilder();
+
+        private Locator locator;
+
+        @Override public void setDocumentLocator(Locator locator) {
+            this.locator = locator;
+        }
+
+        @Override public void startElement(String uri, String localName,
+                String qName, Attributes atts) throws SAXException {
+            events.add(locator.getLineNumber() + ":"
+                    + locator.getColumnNumber() + " <" + localName + ">");
+        }
+
+        @Override public void characters(char[] ch, int start, int length)
+                throws SAXException {
+            text.append(ch, start, length);
+        }
+
+        @Override public void error(SAXParseException e) throws SAXException {
+            events.add(e.getLineNumber() + ":" + e.getColumnNumber() + " "
+                    + e.getMessage());
+        }
+
+        @Override public void warning(SAXParseException e)
+                throws SAXException {
+            events.add(e.getLineNumber() + ":" + e.getColumnNumber()
+                    + " warning " + e.getMessage());
+        }
+    }
+
+    private static final String[] PIECES = { "\r", "\n", "\r\n", "\r\r\n",
+            "\n\r", "\r\n\r\n", "<p>", "</p >", "<a b c=d=e>", "<a b b>",
+            "&amp", "&bogus;", "&#0;", "&#x110000;", "&#x80;", "&notit;",
+            "\u0000", "\u0001", "\u007F", "\uFFFE", "\uFEFF", "\uE000",
+            "\uD83D\uDE00", "\u0430", "<!-- -- -->", "<!--\r\n-->", "<!",
+            "<table>x\r\n<td>", "<textarea>\r\n", "<pre>\n", "<pre>\r\n",
+            "<!DOCTYPE bogus>", "<![CDATA[", "<svg><![CDATA[x\r\ny]]></svg>",
+            "<script>\r\n<!--<script>\r</script>", "<title>\r</title>",
+            "<math><mi>\r</math>", "</br>", "<img/ />", "<?pi\r?>", };
+
+    private final Random random = new Random(7);
+
+    private int failures;
+
+    private int tests;
+
+    private static String repeat(char c, int count) {
+        StringBuilder sb = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            sb.append(c);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Makes a random document body. Some of the text runs are longer than
+     * the buffers of the driver.
+     */
+    private String body() {
+        StringBuilder sb = new StringBuilder();
+        int count = random.nextInt(200);
+        for (int i = 0; i < count; i++) {
+            if (random.nextInt(8) == 0) {
+                int length = random.nextInt(6000);
+                char c = (char) ('a' + random.nextInt(26));
+                sb.append(repeat(c, length));
+            } else {
+                sb.append(PIECES[random.nextInt(PIECES.length)]);
+            }
+        }
+        return sb.toString();
+    }
+
+    private static byte[] bytes(byte[] prefix, String s, String encoding)
+            throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(prefix);
+        out.write(s.getBytes(encoding));
+        return out.toByteArray();
+    }
+
+    private static RecordingHandler parse(InputSource is, boolean lazy)
+            throws SAXException, IOException {
+        RecordingHandler handler = new RecordingHandler();
+        HtmlParser parser = new HtmlParser(XmlViolationPolicy.ALLOW);
+        parser.setContentHandler(handler);
+        parser.setErrorHandler(handler);
+        parser.setLazyLocations(lazy);
+        parser.parse(is);
+        return handler;
+    }
+
+    private void check(String name, boolean ok, String detail) {
+        tests++;
+        if (!ok) {
+            failures++;
+            System.out.println("FAIL " + name + ": " + detail);
+        }
+    }
+
+    private void compare(String name, List<String> eager, List<String> lazy) {
+        int i = 0;
+        while (i < eager.size() && i < lazy.size()
+                && eager.get(i).equals(lazy.get(i))) {
+            i++;
+        }
+        if (i == eager.size() && i == lazy.size()) {
+            check(name, true, "");
+        } else {
+            check(name, false, "event " + i + "\n  eager: "
+                    + (i < eager.size() ? eager.get(i) : "none")
+                    + "\n  lazy:  " + (i < lazy.size() ? lazy.get(i) : "none"));
+        }
+    }
+
+    private void compareChars(String name, String doc) throws SAXException,
+            IOException {
+        compare(name, parse(new InputSource(new StringReader(doc)), false).events,
+                parse(new InputSource(new StringReader(doc)), true).events);
+    }
+
+    private RecordingHandler[] compareBytes(String name, byte[] doc)
+            throws SAXException, IOException {
+        RecordingHandler eager = parse(new InputSource(
+                new ByteArrayInputStream(doc)), false);
+        RecordingHandler lazy = parse(new InputSource(
+                new ByteArrayInputStream(doc)), true);
+        compare(name, eager.events, lazy.events);
+        return new RecordingHandler[] { eager, lazy };
+    }
+
+    private void randomDocuments() throws SAXException, IOException {
+        byte[] utf8Bom = { (byte) 0xEF, (byte) 0xBB, (byte) 0xBF };
+        byte[] utf16Bom = { (byte) 0xFF, (byte) 0xFE };
+        for (int i = 0; i < 200; i++) {
+            String body = body();
+            compareChars("chars " + i, body);
+            compareChars("chars with BOM " + i, "\uFEFF" + body);
+            compareBytes("UTF-8 " + i, bytes(utf8Bom, body, "UTF-8"));
+            compareBytes("UTF-16 " + i, bytes(utf16Bom, body, "UTF-16LE"));
+        }
+    }
+
+    /**
+     * Puts a line break on every offset around the end of the first buffer
+     * of the driver, so that the CR and the LF of a CRLF pair end up in
+     * different buffers.
+     */
+    private void lineBreaksAtBufferEnd() throws SAXException, IOException {
+        String[] breaks = { "\r", "\n", "\r\n", "\r\r\n" };
+        for (String lineBreak : breaks) {
+            for (int offset = 2040; offset <= 2050; offset++) {
+                String doc = repeat('x', offset) + lineBreak + "\u0001"
+                        + lineBreak + "&bogus;" + body();
+                compareChars("break at " + offset, doc);
+                compareBytes("break at " + offset + " in bytes", bytes(
+                        new byte[0], doc, "UTF-8"));
+            }
+        }
+    }
+
+    /**
+     * The prescan finds the windows-1251 declaration inside the script, and
+     * the tokenizer finds the KOI8-R one, so the parser starts over. The
+     * errors before the declaration are reported again with the same
+     * locations.
+     */
+    private void lateMeta() throws SAXException, IOException {
+        String head = "<!DOCTYPE html>\r\n<p a=b=c>&bogus;\r"
+                + "<script>\r\n<meta charset=windows-1251>\n</script>\r\n"
+                + "\u0430<meta charset=koi8-r>";
+        for (int i = 0; i < 50; i++) {
+            byte[] doc = bytes(new byte[0], head + body(), "KOI8-R");
+            RecordingHandler[] handlers = compareBytes("late meta " + i, doc);
+            for (int j = 0; j < handlers.length; j++) {
+                check("late meta " + i + " reparsed " + j,
+                        handlers[j].text.indexOf("\u0430") != -1,
+                        "no U+0430 in the text");
+            }
+        }
+    }
+
+    /**
+     * @param args
+     *            ignored
+     * @throws SAXException
+     * @throws IOException
+     */
+    public static void main(String[] args) throws SAXException, IOException {
+        LazyLocationsTester tester = new LazyLocationsTester();
+        tester.randomDocuments();
+        tester.lineBreaksAtBufferEnd();
+        tester.lateMeta();
+        System.out.println(tester.tests + " checks, " + tester.failures
+                + " failures");
+        if (tester.failures != 0) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.dom.HtmlDocumentBuilder;
+import nu.validator.htmlparser.impl.ParseLimits;
+import nu.validator.htmlparser.impl.ParseStatistics;
+import nu.validator.htmlparser.io.ParallelDriver;
+import nu.validator.htmlparser.sax.HtmlParser;
+import nu.validator.htmlparser.sax.XmlSerializer;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Checks that <code>ParallelDriver</code> builds the same tree as a
+ * sequential parse. Random documents are split into small chunks, so that
+ * chunk boundaries fall inside RAWTEXT, RCDATA and script data, right after
+ * character references and inside CDATA sections. Large documents are parsed
+ * with <code>HtmlDocumentBuilder.parseInParallel()</code> to check that the
+ * name policy, the limits and the statistics apply as in a sequential parse.
+ *
+ * @version $Id$
+ */
+public class ParallelDriverTester {
+
+    private static final String[] FRAGMENTS = { "<p>", "</p>",
+            "<div class=x id='y'>", "</div>", "text ", "\n", "&amp;", "&amp",
+            "&notin", "&not", "&#x41", "&#65;", "<b>", "</b>", "</i>",
+            "<table><tr><td>", "</table>", "<!--c-->", "<!--", "-->",
+            "<script>", "</script>", "<style>", "</style>", "<title>",
+            "</title>", "<textarea>", "</textarea>", "<xmp>", "</xmp>",
+            "<noscript>", "</noscript>", "<plaintext>", "<svg>", "<math>",
+            "<![CDATA[x<p>]]>", "<a href=\"a<b\">", "</a>", "<br/>",
+            "<!DOCTYPE html>", "<select><option>", "</select>", };
+
+    private static final int[] CHUNK_SIZES = { 8, 32, 128 };
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    private int failures;
+
+    private int parallelChunks;
+
+    private int reparsedChunks;
+
+    private static void dump(Node node, StringBuilder sb) {
+        sb.append(node.getNodeType()).append(node.getNamespaceURI()).append(
+                node.getNodeName()).append('[').append(node.getNodeValue()).append(
+                ']');
+        NamedNodeMap attributes = node.getAttributes();
+        if (attributes != null) {
+            for (int i = 0; i < attributes.getLength(); i++) {
+                Node attribute = attributes.item(i);
+                sb.append(' ').append(attribute.getNamespaceURI()).append(
+                        attribute.getNodeName()).append('=').append(
+                        attribute.getNodeValue());
+            }
+        }
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+            dump(child, sb);
+        }
+        sb.append(')');
+    }
+
+    private static String randomDocument(Random random, int fragments) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < fragments; i++) {
+            sb.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private void check(String name, String expected, String actual) {
+        if (expected.equals(actual)) {
+            System.out.println("PASS " + name);
+        } else {
+            failures++;
+            int i = 0;
+            while (i < expected.length() && i < actual.length()
+                    && expected.charAt(i) == actual.charAt(i)) {
+                i++;
+            }
+            System.out.println("FAIL " + name + ": differs at " + i);
+            System.out.println("  expected: "
+                    + expected.substring(i, Math.min(expected.length(), i + 80)));
+            System.out.println("  actual:   "
+                    + actual.substring(i, Math.min(actual.length(), i + 80)));
+        }
+    }
+
+    private String sequential(String doc, boolean scripting)
+            throws SAXException, IOException {
+        StringWriter writer = new StringWriter();
+        XmlSerializer serializer = new XmlSerializer(writer);
+        HtmlParser parser = new HtmlParser(XmlViolationPolicy.ALLOW);
+        parser.setStreamabilityViolationPolicy(XmlViolationPolicy.ALLOW);
+        parser.setScriptingEnabled(scripting);
+        parser.setContentHandler(serializer);
+        parser.setLexicalHandler(serializer);
+        parser.parse(new InputSource(new StringReader(doc)));
+        return writer.toString();
+    }
+
+    private String parallel(String doc, int chunkSize, boolean scripting)
+            throws SAXException {
+        TestTreeBuilder treeBuilder = new TestTreeBuilder();
+        treeBuilder.setIgnoringComments(false);
+        treeBuilder.setScriptingEnabled(scripting);
+        ParallelDriver driver = new ParallelDriver(treeBuilder, executor);
+        driver.setChunkSize(chunkSize);
+        driver.setMaxPendingChunks(3);
+        driver.setCommentPolicy(XmlViolationPolicy.ALLOW);
+        driver.setContentSpacePolicy(XmlViolationPolicy.ALLOW);
+        driver.setXmlnsPolicy(XmlViolationPolicy.ALLOW);
+        driver.setNamePolicy(XmlViolationPolicy.ALLOW);
+        char[] buf = doc.toCharArray();
+        driver.tokenize(buf, 0, buf.length);
+        parallelChunks += driver.getChunkCount() - 1;
+        reparsedChunks += driver.getReparsedChunkCount();
+        return treeBuilder.serialize();
+    }
+
+    private void randomDocuments() throws SAXException, IOException {
+        Random random = new Random(17);
+        int failuresBefore = failures;
+        for (int i = 0; i < 300; i++) {
+            String doc = randomDocument(random, 20 + random.nextInt(300));
+            boolean scripting = (i & 1) == 0;
+            String expected = sequential(doc, scripting);
+            for (int chunkSize : CHUNK_SIZES) {
+                String actual = parallel(doc, chunkSize, scripting);
+                if (!expected.equals(actual)) {
+                    check("random document " + i + ", chunk size "
+                            + chunkSize + ": " + doc, expected, actual);
+                }
+            }
+        }
+        if (failures == failuresBefore) {
+            System.out.println("PASS random documents");
+        }
+        if (parallelChunks == 0 || reparsedChunks == 0
+                || reparsedChunks == parallelChunks) {
+            failures++;
+            System.out.println("FAIL chunking: " + parallelChunks
+                    + " chunks, " + reparsedChunks + " reparsed");
+        }
+    }
+
+    private static String repeat(String s, int count) {
+        StringBuilder sb = new StringBuilder(s.length() * count);
+        for (int i = 0; i < count; i++) {
+            sb.append(s);
+        }
+        return sb.toString();
+    }
+
+    private static String outcome(HtmlDocumentBuilder builder, String doc,
+            boolean inParallel, ExecutorService executor) {
+        try {
+            Document document;
+            if (inParallel) {
+                document = builder.parseInParallel(new StringReader(doc),
+                        executor);
+            } else {
+                document = builder.parse(new InputSource(new StringReader(doc)));
+            }
+            StringBuilder sb = new StringBuilder();
+            dump(document, sb);
+            return sb.toString();
+        } catch (Exception e) {
+            return e.getClass().getName();
+        }
+    }
+
+    /**
+     * The counters that do not depend on how the input is buffered. Text is
+     * split into more character tokens at buffer boundaries.
+     */
+    private static String counts(ParseStatistics statistics) {
+        return "startTags=" + statistics.getStartTags() + " endTags="
+                + statistics.getEndTags() + " comments="
+                + statistics.getComments() + " doctypes="
+                + statistics.getDoctypes() + " elementsCreated="
+                + statistics.getElementsCreated() + " maxStackDepth="
+                + statistics.getMaxStackDepth();
+    }
+
+    /**
+     * Parses a document that is long enough for the default chunk size
+     * sequentially and in parallel with the same builder settings.
+     */
+    private void configured(String name, String doc, XmlViolationPolicy policy,
+            ParseLimits limits) {
+        HtmlDocumentBuilder builder = new HtmlDocumentBuilder(policy);
+        ParseStatistics statistics = new ParseStatistics();
+        builder.setParseStatistics(statistics);
+        builder.setParseLimits(limits);
+        String expected = outcome(builder, doc, false, executor);
+        String expectedCounts = counts(statistics);
+        statistics.reset();
+        String actual = outcome(builder, doc, true, executor);
+        check(name, expected, actual);
+        // a document node dump rather than an exception name
+        if (expected.startsWith("9")) {
+            check(name + ", statistics", expectedCounts, counts(statistics));
+        }
+    }
+
+    private void configuredDocuments() {
+        String body = repeat("<p class=x>a &amp; b<!--c--><b>c</i>d</b>\n"
+                + "<title>t</title><textarea>x<p>y</textarea>\n", 40000);
+        configured("statistics", "<!DOCTYPE html>" + body,
+                XmlViolationPolicy.ALTER_INFOSET, null);
+        configured("name policy FATAL", body + "<p 1x=1>x</p>",
+                XmlViolationPolicy.FATAL, null);
+        configured("name policy ALTER_INFOSET", body + "<p 1x=1>x</p>",
+                XmlViolationPolicy.ALTER_INFOSET, null);
+        configured("name policy ALLOW", body + "<p a:b=1>x</p>",
+                XmlViolationPolicy.ALLOW, null);
+        ParseLimits limits = new ParseLimits();
+        limits.setMaxAttributes(5);
+        String attributes = "\n<p a b c d e f g h>\n";
+        configured("limit in markup", body + repeat(attributes, 40000),
+                XmlViolationPolicy.ALTER_INFOSET, limits);
+        configured("limit-like text in script", body + "<script>"
+                + repeat(attributes, 100000) + "</script>",
+                XmlViolationPolicy.ALTER_INFOSET, limits);
+        limits = new ParseLimits();
+        limits.setMaxChars(body.length() / 2);
+        configured("chars limit", body, XmlViolationPolicy.ALTER_INFOSET,
+                limits);
+    }
+
+    private void run() throws SAXException, IOException {
+        try {
+            randomDocuments();
+            configuredDocuments();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * @param args
+     *            ignored
+     * @throws SAXException
+     * @throws IOException
+     */
+    public static void main(String[] args) throws SAXException, IOException {
+        ParallelDriverTester tester = new ParallelDriverTester();
+        tester.run();
+        if (tester.failures != 0) {
+            System.out.println(tester.failures + " failures");
+            System.exit(1);
+        }
+    }
+}
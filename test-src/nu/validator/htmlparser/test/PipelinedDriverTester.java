@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.impl.ParseLimits;
+import nu.validator.htmlparser.sax.HtmlParser;
+import nu.validator.htmlparser.sax.XmlSerializer;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.helpers.XMLFilterImpl;
+
+/**
+ * Checks that <code>PipelinedDriver</code> produces the same output as
+ * <code>Driver</code>. Random documents switch the tokenizer state with
+ * script, style, title, textarea and friends, also in foreign content and
+ * in places where the tree builder does not switch it, so that the guesses
+ * of the tokenizer thread are both right and wrong. The reported errors have
+ * to be the same, too, with the locations of the tokenizer errors, and
+ * encoding declarations found by the tree builder have to be reported.
+ * Errors thrown on the tokenizer thread and on the tree builder thread have
+ * to reach the caller the same way as in a sequential parse, and the
+ * executor thread has to be released for the next parse.
+ *
+ * @version $Id$
+ */
+public class PipelinedDriverTester {
+
+    private static final String[] FRAGMENTS = { "<p>", "</p>",
+            "<div class=x>", "</div>", "text ", "\n", "&amp;", "&not",
+            "<b>", "</b>", "</i>", "<table><tr><td>", "</table>", "<!--c-->",
+            "<script>", "</script>", "<script>a<b</script>",
+            "<style>p<a></style>", "<title>t<b>&amp;</b></title>",
+            "<textarea>x</p>&lt;</textarea>", "<xmp><p></xmp>",
+            "<iframe><p></iframe>", "<noembed><p></noembed>",
+            "<noframes><p></noframes>", "<noscript><p></noscript>",
+            "<svg>", "</svg>", "<math>", "</math>", "<svg><title><p>",
+            "<svg><script>x<b></script></svg>", "<math><style><b></style>",
+            "<select><textarea>", "<select><script>y</script></select>",
+            "<template>", "</template>", "<![CDATA[x<p>]]>",
+            "<!DOCTYPE html>", "<plaintext>", };
+
+    /**
+     * An error handler that throws on the first error.
+     */
+    private static final class ThrowingErrorHandler implements ErrorHandler {
+
+        public void warning(SAXParseException exception) throws SAXException {
+        }
+
+        public void error(SAXParseException exception) throws SAXException {
+            throw exception;
+        }
+
+        public void fatalError(SAXParseException exception)
+                throws SAXException {
+            throw exception;
+        }
+    }
+
+    /**
+     * An error handler that records the errors.
+     */
+    private static final class CollectingErrorHandler implements ErrorHandler {
+
+        final List<SAXParseException> errors = new ArrayList<SAXParseException>();
+
+        public void warning(SAXParseException exception) throws SAXException {
+            errors.add(exception);
+        }
+
+        public void error(SAXParseException exception) throws SAXException {
+            errors.add(exception);
+        }
+
+        public void fatalError(SAXParseException exception)
+                throws SAXException {
+            errors.add(exception);
+        }
+    }
+
+    /**
+     * Passes the content events on and throws when an element called
+     * <code>stop</code> starts.
+     */
+    private static final class ThrowingFilter extends XMLFilterImpl {
+
+        @Override public void startElement(String uri, String localName,
+                String qName, Attributes atts) throws SAXException {
+            if ("stop".equals(localName)) {
+                throw new SAXException("stop");
+            }
+            super.startElement(uri, localName, qName, atts);
+        }
+    }
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    private int failures;
+
+    private static String randomDocument(Random random, int fragments) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < fragments; i++) {
+            sb.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private HtmlParser newParser(boolean pipelined, boolean scripting,
+            ErrorHandler errorHandler, ParseLimits limits) {
+        return newParser(pipelined, scripting, errorHandler, limits, false);
+    }
+
+    private HtmlParser newParser(boolean pipelined, boolean scripting,
+            ErrorHandler errorHandler, ParseLimits limits,
+            boolean lazyLocations) {
+        HtmlParser parser = new HtmlParser(XmlViolationPolicy.ALLOW);
+        parser.setLazyLocations(lazyLocations);
+        parser.setStreamabilityViolationPolicy(XmlViolationPolicy.ALLOW);
+        parser.setScriptingEnabled(scripting);
+        parser.setErrorHandler(errorHandler);
+        parser.setParseLimits(limits);
+        if (pipelined) {
+            parser.setPipelineExecutor(executor);
+        }
+        return parser;
+    }
+
+    /**
+     * Returns the serialization or the message of the exception.
+     */
+    private static String outcome(HtmlParser parser, String doc)
+            throws IOException {
+        return outcome(parser, doc, "UTF-8");
+    }
+
+    /**
+     * Returns the serialization or the message of the exception.
+     * 
+     * @param encoding
+     *            the external encoding or <code>null</code> to sniff
+     */
+    private static String outcome(HtmlParser parser, String doc,
+            String encoding) throws IOException {
+        StringWriter writer = new StringWriter();
+        XmlSerializer serializer = new XmlSerializer(writer);
+        ThrowingFilter filter = new ThrowingFilter();
+        filter.setContentHandler(serializer);
+        parser.setContentHandler(filter);
+        parser.setLexicalHandler(serializer);
+        try {
+            InputSource is = new InputSource(new ByteArrayInputStream(
+                    doc.getBytes("UTF-8")));
+            is.setEncoding(encoding);
+            parser.parse(is);
+            return writer.toString();
+        } catch (SAXException e) {
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+    }
+
+    private void check(String name, String expected, String actual) {
+        if (expected.equals(actual)) {
+            System.out.println("PASS " + name);
+        } else {
+            failures++;
+            int i = 0;
+            while (i < expected.length() && i < actual.length()
+                    && expected.charAt(i) == actual.charAt(i)) {
+                i++;
+            }
+            System.out.println("FAIL " + name + ": differs at " + i);
+            System.out.println("  expected: "
+                    + expected.substring(i, Math.min(expected.length(), i + 80)));
+            System.out.println("  actual:   "
+                    + actual.substring(i, Math.min(actual.length(), i + 80)));
+        }
+    }
+
+    /**
+     * Parses a document that fails both sequentially and pipelined, and then
+     * a document that does not fail with the same pipelined parser.
+     */
+    private void compareFailure(String name, String doc,
+            ErrorHandler errorHandler, ParseLimits limits) throws IOException {
+        String expected = outcome(newParser(false, false, errorHandler,
+                limits), doc);
+        if (expected.startsWith("<?xml")) {
+            failures++;
+            System.out.println("FAIL " + name + ": did not fail sequentially");
+        }
+        HtmlParser pipelined = newParser(true, false, errorHandler, limits);
+        check(name, expected, outcome(pipelined, doc));
+        // The tokenizer thread has to be free for the next document.
+        String next = "<!DOCTYPE html><p>" + name + "</p>";
+        check(name + ", parser reused", outcome(newParser(false, false,
+                errorHandler, limits), next), outcome(pipelined, next));
+    }
+
+    /**
+     * Lists the messages of <code>errors</code> with the locations of the
+     * errors that have a location in <code>located</code>. The tree builder
+     * errors reported pipelined have no location.
+     */
+    private static String describe(List<SAXParseException> errors,
+            List<SAXParseException> located) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < errors.size(); i++) {
+            SAXParseException e = errors.get(i);
+            sb.append(e.getMessage());
+            if (i < located.size() && located.get(i).getLineNumber() != -1) {
+                sb.append(" at " + e.getLineNumber() + ":"
+                        + e.getColumnNumber());
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+
+    private void randomDocuments() throws IOException {
+        Random random = new Random(23);
+        int failuresBefore = failures;
+        for (int i = 0; i < 200; i++) {
+            // Long enough for several runs of the decoder buffer.
+            String doc = randomDocument(random, 50 + random.nextInt(2000));
+            boolean scripting = (i & 1) == 0;
+            String expected = outcome(newParser(false, scripting, null, null),
+                    doc);
+            String actual = outcome(newParser(true, scripting, null, null), doc);
+            if (!expected.equals(actual)) {
+                check("random document " + i + ": " + doc, expected, actual);
+            }
+        }
+        if (failures == failuresBefore) {
+            System.out.println("PASS random documents");
+        }
+    }
+
+    /**
+     * Reports errors while the tokenizer thread speculates.
+     */
+    private void randomDocumentsWithErrors() throws IOException {
+        Random random = new Random(29);
+        int failuresBefore = failures;
+        for (int i = 0; i < 100; i++) {
+            String doc = randomDocument(random, 50 + random.nextInt(2000));
+            boolean scripting = (i & 1) == 0;
+            boolean lazyLocations = (i & 2) == 0;
+            CollectingErrorHandler expected = new CollectingErrorHandler();
+            String expectedOutcome = outcome(newParser(false, scripting,
+                    expected, null, lazyLocations), doc);
+            CollectingErrorHandler actual = new CollectingErrorHandler();
+            String actualOutcome = outcome(newParser(true, scripting, actual,
+                    null, lazyLocations), doc);
+            if (!expectedOutcome.equals(actualOutcome)) {
+                check("random document with errors " + i + ": " + doc,
+                        expectedOutcome, actualOutcome);
+            }
+            String expectedErrors = describe(expected.errors, actual.errors);
+            String actualErrors = describe(actual.errors, actual.errors);
+            if (!expectedErrors.equals(actualErrors)) {
+                check("errors of random document " + i + ": " + doc,
+                        expectedErrors, actualErrors);
+            }
+        }
+        if (failures == failuresBefore) {
+            System.out.println("PASS random documents with errors");
+        }
+    }
+
+    /**
+     * Parses a document without an external encoding and with an encoding
+     * declaration after the bytes that are sniffed, so that the tree builder
+     * finds it.
+     */
+    private void encodingDeclaration(String name, String meta,
+            String expectedError) throws IOException {
+        StringBuilder sb = new StringBuilder("<!DOCTYPE html><title>t</title>");
+        for (int i = 0; i < 100; i++) {
+            sb.append("<!-- a comment that keeps the meta from the sniffer -->\n");
+        }
+        String doc = sb.append(meta).append("<p>caf\u00E9").toString();
+        CollectingErrorHandler expected = new CollectingErrorHandler();
+        HtmlParser sequential = newParser(false, false, expected, null);
+        // A reparse would not be possible pipelined.
+        sequential.setMaxRewindBytes(1024);
+        String expectedOutcome = outcome(sequential, doc, null);
+        CollectingErrorHandler actual = new CollectingErrorHandler();
+        String actualOutcome = outcome(newParser(true, false, actual, null),
+                doc, null);
+        check(name, expectedOutcome, actualOutcome);
+        String expectedErrors = describe(expected.errors, actual.errors);
+        if (expectedError != null) {
+            // Reported instead of the error about the bytes kept
+            expectedErrors = expectedErrors.replaceFirst(
+                    "\u201D found after the bytes kept for reparsing\\.",
+                    "\u201D " + expectedError);
+        }
+        check(name + ", errors", expectedErrors, describe(actual.errors,
+                actual.errors));
+    }
+
+    private void encodingDeclarations() throws IOException {
+        encodingDeclaration("unsupported meta charset",
+                "<meta charset=bogus>", null);
+        encodingDeclaration("utf-16 meta charset", "<meta charset=utf-16>",
+                "found, but the document can\u2019t be reparsed.");
+        encodingDeclaration("meta charset that agrees",
+                "<meta charset=windows-1252>", null);
+        encodingDeclaration("late meta charset", "<meta charset=utf-8>",
+                "found, but the document can\u2019t be reparsed.");
+    }
+
+    private void errors() throws IOException {
+        StringBuilder sb = new StringBuilder("<!DOCTYPE html>");
+        for (int i = 0; i < 5000; i++) {
+            sb.append("<p class=x>text<script>a<b</script><textarea>q</textarea>\n");
+        }
+        String prefix = sb.toString();
+        ErrorHandler throwing = new ThrowingErrorHandler();
+        compareFailure("tokenizer error", prefix + "<p a=1 a=2>", throwing,
+                null);
+        compareFailure("tree builder error", prefix + "</div>", throwing,
+                null);
+        ParseLimits limits = new ParseLimits();
+        limits.setMaxAttributes(3);
+        compareFailure("tokenizer limit", prefix + "<p a b c d e>", null,
+                limits);
+        limits = new ParseLimits();
+        limits.setMaxNodes(1000);
+        compareFailure("tree builder limit", prefix, null, limits);
+        compareFailure("content handler exception", prefix + "<stop>", null,
+                null);
+        compareFailure("content handler exception early", "<stop>" + prefix,
+                null, null);
+    }
+
+    private void run() throws IOException {
+        try {
+            randomDocuments();
+            randomDocumentsWithErrors();
+            encodingDeclarations();
+            errors();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * @param args
+     *            ignored
+     * @throws IOException
+     */
+    public static void main(String[] args) throws IOException {
+        // A tokenizer thread that is not released makes a parse hang.
+        Thread watchdog = new Thread() {
+            @Override public void run() {
+                try {
+                    Thread.sleep(300000);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                System.out.println("FAIL timed out");
+                System.exit(1);
+            }
+        };
+        watchdog.setDaemon(true);
+        watchdog.start();
+        PipelinedDriverTester tester = new PipelinedDriverTester();
+        tester.run();
+        if (tester.failures != 0) {
+            System.out.println(tester.failures + " failures");
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.dom.Dom2Sax;
+import nu.validator.htmlparser.dom.HtmlDocumentBuilder;
+import nu.validator.htmlparser.impl.ParseLimits;
+import nu.validator.htmlparser.io.ParserPool;
+import nu.validator.htmlparser.sax.HtmlParser;
+
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Checks that a parser that is reset and reused builds the same trees as
+ * fresh parsers. Every document is parsed after every other document with
+ * one <code>HtmlDocumentBuilder</code>, one <code>HtmlParser</code> and a
+ * <code>ParserPool</code>. The first documents leave open elements, a half
+ * finished character reference or an unterminated comment or script behind.
+ * The others grow the stack, the list of active formatting elements, the
+ * character buffer and the tokenizer buffer past what is kept for the next
+ * parse. A parse that is aborted by a limit is followed by another parse,
+ * too.
+ *
+ * @version $Id$
+ */
+public class ReusableParserTester {
+
+    private static final String[] CONTEXTS = { null, "div", "table", "svg" };
+
+    private final String[] docs;
+
+    private int failures;
+
+    private int tests;
+
+    private ReusableParserTester() {
+        StringBuilder deep = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            deep.append("<div>");
+        }
+        deep.append("deep");
+        StringBuilder formatting = new StringBuilder("<p>");
+        for (int i = 0; i < 1500; i++) {
+            formatting.append(i % 2 == 0 ? "<b>" : "<i class=c" + i + ">");
+        }
+        formatting.append("</p>formatting");
+        StringBuilder text = new StringBuilder("<pre>");
+        for (int i = 0; i < 100 * 1024; i++) {
+            text.append((char) ('a' + i % 26));
+        }
+        StringBuilder attribute = new StringBuilder("<div title='");
+        for (int i = 0; i < 20 * 1024; i++) {
+            attribute.append((char) ('A' + i % 26));
+        }
+        attribute.append("'>attribute</div>");
+        docs = new String[] {
+                "<table><tr><td><b><i>open",
+                "<p>a&amp",
+                "<p title='&#x4",
+                "<p>&notin",
+                "<!--unterminated",
+                "<script>var a = '<!--<script>",
+                "<svg><![CDATA[x",
+                "<select><option>o<template><td>t",
+                "<!DOCTYPE html><title>t</title><p>a<b>b<i>c</b>d</i>e",
+                deep.toString(), formatting.toString(), text.toString(),
+                attribute.toString(), };
+    }
+
+    private static final class DumpHandler extends TreeDumpContentHandler {
+
+        DumpHandler(StringWriter writer) {
+            super(writer, false);
+        }
+
+        @Override public void startDTD(String name, String publicIdentifier,
+                String systemIdentifier) throws SAXException {
+        }
+    }
+
+    private static String contextNamespace(String context) {
+        if ("svg".equals(context)) {
+            return "http://www.w3.org/2000/svg";
+        }
+        return "http://www.w3.org/1999/xhtml";
+    }
+
+    private static HtmlDocumentBuilder newBuilder() {
+        return new HtmlDocumentBuilder(XmlViolationPolicy.ALTER_INFOSET);
+    }
+
+    private static HtmlParser newParser() {
+        return new HtmlParser(XmlViolationPolicy.ALTER_INFOSET);
+    }
+
+    private static String dom(HtmlDocumentBuilder builder, String doc,
+            String context) {
+        try {
+            InputSource is = new InputSource(new StringReader(doc));
+            Node node;
+            if (context == null) {
+                node = builder.parse(is);
+            } else {
+                node = builder.parseFragment(is, context,
+                        contextNamespace(context));
+            }
+            StringWriter writer = new StringWriter();
+            DumpHandler dump = new DumpHandler(writer);
+            new Dom2Sax(dump, dump).parse(node);
+            dump.endDocument();
+            return writer.toString();
+        } catch (Exception e) {
+            return e.toString();
+        }
+    }
+
+    private static String sax(HtmlParser parser, String doc, String context) {
+        try {
+            StringWriter writer = new StringWriter();
+            DumpHandler dump = new DumpHandler(writer);
+            parser.setContentHandler(dump);
+            parser.setLexicalHandler(dump);
+            InputSource is = new InputSource(new StringReader(doc));
+            if (context == null) {
+                parser.parse(is);
+            } else {
+                parser.parseFragment(is, context, contextNamespace(context));
+            }
+            return writer.toString();
+        } catch (Exception e) {
+            return e.toString();
+        }
+    }
+
+    private void check(String name, String expected, String actual) {
+        tests++;
+        if (expected.equals(actual)) {
+            return;
+        }
+        failures++;
+        System.out.println("FAIL " + name);
+        System.out.println("  expected:\n"
+                + expected.substring(0, Math.min(expected.length(), 400)));
+        System.out.println("  actual:\n"
+                + actual.substring(0, Math.min(actual.length(), 400)));
+    }
+
+    private static String shorten(String doc) {
+        return doc.length() > 40 ? doc.substring(0, 40) + "..." : doc;
+    }
+
+    /**
+     * Parses each document after each other document with reset parsers
+     * and compares with fresh parsers.
+     */
+    private void pairs() {
+        for (String context : CONTEXTS) {
+            for (String a : docs) {
+                for (String b : docs) {
+                    String name = shorten(a) + " then " + shorten(b)
+                            + (context == null ? "" : " in " + context);
+                    HtmlDocumentBuilder builder = newBuilder();
+                    dom(builder, a, context);
+                    builder.reset();
+                    check("DOM " + name, dom(newBuilder(), b, context), dom(
+                            builder, b, context));
+                    HtmlParser parser = newParser();
+                    sax(parser, a, context);
+                    parser.reset();
+                    check("SAX " + name, sax(newParser(), b, context), sax(
+                            parser, b, context));
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs all the documents through a pool with one slot, so that the same
+     * builder is used for all of them.
+     */
+    private void pool() {
+        ParserPool<HtmlDocumentBuilder> pool = new ParserPool<HtmlDocumentBuilder>(
+                1) {
+            @Override protected HtmlDocumentBuilder newParser() {
+                return newBuilder();
+            }
+        };
+        HtmlDocumentBuilder first = pool.acquire();
+        pool.release(first);
+        for (int round = 0; round < 2; round++) {
+            for (String doc : docs) {
+                HtmlDocumentBuilder builder = pool.acquire();
+                if (builder != first) {
+                    failures++;
+                    System.out.println("FAIL pool did not reuse the builder");
+                }
+                try {
+                    check("pool " + shorten(doc), dom(newBuilder(), doc,
+                            null), dom(builder, doc, null));
+                } finally {
+                    pool.release(builder);
+                }
+            }
+        }
+    }
+
+    /**
+     * Aborts parses with the node limit and the stack depth limit and parses
+     * each document afterwards.
+     */
+    private void afterLimit() {
+        ParseLimits nodes = new ParseLimits();
+        nodes.setMaxNodes(1000);
+        ParseLimits depth = new ParseLimits();
+        depth.setMaxStackDepth(100);
+        ParseLimits[] limits = { nodes, depth };
+        for (ParseLimits limit : limits) {
+            for (String doc : docs) {
+                String name = "after " + limit.getMaxNodes() + " nodes or "
+                        + limit.getMaxStackDepth() + " deep, "
+                        + shorten(doc);
+                HtmlDocumentBuilder builder = newBuilder();
+                builder.setParseLimits(limit);
+                String aborted = dom(builder, docs[9], null);
+                if (!aborted.startsWith("nu.validator.htmlparser.impl.ParseLimitExceededException")) {
+                    failures++;
+                    System.out.println("FAIL " + name + ": not aborted: "
+                            + shorten(aborted));
+                }
+                builder.reset();
+                HtmlDocumentBuilder fresh = newBuilder();
+                fresh.setParseLimits(limit);
+                check("DOM " + name, dom(fresh, doc, null), dom(builder, doc,
+                        null));
+                HtmlParser parser = newParser();
+                parser.setParseLimits(limit);
+                sax(parser, docs[9], null);
+                parser.reset();
+                HtmlParser freshParser = newParser();
+                freshParser.setParseLimits(limit);
+                check("SAX " + name, sax(freshParser, doc, null), sax(parser,
+                        doc, null));
+            }
+        }
+    }
+
+    /**
+     * @param args
+     *            ignored
+     * @throws SAXException
+     * @throws IOException
+     */
+    public static void main(String[] args) throws SAXException, IOException {
+        ReusableParserTester tester = new ReusableParserTester();
+        tester.pairs();
+        tester.pool();
+        tester.afterLimit();
+        System.out.println(tester.tests + " parses compared, "
+                + tester.failures + " failures");
+        if (tester.failures != 0) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.impl.ParseLimits;
+import nu.validator.htmlparser.io.Driver;
+import nu.validator.htmlparser.rewindable.BlockPool;
+import nu.validator.htmlparser.rewindable.RewindableInputStream;
+import nu.validator.htmlparser.sax.HtmlParser;
+
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Checks the window of bytes that <code>RewindableInputStream</code> keeps
+ * for reparsing and that the blocks it keeps them in go back to the pool.
+ * The documents declare windows-1251 inside a <code>script</code>, where
+ * the prescan finds it, and then declare KOI8-R in a <code>meta</code>
+ * that the tree builder sees. The byte 0xC1 is U+0430 in KOI8-R and U+0411
+ * in windows-1251, so the text shows whether the document was reparsed.
+ *
+ * @version $Id$
+ */
+public class RewindWindowTester {
+
+    private static final String HEAD = "<script><meta charset=windows-1251></script><meta charset=koi8-r>";
+
+    private static final String REPARSING = "and reparsing.";
+
+    private static final String PAST_WINDOW = "found after the bytes kept for reparsing.";
+
+    private int failures;
+
+    private int tests;
+
+    /**
+     * Collects the text and the errors and throws at an error if asked to.
+     */
+    private static final class RecordingHandler extends DefaultHandler
+            implements ErrorHandler {
+
+        final StringBuilder text = new StringBuilder();
+
+        final StringBuilder errors = new StringBuilder();
+
+        private final String throwAtError;
+
+        RecordingHandler(String throwAtError) {
+            this.throwAtError = throwAtError;
+        }
+
+        @Override public void characters(char[] ch, int start, int length) {
+            text.append(ch, start, length);
+        }
+
+        @Override public void error(SAXParseException e) throws SAXException {
+            errors.append(e.getMessage()).append('\n');
+            if (throwAtError != null
+                    && e.getMessage().indexOf(throwAtError) != -1) {
+                throw e;
+            }
+        }
+
+        @Override public void fatalError(SAXParseException e)
+                throws SAXException {
+            throw e;
+        }
+
+        @Override public void warning(SAXParseException e) {
+        }
+    }
+
+    /**
+     * Returns the bytes of <code>first</code> and <code>length</code> bytes
+     * of letters.
+     */
+    private static byte[] document(String first, int length) {
+        byte[] doc = new byte[first.length() + length];
+        for (int i = 0; i < first.length(); i++) {
+            doc[i] = (byte) first.charAt(i);
+        }
+        for (int i = 0; i < length; i++) {
+            doc[first.length() + i] = (byte) ('a' + i % 26);
+        }
+        return doc;
+    }
+
+    private static RecordingHandler parse(byte[] doc, int maxRewindBytes,
+            InputStream stream, ParseLimits limits, String throwAtError) {
+        RecordingHandler handler = new RecordingHandler(throwAtError);
+        HtmlParser parser = new HtmlParser(XmlViolationPolicy.ALLOW);
+        parser.setMaxRewindBytes(maxRewindBytes);
+        parser.setParseLimits(limits);
+        parser.setContentHandler(handler);
+        parser.setErrorHandler(handler);
+        try {
+            parser.parse(new InputSource(stream == null ? new ByteArrayInputStream(
+                    doc)
+                    : stream));
+        } catch (SAXException e) {
+            handler.errors.append("thrown: ").append(e.getMessage()).append(
+                    '\n');
+        } catch (IOException e) {
+            handler.errors.append("thrown: ").append(e.getMessage()).append(
+                    '\n');
+        }
+        return handler;
+    }
+
+    private void check(String name, boolean ok, String detail) {
+        tests++;
+        if (!ok) {
+            failures++;
+            System.out.println("FAIL " + name + ": " + detail);
+        }
+    }
+
+    /**
+     * Parses with the window larger than the document, exactly as large and
+     * smaller.
+     */
+    private void window() {
+        byte[] doc = document(HEAD + "\u00C1", 100);
+        int[] inside = { Integer.MAX_VALUE, 1024, doc.length };
+        for (int maxRewindBytes : inside) {
+            RecordingHandler handler = parse(doc, maxRewindBytes, null, null,
+                    null);
+            String errors = handler.errors.toString();
+            check("meta inside a window of " + maxRewindBytes,
+                    errors.indexOf(REPARSING) != -1
+                            && errors.indexOf(PAST_WINDOW) == -1
+                            && handler.text.indexOf("\u0430") != -1, errors);
+        }
+        int[] past = { 0, 16, doc.length - 1 };
+        for (int maxRewindBytes : past) {
+            RecordingHandler handler = parse(doc, maxRewindBytes, null, null,
+                    null);
+            String errors = handler.errors.toString();
+            check("meta past a window of " + maxRewindBytes,
+                    errors.indexOf(REPARSING) == -1
+                            && errors.indexOf(PAST_WINDOW) != -1
+                            && handler.text.indexOf("\u0411") != -1, errors);
+        }
+    }
+
+    /**
+     * Reads from a <code>RewindableInputStream</code> byte by byte and in
+     * arrays across the window and checks the replay and the blocks.
+     */
+    private void stream() throws IOException {
+        byte[] doc = document("", 3 * BlockPool.BLOCK_SIZE + 100);
+        for (int maxSaved : new int[] { 10, BlockPool.BLOCK_SIZE + 1,
+                doc.length }) {
+            for (int chunk : new int[] { 1, 7, 5000 }) {
+                String name = "stream keeping " + maxSaved + " read by "
+                        + chunk;
+                BlockPool pool = new BlockPool(8);
+                RewindableInputStream ris = new RewindableInputStream(
+                        new ByteArrayInputStream(doc), maxSaved, pool);
+                byte[] buf = new byte[chunk];
+                int read = 0;
+                while (read < maxSaved && read < doc.length) {
+                    int n = chunk == 1 ? ris.read() : ris.read(buf, 0,
+                            Math.min(chunk, maxSaved - read));
+                    read += chunk == 1 ? 1 : n;
+                }
+                check(name + ", can rewind at the window", ris.canRewind(),
+                        "after " + read);
+                ris.rewind();
+                int i = 0;
+                int c;
+                while (i < doc.length && (c = ris.read()) != -1) {
+                    if (c != (doc[i] & 0xFF)) {
+                        break;
+                    }
+                    i++;
+                }
+                check(name + ", replay", i == doc.length, "differs at " + i);
+                if (maxSaved < doc.length) {
+                    check(name + ", cannot rewind past the window",
+                            !ris.canRewind(), "");
+                } else {
+                    ris.willNotRewind();
+                }
+                ris.close();
+                int blocks = (Math.min(maxSaved, doc.length)
+                        + BlockPool.BLOCK_SIZE - 1)
+                        / BlockPool.BLOCK_SIZE;
+                check(name + ", blocks released", pool.getIdleCount() == blocks,
+                        pool.getIdleCount() + " idle, " + blocks + " used");
+            }
+        }
+        // Stops rewinding in the middle of the replay
+        BlockPool pool = new BlockPool(8);
+        RewindableInputStream ris = new RewindableInputStream(
+                new ByteArrayInputStream(doc), doc.length, pool);
+        byte[] buf = new byte[1000];
+        while (ris.read(buf, 0, buf.length) != -1) {
+            // read all
+        }
+        ris.rewind();
+        for (int i = 0; i < BlockPool.BLOCK_SIZE + 10; i++) {
+            ris.read();
+        }
+        ris.willNotRewind();
+        ris.close();
+        check("stream closed in the middle of the replay",
+                pool.getIdleCount() == 4, pool.getIdleCount() + " idle");
+    }
+
+    /**
+     * An input stream that throws after some bytes.
+     */
+    private static final class FailingInputStream extends InputStream {
+
+        private final byte[] doc;
+
+        private int pos;
+
+        FailingInputStream(byte[] doc) {
+            this.doc = doc;
+        }
+
+        @Override public int read() throws IOException {
+            if (pos == doc.length) {
+                throw new IOException("Thrown after " + pos + " bytes");
+            }
+            return doc[pos++] & 0xFF;
+        }
+
+        @Override public int read(byte[] b, int off, int len)
+                throws IOException {
+            if (pos == doc.length) {
+                throw new IOException("Thrown after " + pos + " bytes");
+            }
+            int n = Math.min(len, doc.length - pos);
+            System.arraycopy(doc, pos, b, off, n);
+            pos += n;
+            return n;
+        }
+    }
+
+    /**
+     * Runs a parse and checks that it leaves as many idle blocks in the pool
+     * of <code>Driver</code> as there were before. The same document is
+     * parsed without failing first, so that the pool has the blocks that
+     * the parse takes and a block that is not returned shows.
+     */
+    private void pooled(String name, byte[] doc, int maxRewindBytes,
+            boolean failingStream, ParseLimits limits, String throwAtError,
+            String expected) {
+        parse(doc, maxRewindBytes, null, null, null);
+        int before = Driver.getIdleRewindBlocks();
+        RecordingHandler handler = parse(doc, maxRewindBytes,
+                failingStream ? new FailingInputStream(doc) : null, limits,
+                throwAtError);
+        int after = Driver.getIdleRewindBlocks();
+        String errors = handler.errors.toString();
+        check(name + ", outcome", errors.indexOf(expected) != -1, errors);
+        check(name + ", blocks returned", before > 0 && before == after,
+                before + " idle before, " + after + " after");
+    }
+
+    private void pool() {
+        byte[] small = document(HEAD + "\u00C1", 100);
+        byte[] large = document(HEAD + "\u00C1", 5 * BlockPool.BLOCK_SIZE);
+        byte[] noMeta = document("<p>", 5 * BlockPool.BLOCK_SIZE);
+        ParseLimits beforeReparse = new ParseLimits();
+        beforeReparse.setMaxNodes(2);
+        ParseLimits afterReparse = new ParseLimits();
+        afterReparse.setMaxNodes(4);
+        pooled("reparse", small, Integer.MAX_VALUE, false, null, null,
+                REPARSING);
+        pooled("reparse of a large document", large, Integer.MAX_VALUE,
+                false, null, null, REPARSING);
+        pooled("no meta", noMeta, Integer.MAX_VALUE, false, null, null,
+                "was not declared");
+        pooled("past the window", large, 100, false, null, null,
+                PAST_WINDOW);
+        pooled("limit before the reparse", large, Integer.MAX_VALUE, false,
+                beforeReparse, null, "thrown: ");
+        pooled("limit after the reparse", large, Integer.MAX_VALUE, false,
+                afterReparse, null, REPARSING + "\nthrown: ");
+        pooled("error handler throws when sniffing", large,
+                Integer.MAX_VALUE, false, null, "Legacy encoding",
+                "thrown: Legacy encoding");
+        pooled("error handler throws at the reparse", large,
+                Integer.MAX_VALUE, false, null, REPARSING, "thrown: Changing");
+        pooled("stream throws when sniffing", document("<p>", 100),
+                Integer.MAX_VALUE, true, null, null, "thrown: Thrown after");
+        pooled("stream throws after the reparse", large, Integer.MAX_VALUE,
+                true, null, null, REPARSING + "\nthrown: ");
+    }
+
+    /**
+     * @param args
+     *            ignored
+     * @throws IOException
+     */
+    public static void main(String[] args) throws IOException {
+        RewindWindowTester tester = new RewindWindowTester();
+        tester.window();
+        tester.stream();
+        tester.pool();
+        System.out.println(tester.tests + " checks, " + tester.failures
+                + " failures");
+        if (tester.failures != 0) {
+            System.exit(1);
+        }
+    }
+}
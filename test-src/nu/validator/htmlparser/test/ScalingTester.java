@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+
+package nu.validator.htmlparser.test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.impl.ParseLimitExceededException;
+import nu.validator.htmlparser.impl.ParseLimits;
+import nu.validator.htmlparser.impl.ParseStatistics;
+import nu.validator.htmlparser.sax.HtmlParser;
+
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * Checks that the work done for the adversarial documents grows linearly
+ * with their size when the stack depth and the length of the list of active
+ * formatting elements are limited. Each case is parsed at a base size and at
+ * four times the base size, and the ratio of the step counters of the parse
+ * statistics has to be four. The step counters count the entries that the
+ * searches actually looked at and are deterministic, so unlike parse times
+ * they can be checked on a busy machine. The parse times are printed for
+ * information only.
+ * 
+ * <p>
+ * Without the limits, the spec algorithms search the stack and the list
+ * linearly, so documents that make them grow with the input take quadratic
+ * time. Such documents have to be aborted. The documents that are compared
+ * grow the stack or the list up to just under the limits and then keep
+ * repeating their pattern, which is the worst that a document can do within
+ * the limits.
+ * 
+ * @version $Id$
+ */
+public class ScalingTester {
+
+    private static final int BASE_COUNT = 2500;
+
+    private static final int FACTOR = 4;
+
+    /**
+     * The limit of the stack depth and of the list length.
+     */
+    private static final int LIMIT = 256;
+
+    /**
+     * The number of repetitions that grow the stack or the list. Each adds
+     * about one entry.
+     */
+    private static final int GROWING = 200;
+
+    /**
+     * How far the step ratio may be from the expected ratio.
+     */
+    private static final double TOLERANCE = 0.1;
+
+    private static final int RUNS = 5;
+
+    private final HtmlParser parser;
+
+    private final ParseStatistics statistics;
+
+    private ScalingTester() {
+        parser = new HtmlParser(XmlViolationPolicy.ALTER_INFOSET);
+        parser.setContentHandler(new DefaultHandler());
+        statistics = new ParseStatistics();
+        parser.setParseStatistics(statistics);
+        ParseLimits limits = new ParseLimits();
+        limits.setMaxStackDepth(LIMIT);
+        limits.setMaxActiveFormattingElements(LIMIT);
+        parser.setParseLimits(limits);
+    }
+
+    /**
+     * Returns the fastest of several parses of the document, in nanoseconds.
+     */
+    private long time(String doc) throws IOException, SAXException {
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < RUNS; i++) {
+            long start = System.nanoTime();
+            parser.parse(new InputSource(new StringReader(doc)));
+            long elapsed = System.nanoTime() - start;
+            if (elapsed < best) {
+                best = elapsed;
+            }
+        }
+        return best;
+    }
+
+    private static long steps(ParseStatistics statistics) {
+        return statistics.getAdoptionAgencySteps()
+                + statistics.getReconstructionSteps()
+                + statistics.getNoahsArkSteps()
+                + statistics.getScopeSearchSteps();
+    }
+
+    /**
+     * Checks that the document that grows the stack or the list with every
+     * repetition goes over the limits, unless the case does not grow them.
+     */
+    private boolean checkAborted(String name) throws IOException,
+            SAXException {
+        String doc = AdversarialDocuments.generate(name, BASE_COUNT);
+        try {
+            parser.parse(new InputSource(new StringReader(doc)));
+        } catch (ParseLimitExceededException e) {
+            return true;
+        }
+        if (statistics.getMaxStackDepth() < GROWING) {
+            return true;
+        }
+        System.out.println("FAIL " + name + ": not aborted");
+        return false;
+    }
+
+    private boolean check(String name) throws IOException, SAXException {
+        if (!checkAborted(name)) {
+            return false;
+        }
+        String small = AdversarialDocuments.generate(name, BASE_COUNT,
+                GROWING);
+        String large = AdversarialDocuments.generate(name, BASE_COUNT
+                * FACTOR, GROWING);
+        // warm up the JIT on the larger document
+        time(large);
+        long smallTime = time(small);
+        long smallSteps = steps(statistics);
+        long largeTime = time(large);
+        long largeSteps = steps(statistics);
+        double ratio = (double) largeSteps / smallSteps;
+        boolean ok = Math.abs(ratio - FACTOR) <= FACTOR * TOLERANCE;
+        System.out.println((ok ? "PASS " : "FAIL ") + name + ": step ratio "
+                + ratio + ", expected " + FACTOR + ", time ratio "
+                + ((double) largeTime / smallTime));
+        if (!ok) {
+            System.out.println(statistics);
+        }
+        return ok;
+    }
+
+    /**
+     * @param args
+     *            the names of the cases to run, all cases if none
+     * @throws SAXException
+     * @throws IOException
+     */
+    public static void main(String[] args) throws IOException, SAXException {
+        String[] names = args.length == 0 ? AdversarialDocuments.CASES : args;
+        ScalingTester tester = new ScalingTester();
+        boolean ok = true;
+        for (int i = 0; i < names.length; i++) {
+            ok &= tester.check(names[i]);
+        }
+        if (!ok) {
+            System.exit(1);
+        }
+    }
+}
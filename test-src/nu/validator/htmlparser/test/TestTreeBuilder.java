@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.StringWriter;
+
+import nu.validator.htmlparser.impl.HtmlAttributes;
+import nu.validator.htmlparser.impl.TreeBuilder;
+import nu.validator.htmlparser.sax.XmlSerializer;
+import nu.validator.saxtree.Characters;
+import nu.validator.saxtree.Comment;
+import nu.validator.saxtree.DTD;
+import nu.validator.saxtree.Document;
+import nu.validator.saxtree.Element;
+import nu.validator.saxtree.Node;
+import nu.validator.saxtree.ParentNode;
+import nu.validator.saxtree.TreeParser;
+
+import org.xml.sax.SAXException;
+
+/**
+ * A tree builder for the testers that drive the tokenizer and the tree
+ * builder without one of the parser front ends. It builds a SAX tree like
+ * the tree builder of <code>HtmlParser</code>, so the tree serializes the
+ * same as the output of <code>HtmlParser</code>. The elements keep the
+ * attributes they are created with, so the tokenizer has to be created with
+ * <code>newAttributesEachTime</code>.
+ *
+ * @version $Id$
+ */
+class TestTreeBuilder extends TreeBuilder<Element> {
+
+    private Document document;
+
+    @Override protected void appendComment(Element parent, char[] buf,
+            int start, int length) {
+        parent.appendChild(new Comment(tokenizer, buf, start, length));
+    }
+
+    @Override protected void appendCommentToDocument(char[] buf, int start,
+            int length) {
+        document.appendChild(new Comment(tokenizer, buf, start, length));
+    }
+
+    @Override protected void appendCharacters(Element parent, char[] buf,
+            int start, int length) {
+        parent.appendChild(new Characters(tokenizer, buf, start, length));
+    }
+
+    @Override protected boolean hasChildren(Element element) {
+        return element.getFirstChild() != null;
+    }
+
+    @Override protected void appendElement(Element child, Element newParent) {
+        newParent.appendChild(child);
+    }
+
+    @Override protected Element createHtmlElementSetAsRoot(
+            HtmlAttributes attributes) {
+        Element newElt = new Element(tokenizer,
+                "http://www.w3.org/1999/xhtml", "html", "html", attributes,
+                true, null);
+        document.appendChild(newElt);
+        return newElt;
+    }
+
+    @Override protected void addAttributesToElement(Element element,
+            HtmlAttributes attributes) throws SAXException {
+        ((HtmlAttributes) element.getAttributes()).merge(attributes);
+    }
+
+    @Override protected void appendDoctypeToDocument(String name,
+            String publicIdentifier, String systemIdentifier) {
+        document.appendChild(new DTD(tokenizer, name, publicIdentifier,
+                systemIdentifier));
+    }
+
+    @Override protected void start(boolean fragment) {
+        document = new Document(tokenizer);
+    }
+
+    @Override protected void appendChildrenToNewParent(Element oldParent,
+            Element newParent) throws SAXException {
+        newParent.appendChildren(oldParent);
+    }
+
+    @Override protected Element createElement(String ns, String name,
+            HtmlAttributes attributes, Element intendedParent)
+            throws SAXException {
+        return new Element(tokenizer, ns, name, name, attributes, true, null);
+    }
+
+    @Override protected Element createAndInsertFosterParentedElement(
+            String ns, String name, HtmlAttributes attributes, Element table,
+            Element stackParent) throws SAXException {
+        Element child = createElement(ns, name, attributes, null);
+        insertFosterParented(child, table, stackParent);
+        return child;
+    }
+
+    @Override protected void insertFosterParentedCharacters(char[] buf,
+            int start, int length, Element table, Element stackParent)
+            throws SAXException {
+        insertFosterParented(new Characters(tokenizer, buf, start, length),
+                table, stackParent);
+    }
+
+    @Override protected void insertFosterParentedChild(Element child,
+            Element table, Element stackParent) throws SAXException {
+        insertFosterParented(child, table, stackParent);
+    }
+
+    private void insertFosterParented(Node child, Element table,
+            Element stackParent) {
+        ParentNode parent = table.getParentNode();
+        if (parent != null) {
+            parent.insertBetween(child, table.getPreviousSibling(), table);
+        } else {
+            stackParent.appendChild(child);
+        }
+    }
+
+    @Override protected void detachFromParent(Element element)
+            throws SAXException {
+        element.detach();
+    }
+
+    /**
+     * Serializes the document built by the last parse.
+     *
+     * @return the document as XML
+     * @throws SAXException
+     */
+    String serialize() throws SAXException {
+        StringWriter writer = new StringWriter();
+        XmlSerializer serializer = new XmlSerializer(writer);
+        new TreeParser(serializer, serializer).parse(document);
+        document = null;
+        return writer.toString();
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import nu.validator.htmlparser.dom.HtmlDocumentBuilder;
+import nu.validator.htmlparser.impl.ParseLimitExceededException;
+import nu.validator.htmlparser.impl.ParseLimits;
+import nu.validator.htmlparser.xom.HtmlBuilder;
+
+import org.xml.sax.InputSource;
+
+/**
+ * Checks that the text length limit applies to the text nodes that the DOM
+ * and XOM tree builders merge from several flushes of text. Stray end tags
+ * flush the text without creating nodes, so each case ends up with a
+ * single text node of 200 characters.
+ * 
+ * @version $Id$
+ */
+public class TextLengthLimitTester {
+
+    private static final int MAX_TEXT_LENGTH = 10;
+
+    private static String repeat(String prefix, String s, int count) {
+        StringBuilder sb = new StringBuilder(prefix);
+        for (int i = 0; i < count; i++) {
+            sb.append(s);
+        }
+        return sb.toString();
+    }
+
+    private static ParseLimits limits() {
+        ParseLimits limits = new ParseLimits();
+        limits.setMaxTextLength(MAX_TEXT_LENGTH);
+        return limits;
+    }
+
+    private static boolean isTextLengthLimit(Throwable t) {
+        for (; t != null; t = t.getCause()) {
+            if (t instanceof ParseLimitExceededException) {
+                return ((ParseLimitExceededException) t).getLimit() == ParseLimits.Limit.TEXT_LENGTH;
+            }
+        }
+        return false;
+    }
+
+    private static Throwable parseDom(String doc) throws IOException {
+        HtmlDocumentBuilder builder = new HtmlDocumentBuilder();
+        builder.setParseLimits(limits());
+        try {
+            builder.parse(new InputSource(new StringReader(doc)));
+            return null;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    private static Throwable parseXom(String doc) throws IOException {
+        HtmlBuilder builder = new HtmlBuilder();
+        builder.setParseLimits(limits());
+        try {
+            builder.build(new InputSource(new StringReader(doc)));
+            return null;
+        } catch (Exception e) {
+            return e;
+        }
+    }
+
+    private static boolean check(String name, Throwable t, boolean overLimit) {
+        boolean ok = overLimit ? isTextLengthLimit(t) : t == null;
+        System.out.println((ok ? "PASS " : "FAIL ") + name
+                + (t == null ? "" : ": " + t));
+        return ok;
+    }
+
+    /**
+     * @param args
+     *            ignored
+     * @throws IOException
+     */
+    public static void main(String[] args) throws IOException {
+        String merged = repeat("<p>", "aaaa</i>", 50);
+        String fosterParented = repeat("<table>", "aaaa</i>", 50);
+        String short_ = repeat("<p>", "aaaa</i>", 2);
+        boolean ok = true;
+        ok &= check("dom merged", parseDom(merged), true);
+        ok &= check("dom foster-parented", parseDom(fosterParented), true);
+        ok &= check("dom under limit", parseDom(short_), false);
+        ok &= check("xom merged", parseXom(merged), true);
+        ok &= check("xom foster-parented", parseXom(fosterParented), true);
+        ok &= check("xom under limit", parseXom(short_), false);
+        if (!ok) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import nu.validator.htmlparser.common.XmlViolationPolicy;
+import nu.validator.htmlparser.dom.DOMTreeOpApplier;
+import nu.validator.htmlparser.dom.HtmlDocumentBuilder;
+import nu.validator.htmlparser.impl.HtmlAttributes;
+import nu.validator.htmlparser.impl.Tokenizer;
+import nu.validator.htmlparser.impl.UTF16Buffer;
+import nu.validator.htmlparser.treeop.TreeOpBuilder;
+
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+/**
+ * Checks that applying the logs of <code>TreeOpBuilder</code> with
+ * <code>DOMTreeOpApplier</code> builds the same tree as
+ * <code>HtmlDocumentBuilder</code>. Random documents with misnested
+ * formatting elements, tables and foster parented content are parsed in
+ * small buffers and the log is applied after each buffer. After each buffer,
+ * <code>hasChildren()</code> of the builder has to agree with the DOM built
+ * so far for every element.
+ *
+ * @version $Id$
+ */
+public class TreeOpTester {
+
+    private static final String[] FRAGMENTS = { "<p>", "</p>",
+            "<div class=x>", "</div>", "text ", "\n", "&amp;", "<b>", "</b>",
+            "<i>", "</i>", "<a href=y>", "</a>", "<table>", "<tr>", "<td>",
+            "</td>", "</table>", "<!--c-->", "<script>a < b</script>",
+            "<title>t</title>", "<textarea>x</textarea>", "<svg>", "</svg>",
+            "<math><mi>", "<select><option>", "</select>", "<template>",
+            "</template>", "<li>", "<form>", "</form>", "<body x=1>",
+            "<html y=2>", "<!DOCTYPE html>", "<br>", "</br>", "<nobr>",
+            "<frameset>", };
+
+    private static final int[] CHUNK_SIZES = { 7, 64, 100000 };
+
+    /**
+     * Records whether each handle has children after each buffer.
+     */
+    private static final class CheckingTreeOpBuilder extends TreeOpBuilder {
+
+        private int handles;
+
+        CheckingTreeOpBuilder() {
+            super();
+        }
+
+        @Override protected Integer createElement(String ns, String name,
+                HtmlAttributes attributes, Integer form,
+                Integer intendedParent) throws SAXException {
+            handles++;
+            return super.createElement(ns, name, attributes, form,
+                    intendedParent);
+        }
+
+        @Override protected Integer createHtmlElementSetAsRoot(
+                HtmlAttributes attributes) throws SAXException {
+            handles++;
+            return super.createHtmlElementSetAsRoot(attributes);
+        }
+
+        String children() throws SAXException {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < handles; i++) {
+                sb.append(hasChildren(Integer.valueOf(i)) ? '1' : '0');
+            }
+            return sb.toString();
+        }
+    }
+
+    /**
+     * Keeps the elements in the order of their handles.
+     */
+    private static final class RecordingApplier extends DOMTreeOpApplier {
+
+        final List<Element> elements = new ArrayList<Element>();
+
+        RecordingApplier() {
+            super();
+        }
+
+        @Override protected Element createElement(String ns, String name,
+                HtmlAttributes attributes, Element form) throws SAXException {
+            Element rv = super.createElement(ns, name, attributes, form);
+            elements.add(rv);
+            return rv;
+        }
+
+        @Override protected Element createHtmlElementSetAsRoot(
+                HtmlAttributes attributes) throws SAXException {
+            Element rv = super.createHtmlElementSetAsRoot(attributes);
+            elements.add(rv);
+            return rv;
+        }
+
+        String children() {
+            StringBuilder sb = new StringBuilder();
+            for (Element element : elements) {
+                sb.append(element.hasChildNodes() ? '1' : '0');
+            }
+            return sb.toString();
+        }
+    }
+
+    private int failures;
+
+    private static void dump(Node node, StringBuilder sb) {
+        sb.append(node.getNodeType()).append(node.getNamespaceURI()).append(
+                node.getNodeName()).append('[').append(node.getNodeValue()).append(
+                ']');
+        NamedNodeMap attributes = node.getAttributes();
+        if (attributes != null) {
+            for (int i = 0; i < attributes.getLength(); i++) {
+                Node attribute = attributes.item(i);
+                sb.append(' ').append(attribute.getNamespaceURI()).append(
+                        attribute.getNodeName()).append('=').append(
+                        attribute.getNodeValue());
+            }
+        }
+        for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+            dump(child, sb);
+        }
+        sb.append(')');
+    }
+
+    private static String randomDocument(Random random, int fragments) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < fragments; i++) {
+            sb.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private void check(String name, String expected, String actual) {
+        if (expected.equals(actual)) {
+            System.out.println("PASS " + name);
+        } else {
+            failures++;
+            int i = 0;
+            while (i < expected.length() && i < actual.length()
+                    && expected.charAt(i) == actual.charAt(i)) {
+                i++;
+            }
+            System.out.println("FAIL " + name + ": differs at " + i);
+            System.out.println("  expected: "
+                    + expected.substring(i, Math.min(expected.length(), i + 80)));
+            System.out.println("  actual:   "
+                    + actual.substring(i, Math.min(actual.length(), i + 80)));
+        }
+    }
+
+    private static String expected(String doc, boolean fragment)
+            throws SAXException, IOException {
+        HtmlDocumentBuilder builder = new HtmlDocumentBuilder(
+                XmlViolationPolicy.ALLOW);
+        InputSource is = new InputSource(new StringReader(doc));
+        StringBuilder sb = new StringBuilder();
+        if (fragment) {
+            dump(builder.parseFragment(is, "div"), sb);
+        } else {
+            dump(builder.parse(is), sb);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Parses <code>doc</code> in buffers of <code>chunkSize</code>, applies
+     * the log after each buffer and checks <code>hasChildren()</code>.
+     *
+     * @return the dump of the tree
+     */
+    private String applied(String name, String doc, boolean fragment,
+            int chunkSize) throws SAXException {
+        CheckingTreeOpBuilder treeBuilder = new CheckingTreeOpBuilder();
+        if (fragment) {
+            treeBuilder.setFragmentContext("div",
+                    "http://www.w3.org/1999/xhtml", null, false);
+        }
+        Tokenizer tokenizer = new Tokenizer(treeBuilder, true);
+        tokenizer.setCommentPolicy(XmlViolationPolicy.ALLOW);
+        tokenizer.setContentNonXmlCharPolicy(XmlViolationPolicy.ALLOW);
+        tokenizer.setContentSpacePolicy(XmlViolationPolicy.ALLOW);
+        tokenizer.setNamePolicy(XmlViolationPolicy.ALLOW);
+        tokenizer.setXmlnsPolicy(XmlViolationPolicy.ALLOW);
+        RecordingApplier applier = new RecordingApplier();
+        char[] buf = doc.toCharArray();
+        boolean lastWasCR = false;
+        String expectedChildren = "";
+        String actualChildren = "";
+        tokenizer.start();
+        try {
+            for (int start = 0; start < buf.length; start += chunkSize) {
+                UTF16Buffer buffer = new UTF16Buffer(buf, start, Math.min(
+                        buf.length, start + chunkSize));
+                while (buffer.hasMore()) {
+                    buffer.adjust(lastWasCR);
+                    lastWasCR = false;
+                    if (buffer.hasMore()) {
+                        lastWasCR = tokenizer.tokenizeBuffer(buffer);
+                    }
+                }
+                applier.apply(treeBuilder.takeLog());
+                actualChildren = treeBuilder.children();
+                expectedChildren = applier.children();
+                if (!expectedChildren.equals(actualChildren)) {
+                    break;
+                }
+            }
+            if (expectedChildren.equals(actualChildren)) {
+                tokenizer.eof();
+            }
+        } finally {
+            tokenizer.end();
+        }
+        applier.apply(treeBuilder.takeLog());
+        if (!expectedChildren.equals(actualChildren)) {
+            check(name + ", hasChildren", expectedChildren, actualChildren);
+        }
+        StringBuilder sb = new StringBuilder();
+        if (fragment) {
+            dump(applier.getDocumentFragment(), sb);
+        } else {
+            dump(applier.getDocument(), sb);
+        }
+        return sb.toString();
+    }
+
+    private void randomDocuments() throws SAXException, IOException {
+        Random random = new Random(31);
+        int failuresBefore = failures;
+        for (int i = 0; i < 300; i++) {
+            String doc = randomDocument(random, 10 + random.nextInt(300));
+            boolean fragment = (i & 1) == 1;
+            String name = (fragment ? "random fragment " : "random document ")
+                    + i + ": " + doc;
+            String expected = expected(doc, fragment);
+            for (int chunkSize : CHUNK_SIZES) {
+                String actual = applied(name, doc, fragment, chunkSize);
+                if (!expected.equals(actual)) {
+                    check(name + ", chunk size " + chunkSize, expected,
+                            actual);
+                }
+            }
+        }
+        if (failures == failuresBefore) {
+            System.out.println("PASS random documents");
+        }
+    }
+
+    private void documents() throws SAXException, IOException {
+        String[] docs = {
+                "<!DOCTYPE html><p>a<b>b<i>c</b>d</i>e",
+                "<table><tr><td>x</td></tr>foster<b>y</b></table>",
+                "<a><p>1<a>2</a>3</p></a>",
+                "<b><div><p>x</b>y</div>",
+                "<table>a<tr>b</table>",
+                "<body><template><td>t</template></body>",
+        };
+        for (String doc : docs) {
+            for (int f = 0; f < 2; f++) {
+                boolean fragment = f == 1;
+                String name = (fragment ? "fragment " : "document ") + doc;
+                check(name, expected(doc, fragment), applied(name, doc,
+                        fragment, 3));
+            }
+        }
+    }
+
+    /**
+     * @param args
+     *            ignored
+     * @throws SAXException
+     * @throws IOException
+     */
+    public static void main(String[] args) throws SAXException, IOException {
+        TreeOpTester tester = new TreeOpTester();
+        tester.documents();
+        tester.randomDocuments();
+        if (tester.failures != 0) {
+            System.out.println(tester.failures + " failures");
+            System.exit(1);
+        }
+    }
+}
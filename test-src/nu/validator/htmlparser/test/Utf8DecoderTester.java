@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import nu.validator.htmlparser.common.Heuristics;
+import nu.validator.htmlparser.impl.Tokenizer;
+import nu.validator.htmlparser.impl.UTF16Buffer;
+import nu.validator.htmlparser.io.Encoding;
+import nu.validator.htmlparser.io.HtmlInputStreamReader;
+
+import org.xml.sax.ErrorHandler;
+import org.xml.sax.SAXException;
+import org.xml.sax.SAXParseException;
+
+/**
+ * Decodes UTF-8 with malformed sequences through
+ * <code>HtmlInputStreamReader</code> once with <code>Utf8Decoder</code> and
+ * once with the JDK <code>CharsetDecoder</code> and checks that the
+ * characters, the error messages and the error locations are the same. The
+ * sequences are placed on every offset around the end of the sniffing
+ * buffer and of the 4 KB read buffer, and the input stream and the
+ * character buffer are also cut into small pieces.
+ *
+ * @version $Id$
+ */
+public class Utf8DecoderTester {
+
+    private static final class RecordingErrorHandler implements ErrorHandler {
+
+        final List<String> errors = new ArrayList<String>();
+
+        public void error(SAXParseException e) throws SAXException {
+            errors.add(e.getLineNumber() + ":" + e.getColumnNumber() + " "
+                    + e.getMessage());
+        }
+
+        public void fatalError(SAXParseException e) throws SAXException {
+            throw e;
+        }
+
+        public void warning(SAXParseException e) throws SAXException {
+            errors.add("warning " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns at most <code>max</code> bytes from each <code>read()</code>.
+     */
+    private static final class TricklingInputStream extends InputStream {
+
+        private final InputStream in;
+
+        private final int max;
+
+        TricklingInputStream(InputStream in, int max) {
+            this.in = in;
+            this.max = max;
+        }
+
+        @Override public int read() throws IOException {
+            return in.read();
+        }
+
+        @Override public int read(byte[] b, int off, int len)
+                throws IOException {
+            return in.read(b, off, Math.min(len, max));
+        }
+    }
+
+    private static final int[][] SEQUENCES = {
+            // valid
+            { 0xC2, 0x80 }, { 0xEF, 0xBF, 0xBF }, { 0xF0, 0x90, 0x80, 0x80 },
+            { 0xF4, 0x8F, 0xBF, 0xBF }, { 0xED, 0x9F, 0xBF },
+            // truncated
+            { 0xC3 }, { 0xE2, 0x82 }, { 0xF0, 0x9F, 0x98 }, { 0xE2 },
+            { 0xF0 },
+            // lone continuation bytes
+            { 0x80 }, { 0xBF }, { 0x80, 0x80, 0x80 },
+            // overlong
+            { 0xC0, 0xAF }, { 0xC1, 0xBF }, { 0xE0, 0x80, 0xAF },
+            { 0xE0, 0x9F, 0xBF }, { 0xF0, 0x80, 0x80, 0xAF },
+            { 0xF0, 0x8F, 0xBF, 0xBF },
+            // surrogates
+            { 0xED, 0xA0, 0x80 }, { 0xED, 0xBF, 0xBF },
+            { 0xED, 0xA0, 0xBD, 0xED, 0xB8, 0x80 },
+            // out of range
+            { 0xF4, 0x90, 0x80, 0x80 }, { 0xF5, 0x80, 0x80, 0x80 },
+            { 0xF7, 0xBF, 0xBF, 0xBF }, { 0xF8, 0x88, 0x80, 0x80, 0x80 },
+            { 0xFC, 0x84, 0x80, 0x80, 0x80, 0x80 }, { 0xFE }, { 0xFF },
+            // a malformed sequence right after a valid one
+            { 0xE2, 0x82, 0xAC, 0xE2, 0x82 }, };
+
+    private static final byte[] BOM = { (byte) 0xEF, (byte) 0xBB,
+            (byte) 0xBF };
+
+    private final Encoding utf8 = Encoding.forName("UTF-8");
+
+    private int failures;
+
+    private int tests;
+
+    /**
+     * Makes a document of ASCII lines with <code>sequence</code> at
+     * <code>offset</code> and again at the end of the file.
+     */
+    private static byte[] document(boolean bom, int offset, int[] sequence) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (bom) {
+            out.write(BOM, 0, BOM.length);
+        }
+        int line = 0;
+        while (out.size() < offset) {
+            if (out.size() % 61 == 60) {
+                out.write(line++ % 3 == 0 ? '\r' : '\n');
+            } else {
+                out.write('a' + out.size() % 26);
+            }
+        }
+        for (int b : sequence) {
+            out.write(b);
+        }
+        out.write('\r');
+        out.write('\n');
+        for (int i = 0; i < 100; i++) {
+            out.write('z');
+        }
+        for (int b : sequence) {
+            out.write(b);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Reads the whole document into a string, tokenizing it the way
+     * <code>Driver</code> does so that errors get locations, and appends the
+     * errors after the text.
+     */
+    private String decode(byte[] doc, boolean sniff, int trickle,
+            int bufferLength, boolean charsetDecoder) throws SAXException,
+            IOException {
+        RecordingErrorHandler eh = new RecordingErrorHandler();
+        Tokenizer tokenizer = new Tokenizer(new TestTreeBuilder(), true);
+        InputStream in = new TricklingInputStream(new ByteArrayInputStream(
+                doc), trickle);
+        HtmlInputStreamReader reader;
+        if (sniff) {
+            reader = new HtmlInputStreamReader(in, eh, tokenizer, null,
+                    Heuristics.NONE);
+        } else {
+            reader = new HtmlInputStreamReader(in, eh, tokenizer, null, utf8);
+        }
+        if (charsetDecoder) {
+            reader.useCharsetDecoder();
+        }
+        StringBuilder sb = new StringBuilder();
+        char[] buffer = new char[bufferLength];
+        tokenizer.start();
+        boolean lastWasCR = false;
+        int num;
+        while ((num = reader.read(buffer)) != -1) {
+            sb.append(buffer, 0, num);
+            UTF16Buffer bufr = new UTF16Buffer(buffer, 0, num);
+            while (bufr.hasMore()) {
+                bufr.adjust(lastWasCR);
+                lastWasCR = false;
+                if (bufr.hasMore()) {
+                    lastWasCR = tokenizer.tokenizeBuffer(bufr);
+                }
+            }
+        }
+        tokenizer.eof();
+        tokenizer.end();
+        for (String error : eh.errors) {
+            sb.append('\n');
+            sb.append(error);
+        }
+        return sb.toString();
+    }
+
+    private static String hex(int[] sequence) {
+        StringBuilder sb = new StringBuilder();
+        for (int b : sequence) {
+            sb.append(' ');
+            sb.append(Integer.toHexString(b));
+        }
+        return sb.toString();
+    }
+
+    private void check(String name, boolean ok, String detail) {
+        tests++;
+        if (!ok) {
+            failures++;
+            System.out.println("FAIL " + name + ": " + detail);
+        }
+    }
+
+    private void compare(byte[] doc, boolean sniff, int trickle,
+            int bufferLength, String name) throws SAXException, IOException {
+        String expected = decode(doc, sniff, trickle, bufferLength, true);
+        String actual = decode(doc, sniff, trickle, bufferLength, false);
+        if (expected.equals(actual)) {
+            check(name, true, "");
+            return;
+        }
+        int i = 0;
+        while (i < expected.length() && i < actual.length()
+                && expected.charAt(i) == actual.charAt(i)) {
+            i++;
+        }
+        check(name, false, "differs at " + i + "\n  CharsetDecoder: "
+                + tail(expected, i) + "\n  Utf8Decoder:    "
+                + tail(actual, i));
+    }
+
+    private static String tail(String s, int from) {
+        return s.substring(from, Math.min(s.length(), from + 80)).replace(
+                '\n', '|');
+    }
+
+    /**
+     * Puts every sequence on every offset from a few bytes before to a few
+     * bytes after the 1 KB sniffing limit and the 4 KB read buffer with the
+     * whole stream available.
+     */
+    private void boundaries() throws SAXException, IOException {
+        int[] boundaries = { 1024, 4096, 1024 + 4096 };
+        for (int[] sequence : SEQUENCES) {
+            for (int boundary : boundaries) {
+                for (int offset = boundary - 6; offset <= boundary + 1; offset++) {
+                    String name = hex(sequence) + " at " + offset;
+                    compare(document(false, offset, sequence), false,
+                            Integer.MAX_VALUE, 2048, name);
+                    compare(document(true, offset, sequence), true,
+                            Integer.MAX_VALUE, 2048, name + ", BOM");
+                }
+            }
+        }
+    }
+
+    /**
+     * Cuts the input into small reads and the output into small buffers, so
+     * that sequences are split between reads and replacement characters are
+     * left pending.
+     */
+    private void pieces() throws SAXException, IOException {
+        int[] trickles = { 1, 3, 4095 };
+        int[] bufferLengths = { 2, 3, 7, 2048 };
+        for (int[] sequence : SEQUENCES) {
+            byte[] doc = document(true, 4094, sequence);
+            for (int trickle : trickles) {
+                for (int bufferLength : bufferLengths) {
+                    compare(doc, true, trickle, bufferLength, hex(sequence)
+                            + ", reads of " + trickle + ", buffer of "
+                            + bufferLength);
+                }
+            }
+        }
+    }
+
+    /**
+     * @param args
+     *            ignored
+     * @throws SAXException
+     * @throws IOException
+     */
+    public static void main(String[] args) throws SAXException, IOException {
+        Utf8DecoderTester tester = new Utf8DecoderTester();
+        tester.boundaries();
+        tester.pieces();
+        System.out.println(tester.tests + " checks, " + tester.failures
+                + " failures");
+        if (tester.failures != 0) {
+            System.exit(1);
+        }
+    }
+}
@@ -92,6 +92,7 @@ public class CppTypes {
             "nsHtml5AtomTable", "nsHtml5String", "nsIContent", "nsTraceRefcnt",
             "jArray", "nsHtml5DocumentMode", "nsHtml5ArrayCopy",
             "nsHtml5NamedCharacters", "nsHtml5NamedCharactersAccel",
+            "nsHtml5NamedCharactersTrie",
             "nsGkAtoms", "nsAHtml5TreeBuilderState", "nsHtml5Macros",
             "nsHtml5Highlighter", "nsHtml5TokenizerLoopPolicies" };
 
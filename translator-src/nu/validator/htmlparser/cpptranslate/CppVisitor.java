@@ -126,7 +126,8 @@ public class CppVisitor extends AnnotationHelperVisitor<LocalSymbolTable> {
 
     private static final String[] CLASS_NAMES = { "AttributeName",
             "ElementName", "HtmlAttributes", "LocatorImpl", "MetaScanner",
-            "NamedCharacters", "NamedCharactersAccel", "Portability",
+            "NamedCharacters", "NamedCharactersAccel", "NamedCharactersTrie",
+            "Portability",
             "StackNode", "Tokenizer", "TreeBuilder", "UTF16Buffer" };
 
     private static final String[] METHODS_WITH_UNLIKELY_CONDITIONS = {
@@ -63,8 +63,11 @@ public class SymbolTable {
         }
         return !("ATTRIBUTE_HASHES".equals(field)
                 || "ATTRIBUTE_NAMES".equals(field)
+                || "ATTRIBUTE_HASH_SEEDS".equals(field)
                 || "ELEMENT_HASHES".equals(field)
-                || "ELEMENT_NAMES".equals(field) || "ALL_NO_NS".equals(field));
+                || "ELEMENT_NAMES".equals(field)
+                || "ELEMENT_HASH_SEEDS".equals(field)
+                || "ALL_NO_NS".equals(field));
     }
 
     public void addPrimitiveConstant(String klazz, String field) {
@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.generator;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fails if a method in the compiled classes has more bytecode than HotSpot is
+ * willing to JIT-compile. By default, HotSpot does not compile methods over
+ * 8000 bytes (<code>-XX:HugeMethodLimit</code> with
+ * <code>-XX:+DontCompileHugeMethods</code>), so a tokenizer state loop that
+ * grows past that runs interpreted without any other symptom.
+ *
+ * Static initializers run once, so they are not checked.
+ *
+ * Usage: <code>CheckHugeMethods classesDir [limit]</code>
+ *
+ * @version $Id$
+ */
+public class CheckHugeMethods {
+
+    private static final int HUGE_METHOD_LIMIT = 8000;
+
+    public static void main(String[] args) throws IOException {
+        int limit = args.length > 1 ? Integer.parseInt(args[1])
+                : HUGE_METHOD_LIMIT;
+        List<String> violations = new ArrayList<String>();
+        check(new File(args[0]), limit, violations);
+        for (String violation : violations) {
+            System.err.println(violation);
+        }
+        if (!violations.isEmpty()) {
+            String message = violations.size()
+                    + " method(s) exceed the limit of " + limit
+                    + " bytes of bytecode";
+            if (limit == HUGE_METHOD_LIMIT) {
+                message += " and will not be JIT-compiled";
+            }
+            throw new RuntimeException(message + ".");
+        }
+    }
+
+    private static void check(File file, int limit, List<String> violations)
+            throws IOException {
+        if (file.isDirectory()) {
+            File[] children = file.listFiles();
+            for (int i = 0; i < children.length; i++) {
+                check(children[i], limit, violations);
+            }
+        } else if (file.getName().endsWith(".class")) {
+            checkClass(file, limit, violations);
+        }
+    }
+
+    private static void checkClass(File file, int limit,
+            List<String> violations) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new FileInputStream(file)));
+        try {
+            if (in.readInt() != 0xCAFEBABE) {
+                throw new IOException("Not a class file: " + file);
+            }
+            in.readUnsignedShort(); // minor
+            in.readUnsignedShort(); // major
+            int poolCount = in.readUnsignedShort();
+            String[] utf8 = new String[poolCount];
+            for (int i = 1; i < poolCount; i++) {
+                int tag = in.readUnsignedByte();
+                switch (tag) {
+                    case 1: // Utf8
+                        utf8[i] = in.readUTF();
+                        break;
+                    case 7: // Class
+                    case 8: // String
+                    case 16: // MethodType
+                    case 19: // Module
+                    case 20: // Package
+                        skip(in, 2);
+                        break;
+                    case 15: // MethodHandle
+                        skip(in, 3);
+                        break;
+                    case 3: // Integer
+                    case 4: // Float
+                    case 9: // Fieldref
+                    case 10: // Methodref
+                    case 11: // InterfaceMethodref
+                    case 12: // NameAndType
+                    case 17: // Dynamic
+                    case 18: // InvokeDynamic
+                        skip(in, 4);
+                        break;
+                    case 5: // Long
+                    case 6: // Double
+                        skip(in, 8);
+                        i++; // takes two slots
+                        break;
+                    default:
+                        throw new IOException("Unknown constant pool tag "
+                                + tag + " in " + file);
+                }
+            }
+            skip(in, 6); // access flags, this class, super class
+            skip(in, 2 * in.readUnsignedShort()); // interfaces
+            int fieldCount = in.readUnsignedShort();
+            for (int i = 0; i < fieldCount; i++) {
+                skip(in, 6);
+                skipAttributes(in);
+            }
+            int methodCount = in.readUnsignedShort();
+            for (int i = 0; i < methodCount; i++) {
+                skip(in, 2); // access flags
+                String name = utf8[in.readUnsignedShort()];
+                String descriptor = utf8[in.readUnsignedShort()];
+                int attributeCount = in.readUnsignedShort();
+                for (int j = 0; j < attributeCount; j++) {
+                    String attributeName = utf8[in.readUnsignedShort()];
+                    int length = in.readInt();
+                    if (!"Code".equals(attributeName)) {
+                        skip(in, length);
+                        continue;
+                    }
+                    skip(in, 4); // max stack, max locals
+                    int codeLength = in.readInt();
+                    skip(in, length - 8);
+                    if (codeLength > limit && !"<clinit>".equals(name)) {
+                        violations.add(file.getPath() + ": " + name
+                                + descriptor + " is " + codeLength
+                                + " bytes.");
+                    }
+                }
+            }
+        } finally {
+            in.close();
+        }
+    }
+
+    private static void skip(DataInputStream in, int length)
+            throws IOException {
+        // skipBytes() may skip less than asked for.
+        in.readFully(new byte[length]);
+    }
+
+    private static void skipAttributes(DataInputStream in) throws IOException {
+        int attributeCount = in.readUnsignedShort();
+        for (int i = 0; i < attributeCount; i++) {
+            skip(in, 2);
+            skip(in, in.readInt());
+        }
+    }
+}
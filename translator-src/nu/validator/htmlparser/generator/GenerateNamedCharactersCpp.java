@@ -149,6 +149,119 @@ public class GenerateNamedCharactersCpp {
         generateCpp(targetDirectory, cppTypes, entities);
         generateAccelH(targetDirectory, cppTypes, entities);
         generateAccelCpp(targetDirectory, cppTypes, entities);
+        generateTrieH(targetDirectory, cppTypes);
+        generateTrieCpp(targetDirectory, cppTypes, entities);
+    }
+
+    private static void generateTrieCpp(File targetDirectory,
+            CppTypes cppTypes, TreeMap<String, String> entities)
+            throws IOException {
+        Map<String, char[]> values = new TreeMap<String, char[]>();
+        for (Map.Entry<String, String> entity : entities.entrySet()) {
+            values.put(entity.getKey(), entity.getValue().toCharArray());
+        }
+        GenerateNamedCharactersTrie.Tables tables = GenerateNamedCharactersTrie.build(values);
+
+        File cppFile = new File(targetDirectory, cppTypes.classPrefix()
+                + "NamedCharactersTrie.cpp");
+        Writer out = new OutputStreamWriter(new FileOutputStream(cppFile),
+                "utf-8");
+
+        out.write(DATA_LICENSE);
+        out.write('\n');
+        out.write("#include \"" + cppTypes.classPrefix()
+                + "NamedCharactersTrie.h\"\n");
+        out.write("\n");
+
+        out.write("const " + cppTypes.intType() + " "
+                + cppTypes.classPrefix()
+                + "NamedCharactersTrie::FIRST_CHAR_NODES[] = {");
+        for (int i = 0; i < tables.firstCharNodes.length; i++) {
+            if (i != 0) {
+                out.write(",");
+            }
+            out.write(i % 10 == 0 ? "\n  " : " ");
+            out.write("" + tables.firstCharNodes[i]);
+        }
+        out.write("\n};\n\n");
+
+        writeTrieChars(out, cppTypes, "NODES", tables.nodes);
+        writeTrieChars(out, cppTypes, "EDGES", tables.edges);
+        writeTrieChars(out, cppTypes, "VALUES", tables.values);
+
+        out.flush();
+        out.close();
+    }
+
+    private static void writeTrieChars(Writer out, CppTypes cppTypes,
+            String name, char[] data) throws IOException {
+        out.write("const " + cppTypes.charType() + " "
+                + cppTypes.classPrefix() + "NamedCharactersTrie::" + name
+                + "[] = {");
+        for (int i = 0; i < data.length; i++) {
+            if (i != 0) {
+                out.write(",");
+            }
+            out.write(i % 8 == 0 ? "\n  " : " ");
+            out.write(toHexString(data[i]));
+        }
+        out.write("\n};\n\n");
+    }
+
+    private static void generateTrieH(File targetDirectory, CppTypes cppTypes)
+            throws IOException {
+        String className = cppTypes.classPrefix() + "NamedCharactersTrie";
+        File hFile = new File(targetDirectory, className + ".h");
+        Writer out = new OutputStreamWriter(new FileOutputStream(hFile),
+                "utf-8");
+        out.write(DATA_LICENSE);
+        out.write("#ifndef " + className + "_h\n");
+        out.write("#define " + className + "_h\n");
+        out.write('\n');
+
+        String[] includes = cppTypes.namedCharactersIncludes();
+        for (int i = 0; i < includes.length; i++) {
+            String include = includes[i];
+            out.write("#include \"" + include + ".h\"\n");
+        }
+
+        out.write('\n');
+
+        // See NamedCharactersTrie.java for the layout of the tables.
+        out.write("class " + className + "\n");
+        out.write("{\n");
+        out.write("  public:\n");
+        out.write("    static const " + cppTypes.intType()
+                + " FIRST_CHAR_NODES[];\n");
+        out.write("    static const " + cppTypes.charType() + " NODES[];\n");
+        out.write("    static const " + cppTypes.charType() + " EDGES[];\n");
+        out.write("    static const " + cppTypes.charType() + " VALUES[];\n");
+        out.write("\n");
+        out.write("    static inline " + cppTypes.intType() + " accept("
+                + cppTypes.intType() + " node)\n");
+        out.write("    {\n");
+        out.write("      return NODES[(node << 1) + 1] - 1;\n");
+        out.write("    }\n");
+        out.write("\n");
+        out.write("    static inline " + cppTypes.intType() + " child("
+                + cppTypes.intType() + " node, " + cppTypes.charType()
+                + " c)\n");
+        out.write("    {\n");
+        out.write("      " + cppTypes.intType()
+                + " end = NODES[(node << 1) + 2] << 1;\n");
+        out.write("      for (" + cppTypes.intType()
+                + " i = NODES[node << 1] << 1; i < end; i += 2) {\n");
+        out.write("        if (EDGES[i] == c) {\n");
+        out.write("          return EDGES[i + 1];\n");
+        out.write("        }\n");
+        out.write("      }\n");
+        out.write("      return 0;\n");
+        out.write("    }\n");
+        out.write("};\n");
+
+        out.write("\n#endif // " + className + "_h\n");
+        out.flush();
+        out.close();
     }
 
     private static void generateAccelCpp(File targetDirectory,
@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.generator;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Generates <code>NamedCharactersTrie</code> from the tables in
+ * <code>NamedCharacters</code> and <code>NamedCharactersAccel</code>, which
+ * are read from the compiled classes. Regenerate the trie after regenerating
+ * those with <code>GenerateNamedCharacters</code>.
+ *
+ * @version $Id$
+ */
+public class GenerateNamedCharactersTrie {
+
+    private static final class Node {
+        final TreeMap<Character, Node> children = new TreeMap<Character, Node>();
+
+        int accept = -1;
+
+        int number;
+    }
+
+    /**
+     * The tables of the trie as described in the generated class.
+     */
+    static final class Tables {
+        final int[] firstCharNodes;
+
+        final char[] nodes;
+
+        final char[] edges;
+
+        final char[] values;
+
+        Tables(int[] firstCharNodes, char[] nodes, char[] edges,
+                char[] values) {
+            this.firstCharNodes = firstCharNodes;
+            this.nodes = nodes;
+            this.edges = edges;
+            this.values = values;
+        }
+    }
+
+    private static char indexToChar(int i) {
+        return (char) (i < 26 ? 'A' + i : 'a' + i - 26);
+    }
+
+    private static Object staticField(String className, String name)
+            throws Exception {
+        Field field = Class.forName("nu.validator.htmlparser.impl."
+                + className).getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(null);
+    }
+
+    private static void number(Node node, List<Node> order) {
+        node.number = order.size();
+        order.add(node);
+        for (Node child : node.children.values()) {
+            number(child, order);
+        }
+    }
+
+    private static void printInts(String name, int[] data) {
+        System.out.print("    static final @NoLength int[] " + name + " = {");
+        for (int i = 0; i < data.length; i++) {
+            System.out.print(i % 10 == 0 ? "\n            " : " ");
+            System.out.print(data[i]);
+            System.out.print(",");
+        }
+        System.out.print("\n    };\n\n");
+    }
+
+    /**
+     * Prints a <code>char[]</code> as string literals that are joined at
+     * class initialization. A literal array would need several bytecodes per
+     * element in the static initializer, which does not fit in the method
+     * size limit, and a single string constant does not fit in the constant
+     * pool entry size limit.
+     */
+    private static void printChars(String name, char[] data) {
+        System.out.print("    static final @NoLength char[] " + name
+                + " = join(new String[] {");
+        for (int i = 0; i < data.length; i++) {
+            if (i % 16 == 0) {
+                System.out.print(i == 0 ? "\n            \"" : "\",\n            \"");
+            }
+            System.out.print(toUString(data[i]));
+        }
+        System.out.print("\",\n    });\n\n");
+    }
+
+    private static String toUString(char c) {
+        // Unicode escapes are processed before the Java lexer, so these
+        // cannot be written as Unicode escapes.
+        switch (c) {
+            case '\n':
+                return "\\n";
+            case '\r':
+                return "\\r";
+            case '"':
+                return "\\\"";
+            case '\\':
+                return "\\\\";
+        }
+        String hex = Integer.toHexString(c);
+        while (hex.length() < 4) {
+            hex = "0" + hex;
+        }
+        return "\\u" + hex;
+    }
+
+    private static char toChar(int i) {
+        if (i < 0 || i > 0xFFFF) {
+            throw new RuntimeException("Value does not fit in a char.");
+        }
+        return (char) i;
+    }
+
+    /**
+     * Builds the trie tables from the names (including the first two
+     * characters) and their expansions. <code>GenerateNamedCharactersCpp</code>
+     * uses this, too, so that the Java and C++ tables are the same.
+     */
+    static Tables build(Map<String, char[]> entities) {
+        Node root = new Node();
+        List<char[]> valueList = new ArrayList<char[]>();
+        for (Map.Entry<String, char[]> entity : entities.entrySet()) {
+            String name = entity.getKey();
+            Node node = root;
+            for (int i = 0; i < name.length(); i++) {
+                Character c = Character.valueOf(name.charAt(i));
+                Node child = node.children.get(c);
+                if (child == null) {
+                    child = new Node();
+                    node.children.put(c, child);
+                }
+                node = child;
+            }
+            node.accept = (valueList.size() << 1)
+                    | (name.endsWith(";") ? 1 : 0);
+            valueList.add(entity.getValue());
+        }
+
+        // Node 0 means no node, so the real nodes start at 1. The root
+        // itself is never used, because the tokenizer starts from the
+        // first-character nodes.
+        List<Node> order = new ArrayList<Node>();
+        order.add(null);
+        number(root, order);
+
+        int[] firstCharNodes = new int[52];
+        for (int i = 0; i < firstCharNodes.length; i++) {
+            Node node = root.children.get(Character.valueOf(indexToChar(i)));
+            firstCharNodes[i] = node == null ? 0 : node.number;
+        }
+
+        // Two chars per node and a sentinel node whose edge start ends the
+        // edges of the last node.
+        char[] nodes = new char[(order.size() + 1) * 2];
+        List<Character> edges = new ArrayList<Character>();
+        for (int i = 1; i < order.size(); i++) {
+            Node node = order.get(i);
+            nodes[i << 1] = toChar(edges.size() >> 1);
+            nodes[(i << 1) + 1] = toChar(node.accept + 1);
+            for (Map.Entry<Character, Node> edge : node.children.entrySet()) {
+                edges.add(edge.getKey());
+                edges.add(Character.valueOf(toChar(edge.getValue().number)));
+            }
+        }
+        nodes[order.size() << 1] = toChar(edges.size() >> 1);
+        char[] edgeArray = new char[edges.size()];
+        for (int i = 0; i < edgeArray.length; i++) {
+            edgeArray[i] = edges.get(i).charValue();
+        }
+        char[] valueArray = new char[valueList.size() * 2];
+        for (int i = 0; i < valueList.size(); i++) {
+            char[] value = valueList.get(i);
+            valueArray[i << 1] = value[0];
+            valueArray[(i << 1) + 1] = value.length == 1 ? '\u0000' : value[1];
+        }
+        return new Tables(firstCharNodes, nodes, edgeArray, valueArray);
+    }
+
+    /**
+     * @param args
+     * @throws Exception
+     */
+    public static void main(String[] args) throws Exception {
+        String[] names = (String[]) staticField("NamedCharacters", "NAMES");
+        char[][] values = (char[][]) staticField("NamedCharacters", "VALUES");
+        int[][] hiLo = (int[][]) staticField("NamedCharactersAccel",
+                "HILO_ACCEL");
+
+        Map<String, char[]> entities = new TreeMap<String, char[]>();
+        for (int second = 0; second < hiLo.length; second++) {
+            if (hiLo[second] == null) {
+                continue;
+            }
+            for (int first = 0; first < hiLo[second].length; first++) {
+                int hilo = hiLo[second][first];
+                if (hilo == 0) {
+                    continue;
+                }
+                String prefix = "" + indexToChar(first) + (char) second;
+                for (int i = hilo & 0xFFFF; i <= hilo >> 16; i++) {
+                    entities.put(prefix + names[i], values[i]);
+                }
+            }
+        }
+
+        Tables tables = build(entities);
+
+        System.out.print("/*\n"
+                + " * Copyright 2004-2010 Apple Computer, Inc., Mozilla Foundation, and Opera \n"
+                + " * Software ASA.\n"
+                + " * \n"
+                + " * You are granted a license to use, reproduce and create derivative works of \n"
+                + " * this document.\n"
+                + " */\n\n"
+                + "package nu.validator.htmlparser.impl;\n\n"
+                + "import nu.validator.htmlparser.annotation.Inline;\n"
+                + "import nu.validator.htmlparser.annotation.NoLength;\n\n"
+                + "/**\n"
+                + " * A trie over the named character reference names. Generated by\n"
+                + " * <code>GenerateNamedCharactersTrie</code>. Do not edit.\n"
+                + " * \n"
+                + " * <p>\n"
+                + " * Node <code>n</code> takes the two chars at <code>2 * n</code> in\n"
+                + " * <code>NODES</code>: the index of its first edge and its accept value plus\n"
+                + " * one. Its edges end where the edges of node <code>n + 1</code> start. Edge\n"
+                + " * <code>e</code> takes the two chars at <code>2 * e</code> in\n"
+                + " * <code>EDGES</code>: the character and the target node. The accept value\n"
+                + " * is -1 if no name ends at the node. Otherwise, the value bits cleared of the\n"
+                + " * lowest bit are the index of the expansion in <code>VALUES</code> and the\n"
+                + " * lowest bit tells whether the name ends with a semicolon. Each expansion\n"
+                + " * takes two chars in <code>VALUES</code>, the second being zero for a\n"
+                + " * single BMP character. Node 0 is no node.\n"
+                + " * \n"
+                + " * @version $Id$\n"
+                + " */\n"
+                + "public final class NamedCharactersTrie {\n\n");
+        printInts("FIRST_CHAR_NODES", tables.firstCharNodes);
+        printChars("NODES", tables.nodes);
+        printChars("EDGES", tables.edges);
+        printChars("VALUES", tables.values);
+        System.out.print("    private static char[] join(String[] parts) {\n"
+                + "        StringBuilder sb = new StringBuilder();\n"
+                + "        for (int i = 0; i < parts.length; i++) {\n"
+                + "            sb.append(parts[i]);\n"
+                + "        }\n"
+                + "        return sb.toString().toCharArray();\n"
+                + "    }\n\n"
+                + "    /**\n"
+                + "     * Returns the accept value of <code>node</code>.\n"
+                + "     */\n"
+                + "    @Inline static int accept(int node) {\n"
+                + "        return NODES[(node << 1) + 1] - 1;\n"
+                + "    }\n\n"
+                + "    /**\n"
+                + "     * Returns the node reached from <code>node</code> by <code>c</code> or 0.\n"
+                + "     */\n"
+                + "    @Inline static int child(int node, char c) {\n"
+                + "        int end = NODES[(node << 1) + 2] << 1;\n"
+                + "        for (int i = NODES[node << 1] << 1; i < end; i += 2) {\n"
+                + "            if (EDGES[i] == c) {\n"
+                + "                return EDGES[i + 1];\n"
+                + "            }\n"
+                + "        }\n"
+                + "        return 0;\n"
+                + "    }\n"
+                + "}\n");
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright (c) 2026 The Validator.nu HTML Parser contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a
+ * copy of this software and associated documentation files (the "Software"),
+ * to deal in the Software without restriction, including without limitation
+ * the rights to use, copy, modify, merge, publish, distribute, sublicense,
+ * and/or sell copies of the Software, and to permit persons to whom the
+ * Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL
+ * THE AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING
+ * FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER
+ * DEALINGS IN THE SOFTWARE.
+ */
+
+package nu.validator.htmlparser.generator;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Generates the perfect hash tables that <code>ElementName</code> and
+ * <code>AttributeName</code> use for looking up names by buffer.
+ *
+ * The keys are the values that <code>bufToHash()</code> computes for the
+ * well-known names, which are read from the current tables of the compiled
+ * classes. The slot of a key is found by hashing the key into a bucket,
+ * reading the seed of the bucket and hashing the key with the seed. The
+ * seeds are searched for bucket by bucket, largest bucket first.
+ *
+ * The arguments are "element" or "attribute". The output replaces the
+ * tables at the end of the corresponding class.
+ *
+ * @version $Id$
+ */
+public class GeneratePerfectHashes {
+
+    /**
+     * Must match <code>HASH_MULTIPLIER</code> in the name classes.
+     */
+    private static final int HASH_MULTIPLIER = 0x9E3779B1;
+
+    /**
+     * Must match <code>SLOT_MULTIPLIER</code> in the name classes.
+     */
+    private static final int SLOT_MULTIPLIER = 0x85EBCA6B;
+
+    private static final int MAX_SEED = 1 << 20;
+
+    private final int[] keys;
+
+    private int bucketShift;
+
+    private int bucketMask;
+
+    private int slotShift;
+
+    private int slotMask;
+
+    private int[] seeds;
+
+    private int[] slots;
+
+    private GeneratePerfectHashes(int[] keys) {
+        this.keys = keys;
+    }
+
+    private int bucket(int key) {
+        return ((key * HASH_MULTIPLIER) >> bucketShift) & bucketMask;
+    }
+
+    private int slot(int key, int seed) {
+        return (((key ^ seed) * SLOT_MULTIPLIER) >> slotShift) & slotMask;
+    }
+
+    private boolean tryBuild(int slotBits, int bucketBits) {
+        bucketShift = 32 - bucketBits;
+        bucketMask = (1 << bucketBits) - 1;
+        slotShift = 32 - slotBits;
+        slotMask = (1 << slotBits) - 1;
+        List<List<Integer>> buckets = new ArrayList<List<Integer>>();
+        for (int i = 0; i <= bucketMask; i++) {
+            buckets.add(new ArrayList<Integer>());
+        }
+        for (int i = 0; i < keys.length; i++) {
+            buckets.get(bucket(keys[i])).add(Integer.valueOf(i));
+        }
+        Integer[] order = new Integer[buckets.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = Integer.valueOf(i);
+        }
+        final List<List<Integer>> b = buckets;
+        Arrays.sort(order, new Comparator<Integer>() {
+            public int compare(Integer o1, Integer o2) {
+                return b.get(o2.intValue()).size() - b.get(o1.intValue()).size();
+            }
+        });
+        seeds = new int[bucketMask + 1];
+        slots = new int[slotMask + 1];
+        Arrays.fill(slots, -1);
+        int[] candidate = new int[keys.length];
+        for (Integer bucketIndex : order) {
+            List<Integer> members = buckets.get(bucketIndex.intValue());
+            if (members.isEmpty()) {
+                break;
+            }
+            boolean found = false;
+            seedLoop: for (int seed = 0; seed < MAX_SEED; seed++) {
+                for (int i = 0; i < members.size(); i++) {
+                    int s = slot(keys[members.get(i).intValue()], seed);
+                    if (slots[s] != -1) {
+                        continue seedLoop;
+                    }
+                    for (int j = 0; j < i; j++) {
+                        if (candidate[j] == s) {
+                            continue seedLoop;
+                        }
+                    }
+                    candidate[i] = s;
+                }
+                for (int i = 0; i < members.size(); i++) {
+                    slots[candidate[i]] = members.get(i).intValue();
+                }
+                seeds[bucketIndex.intValue()] = seed;
+                found = true;
+                break;
+            }
+            if (!found) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void build() {
+        int minBits = 32 - Integer.numberOfLeadingZeros(keys.length - 1);
+        for (int slotBits = minBits; slotBits < 16; slotBits++) {
+            for (int bucketBits = slotBits - 3; bucketBits <= slotBits; bucketBits++) {
+                if (tryBuild(slotBits, bucketBits)) {
+                    return;
+                }
+            }
+        }
+        throw new RuntimeException("No perfect hash found.");
+    }
+
+    private static Map<Object, String> constantNames(Class<?> klass)
+            throws IllegalAccessException {
+        Map<Object, String> names = new IdentityHashMap<Object, String>();
+        for (Field field : klass.getDeclaredFields()) {
+            int modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) && Modifier.isPublic(modifiers)
+                    && field.getType() == klass) {
+                names.put(field.get(null), field.getName());
+            }
+        }
+        return names;
+    }
+
+    private static Field accessibleField(Class<?> klass, String name)
+            throws NoSuchFieldException {
+        Field field = klass.getDeclaredField(name);
+        field.setAccessible(true);
+        return field;
+    }
+
+    private static void generate(String className, String prefix,
+            String indent) throws Exception {
+        Class<?> klass = Class.forName("nu.validator.htmlparser.impl."
+                + className);
+        Object[] names = (Object[]) accessibleField(klass,
+                prefix + "_NAMES").get(null);
+        int[] hashes = (int[]) accessibleField(klass, prefix + "_HASHES").get(
+                null);
+        Map<Object, String> constants = constantNames(klass);
+
+        // The current tables may contain filler duplicates.
+        Map<Integer, Object> byHash = new LinkedHashMap<Integer, Object>();
+        for (int i = 0; i < names.length; i++) {
+            Object previous = byHash.put(Integer.valueOf(hashes[i]), names[i]);
+            if (previous != null && previous != names[i]) {
+                throw new RuntimeException("Hash collision: "
+                        + constants.get(previous) + ", "
+                        + constants.get(names[i]));
+            }
+        }
+        List<Integer> sortedHashes = new ArrayList<Integer>(byHash.keySet());
+        Collections.sort(sortedHashes);
+        int[] keys = new int[sortedHashes.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = sortedHashes.get(i).intValue();
+        }
+
+        GeneratePerfectHashes phf = new GeneratePerfectHashes(keys);
+        phf.build();
+
+        System.out.println(indent + "private final static int BUCKET_SHIFT = "
+                + phf.bucketShift + ";");
+        System.out.println(indent + "private final static int BUCKET_MASK = "
+                + phf.bucketMask + ";");
+        System.out.println(indent + "private final static int SLOT_SHIFT = "
+                + phf.slotShift + ";");
+        System.out.println(indent + "private final static int SLOT_MASK = "
+                + phf.slotMask + ";");
+        // Empty slots repeat the first key. Keys only ever map to their
+        // own slot, so a repeated key can never match in an empty slot.
+        System.out.println(indent + "private final static @NoLength "
+                + className + "[] " + prefix + "_NAMES = {");
+        for (int i = 0; i < phf.slots.length; i++) {
+            int key = phf.slots[i] == -1 ? 0 : phf.slots[i];
+            System.out.println(indent
+                    + constants.get(byHash.get(Integer.valueOf(keys[key])))
+                    + ",");
+        }
+        System.out.println(indent + "};");
+        System.out.println(indent + "private final static int[] " + prefix
+                + "_HASHES = {");
+        for (int i = 0; i < phf.slots.length; i++) {
+            int key = phf.slots[i] == -1 ? 0 : phf.slots[i];
+            System.out.println(indent + keys[key] + ",");
+        }
+        System.out.println(indent + "};");
+        System.out.println(indent + "private final static int[] " + prefix
+                + "_HASH_SEEDS = {");
+        for (int i = 0; i < phf.seeds.length; i++) {
+            System.out.println(indent + phf.seeds[i] + ",");
+        }
+        System.out.println(indent + "};");
+    }
+
+    /**
+     * @param args
+     * @throws Exception
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length != 1) {
+            System.err.println("Usage: GeneratePerfectHashes element|attribute");
+            System.exit(1);
+        }
+        if ("element".equals(args[0])) {
+            generate("ElementName", "ELEMENT", "");
+        } else if ("attribute".equals(args[0])) {
+            generate("AttributeName", "ATTRIBUTE", "    ");
+        } else {
+            throw new IllegalArgumentException(args[0]);
+        }
+    }
+}